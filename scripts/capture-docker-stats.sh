@@ -0,0 +1,35 @@
+#!/bin/bash
+set -euo pipefail
+
+# Samples `docker stats` for the benchmarked containers while wrk2 runs, one JSON object per line,
+# stamped with the local wall-clock time so the orchestrator efficiency analysis can join each
+# sample to the wrk2 benchmark window it belongs to.
+#
+# Usage:
+#   scripts/capture-docker-stats.sh <output.jsonl> [container ...]
+#
+# Environment:
+#   STATS_INTERVAL  seconds between samples (default: 1)
+#
+# Stop with Ctrl+C once the wrk2 run has finished. Run the script with the same TZ as the wrk2
+# container (TIMEZONE in compose/.env) so the timestamps line up with the wrk2 log file names.
+
+if [ "$#" -lt 1 ]; then
+  echo "Usage: $0 <output.jsonl> [container ...]" >&2
+  exit 2
+fi
+
+OUT_FILE=$1
+shift
+INTERVAL="${STATS_INTERVAL:-1}"
+
+mkdir -p "$(dirname "${OUT_FILE}")"
+echo "[stats] sampling every ${INTERVAL}s -> ${OUT_FILE}"
+
+while true; do
+  ts="$(date +'%Y-%m-%dT%H:%M:%S')"
+  docker stats --no-stream \
+    --format "{\"Timestamp\":\"${ts}\",\"Name\":\"{{.Name}}\",\"CPUPerc\":\"{{.CPUPerc}}\",\"MemUsage\":\"{{.MemUsage}}\"}" \
+    "$@" >> "${OUT_FILE}"
+  sleep "${INTERVAL}"
+done
@@ -10,9 +10,12 @@ import io.dropwizard.core.setup.Bootstrap;
 import io.dropwizard.core.setup.Environment;
 import io.github.georgecodes.benchmarking.dropwizard.config.DropwizardServiceConfiguration;
 import io.github.georgecodes.benchmarking.dropwizard.config.ServiceConfig;
+import io.github.georgecodes.benchmarking.dropwizard.domain.CacheKeySelector;
 import io.github.georgecodes.benchmarking.dropwizard.domain.HelloService;
 import io.github.georgecodes.benchmarking.dropwizard.infra.CacheProvider;
+import io.github.georgecodes.benchmarking.dropwizard.infra.CacheWarmer;
 import io.github.georgecodes.benchmarking.dropwizard.infra.MetricsProvider;
+import io.github.georgecodes.benchmarking.dropwizard.web.EchoResource;
 import io.github.georgecodes.benchmarking.dropwizard.web.HelloResource;
 import io.github.georgecodes.benchmarking.dropwizard.web.ReadyResource;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -88,8 +91,14 @@ public final class DropwizardApplication extends Application<DropwizardServiceCo
         LOG.info("THREAD_MODE={} SERVICE_PORT={}", config.threadMode(), config.port());
 
         MeterRegistry meterRegistry = MetricsProvider.bindToGlobal();
-        Cache<@NonNull String, String> cache = CacheProvider.create(config.cacheSize());
-        HelloService helloService = new HelloService(cache);
+        Cache<@NonNull String, String> cache =
+            CacheProvider.create(config.cacheSize(), CacheWarmer.parse(config.cacheWarmup()));
+        CacheKeySelector keySelector =
+            CacheKeySelector.parse(config.cacheAccessPattern(), config.resolvedCacheKeySpace());
+        HelloService helloService = new HelloService(cache, keySelector);
+        MetricsProvider.registerCacheMissCounter(meterRegistry, helloService);
+        MetricsProvider.registerWorkCpuTimer(meterRegistry, helloService);
+        LOG.info("CACHE_ACCESS_PATTERN={}", keySelector);
 
         // Configure Jetty thread pool based on thread mode.
         // This modifies the ServerFactory's thread pool BEFORE the Jetty server is created,
@@ -98,6 +107,7 @@ public final class DropwizardApplication extends Application<DropwizardServiceCo
 
         // Register JAX-RS resources.
         environment.jersey().register(new HelloResource(config, helloService, meterRegistry));
+        environment.jersey().register(new EchoResource(helloService, meterRegistry));
         environment.jersey().register(new ReadyResource());
 
         // Tune Jetty connectors after the server lifecycle starts.
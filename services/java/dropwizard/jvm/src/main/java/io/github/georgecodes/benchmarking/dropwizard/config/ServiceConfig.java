@@ -1,6 +1,7 @@
 package io.github.georgecodes.benchmarking.dropwizard.config;
 
 import java.util.Locale;
+import java.util.Objects;
 
 /**
  * Centralized service configuration (env-driven).
@@ -12,6 +13,10 @@ import java.util.Locale;
  * @param jettyMinThreads Jetty min threads (0 means use framework default)
  * @param jettyAcceptQueueSize Jetty accept queue size
  * @param jettyIdleTimeoutMs Jetty idle timeout in milliseconds
+ * @param cacheAccessPattern cache key workload spec, e.g. {@code zipfian:0.99} (blank means fixed key)
+ * @param cacheKeySpace number of distinct keys requested (0 means the cache size)
+ * @param cacheWarmup   cache warm-up spec: {@code parallel} or {@code snapshot:<path>} (blank means sequential)
+ * @param latencyProfile injected-latency distribution spec, e.g. {@code lognormal:1.0} (blank means constant)
  */
 public record ServiceConfig(
     int port,
@@ -20,7 +25,11 @@ public record ServiceConfig(
     int jettyMaxThreads,
     int jettyMinThreads,
     int jettyAcceptQueueSize,
-    long jettyIdleTimeoutMs
+    long jettyIdleTimeoutMs,
+    String cacheAccessPattern,
+    long cacheKeySpace,
+    String cacheWarmup,
+    String latencyProfile
 ) {
 
     public enum ThreadMode {
@@ -52,6 +61,11 @@ public record ServiceConfig(
         int acceptQueueSize = parseInt(getEnv("JETTY_ACCEPT_QUEUE_SIZE"), 10000);
         long idleTimeoutMs = parseLong(getEnv("JETTY_IDLE_TIMEOUT_MS"), 60000L);
 
+        String cacheAccessPattern = Objects.requireNonNullElse(getEnv("CACHE_ACCESS_PATTERN"), "");
+        long cacheKeySpace = parseLong(getEnv("CACHE_KEY_SPACE"), 0L);
+        String cacheWarmup = Objects.requireNonNullElse(getEnv("CACHE_WARMUP"), "");
+        String latencyProfile = Objects.requireNonNullElse(getEnv("LATENCY_PROFILE"), "");
+
         return new ServiceConfig(
             port,
             mode,
@@ -59,10 +73,23 @@ public record ServiceConfig(
             maxThreads,
             minThreads,
             acceptQueueSize,
-            idleTimeoutMs
+            idleTimeoutMs,
+            cacheAccessPattern,
+            cacheKeySpace,
+            cacheWarmup,
+            latencyProfile
         );
     }
 
+    /**
+     * Resolves the effective cache key space.
+     *
+     * @return {@code cacheKeySpace} when positive, otherwise {@code cacheSize}
+     */
+    public long resolvedCacheKeySpace() {
+        return cacheKeySpace > 0 ? cacheKeySpace : cacheSize;
+    }
+
     private static String getEnv(String key) {
         return System.getenv(key);
     }
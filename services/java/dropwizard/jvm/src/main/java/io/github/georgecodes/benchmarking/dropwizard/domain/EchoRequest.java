@@ -0,0 +1,48 @@
+package io.github.georgecodes.benchmarking.dropwizard.domain;
+
+import java.util.List;
+
+/**
+ * Body of {@code POST /hello/echo}: items whose keys are looked up in the hello cache.
+ *
+ * <p>The number of items and the size of their payloads set the document size, so one endpoint covers
+ * small and large request bodies.
+ *
+ * @param items items to echo, at most {@link #MAX_ITEMS}
+ */
+public record EchoRequest(List<Item> items) {
+
+    /** Upper bound for {@code items}. */
+    public static final int MAX_ITEMS = 10_000;
+
+    /**
+     * Validates the bound document.
+     *
+     * @throws IllegalArgumentException if {@code items} is missing or holds more than {@link #MAX_ITEMS} entries
+     */
+    public EchoRequest {
+        if (items == null || items.size() > MAX_ITEMS) {
+            throw new IllegalArgumentException("items must hold at most " + MAX_ITEMS + " entries");
+        }
+    }
+
+    /**
+     * One request item.
+     *
+     * @param key     hello cache key to look up
+     * @param payload opaque text echoed back unchanged, may be {@code null}
+     */
+    public record Item(String key, String payload) {
+
+        /**
+         * Validates the item.
+         *
+         * @throws IllegalArgumentException if {@code key} is missing
+         */
+        public Item {
+            if (key == null) {
+                throw new IllegalArgumentException("item key is required");
+            }
+        }
+    }
+}
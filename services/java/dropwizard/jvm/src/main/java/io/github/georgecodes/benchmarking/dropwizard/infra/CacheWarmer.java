@@ -0,0 +1,287 @@
+package io.github.georgecodes.benchmarking.dropwizard.infra;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * Pre-populates the hello cache with the entries {@code "1".."N" -> "value-N"} (env {@code CACHE_WARMUP}).
+ *
+ * <p>Spec format: {@code sequential} (default, the historical single-threaded loop), {@code parallel}
+ * (entries generated on the common fork-join pool) or {@code snapshot:<path>}. A snapshot is a binary
+ * file of length-prefixed entries split into independently decodable chunks; it is memory-mapped and its
+ * chunks are decoded in parallel. A missing or mismatching snapshot falls back to {@code parallel} and is
+ * then (re)written, so the next start loads from it.
+ *
+ * <p>The elapsed time is recorded once as the {@value #METRIC_NAME} timer, tagged with the strategy.
+ */
+public final class CacheWarmer {
+
+    /** Startup metric holding the warm-up duration. */
+    public static final String METRIC_NAME = "cache.warmup.duration";
+
+    /** Snapshot file magic ({@code "OBCS"}). */
+    static final int SNAPSHOT_MAGIC = 0x4F42_4353;
+
+    /** Snapshot format version. */
+    static final int SNAPSHOT_VERSION = 1;
+
+    /** Entries per snapshot chunk, the unit of parallel decoding. */
+    static final int SNAPSHOT_CHUNK_ENTRIES = 65_536;
+
+    /** Header: magic, version, entry count, chunk count. */
+    private static final long HEADER_BYTES = Integer.BYTES * 2L + Long.BYTES + Integer.BYTES;
+
+    /** Chunk table row: file offset and entry count. */
+    private static final long CHUNK_ROW_BYTES = Long.BYTES * 2L;
+
+    /** Big-endian, unaligned int layout (records are packed, so fields are not aligned). */
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+
+    /** Big-endian, unaligned long layout. */
+    private static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+
+    /** Big-endian, unaligned short layout used for key/value length prefixes. */
+    private static final ValueLayout.OfShort SHORT = ValueLayout.JAVA_SHORT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+
+    /** Logger for warm-up timing output. */
+    private static final Logger LOG = LoggerFactory.getLogger(CacheWarmer.class);
+
+    /** Warm-up strategy. */
+    public enum Strategy {
+        /** Single-threaded descending loop (historical behaviour). */
+        SEQUENTIAL,
+        /** Entries generated concurrently on the common fork-join pool. */
+        PARALLEL,
+        /** Bulk load from a memory-mapped snapshot file. */
+        SNAPSHOT
+    }
+
+    /** Selected strategy. */
+    private final Strategy strategy;
+
+    /** Snapshot location; {@code null} unless {@link Strategy#SNAPSHOT}. */
+    private final @Nullable Path snapshotPath;
+
+    private CacheWarmer(Strategy strategy, @Nullable Path snapshotPath) {
+        this.strategy = strategy;
+        this.snapshotPath = snapshotPath;
+    }
+
+    /**
+     * Parses a warm-up spec such as {@code parallel} or {@code snapshot:/data/cache.bin}.
+     *
+     * @param spec warm-up spec; blank means {@link Strategy#SEQUENTIAL}
+     * @return a ready-to-use warmer
+     * @throws IllegalArgumentException when the spec is not recognised or the snapshot path is missing
+     */
+    public static CacheWarmer parse(@Nullable String spec) {
+        if (spec == null || spec.isBlank()) {
+            return new CacheWarmer(Strategy.SEQUENTIAL, null);
+        }
+        String[] parts = spec.trim().split(":", 2);
+        return switch (parts[0].trim().toLowerCase(Locale.ROOT)) {
+            case "sequential" -> new CacheWarmer(Strategy.SEQUENTIAL, null);
+            case "parallel" -> new CacheWarmer(Strategy.PARALLEL, null);
+            case "snapshot" -> {
+                if (parts.length < 2 || parts[1].isBlank()) {
+                    throw new IllegalArgumentException("CACHE_WARMUP snapshot requires a path: " + spec);
+                }
+                yield new CacheWarmer(Strategy.SNAPSHOT, Path.of(parts[1].trim()));
+            }
+            default -> throw new IllegalArgumentException("Unsupported CACHE_WARMUP: " + spec);
+        };
+    }
+
+    /**
+     * Returns the selected strategy.
+     *
+     * @return the warm-up strategy
+     */
+    public Strategy strategy() {
+        return strategy;
+    }
+
+    /**
+     * Fills {@code cache} with {@code entries} entries and records the elapsed time.
+     *
+     * @param cache    cache to populate
+     * @param entries  number of entries ({@code <= 0} populates nothing)
+     * @param registry registry receiving the {@value #METRIC_NAME} timer
+     * @return elapsed wall-clock nanoseconds
+     */
+    public long warmUp(Cache<@NonNull String, String> cache, long entries, MeterRegistry registry) {
+        Objects.requireNonNull(cache, "cache");
+        Objects.requireNonNull(registry, "registry");
+        long start = System.nanoTime();
+        switch (strategy) {
+            case SEQUENTIAL -> populateSequential(cache, entries);
+            case PARALLEL -> populateParallel(cache, entries);
+            case SNAPSHOT -> populateFromSnapshot(cache, entries, Objects.requireNonNull(snapshotPath));
+        }
+        long elapsed = System.nanoTime() - start;
+        Timer.builder(METRIC_NAME)
+            .description("Time taken to pre-populate the hello cache at startup")
+            .tag("strategy", strategy.name().toLowerCase(Locale.ROOT))
+            .register(registry)
+            .record(elapsed, TimeUnit.NANOSECONDS);
+        LOG.info("CACHE_WARMUP={} loaded {} entries in {} ms", this, entries, TimeUnit.NANOSECONDS.toMillis(elapsed));
+        return elapsed;
+    }
+
+    @Override
+    public String toString() {
+        String name = strategy.name().toLowerCase(Locale.ROOT);
+        return snapshotPath == null ? name : name + ":" + snapshotPath;
+    }
+
+    /**
+     * Writes a snapshot holding the entries {@code "1".."entries"}, replacing {@code path} atomically.
+     *
+     * @param path    snapshot file to (re)write
+     * @param entries number of entries
+     * @throws IOException when the file cannot be written
+     */
+    public static void writeSnapshot(Path path, long entries) throws IOException {
+        long count = Math.max(0L, entries);
+        int chunks = (int) ((count + SNAPSHOT_CHUNK_ENTRIES - 1) / SNAPSHOT_CHUNK_ENTRIES);
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path tmp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+            long dataStart = HEADER_BYTES + chunks * CHUNK_ROW_BYTES;
+            ByteBuffer table = ByteBuffer.allocate((int) dataStart);
+            table.putInt(SNAPSHOT_MAGIC).putInt(SNAPSHOT_VERSION).putLong(count).putInt(chunks);
+
+            ByteBuffer buffer = ByteBuffer.allocate(SNAPSHOT_CHUNK_ENTRIES * 64);
+            long position = dataStart;
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                long first = (long) chunk * SNAPSHOT_CHUNK_ENTRIES + 1;
+                long last = Math.min(count, first + SNAPSHOT_CHUNK_ENTRIES - 1);
+                buffer.clear();
+                for (long i = first; i <= last; i++) {
+                    putString(buffer, String.valueOf(i));
+                    putString(buffer, "value-" + i);
+                }
+                buffer.flip();
+                table.putLong(position).putLong(last - first + 1);
+                position += buffer.remaining();
+                channel.write(buffer, position - buffer.remaining());
+            }
+            table.flip();
+            channel.write(table, 0);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void populateSequential(Cache<@NonNull String, String> cache, long entries) {
+        for (long i = entries; i > 0; i--) {
+            cache.put(String.valueOf(i), "value-" + i);
+        }
+    }
+
+    private static void populateParallel(Cache<@NonNull String, String> cache, long entries) {
+        LongStream.rangeClosed(1, entries).parallel()
+            .forEach(i -> cache.put(String.valueOf(i), "value-" + i));
+    }
+
+    private static void populateFromSnapshot(Cache<@NonNull String, String> cache, long entries, Path path) {
+        try {
+            if (loadSnapshot(cache, entries, path)) {
+                return;
+            }
+        } catch (NoSuchFileException e) {
+            LOG.info("Cache snapshot {} not found; generating it", path);
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Cache snapshot {} is unreadable ({}); regenerating it", path, e.toString());
+        }
+        cache.invalidateAll();
+        populateParallel(cache, entries);
+        try {
+            writeSnapshot(path, entries);
+        } catch (IOException e) {
+            LOG.warn("Could not write cache snapshot {}: {}", path, e.toString());
+        }
+    }
+
+    /**
+     * Maps {@code path} and decodes its chunks in parallel into {@code cache}.
+     *
+     * @return {@code false} when the snapshot holds a different number of entries
+     */
+    static boolean loadSnapshot(Cache<@NonNull String, String> cache, long entries, Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+             Arena arena = Arena.ofShared()) {
+            MemorySegment file = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+            if (file.byteSize() < HEADER_BYTES
+                || file.get(INT, 0) != SNAPSHOT_MAGIC
+                || file.get(INT, Integer.BYTES) != SNAPSHOT_VERSION) {
+                throw new IOException("not a cache snapshot");
+            }
+            long count = file.get(LONG, Integer.BYTES * 2L);
+            if (count != Math.max(0L, entries)) {
+                LOG.info("Cache snapshot {} holds {} entries, {} requested; regenerating it", path, count, entries);
+                return false;
+            }
+            int chunks = file.get(INT, Integer.BYTES * 2L + Long.BYTES);
+            IntStream.range(0, chunks).parallel().forEach(chunk -> {
+                long row = HEADER_BYTES + chunk * CHUNK_ROW_BYTES;
+                decodeChunk(cache, file, file.get(LONG, row), file.get(LONG, row + Long.BYTES));
+            });
+            return true;
+        }
+    }
+
+    private static void decodeChunk(Cache<@NonNull String, String> cache, MemorySegment file, long offset,
+                                    long count) {
+        long position = offset;
+        for (long i = 0; i < count; i++) {
+            int keyLength = Short.toUnsignedInt(file.get(SHORT, position));
+            String key = decode(file, position + Short.BYTES, keyLength);
+            position += Short.BYTES + keyLength;
+            int valueLength = Short.toUnsignedInt(file.get(SHORT, position));
+            String value = decode(file, position + Short.BYTES, valueLength);
+            position += Short.BYTES + valueLength;
+            cache.put(key, value);
+        }
+    }
+
+    private static String decode(MemorySegment file, long offset, int length) {
+        byte[] bytes = new byte[length];
+        MemorySegment.copy(file, ValueLayout.JAVA_BYTE, offset, bytes, 0, length);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void putString(ByteBuffer buffer, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putShort((short) bytes.length).put(bytes);
+    }
+}
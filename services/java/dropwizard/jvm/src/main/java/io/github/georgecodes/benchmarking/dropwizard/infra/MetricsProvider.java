@@ -1,10 +1,16 @@
 package io.github.georgecodes.benchmarking.dropwizard.infra;
 
+import io.github.georgecodes.benchmarking.dropwizard.domain.HelloService;
 import io.github.mweirauch.micrometer.jvm.extras.ProcessMemoryMetrics;
 import io.github.mweirauch.micrometer.jvm.extras.ProcessThreadMetrics;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Metrics;
 
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Binds custom/extra metrics to Micrometer's global registry.
  * Export is handled by the OpenTelemetry Java agent (micrometer instrumentation).
@@ -20,4 +26,31 @@ public final class MetricsProvider {
         new ProcessThreadMetrics().bindTo(registry);
         return registry;
     }
-}
\ No newline at end of file
+
+    /**
+     * Exports the hello cache miss count as {@code hello.cache.miss.count}.
+     *
+     * @param registry     registry to bind to
+     * @param helloService the service whose lookups are counted
+     */
+    public static void registerCacheMissCounter(MeterRegistry registry, HelloService helloService) {
+        Objects.requireNonNull(helloService, "helloService");
+        FunctionCounter.builder("hello.cache.miss.count", helloService, HelloService::cacheMisses)
+            .description("Hello cache lookups that found no entry")
+            .register(registry);
+    }
+
+    /**
+     * Exports the CPU time spent on requested {@code work} as the {@code hello.work.cpu.time} timer.
+     *
+     * @param registry     registry to bind to
+     * @param helloService the service performing the work
+     */
+    public static void registerWorkCpuTimer(MeterRegistry registry, HelloService helloService) {
+        Objects.requireNonNull(helloService, "helloService");
+        FunctionTimer.builder("hello.work.cpu.time", helloService,
+                HelloService::workRequests, HelloService::workCpuNanos, TimeUnit.NANOSECONDS)
+            .description("CPU time spent on the work query parameter")
+            .register(registry);
+    }
+}
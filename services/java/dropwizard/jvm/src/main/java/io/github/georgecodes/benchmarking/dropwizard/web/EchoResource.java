@@ -0,0 +1,58 @@
+package io.github.georgecodes.benchmarking.dropwizard.web;
+
+import io.github.georgecodes.benchmarking.dropwizard.domain.EchoRequest;
+import io.github.georgecodes.benchmarking.dropwizard.domain.EchoResponse;
+import io.github.georgecodes.benchmarking.dropwizard.domain.HelloService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+
+import java.util.Objects;
+
+/**
+ * JAX-RS resource for {@code POST /hello/echo}.
+ * <p>The body is bound onto {@link EchoRequest} by Dropwizard's Jackson provider; validation in the record
+ * constructors surfaces as a mapping error, which Dropwizard answers with HTTP 400.</p>
+ */
+@Path("/hello")
+@Consumes(MediaType.APPLICATION_JSON)
+@Produces(MediaType.APPLICATION_JSON)
+public final class EchoResource {
+
+    /** Pure domain logic performing one cache lookup per item. */
+    private final HelloService helloService;
+    /** Request body bytes of {@code /hello/echo}. */
+    private final Counter echoRequestBytes;
+
+    public EchoResource(HelloService helloService, MeterRegistry meterRegistry) {
+        this.helloService = Objects.requireNonNull(helloService, "helloService");
+        Objects.requireNonNull(meterRegistry, "meterRegistry");
+        this.echoRequestBytes = Counter.builder("hello.echo.request.bytes")
+            .description("Request body bytes received by the echo endpoint")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
+    @POST
+    @Path("/echo")
+    public EchoResponse echo(
+        EchoRequest body,
+        @HeaderParam(HttpHeaders.CONTENT_LENGTH) @DefaultValue("-1") long contentLength
+    ) {
+        if (body == null) {
+            throw new BadRequestException("body is required");
+        }
+        if (contentLength > 0) {
+            echoRequestBytes.increment(contentLength);
+        }
+        return helloService.echo(body);
+    }
+}
@@ -2,6 +2,7 @@ package io.github.georgecodes.benchmarking.dropwizard.web;
 
 import io.github.georgecodes.benchmarking.dropwizard.config.ServiceConfig;
 import io.github.georgecodes.benchmarking.dropwizard.domain.HelloService;
+import io.github.georgecodes.benchmarking.dropwizard.domain.LatencyProfile;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.ws.rs.DefaultValue;
@@ -33,16 +34,19 @@ public final class HelloResource {
     private final ServiceConfig config;
     /** Pure domain logic for hello responses. */
     private final HelloService helloService;
+    /** Distribution applied to the requested sleep unless the request overrides it. */
+    private final LatencyProfile latencyProfile;
     /** Request counter for the active hello endpoint. */
     private final Counter helloCounter;
 
     /**
      * Parsed request params for /hello endpoints.
      *
-     * @param sleepSeconds optional sleep duration in seconds (0 = no sleep)
+     * @param sleepMillis optional sleep in milliseconds, sampled from the latency profile (0 = no sleep)
+     * @param work CPU work in KiB hashed after the sleep (0 = none)
      * @param log whether to log thread information for the request
      */
-    private record HelloParams(int sleepSeconds, boolean log) { }
+    private record HelloParams(long sleepMillis, int work, boolean log) { }
 
     public HelloResource(
         ServiceConfig config,
@@ -51,6 +55,8 @@ public final class HelloResource {
     ) {
         this.config = Objects.requireNonNull(config, "config");
         this.helloService = Objects.requireNonNull(helloService, "helloService");
+        this.latencyProfile = LatencyProfile.parse(config.latencyProfile());
+        LOG.info("LATENCY_PROFILE={}", latencyProfile);
         Objects.requireNonNull(meterRegistry, "meterRegistry");
 
         String endpointTagValue = switch (config.threadMode()) {
@@ -67,6 +73,9 @@ public final class HelloResource {
     @Path("/platform")
     public Response helloPlatform(
         @QueryParam("sleep") @DefaultValue("0") int sleep,
+        @QueryParam("sleepMs") @DefaultValue("0") long sleepMs,
+        @QueryParam("latency") String latency,
+        @QueryParam("work") @DefaultValue("0") int work,
         @QueryParam("log") @DefaultValue("false") boolean log
     ) throws InterruptedException {
         if (config.threadMode() != ServiceConfig.ThreadMode.PLATFORM) {
@@ -76,8 +85,11 @@ public final class HelloResource {
                 .build();
         }
         helloCounter.increment();
-        logThread(new HelloParams(sleep, log), "platform");
-        String result = helloService.handle("Hello from Dropwizard platform REST ", sleep);
+        long sleepMillis = latencyProfile.override(latency).sampleMillis(sleep * 1000L + sleepMs);
+        HelloParams params = new HelloParams(sleepMillis, work, log);
+        logThread(params, "platform");
+        String result = helloService.handle(
+            "Hello from Dropwizard platform REST ", params.sleepMillis(), params.work());
         return Response.ok(result).build();
     }
 
@@ -85,6 +97,9 @@ public final class HelloResource {
     @Path("/virtual")
     public Response helloVirtual(
         @QueryParam("sleep") @DefaultValue("0") int sleep,
+        @QueryParam("sleepMs") @DefaultValue("0") long sleepMs,
+        @QueryParam("latency") String latency,
+        @QueryParam("work") @DefaultValue("0") int work,
         @QueryParam("log") @DefaultValue("false") boolean log
     ) throws InterruptedException {
         if (config.threadMode() != ServiceConfig.ThreadMode.VIRTUAL) {
@@ -94,8 +109,11 @@ public final class HelloResource {
                 .build();
         }
         helloCounter.increment();
-        logThread(new HelloParams(sleep, log), "virtual");
-        String result = helloService.handle("Hello from Dropwizard virtual REST ", sleep);
+        long sleepMillis = latencyProfile.override(latency).sampleMillis(sleep * 1000L + sleepMs);
+        HelloParams params = new HelloParams(sleepMillis, work, log);
+        logThread(params, "virtual");
+        String result = helloService.handle(
+            "Hello from Dropwizard virtual REST ", params.sleepMillis(), params.work());
         return Response.ok(result).build();
     }
 
@@ -49,12 +49,20 @@ class ServiceConfigTest {
             9090,
             ThreadMode.VIRTUAL,
             200,
-            32, 4, 5000, 30000L
+            32, 4, 5000, 30000L,
+            "uniform",
+            1000L,
+            "parallel",
+            "bimodal:250:0.01"
         );
 
         assertEquals(9090, config.port());
         assertEquals(ThreadMode.VIRTUAL, config.threadMode());
         assertEquals(200, config.cacheSize());
+        assertEquals("uniform", config.cacheAccessPattern());
+        assertEquals("parallel", config.cacheWarmup());
+        assertEquals("bimodal:250:0.01", config.latencyProfile());
+        assertEquals(1000L, config.resolvedCacheKeySpace());
         assertEquals(32, config.jettyMaxThreads());
         assertEquals(4, config.jettyMinThreads());
         assertEquals(5000, config.jettyAcceptQueueSize());
@@ -84,7 +92,11 @@ class ServiceConfigTest {
             8080,
             ThreadMode.PLATFORM,
             50000,
-            0, 0, 10000, 60000L
+            0, 0, 10000, 60000L,
+            "",
+            0L,
+            "",
+            ""
         );
         assertEquals(8080, config.port());
         assertEquals(ThreadMode.PLATFORM, config.threadMode());
@@ -0,0 +1,36 @@
+package io.github.georgecodes.benchmarking.dropwizard.domain;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link CpuWork}.
+ */
+class CpuWorkTest {
+
+    @Test
+    void zeroWorkCostsNothing() {
+        assertEquals(0L, CpuWork.run(0));
+    }
+
+    @Test
+    void checksumIsDeterministicPerSize() {
+        assertEquals(CpuWork.checksum(16), CpuWork.checksum(16));
+        assertNotEquals(CpuWork.checksum(16), CpuWork.checksum(17));
+    }
+
+    @Test
+    void workReportsCpuTime() {
+        assertTrue(CpuWork.run(4096) > 0);
+    }
+
+    @Test
+    void rejectsOutOfRangeWork() {
+        assertThrows(IllegalArgumentException.class, () -> CpuWork.run(-1));
+        assertThrows(IllegalArgumentException.class, () -> CpuWork.run(CpuWork.MAX_KILOBYTES + 1));
+    }
+}
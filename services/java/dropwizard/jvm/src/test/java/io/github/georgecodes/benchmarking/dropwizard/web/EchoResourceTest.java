@@ -0,0 +1,57 @@
+package io.github.georgecodes.benchmarking.dropwizard.web;
+
+import io.github.georgecodes.benchmarking.dropwizard.domain.EchoRequest;
+import io.github.georgecodes.benchmarking.dropwizard.domain.EchoResponse;
+import io.github.georgecodes.benchmarking.dropwizard.domain.HelloService;
+import io.github.georgecodes.benchmarking.dropwizard.infra.CacheProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.ws.rs.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for {@link EchoResource}.
+ */
+class EchoResourceTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    private final EchoResource resource = new EchoResource(new HelloService(CacheProvider.create(10)), registry);
+
+    @Test
+    void echoesEveryItemWithItsCachedValue() {
+        EchoRequest request = new EchoRequest(List.of(
+            new EchoRequest.Item("1", "a"),
+            new EchoRequest.Item("missing", "b")));
+
+        EchoResponse response = resource.echo(request, 64);
+
+        assertEquals(2, response.count());
+        assertEquals(new EchoResponse.Item("1", "a", "value-1"), response.items().get(0));
+        assertNull(response.items().get(1).value());
+    }
+
+    @Test
+    void countsDeclaredBodyBytes() {
+        resource.echo(new EchoRequest(List.of()), 64);
+        resource.echo(new EchoRequest(List.of()), -1);
+
+        assertEquals(64.0, registry.get("hello.echo.request.bytes").counter().count());
+    }
+
+    @Test
+    void rejectsMissingBody() {
+        assertThrows(BadRequestException.class, () -> resource.echo(null, -1));
+    }
+
+    @Test
+    void rejectsNullHelloService() {
+        assertThrows(NullPointerException.class, () -> new EchoResource(null, registry));
+    }
+}
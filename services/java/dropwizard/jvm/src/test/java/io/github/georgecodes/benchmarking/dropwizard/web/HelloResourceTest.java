@@ -28,7 +28,11 @@ class HelloResourceTest {
             8080,
             ThreadMode.PLATFORM,
             100,
-            0, 0, 10000, 60000L
+            0, 0, 10000, 60000L,
+            "",
+            0L,
+            "",
+            ""
         );
     }
 
@@ -37,7 +41,11 @@ class HelloResourceTest {
             8080,
             ThreadMode.VIRTUAL,
             100,
-            0, 0, 10000, 60000L
+            0, 0, 10000, 60000L,
+            "",
+            0L,
+            "",
+            ""
         );
     }
 
@@ -115,7 +123,7 @@ class HelloResourceTest {
         HelloService service = new HelloService(CacheProvider.create(10));
         HelloResource resource = new HelloResource(platformConfig(), service, registry);
 
-        try (Response response = resource.helloPlatform(0, false)) {
+        try (Response response = resource.helloPlatform(0, 0, null, 0, false)) {
             assertEquals(200, response.getStatus());
             assertNotNull(response.getEntity());
             assertTrue(response.getEntity().toString().contains("Hello from Dropwizard platform REST "));
@@ -127,7 +135,7 @@ class HelloResourceTest {
         HelloService service = new HelloService(CacheProvider.create(10));
         HelloResource resource = new HelloResource(virtualConfig(), service, registry);
 
-        try (Response response = resource.helloPlatform(0, false)) {
+        try (Response response = resource.helloPlatform(0, 0, null, 0, false)) {
             assertEquals(500, response.getStatus());
         }
     }
@@ -138,8 +146,8 @@ class HelloResourceTest {
         HelloService service = new HelloService(CacheProvider.create(10));
         HelloResource resource = new HelloResource(platformConfig(), service, reg);
 
-        resource.helloPlatform(0, false).close();
-        resource.helloPlatform(0, false).close();
+        resource.helloPlatform(0, 0, null, 0, false).close();
+        resource.helloPlatform(0, 0, null, 0, false).close();
 
         Counter counter = reg.find("hello.request.count")
             .tag("endpoint", "/hello/platform")
@@ -153,7 +161,7 @@ class HelloResourceTest {
         HelloService service = new HelloService(CacheProvider.create(10));
         HelloResource resource = new HelloResource(platformConfig(), service, registry);
 
-        try (Response response = resource.helloPlatform(0, true)) {
+        try (Response response = resource.helloPlatform(0, 0, null, 0, true)) {
             assertEquals(200, response.getStatus());
         }
     }
@@ -163,11 +171,42 @@ class HelloResourceTest {
         HelloService service = new HelloService(CacheProvider.create(10));
         HelloResource resource = new HelloResource(platformConfig(), service, registry);
 
-        try (Response response = resource.helloPlatform(1, false)) {
+        try (Response response = resource.helloPlatform(1, 0, null, 0, false)) {
             assertEquals(200, response.getStatus());
         }
     }
 
+    @Test
+    void helloPlatformWithMillisecondSleep() throws InterruptedException {
+        HelloService service = new HelloService(CacheProvider.create(10));
+        HelloResource resource = new HelloResource(platformConfig(), service, registry);
+
+        try (Response response = resource.helloPlatform(0, 20, null, 0, false)) {
+            assertEquals(200, response.getStatus());
+        }
+    }
+
+    @Test
+    void helloPlatformWithLatencyProfileOverride() throws InterruptedException {
+        HelloService service = new HelloService(CacheProvider.create(10));
+        HelloResource resource = new HelloResource(platformConfig(), service, registry);
+
+        try (Response response = resource.helloPlatform(0, 10, "bimodal:20:1", 0, false)) {
+            assertEquals(200, response.getStatus());
+        }
+    }
+
+    @Test
+    void helloPlatformWithCpuWork() throws InterruptedException {
+        HelloService service = new HelloService(CacheProvider.create(10));
+        HelloResource resource = new HelloResource(platformConfig(), service, registry);
+
+        try (Response response = resource.helloPlatform(0, 0, null, 32, false)) {
+            assertEquals(200, response.getStatus());
+        }
+        assertEquals(1, service.workRequests());
+    }
+
     // ── helloVirtual endpoint tests ─────────────────────────────────────
 
     @Test
@@ -175,7 +214,7 @@ class HelloResourceTest {
         HelloService service = new HelloService(CacheProvider.create(10));
         HelloResource resource = new HelloResource(virtualConfig(), service, registry);
 
-        try (Response response = resource.helloVirtual(0, false)) {
+        try (Response response = resource.helloVirtual(0, 0, null, 0, false)) {
             assertEquals(200, response.getStatus());
             assertNotNull(response.getEntity());
             assertTrue(response.getEntity().toString().contains("Hello from Dropwizard virtual REST "));
@@ -187,7 +226,7 @@ class HelloResourceTest {
         HelloService service = new HelloService(CacheProvider.create(10));
         HelloResource resource = new HelloResource(platformConfig(), service, registry);
 
-        try (Response response = resource.helloVirtual(0, false)) {
+        try (Response response = resource.helloVirtual(0, 0, null, 0, false)) {
             assertEquals(500, response.getStatus());
         }
     }
@@ -198,9 +237,9 @@ class HelloResourceTest {
         HelloService service = new HelloService(CacheProvider.create(10));
         HelloResource resource = new HelloResource(virtualConfig(), service, reg);
 
-        resource.helloVirtual(0, false).close();
-        resource.helloVirtual(0, false).close();
-        resource.helloVirtual(0, false).close();
+        resource.helloVirtual(0, 0, null, 0, false).close();
+        resource.helloVirtual(0, 0, null, 0, false).close();
+        resource.helloVirtual(0, 0, null, 0, false).close();
 
         Counter counter = reg.find("hello.request.count")
             .tag("endpoint", "/hello/virtual")
@@ -214,7 +253,7 @@ class HelloResourceTest {
         HelloService service = new HelloService(CacheProvider.create(10));
         HelloResource resource = new HelloResource(virtualConfig(), service, registry);
 
-        try (Response response = resource.helloVirtual(0, true)) {
+        try (Response response = resource.helloVirtual(0, 0, null, 0, true)) {
             assertEquals(200, response.getStatus());
         }
     }
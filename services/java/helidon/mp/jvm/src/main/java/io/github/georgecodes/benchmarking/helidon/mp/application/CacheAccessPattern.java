@@ -0,0 +1,45 @@
+package io.github.georgecodes.benchmarking.helidon.mp.application;
+
+import java.util.Locale;
+
+/**
+ * Cache key workload used by the hello endpoints (env {@code CACHE_ACCESS_PATTERN}).
+ */
+public enum CacheAccessPattern {
+
+    /** Always key {@code "1"} — a single hot entry (historical behaviour, default). */
+    FIXED,
+
+    /** Every key in the key space is equally likely. */
+    UNIFORM,
+
+    /** Key of popularity rank {@code r} is chosen with probability proportional to {@code 1 / r^skew}. */
+    ZIPFIAN,
+
+    /** A small hot set receives most requests, the cold remainder the rest. */
+    HOT_SET,
+
+    /** Round-robin scan over the key space (worst case for recency-based eviction). */
+    SEQUENTIAL;
+
+    /**
+     * Parses a pattern name, ignoring case and {@code -}/{@code _} separators.
+     *
+     * @param value pattern name; blank means {@link #FIXED}
+     * @return the matching pattern
+     * @throws IllegalArgumentException when the name is not recognised
+     */
+    public static CacheAccessPattern parse(String value) {
+        if (value == null || value.isBlank()) {
+            return FIXED;
+        }
+        return switch (value.trim().toLowerCase(Locale.ROOT).replace("-", "").replace("_", "")) {
+            case "fixed" -> FIXED;
+            case "uniform" -> UNIFORM;
+            case "zipf", "zipfian" -> ZIPFIAN;
+            case "hotset", "hotcold" -> HOT_SET;
+            case "sequential", "scan" -> SEQUENTIAL;
+            default -> throw new IllegalArgumentException("Unsupported CACHE_ACCESS_PATTERN: " + value);
+        };
+    }
+}
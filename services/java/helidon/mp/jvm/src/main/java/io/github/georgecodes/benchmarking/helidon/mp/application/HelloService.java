@@ -18,9 +18,6 @@ import java.util.Objects;
 @ApplicationScoped
 public class HelloService {
 
-    /** Hot-path cache key used by all hello endpoints. */
-    private static final String CACHE_KEY = "1";
-
     /** Cache abstraction used to retrieve the benchmark value. */
     private final CachePort cachePort;
 
@@ -30,30 +27,83 @@ public class HelloService {
     /** Sleep abstraction used to simulate work with minimal allocation overhead. */
     private final SleepPort sleepPort;
 
-    @Inject
+    /** Chooses the cache key for each request (see {@link CacheAccessPattern}). */
+    private final CacheKeySelector keySelector;
+
+    /**
+     * Test-only constructor (no CDI) using the single-key {@link CacheAccessPattern#FIXED} workload.
+     */
     public HelloService(
             CachePort cachePort,
             MetricsPort metricsPort,
             SleepPort sleepPort) {
+        this(cachePort, metricsPort, sleepPort, CacheKeySelector.fixed());
+    }
+
+    @Inject
+    public HelloService(
+            CachePort cachePort,
+            MetricsPort metricsPort,
+            SleepPort sleepPort,
+            CacheKeySelector keySelector) {
         this.cachePort = Objects.requireNonNull(cachePort, "cachePort");
         this.metricsPort = Objects.requireNonNull(metricsPort, "metricsPort");
         this.sleepPort = Objects.requireNonNull(sleepPort, "sleepPort");
+        this.keySelector = Objects.requireNonNull(keySelector, "keySelector");
     }
 
     public String hello(HelloMode mode, int sleepSeconds) throws InterruptedException {
+        return hello(mode, sleepSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Same as {@link #hello(HelloMode, int)} with the sleep expressed in {@code unit}.
+     *
+     * @param mode  hello mode
+     * @param sleep optional sleep before the lookup
+     * @param unit  unit of {@code sleep}
+     * @return the response body
+     * @throws InterruptedException if the sleep is interrupted
+     */
+    public String hello(HelloMode mode, long sleep, TimeUnit unit) throws InterruptedException {
+        return hello(mode, sleep, unit, 0);
+    }
+
+    /**
+     * Same as {@link #hello(HelloMode, long, TimeUnit)}, burning {@code work} KiB of CPU work
+     * (see {@link CpuWork}) between the sleep and the lookup; the CPU time is recorded through the
+     * {@link MetricsPort}.
+     *
+     * @param mode  hello mode
+     * @param sleep optional sleep before the lookup
+     * @param unit  unit of {@code sleep}
+     * @param work  CPU work in KiB, {@code 0} for none
+     * @return the response body
+     * @throws InterruptedException if the sleep is interrupted
+     */
+    public String hello(HelloMode mode, long sleep, TimeUnit unit, int work) throws InterruptedException {
         Objects.requireNonNull(mode, "mode");
+        Objects.requireNonNull(unit, "unit");
 
-        if (sleepSeconds < 0) {
-            throw new IllegalArgumentException("sleepSeconds must be >= 0");
+        if (sleep < 0) {
+            throw new IllegalArgumentException("sleep must be >= 0");
         }
 
         metricsPort.incrementHelloRequest(mode.endpointTag());
 
-        if (sleepSeconds > 0) {
-            sleepPort.sleep(sleepSeconds, TimeUnit.SECONDS);
+        if (sleep > 0) {
+            sleepPort.sleep(sleep, unit);
+        }
+
+        long cpuNanos = CpuWork.run(work);
+        if (work > 0) {
+            metricsPort.recordWorkCpuTime(cpuNanos);
         }
 
-        String v = cachePort.getIfPresent(CACHE_KEY);
+        String v = cachePort.getIfPresent(keySelector.nextKey());
+        if (v == null) {
+            metricsPort.incrementCacheMiss();
+        }
         return mode.responsePrefix() + v;
     }
 }
\ No newline at end of file
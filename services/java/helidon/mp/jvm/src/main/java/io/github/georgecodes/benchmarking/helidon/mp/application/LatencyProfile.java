@@ -0,0 +1,206 @@
+package io.github.georgecodes.benchmarking.helidon.mp.application;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Shapes the injected request latency (env {@code LATENCY_PROFILE}, overridable per request with the
+ * {@code latency} query parameter).
+ *
+ * <p>The {@code sleep}/{@code sleepMs} request parameters give the base latency in milliseconds; the profile
+ * turns it into a per-request sample. Spec format: {@code name[:param[:param]]}:
+ * <ul>
+ *   <li>{@code constant} (default): always the base latency;</li>
+ *   <li>{@code exponential}: exponentially distributed with the base latency as mean;</li>
+ *   <li>{@code lognormal[:sigma]}: log-normal with the base latency as mean and shape {@code sigma}
+ *       (default 1.0; larger values give a heavier tail);</li>
+ *   <li>{@code bimodal[:slowMs[:probability]]}: the base latency, or with {@code probability} (default 0.05)
+ *       a slow tail of {@code slowMs} milliseconds (default 10 × the base).</li>
+ * </ul>
+ *
+ * <p>Exponential and log-normal samples are capped at 100 × the base latency so one draw cannot hold a
+ * connection indefinitely. Sampling never allocates: it draws from {@link ThreadLocalRandom} and uses
+ * primitive arithmetic only.
+ */
+public final class LatencyProfile {
+
+    /** Latency distributions. */
+    public enum Distribution {
+        /** Always the base latency. */
+        CONSTANT,
+        /** Exponential with the base latency as mean. */
+        EXPONENTIAL,
+        /** Log-normal with the base latency as mean. */
+        LOG_NORMAL,
+        /** Base latency with an occasional slow tail. */
+        BIMODAL
+    }
+
+    /** Default log-normal shape parameter. */
+    static final double DEFAULT_SIGMA = 1.0;
+
+    /** Default slow-tail latency as a multiple of the base latency. */
+    static final double DEFAULT_SLOW_FACTOR = 10.0;
+
+    /** Default probability of a slow-tail sample. */
+    static final double DEFAULT_SLOW_PROBABILITY = 0.05;
+
+    /** Upper bound on an exponential or log-normal sample, as a multiple of the base latency. */
+    static final long MAX_FACTOR = 100L;
+
+    /** Upper bound on cached per-request overrides, so arbitrary query strings cannot grow the cache. */
+    static final int MAX_CACHED_OVERRIDES = 64;
+
+    /** Per-request overrides already parsed, by spec string. */
+    private static final Map<String, LatencyProfile> OVERRIDES = new ConcurrentHashMap<>();
+
+    /** Shared default profile. */
+    private static final LatencyProfile CONSTANT = new LatencyProfile(Distribution.CONSTANT, 0.0, -1L, 0.0);
+
+    /** Active distribution. */
+    private final Distribution distribution;
+
+    /** Log-normal shape parameter. */
+    private final double sigma;
+
+    /** Bimodal slow-tail latency in milliseconds; negative means {@link #DEFAULT_SLOW_FACTOR} × the base. */
+    private final long slowMillis;
+
+    /** Bimodal slow-tail probability. */
+    private final double slowProbability;
+
+    private LatencyProfile(Distribution distribution, double sigma, long slowMillis, double slowProbability) {
+        this.distribution = Objects.requireNonNull(distribution, "distribution");
+        this.sigma = sigma;
+        this.slowMillis = slowMillis;
+        this.slowProbability = slowProbability;
+    }
+
+    /**
+     * Returns the profile that always yields the base latency.
+     *
+     * @return the {@link Distribution#CONSTANT} profile
+     */
+    public static LatencyProfile constant() {
+        return CONSTANT;
+    }
+
+    /**
+     * Parses a profile spec such as {@code lognormal:1.5} or {@code bimodal:250:0.01}.
+     *
+     * @param spec profile spec; blank means {@code constant}
+     * @return the parsed profile
+     * @throws IllegalArgumentException when the spec or its parameters are invalid
+     */
+    public static LatencyProfile parse(String spec) {
+        if (spec == null || spec.isBlank()) {
+            return CONSTANT;
+        }
+        String[] parts = spec.trim().split(":");
+        String name = parts[0].trim().toLowerCase(Locale.ROOT);
+        return switch (name) {
+            case "constant" -> CONSTANT;
+            case "exponential" -> new LatencyProfile(Distribution.EXPONENTIAL, 0.0, -1L, 0.0);
+            case "lognormal", "log-normal" -> {
+                double sigma = param(parts, 1, DEFAULT_SIGMA);
+                if (!(sigma > 0.0)) {
+                    throw new IllegalArgumentException("lognormal sigma must be > 0: " + sigma);
+                }
+                yield new LatencyProfile(Distribution.LOG_NORMAL, sigma, -1L, 0.0);
+            }
+            case "bimodal" -> {
+                long slow = parts.length > 1 && !parts[1].isBlank() ? Long.parseLong(parts[1].trim()) : -1L;
+                double probability = param(parts, 2, DEFAULT_SLOW_PROBABILITY);
+                if (parts.length > 1 && slow < 0) {
+                    throw new IllegalArgumentException("bimodal slowMs must be >= 0: " + slow);
+                }
+                if (!(probability >= 0.0 && probability <= 1.0)) {
+                    throw new IllegalArgumentException("bimodal probability must be in [0, 1]: " + probability);
+                }
+                yield new LatencyProfile(Distribution.BIMODAL, 0.0, slow, probability);
+            }
+            default -> throw new IllegalArgumentException("Unsupported LATENCY_PROFILE: " + spec);
+        };
+    }
+
+    /**
+     * Returns the profile named by a per-request override, or this profile when there is none.
+     * Overrides are parsed once per spec string and then served from a cache of up to
+     * {@value #MAX_CACHED_OVERRIDES} specs; specs beyond that bound are parsed on every request.
+     *
+     * @param spec request override; {@code null} or blank keeps this profile
+     * @return the effective profile
+     * @throws IllegalArgumentException when the spec or its parameters are invalid
+     */
+    public LatencyProfile override(String spec) {
+        if (spec == null || spec.isBlank()) {
+            return this;
+        }
+        LatencyProfile profile = OVERRIDES.get(spec);
+        if (profile == null) {
+            profile = parse(spec);
+            if (OVERRIDES.size() < MAX_CACHED_OVERRIDES) {
+                OVERRIDES.putIfAbsent(spec, profile);
+            }
+        }
+        return profile;
+    }
+
+    /**
+     * Draws the latency for one request.
+     *
+     * @param baseMillis requested latency in milliseconds; values {@code <= 0} disable every distribution
+     *                   except an explicit bimodal {@code slowMs}, and negative values are returned unchanged
+     * @return sampled latency in milliseconds
+     */
+    public long sampleMillis(long baseMillis) {
+        if (baseMillis < 0) {
+            return baseMillis;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (distribution) {
+            case CONSTANT -> baseMillis;
+            case EXPONENTIAL -> capped(-baseMillis * Math.log(1.0 - random.nextDouble()), baseMillis);
+            case LOG_NORMAL -> baseMillis == 0 ? 0L : capped(
+                    Math.exp(Math.log(baseMillis) - sigma * sigma / 2.0 + sigma * random.nextGaussian()), baseMillis);
+            case BIMODAL -> random.nextDouble() < slowProbability ? slowTailMillis(baseMillis) : baseMillis;
+        };
+    }
+
+    /**
+     * Returns the active distribution.
+     *
+     * @return the distribution
+     */
+    public Distribution distribution() {
+        return distribution;
+    }
+
+    @Override
+    public String toString() {
+        return switch (distribution) {
+            case CONSTANT, EXPONENTIAL -> distribution.toString();
+            case LOG_NORMAL -> distribution + "(sigma=" + sigma + ")";
+            case BIMODAL -> distribution + "(slowMs=" + (slowMillis < 0 ? DEFAULT_SLOW_FACTOR + "x" : slowMillis)
+                    + ", probability=" + slowProbability + ")";
+        };
+    }
+
+    private long slowTailMillis(long baseMillis) {
+        return slowMillis >= 0 ? slowMillis : Math.round(baseMillis * DEFAULT_SLOW_FACTOR);
+    }
+
+    private static long capped(double sample, long baseMillis) {
+        return Math.min(Math.round(sample), baseMillis * MAX_FACTOR);
+    }
+
+    private static double param(String[] parts, int index, double defaultValue) {
+        if (parts.length <= index || parts[index].isBlank()) {
+            return defaultValue;
+        }
+        return Double.parseDouble(parts[index].trim());
+    }
+}
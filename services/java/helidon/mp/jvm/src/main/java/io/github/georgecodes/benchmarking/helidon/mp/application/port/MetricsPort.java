@@ -6,4 +6,23 @@ package io.github.georgecodes.benchmarking.helidon.mp.application.port;
 public interface MetricsPort {
 
     void incrementHelloRequest(String endpointTag);
-}
\ No newline at end of file
+
+    /**
+     * Records a hello cache lookup that found no entry.
+     */
+    void incrementCacheMiss();
+
+    /**
+     * Records the CPU time spent on one request's {@code work}.
+     *
+     * @param cpuNanos CPU time in nanoseconds
+     */
+    void recordWorkCpuTime(long cpuNanos);
+
+    /**
+     * Records the body size of one {@code /hello/echo} request.
+     *
+     * @param bytes request body bytes
+     */
+    void recordEchoRequestBytes(long bytes);
+}
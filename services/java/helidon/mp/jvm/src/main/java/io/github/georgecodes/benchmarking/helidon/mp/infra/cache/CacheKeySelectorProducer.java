@@ -0,0 +1,34 @@
+package io.github.georgecodes.benchmarking.helidon.mp.infra.cache;
+
+import io.github.georgecodes.benchmarking.helidon.mp.application.CacheKeySelector;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Produces the {@link CacheKeySelector} used by the application layer.
+ * Workload is injected via MicroProfile Config ({@code CACHE_ACCESS_PATTERN}, {@code CACHE_KEY_SPACE}).
+ */
+@Slf4j
+@ApplicationScoped
+public class CacheKeySelectorProducer {
+
+    /**
+     * Creates the key selector shared by all hello endpoints.
+     * The key space defaults to the effective cache size so every key is initially a hit.
+     */
+    @Produces
+    @Singleton
+    CacheKeySelector cacheKeySelector(
+            @ConfigProperty(name = "CACHE_ACCESS_PATTERN", defaultValue = "fixed") String accessPattern,
+            @ConfigProperty(name = "CACHE_KEY_SPACE", defaultValue = "0") long keySpace,
+            @ConfigProperty(name = "CACHE_SIZE", defaultValue = "0") long envCacheSize,
+            @ConfigProperty(name = "benchmark.cache.size", defaultValue = "50000") long configCacheSize) {
+        long cacheSize = envCacheSize > 0 ? envCacheSize : configCacheSize;
+        CacheKeySelector selector = CacheKeySelector.parse(accessPattern, keySpace > 0 ? keySpace : cacheSize);
+        log.info("CACHE_ACCESS_PATTERN: {}", selector);
+        return selector;
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.georgecodes.benchmarking.helidon.mp.infra.cache;
+
+import io.github.georgecodes.benchmarking.helidon.mp.application.port.CachePort;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.Locale;
+
+/**
+ * Produces the {@link CachePort} selected by {@code CACHE_IMPL}.
+ * {@code caffeine} (default) uses {@link CaffeineCacheAdapter}; {@code offheap} uses {@link OffHeapCacheAdapter}.
+ * The Caffeine bean is resolved lazily so the off-heap mode never builds an on-heap cache.
+ */
+@ApplicationScoped
+public class CachePortProducer {
+
+    @Produces
+    @Singleton
+    CachePort cachePort(
+            @ConfigProperty(name = "CACHE_IMPL", defaultValue = "caffeine") String cacheImpl,
+            @ConfigProperty(name = "CACHE_SIZE", defaultValue = "0") int envCacheSize,
+            @ConfigProperty(name = "benchmark.cache.size", defaultValue = "50000") int configCacheSize,
+            Instance<CaffeineCacheAdapter> caffeine) {
+        return switch (cacheImpl.trim().toLowerCase(Locale.ROOT)) {
+            case "caffeine" -> caffeine.get();
+            case OffHeapCacheAdapter.IMPL_NAME ->
+                    new OffHeapCacheAdapter(envCacheSize > 0 ? envCacheSize : configCacheSize);
+            default -> throw new IllegalArgumentException("Unsupported CACHE_IMPL: " + cacheImpl);
+        };
+    }
+}
@@ -3,7 +3,9 @@ package io.github.georgecodes.benchmarking.helidon.mp.infra.cache;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import io.github.georgecodes.benchmarking.helidon.mp.application.port.CachePort;
+import io.micrometer.core.instrument.Metrics;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Typed;
 import jakarta.inject.Inject;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
@@ -18,6 +20,7 @@ import java.time.Duration;
  */
 @Slf4j
 @ApplicationScoped
+@Typed(CaffeineCacheAdapter.class)
 public class CaffeineCacheAdapter implements CachePort {
 
     /** Default cache size used when configured value is missing or invalid. */
@@ -35,16 +38,17 @@ public class CaffeineCacheAdapter implements CachePort {
     @Inject
     public CaffeineCacheAdapter(
             @ConfigProperty(name = "CACHE_SIZE", defaultValue = "0") int envCacheSize,
-            @ConfigProperty(name = "benchmark.cache.size", defaultValue = "50000") int configCacheSize) {
+            @ConfigProperty(name = "benchmark.cache.size", defaultValue = "50000") int configCacheSize,
+            @ConfigProperty(name = "CACHE_WARMUP", defaultValue = "sequential") String cacheWarmup) {
         int rawSize = envCacheSize > 0 ? envCacheSize : configCacheSize;
-        this.cache = buildAndPopulate(rawSize);
+        this.cache = buildAndPopulate(rawSize, CacheWarmer.parse(cacheWarmup));
     }
 
     /**
      * Test-only constructor (no CDI).
      */
     public CaffeineCacheAdapter(int configuredCacheSize) {
-        this.cache = buildAndPopulate(configuredCacheSize);
+        this.cache = buildAndPopulate(configuredCacheSize, CacheWarmer.parse(null));
     }
 
     @Override
@@ -53,18 +57,16 @@ public class CaffeineCacheAdapter implements CachePort {
     }
 
     /**
-     * Creates a pre-populated Caffeine cache with the given (clamped) size.
+     * Creates a Caffeine cache with the given (clamped) size, pre-populated by {@code warmer}.
      */
-    private static Cache<@NonNull String, String> buildAndPopulate(int rawSize) {
+    private static Cache<@NonNull String, String> buildAndPopulate(int rawSize, CacheWarmer warmer) {
         int cacheSize = clampCacheSize(rawSize);
         log.info("CACHE_SIZE: {}", cacheSize);
         Cache<@NonNull String, String> c = Caffeine.newBuilder()
                 .maximumSize(cacheSize)
                 .expireAfterWrite(Duration.ofDays(1))
                 .build();
-        for (int i = cacheSize; i > 0; i--) {
-            c.put(String.valueOf(i), "value-" + i);
-        }
+        warmer.warmUp(c, cacheSize, Metrics.globalRegistry);
         return c;
     }
 
@@ -3,10 +3,12 @@ package io.github.georgecodes.benchmarking.helidon.mp.infra.metrics;
 import io.github.georgecodes.benchmarking.helidon.mp.application.port.MetricsPort;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import jakarta.enterprise.context.ApplicationScoped;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Micrometer-backed {@link MetricsPort} implementation.
@@ -22,6 +24,22 @@ public class MicrometerMetricsAdapter implements MetricsPort {
      */
     private final ConcurrentMap<String, Counter> countersByEndpoint = new ConcurrentHashMap<>(4);
 
+    /** Hello cache lookups that found no entry. */
+    private final Counter cacheMissCounter = Counter.builder("hello.cache.miss.count")
+            .description("Hello cache lookups that found no entry")
+            .register(Metrics.globalRegistry);
+
+    /** CPU time spent on the {@code work} query parameter. */
+    private final Timer workCpuTimer = Timer.builder("hello.work.cpu.time")
+            .description("CPU time spent on the work query parameter")
+            .register(Metrics.globalRegistry);
+
+    /** Request body bytes of {@code /hello/echo}. */
+    private final Counter echoRequestBytes = Counter.builder("hello.echo.request.bytes")
+            .description("Request body bytes received by the echo endpoint")
+            .baseUnit("bytes")
+            .register(Metrics.globalRegistry);
+
     @Override
     public void incrementHelloRequest(String endpointTag) {
         countersByEndpoint
@@ -29,6 +47,21 @@ public class MicrometerMetricsAdapter implements MetricsPort {
                 .increment();
     }
 
+    @Override
+    public void incrementCacheMiss() {
+        cacheMissCounter.increment();
+    }
+
+    @Override
+    public void recordWorkCpuTime(long cpuNanos) {
+        workCpuTimer.record(cpuNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordEchoRequestBytes(long bytes) {
+        echoRequestBytes.increment(bytes);
+    }
+
     /**
      * Eagerly registers a counter for the given endpoint tag.
      * Call at startup for known tags to eliminate the first-request
@@ -0,0 +1,29 @@
+package io.github.georgecodes.benchmarking.helidon.mp.infra.time;
+
+import io.github.georgecodes.benchmarking.helidon.mp.application.LatencyProfile;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Produces the default {@link LatencyProfile} applied to the injected request delay.
+ * The distribution is injected via MicroProfile Config ({@code LATENCY_PROFILE}).
+ */
+@Slf4j
+@ApplicationScoped
+public class LatencyProfileProducer {
+
+    /**
+     * Creates the latency profile shared by all hello endpoints.
+     */
+    @Produces
+    @Singleton
+    LatencyProfile latencyProfile(
+            @ConfigProperty(name = "LATENCY_PROFILE", defaultValue = "constant") String spec) {
+        LatencyProfile profile = LatencyProfile.parse(spec);
+        log.info("LATENCY_PROFILE: {}", profile);
+        return profile;
+    }
+}
@@ -0,0 +1,131 @@
+package io.github.georgecodes.benchmarking.helidon.mp.web;
+
+import io.github.georgecodes.benchmarking.helidon.mp.application.EchoRequest;
+import io.github.georgecodes.benchmarking.helidon.mp.application.EchoResponse;
+import io.github.georgecodes.benchmarking.helidon.mp.application.EchoService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonBuilderFactory;
+import jakarta.json.JsonException;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonReaderFactory;
+import jakarta.json.JsonValue;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import org.jspecify.annotations.Nullable;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JAX-RS resource for {@code POST /hello/echo}.
+ * <p>
+ * Like {@link HelloResource}, the JSON is handled with JSON-P directly: the body is parsed into a
+ * {@link JsonObject}, mapped onto the {@link EchoRequest} record by hand and the response is rendered back to a
+ * string, so no reflection-based entity provider sits on the request path.
+ */
+@Path("/hello")
+@ApplicationScoped
+public class EchoResource {
+
+    /** Shared reader factory; creating one per request would repeat the provider lookup. */
+    private static final JsonReaderFactory READERS = Json.createReaderFactory(Map.of());
+
+    /** Shared builder factory, for the same reason. */
+    private static final JsonBuilderFactory BUILDERS = Json.createBuilderFactory(Map.of());
+
+    /** Use-case service performing one cache lookup per item. */
+    private final EchoService echoService;
+
+    @Inject
+    public EchoResource(EchoService echoService) {
+        this.echoService = echoService;
+    }
+
+    /**
+     * Binds the body, echoes every item with its cached value and counts the declared body bytes.
+     * Malformed bodies are rejected with {@code 400}.
+     */
+    @POST
+    @Path("/echo")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    public String echo(
+            String body,
+            @HeaderParam(HttpHeaders.CONTENT_LENGTH) @DefaultValue("-1") long contentLength
+    ) {
+        EchoRequest request;
+        try (JsonReader reader = READERS.createReader(new StringReader(body))) {
+            request = read(reader.readObject());
+        } catch (IllegalArgumentException | ClassCastException | JsonException e) {
+            throw new BadRequestException(e.getMessage(), e);
+        }
+        return write(echoService.echo(request, contentLength)).toString();
+    }
+
+    /**
+     * Maps a parsed body onto an {@link EchoRequest}.
+     *
+     * @param body parsed JSON body
+     * @return bound request
+     * @throws IllegalArgumentException if {@code items} or an item key is missing, or there are too many items
+     * @throws ClassCastException       if a member has the wrong JSON type
+     */
+    static EchoRequest read(JsonObject body) {
+        JsonArray items = body.getJsonArray("items");
+        if (items == null) {
+            throw new IllegalArgumentException("items is required");
+        }
+        if (items.size() > EchoRequest.MAX_ITEMS) {
+            throw new IllegalArgumentException("items must hold at most " + EchoRequest.MAX_ITEMS + " entries");
+        }
+        List<EchoRequest.Item> bound = new ArrayList<>(items.size());
+        for (JsonValue value : items) {
+            JsonObject item = value.asJsonObject();
+            bound.add(new EchoRequest.Item(item.getString("key", null), item.getString("payload", null)));
+        }
+        return new EchoRequest(bound);
+    }
+
+    /**
+     * Renders an {@link EchoResponse} as a JSON-P object.
+     *
+     * @param response use-case result
+     * @return JSON body
+     */
+    static JsonObject write(EchoResponse response) {
+        JsonArrayBuilder items = BUILDERS.createArrayBuilder();
+        for (EchoResponse.Item item : response.items()) {
+            JsonObjectBuilder json = BUILDERS.createObjectBuilder().add("key", item.key());
+            addNullable(json, "payload", item.payload());
+            addNullable(json, "value", item.value());
+            items.add(json);
+        }
+        return BUILDERS.createObjectBuilder()
+                .add("count", response.count())
+                .add("items", items)
+                .build();
+    }
+
+    private static void addNullable(JsonObjectBuilder json, String name, @Nullable String value) {
+        if (value == null) {
+            json.addNull(name);
+        } else {
+            json.add(name, value);
+        }
+    }
+}
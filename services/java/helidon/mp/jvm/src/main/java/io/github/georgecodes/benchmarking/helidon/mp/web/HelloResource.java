@@ -1,7 +1,9 @@
 package io.github.georgecodes.benchmarking.helidon.mp.web;
 
 import io.github.georgecodes.benchmarking.helidon.mp.application.HelloService;
+import io.github.georgecodes.benchmarking.helidon.mp.application.LatencyProfile;
 import io.github.georgecodes.benchmarking.helidon.mp.application.port.HelloMode;
+import io.github.georgecodes.benchmarking.helidon.mp.application.port.TimeUnit;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.json.Json;
@@ -31,20 +33,33 @@ public class HelloResource {
     /** Application service that implements the hello benchmark behavior. */
     private final HelloService helloService;
 
-    @Inject
+    /** Distribution applied to the requested sleep unless the request overrides it. */
+    private final LatencyProfile latencyProfile;
+
     public HelloResource(HelloService helloService) {
+        this(helloService, LatencyProfile.constant());
+    }
+
+    @Inject
+    public HelloResource(HelloService helloService, LatencyProfile latencyProfile) {
         this.helloService = helloService;
+        this.latencyProfile = latencyProfile;
     }
 
 
     /**
      * Virtual-thread endpoint — the only mode for Helidon 4.
+     * The requested sleep is shaped by the latency profile ({@code LATENCY_PROFILE}, or {@code latency} per request).
+     * {@code work} burns that many KiB of SHA-256 input on the request thread after the sleep.
      */
     @GET
     @Path("/virtual")
     @Produces(MediaType.APPLICATION_JSON)
     public String virtual(
             @QueryParam("sleep") @DefaultValue("0") int sleep,
+            @QueryParam("sleepMs") @DefaultValue("0") long sleepMs,
+            @QueryParam("latency") String latency,
+            @QueryParam("work") @DefaultValue("0") int work,
             @QueryParam("log") @DefaultValue("false") boolean printLog
     ) throws InterruptedException {
 
@@ -55,6 +70,8 @@ public class HelloResource {
                     currentThread.getName(), currentThread.isVirtual());
         }
 
-        return Json.createValue(helloService.hello(HelloMode.VIRTUAL, sleep)).toString();
+        long sleepMillis = latencyProfile.override(latency).sampleMillis(TimeUnit.SECONDS.toMillis(sleep) + sleepMs);
+        return Json.createValue(helloService.hello(HelloMode.VIRTUAL, sleepMillis, TimeUnit.MILLISECONDS, work))
+                .toString();
     }
 }
\ No newline at end of file
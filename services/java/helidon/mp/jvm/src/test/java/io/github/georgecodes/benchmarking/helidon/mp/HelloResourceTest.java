@@ -2,6 +2,7 @@ package io.github.georgecodes.benchmarking.helidon.mp;
 
 import io.helidon.microprofile.testing.junit5.HelidonTest;
 import jakarta.inject.Inject;
+import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.WebTarget;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
@@ -49,6 +50,29 @@ class HelloResourceTest {
         }
     }
 
+    @Test
+    void echoEndpointEchoesEveryItem() {
+        String json = "{\"items\":[{\"key\":\"1\",\"payload\":\"a\"},{\"key\":\"missing\",\"payload\":\"b\"}]}";
+        try (Response response = target.path("/hello/echo")
+                .request(MediaType.APPLICATION_JSON)
+                .post(Entity.json(json))) {
+            assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+            String body = response.readEntity(String.class);
+            assertTrue(body.startsWith("{\"count\":2,"), "Unexpected body: " + body);
+            assertTrue(body.contains("\"key\":\"missing\",\"payload\":\"b\",\"value\":null"),
+                    "Expected the missing key to echo a null value but was: " + body);
+        }
+    }
+
+    @Test
+    void echoEndpointRejectsMissingKey() {
+        try (Response response = target.path("/hello/echo")
+                .request(MediaType.APPLICATION_JSON)
+                .post(Entity.json("{\"items\":[{\"payload\":\"a\"}]}"))) {
+            assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), response.getStatus());
+        }
+    }
+
     @Test
     void healthEndpoint() {
         try (Response response = target.path("/health")
@@ -0,0 +1,95 @@
+package io.github.georgecodes.benchmarking.helidon.mp.infra.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link CacheWarmer}.
+ */
+class CacheWarmerTest {
+
+    /** Spans several snapshot chunks so chunks are decoded in parallel. */
+    private static final long ENTRIES = CacheWarmer.SNAPSHOT_CHUNK_ENTRIES * 2L + 17;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void parseRecognisesStrategies() {
+        assertEquals(CacheWarmer.Strategy.SEQUENTIAL, CacheWarmer.parse(null).strategy());
+        assertEquals(CacheWarmer.Strategy.SEQUENTIAL, CacheWarmer.parse(" ").strategy());
+        assertEquals(CacheWarmer.Strategy.PARALLEL, CacheWarmer.parse("Parallel").strategy());
+        assertEquals(CacheWarmer.Strategy.SNAPSHOT, CacheWarmer.parse("snapshot:/tmp/cache.bin").strategy());
+        assertThrows(IllegalArgumentException.class, () -> CacheWarmer.parse("snapshot"));
+        assertThrows(IllegalArgumentException.class, () -> CacheWarmer.parse("lazy"));
+    }
+
+    @Test
+    void parallelWarmUpMatchesSequentialAndRecordsDuration() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Cache<String, String> sequential = newCache();
+        Cache<String, String> parallel = newCache();
+
+        CacheWarmer.parse("sequential").warmUp(sequential, ENTRIES, registry);
+        CacheWarmer.parse("parallel").warmUp(parallel, ENTRIES, registry);
+
+        assertEquals(sequential.asMap(), parallel.asMap());
+        assertEquals(1, registry.get(CacheWarmer.METRIC_NAME).tag("strategy", "parallel").timer().count());
+    }
+
+    @Test
+    void snapshotIsWrittenOnFirstStartAndLoadedAfterwards() throws IOException {
+        Path snapshot = tempDir.resolve("snapshots/cache.bin");
+        CacheWarmer warmer = CacheWarmer.parse("snapshot:" + snapshot);
+
+        Cache<String, String> first = newCache();
+        warmer.warmUp(first, ENTRIES, new SimpleMeterRegistry());
+        assertTrue(Files.exists(snapshot));
+
+        Cache<String, String> second = newCache();
+        assertTrue(CacheWarmer.loadSnapshot(second, ENTRIES, snapshot));
+        assertEquals(first.asMap(), second.asMap());
+        assertEquals("value-" + ENTRIES, second.getIfPresent(String.valueOf(ENTRIES)));
+    }
+
+    @Test
+    void snapshotWithDifferentSizeIsRegenerated() throws IOException {
+        Path snapshot = tempDir.resolve("cache.bin");
+        CacheWarmer.writeSnapshot(snapshot, 10);
+        assertFalse(CacheWarmer.loadSnapshot(newCache(), 20, snapshot));
+
+        Cache<String, String> cache = newCache();
+        CacheWarmer.parse("snapshot:" + snapshot).warmUp(cache, 20, new SimpleMeterRegistry());
+
+        assertEquals(20, cache.asMap().size());
+        assertTrue(CacheWarmer.loadSnapshot(newCache(), 20, snapshot));
+    }
+
+    @Test
+    void corruptSnapshotFallsBackToGeneratedEntries() throws IOException {
+        Path snapshot = tempDir.resolve("cache.bin");
+        Files.writeString(snapshot, "not a snapshot");
+
+        Cache<String, String> cache = newCache();
+        CacheWarmer.parse("snapshot:" + snapshot).warmUp(cache, 5, new SimpleMeterRegistry());
+
+        assertEquals(5, cache.asMap().size());
+        assertEquals("value-5", cache.getIfPresent("5"));
+    }
+
+    private static Cache<String, String> newCache() {
+        return Caffeine.newBuilder().maximumSize(ENTRIES).build();
+    }
+}
@@ -11,7 +11,7 @@ class CaffeineCacheAdapterTest {
 
     @Test
     void environmentCacheSizeTakesPrecedenceWhenPresent() {
-        CaffeineCacheAdapter adapter = new CaffeineCacheAdapter(4, 2);
+        CaffeineCacheAdapter adapter = new CaffeineCacheAdapter(4, 2, "parallel");
 
         assertEquals("value-1", adapter.getIfPresent("1"));
         assertEquals("value-4", adapter.getIfPresent("4"));
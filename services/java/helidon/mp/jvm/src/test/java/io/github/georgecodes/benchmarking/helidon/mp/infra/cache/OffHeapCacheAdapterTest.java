@@ -0,0 +1,96 @@
+package io.github.georgecodes.benchmarking.helidon.mp.infra.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OffHeapCacheAdapterTest {
+
+    @Test
+    void prePopulatesSameEntriesAsCaffeineAdapter() {
+        OffHeapCacheAdapter adapter = new OffHeapCacheAdapter(100);
+
+        assertEquals(100, adapter.size());
+        assertEquals("value-1", adapter.getIfPresent("1"));
+        assertEquals("value-100", adapter.getIfPresent("100"));
+        assertNull(adapter.getIfPresent("101"));
+    }
+
+    @Test
+    void putReplacesExistingValueInPlace() {
+        OffHeapCacheAdapter adapter = new OffHeapCacheAdapter(10);
+
+        adapter.put("5", "updated");
+
+        assertEquals("updated", adapter.getIfPresent("5"));
+        assertEquals(10, adapter.size());
+    }
+
+    @Test
+    void clockEvictionKeepsReferencedEntries() {
+        OffHeapCacheAdapter adapter = new OffHeapCacheAdapter(100);
+        for (int i = 1; i <= 50; i++) {
+            adapter.getIfPresent(String.valueOf(i));
+        }
+
+        for (int i = 101; i <= 150; i++) {
+            adapter.put(String.valueOf(i), "value-" + i);
+        }
+
+        assertEquals(100, adapter.size());
+        for (int i = 1; i <= 50; i++) {
+            assertEquals("value-" + i, adapter.getIfPresent(String.valueOf(i)));
+        }
+        assertEquals("value-150", adapter.getIfPresent("150"));
+    }
+
+    @Test
+    void entriesStayReachableUnderChurn() {
+        OffHeapCacheAdapter adapter = new OffHeapCacheAdapter(16);
+
+        for (int i = 0; i < 10_000; i++) {
+            adapter.put("k" + (i % 97), "v" + i);
+        }
+
+        int found = 0;
+        for (int i = 10_000 - 97; i < 10_000; i++) {
+            String value = adapter.getIfPresent("k" + (i % 97));
+            if (value != null) {
+                assertEquals("v" + i, value);
+                found++;
+            }
+        }
+        assertEquals(16, found);
+    }
+
+    @Test
+    void supportsNonAsciiKeysAndValues() {
+        OffHeapCacheAdapter adapter = new OffHeapCacheAdapter(4);
+
+        adapter.put("clé", "valeur-é");
+
+        assertEquals("valeur-é", adapter.getIfPresent("clé"));
+        assertNull(adapter.getIfPresent("cle"));
+    }
+
+    @Test
+    void rejectsEntriesThatDoNotFitASlot() {
+        OffHeapCacheAdapter adapter = new OffHeapCacheAdapter(4);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> adapter.put("k".repeat(OffHeapCacheAdapter.MAX_KEY_BYTES + 1), "v"));
+        assertThrows(IllegalArgumentException.class,
+                () -> adapter.put("k", "v".repeat(OffHeapCacheAdapter.MAX_VALUE_BYTES + 1)));
+        assertThrows(IllegalArgumentException.class, () -> adapter.put("k", "a\0b"));
+    }
+
+    @Test
+    void invalidConfiguredCacheSizeFallsBackToDefault() {
+        OffHeapCacheAdapter adapter = new OffHeapCacheAdapter(0);
+
+        assertEquals(50_000, adapter.size());
+        assertEquals("value-50000", adapter.getIfPresent("50000"));
+    }
+}
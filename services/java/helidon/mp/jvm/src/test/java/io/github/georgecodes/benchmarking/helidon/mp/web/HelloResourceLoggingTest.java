@@ -18,7 +18,7 @@ class HelloResourceLoggingTest {
                 new ThreadSleepAdapter());
         HelloResource resource = new HelloResource(helloService);
 
-        String response = resource.virtual(0, true);
+        String response = resource.virtual(0, 0, null, 0, true);
 
         assertTrue(response.startsWith("\"Hello from Helidon MP virtual REST "));
         assertTrue(response.endsWith("\""));
@@ -1,18 +1,38 @@
 package io.github.georgecodes.benchmarking.helidon.se;
 
+import io.github.georgecodes.benchmarking.helidon.se.application.CacheKeySelector;
+import io.github.georgecodes.benchmarking.helidon.se.application.ChainService;
+import io.github.georgecodes.benchmarking.helidon.se.application.EchoService;
+import io.github.georgecodes.benchmarking.helidon.se.application.FanoutService;
 import io.github.georgecodes.benchmarking.helidon.se.application.HelloService;
+import io.github.georgecodes.benchmarking.helidon.se.application.LatencyProfile;
+import io.github.georgecodes.benchmarking.helidon.se.application.port.CachePort;
 import io.github.georgecodes.benchmarking.helidon.se.application.port.HelloMode;
 import io.github.georgecodes.benchmarking.helidon.se.infra.ObservabilityFeatureFactory;
+import io.github.georgecodes.benchmarking.helidon.se.infra.cache.CacheWarmer;
 import io.github.georgecodes.benchmarking.helidon.se.infra.cache.CaffeineCacheAdapter;
+import io.github.georgecodes.benchmarking.helidon.se.infra.cache.OffHeapCacheAdapter;
+import io.github.georgecodes.benchmarking.helidon.se.infra.downstream.HelidonDownstreamAdapter;
 import io.github.georgecodes.benchmarking.helidon.se.infra.metrics.JvmExtrasMetricsConfiguration;
 import io.github.georgecodes.benchmarking.helidon.se.infra.metrics.MicrometerMetricsAdapter;
 import io.github.georgecodes.benchmarking.helidon.se.infra.metrics.OtelConfig;
 import io.github.georgecodes.benchmarking.helidon.se.infra.time.ThreadSleepAdapter;
+import io.github.georgecodes.benchmarking.helidon.se.infra.tls.SelfSignedCertificate;
+import io.github.georgecodes.benchmarking.helidon.se.web.ChainRouting;
+import io.github.georgecodes.benchmarking.helidon.se.web.EchoRouting;
+import io.github.georgecodes.benchmarking.helidon.se.web.FanoutRouting;
+import io.github.georgecodes.benchmarking.helidon.se.web.HelloGrpcService;
 import io.github.georgecodes.benchmarking.helidon.se.web.HelloRouting;
 import io.github.georgecodes.benchmarking.helidon.se.web.HttpMetricsFilter;
+import io.github.georgecodes.benchmarking.helidon.se.web.Payload;
+import io.github.georgecodes.benchmarking.helidon.se.web.PayloadMode;
+import io.github.georgecodes.benchmarking.helidon.se.web.ResponseEncoding;
 import io.helidon.common.Version;
+import io.helidon.common.tls.Tls;
 import io.helidon.config.Config;
 import io.helidon.webserver.WebServer;
+import io.helidon.webserver.grpc.GrpcRouting;
+import io.helidon.webserver.http2.Http2Config;
 import io.helidon.webserver.observe.ObserveFeature;
 import io.micrometer.core.instrument.Metrics;
 import io.opentelemetry.api.OpenTelemetry;
@@ -20,7 +40,11 @@ import io.opentelemetry.instrumentation.logback.appender.v1_0.OpenTelemetryAppen
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.bridge.SLF4JBridgeHandler;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Helidon SE application entry point.
@@ -36,6 +60,26 @@ public final class HelidonApplication {
      */
     static final String DEFAULT_SERVICE_NAME = "helidon-se-jvm";
 
+    /**
+     * SETTINGS_MAX_CONCURRENT_STREAMS advertised with {@code HTTP2_ENABLED}, as in the other modules' HTTP/2 mode.
+     */
+    static final long HTTP2_MAX_CONCURRENT_STREAMS = 1024;
+
+    /**
+     * Host name of the self-signed certificate generated for {@code TLS_MODE}.
+     */
+    static final String TLS_CERTIFICATE_HOST = "localhost";
+
+    /**
+     * Sessions kept for resumption, as in the other modules' TLS mode.
+     */
+    static final int TLS_SESSION_CACHE_SIZE = 20_480;
+
+    /**
+     * How long a cached TLS session can be resumed, as in the other modules' TLS mode.
+     */
+    static final Duration TLS_SESSION_TIMEOUT = Duration.ofHours(1);
+
     private HelidonApplication() {
     }
 
@@ -55,11 +99,50 @@ public final class HelidonApplication {
                 .or(() -> config.get("benchmark.cache.size").asInt().asOptional())
                 .orElse(50_000);
 
+        ResponseEncoding responseEncoding = ResponseEncoding.parse(
+                config.get("RESPONSE_ENCODING").asString().orElse(null));
+        log.info("RESPONSE_ENCODING: {}", responseEncoding);
+
+        long cacheKeySpace = config.get("CACHE_KEY_SPACE").asLong().orElse(0L);
+        CacheKeySelector keySelector = CacheKeySelector.parse(
+                config.get("CACHE_ACCESS_PATTERN").asString().orElse(null),
+                cacheKeySpace > 0 ? cacheKeySpace : cacheSize);
+        log.info("CACHE_ACCESS_PATTERN: {}", keySelector);
+
+        LatencyProfile latencyProfile = LatencyProfile.parse(config.get("LATENCY_PROFILE").asString().orElse(null));
+        log.info("LATENCY_PROFILE: {}", latencyProfile);
+
+        Payload payload = Payload.create(PayloadMode.parse(config.get("PAYLOAD_MODE").asString().orElse(null)));
+        log.info("PAYLOAD_MODE: {}", payload.mode());
+
+        String downstreamUrl = config.get("DOWNSTREAM_URL").asString()
+                .orElse("http://downstream-stub:8080/downstream");
+        int downstreamMaxConnections = config.get("DOWNSTREAM_MAX_CONNECTIONS").asInt().orElse(64);
+        long downstreamTimeoutMillis = config.get("DOWNSTREAM_TIMEOUT_MS").asLong().orElse(2_000L);
+        log.info("DOWNSTREAM_URL: {} (max connections {}, timeout {} ms)",
+                downstreamUrl, downstreamMaxConnections, downstreamTimeoutMillis);
+
+        // h2c is always served (gRPC shares the listener); the flag only aligns its stream limit for h2 benchmarks.
+        boolean http2Enabled = config.get("HTTP2_ENABLED").asBoolean().orElse(false);
+        log.info("HTTP2_ENABLED: {}", http2Enabled);
+
+        String tlsMode = config.get("TLS_MODE").asString().orElse("off");
+        Optional<Tls> tls = createTls(tlsMode);
+        log.info("TLS_MODE: {}", tlsMode);
+
         // ── Wire application components ──
-        var cachePort = new CaffeineCacheAdapter(cacheSize);
+        var cachePort = createCachePort(
+                config.get("CACHE_IMPL").asString().orElse("caffeine"),
+                cacheSize,
+                CacheWarmer.parse(config.get("CACHE_WARMUP").asString().orElse(null)));
         var metricsPort = new MicrometerMetricsAdapter();
         var sleepPort = new ThreadSleepAdapter();
-        var helloService = new HelloService(cachePort, metricsPort, sleepPort);
+        var helloService = new HelloService(cachePort, metricsPort, sleepPort, keySelector);
+        var echoService = new EchoService(cachePort, metricsPort);
+        var fanoutService = new FanoutService(cachePort, metricsPort, sleepPort, keySelector);
+        var downstreamPort = new HelidonDownstreamAdapter(
+                downstreamUrl, downstreamMaxConnections, downstreamTimeoutMillis);
+        var chainService = new ChainService(cachePort, metricsPort, keySelector, downstreamPort);
 
         // ── Observability: OTel SDK autoconfigure ──
         OpenTelemetry openTelemetry = OtelConfig.initialize();
@@ -73,6 +156,8 @@ public final class HelidonApplication {
         for (HelloMode mode : HelloMode.values()) {
             metricsPort.warmUp(mode.endpointTag());
         }
+        metricsPort.warmUp(HelloGrpcService.SAY_HELLO_TAG);
+        metricsPort.warmUp(HelloGrpcService.STREAM_HELLO_TAG);
 
         // ── Health check & observability feature ──
         ObserveFeature observe = ObservabilityFeatureFactory.create(serviceName, config);
@@ -90,12 +175,23 @@ public final class HelidonApplication {
         WebServer server = WebServer.builder()
                 .config(config.get("server"))
                 .addFeature(observe)
+                .update(builder -> {
+                    if (http2Enabled) {
+                        builder.addProtocol(http2Config());
+                    }
+                    tls.ifPresent(builder::tls);
+                })
                 .routing(routing -> {
                     if (micrometerEnabled) {
                         routing.addFilter(new HttpMetricsFilter());
                     }
-                    HelloRouting.register(routing, helloService);
+                    HelloRouting.register(routing, helloService, responseEncoding, latencyProfile, payload);
+                    EchoRouting.register(routing, echoService);
+                    FanoutRouting.register(routing, fanoutService);
+                    ChainRouting.register(routing, chainService);
                 })
+                // gRPC shares the listener: HTTP/2 cleartext requests with application/grpc reach this routing.
+                .addRouting(GrpcRouting.builder().service(new HelloGrpcService(helloService, latencyProfile)))
                 .build()
                 .start();
 
@@ -106,7 +202,65 @@ public final class HelidonApplication {
                 runtime.totalMemory() / 1024 / 1024,
                 runtime.freeMemory() / 1024 / 1024);
         log.info("Available Processors: {}", runtime.availableProcessors());
-        log.info("Helidon WebServer started on http://localhost:{}", server.port());
+        log.info("Helidon WebServer started on {}://localhost:{}", tls.isPresent() ? "https" : "http", server.port());
+    }
+
+    /**
+     * Builds the cache adapter selected by {@code CACHE_IMPL}.
+     *
+     * @param cacheImpl {@code caffeine} (on-heap, default) or {@code offheap} (FFM-backed)
+     * @param cacheSize configured cache size
+     * @param warmer    warm-up strategy for the Caffeine cache (env {@code CACHE_WARMUP})
+     * @return the cache port
+     */
+    static CachePort createCachePort(String cacheImpl, int cacheSize, CacheWarmer warmer) {
+        String impl = cacheImpl.trim().toLowerCase(Locale.ROOT);
+        log.info("CACHE_IMPL: {}", impl);
+        return switch (impl) {
+            case "caffeine" -> new CaffeineCacheAdapter(cacheSize, warmer);
+            case OffHeapCacheAdapter.IMPL_NAME -> new OffHeapCacheAdapter(cacheSize);
+            default -> throw new IllegalArgumentException("Unsupported CACHE_IMPL: " + cacheImpl);
+        };
+    }
+
+    /**
+     * Builds the HTTP/2 protocol configuration applied with {@code HTTP2_ENABLED}.
+     *
+     * @return HTTP/2 settings advertising {@value #HTTP2_MAX_CONCURRENT_STREAMS} concurrent streams
+     */
+    static Http2Config http2Config() {
+        return Http2Config.builder()
+                .maxConcurrentStreams(HTTP2_MAX_CONCURRENT_STREAMS)
+                .build();
+    }
+
+    /**
+     * Builds the listener TLS selected by {@code TLS_MODE}.
+     * <p>
+     * Helidon terminates TLS on JDK {@code SSLSocket}s, so {@code jdk} is the only engine; there is no OpenSSL
+     * engine to select, unlike the Netty-based modules. The port then serves HTTPS only, with ALPN offering
+     * {@code h2} to gRPC and HTTP/2 clients, and a self-signed certificate generated at startup.
+     *
+     * @param tlsMode {@code off} (or blank) or {@code jdk}
+     * @return the TLS configuration, empty for {@code off}
+     * @throws IllegalArgumentException for {@code openssl} or an unknown mode
+     */
+    static Optional<Tls> createTls(String tlsMode) {
+        return switch (tlsMode.trim().toLowerCase(Locale.ROOT)) {
+            case "", "off" -> Optional.empty();
+            case "jdk" -> {
+                SelfSignedCertificate certificate = SelfSignedCertificate.generate(TLS_CERTIFICATE_HOST);
+                yield Optional.of(Tls.builder()
+                        .privateKey(certificate.privateKey())
+                        .privateKeyCertChain(List.of(certificate.certificate()))
+                        .sessionCacheSize(TLS_SESSION_CACHE_SIZE)
+                        .sessionTimeout(TLS_SESSION_TIMEOUT)
+                        .build());
+            }
+            case "openssl" -> throw new IllegalArgumentException(
+                    "TLS_MODE=openssl is not supported: Helidon terminates TLS on JDK SSLSockets");
+            default -> throw new IllegalArgumentException("Unsupported TLS_MODE: " + tlsMode);
+        };
     }
 
     static String resolveServiceName(Map<String, String> environment) {
@@ -0,0 +1,243 @@
+package io.github.georgecodes.benchmarking.helidon.se.application;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Picks the cache key for each hello request according to a {@link CacheAccessPattern}.
+ *
+ * <p>Keys are the strings {@code "1".."keySpace"} (the same keys the cache is pre-populated with),
+ * interned once into a table at startup, so {@link #nextKey()} never allocates: randomness comes
+ * from {@link ThreadLocalRandom} and the sequential scan uses striped cursors, so threads do not contend
+ * on one counter.
+ *
+ * <p>Pattern spec format: {@code name[:param[:param]]}, e.g. {@code uniform}, {@code zipfian:0.99}
+ * (skew in {@code (0, 1)}) or {@code hot-set:0.2:0.8} (hot fraction of keys, probability of
+ * hitting the hot set). A key space larger than the cache size produces misses.
+ */
+public final class CacheKeySelector {
+
+    /** Default zipfian skew (YCSB default). */
+    static final double DEFAULT_ZIPF_SKEW = 0.99;
+
+    /** Default fraction of keys forming the hot set. */
+    static final double DEFAULT_HOT_FRACTION = 0.2;
+
+    /** Default probability that a request targets the hot set. */
+    static final double DEFAULT_HOT_PROBABILITY = 0.8;
+
+    /** Upper bound on the key table, aligned with the maximum cache size. */
+    static final int MAX_KEY_SPACE = 5_000_000;
+
+    /** Number of sequential-scan cursors; a power of two, so a thread id masks to its stripe. */
+    static final int CURSOR_STRIPES = 64;
+
+    /** Slots between two cursors (8 longs, one 64-byte cache line), so stripes never share a line. */
+    private static final int CURSOR_PADDING = 8;
+
+    /** Key used by {@link CacheAccessPattern#FIXED}. */
+    private static final String FIXED_KEY = "1";
+
+    /** Active workload. */
+    private final CacheAccessPattern pattern;
+
+    /** Number of distinct keys requested. */
+    private final int keySpace;
+
+    /** Pre-built key strings; {@code keys[i]} is {@code String.valueOf(i + 1)}. Empty for FIXED. */
+    private final String[] keys;
+
+    /** Zipfian skew (theta). */
+    private final double zipfSkew;
+
+    /** Zipfian exponent {@code 1 / (1 - theta)}. */
+    private final double zipfAlpha;
+
+    /** Zipfian normalisation constant {@code zeta(keySpace, theta)}. */
+    private final double zipfZetaN;
+
+    /** Zipfian correction term from Gray et al. */
+    private final double zipfEta;
+
+    /** Threshold below which the second-ranked key is returned. */
+    private final double zipfSecondThreshold;
+
+    /** Number of keys in the hot set. */
+    private final int hotKeys;
+
+    /** Probability that a request targets the hot set. */
+    private final double hotProbability;
+
+    /**
+     * Sequential-scan cursors. Each thread advances the stripe picked by its id, so event-loop and worker threads
+     * each scan {@code "1".."keySpace"} on a cursor of their own; only threads whose ids collide share one.
+     * Unlike a {@code ThreadLocal}, a stripe outlives short-lived virtual threads, whose scans would otherwise
+     * restart at the first key on every request.
+     */
+    private final AtomicLongArray cursors = new AtomicLongArray(CURSOR_STRIPES * CURSOR_PADDING);
+
+    private CacheKeySelector(CacheAccessPattern pattern, int keySpace, double param1, double param2) {
+        this.pattern = Objects.requireNonNull(pattern, "pattern");
+        this.keySpace = keySpace;
+        this.keys = pattern == CacheAccessPattern.FIXED ? new String[0] : buildKeys(keySpace);
+
+        if (pattern == CacheAccessPattern.ZIPFIAN) {
+            if (!(param1 > 0.0 && param1 < 1.0)) {
+                throw new IllegalArgumentException("zipfian skew must be in (0, 1): " + param1);
+            }
+            double zeta2 = zeta(Math.min(2, keySpace), param1);
+            this.zipfSkew = param1;
+            this.zipfAlpha = 1.0 / (1.0 - param1);
+            this.zipfZetaN = zeta(keySpace, param1);
+            this.zipfEta = keySpace < 2 ? 0.0
+                : (1.0 - Math.pow(2.0 / keySpace, 1.0 - param1)) / (1.0 - zeta2 / zipfZetaN);
+            this.zipfSecondThreshold = 1.0 + Math.pow(0.5, param1);
+        } else {
+            this.zipfSkew = 0.0;
+            this.zipfAlpha = 0.0;
+            this.zipfZetaN = 0.0;
+            this.zipfEta = 0.0;
+            this.zipfSecondThreshold = 0.0;
+        }
+
+        if (pattern == CacheAccessPattern.HOT_SET) {
+            if (!(param1 > 0.0 && param1 <= 1.0)) {
+                throw new IllegalArgumentException("hot-set fraction must be in (0, 1]: " + param1);
+            }
+            if (!(param2 >= 0.0 && param2 <= 1.0)) {
+                throw new IllegalArgumentException("hot-set probability must be in [0, 1]: " + param2);
+            }
+            this.hotKeys = (int) Math.max(1L, Math.min(keySpace, Math.round(keySpace * param1)));
+            this.hotProbability = param2;
+        } else {
+            this.hotKeys = 0;
+            this.hotProbability = 0.0;
+        }
+    }
+
+    /**
+     * Returns the selector for the historical single-key workload.
+     *
+     * @return a {@link CacheAccessPattern#FIXED} selector
+     */
+    public static CacheKeySelector fixed() {
+        return new CacheKeySelector(CacheAccessPattern.FIXED, 1, 0.0, 0.0);
+    }
+
+    /**
+     * Parses a pattern spec such as {@code zipfian:0.99} or {@code hot-set:0.2:0.8}.
+     *
+     * @param spec     pattern spec; blank means {@link CacheAccessPattern#FIXED}
+     * @param keySpace number of distinct keys (clamped to {@code [1, 5_000_000]})
+     * @return a ready-to-use selector
+     * @throws IllegalArgumentException when the spec or its parameters are invalid
+     */
+    public static CacheKeySelector parse(String spec, long keySpace) {
+        String[] parts = spec == null ? new String[0] : spec.trim().split(":");
+        CacheAccessPattern pattern = CacheAccessPattern.parse(parts.length == 0 ? null : parts[0]);
+        int keys = (int) Math.clamp(keySpace, 1L, MAX_KEY_SPACE);
+        return switch (pattern) {
+            case ZIPFIAN -> new CacheKeySelector(pattern, keys, param(parts, 1, DEFAULT_ZIPF_SKEW), 0.0);
+            case HOT_SET -> new CacheKeySelector(pattern, keys,
+                param(parts, 1, DEFAULT_HOT_FRACTION), param(parts, 2, DEFAULT_HOT_PROBABILITY));
+            case FIXED, UNIFORM, SEQUENTIAL -> new CacheKeySelector(pattern, keys, 0.0, 0.0);
+        };
+    }
+
+    /**
+     * Picks the key for the current request.
+     *
+     * @return a key from the pre-built table (never allocated per call)
+     */
+    public String nextKey() {
+        return switch (pattern) {
+            case FIXED -> FIXED_KEY;
+            case UNIFORM -> keys[ThreadLocalRandom.current().nextInt(keySpace)];
+            case ZIPFIAN -> keys[nextZipfian(ThreadLocalRandom.current())];
+            case HOT_SET -> keys[nextHotSet(ThreadLocalRandom.current())];
+            case SEQUENTIAL -> keys[nextSequential()];
+        };
+    }
+
+    /**
+     * Returns the active workload.
+     *
+     * @return the access pattern
+     */
+    public CacheAccessPattern pattern() {
+        return pattern;
+    }
+
+    /**
+     * Returns the number of distinct keys this selector draws from.
+     *
+     * @return key space size
+     */
+    public int keySpace() {
+        return keySpace;
+    }
+
+    @Override
+    public String toString() {
+        return switch (pattern) {
+            case ZIPFIAN -> pattern + "(skew=" + zipfSkew + ", keySpace=" + keySpace + ")";
+            case HOT_SET -> pattern + "(hotKeys=" + hotKeys + ", hotProbability=" + hotProbability
+                + ", keySpace=" + keySpace + ")";
+            case FIXED -> pattern.toString();
+            case UNIFORM, SEQUENTIAL -> pattern + "(keySpace=" + keySpace + ")";
+        };
+    }
+
+    /**
+     * Zipfian rank generator from Gray et al., "Quickly Generating Billion-Record Synthetic
+     * Databases" (as used by YCSB): O(1) per sample after an O(n) set-up.
+     */
+    private int nextZipfian(ThreadLocalRandom random) {
+        double u = random.nextDouble();
+        double uz = u * zipfZetaN;
+        if (uz < 1.0) {
+            return 0;
+        }
+        if (uz < zipfSecondThreshold) {
+            return Math.min(1, keySpace - 1);
+        }
+        int rank = (int) (keySpace * Math.pow(zipfEta * u - zipfEta + 1.0, zipfAlpha));
+        return Math.min(rank, keySpace - 1);
+    }
+
+    private int nextSequential() {
+        int slot = (int) (Thread.currentThread().threadId() & (CURSOR_STRIPES - 1)) * CURSOR_PADDING;
+        return (int) Math.floorMod(cursors.getAndIncrement(slot), (long) keySpace);
+    }
+
+    private int nextHotSet(ThreadLocalRandom random) {
+        if (hotKeys >= keySpace || random.nextDouble() < hotProbability) {
+            return random.nextInt(hotKeys);
+        }
+        return hotKeys + random.nextInt(keySpace - hotKeys);
+    }
+
+    private static String[] buildKeys(int keySpace) {
+        String[] table = new String[keySpace];
+        for (int i = 0; i < keySpace; i++) {
+            table[i] = String.valueOf(i + 1);
+        }
+        return table;
+    }
+
+    private static double zeta(int n, double theta) {
+        double sum = 0.0;
+        for (int i = 1; i <= n; i++) {
+            sum += 1.0 / Math.pow(i, theta);
+        }
+        return sum;
+    }
+
+    private static double param(String[] parts, int index, double defaultValue) {
+        if (parts.length <= index || parts[index].isBlank()) {
+            return defaultValue;
+        }
+        return Double.parseDouble(parts[index].trim());
+    }
+}
@@ -0,0 +1,49 @@
+package io.github.georgecodes.benchmarking.helidon.se.application;
+
+import io.github.georgecodes.benchmarking.helidon.se.application.port.CachePort;
+import io.github.georgecodes.benchmarking.helidon.se.application.port.DownstreamPort;
+import io.github.georgecodes.benchmarking.helidon.se.application.port.MetricsPort;
+
+import java.util.Objects;
+
+/**
+ * Use-case behind {@code GET /hello/chain}: a cache read followed by one blocking call to the downstream service,
+ * so the request's virtual thread unmounts on the socket read for the downstream's latency.
+ */
+public class ChainService {
+
+    /** Response prefix; the downstream body follows the cached value. */
+    static final String PREFIX = "Hello from Helidon SE virtual chain REST ";
+
+    /** Cache access abstraction. */
+    private final CachePort cachePort;
+    /** Metrics abstraction. */
+    private final MetricsPort metricsPort;
+    /** Chooses the cache key for each request (see {@link CacheAccessPattern}). */
+    private final CacheKeySelector keySelector;
+    /** Outbound client for the downstream service. */
+    private final DownstreamPort downstreamPort;
+
+    public ChainService(CachePort cachePort, MetricsPort metricsPort, CacheKeySelector keySelector,
+                        DownstreamPort downstreamPort) {
+        this.cachePort = Objects.requireNonNull(cachePort, "cachePort");
+        this.metricsPort = Objects.requireNonNull(metricsPort, "metricsPort");
+        this.keySelector = Objects.requireNonNull(keySelector, "keySelector");
+        this.downstreamPort = Objects.requireNonNull(downstreamPort, "downstreamPort");
+    }
+
+    /**
+     * Reads the cache, then calls the downstream.
+     *
+     * @return hello message followed by the downstream body
+     * @throws DownstreamException  if the downstream fails
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public String chain() throws InterruptedException {
+        String value = cachePort.getIfPresent(keySelector.nextKey());
+        if (value == null) {
+            metricsPort.incrementCacheMiss();
+        }
+        return PREFIX + value + " <- " + downstreamPort.get();
+    }
+}
@@ -0,0 +1,48 @@
+package io.github.georgecodes.benchmarking.helidon.se.application;
+
+import io.github.georgecodes.benchmarking.helidon.se.application.port.CachePort;
+import io.github.georgecodes.benchmarking.helidon.se.application.port.MetricsPort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Use-case behind {@code POST /hello/echo}: one cache lookup per bound request item.
+ */
+public class EchoService {
+
+    /** Cache access abstraction. */
+    private final CachePort cachePort;
+    /** Metrics abstraction. */
+    private final MetricsPort metricsPort;
+
+    public EchoService(CachePort cachePort, MetricsPort metricsPort) {
+        this.cachePort = Objects.requireNonNull(cachePort, "cachePort");
+        this.metricsPort = Objects.requireNonNull(metricsPort, "metricsPort");
+    }
+
+    /**
+     * Echoes every item with the cached value of its key.
+     *
+     * @param request   bound request body
+     * @param bodyBytes request body size in bytes, negative if unknown
+     * @return response to serialise
+     */
+    public EchoResponse echo(EchoRequest request, long bodyBytes) {
+        Objects.requireNonNull(request, "request");
+        if (bodyBytes > 0) {
+            metricsPort.recordEchoRequestBytes(bodyBytes);
+        }
+        List<EchoRequest.Item> items = request.items();
+        List<EchoResponse.Item> echoed = new ArrayList<>(items.size());
+        for (EchoRequest.Item item : items) {
+            String value = cachePort.getIfPresent(item.key());
+            if (value == null) {
+                metricsPort.incrementCacheMiss();
+            }
+            echoed.add(new EchoResponse.Item(item.key(), item.payload(), value));
+        }
+        return new EchoResponse(echoed.size(), echoed);
+    }
+}
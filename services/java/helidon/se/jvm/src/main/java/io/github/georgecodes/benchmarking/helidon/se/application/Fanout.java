@@ -0,0 +1,171 @@
+package io.github.georgecodes.benchmarking.helidon.se.application;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Parameters and join semantics of the {@code /hello/fanout} endpoint.
+ *
+ * <p>A fan-out runs {@code n} simulated dependency lookups concurrently: each branch waits {@code sleepMs}, then
+ * reads the hello cache, and the response lists the values in branch order. Branch {@code fail} fails at once
+ * instead, while the others are still waiting; the request then fails with it and the remaining branches are
+ * cancelled, so every concurrency style pays for its own cancellation.
+ *
+ * <p>{@link #forkJoin(List)} gives blocking callers the shape of {@code StructuredTaskScope} (a preview API in
+ * Java 25): branches run on per-request virtual threads that never outlive the call.
+ */
+public final class Fanout {
+
+    /** Branches per request when {@code n} is not given. */
+    public static final int DEFAULT_BRANCHES = 4;
+
+    /** Upper bound for {@code n}. */
+    public static final int MAX_BRANCHES = 256;
+
+    /** Upper bound for {@code sleepMs}: 10 seconds per branch. */
+    public static final long MAX_SLEEP_MILLIS = 10_000L;
+
+    /** Value of {@code fail} that lets every branch succeed. */
+    public static final int NO_FAILURE = -1;
+
+    private Fanout() {
+    }
+
+    /**
+     * Validates the requested branch count.
+     *
+     * @param branches requested {@code n}
+     * @return {@code branches}
+     * @throws IllegalArgumentException if {@code branches} is not between 1 and {@link #MAX_BRANCHES}
+     */
+    public static int checkBranches(int branches) {
+        if (branches < 1 || branches > MAX_BRANCHES) {
+            throw new IllegalArgumentException("n must be between 1 and " + MAX_BRANCHES + ": " + branches);
+        }
+        return branches;
+    }
+
+    /**
+     * Validates the requested per-branch latency.
+     *
+     * @param sleepMillis requested {@code sleepMs}
+     * @return {@code sleepMillis}
+     * @throws IllegalArgumentException if {@code sleepMillis} is negative or above {@link #MAX_SLEEP_MILLIS}
+     */
+    public static long checkSleep(long sleepMillis) {
+        if (sleepMillis < 0 || sleepMillis > MAX_SLEEP_MILLIS) {
+            throw new IllegalArgumentException(
+                    "sleepMs must be between 0 and " + MAX_SLEEP_MILLIS + " ms: " + sleepMillis);
+        }
+        return sleepMillis;
+    }
+
+    /**
+     * Validates the requested failing branch.
+     *
+     * @param failBranch requested {@code fail}, {@link #NO_FAILURE} for none
+     * @param branches   validated branch count
+     * @return {@code failBranch}
+     * @throws IllegalArgumentException if {@code failBranch} is neither {@link #NO_FAILURE} nor a branch index
+     */
+    public static int checkFail(int failBranch, int branches) {
+        if (failBranch < NO_FAILURE || failBranch >= branches) {
+            throw new IllegalArgumentException(
+                    "fail must be between " + NO_FAILURE + " and " + (branches - 1) + ": " + failBranch);
+        }
+        return failBranch;
+    }
+
+    /**
+     * Builds the failure raised by the branch selected with {@code fail}.
+     *
+     * @param branch failing branch index
+     * @return exception to throw or signal
+     */
+    public static BranchFailedException failure(int branch) {
+        return new BranchFailedException(branch);
+    }
+
+    /**
+     * Runs {@code branches} on per-request virtual threads and waits for all of them (see
+     * {@link #join(ExecutorService, List)}). No branch outlives the call.
+     *
+     * @param branches branch bodies
+     * @param <T>      branch result type
+     * @return branch results in branch order
+     * @throws InterruptedException if the caller is interrupted while waiting
+     */
+    public static <T> List<T> forkJoin(List<? extends Callable<T>> branches) throws InterruptedException {
+        try (ExecutorService scope = Executors.newVirtualThreadPerTaskExecutor()) {
+            return join(scope, branches);
+        }
+    }
+
+    /**
+     * Submits {@code branches} to {@code executor} and waits for them in completion order. The first failure
+     * cancels (and interrupts) every branch still running and is rethrown; a rejected submission counts as a
+     * failure too.
+     *
+     * @param executor executor running the branches
+     * @param branches branch bodies
+     * @param <T>      branch result type
+     * @return branch results in branch order
+     * @throws InterruptedException if the caller is interrupted while waiting
+     */
+    public static <T> List<T> join(ExecutorService executor, List<? extends Callable<T>> branches)
+            throws InterruptedException {
+        CompletionService<T> completion = new ExecutorCompletionService<>(executor);
+        List<Future<T>> futures = new ArrayList<>(branches.size());
+        try {
+            for (Callable<T> branch : branches) {
+                futures.add(completion.submit(branch));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    completion.take().get();
+                } catch (ExecutionException e) {
+                    throw rethrow(e.getCause());
+                }
+            }
+        } finally {
+            // No-op for completed branches; interrupts the rest after a failure.
+            for (Future<T> future : futures) {
+                future.cancel(true);
+            }
+        }
+        List<T> results = new ArrayList<>(futures.size());
+        for (Future<T> future : futures) {
+            results.add(future.resultNow());
+        }
+        return results;
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException("fanout branch failed", cause);
+    }
+
+    /**
+     * Simulated dependency failure of the branch selected with {@code fail}.
+     */
+    public static final class BranchFailedException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        BranchFailedException(int branch) {
+            super("fanout branch " + branch + " failed");
+        }
+    }
+}
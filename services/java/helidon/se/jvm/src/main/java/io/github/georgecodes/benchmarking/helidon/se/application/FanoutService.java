@@ -0,0 +1,70 @@
+package io.github.georgecodes.benchmarking.helidon.se.application;
+
+import io.github.georgecodes.benchmarking.helidon.se.application.port.CachePort;
+import io.github.georgecodes.benchmarking.helidon.se.application.port.MetricsPort;
+import io.github.georgecodes.benchmarking.helidon.se.application.port.SleepPort;
+import io.github.georgecodes.benchmarking.helidon.se.application.port.TimeUnit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+
+/**
+ * Use-case behind {@code GET /hello/fanout}: {@code n} simulated dependency lookups forked onto per-request
+ * virtual threads and joined with cancel-on-first-failure (see {@link Fanout}).
+ */
+public class FanoutService {
+
+    /** Cache access abstraction. */
+    private final CachePort cachePort;
+    /** Metrics abstraction. */
+    private final MetricsPort metricsPort;
+    /** Sleep abstraction simulating each lookup's latency. */
+    private final SleepPort sleepPort;
+    /** Chooses the cache key for each branch (see {@link CacheAccessPattern}). */
+    private final CacheKeySelector keySelector;
+
+    public FanoutService(CachePort cachePort, MetricsPort metricsPort, SleepPort sleepPort,
+                         CacheKeySelector keySelector) {
+        this.cachePort = Objects.requireNonNull(cachePort, "cachePort");
+        this.metricsPort = Objects.requireNonNull(metricsPort, "metricsPort");
+        this.sleepPort = Objects.requireNonNull(sleepPort, "sleepPort");
+        this.keySelector = Objects.requireNonNull(keySelector, "keySelector");
+    }
+
+    /**
+     * Runs the branches on per-request virtual threads scoped to the call.
+     *
+     * @param branches    requested {@code n}
+     * @param sleepMillis per-branch latency in milliseconds
+     * @param failBranch  branch that fails at once, {@link Fanout#NO_FAILURE} for none
+     * @return cached values in branch order
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public List<String> fanout(int branches, long sleepMillis, int failBranch) throws InterruptedException {
+        int n = Fanout.checkBranches(branches);
+        long sleep = Fanout.checkSleep(sleepMillis);
+        int fail = Fanout.checkFail(failBranch, n);
+        List<Callable<String>> tasks = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            int branch = i;
+            tasks.add(() -> lookup(branch, sleep, fail));
+        }
+        return Fanout.forkJoin(tasks);
+    }
+
+    private String lookup(int branch, long sleepMillis, int failBranch) throws InterruptedException {
+        if (branch == failBranch) {
+            throw Fanout.failure(branch);
+        }
+        if (sleepMillis > 0) {
+            sleepPort.sleep(sleepMillis, TimeUnit.MILLISECONDS);
+        }
+        String value = cachePort.getIfPresent(keySelector.nextKey());
+        if (value == null) {
+            metricsPort.incrementCacheMiss();
+        }
+        return value;
+    }
+}
@@ -5,6 +5,7 @@ import io.github.georgecodes.benchmarking.helidon.se.application.port.HelloMode;
 import io.github.georgecodes.benchmarking.helidon.se.application.port.MetricsPort;
 import io.github.georgecodes.benchmarking.helidon.se.application.port.SleepPort;
 import io.github.georgecodes.benchmarking.helidon.se.application.port.TimeUnit;
+import org.jspecify.annotations.Nullable;
 
 import java.util.Objects;
 
@@ -13,36 +14,147 @@ import java.util.Objects;
  */
 public class HelloService {
 
-    /** Hot-path cache key used by all hello endpoints. */
-    private static final String CACHE_KEY = "1";
-
     /** Cache access abstraction. */
     private final CachePort cachePort;
     /** Metrics abstraction. */
     private final MetricsPort metricsPort;
     /** Time/sleep abstraction. */
     private final SleepPort sleepPort;
+    /** Chooses the cache key for each request (see {@link CacheAccessPattern}). */
+    private final CacheKeySelector keySelector;
 
     public HelloService(CachePort cachePort, MetricsPort metricsPort, SleepPort sleepPort) {
+        this(cachePort, metricsPort, sleepPort, CacheKeySelector.fixed());
+    }
+
+    public HelloService(CachePort cachePort, MetricsPort metricsPort, SleepPort sleepPort,
+                        CacheKeySelector keySelector) {
         this.cachePort = Objects.requireNonNull(cachePort, "cachePort");
         this.metricsPort = Objects.requireNonNull(metricsPort, "metricsPort");
         this.sleepPort = Objects.requireNonNull(sleepPort, "sleepPort");
+        this.keySelector = Objects.requireNonNull(keySelector, "keySelector");
     }
 
     public String hello(HelloMode mode, int sleepSeconds) throws InterruptedException {
+        return hello(mode, sleepSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Same as {@link #hello(HelloMode, int)} with the sleep expressed in {@code unit}.
+     *
+     * @param mode  hello mode
+     * @param sleep optional sleep before the lookup
+     * @param unit  unit of {@code sleep}
+     * @return the response body
+     * @throws InterruptedException if the sleep is interrupted
+     */
+    public String hello(HelloMode mode, long sleep, TimeUnit unit) throws InterruptedException {
+        return hello(mode, sleep, unit, 0);
+    }
+
+    /**
+     * Same as {@link #hello(HelloMode, long, TimeUnit)}, burning {@code work} KiB of CPU work
+     * (see {@link CpuWork}) between the sleep and the lookup.
+     *
+     * @param mode  hello mode
+     * @param sleep optional sleep before the lookup
+     * @param unit  unit of {@code sleep}
+     * @param work  CPU work in KiB, {@code 0} for none
+     * @return the response body
+     * @throws InterruptedException if the sleep is interrupted
+     */
+    public String hello(HelloMode mode, long sleep, TimeUnit unit, int work) throws InterruptedException {
+        String v = helloValue(mode, sleep, unit, work);
+        return mode.responsePrefix() + v;
+    }
+
+    /**
+     * Runs the hello use case (metrics, optional sleep, cache lookup) without formatting the response.
+     * Web adapters key pre-encoded bodies on the returned value.
+     *
+     * @param mode         hello mode
+     * @param sleepSeconds optional sleep before the lookup
+     * @return the raw cached value, or {@code null} when absent
+     * @throws InterruptedException if the sleep is interrupted
+     */
+    public @Nullable String helloValue(HelloMode mode, int sleepSeconds) throws InterruptedException {
+        return helloValue(mode, sleepSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Same as {@link #helloValue(HelloMode, int)} with the sleep expressed in {@code unit}.
+     *
+     * @param mode  hello mode
+     * @param sleep optional sleep before the lookup
+     * @param unit  unit of {@code sleep}
+     * @return the raw cached value, or {@code null} when absent
+     * @throws InterruptedException if the sleep is interrupted
+     */
+    public @Nullable String helloValue(HelloMode mode, long sleep, TimeUnit unit) throws InterruptedException {
+        return helloValue(mode, sleep, unit, 0);
+    }
+
+    /**
+     * Same as {@link #helloValue(HelloMode, long, TimeUnit)}, burning {@code work} KiB of CPU work
+     * between the sleep and the lookup; the CPU time is recorded through the {@link MetricsPort}.
+     *
+     * @param mode  hello mode
+     * @param sleep optional sleep before the lookup
+     * @param unit  unit of {@code sleep}
+     * @param work  CPU work in KiB, {@code 0} for none
+     * @return the raw cached value, or {@code null} when absent
+     * @throws InterruptedException if the sleep is interrupted
+     */
+    public @Nullable String helloValue(HelloMode mode, long sleep, TimeUnit unit, int work)
+            throws InterruptedException {
         Objects.requireNonNull(mode, "mode");
+        return helloValue(mode.endpointTag(), sleep, unit, work);
+    }
+
+    /**
+     * Same as {@link #helloValue(HelloMode, long, TimeUnit, int)} for a caller that is not a {@link HelloMode}
+     * route (e.g. a gRPC method), counted under its own endpoint tag.
+     *
+     * @param endpointTag endpoint tag of the request counter
+     * @param sleep       optional sleep before the lookup
+     * @param unit        unit of {@code sleep}
+     * @param work        CPU work in KiB, {@code 0} for none
+     * @return the raw cached value, or {@code null} when absent
+     * @throws InterruptedException if the sleep is interrupted
+     */
+    public @Nullable String helloValue(String endpointTag, long sleep, TimeUnit unit, int work)
+            throws InterruptedException {
+        Objects.requireNonNull(endpointTag, "endpointTag");
+        Objects.requireNonNull(unit, "unit");
 
-        if (sleepSeconds < 0) {
-            throw new IllegalArgumentException("sleepSeconds must be >= 0");
+        if (sleep < 0) {
+            throw new IllegalArgumentException("sleep must be >= 0");
         }
 
-        metricsPort.incrementHelloRequest(mode.endpointTag());
+        metricsPort.incrementHelloRequest(endpointTag);
 
-        if (sleepSeconds > 0) {
-            sleepPort.sleep(sleepSeconds, TimeUnit.SECONDS);
+        if (sleep > 0) {
+            sleepPort.sleep(sleep, unit);
         }
 
-        String v = cachePort.getIfPresent(CACHE_KEY);
-        return mode.responsePrefix() + v;
+        long cpuNanos = CpuWork.run(work);
+        if (work > 0) {
+            metricsPort.recordWorkCpuTime(cpuNanos);
+        }
+
+        String v = cachePort.getIfPresent(keySelector.nextKey());
+        if (v == null) {
+            metricsPort.incrementCacheMiss();
+        }
+        return v;
+    }
+
+    /**
+     * Opens the outstanding-bytes backlog of one {@code /hello/stream} connection; its peak is recorded on close.
+     *
+     * @return new backlog
+     */
+    public StreamBacklog openStream() {
+        return new StreamBacklog(metricsPort::recordStreamOutstandingPeak);
     }
-}
\ No newline at end of file
+}
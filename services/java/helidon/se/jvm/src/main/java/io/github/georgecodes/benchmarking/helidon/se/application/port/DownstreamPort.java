@@ -0,0 +1,12 @@
+package io.github.georgecodes.benchmarking.helidon.se.application.port;
+
+public interface DownstreamPort {
+
+    /**
+     * Performs one call to the downstream service, blocking the calling (virtual) thread until it answers.
+     *
+     * @return downstream response body
+     * @throws InterruptedException if the calling thread is interrupted while waiting for a connection
+     */
+    String get() throws InterruptedException;
+}
@@ -3,6 +3,7 @@ package io.github.georgecodes.benchmarking.helidon.se.infra.cache;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import io.github.georgecodes.benchmarking.helidon.se.application.port.CachePort;
+import io.micrometer.core.instrument.Metrics;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
@@ -23,15 +24,17 @@ public final class CaffeineCacheAdapter implements CachePort {
     private final Cache<@NonNull String, String> cache;
 
     public CaffeineCacheAdapter(int configuredCacheSize) {
+        this(configuredCacheSize, CacheWarmer.parse(null));
+    }
+
+    public CaffeineCacheAdapter(int configuredCacheSize, CacheWarmer warmer) {
         int cacheSize = clampCacheSize(configuredCacheSize);
         log.info("CACHE_SIZE: {}", cacheSize);
         this.cache = Caffeine.newBuilder()
                 .maximumSize(cacheSize)
                 .expireAfterWrite(Duration.ofDays(1))
                 .build();
-        for (int i = cacheSize; i > 0; i--) {
-            cache.put(String.valueOf(i), "value-" + i);
-        }
+        warmer.warmUp(cache, cacheSize, Metrics.globalRegistry);
     }
 
     @Override
@@ -0,0 +1,73 @@
+package io.github.georgecodes.benchmarking.helidon.se.infra.downstream;
+
+import io.github.georgecodes.benchmarking.helidon.se.application.DownstreamException;
+import io.github.georgecodes.benchmarking.helidon.se.application.port.DownstreamPort;
+import io.helidon.webclient.api.HttpClientResponse;
+import io.helidon.webclient.api.WebClient;
+
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+
+/**
+ * {@link DownstreamPort} on the Helidon {@link WebClient}.
+ *
+ * <p>The client is blocking by design: the request's virtual thread parks on the socket read and unmounts. Its
+ * keep-alive connection cache is sized to {@code maxConnections}, and in-flight calls are capped at the same count
+ * with a semaphore, because the cache bounds idle connections, not concurrent ones.
+ */
+public final class HelidonDownstreamAdapter implements DownstreamPort {
+
+    /** Shared client; one connection cache for all request threads. */
+    private final WebClient client;
+
+    /** Downstream URL. */
+    private final URI uri;
+
+    /** Caps concurrent calls at the configured connection count. */
+    private final Semaphore connections;
+
+    /**
+     * Creates the adapter.
+     *
+     * @param url            downstream URL ({@code DOWNSTREAM_URL})
+     * @param maxConnections connection count ({@code DOWNSTREAM_MAX_CONNECTIONS})
+     * @param timeoutMillis  connect and read timeout in milliseconds ({@code DOWNSTREAM_TIMEOUT_MS})
+     */
+    public HelidonDownstreamAdapter(String url, int maxConnections, long timeoutMillis) {
+        Objects.requireNonNull(url, "url");
+        if (maxConnections < 1) {
+            throw new IllegalArgumentException("DOWNSTREAM_MAX_CONNECTIONS must be at least 1: " + maxConnections);
+        }
+        if (timeoutMillis < 1) {
+            throw new IllegalArgumentException("DOWNSTREAM_TIMEOUT_MS must be positive: " + timeoutMillis);
+        }
+        Duration timeout = Duration.ofMillis(timeoutMillis);
+        this.uri = URI.create(url);
+        this.client = WebClient.builder()
+                .connectTimeout(timeout)
+                .readTimeout(timeout)
+                .keepAlive(true)
+                .connectionCacheSize(maxConnections)
+                .build();
+        this.connections = new Semaphore(maxConnections);
+    }
+
+    @Override
+    public String get() throws InterruptedException {
+        connections.acquire();
+        try (HttpClientResponse response = client.get().uri(uri).request()) {
+            int status = response.status().code();
+            if (status < 200 || status > 299) {
+                throw new DownstreamException("downstream answered " + status);
+            }
+            return response.as(String.class);
+        } catch (UncheckedIOException e) {
+            throw new DownstreamException("downstream unavailable: " + e.getCause(), e);
+        } finally {
+            connections.release();
+        }
+    }
+}
@@ -2,10 +2,13 @@ package io.github.georgecodes.benchmarking.helidon.se.infra.metrics;
 
 import io.github.georgecodes.benchmarking.helidon.se.application.port.MetricsPort;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
 public final class MicrometerMetricsAdapter implements MetricsPort {
 
@@ -16,6 +19,29 @@ public final class MicrometerMetricsAdapter implements MetricsPort {
      */
     private final ConcurrentMap<String, Counter> countersByEndpoint = new ConcurrentHashMap<>(4);
 
+    /** Hello cache lookups that found no entry. */
+    private final Counter cacheMissCounter = Counter.builder("hello.cache.miss.count")
+            .description("Hello cache lookups that found no entry")
+            .register(Metrics.globalRegistry);
+
+    /** CPU time spent on the {@code work} query parameter. */
+    private final Timer workCpuTimer = Timer.builder("hello.work.cpu.time")
+            .description("CPU time spent on the work query parameter")
+            .register(Metrics.globalRegistry);
+
+    /** Per-connection peak outstanding bytes of {@code /hello/stream}. */
+    private final DistributionSummary streamOutstandingPeak = DistributionSummary
+            .builder("hello.stream.outstanding.peak")
+            .description("Peak bytes of a hello stream produced but not yet taken by its connection")
+            .baseUnit("bytes")
+            .register(Metrics.globalRegistry);
+
+    /** Request body bytes of {@code /hello/echo}. */
+    private final Counter echoRequestBytes = Counter.builder("hello.echo.request.bytes")
+            .description("Request body bytes received by the echo endpoint")
+            .baseUnit("bytes")
+            .register(Metrics.globalRegistry);
+
     @Override
     public void incrementHelloRequest(String endpointTag) {
         countersByEndpoint
@@ -23,6 +49,26 @@ public final class MicrometerMetricsAdapter implements MetricsPort {
                 .increment();
     }
 
+    @Override
+    public void incrementCacheMiss() {
+        cacheMissCounter.increment();
+    }
+
+    @Override
+    public void recordWorkCpuTime(long cpuNanos) {
+        workCpuTimer.record(cpuNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordStreamOutstandingPeak(long bytes) {
+        streamOutstandingPeak.record(bytes);
+    }
+
+    @Override
+    public void recordEchoRequestBytes(long bytes) {
+        echoRequestBytes.increment(bytes);
+    }
+
     /**
      * Eagerly registers a counter for the given endpoint tag.
      * Call at startup for known tags to eliminate the first-request
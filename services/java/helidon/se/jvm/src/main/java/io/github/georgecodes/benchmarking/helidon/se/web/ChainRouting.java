@@ -0,0 +1,36 @@
+package io.github.georgecodes.benchmarking.helidon.se.web;
+
+import io.github.georgecodes.benchmarking.helidon.se.application.ChainService;
+import io.github.georgecodes.benchmarking.helidon.se.application.DownstreamException;
+import io.helidon.http.Status;
+import io.helidon.webserver.http.HttpRouting;
+
+import java.util.Objects;
+
+/**
+ * Helidon SE routing for {@code GET /hello/chain}.
+ * <p>
+ * The request's virtual thread blocks on the downstream call; a failed or non-2xx downstream answers {@code 502}.
+ */
+public final class ChainRouting {
+
+    private ChainRouting() {
+    }
+
+    /**
+     * Registers the chain endpoint on the given routing builder.
+     *
+     * @param routing      Helidon HTTP routing builder
+     * @param chainService the use-case service
+     */
+    public static void register(HttpRouting.Builder routing, ChainService chainService) {
+        Objects.requireNonNull(chainService, "chainService");
+        routing.get("/hello/chain", (req, res) -> {
+            try {
+                res.send(chainService.chain());
+            } catch (DownstreamException e) {
+                res.status(Status.BAD_GATEWAY_502).send(e.getMessage());
+            }
+        });
+    }
+}
@@ -0,0 +1,113 @@
+package io.github.georgecodes.benchmarking.helidon.se.web;
+
+import io.github.georgecodes.benchmarking.helidon.se.application.EchoRequest;
+import io.github.georgecodes.benchmarking.helidon.se.application.EchoResponse;
+import io.github.georgecodes.benchmarking.helidon.se.application.EchoService;
+import io.helidon.http.Status;
+import io.helidon.webserver.http.HttpRouting;
+import io.helidon.webserver.http.ServerRequest;
+import io.helidon.webserver.http.ServerResponse;
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonBuilderFactory;
+import jakarta.json.JsonException;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonValue;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Helidon SE routing for {@code POST /hello/echo}.
+ * <p>
+ * The body is read with Helidon's JSON-P media support and mapped onto the {@link EchoRequest} record by hand,
+ * which is the SE way: no reflection-based binder sits between the parser and the handler.
+ */
+public final class EchoRouting {
+
+    /** Shared builder factory; creating one per request would repeat the provider lookup. */
+    private static final JsonBuilderFactory JSON = Json.createBuilderFactory(Map.of());
+
+    private EchoRouting() {
+    }
+
+    /**
+     * Registers the echo endpoint on the given routing builder.
+     *
+     * @param routing     Helidon HTTP routing builder
+     * @param echoService the use-case service
+     */
+    public static void register(HttpRouting.Builder routing, EchoService echoService) {
+        Objects.requireNonNull(echoService, "echoService");
+        routing.post("/hello/echo", (req, res) -> handleEcho(req, res, echoService));
+    }
+
+    private static void handleEcho(ServerRequest req, ServerResponse res, EchoService echoService) {
+        EchoRequest request;
+        try {
+            request = read(req.content().as(JsonObject.class));
+        } catch (IllegalArgumentException | ClassCastException | JsonException e) {
+            res.status(Status.BAD_REQUEST_400).send(e.getMessage());
+            return;
+        }
+        EchoResponse response = echoService.echo(request, req.headers().contentLength().orElse(-1L));
+        res.send(write(response));
+    }
+
+    /**
+     * Maps a parsed body onto an {@link EchoRequest}.
+     *
+     * @param body parsed JSON body
+     * @return bound request
+     * @throws IllegalArgumentException if {@code items} or an item key is missing, or there are too many items
+     * @throws ClassCastException       if a member has the wrong JSON type
+     */
+    static EchoRequest read(JsonObject body) {
+        JsonArray items = body.getJsonArray("items");
+        if (items == null) {
+            throw new IllegalArgumentException("items is required");
+        }
+        if (items.size() > EchoRequest.MAX_ITEMS) {
+            throw new IllegalArgumentException("items must hold at most " + EchoRequest.MAX_ITEMS + " entries");
+        }
+        List<EchoRequest.Item> bound = new ArrayList<>(items.size());
+        for (JsonValue value : items) {
+            JsonObject item = value.asJsonObject();
+            bound.add(new EchoRequest.Item(item.getString("key", null), item.getString("payload", null)));
+        }
+        return new EchoRequest(bound);
+    }
+
+    /**
+     * Renders an {@link EchoResponse} as a JSON-P object.
+     *
+     * @param response use-case result
+     * @return JSON body
+     */
+    static JsonObject write(EchoResponse response) {
+        JsonArrayBuilder items = JSON.createArrayBuilder();
+        for (EchoResponse.Item item : response.items()) {
+            JsonObjectBuilder json = JSON.createObjectBuilder().add("key", item.key());
+            addNullable(json, "payload", item.payload());
+            addNullable(json, "value", item.value());
+            items.add(json);
+        }
+        return JSON.createObjectBuilder()
+                .add("count", response.count())
+                .add("items", items)
+                .build();
+    }
+
+    private static void addNullable(JsonObjectBuilder json, String name, @Nullable String value) {
+        if (value == null) {
+            json.addNull(name);
+        } else {
+            json.add(name, value);
+        }
+    }
+}
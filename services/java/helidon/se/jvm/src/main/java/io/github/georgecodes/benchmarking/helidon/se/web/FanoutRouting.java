@@ -0,0 +1,78 @@
+package io.github.georgecodes.benchmarking.helidon.se.web;
+
+import io.github.georgecodes.benchmarking.helidon.se.application.Fanout;
+import io.github.georgecodes.benchmarking.helidon.se.application.FanoutService;
+import io.helidon.http.Status;
+import io.helidon.webserver.http.HttpRouting;
+import io.helidon.webserver.http.ServerRequest;
+import io.helidon.webserver.http.ServerResponse;
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonBuilderFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Helidon SE routing for {@code GET /hello/fanout}.
+ * <p>
+ * The request's virtual thread forks the branches and parks in the join; a failed branch cancels its siblings and
+ * surfaces as a {@code 500}.
+ */
+public final class FanoutRouting {
+
+    /** Shared builder factory; creating one per request would repeat the provider lookup. */
+    private static final JsonBuilderFactory JSON = Json.createBuilderFactory(Map.of());
+
+    private FanoutRouting() {
+    }
+
+    /**
+     * Registers the fan-out endpoint on the given routing builder.
+     *
+     * @param routing       Helidon HTTP routing builder
+     * @param fanoutService the use-case service
+     */
+    public static void register(HttpRouting.Builder routing, FanoutService fanoutService) {
+        Objects.requireNonNull(fanoutService, "fanoutService");
+        routing.get("/hello/fanout", (req, res) -> handleFanout(req, res, fanoutService));
+    }
+
+    private static void handleFanout(ServerRequest req, ServerResponse res, FanoutService fanoutService)
+            throws InterruptedException {
+        int branches;
+        long sleepMillis;
+        int failBranch;
+        try {
+            branches = req.query().first("n").map(Integer::parseInt).orElse(Fanout.DEFAULT_BRANCHES);
+            sleepMillis = req.query().first("sleepMs").map(Long::parseLong).orElse(0L);
+            failBranch = req.query().first("fail").map(Integer::parseInt).orElse(Fanout.NO_FAILURE);
+            Fanout.checkFail(failBranch, Fanout.checkBranches(branches));
+            Fanout.checkSleep(sleepMillis);
+        } catch (IllegalArgumentException e) {
+            res.status(Status.BAD_REQUEST_400).send(e.getMessage());
+            return;
+        }
+        res.send(write(fanoutService.fanout(branches, sleepMillis, failBranch)));
+    }
+
+    /**
+     * Renders branch values as a JSON-P array, keeping misses as {@code null}.
+     *
+     * @param values branch values in order
+     * @return JSON body
+     */
+    static JsonArray write(List<String> values) {
+        JsonArrayBuilder array = JSON.createArrayBuilder();
+        for (String value : values) {
+            if (value == null) {
+                array.addNull();
+            } else {
+                array.add(value);
+            }
+        }
+        return array.build();
+    }
+}
@@ -0,0 +1,110 @@
+package io.github.georgecodes.benchmarking.helidon.se.web;
+
+import com.google.protobuf.Descriptors;
+import io.github.georgecodes.benchmarking.helidon.se.application.HelloService;
+import io.github.georgecodes.benchmarking.helidon.se.application.HelloStream;
+import io.github.georgecodes.benchmarking.helidon.se.application.LatencyProfile;
+import io.github.georgecodes.benchmarking.helidon.se.application.port.TimeUnit;
+import io.github.georgecodes.benchmarking.helidon.se.grpc.HelloProto;
+import io.github.georgecodes.benchmarking.helidon.se.grpc.HelloReply;
+import io.github.georgecodes.benchmarking.helidon.se.grpc.HelloRequest;
+import io.github.georgecodes.benchmarking.helidon.se.grpc.StreamRequest;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import io.helidon.webserver.grpc.GrpcService;
+
+import java.util.Objects;
+
+/**
+ * Helidon SE gRPC service for {@code benchmarking.hello.v1.Hello} ({@code src/main/proto/hello.proto}).
+ * <p>
+ * Served by the same WebServer listener as REST, over HTTP/2 cleartext. Like the REST handlers, each call runs
+ * on its own virtual thread: {@code SayHello} sleeps in place, and {@code StreamHello} blocks on HTTP/2 flow
+ * control when the client reads slowly, so backpressure is the parked thread rather than a queue.
+ */
+public final class HelloGrpcService implements GrpcService {
+
+    /** Endpoint tag of the unary call: its HTTP/2 path. */
+    public static final String SAY_HELLO_TAG = "/benchmarking.hello.v1.Hello/SayHello";
+
+    /** Endpoint tag of the streaming call: its HTTP/2 path. */
+    public static final String STREAM_HELLO_TAG = "/benchmarking.hello.v1.Hello/StreamHello";
+
+    /** Reply prefix; the REST counterpart is {@code HelloMode.VIRTUAL}. */
+    static final String PREFIX = "Hello from Helidon SE virtual gRPC ";
+
+    /** The use-case service. */
+    private final HelloService helloService;
+
+    /** Distribution applied to the requested sleep. */
+    private final LatencyProfile latencyProfile;
+
+    /**
+     * Creates the service.
+     *
+     * @param helloService   the use-case service
+     * @param latencyProfile distribution of the injected {@code sleep_ms}
+     */
+    public HelloGrpcService(HelloService helloService, LatencyProfile latencyProfile) {
+        this.helloService = Objects.requireNonNull(helloService, "helloService");
+        this.latencyProfile = Objects.requireNonNull(latencyProfile, "latencyProfile");
+    }
+
+    @Override
+    public Descriptors.FileDescriptor proto() {
+        return HelloProto.getDescriptor();
+    }
+
+    @Override
+    public String serviceName() {
+        return "Hello";
+    }
+
+    @Override
+    public void update(Routing router) {
+        router.unary("SayHello", this::sayHello)
+                .serverStream("StreamHello", this::streamHello);
+    }
+
+    void sayHello(HelloRequest request, StreamObserver<HelloReply> observer) {
+        String value;
+        try {
+            long sleepMillis = latencyProfile.sampleMillis(request.getSleepMs());
+            value = helloService.helloValue(SAY_HELLO_TAG, sleepMillis, TimeUnit.MILLISECONDS, request.getWork());
+        } catch (IllegalArgumentException e) {
+            observer.onError(Status.INVALID_ARGUMENT.withDescription(e.getMessage()).asRuntimeException());
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            observer.onError(Status.CANCELLED.withCause(e).asRuntimeException());
+            return;
+        }
+        observer.onNext(reply(0, PREFIX + value));
+        observer.onCompleted();
+    }
+
+    void streamHello(StreamRequest request, StreamObserver<HelloReply> observer) {
+        try {
+            int elements = HelloStream.checkElements(
+                    request.getN() == 0 ? HelloStream.DEFAULT_ELEMENTS : request.getN());
+            long intervalMillis = HelloStream.checkInterval(request.getIntervalMs());
+            String message = PREFIX + helloService.helloValue(STREAM_HELLO_TAG, 0, TimeUnit.MILLISECONDS, 0);
+            for (int seq = 0; seq < elements; seq++) {
+                if (seq > 0 && intervalMillis > 0) {
+                    Thread.sleep(intervalMillis);
+                }
+                observer.onNext(reply(seq, message));
+            }
+            observer.onCompleted();
+        } catch (IllegalArgumentException e) {
+            observer.onError(Status.INVALID_ARGUMENT.withDescription(e.getMessage()).asRuntimeException());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            observer.onError(Status.CANCELLED.withCause(e).asRuntimeException());
+        }
+    }
+
+    private static HelloReply reply(long seq, String message) {
+        return HelloReply.newBuilder().setSeq(seq).setMessage(message).build();
+    }
+}
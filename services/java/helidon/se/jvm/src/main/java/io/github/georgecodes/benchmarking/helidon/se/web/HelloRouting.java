@@ -1,7 +1,11 @@
 package io.github.georgecodes.benchmarking.helidon.se.web;
 
 import io.github.georgecodes.benchmarking.helidon.se.application.HelloService;
+import io.github.georgecodes.benchmarking.helidon.se.application.HelloStream;
+import io.github.georgecodes.benchmarking.helidon.se.application.LatencyProfile;
+import io.github.georgecodes.benchmarking.helidon.se.application.StreamBacklog;
 import io.github.georgecodes.benchmarking.helidon.se.application.port.HelloMode;
+import io.github.georgecodes.benchmarking.helidon.se.application.port.TimeUnit;
 import io.helidon.http.Header;
 import io.helidon.http.HeaderNames;
 import io.helidon.http.HeaderValues;
@@ -9,8 +13,15 @@ import io.helidon.webserver.http.HttpRouting;
 import io.helidon.webserver.http.ServerRequest;
 import io.helidon.webserver.http.ServerResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.util.Objects;
 
 /**
  * Helidon SE routing for the hello benchmark endpoints.
@@ -23,6 +34,14 @@ import java.nio.charset.StandardCharsets;
  * <p>
  * Every request hits the Caffeine cache to simulate a realistic
  * service lookup, consistent with all other benchmark modules.
+ * With {@link ResponseEncoding#PRE_ENCODED} the encoded body is reused
+ * until the cached value changes.
+ * <p>
+ * A positive {@code size} replaces the hello body with a {@link Payload} of that many bytes: a fresh
+ * heap copy, or the pre-built direct / memory-mapped buffer streamed through the response output stream.
+ * <p>
+ * {@code /hello/stream} writes and flushes one element at a time on the virtual thread; a slow reader
+ * blocks the flush, so backpressure is the parked thread rather than a queue.
  */
 @Slf4j
 public final class HelloRouting {
@@ -31,6 +50,14 @@ public final class HelloRouting {
     private static final Header CONTENT_TYPE_JSON =
             HeaderValues.create(HeaderNames.CONTENT_TYPE, "application/json");
 
+    /** Pre-computed Content-Type header for {@code size} payloads. */
+    private static final Header CONTENT_TYPE_OCTET_STREAM =
+            HeaderValues.create(HeaderNames.CONTENT_TYPE, "application/octet-stream");
+
+    /** Pre-computed Content-Type header for {@code /hello/stream}. */
+    private static final Header CONTENT_TYPE_NDJSON =
+            HeaderValues.create(HeaderNames.CONTENT_TYPE, HelloStream.CONTENT_TYPE);
+
     private HelloRouting() {
     }
 
@@ -41,17 +68,79 @@ public final class HelloRouting {
      * @param helloService the use-case service
      */
     public static void register(HttpRouting.Builder routing, HelloService helloService) {
+        register(routing, helloService, ResponseEncoding.DYNAMIC);
+    }
+
+    /**
+     * Registers a GET endpoint for every {@link HelloMode} using the given body encoding.
+     *
+     * @param routing          Helidon HTTP routing builder
+     * @param helloService     the use-case service
+     * @param responseEncoding how response bodies are produced
+     */
+    public static void register(HttpRouting.Builder routing,
+                                HelloService helloService,
+                                ResponseEncoding responseEncoding) {
+        register(routing, helloService, responseEncoding, LatencyProfile.constant());
+    }
+
+    /**
+     * Registers a GET endpoint for every {@link HelloMode} using the given body encoding and latency profile.
+     * The profile shapes the requested sleep unless a request names its own with the {@code latency} parameter.
+     *
+     * @param routing          Helidon HTTP routing builder
+     * @param helloService     the use-case service
+     * @param responseEncoding how response bodies are produced
+     * @param latencyProfile   default distribution of the injected sleep
+     */
+    public static void register(HttpRouting.Builder routing,
+                                HelloService helloService,
+                                ResponseEncoding responseEncoding,
+                                LatencyProfile latencyProfile) {
+        register(routing, helloService, responseEncoding, latencyProfile, Payload.create(PayloadMode.HEAP));
+    }
+
+    /**
+     * Registers a GET endpoint for every {@link HelloMode} using the given body encoding, latency profile
+     * and {@code size} payload.
+     *
+     * @param routing          Helidon HTTP routing builder
+     * @param helloService     the use-case service
+     * @param responseEncoding how response bodies are produced
+     * @param latencyProfile   default distribution of the injected sleep
+     * @param payload          body served for the {@code size} query parameter
+     */
+    public static void register(HttpRouting.Builder routing,
+                                HelloService helloService,
+                                ResponseEncoding responseEncoding,
+                                LatencyProfile latencyProfile,
+                                Payload payload) {
+        Objects.requireNonNull(responseEncoding, "responseEncoding");
+        Objects.requireNonNull(latencyProfile, "latencyProfile");
+        Objects.requireNonNull(payload, "payload");
         for (HelloMode mode : HelloMode.values()) {
+            PreEncodedResponse preEncoded = responseEncoding == ResponseEncoding.PRE_ENCODED
+                    ? new PreEncodedResponse(mode)
+                    : null;
             routing.get(mode.endpointTag(), (req, res) ->
-                    handleHello(req, res, helloService, mode));
+                    handleHello(req, res, helloService, latencyProfile, payload, mode, preEncoded));
         }
+        routing.get("/hello/stream", (req, res) -> handleStream(req, res, helloService));
     }
 
     private static void handleHello(ServerRequest req,
                                     ServerResponse res,
                                     HelloService helloService,
-                                    HelloMode mode) throws InterruptedException {
+                                    LatencyProfile latencyProfile,
+                                    Payload payload,
+                                    HelloMode mode,
+                                    @Nullable PreEncodedResponse preEncoded) throws InterruptedException, IOException {
         int sleep = req.query().first("sleep").map(Integer::parseInt).orElse(0);
+        long sleepMs = req.query().first("sleepMs").map(Long::parseLong).orElse(0L);
+        long sleepMillis = latencyProfile.override(req.query().first("latency").orElse(null))
+                .sampleMillis(TimeUnit.SECONDS.toMillis(sleep) + sleepMs);
+        int work = req.query().first("work").map(Integer::parseInt).orElse(0);
+        int size = Payload.checkSize(req.query().first("size").map(Integer::parseInt).orElse(0));
         boolean printLog = req.query().first("log").map(Boolean::parseBoolean).orElse(false);
 
         if (printLog) {
@@ -60,10 +149,63 @@ public final class HelloRouting {
                     mode.label(), currentThread, currentThread.getName(), currentThread.isVirtual());
         }
 
+        if (size > 0) {
+            // Sleep, work and the cache lookup still run, so only the body differs from a regular request.
+            helloService.hello(mode, sleepMillis, TimeUnit.MILLISECONDS, work);
+            sendPayload(res, payload, size);
+            return;
+        }
+
         res.header(CONTENT_TYPE_JSON);
 
-        String result = helloService.hello(mode, sleep);
+        if (preEncoded != null) {
+            res.send(preEncoded.body(helloService.helloValue(mode, sleepMillis, TimeUnit.MILLISECONDS, work)));
+            return;
+        }
+
+        String result = helloService.hello(mode, sleepMillis, TimeUnit.MILLISECONDS, work);
         byte[] body = ("\"" + result + "\"").getBytes(StandardCharsets.UTF_8);
         res.send(body);
     }
+
+    private static void handleStream(ServerRequest req, ServerResponse res, HelloService helloService)
+            throws InterruptedException, IOException {
+        int elements = HelloStream.checkElements(
+                req.query().first("n").map(Integer::parseInt).orElse(HelloStream.DEFAULT_ELEMENTS));
+        long intervalMillis = HelloStream.checkInterval(
+                req.query().first("interval").map(Long::parseLong).orElse(0L));
+        String message = helloService.hello(HelloMode.VIRTUAL, 0, TimeUnit.MILLISECONDS);
+
+        res.header(CONTENT_TYPE_NDJSON);
+        StreamBacklog backlog = helloService.openStream();
+        try (OutputStream out = res.outputStream()) {
+            for (int seq = 0; seq < elements; seq++) {
+                if (seq > 0 && intervalMillis > 0) {
+                    Thread.sleep(intervalMillis);
+                }
+                byte[] element = HelloStream.element(seq, message);
+                backlog.produced(element.length);
+                out.write(element);
+                out.flush();
+                backlog.written(element.length);
+            }
+        } finally {
+            backlog.close();
+        }
+    }
+
+    private static void sendPayload(ServerResponse res, Payload payload, int size) throws IOException {
+        res.header(CONTENT_TYPE_OCTET_STREAM);
+        if (payload.mode() == PayloadMode.HEAP) {
+            res.send(payload.heapCopy(size));
+            return;
+        }
+        res.headers().contentLength(size);
+        ByteBuffer body = payload.buffer(size);
+        try (WritableByteChannel out = Channels.newChannel(res.outputStream())) {
+            while (body.hasRemaining()) {
+                out.write(body);
+            }
+        }
+    }
 }
\ No newline at end of file
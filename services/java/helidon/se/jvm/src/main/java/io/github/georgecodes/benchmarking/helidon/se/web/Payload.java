@@ -0,0 +1,168 @@
+package io.github.georgecodes.benchmarking.helidon.se.web;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Deterministic response body behind the {@code size} query parameter, held the way {@link PayloadMode} selects.
+ *
+ * <p>Every mode serves the same bytes: a 36-byte alphanumeric pattern repeated up to {@code size}. Only the
+ * path from memory to socket differs, which is what comparing the modes measures. Instances are immutable
+ * and safe to share across threads; buffers handed out are read-only views of one pre-built body.
+ */
+public final class Payload {
+
+    /** Upper bound for {@code size}: 8 MiB per response. */
+    public static final int MAX_BYTES = 8 * 1024 * 1024;
+
+    /** Repeated body content. */
+    private static final byte[] PATTERN = "abcdefghijklmnopqrstuvwxyz0123456789".getBytes(StandardCharsets.US_ASCII);
+
+    /** Whole repetitions of {@link #PATTERN}, so consecutive copies continue the pattern seamlessly. */
+    private static final byte[] CHUNK = chunk();
+
+    /** How the body is held and written. */
+    private final PayloadMode mode;
+
+    /** Pre-built body for {@code direct} and {@code file}; {@code null} for {@code heap}. */
+    private final @Nullable ByteBuffer buffer;
+
+    /** Backing file for {@code file}; {@code null} otherwise. */
+    private final @Nullable Path file;
+
+    private Payload(PayloadMode mode, @Nullable ByteBuffer buffer, @Nullable Path file) {
+        this.mode = mode;
+        this.buffer = buffer;
+        this.file = file;
+    }
+
+    /**
+     * Builds the payload for a mode. {@code direct} allocates {@link #MAX_BYTES} off-heap once;
+     * {@code file} writes a temporary file of that size and maps it read-only.
+     *
+     * @param mode how the body is held
+     * @return the payload
+     * @throws UncheckedIOException when the {@code file} body cannot be written or mapped
+     */
+    public static Payload create(PayloadMode mode) {
+        return switch (mode) {
+            case HEAP -> new Payload(mode, null, null);
+            case DIRECT -> new Payload(mode, fill(ByteBuffer.allocateDirect(MAX_BYTES)).asReadOnlyBuffer(), null);
+            case FILE -> {
+                Path file = writeFile();
+                yield new Payload(mode, map(file), file);
+            }
+        };
+    }
+
+    /**
+     * Validates a requested body size.
+     *
+     * @param size requested size in bytes, {@code 0} for the regular hello body
+     * @return {@code size}
+     * @throws IllegalArgumentException if {@code size} is negative or above {@link #MAX_BYTES}
+     */
+    public static int checkSize(int size) {
+        if (size < 0 || size > MAX_BYTES) {
+            throw new IllegalArgumentException("size must be between 0 and " + MAX_BYTES + " bytes: " + size);
+        }
+        return size;
+    }
+
+    /**
+     * Returns how the body is held and written.
+     *
+     * @return the payload mode
+     */
+    public PayloadMode mode() {
+        return mode;
+    }
+
+    /**
+     * Copies the first {@code size} bytes of the body into a fresh heap array (the {@code heap} baseline).
+     *
+     * @param size body size in bytes
+     * @return a new array holding the body
+     */
+    public byte[] heapCopy(int size) {
+        byte[] body = new byte[checkSize(size)];
+        for (int offset = 0; offset < size; offset += CHUNK.length) {
+            System.arraycopy(CHUNK, 0, body, offset, Math.min(CHUNK.length, size - offset));
+        }
+        return body;
+    }
+
+    /**
+     * Returns a read-only view of the first {@code size} bytes of the pre-built body, without copying.
+     *
+     * @param size body size in bytes
+     * @return a direct (or memory-mapped) buffer positioned at zero with {@code size} bytes remaining
+     * @throws IllegalStateException in {@code heap} mode, which keeps no pre-built body
+     */
+    public ByteBuffer buffer(int size) {
+        if (buffer == null) {
+            throw new IllegalStateException("No pre-built body in " + mode + " mode");
+        }
+        return buffer.slice(0, checkSize(size));
+    }
+
+    /**
+     * Returns the file whose first {@code size} bytes are the body, for zero-copy file sends.
+     *
+     * @return the backing file
+     * @throws IllegalStateException unless in {@code file} mode
+     */
+    public Path file() {
+        if (file == null) {
+            throw new IllegalStateException("No backing file in " + mode + " mode");
+        }
+        return file;
+    }
+
+    private static ByteBuffer fill(ByteBuffer target) {
+        while (target.hasRemaining()) {
+            target.put(CHUNK, 0, Math.min(CHUNK.length, target.remaining()));
+        }
+        return target.flip();
+    }
+
+    private static Path writeFile() {
+        try {
+            Path file = Files.createTempFile("hello-payload-", ".bin");
+            file.toFile().deleteOnExit();
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                ByteBuffer body = fill(ByteBuffer.allocate(MAX_BYTES));
+                while (body.hasRemaining()) {
+                    channel.write(body);
+                }
+            }
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write payload file", e);
+        }
+    }
+
+    private static ByteBuffer map(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, MAX_BYTES);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to map payload file " + file, e);
+        }
+    }
+
+    private static byte[] chunk() {
+        byte[] chunk = new byte[PATTERN.length * 1024];
+        for (int offset = 0; offset < chunk.length; offset += PATTERN.length) {
+            System.arraycopy(PATTERN, 0, chunk, offset, PATTERN.length);
+        }
+        return chunk;
+    }
+}
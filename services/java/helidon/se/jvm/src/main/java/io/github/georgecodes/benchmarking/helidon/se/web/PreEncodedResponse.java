@@ -0,0 +1,71 @@
+package io.github.georgecodes.benchmarking.helidon.se.web;
+
+import io.github.georgecodes.benchmarking.helidon.se.application.port.HelloMode;
+import org.jspecify.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fully encoded JSON bodies for one {@link HelloMode}, shared read-only across requests.
+ *
+ * <p>Bodies are kept per cached value and compared by content, so a body is only encoded the
+ * first time a value is seen. Past {@value #MAX_ENTRIES} distinct values new bodies are encoded
+ * per request, exactly like the dynamic path. In steady state the hot path is one map read —
+ * no string concatenation and no UTF-8 encoding.
+ */
+final class PreEncodedResponse {
+
+    /** Upper bound on kept bodies, well above any realistic {@code CACHE_SIZE}. */
+    static final int MAX_ENTRIES = 1 << 20;
+
+    /** Mode whose response prefix is baked into the body. */
+    private final HelloMode mode;
+
+    /** Encoded bodies keyed by the cached value they were built from. */
+    private final Map<String, byte[]> bodies = new ConcurrentHashMap<>();
+
+    /** Body for a cache miss, which the dynamic path renders as {@code null}. */
+    private final byte[] missBody;
+
+    PreEncodedResponse(HelloMode mode) {
+        this.mode = Objects.requireNonNull(mode, "mode");
+        this.missBody = encode(mode, null);
+    }
+
+    /**
+     * Returns the encoded body for the given cache value.
+     *
+     * @param value cached value returned by the use case (may be {@code null})
+     * @return shared byte array — callers must not modify it
+     */
+    byte[] body(@Nullable String value) {
+        if (value == null) {
+            return missBody;
+        }
+        byte[] body = bodies.get(value);
+        if (body == null) {
+            body = encode(mode, value);
+            if (bodies.size() < MAX_ENTRIES) {
+                byte[] raced = bodies.putIfAbsent(value, body);
+                if (raced != null) {
+                    body = raced;
+                }
+            }
+        }
+        return body;
+    }
+
+    /**
+     * Encodes the JSON string body exactly as the dynamic path does.
+     *
+     * @param mode  hello mode supplying the prefix
+     * @param value cached value (may be {@code null})
+     * @return UTF-8 bytes of the quoted body
+     */
+    static byte[] encode(HelloMode mode, @Nullable String value) {
+        return ("\"" + mode.responsePrefix() + value + "\"").getBytes(StandardCharsets.UTF_8);
+    }
+}
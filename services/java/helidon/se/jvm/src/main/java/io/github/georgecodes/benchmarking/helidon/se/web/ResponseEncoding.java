@@ -0,0 +1,33 @@
+package io.github.georgecodes.benchmarking.helidon.se.web;
+
+import java.util.Locale;
+
+/**
+ * How the hello JSON body is produced (config/env {@code RESPONSE_ENCODING}).
+ */
+public enum ResponseEncoding {
+
+    /** Concatenates and encodes the JSON body on every request (baseline). */
+    DYNAMIC,
+
+    /** Serves a shared, fully encoded JSON body, re-encoded only when the cached value changes. */
+    PRE_ENCODED;
+
+    /**
+     * Parses a {@code RESPONSE_ENCODING} value.
+     *
+     * @param value {@code dynamic} or {@code pre-encoded}/{@code preencoded}; blank means {@code dynamic}
+     * @return the matching encoding
+     * @throws IllegalArgumentException when the value is not recognised
+     */
+    public static ResponseEncoding parse(String value) {
+        if (value == null || value.isBlank()) {
+            return DYNAMIC;
+        }
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "dynamic" -> DYNAMIC;
+            case "pre-encoded", "pre_encoded", "preencoded" -> PRE_ENCODED;
+            default -> throw new IllegalArgumentException("Unsupported RESPONSE_ENCODING: " + value);
+        };
+    }
+}
@@ -1,10 +1,17 @@
 package io.github.georgecodes.benchmarking.helidon.se;
 
+import io.github.georgecodes.benchmarking.helidon.se.infra.cache.CacheWarmer;
+import io.github.georgecodes.benchmarking.helidon.se.infra.cache.CaffeineCacheAdapter;
+import io.github.georgecodes.benchmarking.helidon.se.infra.cache.OffHeapCacheAdapter;
 import org.junit.jupiter.api.Test;
 
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class HelidonApplicationTest {
 
@@ -28,4 +35,27 @@ class HelidonApplicationTest {
                 HelidonApplication.DEFAULT_SERVICE_NAME,
                 HelidonApplication.resolveServiceName(Map.of("OTEL_SERVICE_NAME", "   ")));
     }
-}
\ No newline at end of file
+
+    @Test
+    void createCachePortSelectsImplementationFromCacheImpl() {
+        CacheWarmer warmer = CacheWarmer.parse("parallel");
+        assertInstanceOf(CaffeineCacheAdapter.class, HelidonApplication.createCachePort("caffeine", 4, warmer));
+        assertInstanceOf(OffHeapCacheAdapter.class, HelidonApplication.createCachePort(" OffHeap ", 4, warmer));
+        assertThrows(IllegalArgumentException.class, () -> HelidonApplication.createCachePort("redis", 4, warmer));
+    }
+
+    @Test
+    void http2ConfigAdvertisesAlignedStreamLimit() {
+        assertEquals(HelidonApplication.HTTP2_MAX_CONCURRENT_STREAMS,
+                HelidonApplication.http2Config().maxConcurrentStreams());
+    }
+
+    @Test
+    void createTlsSelectsJdkEngineOnly() {
+        assertFalse(HelidonApplication.createTls(" off ").isPresent());
+        assertFalse(HelidonApplication.createTls("").isPresent());
+        assertTrue(HelidonApplication.createTls("JDK").orElseThrow().enabled());
+        assertThrows(IllegalArgumentException.class, () -> HelidonApplication.createTls("openssl"));
+        assertThrows(IllegalArgumentException.class, () -> HelidonApplication.createTls("boringssl"));
+    }
+}
@@ -1,12 +1,19 @@
 package io.github.georgecodes.benchmarking.helidon.se;
 
+import io.github.georgecodes.benchmarking.helidon.se.application.EchoService;
 import io.github.georgecodes.benchmarking.helidon.se.application.HelloService;
+import io.github.georgecodes.benchmarking.helidon.se.application.LatencyProfile;
 import io.github.georgecodes.benchmarking.helidon.se.infra.ObservabilityFeatureFactory;
 import io.github.georgecodes.benchmarking.helidon.se.infra.cache.CaffeineCacheAdapter;
 import io.github.georgecodes.benchmarking.helidon.se.infra.metrics.MicrometerMetricsAdapter;
 import io.github.georgecodes.benchmarking.helidon.se.infra.time.ThreadSleepAdapter;
+import io.github.georgecodes.benchmarking.helidon.se.web.EchoRouting;
 import io.github.georgecodes.benchmarking.helidon.se.web.HelloRouting;
 import io.github.georgecodes.benchmarking.helidon.se.web.HttpMetricsFilter;
+import io.github.georgecodes.benchmarking.helidon.se.web.Payload;
+import io.github.georgecodes.benchmarking.helidon.se.web.PayloadMode;
+import io.github.georgecodes.benchmarking.helidon.se.web.ResponseEncoding;
+import io.helidon.http.HeaderNames;
 import io.helidon.http.Status;
 import io.helidon.webclient.http1.Http1Client;
 import io.helidon.webclient.http1.Http1ClientResponse;
@@ -18,6 +25,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -41,6 +49,7 @@ class HelloRoutingTest {
                 .routing(routing -> {
                     routing.addFilter(new HttpMetricsFilter());
                     HelloRouting.register(routing, helloService);
+                    EchoRouting.register(routing, new EchoService(cachePort, metricsPort));
                 })
                 .build()
                 .start();
@@ -83,6 +92,29 @@ class HelloRoutingTest {
         }
     }
 
+    @Test
+    void virtualEndpointWithMillisecondSleep() {
+        try (Http1ClientResponse response = client.get("/hello/virtual")
+                .queryParam("sleepMs", "20")
+                .request()) {
+            assertEquals(Status.OK_200, response.status());
+            String body = response.as(String.class);
+            assertTrue(body.contains("Hello from Helidon SE virtual REST"));
+        }
+    }
+
+    @Test
+    void virtualEndpointWithLatencyProfileOverride() {
+        try (Http1ClientResponse response = client.get("/hello/virtual")
+                .queryParam("sleepMs", "10")
+                .queryParam("latency", "bimodal:20:1")
+                .request()) {
+            assertEquals(Status.OK_200, response.status());
+            String body = response.as(String.class);
+            assertTrue(body.contains("Hello from Helidon SE virtual REST"));
+        }
+    }
+
     @Test
     void virtualEndpointWithLoggingEnabled() {
         try (Http1ClientResponse response = client.get("/hello/virtual")
@@ -95,6 +127,81 @@ class HelloRoutingTest {
         }
     }
 
+    @Test
+    void virtualEndpointWithPayloadSize() {
+        try (Http1ClientResponse response = client.get("/hello/virtual")
+                .queryParam("size", "100000")
+                .request()) {
+            assertEquals(Status.OK_200, response.status());
+            assertArrayEquals(Payload.create(PayloadMode.HEAP).heapCopy(100_000), response.as(byte[].class));
+        }
+    }
+
+    @Test
+    void mappedPayloadIsStreamedThroughTheOutputStream() {
+        var helloService = new HelloService(
+                new CaffeineCacheAdapter(100), new MicrometerMetricsAdapter(), new ThreadSleepAdapter());
+        WebServer fileServer = WebServer.builder()
+                .port(0)
+                .routing(routing -> HelloRouting.register(routing, helloService, ResponseEncoding.DYNAMIC,
+                        LatencyProfile.constant(), Payload.create(PayloadMode.FILE)))
+                .build()
+                .start();
+        try (Http1ClientResponse response = Http1Client.builder()
+                .baseUri("http://localhost:" + fileServer.port())
+                .build()
+                .get("/hello/virtual")
+                .queryParam("size", "100000")
+                .request()) {
+            assertEquals(Status.OK_200, response.status());
+            assertArrayEquals(Payload.create(PayloadMode.HEAP).heapCopy(100_000), response.as(byte[].class));
+        } finally {
+            fileServer.stop();
+        }
+    }
+
+    @Test
+    void streamEndpointWritesOneLinePerElement() {
+        try (Http1ClientResponse response = client.get("/hello/stream")
+                .queryParam("n", "3")
+                .queryParam("interval", "20")
+                .request()) {
+            assertEquals(Status.OK_200, response.status());
+            String[] lines = response.as(String.class).split("\n");
+            assertEquals(3, lines.length);
+            assertTrue(lines[0].startsWith("{\"seq\":0,\"message\":\"Hello from Helidon SE virtual REST"),
+                    "Unexpected first element: " + lines[0]);
+            assertTrue(lines[2].startsWith("{\"seq\":2,"), "Unexpected last element: " + lines[2]);
+        }
+    }
+
+    @Test
+    void streamEndpointRejectsEmptyStream() {
+        try (Http1ClientResponse response = client.get("/hello/stream").queryParam("n", "0").request()) {
+            assertEquals(Status.INTERNAL_SERVER_ERROR_500, response.status());
+        }
+    }
+
+    @Test
+    void echoEndpointEchoesEveryItem() {
+        try (Http1ClientResponse response = client.post("/hello/echo")
+                .header(HeaderNames.CONTENT_TYPE, "application/json")
+                .submit("{\"items\":[{\"key\":\"1\",\"payload\":\"a\"},{\"key\":\"2\",\"payload\":\"b\"}]}")) {
+            assertEquals(Status.OK_200, response.status());
+            String body = response.as(String.class);
+            assertTrue(body.contains("\"count\":2"), body);
+            assertTrue(body.contains("\"payload\":\"b\""), body);
+        }
+    }
+
+    @Test
+    void echoEndpointRejectsMissingKey() {
+        try (Http1ClientResponse response = client.post("/hello/echo")
+                .header(HeaderNames.CONTENT_TYPE, "application/json")
+                .submit("{\"items\":[{\"payload\":\"a\"}]}")) {
+            assertEquals(Status.BAD_REQUEST_400, response.status());
+        }
+    }
 
     @Test
     void healthEndpoint() {
@@ -1,5 +1,7 @@
 package io.github.georgecodes.benchmarking.helidon.se;
 
+import io.github.georgecodes.benchmarking.helidon.se.application.CacheKeySelector;
+import io.github.georgecodes.benchmarking.helidon.se.application.CpuWork;
 import io.github.georgecodes.benchmarking.helidon.se.application.HelloService;
 import io.github.georgecodes.benchmarking.helidon.se.application.port.CachePort;
 import io.github.georgecodes.benchmarking.helidon.se.application.port.HelloMode;
@@ -31,6 +33,11 @@ class HelloServiceTest {
                 "Unexpected result: " + result);
     }
 
+    @Test
+    void helloValueReturnsRawCachedValue() throws InterruptedException {
+        assertEquals("value-1", helloService.helloValue(HelloMode.VIRTUAL, 0));
+    }
+
     @Test
     void helloRejectsNegativeSleep() {
         assertThrows(IllegalArgumentException.class,
@@ -64,13 +71,80 @@ class HelloServiceTest {
         assertEquals(TimeUnit.SECONDS, recordingSleepPort.unit);
     }
 
+    @Test
+    void helloDelegatesMillisecondSleepToSleepPort() throws InterruptedException {
+        RecordingSleepPort recordingSleepPort = new RecordingSleepPort();
+        HelloService service = new HelloService(key -> "cached-" + key, new RecordingMetricsPort(), recordingSleepPort);
+
+        service.hello(HelloMode.VIRTUAL, 1_500, TimeUnit.MILLISECONDS);
+
+        assertEquals(1_500, recordingSleepPort.duration);
+        assertEquals(TimeUnit.MILLISECONDS, recordingSleepPort.unit);
+    }
+
+    @Test
+    void helloCountsLookupsOutsideTheCacheAsMisses() throws InterruptedException {
+        RecordingMetricsPort recordingMetricsPort = new RecordingMetricsPort();
+        HelloService service = new HelloService(key -> "1".equals(key) ? "cached-1" : null,
+                recordingMetricsPort, new RecordingSleepPort(), CacheKeySelector.parse("sequential", 4));
+
+        for (int i = 0; i < 4; i++) {
+            service.hello(HelloMode.VIRTUAL, 0);
+        }
+
+        assertEquals(3, recordingMetricsPort.cacheMisses);
+    }
+
+    @Test
+    void helloRecordsCpuTimeOnlyForRequestedWork() throws InterruptedException {
+        RecordingMetricsPort recordingMetricsPort = new RecordingMetricsPort();
+        HelloService service = new HelloService(key -> "cached-" + key, recordingMetricsPort, new RecordingSleepPort());
+
+        service.hello(HelloMode.VIRTUAL, 0, TimeUnit.MILLISECONDS, 0);
+        String result = service.hello(HelloMode.VIRTUAL, 0, TimeUnit.MILLISECONDS, 32);
+
+        assertTrue(result.endsWith("cached-1"));
+        assertEquals(1, recordingMetricsPort.workRecords);
+    }
+
+    @Test
+    void helloRejectsOutOfRangeWork() {
+        HelloService service = new HelloService(
+                key -> "cached-" + key, new RecordingMetricsPort(), new RecordingSleepPort());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> service.hello(HelloMode.VIRTUAL, 0, TimeUnit.MILLISECONDS, CpuWork.MAX_KILOBYTES + 1));
+    }
+
     private static final class RecordingMetricsPort implements MetricsPort {
         private String endpointTag;
+        private int cacheMisses;
+        private int workRecords;
 
         @Override
         public void incrementHelloRequest(String endpointTag) {
             this.endpointTag = endpointTag;
         }
+
+        @Override
+        public void incrementCacheMiss() {
+            cacheMisses++;
+        }
+
+        @Override
+        public void recordWorkCpuTime(long cpuNanos) {
+            workRecords++;
+        }
+
+        @Override
+        public void recordStreamOutstandingPeak(long bytes) {
+            // Not needed in these tests.
+        }
+
+        @Override
+        public void recordEchoRequestBytes(long bytes) {
+            // Not needed in these tests.
+        }
     }
 
     private static final class RecordingSleepPort implements SleepPort {
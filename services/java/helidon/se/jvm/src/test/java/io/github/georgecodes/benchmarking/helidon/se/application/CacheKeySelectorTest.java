@@ -0,0 +1,125 @@
+package io.github.georgecodes.benchmarking.helidon.se.application;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit tests for {@link CacheKeySelector} and {@link CacheAccessPattern}.
+ */
+class CacheKeySelectorTest {
+
+    private static final int SAMPLES = 100_000;
+
+    @Test
+    void blankSpecSelectsFixedKey() {
+        CacheKeySelector selector = CacheKeySelector.parse("  ", 1000);
+
+        assertEquals(CacheAccessPattern.FIXED, selector.pattern());
+        assertEquals("1", selector.nextKey());
+        assertEquals("1", CacheKeySelector.fixed().nextKey());
+    }
+
+    @Test
+    void uniformStaysWithinKeySpace() {
+        Map<String, Integer> counts = sample(CacheKeySelector.parse("uniform", 100));
+
+        assertEquals(100, counts.size());
+        counts.keySet().forEach(key -> {
+            int k = Integer.parseInt(key);
+            assertTrue(k >= 1 && k <= 100, "Key out of range: " + key);
+        });
+    }
+
+    @Test
+    void zipfianFavoursLowRanks() {
+        Map<String, Integer> counts = sample(CacheKeySelector.parse("zipfian:0.99", 10_000));
+
+        int first = counts.getOrDefault("1", 0);
+        int tenth = counts.getOrDefault("10", 0);
+        assertTrue(first > tenth * 5, "Expected rank 1 (" + first + ") to dominate rank 10 (" + tenth + ")");
+    }
+
+    @Test
+    void hotSetConcentratesOnHotKeys() {
+        Map<String, Integer> counts = sample(CacheKeySelector.parse("hot-set:0.1:0.9", 1000));
+
+        long hot = counts.entrySet().stream()
+            .filter(e -> Integer.parseInt(e.getKey()) <= 100)
+            .mapToLong(Map.Entry::getValue)
+            .sum();
+        assertTrue(hot > SAMPLES * 0.85, "Expected ~90% hot-set hits, got " + hot);
+    }
+
+    @Test
+    void sequentialScansInOrderAndWraps() {
+        CacheKeySelector selector = CacheKeySelector.parse("sequential", 3);
+
+        assertEquals("1", selector.nextKey());
+        assertEquals("2", selector.nextKey());
+        assertEquals("3", selector.nextKey());
+        assertEquals("1", selector.nextKey());
+    }
+
+    @Test
+    void keysAreReusedNotAllocated() {
+        CacheKeySelector selector = CacheKeySelector.parse("sequential", 1);
+
+        assertSame(selector.nextKey(), selector.nextKey());
+    }
+
+    @Test
+    void sequentialCursorIsPerThread() throws InterruptedException {
+        CacheKeySelector selector = CacheKeySelector.parse("sequential", 3);
+        selector.nextKey();
+        selector.nextKey();
+        AtomicReference<String> other = new AtomicReference<>();
+        Thread thread = new Thread(() -> other.set(selector.nextKey()));
+        assumeTrue((thread.threadId() - Thread.currentThread().threadId()) % CacheKeySelector.CURSOR_STRIPES != 0,
+            "threads share a cursor stripe");
+
+        thread.start();
+        thread.join();
+
+        assertEquals("1", other.get());
+        assertEquals("3", selector.nextKey());
+    }
+
+    @Test
+    void keySpaceIsClamped() {
+        assertEquals(1, CacheKeySelector.parse("uniform", 0).keySpace());
+        assertEquals(CacheKeySelector.MAX_KEY_SPACE, CacheKeySelector.parse("fixed", Long.MAX_VALUE).keySpace());
+    }
+
+    @Test
+    void rejectsInvalidSpecs() {
+        assertThrows(IllegalArgumentException.class, () -> CacheKeySelector.parse("random", 10));
+        assertThrows(IllegalArgumentException.class, () -> CacheKeySelector.parse("zipfian:1.5", 10));
+        assertThrows(IllegalArgumentException.class, () -> CacheKeySelector.parse("hot-set:0:0.5", 10));
+        assertThrows(IllegalArgumentException.class, () -> CacheKeySelector.parse("hot-set:0.2:2", 10));
+        assertThrows(IllegalArgumentException.class, () -> CacheKeySelector.parse("zipfian:abc", 10));
+    }
+
+    @Test
+    void patternNamesAreLenient() {
+        assertEquals(CacheAccessPattern.HOT_SET, CacheAccessPattern.parse("Hot_Set"));
+        assertEquals(CacheAccessPattern.ZIPFIAN, CacheAccessPattern.parse("zipf"));
+        assertEquals(CacheAccessPattern.SEQUENTIAL, CacheAccessPattern.parse("scan"));
+    }
+
+    private static Map<String, Integer> sample(CacheKeySelector selector) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < SAMPLES; i++) {
+            counts.merge(selector.nextKey(), 1, Integer::sum);
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.georgecodes.benchmarking.helidon.se.application;
+
+import io.github.georgecodes.benchmarking.helidon.se.application.port.CachePort;
+import io.github.georgecodes.benchmarking.helidon.se.application.port.MetricsPort;
+import io.github.georgecodes.benchmarking.helidon.se.infra.cache.CaffeineCacheAdapter;
+import io.github.georgecodes.benchmarking.helidon.se.infra.metrics.MicrometerMetricsAdapter;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/** Unit tests for {@link ChainService}. */
+class ChainServiceTest {
+
+    private final CachePort cachePort = new CaffeineCacheAdapter(100);
+    private final MetricsPort metricsPort = new MicrometerMetricsAdapter();
+
+    @Test
+    void chainAppendsDownstreamBody() throws InterruptedException {
+        ChainService service = new ChainService(cachePort, metricsPort, CacheKeySelector.fixed(), () -> "pong");
+
+        assertEquals(ChainService.PREFIX + "value-1 <- pong", service.chain());
+    }
+
+    @Test
+    void chainPropagatesDownstreamFailure() {
+        ChainService service = new ChainService(cachePort, metricsPort, CacheKeySelector.fixed(), () -> {
+            throw new DownstreamException("downstream answered 503");
+        });
+
+        assertThrows(DownstreamException.class, service::chain);
+    }
+
+    @Test
+    void constructorRejectsNullDependencies() {
+        assertThrows(NullPointerException.class,
+                () -> new ChainService(cachePort, metricsPort, CacheKeySelector.fixed(), null));
+    }
+}
@@ -0,0 +1,40 @@
+package io.github.georgecodes.benchmarking.helidon.se.application;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit tests for {@link StreamBacklog}.
+ */
+class StreamBacklogTest {
+
+    @Test
+    void tracksOutstandingAndPeakBytes() {
+        StreamBacklog backlog = new StreamBacklog(_ -> { });
+
+        backlog.produced(10);
+        backlog.produced(20);
+        backlog.written(10);
+        backlog.produced(5);
+
+        assertEquals(25, backlog.outstandingBytes());
+        assertEquals(30, backlog.peakBytes());
+    }
+
+    @Test
+    void closeRecordsThePeakOnce() {
+        List<Long> peaks = new ArrayList<>();
+        StreamBacklog backlog = new StreamBacklog(peaks::add);
+        backlog.produced(64);
+        backlog.written(64);
+
+        backlog.close();
+        backlog.close();
+
+        assertEquals(List.of(64L), peaks);
+    }
+}
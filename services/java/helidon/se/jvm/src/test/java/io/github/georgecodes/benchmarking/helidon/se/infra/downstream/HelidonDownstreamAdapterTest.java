@@ -0,0 +1,77 @@
+package io.github.georgecodes.benchmarking.helidon.se.infra.downstream;
+
+import com.sun.net.httpserver.HttpServer;
+import io.github.georgecodes.benchmarking.helidon.se.application.DownstreamException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/** Unit tests for {@link HelidonDownstreamAdapter} against an in-process JDK HTTP server. */
+class HelidonDownstreamAdapterTest {
+
+    private HttpServer server;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/ok", exchange -> {
+            byte[] body = "downstream".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.createContext("/fail", exchange -> {
+            exchange.sendResponseHeaders(503, -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void returnsDownstreamBody() throws InterruptedException {
+        HelidonDownstreamAdapter adapter = new HelidonDownstreamAdapter(url("/ok"), 2, 2_000);
+
+        assertEquals("downstream", adapter.get());
+        assertEquals("downstream", adapter.get());
+    }
+
+    @Test
+    void rejectsNonSuccessStatus() {
+        HelidonDownstreamAdapter adapter = new HelidonDownstreamAdapter(url("/fail"), 2, 2_000);
+
+        DownstreamException failure = assertThrows(DownstreamException.class, adapter::get);
+        assertEquals("downstream answered 503", failure.getMessage());
+    }
+
+    @Test
+    void rejectsUnreachableDownstream() {
+        HelidonDownstreamAdapter adapter = new HelidonDownstreamAdapter("http://127.0.0.1:1/downstream", 2, 500);
+
+        assertThrows(DownstreamException.class, adapter::get);
+    }
+
+    @Test
+    void rejectsInvalidTuning() {
+        assertThrows(IllegalArgumentException.class, () -> new HelidonDownstreamAdapter(url("/ok"), 0, 2_000));
+        assertThrows(IllegalArgumentException.class, () -> new HelidonDownstreamAdapter(url("/ok"), 1, 0));
+    }
+
+    private String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+}
@@ -34,4 +34,22 @@ class MicrometerMetricsAdapterTest {
         assertNotNull(warmedCounter);
         assertNotNull(lazyCounter);
     }
+
+    @Test
+    void cacheMissCounterIsRegisteredAndIncremented() {
+        MicrometerMetricsAdapter adapter = new MicrometerMetricsAdapter();
+
+        adapter.incrementCacheMiss();
+
+        assertNotNull(Metrics.globalRegistry.find("hello.cache.miss.count").counter());
+    }
+
+    @Test
+    void streamOutstandingPeakSummaryIsRegisteredAndRecorded() {
+        MicrometerMetricsAdapter adapter = new MicrometerMetricsAdapter();
+
+        adapter.recordStreamOutstandingPeak(4096L);
+
+        assertNotNull(Metrics.globalRegistry.find("hello.stream.outstanding.peak").summary());
+    }
 }
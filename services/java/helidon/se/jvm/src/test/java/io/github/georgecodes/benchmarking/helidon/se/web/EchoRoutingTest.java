@@ -0,0 +1,49 @@
+package io.github.georgecodes.benchmarking.helidon.se.web;
+
+import io.github.georgecodes.benchmarking.helidon.se.application.EchoRequest;
+import io.github.georgecodes.benchmarking.helidon.se.application.EchoResponse;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/** Unit tests for {@link EchoRouting}. */
+class EchoRoutingTest {
+
+    @Test
+    void readBindsItemsInOrder() {
+        EchoRequest request = EchoRouting.read(parse(
+                "{\"items\":[{\"key\":\"1\",\"payload\":\"a\"},{\"key\":\"2\"}]}"));
+
+        assertEquals(List.of(new EchoRequest.Item("1", "a"), new EchoRequest.Item("2", null)), request.items());
+    }
+
+    @Test
+    void readRejectsMissingItemsAndKeys() {
+        assertThrows(IllegalArgumentException.class, () -> EchoRouting.read(parse("{}")));
+        assertThrows(IllegalArgumentException.class,
+                () -> EchoRouting.read(parse("{\"items\":[{\"payload\":\"a\"}]}")));
+    }
+
+    @Test
+    void writeRendersMissesAsNull() {
+        JsonObject json = EchoRouting.write(new EchoResponse(1, List.of(new EchoResponse.Item("1", "a", null))));
+
+        assertEquals(1, json.getInt("count"));
+        JsonObject item = json.getJsonArray("items").getJsonObject(0);
+        assertEquals("a", item.getString("payload"));
+        assertEquals(JsonValue.NULL, item.get("value"));
+    }
+
+    private static JsonObject parse(String json) {
+        try (var reader = Json.createReader(new StringReader(json))) {
+            return reader.readObject();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package io.github.georgecodes.benchmarking.helidon.se.web;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/** Unit tests for {@link FanoutRouting}. */
+class FanoutRoutingTest {
+
+    @Test
+    void writeKeepsBranchOrderAndMisses() {
+        assertEquals("[\"value-1\",null,\"value-2\"]",
+                FanoutRouting.write(Arrays.asList("value-1", null, "value-2")).toString());
+    }
+}
@@ -0,0 +1,93 @@
+package io.github.georgecodes.benchmarking.helidon.se.web;
+
+import io.github.georgecodes.benchmarking.helidon.se.application.HelloService;
+import io.github.georgecodes.benchmarking.helidon.se.application.LatencyProfile;
+import io.github.georgecodes.benchmarking.helidon.se.grpc.HelloReply;
+import io.github.georgecodes.benchmarking.helidon.se.grpc.HelloRequest;
+import io.github.georgecodes.benchmarking.helidon.se.grpc.StreamRequest;
+import io.github.georgecodes.benchmarking.helidon.se.infra.cache.CaffeineCacheAdapter;
+import io.github.georgecodes.benchmarking.helidon.se.infra.metrics.MicrometerMetricsAdapter;
+import io.github.georgecodes.benchmarking.helidon.se.infra.time.ThreadSleepAdapter;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** Unit tests for {@link HelloGrpcService}. */
+class HelloGrpcServiceTest {
+
+    private final HelloGrpcService service = new HelloGrpcService(
+            new HelloService(new CaffeineCacheAdapter(100), new MicrometerMetricsAdapter(), new ThreadSleepAdapter()),
+            LatencyProfile.constant());
+
+    @Test
+    void sayHelloRepliesWithCachedValue() {
+        RecordingObserver observer = new RecordingObserver();
+        service.sayHello(HelloRequest.newBuilder().setSleepMs(1).build(), observer);
+
+        assertNull(observer.error);
+        assertTrue(observer.completed);
+        assertEquals(List.of(HelloGrpcService.PREFIX + "value-1"), observer.messages());
+    }
+
+    @Test
+    void streamHelloSendsRequestedReplies() {
+        RecordingObserver observer = new RecordingObserver();
+        service.streamHello(StreamRequest.newBuilder().setN(3).build(), observer);
+
+        assertTrue(observer.completed);
+        assertEquals(List.of(0L, 1L, 2L), observer.replies.stream().map(HelloReply::getSeq).toList());
+    }
+
+    @Test
+    void streamHelloDefaultsToTenReplies() {
+        RecordingObserver observer = new RecordingObserver();
+        service.streamHello(StreamRequest.getDefaultInstance(), observer);
+
+        assertEquals(10, observer.replies.size());
+    }
+
+    @Test
+    void outOfRangeArgumentsEndWithInvalidArgument() {
+        RecordingObserver unary = new RecordingObserver();
+        service.sayHello(HelloRequest.newBuilder().setWork(-1).build(), unary);
+        RecordingObserver stream = new RecordingObserver();
+        service.streamHello(StreamRequest.newBuilder().setIntervalMs(-1).build(), stream);
+
+        assertEquals(Status.Code.INVALID_ARGUMENT, Status.fromThrowable(unary.error).getCode());
+        assertEquals(Status.Code.INVALID_ARGUMENT, Status.fromThrowable(stream.error).getCode());
+        assertEquals(List.of(), stream.replies);
+    }
+
+    private static final class RecordingObserver implements StreamObserver<HelloReply> {
+
+        private final List<HelloReply> replies = new ArrayList<>();
+        private Throwable error;
+        private boolean completed;
+
+        @Override
+        public void onNext(HelloReply value) {
+            replies.add(value);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            error = t;
+        }
+
+        @Override
+        public void onCompleted() {
+            completed = true;
+        }
+
+        List<String> messages() {
+            return replies.stream().map(HelloReply::getMessage).toList();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.georgecodes.benchmarking.helidon.se.web;
+
+import io.github.georgecodes.benchmarking.helidon.se.application.port.HelloMode;
+import io.github.georgecodes.benchmarking.helidon.se.infra.cache.OffHeapCacheAdapter;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PreEncodedResponseTest {
+
+    @Test
+    void bodyMatchesDynamicEncoding() {
+        PreEncodedResponse preEncoded = new PreEncodedResponse(HelloMode.VIRTUAL);
+
+        byte[] body = preEncoded.body("value-1");
+
+        assertEquals("\"Hello from Helidon SE virtual REST value-1\"", new String(body, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void bodyIsReusedForEqualValue() {
+        PreEncodedResponse preEncoded = new PreEncodedResponse(HelloMode.VIRTUAL);
+
+        assertSame(preEncoded.body("value-1"), preEncoded.body(new String("value-1")));
+    }
+
+    @Test
+    void bodyIsReusedAcrossOffHeapHits() {
+        OffHeapCacheAdapter cache = new OffHeapCacheAdapter(5);
+        PreEncodedResponse preEncoded = new PreEncodedResponse(HelloMode.VIRTUAL);
+        String first = cache.getIfPresent("1");
+        String second = cache.getIfPresent("1");
+
+        assertNotSame(first, second);
+        assertSame(preEncoded.body(first), preEncoded.body(second));
+    }
+
+    @Test
+    void bodyIsKeptPerValue() {
+        PreEncodedResponse preEncoded = new PreEncodedResponse(HelloMode.VIRTUAL);
+        byte[] first = preEncoded.body("value-1");
+
+        preEncoded.body("value-2");
+
+        assertSame(first, preEncoded.body("value-1"));
+    }
+
+    @Test
+    void bodyIsBuiltPerValue() {
+        PreEncodedResponse preEncoded = new PreEncodedResponse(HelloMode.VIRTUAL);
+        byte[] first = preEncoded.body("value-1");
+
+        byte[] second = preEncoded.body("updated");
+
+        assertNotSame(first, second);
+        assertEquals("\"Hello from Helidon SE virtual REST updated\"", new String(second, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void responseEncodingParsesKnownValues() {
+        assertEquals(ResponseEncoding.DYNAMIC, ResponseEncoding.parse(null));
+        assertEquals(ResponseEncoding.DYNAMIC, ResponseEncoding.parse(" dynamic "));
+        assertEquals(ResponseEncoding.PRE_ENCODED, ResponseEncoding.parse("pre-encoded"));
+        assertThrows(IllegalArgumentException.class, () -> ResponseEncoding.parse("gzip"));
+    }
+}
@@ -2,8 +2,10 @@ package io.github.georgecodes.benchmarking.javalin;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import io.github.georgecodes.benchmarking.javalin.config.ServiceConfig;
+import io.github.georgecodes.benchmarking.javalin.domain.CacheKeySelector;
 import io.github.georgecodes.benchmarking.javalin.domain.HelloService;
 import io.github.georgecodes.benchmarking.javalin.infra.CacheProvider;
+import io.github.georgecodes.benchmarking.javalin.infra.CacheWarmer;
 import io.github.georgecodes.benchmarking.javalin.infra.MetricsProvider;
 import io.github.georgecodes.benchmarking.javalin.web.HelloRoutes;
 import io.javalin.Javalin;
@@ -38,8 +40,14 @@ public final class JavalinApplication {
         ServiceConfig config = ServiceConfig.fromEnvironment();
 
         MeterRegistry meterRegistry = MetricsProvider.bindToGlobal();
-        Cache<@NonNull String, String> cache = CacheProvider.create(config.cacheSize());
-        HelloService helloService = new HelloService(cache);
+        Cache<@NonNull String, String> cache =
+            CacheProvider.create(config.cacheSize(), CacheWarmer.parse(config.cacheWarmup()));
+        CacheKeySelector keySelector =
+            CacheKeySelector.parse(config.cacheAccessPattern(), config.resolvedCacheKeySpace());
+        HelloService helloService = new HelloService(cache, keySelector);
+        MetricsProvider.registerCacheMissCounter(meterRegistry, helloService);
+        MetricsProvider.registerWorkCpuTimer(meterRegistry, helloService);
+        LOG.info("CACHE_ACCESS_PATTERN={}", keySelector);
 
         ExecutorService executor = createHandlerExecutor(config);
         Runtime.getRuntime().addShutdownHook(new Thread(executor::close, "executor-shutdown"));
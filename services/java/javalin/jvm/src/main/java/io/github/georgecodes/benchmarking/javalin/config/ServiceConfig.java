@@ -1,6 +1,7 @@
 package io.github.georgecodes.benchmarking.javalin.config;
 
 import java.util.Locale;
+import java.util.Objects;
 
 /**
  * Centralized service configuration (env-driven).
@@ -14,6 +15,10 @@ import java.util.Locale;
  * @param jettyIdleTimeoutMs Jetty idle timeout in milliseconds
  * @param handlerExecutionMode whether handlers run direct or are offloaded
  * @param platformExecutorThreads platform executor size when offloading (0 means computed)
+ * @param cacheAccessPattern cache key workload spec, e.g. {@code zipfian:0.99} (blank means fixed key)
+ * @param cacheKeySpace number of distinct keys requested (0 means the cache size)
+ * @param cacheWarmup   cache warm-up spec: {@code parallel} or {@code snapshot:<path>} (blank means sequential)
+ * @param latencyProfile injected-latency distribution spec, e.g. {@code lognormal:1.0} (blank means constant)
  */
 public record ServiceConfig(
     int port,
@@ -24,7 +29,11 @@ public record ServiceConfig(
     int jettyAcceptQueueSize,
     long jettyIdleTimeoutMs,
     HandlerExecutionMode handlerExecutionMode,
-    int platformExecutorThreads
+    int platformExecutorThreads,
+    String cacheAccessPattern,
+    long cacheKeySpace,
+    String cacheWarmup,
+    String latencyProfile
 ) {
 
     public enum ThreadMode {
@@ -80,6 +89,11 @@ public record ServiceConfig(
             getEnv("JAVALIN_HANDLER_EXECUTION_MODE"));
         int platformExecutorThreads = parseInt(getEnv("JAVALIN_PLATFORM_EXECUTOR_THREADS"), 0);
 
+        String cacheAccessPattern = Objects.requireNonNullElse(getEnv("CACHE_ACCESS_PATTERN"), "");
+        long cacheKeySpace = parseLong(getEnv("CACHE_KEY_SPACE"), 0L);
+        String cacheWarmup = Objects.requireNonNullElse(getEnv("CACHE_WARMUP"), "");
+        String latencyProfile = Objects.requireNonNullElse(getEnv("LATENCY_PROFILE"), "");
+
         return new ServiceConfig(
             port,
             mode,
@@ -89,10 +103,23 @@ public record ServiceConfig(
             acceptQueueSize,
             idleTimeoutMs,
             handlerExecutionMode,
-            platformExecutorThreads
+            platformExecutorThreads,
+            cacheAccessPattern,
+            cacheKeySpace,
+            cacheWarmup,
+            latencyProfile
         );
     }
 
+    /**
+     * Resolves the effective cache key space.
+     *
+     * @return {@code cacheKeySpace} when positive, otherwise {@code cacheSize}
+     */
+    public long resolvedCacheKeySpace() {
+        return cacheKeySpace > 0 ? cacheKeySpace : cacheSize;
+    }
+
     private static String getEnv(String key) {
         return System.getenv(key);
     }
@@ -0,0 +1,107 @@
+package io.github.georgecodes.benchmarking.javalin.domain;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Deterministic CPU-bound task behind the {@code work} query parameter: SHA-256 over {@code work} KiB
+ * of fixed input, run on whichever thread serves the request (platform, virtual or event loop).
+ *
+ * <p>The digest is folded into a checksum that the JIT must compute to evaluate a (practically never
+ * taken) store into {@link #sink}, so the hashing loop cannot be eliminated as dead code.
+ * CPU time is read from {@link ThreadMXBean}; where the JVM cannot report it for the current thread
+ * (e.g. virtual threads) elapsed time is used instead, which matches for a task that never blocks.
+ */
+public final class CpuWork {
+
+    /** Upper bound for {@code work}: 64 MiB hashed per request. */
+    public static final int MAX_KILOBYTES = 65_536;
+
+    /** One KiB of fixed input, hashed once per unit of work. */
+    private static final byte[] BLOCK = block();
+
+    /** Source of per-thread CPU time. */
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    /** Whether the JVM can report CPU time for the current thread at all. */
+    private static final boolean CPU_TIME_SUPPORTED = THREADS.isCurrentThreadCpuTimeSupported();
+
+    /** Keeps the checksum observable; see the class comment. */
+    @SuppressWarnings("unused")
+    private static volatile long sink;
+
+    private CpuWork() {
+    }
+
+    /**
+     * Validates a requested amount of work, so callers can reject it before sleeping or handing it off.
+     *
+     * @param kilobytes requested amount of input to hash
+     * @return {@code kilobytes}
+     * @throws IllegalArgumentException if {@code kilobytes} is negative or above {@link #MAX_KILOBYTES}
+     */
+    public static int checkKilobytes(int kilobytes) {
+        if (kilobytes < 0 || kilobytes > MAX_KILOBYTES) {
+            throw new IllegalArgumentException("work must be between 0 and " + MAX_KILOBYTES + " KiB: " + kilobytes);
+        }
+        return kilobytes;
+    }
+
+    /**
+     * Hashes {@code kilobytes} KiB on the calling thread.
+     *
+     * @param kilobytes amount of input to hash, {@code 0} for none
+     * @return CPU time spent in nanoseconds, {@code 0} when there was nothing to do
+     * @throws IllegalArgumentException if {@code kilobytes} is negative or above {@link #MAX_KILOBYTES}
+     */
+    public static long run(int kilobytes) {
+        if (checkKilobytes(kilobytes) == 0) {
+            return 0L;
+        }
+        long cpuStart = currentThreadCpuTime();
+        long wallStart = System.nanoTime();
+        long checksum = checksum(kilobytes);
+        if (checksum == Long.MIN_VALUE) {
+            sink = checksum;
+        }
+        long cpuEnd = currentThreadCpuTime();
+        return cpuStart >= 0 && cpuEnd >= 0 ? cpuEnd - cpuStart : System.nanoTime() - wallStart;
+    }
+
+    /**
+     * Computes the SHA-256 of {@code kilobytes} KiB of fixed input, folded to its first 8 bytes.
+     *
+     * @param kilobytes amount of input to hash
+     * @return the folded digest; identical for identical {@code kilobytes}
+     */
+    static long checksum(int kilobytes) {
+        MessageDigest digest = sha256();
+        for (int i = 0; i < kilobytes; i++) {
+            digest.update(BLOCK);
+        }
+        return ByteBuffer.wrap(digest.digest()).getLong();
+    }
+
+    private static long currentThreadCpuTime() {
+        return CPU_TIME_SUPPORTED ? THREADS.getCurrentThreadCpuTime() : -1L;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static byte[] block() {
+        byte[] block = new byte[1024];
+        for (int i = 0; i < block.length; i++) {
+            block[i] = (byte) (i * 31 + 7);
+        }
+        return block;
+    }
+}
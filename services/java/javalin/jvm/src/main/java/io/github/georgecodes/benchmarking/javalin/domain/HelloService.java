@@ -3,6 +3,9 @@ package io.github.georgecodes.benchmarking.javalin.domain;
 import com.github.benmanes.caffeine.cache.Cache;
 import org.jspecify.annotations.NonNull;
 
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
 /**
  * Pure "business" logic for the hello endpoints.
  */
@@ -11,15 +14,91 @@ public final class HelloService {
     /** Cache used to simulate typical service lookups and memory access patterns. */
     private final Cache<@NonNull String, String> cache;
 
+    /** Chooses the cache key for each request. */
+    private final CacheKeySelector keySelector;
+
+    /** Lookups that found no entry. */
+    private final LongAdder cacheMisses = new LongAdder();
+
+    /** Requests that asked for CPU {@code work}. */
+    private final LongAdder workRequests = new LongAdder();
+
+    /** CPU time spent on requested {@code work}, in nanoseconds. */
+    private final LongAdder workCpuNanos = new LongAdder();
+
     public HelloService(Cache<@NonNull String, String> cache) {
+        this(cache, CacheKeySelector.fixed());
+    }
+
+    public HelloService(Cache<@NonNull String, String> cache, CacheKeySelector keySelector) {
         this.cache = cache;
+        this.keySelector = Objects.requireNonNull(keySelector, "keySelector");
     }
 
-    public String handle(String prefix, int sleepSeconds) throws InterruptedException {
-        if (sleepSeconds > 0) {
-            Thread.sleep(sleepSeconds * 1000L);
+    public String handle(String prefix, long sleepMillis) throws InterruptedException {
+        return handle(prefix, sleepMillis, 0);
+    }
+
+    /**
+     * Sleeps for {@code sleepMillis}, burns {@code work} KiB of CPU work and looks up the cached value.
+     *
+     * @param prefix      response prefix
+     * @param sleepMillis optional sleep before the lookup, {@code 0} for none
+     * @param work        CPU work in KiB (see {@link CpuWork}), {@code 0} for none
+     * @return the response body
+     * @throws InterruptedException if the sleep is interrupted
+     */
+    public String handle(String prefix, long sleepMillis, int work) throws InterruptedException {
+        if (sleepMillis > 0) {
+            Thread.sleep(sleepMillis);
+        }
+        work(work);
+        String v = cache.getIfPresent(keySelector.nextKey());
+        if (v == null) {
+            cacheMisses.increment();
         }
-        String v = cache.getIfPresent("1");
         return prefix + v;
     }
+
+    /**
+     * Returns the number of lookups that found no entry since startup.
+     *
+     * @return cumulative cache misses
+     */
+    public long cacheMisses() {
+        return cacheMisses.sum();
+    }
+
+    /**
+     * Burns {@code kilobytes} KiB of deterministic CPU work on the calling thread (see {@link CpuWork})
+     * and records the CPU time it took.
+     *
+     * @param kilobytes amount of work, {@code 0} for none
+     * @throws IllegalArgumentException if {@code kilobytes} is out of range
+     */
+    public void work(int kilobytes) {
+        long cpuNanos = CpuWork.run(kilobytes);
+        if (kilobytes > 0) {
+            workRequests.increment();
+            workCpuNanos.add(cpuNanos);
+        }
+    }
+
+    /**
+     * Returns the number of requests that performed CPU work since startup.
+     *
+     * @return cumulative work requests
+     */
+    public long workRequests() {
+        return workRequests.sum();
+    }
+
+    /**
+     * Returns the CPU time spent on requested work since startup.
+     *
+     * @return cumulative CPU time in nanoseconds
+     */
+    public long workCpuNanos() {
+        return workCpuNanos.sum();
+    }
 }
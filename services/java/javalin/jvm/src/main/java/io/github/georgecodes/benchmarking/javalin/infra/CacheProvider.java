@@ -2,6 +2,7 @@ package io.github.georgecodes.benchmarking.javalin.infra;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Metrics;
 import org.jspecify.annotations.NonNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,14 +20,29 @@ public final class CacheProvider {
     private CacheProvider() {
     }
 
+    /**
+     * Creates a Caffeine cache with the given size, pre-populated sequentially.
+     *
+     * @param cacheSize the maximum number of entries
+     * @return a fully populated cache
+     */
     public static Cache<@NonNull String, String> create(long cacheSize) {
+        return create(cacheSize, CacheWarmer.parse(null));
+    }
+
+    /**
+     * Creates a Caffeine cache with the given size, pre-populated by {@code warmer}.
+     *
+     * @param cacheSize the maximum number of entries
+     * @param warmer    warm-up strategy (env {@code CACHE_WARMUP})
+     * @return a fully populated cache
+     */
+    public static Cache<@NonNull String, String> create(long cacheSize, CacheWarmer warmer) {
         Cache<@NonNull String, String> cache = Caffeine.newBuilder()
             .maximumSize(cacheSize)
             .expireAfterWrite(Duration.ofDays(1))
             .build();
-        for (long i = cacheSize; i > 0; i--) {
-            cache.put(String.valueOf(i), "value-" + i);
-        }
+        warmer.warmUp(cache, cacheSize, Metrics.globalRegistry);
         LOG.info("Cache size: {}", cache.asMap().size());
         return cache;
     }
@@ -2,6 +2,7 @@ package io.github.georgecodes.benchmarking.javalin.web;
 
 import io.github.georgecodes.benchmarking.javalin.config.ServiceConfig;
 import io.github.georgecodes.benchmarking.javalin.domain.HelloService;
+import io.github.georgecodes.benchmarking.javalin.domain.LatencyProfile;
 import io.javalin.config.RoutesConfig;
 import io.javalin.http.Context;
 import io.javalin.http.HttpStatus;
@@ -28,6 +29,8 @@ public final class HelloRoutes {
     private final ExecutorService executor;
     /** Pure domain logic for hello responses. */
     private final HelloService helloService;
+    /** Distribution applied to the requested sleep unless the request overrides it. */
+    private final LatencyProfile latencyProfile;
 
     /** Minimal metrics boundary for the web layer. */
     private interface HelloMetrics {
@@ -53,14 +56,17 @@ public final class HelloRoutes {
     /**
      * Parsed request params for /hello endpoints.
      *
-     * @param sleepSeconds optional sleep duration in seconds (0 = no sleep)
+     * @param sleepMillis optional sleep in milliseconds, sampled from the latency profile (0 = no sleep)
+     * @param work CPU work in KiB hashed after the sleep (0 = none)
      * @param log whether to log thread information for the request
      */
-    private record HelloParams(int sleepSeconds, boolean log) {
-        static HelloParams from(Context ctx) {
-            int sleepSeconds = parseInt(ctx.queryParam("sleep"));
+    private record HelloParams(long sleepMillis, int work, boolean log) {
+        static HelloParams from(Context ctx, LatencyProfile latencyProfile) {
+            long baseMillis = parseInt(ctx.queryParam("sleep")) * 1000L + parseLong(ctx.queryParam("sleepMs"));
+            long sleepMillis = latencyProfile.override(ctx.queryParam("latency")).sampleMillis(baseMillis);
+            int work = parseInt(ctx.queryParam("work"));
             boolean log = parseBoolean(ctx.queryParam("log"));
-            return new HelloParams(sleepSeconds, log);
+            return new HelloParams(sleepMillis, work, log);
         }
     }
 
@@ -76,6 +82,8 @@ public final class HelloRoutes {
         this.config = Objects.requireNonNull(config, "config");
         this.executor = Objects.requireNonNull(executor, "executor");
         this.helloService = Objects.requireNonNull(helloService, "helloService");
+        this.latencyProfile = LatencyProfile.parse(config.latencyProfile());
+        LOG.info("LATENCY_PROFILE={}", latencyProfile);
 
         Objects.requireNonNull(meterRegistry, "meterRegistry");
 
@@ -110,17 +118,17 @@ public final class HelloRoutes {
     private void registerPlatform(RoutesConfig routes) {
         routes.get("/hello/platform", ctx -> {
             metrics.incrementHello();
-            HelloParams params = HelloParams.from(ctx);
+            HelloParams params = HelloParams.from(ctx, latencyProfile);
 
             if (config.handlerExecutionMode() == ServiceConfig.HandlerExecutionMode.DIRECT) {
                 logThread(params, "platform");
-                ctx.json(helloService.handle("Hello from Javalin platform REST ", params.sleepSeconds()));
+                ctx.json(helloService.handle("Hello from Javalin platform REST ", params.sleepMillis(), params.work()));
                 return;
             }
 
             ctx.json(submitAndJoin(() -> {
                 logThread(params, "platform");
-                return helloService.handle("Hello from Javalin platform REST ", params.sleepSeconds());
+                return helloService.handle("Hello from Javalin platform REST ", params.sleepMillis(), params.work());
             }));
         });
     }
@@ -128,17 +136,17 @@ public final class HelloRoutes {
     private void registerVirtual(RoutesConfig routes) {
         routes.get("/hello/virtual", ctx -> {
             metrics.incrementHello();
-            HelloParams params = HelloParams.from(ctx);
+            HelloParams params = HelloParams.from(ctx, latencyProfile);
 
             if (config.handlerExecutionMode() == ServiceConfig.HandlerExecutionMode.DIRECT) {
                 logThread(params, "virtual");
-                ctx.json(helloService.handle("Hello from Javalin virtual REST ", params.sleepSeconds()));
+                ctx.json(helloService.handle("Hello from Javalin virtual REST ", params.sleepMillis(), params.work()));
                 return;
             }
 
             ctx.json(submitAndJoin(() -> {
                 logThread(params, "virtual");
-                return helloService.handle("Hello from Javalin virtual REST ", params.sleepSeconds());
+                return helloService.handle("Hello from Javalin virtual REST ", params.sleepMillis(), params.work());
             }));
         });
     }
@@ -175,6 +183,13 @@ public final class HelloRoutes {
         return Integer.parseInt(value.trim());
     }
 
+    private static long parseLong(String value) {
+        if (value == null || value.isBlank()) {
+            return 0L;
+        }
+        return Long.parseLong(value.trim());
+    }
+
     private static boolean parseBoolean(String value) {
         return Boolean.parseBoolean(value);
     }
@@ -158,7 +158,7 @@ class HelloRoutesTest {
         );
 
         try {
-            HttpResponse<String> response = get(app, "/hello/platform?log=true&sleep=0");
+            HttpResponse<String> response = get(app, "/hello/platform?log=true&sleep=0&sleepMs=5");
 
             assertEquals(200, response.statusCode());
             assertEquals("Hello from Javalin platform REST value-1", response.body());
@@ -173,6 +173,27 @@ class HelloRoutesTest {
         }
     }
 
+    @Test
+    void platformEndpointBurnsRequestedCpuWork() throws Exception {
+        HelloService helloService = new HelloService(CacheProvider.create(10));
+        Javalin app = startApp(
+            config(ThreadMode.PLATFORM, HandlerExecutionMode.OFFLOAD),
+            newExecutor(),
+            helloService,
+            new SimpleMeterRegistry()
+        );
+
+        try {
+            HttpResponse<String> response = get(app, "/hello/platform?work=16");
+
+            assertEquals(200, response.statusCode());
+            assertEquals("Hello from Javalin platform REST value-1", response.body());
+            assertEquals(1, helloService.workRequests());
+        } finally {
+            app.stop();
+        }
+    }
+
     @Test
     void virtualEndpointReturnsResponseAndIncrementsCounter() throws Exception {
         MeterRegistry meterRegistry = new SimpleMeterRegistry();
@@ -288,7 +309,7 @@ class HelloRoutesTest {
     }
 
     private ServiceConfig config(ThreadMode threadMode, HandlerExecutionMode handlerExecutionMode) {
-        return new ServiceConfig(8080, threadMode, 100, 0, 0, 10000, 60000L, handlerExecutionMode, 0);
+        return new ServiceConfig(8080, threadMode, 100, 0, 0, 10000, 60000L, handlerExecutionMode, 0, "", 0L, "", "");
     }
 
     private ExecutorService newExecutor() {
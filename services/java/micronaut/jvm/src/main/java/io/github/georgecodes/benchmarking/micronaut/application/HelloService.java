@@ -5,17 +5,17 @@ import io.github.georgecodes.benchmarking.micronaut.application.port.HelloMode;
 import io.github.georgecodes.benchmarking.micronaut.application.port.MetricsPort;
 import io.github.georgecodes.benchmarking.micronaut.application.port.SleepPort;
 import io.github.georgecodes.benchmarking.micronaut.application.port.TimeUnit;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
+import java.util.Objects;
+
 /**
  * MicronautApplication/use-case layer.
  */
 @Singleton
 public class HelloService {
 
-    /** Cache lookup key (fixed value to minimize work during benchmarking). */
-    private static final String CACHE_KEY = "1";
-
     /** Fixed response prefix to reduce repeated string constant concatenations. */
     private static final String RESPONSE_PREFIX = "Hello from Micronaut ";
     /** Fixed response infix to reduce repeated string constant concatenations. */
@@ -27,23 +27,66 @@ public class HelloService {
     private final MetricsPort metricsPort;
     /** Sleep port used to simulate latency when requested. */
     private final SleepPort sleepPort;
+    /** Chooses the cache key for each request (see {@link CacheAccessPattern}). */
+    private final CacheKeySelector keySelector;
 
     public HelloService(CachePort cachePort, MetricsPort metricsPort, SleepPort sleepPort) {
+        this(cachePort, metricsPort, sleepPort, CacheKeySelector.fixed());
+    }
+
+    @Inject
+    public HelloService(CachePort cachePort, MetricsPort metricsPort, SleepPort sleepPort,
+                        CacheKeySelector keySelector) {
         this.cachePort = cachePort;
         this.metricsPort = metricsPort;
         this.sleepPort = sleepPort;
+        this.keySelector = Objects.requireNonNull(keySelector, "keySelector");
     }
 
     public String hello(HelloMode mode, int sleepSeconds) {
+        return hello(mode, sleepSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Serves a hello request after blocking the calling thread for {@code sleep}.
+     * Reactive callers pass {@code 0} and delay with a timer instead.
+     *
+     * @param mode  endpoint mode
+     * @param sleep optional sleep before the lookup, {@code 0} for none
+     * @param unit  unit of {@code sleep}
+     * @return response body
+     */
+    public String hello(HelloMode mode, long sleep, TimeUnit unit) {
+        return hello(mode, sleep, unit, 0);
+    }
+
+    /**
+     * Same as {@link #hello(HelloMode, long, TimeUnit)}, burning {@code work} KiB of CPU work
+     * (see {@link CpuWork}) on the calling thread between the sleep and the lookup.
+     *
+     * @param mode  endpoint mode
+     * @param sleep optional sleep before the lookup, {@code 0} for none
+     * @param unit  unit of {@code sleep}
+     * @param work  CPU work in KiB, {@code 0} for none
+     * @return response body
+     */
+    public String hello(HelloMode mode, long sleep, TimeUnit unit, int work) {
         metricsPort.incrementHelloRequest(mode.endpointTag());
-        if (sleepSeconds > 0) {
+        if (sleep > 0) {
             try {
-                sleepPort.sleep(sleepSeconds, TimeUnit.SECONDS);
+                sleepPort.sleep(sleep, unit);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
             }
         }
-        String v = cachePort.getIfPresent(CACHE_KEY);
+        long cpuNanos = CpuWork.run(work);
+        if (work > 0) {
+            metricsPort.recordWorkCpuTime(cpuNanos);
+        }
+        String v = cachePort.getIfPresent(keySelector.nextKey());
+        if (v == null) {
+            metricsPort.incrementCacheMiss();
+        }
         return RESPONSE_PREFIX + mode.label() + RESPONSE_INFIX + v;
     }
 }
\ No newline at end of file
@@ -4,6 +4,26 @@ package io.github.georgecodes.benchmarking.micronaut.application.port;
  * Minimal time units used by {@link SleepPort}.
  */
 public enum TimeUnit {
+    /** Milliseconds unit. */
+    MILLISECONDS {
+        @Override
+        public long toMillis(long duration) {
+            return duration;
+        }
+    },
     /** Seconds unit. */
-    SECONDS
-}
\ No newline at end of file
+    SECONDS {
+        @Override
+        public long toMillis(long duration) {
+            return duration * 1_000L;
+        }
+    };
+
+    /**
+     * Converts the given duration in this unit to milliseconds.
+     *
+     * @param duration the duration value
+     * @return equivalent duration in milliseconds
+     */
+    public abstract long toMillis(long duration);
+}
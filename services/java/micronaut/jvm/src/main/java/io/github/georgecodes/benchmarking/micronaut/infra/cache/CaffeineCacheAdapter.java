@@ -2,8 +2,11 @@ package io.github.georgecodes.benchmarking.micronaut.infra.cache;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.georgecodes.benchmarking.micronaut.application.CacheKeySelector;
 import io.github.georgecodes.benchmarking.micronaut.application.port.CachePort;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Requires;
 import io.micronaut.context.annotation.Value;
 import jakarta.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
@@ -13,6 +16,7 @@ import org.jspecify.annotations.Nullable;
 import java.time.Duration;
 
 @Singleton
+@Requires(property = "benchmark.cache.impl", notEquals = OffHeapCacheAdapter.IMPL_NAME)
 @Slf4j
 public final class CaffeineCacheAdapter implements CachePort {
 
@@ -42,7 +46,9 @@ public final class CaffeineCacheAdapter implements CachePort {
 
         @Singleton
         Cache<String, String> helloCache(
-            @Value("${benchmark.cache.size:" + DEFAULT_CACHE_SIZE + "}") int configuredCacheSize
+            @Value("${benchmark.cache.size:" + DEFAULT_CACHE_SIZE + "}") int configuredCacheSize,
+            @Value("${benchmark.cache.warmup:sequential}") String cacheWarmup,
+            MeterRegistry meterRegistry
         ) {
             int cacheSize = clampCacheSize(configuredCacheSize);
             log.info("CACHE_SIZE: {}", cacheSize);
@@ -50,12 +56,23 @@ public final class CaffeineCacheAdapter implements CachePort {
                 .maximumSize(cacheSize)
                 .expireAfterWrite(Duration.ofDays(1))
                 .build();
-            for (int i = cacheSize; i > 0; i--) {
-                cache.put(String.valueOf(i), "value-" + i);
-            }
+            CacheWarmer.parse(cacheWarmup).warmUp(cache, cacheSize, meterRegistry);
             return cache;
         }
 
+        @Singleton
+        CacheKeySelector cacheKeySelector(
+            @Value("${benchmark.cache.access-pattern:fixed}") String accessPattern,
+            @Value("${benchmark.cache.key-space:0}") long keySpace,
+            @Value("${benchmark.cache.size:" + DEFAULT_CACHE_SIZE + "}") int configuredCacheSize
+        ) {
+            // Key space defaults to the effective cache size so every key is initially a hit.
+            long keys = keySpace > 0 ? keySpace : clampCacheSize(configuredCacheSize);
+            CacheKeySelector selector = CacheKeySelector.parse(accessPattern, keys);
+            log.info("CACHE_ACCESS_PATTERN: {}", selector);
+            return selector;
+        }
+
         private static int clampCacheSize(int value) {
             if (value < MIN_CACHE_SIZE) {
                 return DEFAULT_CACHE_SIZE;
@@ -3,10 +3,12 @@ package io.github.georgecodes.benchmarking.micronaut.infra.metrics;
 import io.github.georgecodes.benchmarking.micronaut.application.port.MetricsPort;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Singleton;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
 @SuppressWarnings("unused")
 @Singleton
@@ -16,6 +18,22 @@ public final class MicrometerMetricsAdapter implements MetricsPort {
     private final ConcurrentMap<String, Counter> countersByEndpoint =
         new ConcurrentHashMap<>(HelloModeCount.EXPECTED_SIZE);
 
+    /** Hello cache lookups that found no entry. */
+    private final Counter cacheMissCounter = Counter.builder("hello.cache.miss.count")
+        .description("Hello cache lookups that found no entry")
+        .register(Metrics.globalRegistry);
+
+    /** CPU time spent on the {@code work} query parameter. */
+    private final Timer workCpuTimer = Timer.builder("hello.work.cpu.time")
+        .description("CPU time spent on the work query parameter")
+        .register(Metrics.globalRegistry);
+
+    /** Request body bytes of {@code /hello/echo}. */
+    private final Counter echoRequestBytes = Counter.builder("hello.echo.request.bytes")
+        .description("Request body bytes received by the echo endpoint")
+        .baseUnit("bytes")
+        .register(Metrics.globalRegistry);
+
     @Override
     public void incrementHelloRequest(String endpointTag) {
         countersByEndpoint
@@ -26,6 +44,21 @@ public final class MicrometerMetricsAdapter implements MetricsPort {
             .increment();
     }
 
+    @Override
+    public void incrementCacheMiss() {
+        cacheMissCounter.increment();
+    }
+
+    @Override
+    public void recordWorkCpuTime(long cpuNanos) {
+        workCpuTimer.record(cpuNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordEchoRequestBytes(long bytes) {
+        echoRequestBytes.increment(bytes);
+    }
+
     /** Small constant holder to avoid magic numbers and keep class init cheap. */
     private static final class HelloModeCount {
         /** Number of endpoint tags expected (platform/virtual/virtual-event-loop/reactive). */
@@ -0,0 +1,23 @@
+package io.github.georgecodes.benchmarking.micronaut.infra.time;
+
+import io.github.georgecodes.benchmarking.micronaut.application.LatencyProfile;
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Value;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Turns {@code benchmark.latency.profile} (env {@code LATENCY_PROFILE}) into the {@link LatencyProfile}
+ * applied to the injected request delay.
+ */
+@Factory
+@Slf4j
+public class LatencyProfileFactory {
+
+    @Singleton
+    LatencyProfile latencyProfile(@Value("${benchmark.latency.profile:constant}") String spec) {
+        LatencyProfile profile = LatencyProfile.parse(spec);
+        log.info("LATENCY_PROFILE: {}", profile);
+        return profile;
+    }
+}
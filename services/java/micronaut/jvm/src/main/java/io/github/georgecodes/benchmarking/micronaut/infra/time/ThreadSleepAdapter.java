@@ -9,9 +9,9 @@ public final class ThreadSleepAdapter implements SleepPort {
 
     @Override
     public void sleep(long duration, TimeUnit unit) throws InterruptedException {
-        if (unit != TimeUnit.SECONDS) {
-            throw new IllegalArgumentException("Unsupported unit: " + unit);
+        if (unit == null) {
+            throw new IllegalArgumentException("Unsupported unit: null");
         }
-        Thread.sleep(duration * 1000L);
+        Thread.sleep(unit.toMillis(duration));
     }
 }
\ No newline at end of file
@@ -0,0 +1,86 @@
+package io.github.georgecodes.benchmarking.micronaut.infra.transport;
+
+import io.micronaut.context.annotation.Value;
+import io.micronaut.context.event.ApplicationEventListener;
+import io.micronaut.runtime.server.event.ServerStartupEvent;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.IoEventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollIoHandler;
+import io.netty.channel.nio.NioIoHandler;
+import io.netty.channel.uring.IoUring;
+import io.netty.channel.uring.IoUringIoHandler;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Locale;
+
+/**
+ * Logs the Netty transport the default event loops run on (env {@code IO_TRANSPORT}).
+ *
+ * <p>Micronaut takes the first available entry of {@code micronaut.netty.event-loops.default.transport}, which
+ * is {@code IO_TRANSPORT} followed by {@code epoll} and {@code nio}; the fallback is silent, so this listener
+ * reports it together with the cause.
+ */
+@Singleton
+@Slf4j
+public final class TransportLogger implements ApplicationEventListener<ServerStartupEvent> {
+
+    /** Default event loop group of the server and the HTTP client. */
+    private final EventLoopGroup eventLoopGroup;
+
+    /** Requested transport. */
+    private final String requested;
+
+    /**
+     * Creates the listener.
+     *
+     * @param eventLoopGroup the default event loop group
+     * @param requested      requested transport, {@code epoll}, {@code io_uring} or {@code nio}
+     */
+    public TransportLogger(EventLoopGroup eventLoopGroup,
+                           @Value("${benchmark.io.transport:epoll}") String requested) {
+        this.eventLoopGroup = eventLoopGroup;
+        this.requested = requested.trim().toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public void onApplicationEvent(ServerStartupEvent event) {
+        String actual = transportOf(eventLoopGroup);
+        if (actual.equals(requested)) {
+            log.info("IO_TRANSPORT={} using {}", requested, actual);
+        } else {
+            log.warn("IO_TRANSPORT={} unavailable, using {}: {}", requested, actual,
+                String.valueOf(unavailabilityCause(requested)));
+        }
+    }
+
+    /**
+     * Names the transport of an event loop group.
+     *
+     * @param group event loop group
+     * @return {@code io_uring}, {@code epoll}, {@code nio} or the group's class name for other groups
+     */
+    static String transportOf(EventLoopGroup group) {
+        if (group instanceof IoEventLoopGroup ioGroup) {
+            if (ioGroup.isIoType(IoUringIoHandler.class)) {
+                return "io_uring";
+            }
+            if (ioGroup.isIoType(EpollIoHandler.class)) {
+                return "epoll";
+            }
+            if (ioGroup.isIoType(NioIoHandler.class)) {
+                return "nio";
+            }
+        }
+        return group.getClass().getSimpleName();
+    }
+
+    private static Throwable unavailabilityCause(String transport) {
+        return switch (transport) {
+            case "io_uring" -> IoUring.unavailabilityCause();
+            case "epoll" -> Epoll.unavailabilityCause();
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.georgecodes.benchmarking.micronaut.web;
+
+import io.github.georgecodes.benchmarking.micronaut.application.EchoRequest;
+import io.github.georgecodes.benchmarking.micronaut.application.EchoResponse;
+import io.github.georgecodes.benchmarking.micronaut.application.EchoService;
+import io.micronaut.core.annotation.NonBlocking;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.annotation.Body;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Post;
+
+/**
+ * JSON request-body endpoint, sharing the {@code /hello} prefix with {@link HelloController}.
+ * Binding, the per-item cache lookups and serialisation all stay on the event loop.
+ */
+@Controller("/hello")
+public class EchoController {
+
+    /** Use-case service behind the endpoint. */
+    private final EchoService echoService;
+
+    public EchoController(EchoService echoService) {
+        this.echoService = echoService;
+    }
+
+    /**
+     * Echoes every request item with the cached value of its key.
+     *
+     * @param body    request body bound by Jackson through the record's bean introspection
+     * @param request the request, for its declared body size
+     * @return echoed items
+     */
+    @Post(uri = "/echo", consumes = MediaType.APPLICATION_JSON, produces = MediaType.APPLICATION_JSON)
+    @NonBlocking
+    public EchoResponse echo(@Body EchoRequest body, HttpRequest<?> request) {
+        return echoService.echo(body, request.getContentLength());
+    }
+}
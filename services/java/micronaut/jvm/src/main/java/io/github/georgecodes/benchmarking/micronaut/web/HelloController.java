@@ -1,19 +1,27 @@
 package io.github.georgecodes.benchmarking.micronaut.web;
 
 import io.github.georgecodes.benchmarking.micronaut.application.HelloService;
+import io.github.georgecodes.benchmarking.micronaut.application.LatencyProfile;
 import io.github.georgecodes.benchmarking.micronaut.application.port.HelloMode;
+import io.github.georgecodes.benchmarking.micronaut.application.port.TimeUnit;
 import io.micronaut.core.annotation.Blocking;
 import io.micronaut.core.annotation.NonBlocking;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.version.VersionUtils;
+import io.micronaut.http.HttpStatus;
 import io.micronaut.http.MediaType;
 import io.micronaut.http.annotation.Controller;
 import io.micronaut.http.annotation.Get;
 import io.micronaut.http.annotation.Produces;
 import io.micronaut.http.annotation.QueryValue;
+import io.micronaut.http.exceptions.HttpStatusException;
 import io.micronaut.scheduling.annotation.ExecuteOn;
+import jakarta.inject.Inject;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+
 @Controller("/hello")
 @Produces(MediaType.APPLICATION_JSON)
 @Slf4j
@@ -22,9 +30,18 @@ public class HelloController {
     /** Use-case service handling hello responses. */
     private final HelloService helloService;
 
+    /** Distribution applied to the requested sleep unless the request overrides it. */
+    private final LatencyProfile latencyProfile;
+
     public HelloController(HelloService helloService) {
+        this(helloService, LatencyProfile.constant());
+    }
+
+    @Inject
+    public HelloController(HelloService helloService, LatencyProfile latencyProfile) {
         log.info("Micronaut version: {}", VersionUtils.getMicronautVersion());
         this.helloService = helloService;
+        this.latencyProfile = latencyProfile;
         log.info("Init thread: {}", Thread.currentThread());
         Runtime runtime = Runtime.getRuntime();
         log.info("Heap in MB = Max:{}, Total:{}, Free:{}",
@@ -34,11 +51,14 @@ public class HelloController {
         log.info("Available Processors:{}", runtime.availableProcessors());
     }
 
-    @Get(uri = "/platform{?sleep,log}")
+    @Get(uri = "/platform{?sleep,sleepMs,latency,work,log}")
     @Blocking
     @ExecuteOn("platform")
     public String platform(
         @QueryValue(value = "sleep", defaultValue = "0") int sleep,
+        @QueryValue(value = "sleepMs", defaultValue = "0") long sleepMs,
+        @Nullable @QueryValue("latency") String latency,
+        @QueryValue(value = "work", defaultValue = "0") int work,
         @QueryValue(value = "log", defaultValue = "false") boolean printLog
     ) {
         if (printLog) {
@@ -48,13 +68,17 @@ public class HelloController {
                 currentThread, currentThread.getName(), currentThread.isVirtual()
             );
         }
-        return helloService.hello(HelloMode.PLATFORM, sleep);
+        long delayMillis = delayMillis(sleep, sleepMs, latency);
+        return helloService.hello(HelloMode.PLATFORM, delayMillis, TimeUnit.MILLISECONDS, work);
     }
 
-    @Get(uri = "/virtual{?sleep,log}")
+    @Get(uri = "/virtual{?sleep,sleepMs,latency,work,log}")
     @ExecuteOn("virtual")
     public String virtual(
         @QueryValue(value = "sleep", defaultValue = "0") int sleep,
+        @QueryValue(value = "sleepMs", defaultValue = "0") long sleepMs,
+        @Nullable @QueryValue("latency") String latency,
+        @QueryValue(value = "work", defaultValue = "0") int work,
         @QueryValue(value = "log", defaultValue = "false") boolean printLog
     ) {
         if (printLog) {
@@ -64,14 +88,18 @@ public class HelloController {
                 currentThread, currentThread.getName(), currentThread.isVirtual()
             );
         }
-        return helloService.hello(HelloMode.VIRTUAL, sleep);
+        long delayMillis = delayMillis(sleep, sleepMs, latency);
+        return helloService.hello(HelloMode.VIRTUAL, delayMillis, TimeUnit.MILLISECONDS, work);
     }
 
     // Experimental, excluded from benchmarks
-    @Get(uri = "/virtual-event-loop{?sleep,log}")
+    @Get(uri = "/virtual-event-loop{?sleep,sleepMs,latency,work,log}")
     @NonBlocking
     public String virtualEventLoop(
         @QueryValue(value = "sleep", defaultValue = "0") int sleep,
+        @QueryValue(value = "sleepMs", defaultValue = "0") long sleepMs,
+        @Nullable @QueryValue("latency") String latency,
+        @QueryValue(value = "work", defaultValue = "0") int work,
         @QueryValue(value = "log", defaultValue = "false") boolean printLog
     ) {
         if (printLog) {
@@ -81,16 +109,31 @@ public class HelloController {
                 currentThread, currentThread.getName(), currentThread.isVirtual()
             );
         }
-        return helloService.hello(HelloMode.VIRTUAL_CARRIER, sleep);
+        long delayMillis = delayMillis(sleep, sleepMs, latency);
+        return helloService.hello(HelloMode.VIRTUAL_CARRIER, delayMillis, TimeUnit.MILLISECONDS, work);
     }
 
-    @Get(uri = "/reactive{?sleep,log}")
+    /**
+     * Reactive endpoint. The optional delay is a {@link Mono#delay(Duration)} timer, so the event loop is never
+     * blocked while it elapses.
+     *
+     * @param sleep    optional delay in seconds
+     * @param sleepMs  optional delay in milliseconds, added to {@code sleep}
+     * @param latency  optional latency profile overriding {@code LATENCY_PROFILE} for this request
+     * @param work     optional CPU work in KiB, hashed on the event loop before the response is built
+     * @param printLog whether to log the serving thread
+     * @return response body publisher
+     */
+    @Get(uri = "/reactive{?sleep,sleepMs,latency,work,log}")
     @NonBlocking
     public Mono<String> reactive(
         @QueryValue(value = "sleep", defaultValue = "0") int sleep,
+        @QueryValue(value = "sleepMs", defaultValue = "0") long sleepMs,
+        @Nullable @QueryValue("latency") String latency,
+        @QueryValue(value = "work", defaultValue = "0") int work,
         @QueryValue(value = "log", defaultValue = "false") boolean printLog
     ) {
-        return Mono.fromSupplier(() -> {
+        Mono<String> response = Mono.fromSupplier(() -> {
             if (printLog) {
                 var currentThread = Thread.currentThread();
                 log.info(
@@ -98,7 +141,19 @@ public class HelloController {
                     currentThread, currentThread.getName(), currentThread.isVirtual()
                 );
             }
-            return helloService.hello(HelloMode.REACTIVE, sleep);
+            return helloService.hello(HelloMode.REACTIVE, 0, TimeUnit.MILLISECONDS, work);
         });
+        long delayMillis = delayMillis(sleep, sleepMs, latency);
+        if (delayMillis <= 0) {
+            return response;
+        }
+        return Mono.delay(Duration.ofMillis(delayMillis)).then(response);
+    }
+
+    private long delayMillis(int sleepSeconds, long sleepMillis, @Nullable String latency) {
+        if (sleepSeconds < 0 || sleepMillis < 0) {
+            throw new HttpStatusException(HttpStatus.BAD_REQUEST, "sleep and sleepMs must be >= 0");
+        }
+        return latencyProfile.override(latency).sampleMillis(TimeUnit.SECONDS.toMillis(sleepSeconds) + sleepMillis);
     }
-}
\ No newline at end of file
+}
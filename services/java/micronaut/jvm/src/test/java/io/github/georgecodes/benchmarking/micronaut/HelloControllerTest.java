@@ -1,13 +1,17 @@
 package io.github.georgecodes.benchmarking.micronaut;
 
 import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpStatus;
 import io.micronaut.http.MediaType;
 import io.micronaut.http.client.HttpClient;
 import io.micronaut.http.client.annotation.Client;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
 import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
 import jakarta.inject.Inject;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @MicronautTest
@@ -35,6 +39,22 @@ class HelloControllerTest {
         assertTrue(body.contains("Hello from Micronaut reactive REST"));
     }
 
+    @Test
+    void reactiveEndpointRejectsNegativeSleep() {
+        HttpClientResponseException e = assertThrows(HttpClientResponseException.class,
+            () -> client.toBlocking().retrieve(HttpRequest.GET("/hello/reactive?sleepMs=-1")));
+        assertEquals(HttpStatus.BAD_REQUEST, e.getStatus());
+    }
+
+    @Test
+    void echoEndpoint() {
+        String body = client.toBlocking().retrieve(HttpRequest.POST("/hello/echo",
+                "{\"items\":[{\"key\":\"1\",\"payload\":\"a\"},{\"key\":\"2\",\"payload\":\"b\"}]}")
+            .contentType(MediaType.APPLICATION_JSON));
+        assertTrue(body.contains("\"count\":2"), body);
+        assertTrue(body.contains("\"payload\":\"b\""), body);
+    }
+
     @Test
     void healthEndpoint() {
         HttpRequest<?> req = HttpRequest.GET("/health").accept(MediaType.TEXT_PLAIN);
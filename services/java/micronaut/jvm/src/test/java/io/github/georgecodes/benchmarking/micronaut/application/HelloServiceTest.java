@@ -48,6 +48,18 @@ class HelloServiceTest {
         assertEquals(TimeUnit.SECONDS, sleepPort.lastUnit);
     }
 
+    @Test
+    void helloSleepsInMillisecondsWhenRequested() {
+        RecordingSleepPort sleepPort = new RecordingSleepPort();
+        HelloService helloService = new HelloService(HelloServiceTest::cachedValue, new RecordingMetricsPort(),
+            sleepPort);
+
+        helloService.hello(HelloMode.PLATFORM, 250, TimeUnit.MILLISECONDS);
+
+        assertEquals(250L, sleepPort.lastDuration);
+        assertEquals(TimeUnit.MILLISECONDS, sleepPort.lastUnit);
+    }
+
     @Test
     void helloRestoresInterruptFlagWhenSleepIsInterrupted() {
         RecordingMetricsPort metricsPort = new RecordingMetricsPort();
@@ -61,13 +73,54 @@ class HelloServiceTest {
         assertTrue(Thread.currentThread().isInterrupted());
     }
 
+    @Test
+    void helloCountsLookupsOutsideTheCacheAsMisses() {
+        RecordingMetricsPort metricsPort = new RecordingMetricsPort();
+        HelloService helloService = new HelloService(key -> "1".equals(key) ? cachedValue(key) : null, metricsPort,
+            new RecordingSleepPort(), CacheKeySelector.parse("sequential", 4));
+
+        for (int i = 0; i < 4; i++) {
+            helloService.hello(HelloMode.PLATFORM, 0);
+        }
+
+        assertEquals(3, metricsPort.cacheMisses);
+    }
+
+    @Test
+    void helloRecordsCpuTimeOnlyForRequestedWork() {
+        RecordingMetricsPort metricsPort = new RecordingMetricsPort();
+        HelloService helloService = new HelloService(HelloServiceTest::cachedValue, metricsPort,
+            new RecordingSleepPort());
+
+        helloService.hello(HelloMode.REACTIVE, 0, TimeUnit.MILLISECONDS, 0);
+        helloService.hello(HelloMode.REACTIVE, 0, TimeUnit.MILLISECONDS, 32);
+
+        assertEquals(1, metricsPort.workRecords);
+    }
+
     private static final class RecordingMetricsPort implements MetricsPort {
         private String lastEndpointTag;
+        private int cacheMisses;
+        private int workRecords;
 
         @Override
         public void incrementHelloRequest(String endpointTag) {
             this.lastEndpointTag = endpointTag;
         }
+
+        @Override
+        public void incrementCacheMiss() {
+            cacheMisses++;
+        }
+
+        @Override
+        public void recordWorkCpuTime(long cpuNanos) {
+            workRecords++;
+        }
+
+        @Override
+        public void recordEchoRequestBytes(long bytes) {
+        }
     }
 
     private static final class RecordingSleepPort implements SleepPort {
@@ -0,0 +1,111 @@
+package io.github.georgecodes.benchmarking.micronaut.application;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link LatencyProfile}.
+ */
+class LatencyProfileTest {
+
+    private static final int SAMPLES = 100_000;
+
+    @Test
+    void blankSpecSelectsConstant() {
+        LatencyProfile profile = LatencyProfile.parse(" ");
+
+        assertSame(LatencyProfile.constant(), profile);
+        assertEquals(LatencyProfile.Distribution.CONSTANT, profile.distribution());
+        assertEquals(25L, profile.sampleMillis(25));
+        assertEquals(0L, profile.sampleMillis(0));
+    }
+
+    @Test
+    void exponentialMeanMatchesBaseLatency() {
+        double mean = mean(LatencyProfile.parse("exponential"), 100);
+
+        assertTrue(mean > 95 && mean < 105, "Expected mean ~100 ms, got " + mean);
+    }
+
+    @Test
+    void logNormalMeanMatchesBaseLatency() {
+        LatencyProfile profile = LatencyProfile.parse("lognormal:0.5");
+
+        double mean = mean(profile, 100);
+        assertEquals(LatencyProfile.Distribution.LOG_NORMAL, profile.distribution());
+        assertTrue(mean > 95 && mean < 105, "Expected mean ~100 ms, got " + mean);
+        assertEquals(0L, profile.sampleMillis(0));
+    }
+
+    @Test
+    void bimodalAddsSlowTailAtConfiguredProbability() {
+        LatencyProfile profile = LatencyProfile.parse("bimodal:500:0.1");
+
+        int slow = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            long sample = profile.sampleMillis(0);
+            assertTrue(sample == 0L || sample == 500L, "Unexpected sample " + sample);
+            if (sample == 500L) {
+                slow++;
+            }
+        }
+        assertTrue(slow > SAMPLES * 0.09 && slow < SAMPLES * 0.11, "Expected ~10% slow samples, got " + slow);
+    }
+
+    @Test
+    void bimodalDefaultsToTenTimesTheBase() {
+        LatencyProfile profile = LatencyProfile.parse("bimodal::1");
+
+        assertEquals(200L, profile.sampleMillis(20));
+    }
+
+    @Test
+    void samplesAreCapped() {
+        LatencyProfile profile = LatencyProfile.parse("lognormal:4");
+
+        for (int i = 0; i < SAMPLES; i++) {
+            assertTrue(profile.sampleMillis(10) <= 10 * LatencyProfile.MAX_FACTOR);
+        }
+    }
+
+    @Test
+    void invalidSpecsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> LatencyProfile.parse("pareto"));
+        assertThrows(IllegalArgumentException.class, () -> LatencyProfile.parse("lognormal:0"));
+        assertThrows(IllegalArgumentException.class, () -> LatencyProfile.parse("bimodal:-1"));
+        assertThrows(IllegalArgumentException.class, () -> LatencyProfile.parse("bimodal:100:1.5"));
+        assertThrows(IllegalArgumentException.class, () -> LatencyProfile.parse("lognormal:abc"));
+    }
+
+    @Test
+    void blankOverrideKeepsConfiguredProfile() {
+        LatencyProfile configured = LatencyProfile.parse("exponential");
+
+        assertSame(configured, configured.override(null));
+        assertSame(configured, configured.override(""));
+        assertSame(LatencyProfile.constant(), configured.override("constant"));
+    }
+
+    @Test
+    void overrideIsParsedOncePerSpec() {
+        LatencyProfile configured = LatencyProfile.constant();
+
+        LatencyProfile first = configured.override("lognormal:1.5");
+
+        assertEquals(LatencyProfile.Distribution.LOG_NORMAL, first.distribution());
+        assertSame(first, configured.override("lognormal:1.5"));
+        assertThrows(IllegalArgumentException.class, () -> configured.override("bimodal:-1"));
+    }
+
+    private static double mean(LatencyProfile profile, long baseMillis) {
+        long total = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            total += profile.sampleMillis(baseMillis);
+        }
+        return (double) total / SAMPLES;
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.georgecodes.benchmarking.micronaut.infra.transport;
+
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.MultiThreadIoEventLoopGroup;
+import io.netty.channel.nio.NioIoHandler;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TransportLoggerTest {
+
+    @Test
+    void namesTheIoHandlerOfTheGroup() {
+        EventLoopGroup group = new MultiThreadIoEventLoopGroup(1, NioIoHandler.newFactory());
+        try {
+            assertEquals("nio", TransportLogger.transportOf(group));
+        } finally {
+            group.shutdownGracefully();
+        }
+    }
+
+    @Test
+    void fallsBackToTheClassNameForOtherGroups() {
+        EventLoopGroup group = new DefaultEventLoopGroup(1);
+        try {
+            assertEquals("DefaultEventLoopGroup", TransportLogger.transportOf(group));
+        } finally {
+            group.shutdownGracefully();
+        }
+    }
+}
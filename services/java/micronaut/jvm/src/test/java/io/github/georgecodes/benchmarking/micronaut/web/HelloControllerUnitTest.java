@@ -1,7 +1,9 @@
 package io.github.georgecodes.benchmarking.micronaut.web;
 
 import io.github.georgecodes.benchmarking.micronaut.application.HelloService;
+import io.github.georgecodes.benchmarking.micronaut.application.LatencyProfile;
 import io.github.georgecodes.benchmarking.micronaut.application.port.HelloMode;
+import io.github.georgecodes.benchmarking.micronaut.application.port.MetricsPort;
 import io.github.georgecodes.benchmarking.micronaut.application.port.TimeUnit;
 import org.junit.jupiter.api.Test;
 
@@ -14,11 +16,11 @@ class HelloControllerUnitTest {
         RecordingHelloService helloService = new RecordingHelloService("platform-response");
         HelloController controller = new HelloController(helloService);
 
-        String result = controller.platform(0, true);
+        String result = controller.platform(0, 0, null, 0, true);
 
         assertEquals("platform-response", result);
         assertEquals(HelloMode.PLATFORM, helloService.lastMode);
-        assertEquals(0, helloService.lastSleepSeconds);
+        assertEquals(0L, helloService.lastSleepMillis);
     }
 
     @Test
@@ -26,11 +28,11 @@ class HelloControllerUnitTest {
         RecordingHelloService helloService = new RecordingHelloService("virtual-response");
         HelloController controller = new HelloController(helloService);
 
-        String result = controller.virtual(1, true);
+        String result = controller.virtual(1, 0, null, 0, true);
 
         assertEquals("virtual-response", result);
         assertEquals(HelloMode.VIRTUAL, helloService.lastMode);
-        assertEquals(1, helloService.lastSleepSeconds);
+        assertEquals(1_000L, helloService.lastSleepMillis);
     }
 
     @Test
@@ -38,11 +40,11 @@ class HelloControllerUnitTest {
         RecordingHelloService helloService = new RecordingHelloService("virtual-event-loop-response");
         HelloController controller = new HelloController(helloService);
 
-        String result = controller.virtualEventLoop(2, true);
+        String result = controller.virtualEventLoop(2, 5, null, 0, true);
 
         assertEquals("virtual-event-loop-response", result);
         assertEquals(HelloMode.VIRTUAL_CARRIER, helloService.lastMode);
-        assertEquals(2, helloService.lastSleepSeconds);
+        assertEquals(2_005L, helloService.lastSleepMillis);
     }
 
     @Test
@@ -50,28 +52,50 @@ class HelloControllerUnitTest {
         RecordingHelloService helloService = new RecordingHelloService("reactive-response");
         HelloController controller = new HelloController(helloService);
 
-        String result = controller.reactive(3, true).block();
+        String result = controller.reactive(0, 30, null, 0, true).block();
 
         assertEquals("reactive-response", result);
         assertEquals(HelloMode.REACTIVE, helloService.lastMode);
-        assertEquals(3, helloService.lastSleepSeconds);
+        assertEquals(0L, helloService.lastSleepMillis);
+    }
+
+    @Test
+    void requestLatencyProfileShapesTheSleep() {
+        RecordingHelloService helloService = new RecordingHelloService("virtual-response");
+        HelloController controller = new HelloController(helloService, LatencyProfile.parse("exponential"));
+
+        controller.virtual(0, 5, "bimodal:70:1", 0, false);
+
+        assertEquals(70L, helloService.lastSleepMillis);
+    }
+
+    @Test
+    void reactivePassesRequestedWorkToTheService() {
+        RecordingHelloService helloService = new RecordingHelloService("reactive-response");
+        HelloController controller = new HelloController(helloService);
+
+        controller.reactive(0, 0, null, 64, false).block();
+
+        assertEquals(64, helloService.lastWork);
     }
 
     private static final class RecordingHelloService extends HelloService {
         private final String response;
         private HelloMode lastMode;
-        private int lastSleepSeconds;
+        private long lastSleepMillis;
+        private int lastWork;
 
         private RecordingHelloService(String response) {
-            super(HelloControllerUnitTest::unusedCacheValue, HelloControllerUnitTest::ignoreMetric,
+            super(HelloControllerUnitTest::unusedCacheValue, new NoOpMetricsPort(),
                 HelloControllerUnitTest::ignoreSleep);
             this.response = response;
         }
 
         @Override
-        public String hello(HelloMode mode, int sleepSeconds) {
+        public String hello(HelloMode mode, long sleep, TimeUnit unit, int work) {
             lastMode = mode;
-            lastSleepSeconds = sleepSeconds;
+            lastSleepMillis = unit.toMillis(sleep);
+            lastWork = work;
             return response;
         }
     }
@@ -80,7 +104,22 @@ class HelloControllerUnitTest {
         return "unused";
     }
 
-    private static void ignoreMetric(String endpointTag) {
+    private static final class NoOpMetricsPort implements MetricsPort {
+        @Override
+        public void incrementHelloRequest(String endpointTag) {
+        }
+
+        @Override
+        public void incrementCacheMiss() {
+        }
+
+        @Override
+        public void recordWorkCpuTime(long cpuNanos) {
+        }
+
+        @Override
+        public void recordEchoRequestBytes(long bytes) {
+        }
     }
 
     private static void ignoreSleep(long duration, TimeUnit unit) {
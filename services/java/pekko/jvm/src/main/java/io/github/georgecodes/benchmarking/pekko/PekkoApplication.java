@@ -3,10 +3,20 @@ package io.github.georgecodes.benchmarking.pekko;
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.LoggerContext;
 import com.github.benmanes.caffeine.cache.Cache;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import io.github.georgecodes.benchmarking.pekko.config.PekkoDispatcher;
+import io.github.georgecodes.benchmarking.pekko.config.PekkoMode;
 import io.github.georgecodes.benchmarking.pekko.config.ServiceConfig;
+import io.github.georgecodes.benchmarking.pekko.domain.CacheKeySelector;
 import io.github.georgecodes.benchmarking.pekko.domain.HelloMode;
 import io.github.georgecodes.benchmarking.pekko.domain.HelloService;
+import io.github.georgecodes.benchmarking.pekko.domain.LatencyProfile;
+import io.github.georgecodes.benchmarking.pekko.infra.ActorMetrics;
 import io.github.georgecodes.benchmarking.pekko.infra.CacheProvider;
+import io.github.georgecodes.benchmarking.pekko.infra.CacheShardRouter;
+import io.github.georgecodes.benchmarking.pekko.infra.CacheWarmer;
+import io.github.georgecodes.benchmarking.pekko.infra.MeteredExecutorConfigurator;
 import io.github.georgecodes.benchmarking.pekko.infra.MetricsProvider;
 import io.github.georgecodes.benchmarking.pekko.web.HelloRoutes;
 import io.micrometer.core.instrument.Metrics;
@@ -23,6 +33,10 @@ import org.jspecify.annotations.NonNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.TreeSet;
 import java.util.concurrent.CompletionStage;
 
@@ -40,6 +54,12 @@ public final class PekkoApplication {
     /** Environment/system-property key controlling BatchSpanProcessor warning visibility. */
     private static final String OTEL_BSP_LOG_LEVEL = "OTEL_BSP_LOG_LEVEL";
 
+    /** Pekko HTTP setting switched by {@code HTTP2_ENABLED}. */
+    static final String ENABLE_HTTP2 = "pekko.http.server.enable-http2";
+
+    /** Configuration section of the default dispatcher. */
+    static final String DEFAULT_DISPATCHER = "pekko.actor.default-dispatcher";
+
     /** Logger for application lifecycle and configuration output. */
     private static final Logger LOG = LoggerFactory.getLogger(PekkoApplication.class);
 
@@ -53,8 +73,23 @@ public final class PekkoApplication {
 
         // Wire infrastructure
         MetricsProvider metricsProvider = MetricsProvider.create(HelloMode.REACTIVE.endpointTag());
-        Cache<@NonNull String, String> cache = CacheProvider.create(config.cacheSize());
-        HelloService helloService = new HelloService(cache);
+        Cache<@NonNull String, String> cache =
+            CacheProvider.create(config.cacheSize(), CacheWarmer.parse(config.cacheWarmup()));
+        CacheKeySelector keySelector =
+            CacheKeySelector.parse(config.cacheAccessPattern(), config.resolvedCacheKeySpace());
+        HelloService helloService = new HelloService(cache, keySelector);
+        List<HelloService> shardServices = config.mode() == PekkoMode.ACTORS
+            ? CacheProvider.createShards(config.resolvedActorPoolSize(), config.cacheSize(), cache).stream()
+                .map(HelloService::new)
+                .toList()
+            : List.of();
+        List<HelloService> allServices = new ArrayList<>(shardServices);
+        allServices.add(helloService);
+        metricsProvider.registerCacheMissCounter(allServices);
+        metricsProvider.registerWorkCpuTimer(allServices);
+        LOG.info("CACHE_ACCESS_PATTERN={}", keySelector);
+        LatencyProfile latencyProfile = LatencyProfile.parse(config.latencyProfile());
+        LOG.info("LATENCY_PROFILE={}", latencyProfile);
 
         // Bind standard JVM metrics to Micrometer global registry
         bindJvmMetrics();
@@ -66,13 +101,26 @@ public final class PekkoApplication {
             runtime.totalMemory() / 1024 / 1024,
             runtime.freeMemory() / 1024 / 1024);
         LOG.info("Available Processors: {}", runtime.availableProcessors());
-        LOG.info("SERVICE_PORT={}", config.port());
-
-        // Boot Pekko ActorSystem (loads application.conf automatically)
-        ActorSystem system = ActorSystem.create("application");
+        LOG.info("SERVICE_PORT={} RESPONSE_ENCODING={} HTTP2_ENABLED={} PEKKO_MODE={} PEKKO_DISPATCHER={}",
+            config.port(), config.responseEncoding(), config.http2Enabled(), config.mode(), config.dispatcher());
+        LOG.info("PEKKO_DISPATCHER_METRICS={}", config.dispatcherMetrics());
+
+        // Boot Pekko ActorSystem: application.conf with HTTP2_ENABLED and PEKKO_DISPATCHER layered on top
+        ActorSystem system = ActorSystem.create("application", actorSystemConfig(config));
+
+        // PEKKO_MODE=actors: one actor per cache shard, asked by the routes
+        CacheShardRouter shardRouter = null;
+        if (config.mode() == PekkoMode.ACTORS) {
+            shardRouter = CacheShardRouter.start(system, shardServices, keySelector,
+                Duration.ofMillis(config.askTimeoutMillis()),
+                ActorMetrics.create(Metrics.globalRegistry, shardServices.size()));
+            LOG.info("PEKKO_ACTOR_POOL_SIZE={} PEKKO_ASK_TIMEOUT_MS={}",
+                shardRouter.shards(), config.askTimeoutMillis());
+        }
 
         // Build routes
-        HelloRoutes helloRoutes = new HelloRoutes(helloService, metricsProvider, system);
+        HelloRoutes helloRoutes = new HelloRoutes(helloService, metricsProvider, system, config.responseEncoding(),
+            latencyProfile, shardRouter);
         Route routes = helloRoutes.routes();
 
         // Start Pekko HTTP server
@@ -103,6 +151,32 @@ public final class PekkoApplication {
         LOG.info("Pekko HTTP service started on port {}", config.port());
     }
 
+    /**
+     * Builds the actor system configuration.
+     *
+     * <p>{@code HTTP2_ENABLED} switches {@value #ENABLE_HTTP2}; with it on, {@code bind} also serves HTTP/2
+     * cleartext on the plain port, by prior knowledge or {@code Upgrade: h2c}, next to HTTP/1.1.
+     *
+     * <p>{@code PEKKO_DISPATCHER} picks the executor behind {@value #DEFAULT_DISPATCHER}, which serves the HTTP
+     * streams, the route completions (including the scheduler-based sleep) and the actors. Pekko's own executor
+     * is used directly unless {@code PEKKO_DISPATCHER_METRICS} asks for metering or virtual threads are
+     * selected, which Pekko has no executor for; both go through {@link MeteredExecutorConfigurator}.
+     *
+     * @param config service configuration
+     * @return {@code application.conf} with the HTTP/2 switch and the dispatcher executor applied
+     */
+    static Config actorSystemConfig(ServiceConfig config) {
+        String executor = config.dispatcher().executor();
+        boolean viaConfigurator = config.dispatcherMetrics() || config.dispatcher() == PekkoDispatcher.VIRTUAL;
+        return ConfigFactory.parseMap(Map.of(
+                ENABLE_HTTP2, config.http2Enabled(),
+                DEFAULT_DISPATCHER + ".executor",
+                viaConfigurator ? MeteredExecutorConfigurator.class.getName() : executor,
+                DEFAULT_DISPATCHER + "." + MeteredExecutorConfigurator.EXECUTOR_KEY, executor,
+                DEFAULT_DISPATCHER + "." + MeteredExecutorConfigurator.METERED_KEY, config.dispatcherMetrics()))
+            .withFallback(ConfigFactory.load());
+    }
+
     @SuppressWarnings("resource") // JvmGcMetrics lives for the entire application lifetime
     private static void bindJvmMetrics() {
         var registry = Metrics.globalRegistry;
@@ -0,0 +1,59 @@
+package io.github.georgecodes.benchmarking.pekko.config;
+
+import java.util.Locale;
+
+/**
+ * Executor behind the Pekko default dispatcher, which runs the HTTP streams, the route completions and the
+ * actors (env {@code PEKKO_DISPATCHER}).
+ */
+public enum PekkoDispatcher {
+
+    /** Pekko's fork-join pool (baseline). */
+    FORK_JOIN("fork-join-executor"),
+
+    /** A fixed-size {@code ThreadPoolExecutor} over one shared task queue. */
+    THREAD_POOL("thread-pool-executor"),
+
+    /** Pekko's affinity pool: one queue per thread, each actor always runs on the same thread. */
+    AFFINITY_POOL("affinity-pool-executor"),
+
+    /** One virtual thread per task, scheduled by the JDK's carrier pool. */
+    VIRTUAL("virtual-thread-executor");
+
+    /** Executor name understood by the dispatcher configuration. */
+    private final String executor;
+
+    PekkoDispatcher(String executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Returns the executor name, which is also the dispatcher configuration section holding its settings.
+     *
+     * @return e.g. {@code fork-join-executor}
+     */
+    public String executor() {
+        return executor;
+    }
+
+    /**
+     * Parses a {@code PEKKO_DISPATCHER} value.
+     *
+     * @param value {@code fork-join}, {@code thread-pool}, {@code affinity-pool} or {@code virtual};
+     *              blank means {@code fork-join}
+     * @return the matching dispatcher
+     * @throws IllegalArgumentException when the value is not recognised
+     */
+    public static PekkoDispatcher parse(String value) {
+        if (value == null || value.isBlank()) {
+            return FORK_JOIN;
+        }
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "fork-join" -> FORK_JOIN;
+            case "thread-pool" -> THREAD_POOL;
+            case "affinity-pool" -> AFFINITY_POOL;
+            case "virtual" -> VIRTUAL;
+            default -> throw new IllegalArgumentException("Unsupported PEKKO_DISPATCHER: " + value);
+        };
+    }
+}
@@ -0,0 +1,36 @@
+package io.github.georgecodes.benchmarking.pekko.config;
+
+import java.util.Locale;
+
+/**
+ * How {@code /hello/reactive} reaches the cache (env {@code PEKKO_MODE}).
+ */
+public enum PekkoMode {
+
+    /** Route handlers run the work and read the shared cache directly on the dispatcher thread (baseline). */
+    DIRECT,
+
+    /**
+     * A router of actors each owns one shard of the cache; route handlers ask the owning actor and complete the
+     * request with its reply.
+     */
+    ACTORS;
+
+    /**
+     * Parses a {@code PEKKO_MODE} value.
+     *
+     * @param value {@code direct} or {@code actors}; blank means {@code direct}
+     * @return the matching mode
+     * @throws IllegalArgumentException when the value is not recognised
+     */
+    public static PekkoMode parse(String value) {
+        if (value == null || value.isBlank()) {
+            return DIRECT;
+        }
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "direct" -> DIRECT;
+            case "actors" -> ACTORS;
+            default -> throw new IllegalArgumentException("Unsupported PEKKO_MODE: " + value);
+        };
+    }
+}
@@ -1,21 +1,82 @@
 package io.github.georgecodes.benchmarking.pekko.config;
 
+import java.util.Objects;
+import java.util.function.Function;
+
 /**
  * Centralized service configuration (env-driven).
  *
- * @param port      listening port
- * @param cacheSize max entries for the in-memory cache
+ * @param port               listening port
+ * @param cacheSize          max entries for the in-memory cache
+ * @param responseEncoding   how the hello JSON body is produced
+ * @param cacheAccessPattern cache key workload spec, e.g. {@code zipfian:0.99} (blank means fixed key)
+ * @param cacheKeySpace      number of distinct keys requested (0 means the cache size)
+ * @param cacheWarmup        cache warm-up spec: {@code parallel} or {@code snapshot:<path>} (blank means sequential)
+ * @param latencyProfile     injected-latency distribution spec, e.g. {@code lognormal:1.0} (blank means constant)
+ * @param http2Enabled       whether the server also accepts HTTP/2 cleartext (h2c)
+ * @param mode               how the hello endpoint reaches the cache
+ * @param actorPoolSize      cache shard actors in {@code actors} mode (0 means the available processors)
+ * @param askTimeoutMillis   how long a request waits for its shard actor's reply in {@code actors} mode
+ * @param dispatcher         executor behind the default dispatcher
+ * @param dispatcherMetrics  whether the default dispatcher's executor exports {@code pekko.dispatcher.*} metrics
  */
 public record ServiceConfig(
     int port,
-    long cacheSize
+    long cacheSize,
+    ResponseEncoding responseEncoding,
+    String cacheAccessPattern,
+    long cacheKeySpace,
+    String cacheWarmup,
+    String latencyProfile,
+    boolean http2Enabled,
+    PekkoMode mode,
+    int actorPoolSize,
+    long askTimeoutMillis,
+    PekkoDispatcher dispatcher,
+    boolean dispatcherMetrics
 ) {
 
     /** Creates a {@link ServiceConfig} from environment variables. */
     public static ServiceConfig fromEnvironment() {
-        int port = parseInt(getEnv("SERVICE_PORT"), 8080);
-        long cacheSize = parseLong(getEnv("CACHE_SIZE"), 50000L);
-        return new ServiceConfig(port, cacheSize);
+        return fromEnvironment(ServiceConfig::getEnv);
+    }
+
+    static ServiceConfig fromEnvironment(Function<String, String> environmentProvider) {
+        Objects.requireNonNull(environmentProvider, "environmentProvider");
+
+        int port = parseInt(environmentProvider.apply("SERVICE_PORT"), 8080);
+        long cacheSize = parseLong(environmentProvider.apply("CACHE_SIZE"), 50000L);
+        ResponseEncoding responseEncoding = ResponseEncoding.parse(environmentProvider.apply("RESPONSE_ENCODING"));
+        String cacheAccessPattern = Objects.requireNonNullElse(environmentProvider.apply("CACHE_ACCESS_PATTERN"), "");
+        long cacheKeySpace = parseLong(environmentProvider.apply("CACHE_KEY_SPACE"), 0L);
+        String cacheWarmup = Objects.requireNonNullElse(environmentProvider.apply("CACHE_WARMUP"), "");
+        String latencyProfile = Objects.requireNonNullElse(environmentProvider.apply("LATENCY_PROFILE"), "");
+        boolean http2Enabled = parseBoolean(environmentProvider.apply("HTTP2_ENABLED"));
+        PekkoMode mode = PekkoMode.parse(environmentProvider.apply("PEKKO_MODE"));
+        int actorPoolSize = parseInt(environmentProvider.apply("PEKKO_ACTOR_POOL_SIZE"), 0);
+        long askTimeoutMillis = parseLong(environmentProvider.apply("PEKKO_ASK_TIMEOUT_MS"), 100L);
+        PekkoDispatcher dispatcher = PekkoDispatcher.parse(environmentProvider.apply("PEKKO_DISPATCHER"));
+        boolean dispatcherMetrics = parseBoolean(environmentProvider.apply("PEKKO_DISPATCHER_METRICS"));
+        return new ServiceConfig(port, cacheSize, responseEncoding, cacheAccessPattern, cacheKeySpace, cacheWarmup,
+            latencyProfile, http2Enabled, mode, actorPoolSize, askTimeoutMillis, dispatcher, dispatcherMetrics);
+    }
+
+    /**
+     * Resolves the effective cache key space.
+     *
+     * @return {@code cacheKeySpace} when positive, otherwise {@code cacheSize}
+     */
+    public long resolvedCacheKeySpace() {
+        return cacheKeySpace > 0 ? cacheKeySpace : cacheSize;
+    }
+
+    /**
+     * Resolves the effective number of cache shard actors.
+     *
+     * @return {@code actorPoolSize} when positive, otherwise the available processors
+     */
+    public int resolvedActorPoolSize() {
+        return actorPoolSize > 0 ? actorPoolSize : Runtime.getRuntime().availableProcessors();
     }
 
     private static String getEnv(String key) {
@@ -29,10 +90,14 @@ public record ServiceConfig(
         return Integer.parseInt(value.trim());
     }
 
+    private static boolean parseBoolean(String value) {
+        return value != null && Boolean.parseBoolean(value.trim());
+    }
+
     private static long parseLong(String value, long defaultValue) {
         if (value == null || value.isBlank()) {
             return defaultValue;
         }
         return Long.parseLong(value.trim());
     }
-}
\ No newline at end of file
+}
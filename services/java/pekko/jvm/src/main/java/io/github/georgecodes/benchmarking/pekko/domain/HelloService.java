@@ -2,8 +2,10 @@ package io.github.georgecodes.benchmarking.pekko.domain;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
 import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Pure domain logic for the hello endpoint.
@@ -11,14 +13,28 @@ import java.util.Objects;
  */
 public final class HelloService {
 
-    /** Hot-path cache key. */
-    private static final String CACHE_KEY = "1";
-
     /** Cache used to simulate typical service lookups and memory access patterns. */
     private final Cache<@NonNull String, String> cache;
 
+    /** Chooses the cache key for each request. */
+    private final CacheKeySelector keySelector;
+
+    /** Lookups that found no entry. */
+    private final LongAdder cacheMisses = new LongAdder();
+
+    /** Requests that asked for CPU {@code work}. */
+    private final LongAdder workRequests = new LongAdder();
+
+    /** CPU time spent on requested {@code work}, in nanoseconds. */
+    private final LongAdder workCpuNanos = new LongAdder();
+
     public HelloService(Cache<@NonNull String, String> cache) {
+        this(cache, CacheKeySelector.fixed());
+    }
+
+    public HelloService(Cache<@NonNull String, String> cache, CacheKeySelector keySelector) {
         this.cache = Objects.requireNonNull(cache, "cache");
+        this.keySelector = Objects.requireNonNull(keySelector, "keySelector");
     }
 
     /**
@@ -29,7 +45,74 @@ public final class HelloService {
      */
     public String handle(HelloMode mode) {
         Objects.requireNonNull(mode, "mode");
-        String v = cache.getIfPresent(CACHE_KEY);
-        return mode.responsePrefix() + v;
+        return mode.responsePrefix() + cachedValue();
+    }
+
+    /**
+     * Looks up the raw cached value behind the hello response, using the key chosen by the
+     * configured {@link CacheAccessPattern}; misses are counted.
+     * Web adapters key pre-encoded responses on the returned value.
+     *
+     * @return the cached value, or {@code null} when absent
+     */
+    public @Nullable String cachedValue() {
+        return cachedValue(keySelector.nextKey());
+    }
+
+    /**
+     * Looks up the cached value of one key; misses are counted. Used where the key is chosen by one party
+     * (a {@link CacheKeySelector}) and looked up by another, e.g. by the actor that owns the key's cache shard.
+     *
+     * @param key cache key
+     * @return the cached value, or {@code null} when absent
+     */
+    public @Nullable String cachedValue(String key) {
+        String v = cache.getIfPresent(key);
+        if (v == null) {
+            cacheMisses.increment();
+        }
+        return v;
+    }
+
+    /**
+     * Returns the number of lookups that found no entry since startup.
+     *
+     * @return cumulative cache misses
+     */
+    public long cacheMisses() {
+        return cacheMisses.sum();
+    }
+
+    /**
+     * Burns {@code kilobytes} KiB of deterministic CPU work on the calling thread (see {@link CpuWork})
+     * and records the CPU time it took.
+     *
+     * @param kilobytes amount of work, {@code 0} for none
+     * @throws IllegalArgumentException if {@code kilobytes} is out of range
+     */
+    public void work(int kilobytes) {
+        long cpuNanos = CpuWork.run(kilobytes);
+        if (kilobytes > 0) {
+            workRequests.increment();
+            workCpuNanos.add(cpuNanos);
+        }
+    }
+
+    /**
+     * Returns the number of requests that performed CPU work since startup.
+     *
+     * @return cumulative work requests
+     */
+    public long workRequests() {
+        return workRequests.sum();
+    }
+
+    /**
+     * Returns the CPU time spent on requested work since startup.
+     *
+     * @return cumulative CPU time in nanoseconds
+     */
+    public long workCpuNanos() {
+        return workCpuNanos.sum();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,89 @@
+package io.github.georgecodes.benchmarking.pekko.infra;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Metrics of the cache shard actors in {@code PEKKO_MODE=actors}.
+ *
+ * <p>Classic actors do not expose their mailbox size, so the depth is counted around it: a message is added
+ * when a route sends it and removed when the actor starts processing it. {@code hello.actor.mailbox.depth}
+ * (tagged by {@code shard}) is therefore the number of lookups waiting in that actor's mailbox;
+ * {@code hello.actor.processing.time} is the time the actor spends on each one, and
+ * {@code hello.actor.ask.timeouts} counts the requests that gave up waiting for the reply.
+ */
+public final class ActorMetrics {
+
+    /** Messages sent to each shard actor and not yet taken from its mailbox. */
+    private final AtomicLongArray mailboxDepth;
+
+    /** Time a shard actor spends on one lookup, from dequeue to reply. */
+    private final Timer processingTime;
+
+    /** Asks that timed out before the shard actor replied. */
+    private final Counter askTimeouts;
+
+    private ActorMetrics(AtomicLongArray mailboxDepth, Timer processingTime, Counter askTimeouts) {
+        this.mailboxDepth = mailboxDepth;
+        this.processingTime = processingTime;
+        this.askTimeouts = askTimeouts;
+    }
+
+    /**
+     * Registers the actor meters for {@code shards} shard actors.
+     *
+     * @param registry meter registry
+     * @param shards   number of shard actors
+     * @return the metrics, shared by the router and its actors
+     */
+    public static ActorMetrics create(MeterRegistry registry, int shards) {
+        Objects.requireNonNull(registry, "registry");
+        AtomicLongArray mailboxDepth = new AtomicLongArray(shards);
+        for (int shard = 0; shard < shards; shard++) {
+            int index = shard;
+            Gauge.builder("hello.actor.mailbox.depth", mailboxDepth, depths -> depths.get(index))
+                .description("Hello lookups waiting in a cache shard actor's mailbox")
+                .tag("shard", String.valueOf(shard))
+                .register(registry);
+        }
+        Timer processingTime = Timer.builder("hello.actor.processing.time")
+            .description("Time a cache shard actor spends on one hello lookup")
+            .register(registry);
+        Counter askTimeouts = Counter.builder("hello.actor.ask.timeouts")
+            .description("Hello requests that timed out waiting for a cache shard actor")
+            .register(registry);
+        return new ActorMetrics(mailboxDepth, processingTime, askTimeouts);
+    }
+
+    /**
+     * Returns the number of lookups waiting in a shard actor's mailbox.
+     *
+     * @param shard shard index
+     * @return current mailbox depth
+     */
+    public long mailboxDepth(int shard) {
+        return mailboxDepth.get(shard);
+    }
+
+    void enqueued(int shard) {
+        mailboxDepth.incrementAndGet(shard);
+    }
+
+    void dequeued(int shard) {
+        mailboxDepth.decrementAndGet(shard);
+    }
+
+    void processed(long nanos) {
+        processingTime.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    void askTimedOut() {
+        askTimeouts.increment();
+    }
+}
@@ -2,11 +2,14 @@ package io.github.georgecodes.benchmarking.pekko.infra;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Metrics;
 import org.jspecify.annotations.NonNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Provides the pre-populated Caffeine cache used by request handlers.
@@ -20,20 +23,68 @@ public final class CacheProvider {
     }
 
     /**
-     * Creates and pre-populates a Caffeine cache with the given size.
+     * Creates a Caffeine cache with the given size, pre-populated sequentially.
      *
      * @param cacheSize the maximum number of entries
      * @return a fully populated cache
      */
     public static Cache<@NonNull String, String> create(long cacheSize) {
+        return create(cacheSize, CacheWarmer.parse(null));
+    }
+
+    /**
+     * Creates a Caffeine cache with the given size, pre-populated by {@code warmer}.
+     *
+     * @param cacheSize the maximum number of entries
+     * @param warmer    warm-up strategy (env {@code CACHE_WARMUP})
+     * @return a fully populated cache
+     */
+    public static Cache<@NonNull String, String> create(long cacheSize, CacheWarmer warmer) {
         Cache<@NonNull String, String> cache = Caffeine.newBuilder()
             .maximumSize(cacheSize)
             .expireAfterWrite(Duration.ofDays(1))
             .build();
-        for (long i = cacheSize; i > 0; i--) {
-            cache.put(String.valueOf(i), "value-" + i);
-        }
+        warmer.warmUp(cache, cacheSize, Metrics.globalRegistry);
         LOG.info("Cache size: {}", cache.asMap().size());
         return cache;
     }
-}
\ No newline at end of file
+
+    /**
+     * Partitions a populated cache into {@code shards} caches by {@link #shardOf(String, int)}. The shards
+     * reference the source's keys and values, so they add only their own map entries; each keeps the full
+     * {@code cacheSize} bound, so a skewed partition never evicts.
+     *
+     * @param shards    number of shards, at least one
+     * @param cacheSize the maximum number of entries of the source
+     * @param source    cache to copy, e.g. from {@link #create(long, CacheWarmer)}
+     * @return the populated shards, indexed by shard number
+     * @throws IllegalArgumentException if {@code shards} is not positive
+     */
+    public static List<Cache<@NonNull String, String>> createShards(int shards, long cacheSize,
+                                                                    Cache<@NonNull String, String> source) {
+        if (shards < 1) {
+            throw new IllegalArgumentException("shards must be positive: " + shards);
+        }
+        List<Cache<@NonNull String, String>> caches = new ArrayList<>(shards);
+        for (int i = 0; i < shards; i++) {
+            caches.add(Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(Duration.ofDays(1))
+                .build());
+        }
+        source.asMap().forEach((key, value) -> caches.get(shardOf(key, shards)).put(key, value));
+        LOG.info("Cache shards: {}", caches.stream().map(cache -> cache.asMap().size()).toList());
+        return caches;
+    }
+
+    /**
+     * Returns the shard that owns {@code key}.
+     *
+     * @param key    cache key
+     * @param shards number of shards
+     * @return shard index in {@code [0, shards)}
+     */
+    public static int shardOf(String key, int shards) {
+        return Math.floorMod(key.hashCode(), shards);
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.georgecodes.benchmarking.pekko.infra;
+
+import io.github.georgecodes.benchmarking.pekko.domain.HelloService;
+import org.apache.pekko.actor.AbstractActor;
+import org.apache.pekko.actor.Props;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * Actor that owns one shard of the hello cache in {@code PEKKO_MODE=actors}.
+ *
+ * <p>Only this actor reads its shard, one message at a time, so lookups on a shard never contend with each
+ * other. Each {@link Lookup} is answered with an {@link Entry}; the requested CPU work runs after the reply
+ * arrives, outside the actor, so it neither holds up the shard nor counts against the ask timeout.
+ */
+final class CacheShardActor extends AbstractActor {
+
+    /** Service over this actor's shard of the cache. */
+    private final HelloService shard;
+
+    /** Index of the shard, used to tag its mailbox depth. */
+    private final int index;
+
+    /** Mailbox depth and processing-time metrics. */
+    private final ActorMetrics metrics;
+
+    private CacheShardActor(HelloService shard, int index, ActorMetrics metrics) {
+        this.shard = shard;
+        this.index = index;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Creates the props of the actor owning one shard.
+     *
+     * @param shard   service over the shard's cache
+     * @param index   shard index
+     * @param metrics actor metrics
+     * @return the actor props
+     */
+    static Props props(HelloService shard, int index, ActorMetrics metrics) {
+        Objects.requireNonNull(shard, "shard");
+        Objects.requireNonNull(metrics, "metrics");
+        return Props.create(CacheShardActor.class, () -> new CacheShardActor(shard, index, metrics));
+    }
+
+    @Override
+    public Receive createReceive() {
+        return receiveBuilder()
+            .match(Lookup.class, this::lookup)
+            .build();
+    }
+
+    private void lookup(Lookup lookup) {
+        metrics.dequeued(index);
+        long start = System.nanoTime();
+        String value = shard.cachedValue(lookup.key());
+        getSender().tell(new Entry(value), getSelf());
+        metrics.processed(System.nanoTime() - start);
+    }
+
+    /**
+     * Asks for the cached value of a key.
+     *
+     * @param key cache key, owned by the receiving shard
+     */
+    record Lookup(String key) {
+    }
+
+    /**
+     * Reply to a {@link Lookup}.
+     *
+     * @param value cached value, or {@code null} on a miss
+     */
+    record Entry(@Nullable String value) {
+    }
+}
@@ -0,0 +1,117 @@
+package io.github.georgecodes.benchmarking.pekko.infra;
+
+import io.github.georgecodes.benchmarking.pekko.domain.CacheKeySelector;
+import io.github.georgecodes.benchmarking.pekko.domain.HelloService;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorRefFactory;
+import org.apache.pekko.pattern.AskTimeoutException;
+import org.apache.pekko.pattern.Patterns;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Routes hello lookups to the {@link CacheShardActor} that owns the key ({@code PEKKO_MODE=actors}).
+ *
+ * <p>The key is chosen here, by the configured {@link CacheKeySelector}, and hashed to its shard with
+ * {@link CacheProvider#shardOf(String, int)}, so each key always reaches the one actor holding it. Replies are
+ * awaited with the ask pattern under a tight timeout: a saturated shard fails its requests fast with an
+ * {@link AskTimeoutException} instead of queueing them for as long as the HTTP request timeout allows.
+ */
+public final class CacheShardRouter {
+
+    /** Shard actors, indexed by shard. */
+    private final ActorRef[] shards;
+
+    /** Chooses the cache key for each request. */
+    private final CacheKeySelector keySelector;
+
+    /** How long a request waits for its shard actor's reply. */
+    private final Duration askTimeout;
+
+    /** Mailbox depth, processing-time and ask-timeout metrics. */
+    private final ActorMetrics metrics;
+
+    private CacheShardRouter(ActorRef[] shards, CacheKeySelector keySelector, Duration askTimeout,
+                             ActorMetrics metrics) {
+        this.shards = shards;
+        this.keySelector = keySelector;
+        this.askTimeout = askTimeout;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Starts one {@link CacheShardActor} per shard service and returns the router in front of them.
+     *
+     * @param actors      factory of the shard actors, usually the actor system
+     * @param shards      one service per cache shard, in shard order (see {@link CacheProvider#createShards})
+     * @param keySelector chooses the cache key for each request
+     * @param askTimeout  how long a request waits for its shard actor's reply
+     * @param metrics     actor metrics, created for {@code shards.size()} shards
+     * @return the router
+     * @throws IllegalArgumentException if there are no shards or the timeout is not positive
+     */
+    public static CacheShardRouter start(ActorRefFactory actors,
+                                         List<HelloService> shards,
+                                         CacheKeySelector keySelector,
+                                         Duration askTimeout,
+                                         ActorMetrics metrics) {
+        Objects.requireNonNull(actors, "actors");
+        Objects.requireNonNull(keySelector, "keySelector");
+        Objects.requireNonNull(metrics, "metrics");
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("at least one cache shard is required");
+        }
+        if (askTimeout.isNegative() || askTimeout.isZero()) {
+            throw new IllegalArgumentException("askTimeout must be positive: " + askTimeout);
+        }
+        ActorRef[] refs = new ActorRef[shards.size()];
+        for (int i = 0; i < refs.length; i++) {
+            refs[i] = actors.actorOf(CacheShardActor.props(shards.get(i), i, metrics), "cache-shard-" + i);
+        }
+        return new CacheShardRouter(refs, keySelector, askTimeout, metrics);
+    }
+
+    /**
+     * Asks the owning shard actor for the cached value of the next key.
+     *
+     * @return the cached value ({@code null} on a miss), or a stage failed with {@link AskTimeoutException}
+     *     when the actor does not reply in time
+     */
+    public CompletionStage<@Nullable String> cachedValue() {
+        String key = keySelector.nextKey();
+        int shard = CacheProvider.shardOf(key, shards.length);
+        metrics.enqueued(shard);
+        return Patterns.ask(shards[shard], new CacheShardActor.Lookup(key), askTimeout)
+            .whenComplete((_, error) -> {
+                if (isAskTimeout(error)) {
+                    metrics.askTimedOut();
+                }
+            })
+            .thenApply(reply -> ((CacheShardActor.Entry) reply).value());
+    }
+
+    /**
+     * Returns the number of shard actors.
+     *
+     * @return shard count
+     */
+    public int shards() {
+        return shards.length;
+    }
+
+    /**
+     * Returns whether a failure of {@link #cachedValue()} is an ask timeout.
+     *
+     * @param error failure, possibly wrapped by a dependent stage, or {@code null}
+     * @return {@code true} when the shard actor did not reply in time
+     */
+    public static boolean isAskTimeout(@Nullable Throwable error) {
+        Throwable cause = error instanceof CompletionException wrapped ? wrapped.getCause() : error;
+        return cause instanceof AskTimeoutException;
+    }
+}
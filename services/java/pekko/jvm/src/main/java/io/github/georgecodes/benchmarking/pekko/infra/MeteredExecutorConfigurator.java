@@ -0,0 +1,72 @@
+package io.github.georgecodes.benchmarking.pekko.infra;
+
+import com.typesafe.config.Config;
+import io.micrometer.core.instrument.Metrics;
+import org.apache.pekko.dispatch.DispatcherPrerequisites;
+import org.apache.pekko.dispatch.ExecutorServiceConfigurator;
+import org.apache.pekko.dispatch.ExecutorServiceFactory;
+import org.apache.pekko.dispatch.ForkJoinExecutorConfigurator;
+import org.apache.pekko.dispatch.ThreadPoolExecutorConfigurator;
+import org.apache.pekko.dispatch.affinity.AffinityPoolConfigurator;
+import org.jspecify.annotations.Nullable;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Dispatcher executor that runs the executor named by {@value #EXECUTOR_KEY} and, when {@value #METERED_KEY}
+ * is on, meters it with {@link MeteredExecutorService} (env {@code PEKKO_DISPATCHER},
+ * {@code PEKKO_DISPATCHER_METRICS}).
+ *
+ * <p>Set as a dispatcher's {@code executor} only when metering or virtual threads are asked for; Pekko
+ * instantiates it with the dispatcher's configuration.
+ * {@code fork-join-executor}, {@code thread-pool-executor} and {@code affinity-pool-executor} are Pekko's own
+ * executors, configured from the dispatcher section of the same name; {@value #VIRTUAL_THREAD_EXECUTOR} starts
+ * one virtual thread per task.
+ */
+public final class MeteredExecutorConfigurator extends ExecutorServiceConfigurator {
+
+    /** Dispatcher setting naming the executor to run. */
+    public static final String EXECUTOR_KEY = "metered-executor";
+
+    /** Dispatcher setting switching the metering on. */
+    public static final String METERED_KEY = "metered";
+
+    /** Executor name of the virtual-thread-per-task executor. */
+    public static final String VIRTUAL_THREAD_EXECUTOR = "virtual-thread-executor";
+
+    /** Name of the metered executor. */
+    private final String executor;
+
+    /** Pekko configurator of the metered executor, or {@code null} for virtual threads. */
+    private final @Nullable ExecutorServiceConfigurator delegate;
+
+    /** Whether the executor is wrapped in a {@link MeteredExecutorService}. */
+    private final boolean metered;
+
+    public MeteredExecutorConfigurator(Config config, DispatcherPrerequisites prerequisites) {
+        super(config, prerequisites);
+        this.executor = config.getString(EXECUTOR_KEY);
+        this.metered = config.getBoolean(METERED_KEY);
+        this.delegate = switch (executor) {
+            case "fork-join-executor" -> new ForkJoinExecutorConfigurator(config.getConfig(executor), prerequisites);
+            case "thread-pool-executor" ->
+                new ThreadPoolExecutorConfigurator(config.getConfig(executor), prerequisites);
+            case "affinity-pool-executor" -> new AffinityPoolConfigurator(config.getConfig(executor), prerequisites);
+            case VIRTUAL_THREAD_EXECUTOR -> null;
+            default -> throw new IllegalArgumentException("Unsupported " + EXECUTOR_KEY + ": " + executor);
+        };
+    }
+
+    @Override
+    public ExecutorServiceFactory createExecutorServiceFactory(String id, ThreadFactory threadFactory) {
+        ExecutorServiceFactory factory = delegate != null
+            ? delegate.createExecutorServiceFactory(id, threadFactory)
+            : () -> Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(id + "-virtual-", 0).factory());
+        if (!metered) {
+            return factory;
+        }
+        return () -> MeteredExecutorService.register(factory.createExecutorService(), id, executor,
+            Metrics.globalRegistry);
+    }
+}
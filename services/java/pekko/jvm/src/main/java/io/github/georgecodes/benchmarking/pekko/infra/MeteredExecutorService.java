@@ -0,0 +1,172 @@
+package io.github.georgecodes.benchmarking.pekko.infra;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Executor service that counts the tasks of a dispatcher's executor as they are submitted, started and
+ * completed, so every executor kind reports queue and utilisation the same way.
+ *
+ * <p>The fork-join, thread-pool, affinity and virtual-thread executors expose different (or no) queue
+ * statistics, so the counts are taken around the tasks instead: {@code queued} is submitted minus started,
+ * {@code active} is started minus completed. Each task is wrapped once; the wrapper keeps the task's hash code,
+ * which the affinity pool uses to keep an actor's mailbox on the same thread.
+ */
+final class MeteredExecutorService extends AbstractExecutorService {
+
+    /** Executor running the tasks. */
+    private final ExecutorService delegate;
+
+    /** Tasks accepted by the delegate. */
+    private final LongAdder submitted = new LongAdder();
+
+    /** Tasks that began running. */
+    private final LongAdder started = new LongAdder();
+
+    /** Tasks that finished running, normally or not. */
+    private final LongAdder completed = new LongAdder();
+
+    MeteredExecutorService(ExecutorService delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+    }
+
+    /**
+     * Wraps {@code delegate} and exports its counts, tagged with the dispatcher id and executor name.
+     *
+     * <p>{@code pekko.dispatcher.utilization} is the active task count over the available processors: the share
+     * of the CPUs the dispatcher keeps busy, comparable across executors with different thread counts.
+     *
+     * @param delegate   executor created by the dispatcher's executor configurator
+     * @param dispatcher dispatcher id, e.g. {@code pekko.actor.default-dispatcher}
+     * @param executor   executor name, e.g. {@code fork-join-executor}
+     * @param registry   meter registry
+     * @return the metered executor
+     */
+    static MeteredExecutorService register(ExecutorService delegate, String dispatcher, String executor,
+                                           MeterRegistry registry) {
+        MeteredExecutorService metered = new MeteredExecutorService(delegate);
+        Tags tags = Tags.of("dispatcher", dispatcher, "executor", executor);
+        int processors = Runtime.getRuntime().availableProcessors();
+        Gauge.builder("pekko.dispatcher.queued", metered, MeteredExecutorService::queued)
+            .description("Dispatcher tasks submitted and not yet started")
+            .tags(tags)
+            .register(registry);
+        Gauge.builder("pekko.dispatcher.active", metered, MeteredExecutorService::active)
+            .description("Dispatcher tasks running")
+            .tags(tags)
+            .register(registry);
+        Gauge.builder("pekko.dispatcher.utilization", metered, m -> (double) m.active() / processors)
+            .description("Dispatcher tasks running per available processor")
+            .tags(tags)
+            .register(registry);
+        FunctionCounter.builder("pekko.dispatcher.completed", metered, MeteredExecutorService::completed)
+            .description("Dispatcher tasks completed")
+            .tags(tags)
+            .register(registry);
+        return metered;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        submitted.increment();
+        try {
+            delegate.execute(new MeteredTask(task));
+        } catch (RejectedExecutionException e) {
+            submitted.decrement();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the tasks submitted and not yet started.
+     *
+     * @return queued task count
+     */
+    long queued() {
+        return Math.max(0, submitted.sum() - started.sum());
+    }
+
+    /**
+     * Returns the tasks currently running.
+     *
+     * @return active task count
+     */
+    long active() {
+        return Math.max(0, started.sum() - completed.sum());
+    }
+
+    /**
+     * Returns the tasks completed since startup.
+     *
+     * @return completed task count
+     */
+    long completed() {
+        return completed.sum();
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+
+    /** Counting wrapper that hashes like the task it runs. */
+    private final class MeteredTask implements Runnable {
+
+        /** Wrapped task. */
+        private final Runnable task;
+
+        MeteredTask(Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            started.increment();
+            try {
+                task.run();
+            } finally {
+                completed.increment();
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return task.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof MeteredTask metered && metered.task.equals(task);
+        }
+    }
+}
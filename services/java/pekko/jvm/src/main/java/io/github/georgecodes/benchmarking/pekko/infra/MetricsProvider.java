@@ -1,12 +1,19 @@
 package io.github.georgecodes.benchmarking.pekko.infra;
 
+import io.github.georgecodes.benchmarking.pekko.domain.HelloService;
+import io.github.georgecodes.benchmarking.pekko.domain.StreamBacklog;
 import io.github.mweirauch.micrometer.jvm.extras.ProcessMemoryMetrics;
 import io.github.mweirauch.micrometer.jvm.extras.ProcessThreadMetrics;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Metrics;
 
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Binds custom/extra metrics to Micrometer's global registry and provides
@@ -18,8 +25,12 @@ public final class MetricsProvider {
     /** Pre-registered counter for reactive endpoint requests. */
     private final Counter reactiveCounter;
 
-    private MetricsProvider(Counter reactiveCounter) {
+    /** Peak outstanding bytes per {@code /hello/stream} connection. */
+    private final DistributionSummary streamOutstandingPeak;
+
+    private MetricsProvider(Counter reactiveCounter, DistributionSummary streamOutstandingPeak) {
         this.reactiveCounter = Objects.requireNonNull(reactiveCounter, "reactiveCounter");
+        this.streamOutstandingPeak = Objects.requireNonNull(streamOutstandingPeak, "streamOutstandingPeak");
     }
 
     /**
@@ -37,8 +48,68 @@ public final class MetricsProvider {
             .description("Hello request count")
             .tag("endpoint", endpointTag)
             .register(registry);
+        DistributionSummary streamOutstandingPeak = DistributionSummary.builder("hello.stream.outstanding.peak")
+            .description("Peak bytes of a hello stream buffered ahead of its connection")
+            .baseUnit("bytes")
+            .register(registry);
+
+        return new MetricsProvider(counter, streamOutstandingPeak);
+    }
+
+    /**
+     * Exports the hello cache miss count as {@code hello.cache.miss.count}.
+     *
+     * @param helloService the service whose lookups are counted
+     */
+    public void registerCacheMissCounter(HelloService helloService) {
+        registerCacheMissCounter(List.of(helloService));
+    }
+
+    /**
+     * Exports the summed cache miss count of several services, e.g. one per cache shard.
+     *
+     * @param helloServices the services whose lookups are counted
+     */
+    public void registerCacheMissCounter(List<HelloService> helloServices) {
+        List<HelloService> services = List.copyOf(helloServices);
+        FunctionCounter.builder("hello.cache.miss.count", services,
+                all -> all.stream().mapToLong(HelloService::cacheMisses).sum())
+            .description("Hello cache lookups that found no entry")
+            .register(Metrics.globalRegistry);
+    }
 
-        return new MetricsProvider(counter);
+    /**
+     * Exports the CPU time spent on requested {@code work} as the {@code hello.work.cpu.time} timer.
+     *
+     * @param helloService the service performing the work
+     */
+    public void registerWorkCpuTimer(HelloService helloService) {
+        registerWorkCpuTimer(List.of(helloService));
+    }
+
+    /**
+     * Exports the summed work CPU time of several services, e.g. one per cache shard.
+     *
+     * @param helloServices the services performing the work
+     */
+    public void registerWorkCpuTimer(List<HelloService> helloServices) {
+        List<HelloService> services = List.copyOf(helloServices);
+        FunctionTimer.builder("hello.work.cpu.time", services,
+                all -> all.stream().mapToLong(HelloService::workRequests).sum(),
+                all -> all.stream().mapToLong(HelloService::workCpuNanos).sum(),
+                TimeUnit.NANOSECONDS)
+            .description("CPU time spent on the work query parameter")
+            .register(Metrics.globalRegistry);
+    }
+
+    /**
+     * Starts tracking a {@code /hello/stream} connection; its peak is recorded as
+     * {@code hello.stream.outstanding.peak} when the backlog is closed.
+     *
+     * @return the backlog of the new stream
+     */
+    public StreamBacklog openStream() {
+        return new StreamBacklog(streamOutstandingPeak::record);
     }
 
     /**
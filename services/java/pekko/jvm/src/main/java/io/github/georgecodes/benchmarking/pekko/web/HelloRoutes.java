@@ -1,15 +1,29 @@
 package io.github.georgecodes.benchmarking.pekko.web;
 
+import io.github.georgecodes.benchmarking.pekko.config.ResponseEncoding;
+import io.github.georgecodes.benchmarking.pekko.domain.CpuWork;
 import io.github.georgecodes.benchmarking.pekko.domain.HelloMode;
 import io.github.georgecodes.benchmarking.pekko.domain.HelloService;
+import io.github.georgecodes.benchmarking.pekko.domain.HelloStream;
+import io.github.georgecodes.benchmarking.pekko.domain.LatencyProfile;
+import io.github.georgecodes.benchmarking.pekko.domain.StreamBacklog;
+import io.github.georgecodes.benchmarking.pekko.infra.CacheShardRouter;
 import io.github.georgecodes.benchmarking.pekko.infra.MetricsProvider;
+import org.apache.pekko.NotUsed;
 import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.http.javadsl.model.ContentType;
 import org.apache.pekko.http.javadsl.model.ContentTypes;
+import org.apache.pekko.http.javadsl.model.HttpCharsets;
+import org.apache.pekko.http.javadsl.model.HttpEntities;
 import org.apache.pekko.http.javadsl.model.HttpResponse;
+import org.apache.pekko.http.javadsl.model.MediaTypes;
 import org.apache.pekko.http.javadsl.model.StatusCodes;
 import org.apache.pekko.http.javadsl.server.AllDirectives;
 import org.apache.pekko.http.javadsl.server.Route;
+import org.apache.pekko.stream.OverflowStrategy;
+import org.apache.pekko.stream.javadsl.Source;
 import org.apache.pekko.util.ByteString;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import scala.concurrent.duration.Duration;
@@ -17,6 +31,8 @@ import scala.concurrent.duration.Duration;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -25,17 +41,40 @@ import java.util.concurrent.TimeUnit;
  * <p>All handler code runs directly on the Pekko HTTP dispatcher threads
  * (non-blocking). Blocking sleep for benchmarking is dispatched via the
  * Pekko scheduler to avoid blocking the dispatcher.
+ *
+ * <p>With a {@link CacheShardRouter} ({@code PEKKO_MODE=actors}) the lookup of {@code /hello/reactive} runs
+ * on the actor owning the key's cache shard instead; the route asks it, runs the work once the reply is back
+ * and completes with it, or with {@code 503} when the ask times out.
+ *
+ * <p>{@code /hello/stream} is a chunked entity backed by a {@link Source}: elements are produced only on
+ * downstream demand, through a bounded buffer whose occupancy is the stream's outstanding backlog.
  */
 public final class HelloRoutes extends AllDirectives {
 
     /** Logger for request/thread debug output. */
     private static final Logger LOG = LoggerFactory.getLogger(HelloRoutes.class);
 
+    /** Content type of {@code /hello/stream}. */
+    private static final ContentType NDJSON =
+        MediaTypes.applicationWithFixedCharset("x-ndjson", HttpCharsets.UTF_8).toContentType();
+
+    /**
+     * Elements a stream may produce ahead of its connection before backpressure stops the source. This also caps
+     * {@code hello.stream.outstanding.peak}: it measures occupancy of this buffer, not bytes queued below it in
+     * Pekko HTTP or the socket, so it saturates at this many elements.
+     */
+    private static final int STREAM_BUFFER_ELEMENTS = 64;
+
     /** Pre-built readiness response — allocated once, reused on every probe. */
     private static final HttpResponse READY_RESPONSE = HttpResponse.create()
         .withStatus(StatusCodes.OK)
         .withEntity(ContentTypes.TEXT_PLAIN_UTF8, "UP");
 
+    /** Response of a request whose cache shard actor did not reply within the ask timeout. */
+    private static final HttpResponse ASK_TIMEOUT_RESPONSE = HttpResponse.create()
+        .withStatus(StatusCodes.SERVICE_UNAVAILABLE)
+        .withEntity(ContentTypes.TEXT_PLAIN_UTF8, "cache shard busy");
+
     /** Pure domain logic for hello responses. */
     private final HelloService helloService;
 
@@ -45,12 +84,35 @@ public final class HelloRoutes extends AllDirectives {
     /** Pekko actor system for scheduler-based non-blocking sleep. */
     private final ActorSystem actorSystem;
 
+    /** Shared pre-built response, or {@code null} when bodies are built per request. */
+    private final @Nullable PreEncodedResponse preEncoded;
+
+    /** Distribution applied to the requested sleep unless the request overrides it. */
+    private final LatencyProfile latencyProfile;
+
+    /** Cache shard actors answering {@code /hello/reactive}, or {@code null} to read the cache directly. */
+    private final @Nullable CacheShardRouter shardRouter;
+
     public HelloRoutes(HelloService helloService,
                        MetricsProvider metricsProvider,
                        ActorSystem actorSystem) {
+        this(helloService, metricsProvider, actorSystem, ResponseEncoding.DYNAMIC, LatencyProfile.constant(), null);
+    }
+
+    public HelloRoutes(HelloService helloService,
+                       MetricsProvider metricsProvider,
+                       ActorSystem actorSystem,
+                       ResponseEncoding responseEncoding,
+                       LatencyProfile latencyProfile,
+                       @Nullable CacheShardRouter shardRouter) {
         this.helloService = Objects.requireNonNull(helloService, "helloService");
         this.metricsProvider = Objects.requireNonNull(metricsProvider, "metricsProvider");
         this.actorSystem = Objects.requireNonNull(actorSystem, "actorSystem");
+        this.preEncoded = Objects.requireNonNull(responseEncoding, "responseEncoding") == ResponseEncoding.PRE_ENCODED
+            ? new PreEncodedResponse(HelloMode.REACTIVE, helloService)
+            : null;
+        this.latencyProfile = Objects.requireNonNull(latencyProfile, "latencyProfile");
+        this.shardRouter = shardRouter;
     }
 
     /**
@@ -59,8 +121,13 @@ public final class HelloRoutes extends AllDirectives {
     public Route routes() {
         return concat(
             pathPrefix("hello", () ->
-                path("reactive", () ->
-                    get(this::handleReactive)
+                concat(
+                    path("reactive", () ->
+                        get(this::handleReactive)
+                    ),
+                    path("stream", () ->
+                        get(this::handleStream)
+                    )
                 )
             ),
             path("ready", () ->
@@ -71,29 +138,84 @@ public final class HelloRoutes extends AllDirectives {
 
     private Route handleReactive() {
         return parameterOptional("sleep", sleepOpt ->
-            parameterOptional("log", logOpt -> {
-                metricsProvider.incrementReactive();
-
-                boolean printLog = logOpt.map(Boolean::parseBoolean).orElse(false);
-                if (printLog) {
-                    var currentThread = Thread.currentThread();
-                    LOG.info("reactive thread: '{}', isVirtual: '{}'",
-                        currentThread, currentThread.isVirtual());
-                }
+            parameterOptional("sleepMs", sleepMsOpt ->
+                parameterOptional("latency", latencyOpt ->
+                    parameterOptional("work", workOpt ->
+                        parameterOptional("log", logOpt -> {
+                            metricsProvider.incrementReactive();
 
-                int sleepSeconds = sleepOpt.flatMap(HelloRoutes::parseOptionalInt).orElse(0);
+                            boolean printLog = logOpt.map(Boolean::parseBoolean).orElse(false);
+                            if (printLog) {
+                                var currentThread = Thread.currentThread();
+                                LOG.info("reactive thread: '{}', isVirtual: '{}'",
+                                    currentThread, currentThread.isVirtual());
+                            }
 
-                if (sleepSeconds > 0) {
-                    CompletableFuture<HttpResponse> future = new CompletableFuture<>();
-                    actorSystem.scheduler().scheduleOnce(
-                        Duration.create(sleepSeconds, TimeUnit.SECONDS),
-                        () -> future.complete(buildJsonResponse()),
-                        actorSystem.dispatcher()
-                    );
-                    return completeWithFuture(future);
-                }
+                            int sleepSeconds = sleepOpt.flatMap(HelloRoutes::parseOptionalInt).orElse(0);
+                            long sleepMillis = latencyProfile.override(latencyOpt.orElse(null)).sampleMillis(
+                                sleepSeconds * 1000L + sleepMsOpt.flatMap(HelloRoutes::parseOptionalLong).orElse(0L));
+                            int work = workOpt.flatMap(HelloRoutes::parseOptionalInt).orElse(0);
+                            try {
+                                // Validated up front: a failure after the sleep would leave the request unanswered.
+                                CpuWork.checkKilobytes(work);
+                            } catch (IllegalArgumentException e) {
+                                return complete(StatusCodes.BAD_REQUEST, e.getMessage());
+                            }
+
+                            if (shardRouter != null) {
+                                return completeWithFuture(askJsonResponse(shardRouter, sleepMillis, work));
+                            }
+
+                            if (sleepMillis > 0) {
+                                CompletableFuture<HttpResponse> future = new CompletableFuture<>();
+                                actorSystem.scheduler().scheduleOnce(
+                                    Duration.create(sleepMillis, TimeUnit.MILLISECONDS),
+                                    () -> future.complete(buildJsonResponse(work)),
+                                    actorSystem.dispatcher()
+                                );
+                                return completeWithFuture(future);
+                            }
+
+                            return complete(buildJsonResponse(work));
+                        })
+                    )
+                )
+            )
+        );
+    }
+
+    private Route handleStream() {
+        return parameterOptional("n", nOpt ->
+            parameterOptional("interval", intervalOpt -> {
+                int elements = HelloStream.checkElements(
+                    nOpt.flatMap(HelloRoutes::parseOptionalInt).orElse(HelloStream.DEFAULT_ELEMENTS));
+                long intervalMillis = HelloStream.checkInterval(
+                    intervalOpt.flatMap(HelloRoutes::parseOptionalLong).orElse(0L));
+                String message = helloService.handle(HelloMode.REACTIVE);
+                StreamBacklog backlog = metricsProvider.openStream();
 
-                return complete(buildJsonResponse());
+                Source<Integer, NotUsed> seqs = Source.range(0, elements - 1);
+                if (intervalMillis > 0) {
+                    seqs = seqs.throttle(1, java.time.Duration.ofMillis(intervalMillis));
+                }
+                Source<ByteString, NotUsed> body = seqs
+                    .map(seq -> {
+                        ByteString element = ByteString.fromArray(HelloStream.element(seq, message));
+                        backlog.produced(element.size());
+                        return element;
+                    })
+                    .buffer(STREAM_BUFFER_ELEMENTS, OverflowStrategy.backpressure())
+                    .map(element -> {
+                        backlog.written(element.size());
+                        return element;
+                    })
+                    .watchTermination((notUsed, done) -> {
+                        done.whenComplete((_, _) -> backlog.close());
+                        return notUsed;
+                    });
+                return complete(HttpResponse.create()
+                    .withStatus(StatusCodes.OK)
+                    .withEntity(HttpEntities.createChunked(NDJSON, body)));
             })
         );
     }
@@ -101,14 +223,61 @@ public final class HelloRoutes extends AllDirectives {
     /**
      * Builds the JSON response — calls the domain service on every request,
      * which performs a Caffeine cache lookup (consistent with all other modules).
+     * With pre-encoding enabled the shared response is returned instead.
+     * Requested CPU {@code work} runs first, on the dispatcher thread serving the request.
      */
-    private HttpResponse buildJsonResponse() {
+    private HttpResponse buildJsonResponse(int work) {
+        helloService.work(work);
+        if (preEncoded != null) {
+            return preEncoded.response();
+        }
         String body = "\"" + helloService.handle(HelloMode.REACTIVE) + "\"";
         return HttpResponse.create()
             .withStatus(StatusCodes.OK)
             .withEntity(ContentTypes.APPLICATION_JSON, ByteString.fromString(body));
     }
 
+    /**
+     * Builds the JSON response from the reply of the cache shard actor owning the next key, asked once the
+     * scheduler-based sleep has elapsed. The requested CPU {@code work} runs on the dispatcher once the reply
+     * is back, so it neither holds up the shard actor nor counts against the ask timeout.
+     */
+    private CompletionStage<HttpResponse> askJsonResponse(CacheShardRouter router, long sleepMillis, int work) {
+        CompletableFuture<Void> slept = new CompletableFuture<>();
+        if (sleepMillis > 0) {
+            actorSystem.scheduler().scheduleOnce(
+                Duration.create(sleepMillis, TimeUnit.MILLISECONDS),
+                () -> slept.complete(null),
+                actorSystem.dispatcher()
+            );
+        } else {
+            slept.complete(null);
+        }
+        return slept
+            .thenCompose(_ -> router.cachedValue())
+            // Async: the reply completes the ask on the shard actor's thread, inside its message handling.
+            .handleAsync((value, error) -> {
+                if (error == null) {
+                    helloService.work(work);
+                    return jsonResponse(value);
+                }
+                if (CacheShardRouter.isAskTimeout(error)) {
+                    return ASK_TIMEOUT_RESPONSE;
+                }
+                throw error instanceof CompletionException wrapped ? wrapped : new CompletionException(error);
+            }, actorSystem.dispatcher());
+    }
+
+    private HttpResponse jsonResponse(@Nullable String value) {
+        if (preEncoded != null) {
+            return preEncoded.response(value);
+        }
+        String body = "\"" + HelloMode.REACTIVE.responsePrefix() + value + "\"";
+        return HttpResponse.create()
+            .withStatus(StatusCodes.OK)
+            .withEntity(ContentTypes.APPLICATION_JSON, ByteString.fromString(body));
+    }
+
     private static Optional<Integer> parseOptionalInt(String value) {
         if (value == null || value.isBlank()) {
             return Optional.empty();
@@ -119,4 +288,15 @@ public final class HelloRoutes extends AllDirectives {
             return Optional.empty();
         }
     }
-}
\ No newline at end of file
+
+    private static Optional<Long> parseOptionalLong(String value) {
+        if (value == null || value.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+}
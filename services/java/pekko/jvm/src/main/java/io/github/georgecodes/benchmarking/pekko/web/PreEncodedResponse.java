@@ -0,0 +1,85 @@
+package io.github.georgecodes.benchmarking.pekko.web;
+
+import io.github.georgecodes.benchmarking.pekko.domain.HelloMode;
+import io.github.georgecodes.benchmarking.pekko.domain.HelloService;
+import org.apache.pekko.http.javadsl.model.ContentTypes;
+import org.apache.pekko.http.javadsl.model.HttpResponse;
+import org.apache.pekko.http.javadsl.model.StatusCodes;
+import org.apache.pekko.util.ByteString;
+import org.jspecify.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fully encoded JSON responses for one {@link HelloMode}, shared across requests.
+ *
+ * <p>Pekko HTTP models are immutable, so the whole {@link HttpResponse} (status, content type
+ * and {@link ByteString} entity) is built once per cached value and reused. Every call still
+ * performs the cache lookup; values are compared by content, and past {@value #MAX_ENTRIES}
+ * distinct values new responses are built per request, exactly like the dynamic path.
+ */
+final class PreEncodedResponse {
+
+    /** Upper bound on kept responses, well above any realistic {@code CACHE_SIZE}. */
+    static final int MAX_ENTRIES = 1 << 20;
+
+    /** Mode whose response prefix is baked into the body. */
+    private final HelloMode mode;
+
+    /** Source of the cached value. */
+    private final HelloService helloService;
+
+    /** Built responses keyed by the cached value they were built from. */
+    private final Map<String, HttpResponse> responses = new ConcurrentHashMap<>();
+
+    /** Response for a cache miss, which the dynamic path renders as {@code null}. */
+    private final HttpResponse missResponse;
+
+    PreEncodedResponse(HelloMode mode, HelloService helloService) {
+        this.mode = Objects.requireNonNull(mode, "mode");
+        this.helloService = Objects.requireNonNull(helloService, "helloService");
+        this.missResponse = build(mode, null);
+    }
+
+    /**
+     * Returns the response for the current cache value.
+     *
+     * @return shared immutable response
+     */
+    HttpResponse response() {
+        return response(helloService.cachedValue());
+    }
+
+    /**
+     * Returns the response for a value looked up elsewhere, e.g. by a cache shard actor.
+     *
+     * @param value cached value, or {@code null} on a miss
+     * @return shared immutable response
+     */
+    HttpResponse response(@Nullable String value) {
+        if (value == null) {
+            return missResponse;
+        }
+        HttpResponse response = responses.get(value);
+        if (response == null) {
+            response = build(mode, value);
+            if (responses.size() < MAX_ENTRIES) {
+                HttpResponse raced = responses.putIfAbsent(value, response);
+                if (raced != null) {
+                    response = raced;
+                }
+            }
+        }
+        return response;
+    }
+
+    private static HttpResponse build(HelloMode mode, @Nullable String value) {
+        byte[] body = ("\"" + mode.responsePrefix() + value + "\"").getBytes(StandardCharsets.UTF_8);
+        return HttpResponse.create()
+            .withStatus(StatusCodes.OK)
+            .withEntity(ContentTypes.APPLICATION_JSON, ByteString.fromArrayUnsafe(body));
+    }
+}
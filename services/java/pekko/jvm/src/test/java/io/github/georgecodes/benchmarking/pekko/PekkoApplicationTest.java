@@ -0,0 +1,62 @@
+package io.github.georgecodes.benchmarking.pekko;
+
+import com.typesafe.config.Config;
+import io.github.georgecodes.benchmarking.pekko.config.PekkoDispatcher;
+import io.github.georgecodes.benchmarking.pekko.config.PekkoMode;
+import io.github.georgecodes.benchmarking.pekko.config.ResponseEncoding;
+import io.github.georgecodes.benchmarking.pekko.config.ServiceConfig;
+import io.github.georgecodes.benchmarking.pekko.infra.MeteredExecutorConfigurator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link PekkoApplication#actorSystemConfig(ServiceConfig)}.
+ */
+class PekkoApplicationTest {
+
+    private static final String EXECUTOR = PekkoApplication.DEFAULT_DISPATCHER + ".executor";
+
+    @Test
+    void defaultDispatcherRunsPekkosForkJoinExecutorUnmetered() {
+        Config config = actorSystemConfig(PekkoDispatcher.FORK_JOIN, false);
+
+        assertEquals("fork-join-executor", config.getString(EXECUTOR));
+        assertFalse(config.getBoolean(PekkoApplication.DEFAULT_DISPATCHER + "."
+            + MeteredExecutorConfigurator.METERED_KEY));
+    }
+
+    @Test
+    void dispatcherSelectsPekkosOwnExecutor() {
+        Config config = actorSystemConfig(PekkoDispatcher.THREAD_POOL, false);
+
+        assertEquals("thread-pool-executor", config.getString(EXECUTOR));
+    }
+
+    @Test
+    void dispatcherMetricsRunTheSelectedExecutorThroughTheMeteredConfigurator() {
+        Config config = actorSystemConfig(PekkoDispatcher.AFFINITY_POOL, true);
+
+        assertEquals(MeteredExecutorConfigurator.class.getName(), config.getString(EXECUTOR));
+        assertEquals("affinity-pool-executor", config.getString(PekkoApplication.DEFAULT_DISPATCHER + "."
+            + MeteredExecutorConfigurator.EXECUTOR_KEY));
+        assertTrue(config.getBoolean(PekkoApplication.DEFAULT_DISPATCHER + "."
+            + MeteredExecutorConfigurator.METERED_KEY));
+    }
+
+    @Test
+    void virtualThreadsNeedTheConfiguratorButStayUnmetered() {
+        Config config = actorSystemConfig(PekkoDispatcher.VIRTUAL, false);
+
+        assertEquals(MeteredExecutorConfigurator.class.getName(), config.getString(EXECUTOR));
+        assertFalse(config.getBoolean(PekkoApplication.DEFAULT_DISPATCHER + "."
+            + MeteredExecutorConfigurator.METERED_KEY));
+    }
+
+    private static Config actorSystemConfig(PekkoDispatcher dispatcher, boolean dispatcherMetrics) {
+        return PekkoApplication.actorSystemConfig(new ServiceConfig(8080, 50000, ResponseEncoding.DYNAMIC, "", 0, "",
+            "", false, PekkoMode.DIRECT, 0, 100, dispatcher, dispatcherMetrics));
+    }
+}
@@ -2,7 +2,12 @@ package io.github.georgecodes.benchmarking.pekko.config;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 /**
@@ -12,10 +17,22 @@ class ServiceConfigTest {
 
     @Test
     void recordFieldsAreAccessible() {
-        ServiceConfig config = new ServiceConfig(9090, 200);
+        ServiceConfig config = new ServiceConfig(9090, 200, ResponseEncoding.PRE_ENCODED, "uniform", 1000, "parallel",
+            "lognormal:0.5", true, PekkoMode.ACTORS, 4, 50, PekkoDispatcher.VIRTUAL, true);
 
         assertEquals(9090, config.port());
         assertEquals(200, config.cacheSize());
+        assertEquals(ResponseEncoding.PRE_ENCODED, config.responseEncoding());
+        assertEquals("uniform", config.cacheAccessPattern());
+        assertEquals("parallel", config.cacheWarmup());
+        assertEquals("lognormal:0.5", config.latencyProfile());
+        assertTrue(config.http2Enabled());
+        assertEquals(1000, config.resolvedCacheKeySpace());
+        assertEquals(PekkoMode.ACTORS, config.mode());
+        assertEquals(4, config.resolvedActorPoolSize());
+        assertEquals(50, config.askTimeoutMillis());
+        assertEquals(PekkoDispatcher.VIRTUAL, config.dispatcher());
+        assertTrue(config.dispatcherMetrics());
     }
 
     @Test
@@ -26,16 +43,122 @@ class ServiceConfigTest {
             "SERVICE_PORT is set — skipping defaults assertion");
         assumeTrue(System.getenv("CACHE_SIZE") == null,
             "CACHE_SIZE is set — skipping defaults assertion");
+        assumeTrue(System.getenv("RESPONSE_ENCODING") == null,
+            "RESPONSE_ENCODING is set — skipping defaults assertion");
 
         ServiceConfig config = ServiceConfig.fromEnvironment();
         assertEquals(8080, config.port());
         assertEquals(50000, config.cacheSize());
+        assertEquals(ResponseEncoding.DYNAMIC, config.responseEncoding());
     }
 
     @Test
     void defaultValues() {
-        ServiceConfig config = new ServiceConfig(8080, 50000);
+        ServiceConfig config = new ServiceConfig(8080, 50000, ResponseEncoding.DYNAMIC, "", 0, "", "", false,
+            PekkoMode.DIRECT, 0, 100, PekkoDispatcher.FORK_JOIN, false);
         assertEquals(8080, config.port());
         assertEquals(50000, config.cacheSize());
+        assertEquals(50000, config.resolvedCacheKeySpace());
+        assertEquals(Runtime.getRuntime().availableProcessors(), config.resolvedActorPoolSize());
+    }
+
+    @Test
+    void fromEnvironmentParsesCacheAccessPattern() {
+        Map<String, String> environment = Map.of(
+            "CACHE_ACCESS_PATTERN", "zipfian:0.8",
+            "CACHE_KEY_SPACE", " 75000 ");
+
+        ServiceConfig config = ServiceConfig.fromEnvironment(environment::get);
+
+        assertEquals("zipfian:0.8", config.cacheAccessPattern());
+        assertEquals(75000L, config.resolvedCacheKeySpace());
+    }
+
+    @Test
+    void fromEnvironmentReadsLatencyProfile() {
+        Map<String, String> environment = Map.of("LATENCY_PROFILE", "exponential");
+
+        assertEquals("exponential", ServiceConfig.fromEnvironment(environment::get).latencyProfile());
+        assertEquals("", ServiceConfig.fromEnvironment(Map.<String, String>of()::get).latencyProfile());
+    }
+
+    @Test
+    void fromEnvironmentReadsHttp2Enabled() {
+        assertTrue(ServiceConfig.fromEnvironment(Map.of("HTTP2_ENABLED", " true ")::get).http2Enabled());
+        assertFalse(ServiceConfig.fromEnvironment(Map.of("HTTP2_ENABLED", "no")::get).http2Enabled());
+        assertFalse(ServiceConfig.fromEnvironment(Map.<String, String>of()::get).http2Enabled());
+    }
+
+    @Test
+    void fromEnvironmentReadsActorsMode() {
+        Map<String, String> environment = Map.of(
+            "PEKKO_MODE", " Actors ",
+            "PEKKO_ACTOR_POOL_SIZE", "8",
+            "PEKKO_ASK_TIMEOUT_MS", "250");
+
+        ServiceConfig config = ServiceConfig.fromEnvironment(environment::get);
+
+        assertEquals(PekkoMode.ACTORS, config.mode());
+        assertEquals(8, config.resolvedActorPoolSize());
+        assertEquals(250, config.askTimeoutMillis());
+    }
+
+    @Test
+    void fromEnvironmentDefaultsToDirectMode() {
+        ServiceConfig config = ServiceConfig.fromEnvironment(Map.<String, String>of()::get);
+
+        assertEquals(PekkoMode.DIRECT, config.mode());
+        assertEquals(0, config.actorPoolSize());
+        assertEquals(100, config.askTimeoutMillis());
+    }
+
+    @Test
+    void fromEnvironmentRejectsUnknownMode() {
+        Map<String, String> environment = Map.of("PEKKO_MODE", "typed");
+
+        assertThrows(IllegalArgumentException.class, () -> ServiceConfig.fromEnvironment(environment::get));
+    }
+
+    @Test
+    void fromEnvironmentParsesDispatcher() {
+        assertEquals(PekkoDispatcher.FORK_JOIN,
+            ServiceConfig.fromEnvironment(Map.<String, String>of()::get).dispatcher());
+        assertEquals(PekkoDispatcher.THREAD_POOL,
+            ServiceConfig.fromEnvironment(Map.of("PEKKO_DISPATCHER", "thread-pool")::get).dispatcher());
+        assertEquals(PekkoDispatcher.AFFINITY_POOL,
+            ServiceConfig.fromEnvironment(Map.of("PEKKO_DISPATCHER", " Affinity-Pool ")::get).dispatcher());
+        assertEquals(PekkoDispatcher.VIRTUAL,
+            ServiceConfig.fromEnvironment(Map.of("PEKKO_DISPATCHER", "virtual")::get).dispatcher());
+        assertEquals("affinity-pool-executor", PekkoDispatcher.AFFINITY_POOL.executor());
+    }
+
+    @Test
+    void fromEnvironmentParsesDispatcherMetrics() {
+        assertFalse(ServiceConfig.fromEnvironment(Map.<String, String>of()::get).dispatcherMetrics());
+        assertTrue(ServiceConfig.fromEnvironment(Map.of("PEKKO_DISPATCHER_METRICS", " true ")::get)
+            .dispatcherMetrics());
+    }
+
+    @Test
+    void fromEnvironmentRejectsUnknownDispatcher() {
+        Map<String, String> environment = Map.of("PEKKO_DISPATCHER", "pinned");
+
+        assertThrows(IllegalArgumentException.class, () -> ServiceConfig.fromEnvironment(environment::get));
+    }
+
+    @Test
+    void fromEnvironmentParsesResponseEncoding() {
+        Map<String, String> environment = Map.of("RESPONSE_ENCODING", " preencoded ");
+
+        ServiceConfig config = ServiceConfig.fromEnvironment(environment::get);
+
+        assertEquals(ResponseEncoding.PRE_ENCODED, config.responseEncoding());
+    }
+
+    @Test
+    void fromEnvironmentRejectsUnknownResponseEncoding() {
+        Map<String, String> environment = Map.of("RESPONSE_ENCODING", "gzip");
+
+        assertThrows(IllegalArgumentException.class, () -> ServiceConfig.fromEnvironment(environment::get));
     }
-}
\ No newline at end of file
+}
@@ -9,7 +9,9 @@ import java.time.Duration;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Unit tests for {@link HelloService}.
@@ -44,4 +46,33 @@ class HelloServiceTest {
     void constructor_nullCache_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> new HelloService(null));
     }
-}
\ No newline at end of file
+
+    @Test
+    void handle_keysOutsideTheCache_countsMisses() {
+        Cache<String, String> cache = Caffeine.newBuilder().maximumSize(100).build();
+        cache.put("1", "value-1");
+        HelloService service = new HelloService(cache, CacheKeySelector.parse("sequential", 4));
+
+        for (int i = 0; i < 4; i++) {
+            service.handle(HelloMode.REACTIVE);
+        }
+
+        assertEquals(3, service.cacheMisses());
+    }
+
+    @Test
+    void cachedValue_byKey_looksUpThatKeyAndCountsMisses() {
+        assertEquals("value-1", helloService.cachedValue("1"));
+        assertNull(helloService.cachedValue("2"));
+        assertEquals(1, helloService.cacheMisses());
+    }
+
+    @Test
+    void work_positive_recordsCpuTime() {
+        helloService.work(0);
+        helloService.work(32);
+
+        assertEquals(1, helloService.workRequests());
+        assertTrue(helloService.workCpuNanos() > 0);
+    }
+}
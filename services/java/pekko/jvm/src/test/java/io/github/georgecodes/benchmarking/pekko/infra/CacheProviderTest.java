@@ -3,9 +3,12 @@ package io.github.georgecodes.benchmarking.pekko.infra;
 import com.github.benmanes.caffeine.cache.Cache;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * Unit tests for {@link CacheProvider}.
@@ -36,4 +39,24 @@ class CacheProviderTest {
         assertEquals("value-5", cache.getIfPresent("5"));
         assertNull(cache.getIfPresent("6"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void createShardsPartitionsEntriesByOwningShard() {
+        List<Cache<String, String>> shards = CacheProvider.createShards(3, 100, CacheProvider.create(100));
+
+        assertEquals(3, shards.size());
+        assertEquals(100, shards.stream().mapToInt(cache -> cache.asMap().size()).sum());
+        for (int i = 1; i <= 100; i++) {
+            String key = String.valueOf(i);
+            int owner = CacheProvider.shardOf(key, 3);
+            for (int shard = 0; shard < 3; shard++) {
+                assertEquals(shard == owner ? "value-" + i : null, shards.get(shard).getIfPresent(key));
+            }
+        }
+    }
+
+    @Test
+    void createShardsRejectsNonPositiveCount() {
+        assertThrows(IllegalArgumentException.class, () -> CacheProvider.createShards(0, 10, CacheProvider.create(10)));
+    }
+}
@@ -0,0 +1,119 @@
+package io.github.georgecodes.benchmarking.pekko.infra;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import io.github.georgecodes.benchmarking.pekko.domain.CacheKeySelector;
+import io.github.georgecodes.benchmarking.pekko.domain.HelloService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.pattern.AskTimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link CacheShardRouter} and its {@link CacheShardActor}s on a real actor system.
+ */
+class CacheShardRouterTest {
+
+    private static final Duration ASK_TIMEOUT = Duration.ofSeconds(5);
+
+    private ActorSystem system;
+
+    @BeforeEach
+    void setUp() {
+        // Same pekko.version pin as HelloRoutesTest.
+        Config config = ConfigFactory.parseString(
+                "pekko.version = \"" + ActorSystem.Version() + "\"")
+            .withFallback(ConfigFactory.load());
+        system = ActorSystem.create("cache-shard-test", config);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (system != null) {
+            system.terminate();
+            system.getWhenTerminated().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void everyKeyIsAnsweredByItsOwningShard() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        List<HelloService> shards = shards(3, 12);
+        ActorMetrics metrics = ActorMetrics.create(registry, 3);
+        CacheShardRouter router = start(shards, CacheKeySelector.parse("sequential", 12), metrics);
+
+        for (int i = 1; i <= 12; i++) {
+            assertEquals("value-" + i, router.cachedValue().toCompletableFuture().get(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(3, router.shards());
+        assertEquals(0, shards.stream().mapToLong(HelloService::cacheMisses).sum());
+        assertEquals(12, registry.get("hello.actor.processing.time").timer().count());
+        for (int shard = 0; shard < 3; shard++) {
+            assertEquals(0, metrics.mailboxDepth(shard));
+            assertEquals(0.0, registry.get("hello.actor.mailbox.depth").tag("shard", String.valueOf(shard))
+                .gauge().value());
+        }
+    }
+
+    @Test
+    void missesAreCountedOnTheOwningShards() throws Exception {
+        List<HelloService> shards = shards(2, 4);
+        ActorMetrics metrics = ActorMetrics.create(new SimpleMeterRegistry(), 2);
+        CacheShardRouter router = start(shards, CacheKeySelector.parse("uniform", 8), metrics);
+
+        int misses = 0;
+        for (int i = 0; i < 50; i++) {
+            if (router.cachedValue().toCompletableFuture().get(5, TimeUnit.SECONDS) == null) {
+                misses++;
+            }
+        }
+
+        assertEquals(misses, shards.stream().mapToLong(HelloService::cacheMisses).sum());
+    }
+
+    @Test
+    void startRejectsNoShardsAndNonPositiveTimeout() {
+        ActorMetrics metrics = ActorMetrics.create(new SimpleMeterRegistry(), 1);
+        CacheKeySelector keys = CacheKeySelector.fixed();
+
+        assertThrows(IllegalArgumentException.class,
+            () -> CacheShardRouter.start(system, List.of(), keys, ASK_TIMEOUT, metrics));
+        assertThrows(IllegalArgumentException.class,
+            () -> CacheShardRouter.start(system, shards(1, 1), keys, Duration.ZERO, metrics));
+    }
+
+    @Test
+    void isAskTimeoutSeesThroughCompletionException() {
+        AskTimeoutException timeout = new AskTimeoutException("timed out");
+
+        assertTrue(CacheShardRouter.isAskTimeout(timeout));
+        assertTrue(CacheShardRouter.isAskTimeout(new CompletionException(timeout)));
+        assertFalse(CacheShardRouter.isAskTimeout(new IllegalStateException()));
+        assertFalse(CacheShardRouter.isAskTimeout(null));
+    }
+
+    private static List<HelloService> shards(int shards, long cacheSize) {
+        Cache<String, String> source = CacheProvider.create(cacheSize);
+        return CacheProvider.createShards(shards, cacheSize, source).stream()
+            .map(HelloService::new)
+            .toList();
+    }
+
+    private CacheShardRouter start(List<HelloService> shards, CacheKeySelector keys, ActorMetrics metrics) {
+        return CacheShardRouter.start(system, shards, keys, ASK_TIMEOUT, metrics);
+    }
+}
@@ -0,0 +1,49 @@
+package io.github.georgecodes.benchmarking.pekko.infra;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import io.github.georgecodes.benchmarking.pekko.config.PekkoDispatcher;
+import io.micrometer.core.instrument.Metrics;
+import org.apache.pekko.actor.ActorSystem;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Boots an actor system on each {@link PekkoDispatcher} executor through {@link MeteredExecutorConfigurator}.
+ */
+class MeteredExecutorConfiguratorTest {
+
+    @ParameterizedTest
+    @EnumSource(PekkoDispatcher.class)
+    void defaultDispatcherRunsOnTheSelectedExecutor(PekkoDispatcher dispatcher) throws Exception {
+        // Same pekko.version pin as HelloRoutesTest.
+        Config config = ConfigFactory.parseMap(Map.of(
+                "pekko.version", ActorSystem.Version(),
+                "pekko.actor.default-dispatcher.executor", MeteredExecutorConfigurator.class.getName(),
+                "pekko.actor.default-dispatcher." + MeteredExecutorConfigurator.EXECUTOR_KEY, dispatcher.executor(),
+                "pekko.actor.default-dispatcher." + MeteredExecutorConfigurator.METERED_KEY, true))
+            .withFallback(ConfigFactory.load());
+        ActorSystem system = ActorSystem.create("dispatcher-" + dispatcher.ordinal(), config);
+        try {
+            boolean virtual = CompletableFuture
+                .supplyAsync(() -> Thread.currentThread().isVirtual(), system.dispatcher())
+                .get(5, TimeUnit.SECONDS);
+
+            assertEquals(dispatcher == PekkoDispatcher.VIRTUAL, virtual);
+            assertNotNull(Metrics.globalRegistry.find("pekko.dispatcher.queued")
+                .tag("dispatcher", "pekko.actor.default-dispatcher")
+                .tag("executor", dispatcher.executor())
+                .gauge());
+        } finally {
+            system.terminate();
+            system.getWhenTerminated().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        }
+    }
+}
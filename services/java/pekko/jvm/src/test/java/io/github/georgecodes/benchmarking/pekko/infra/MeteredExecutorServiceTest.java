@@ -0,0 +1,140 @@
+package io.github.georgecodes.benchmarking.pekko.infra;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link MeteredExecutorService}.
+ */
+class MeteredExecutorServiceTest {
+
+    private SimpleMeterRegistry registry;
+    private MeteredExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        executor = MeteredExecutorService.register(Executors.newSingleThreadExecutor(), "test-dispatcher",
+            "thread-pool-executor", registry);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        executor.shutdownNow();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        registry.close();
+    }
+
+    @Test
+    void countsQueuedActiveAndCompletedTasks() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            running.countDown();
+            await(release);
+        });
+        executor.execute(() -> { });
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+
+        assertEquals(1, executor.active());
+        assertEquals(1, executor.queued());
+        assertEquals(1.0, registry.get("pekko.dispatcher.queued")
+            .tag("dispatcher", "test-dispatcher").tag("executor", "thread-pool-executor").gauge().value());
+
+        release.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertEquals(0, executor.queued());
+        assertEquals(0, executor.active());
+        assertEquals(2, executor.completed());
+        assertEquals(2.0, registry.get("pekko.dispatcher.completed").functionCounter().count());
+    }
+
+    @Test
+    void utilizationIsActiveTasksPerProcessor() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            running.countDown();
+            await(release);
+        });
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+
+        assertEquals(1.0 / Runtime.getRuntime().availableProcessors(),
+            registry.get("pekko.dispatcher.utilization").gauge().value());
+        release.countDown();
+    }
+
+    @Test
+    void rejectedTasksAreNotCounted() {
+        ExecutorService closed = Executors.newSingleThreadExecutor();
+        closed.shutdown();
+        MeteredExecutorService metered = new MeteredExecutorService(closed);
+
+        assertThrows(RejectedExecutionException.class, () -> metered.execute(() -> { }));
+        assertEquals(0, metered.queued());
+    }
+
+    @Test
+    void wrappedTasksKeepTheTaskHashCode() {
+        Runnable task = () -> { };
+        int[] seen = new int[1];
+        ExecutorService recording = new AbstractExecutorService() {
+            @Override
+            public void execute(Runnable command) {
+                seen[0] = command.hashCode();
+            }
+
+            @Override
+            public void shutdown() {
+            }
+
+            @Override
+            public List<Runnable> shutdownNow() {
+                return List.of();
+            }
+
+            @Override
+            public boolean isShutdown() {
+                return false;
+            }
+
+            @Override
+            public boolean isTerminated() {
+                return false;
+            }
+
+            @Override
+            public boolean awaitTermination(long timeout, TimeUnit unit) {
+                return true;
+            }
+        };
+
+        new MeteredExecutorService(recording).execute(task);
+
+        assertEquals(task.hashCode(), seen[0]);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -3,10 +3,18 @@ package io.github.georgecodes.benchmarking.pekko.web;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
+import io.github.georgecodes.benchmarking.pekko.config.ResponseEncoding;
+import io.github.georgecodes.benchmarking.pekko.domain.CacheKeySelector;
+import io.github.georgecodes.benchmarking.pekko.domain.CpuWork;
 import io.github.georgecodes.benchmarking.pekko.domain.HelloMode;
 import io.github.georgecodes.benchmarking.pekko.domain.HelloService;
+import io.github.georgecodes.benchmarking.pekko.domain.HelloStream;
+import io.github.georgecodes.benchmarking.pekko.domain.LatencyProfile;
+import io.github.georgecodes.benchmarking.pekko.infra.ActorMetrics;
 import io.github.georgecodes.benchmarking.pekko.infra.CacheProvider;
+import io.github.georgecodes.benchmarking.pekko.infra.CacheShardRouter;
 import io.github.georgecodes.benchmarking.pekko.infra.MetricsProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.apache.pekko.actor.ActorSystem;
 import org.apache.pekko.http.javadsl.Http;
 import org.apache.pekko.http.javadsl.ServerBinding;
@@ -19,6 +27,8 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
@@ -35,6 +45,19 @@ class HelloRoutesTest {
 
     private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
 
+    /** Deploys both cache shard actors on one single-thread dispatcher. */
+    private static final String BUSY_SHARDS = """
+        busy-shard-dispatcher {
+          type = Dispatcher
+          executor = thread-pool-executor
+          thread-pool-executor.fixed-pool-size = 1
+        }
+        pekko.actor.deployment {
+          "/cache-shard-0".dispatcher = busy-shard-dispatcher
+          "/cache-shard-1".dispatcher = busy-shard-dispatcher
+        }
+        """;
+
     private static ActorSystem system;
     private static HelloRoutes helloRoutes;
     private static ServerBinding binding;
@@ -241,6 +264,58 @@ class HelloRoutesTest {
         assertEquals("\"Hello from Pekko reactive REST value-1\"", response.body());
     }
 
+    @Test
+    void helloReactiveWithMillisecondSleep() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+            .uri(URI.create(baseUrl + "/hello/reactive?sleepMs=50"))
+            .timeout(REQUEST_TIMEOUT)
+            .GET()
+            .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode());
+        assertEquals("\"Hello from Pekko reactive REST value-1\"", response.body());
+    }
+
+    @Test
+    void helloReactiveWithLatencyProfileOverride() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+            .uri(URI.create(baseUrl + "/hello/reactive?sleepMs=10&latency=bimodal:20:1"))
+            .timeout(REQUEST_TIMEOUT)
+            .GET()
+            .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode());
+        assertEquals("\"Hello from Pekko reactive REST value-1\"", response.body());
+    }
+
+    @Test
+    void helloReactiveWithCpuWork() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+            .uri(URI.create(baseUrl + "/hello/reactive?work=64"))
+            .timeout(REQUEST_TIMEOUT)
+            .GET()
+            .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode());
+        assertEquals("\"Hello from Pekko reactive REST value-1\"", response.body());
+    }
+
+    @Test
+    void helloReactiveRejectsInvalidWorkBeforeSleeping() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+            .uri(URI.create(baseUrl + "/hello/reactive?sleepMs=10&work=" + (CpuWork.MAX_KILOBYTES + 1)))
+            .timeout(REQUEST_TIMEOUT)
+            .GET()
+            .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(400, response.statusCode());
+        assertTrue(response.body().startsWith("work must be between 0 and"), response.body());
+    }
+
     @Test
     void helloReactiveWithBothParams() throws Exception {
         HttpRequest request = HttpRequest.newBuilder()
@@ -254,6 +329,49 @@ class HelloRoutesTest {
         assertEquals("\"Hello from Pekko reactive REST value-1\"", response.body());
     }
 
+    @Test
+    void helloStreamWritesDefaultElementCount() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+            .uri(URI.create(baseUrl + "/hello/stream"))
+            .timeout(REQUEST_TIMEOUT)
+            .GET()
+            .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue("content-type").orElse("").startsWith("application/x-ndjson"));
+        List<String> lines = response.body().lines().toList();
+        assertEquals(HelloStream.DEFAULT_ELEMENTS, lines.size());
+        assertEquals("{\"seq\":0,\"message\":\"Hello from Pekko reactive REST value-1\"}", lines.getFirst());
+    }
+
+    @Test
+    void helloStreamSpacesElementsByInterval() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+            .uri(URI.create(baseUrl + "/hello/stream?n=3&interval=50"))
+            .timeout(REQUEST_TIMEOUT)
+            .GET()
+            .build();
+        long start = System.nanoTime();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode());
+        assertEquals(3, response.body().lines().count());
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() >= 100);
+    }
+
+    @Test
+    void helloStreamRejectsEmptyStream() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+            .uri(URI.create(baseUrl + "/hello/stream?n=0"))
+            .timeout(REQUEST_TIMEOUT)
+            .GET()
+            .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(500, response.statusCode());
+    }
+
     @Test
     void unknownPathReturns404() throws Exception {
         HttpRequest request = HttpRequest.newBuilder()
@@ -265,4 +383,79 @@ class HelloRoutesTest {
 
         assertEquals(404, response.statusCode());
     }
-}
\ No newline at end of file
+
+    // ---- PEKKO_MODE=actors ----
+
+    @Test
+    void actorsModeAnswersHelloFromTheOwningShardActor() throws Exception {
+        HttpResponse<String> response = getFromActorsServer(Duration.ofSeconds(5), false, "/hello/reactive?work=1");
+
+        assertEquals(200, response.statusCode());
+        assertEquals("\"Hello from Pekko reactive REST value-1\"", response.body());
+    }
+
+    @Test
+    void actorsModeReturns503WhenTheShardActorDoesNotReplyInTime() throws Exception {
+        HttpResponse<String> response =
+            getFromActorsServer(Duration.ofMillis(100), true, "/hello/reactive");
+
+        assertEquals(503, response.statusCode());
+    }
+
+    @Test
+    void actorsModeRejectsInvalidWorkBeforeAsking() throws Exception {
+        HttpResponse<String> response =
+            getFromActorsServer(Duration.ofSeconds(5), false, "/hello/reactive?sleepMs=10&work=-1");
+
+        assertEquals(400, response.statusCode());
+    }
+
+    /**
+     * Serves one request from a fresh actor system whose routes ask two cache shard actors. With
+     * {@code busyShards} the actors run on a single-thread dispatcher that is kept blocked until the response
+     * has arrived, so they cannot reply.
+     */
+    private HttpResponse<String> getFromActorsServer(Duration askTimeout, boolean busyShards, String pathAndQuery)
+        throws Exception {
+        Config config = ConfigFactory.parseString(
+                "pekko.version = \"" + ActorSystem.Version() + "\"\n" + (busyShards ? BUSY_SHARDS : ""))
+            .withFallback(ConfigFactory.load());
+        ActorSystem actorsSystem = ActorSystem.create("actors-mode-test", config);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            if (busyShards) {
+                actorsSystem.dispatchers().lookup("busy-shard-dispatcher").execute(() -> {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            Cache<String, String> cache = CacheProvider.create(10);
+            List<HelloService> shards = CacheProvider.createShards(2, 10, cache).stream()
+                .map(HelloService::new)
+                .toList();
+            CacheShardRouter router = CacheShardRouter.start(actorsSystem, shards, CacheKeySelector.fixed(),
+                askTimeout, ActorMetrics.create(new SimpleMeterRegistry(), 2));
+            HelloRoutes routes = new HelloRoutes(new HelloService(cache),
+                MetricsProvider.create(HelloMode.REACTIVE.endpointTag()), actorsSystem, ResponseEncoding.DYNAMIC,
+                LatencyProfile.constant(), router);
+            ServerBinding actorsBinding = Http.get(actorsSystem)
+                .newServerAt("127.0.0.1", 0)
+                .bind(routes.routes())
+                .toCompletableFuture()
+                .get(10, TimeUnit.SECONDS);
+            HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create("http://127.0.0.1:" + actorsBinding.localAddress().getPort() + pathAndQuery))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } finally {
+            release.countDown();
+            actorsSystem.terminate();
+            actorsSystem.getWhenTerminated().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        }
+    }
+}
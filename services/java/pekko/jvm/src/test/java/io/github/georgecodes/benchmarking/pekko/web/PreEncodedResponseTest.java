@@ -0,0 +1,88 @@
+package io.github.georgecodes.benchmarking.pekko.web;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.github.georgecodes.benchmarking.pekko.domain.HelloMode;
+import io.github.georgecodes.benchmarking.pekko.domain.HelloService;
+import io.github.georgecodes.benchmarking.pekko.infra.CacheProvider;
+import org.apache.pekko.http.javadsl.model.ContentTypes;
+import org.apache.pekko.http.javadsl.model.HttpEntity;
+import org.apache.pekko.http.javadsl.model.HttpResponse;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for {@link PreEncodedResponse}.
+ */
+class PreEncodedResponseTest {
+
+    @Test
+    void responseMatchesDynamicEncoding() {
+        HelloService service = new HelloService(CacheProvider.create(5));
+        HttpResponse response = new PreEncodedResponse(HelloMode.REACTIVE, service).response();
+
+        assertEquals(200, response.status().intValue());
+        assertEquals(ContentTypes.APPLICATION_JSON, response.entity().getContentType());
+        assertEquals("\"" + service.handle(HelloMode.REACTIVE) + "\"", bodyOf(response));
+    }
+
+    @Test
+    void responseIsReusedWhileCacheValueIsUnchanged() {
+        PreEncodedResponse preEncoded = new PreEncodedResponse(HelloMode.REACTIVE,
+            new HelloService(CacheProvider.create(5)));
+
+        assertSame(preEncoded.response(), preEncoded.response());
+    }
+
+    @Test
+    void responseIsRebuiltWhenCacheEntryIsReplaced() {
+        Cache<String, String> cache = CacheProvider.create(5);
+        PreEncodedResponse preEncoded = new PreEncodedResponse(HelloMode.REACTIVE, new HelloService(cache));
+        HttpResponse first = preEncoded.response();
+
+        cache.put("1", "updated");
+
+        HttpResponse second = preEncoded.response();
+        assertNotSame(first, second);
+        assertEquals("\"Hello from Pekko reactive REST updated\"", bodyOf(second));
+    }
+
+    @Test
+    void responseIsReusedForEqualValue() {
+        Cache<String, String> cache = CacheProvider.create(5);
+        PreEncodedResponse preEncoded = new PreEncodedResponse(HelloMode.REACTIVE, new HelloService(cache));
+        HttpResponse first = preEncoded.response();
+
+        cache.put("1", new String(cache.getIfPresent("1")));
+
+        assertSame(first, preEncoded.response());
+    }
+
+    @Test
+    void responseIsKeptPerValue() {
+        Cache<String, String> cache = CacheProvider.create(5);
+        PreEncodedResponse preEncoded = new PreEncodedResponse(HelloMode.REACTIVE, new HelloService(cache));
+        String original = cache.getIfPresent("1");
+        HttpResponse first = preEncoded.response();
+
+        cache.put("1", "updated");
+        preEncoded.response();
+        cache.put("1", original);
+
+        assertSame(first, preEncoded.response());
+    }
+
+    @Test
+    void rejectsNullArguments() {
+        HelloService service = new HelloService(CacheProvider.create(5));
+        assertThrows(NullPointerException.class, () -> new PreEncodedResponse(null, service));
+        assertThrows(NullPointerException.class, () -> new PreEncodedResponse(HelloMode.REACTIVE, null));
+    }
+
+    private static String bodyOf(HttpResponse response) {
+        return ((HttpEntity.Strict) response.entity()).getData().utf8String();
+    }
+}
@@ -0,0 +1,134 @@
+package io.github.georgecodes.benchmarking.quarkus.application;
+
+import io.github.georgecodes.benchmarking.quarkus.application.port.CachePort;
+import io.github.georgecodes.benchmarking.quarkus.application.port.MetricsPort;
+import io.github.georgecodes.benchmarking.quarkus.application.port.SleepPort;
+import io.github.georgecodes.benchmarking.quarkus.application.port.TimeUnit;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Use-case behind {@code /hello/fanout}: {@code n} simulated dependency lookups run concurrently and are joined
+ * with cancel-on-first-failure (see {@link Fanout}). Blocking callers pick platform or virtual branches; reactive
+ * callers compose {@link #lookupAsync()} branches themselves.
+ */
+@ApplicationScoped
+public class FanoutService {
+
+    /**
+     * Name of the bounded executor running platform-thread fan-outs.
+     */
+    public static final String PLATFORM_POOL = "fanout-platform-pool";
+
+    /**
+     * Cache access abstraction.
+     */
+    private final CachePort cachePort;
+
+    /**
+     * Metrics abstraction.
+     */
+    private final MetricsPort metricsPort;
+
+    /**
+     * Time/sleep abstraction.
+     */
+    private final SleepPort sleepPort;
+
+    /**
+     * Chooses the cache key for each branch (see {@link CacheAccessPattern}).
+     */
+    private final CacheKeySelector keySelector;
+
+    /**
+     * Bounded pool running platform-thread fan-outs.
+     */
+    private final ExecutorService platformPool;
+
+    @Inject
+    public FanoutService(
+        CachePort cachePort,
+        MetricsPort metricsPort,
+        SleepPort sleepPort,
+        CacheKeySelector keySelector,
+        @Named(PLATFORM_POOL) ExecutorService platformPool
+    ) {
+        this.cachePort = Objects.requireNonNull(cachePort, "cachePort");
+        this.metricsPort = Objects.requireNonNull(metricsPort, "metricsPort");
+        this.sleepPort = Objects.requireNonNull(sleepPort, "sleepPort");
+        this.keySelector = Objects.requireNonNull(keySelector, "keySelector");
+        this.platformPool = Objects.requireNonNull(platformPool, "platformPool");
+    }
+
+    /**
+     * Runs the branches on the bounded platform pool while the calling thread waits.
+     *
+     * @param branches    requested {@code n}
+     * @param sleepMillis per-branch latency in milliseconds
+     * @param failBranch  branch that fails at once, {@link Fanout#NO_FAILURE} for none
+     * @return cached values in branch order
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public List<String> platformFanout(int branches, long sleepMillis, int failBranch) throws InterruptedException {
+        return Fanout.join(platformPool, branches(branches, sleepMillis, failBranch));
+    }
+
+    /**
+     * Runs the branches on per-request virtual threads scoped to the call.
+     *
+     * @param branches    requested {@code n}
+     * @param sleepMillis per-branch latency in milliseconds
+     * @param failBranch  branch that fails at once, {@link Fanout#NO_FAILURE} for none
+     * @return cached values in branch order
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public List<String> virtualFanout(int branches, long sleepMillis, int failBranch) throws InterruptedException {
+        return Fanout.forkJoin(branches(branches, sleepMillis, failBranch));
+    }
+
+    /**
+     * One reactive branch: a cache lookup that does not block while a loading cache fetches a miss.
+     *
+     * @return stage completed with the cached value
+     */
+    public CompletionStage<String> lookupAsync() {
+        return cachePort.getAsync(keySelector.nextKey()).thenApply(this::countMiss);
+    }
+
+    private List<Callable<String>> branches(int branches, long sleepMillis, int failBranch) {
+        int n = Fanout.checkBranches(branches);
+        long sleep = Fanout.checkSleep(sleepMillis);
+        int fail = Fanout.checkFail(failBranch, n);
+        List<Callable<String>> tasks = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            int branch = i;
+            tasks.add(() -> lookup(branch, sleep, fail));
+        }
+        return tasks;
+    }
+
+    private String lookup(int branch, long sleepMillis, int failBranch) throws InterruptedException {
+        if (branch == failBranch) {
+            throw Fanout.failure(branch);
+        }
+        if (sleepMillis > 0) {
+            sleepPort.sleep(sleepMillis, TimeUnit.MILLISECONDS);
+        }
+        return countMiss(cachePort.getIfPresent(keySelector.nextKey()));
+    }
+
+    private String countMiss(String value) {
+        if (value == null) {
+            metricsPort.incrementCacheMiss();
+        }
+        return value;
+    }
+}
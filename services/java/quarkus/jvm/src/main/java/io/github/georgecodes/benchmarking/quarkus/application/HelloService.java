@@ -6,8 +6,10 @@ import io.github.georgecodes.benchmarking.quarkus.application.port.MetricsPort;
 import io.github.georgecodes.benchmarking.quarkus.application.port.SleepPort;
 import io.github.georgecodes.benchmarking.quarkus.application.port.TimeUnit;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 
 import java.util.Objects;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Application/use-case layer. Keeps REST adapters thin and benchmarking logic centralized.
@@ -15,11 +17,6 @@ import java.util.Objects;
 @ApplicationScoped
 public class HelloService {
 
-    /**
-     * Hot-path cache key used by all hello endpoints.
-     */
-    private static final String CACHE_KEY = "1";
-
     /**
      * Cache access abstraction.
      */
@@ -35,26 +32,149 @@ public class HelloService {
      */
     private final SleepPort sleepPort;
 
+    /**
+     * Chooses the cache key for each request (see {@link CacheAccessPattern}).
+     */
+    private final CacheKeySelector keySelector;
+
     public HelloService(CachePort cachePort, MetricsPort metricsPort, SleepPort sleepPort) {
+        this(cachePort, metricsPort, sleepPort, CacheKeySelector.fixed());
+    }
+
+    @Inject
+    public HelloService(
+        CachePort cachePort,
+        MetricsPort metricsPort,
+        SleepPort sleepPort,
+        CacheKeySelector keySelector
+    ) {
         this.cachePort = Objects.requireNonNull(cachePort, "cachePort");
         this.metricsPort = Objects.requireNonNull(metricsPort, "metricsPort");
         this.sleepPort = Objects.requireNonNull(sleepPort, "sleepPort");
+        this.keySelector = Objects.requireNonNull(keySelector, "keySelector");
     }
 
     public String hello(HelloMode mode, int sleepSeconds) throws InterruptedException {
+        return hello(mode, sleepSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Runs the hello use case after blocking the calling thread for {@code sleep}.
+     *
+     * @param mode  endpoint mode
+     * @param sleep optional sleep before the lookup, {@code 0} for none
+     * @param unit  unit of {@code sleep}
+     * @return response body
+     * @throws InterruptedException if the sleep is interrupted
+     */
+    public String hello(HelloMode mode, long sleep, TimeUnit unit) throws InterruptedException {
+        return hello(mode, sleep, unit, 0);
+    }
+
+    /**
+     * Same as {@link #hello(HelloMode, long, TimeUnit)}, burning {@code work} KiB of CPU work (see
+     * {@link CpuWork}) on the calling thread between the sleep and the lookup.
+     *
+     * @param mode  endpoint mode
+     * @param sleep optional sleep before the lookup, {@code 0} for none
+     * @param unit  unit of {@code sleep}
+     * @param work  CPU work in KiB, {@code 0} for none
+     * @return response body
+     * @throws InterruptedException if the sleep is interrupted
+     */
+    public String hello(HelloMode mode, long sleep, TimeUnit unit, int work) throws InterruptedException {
+        beforeLookup(mode, sleep, unit);
+        work(work);
+        return respond(mode, cachePort.getIfPresent(keySelector.nextKey()));
+    }
+
+    /**
+     * Non-blocking variant of {@link #hello(HelloMode, int)} without the sleep: reactive callers inject
+     * latency with a timer instead. A cache miss served by a loading cache completes the returned stage
+     * later instead of blocking the caller.
+     *
+     * @param mode endpoint mode
+     * @return stage completed with the response body
+     */
+    public CompletionStage<String> helloAsync(HelloMode mode) {
+        return helloAsync(mode, 0);
+    }
+
+    /**
+     * Same as {@link #helloAsync(HelloMode)}, burning {@code work} KiB of CPU work on the calling thread
+     * before the lookup.
+     *
+     * @param mode endpoint mode
+     * @param work CPU work in KiB, {@code 0} for none
+     * @return stage completed with the response body
+     */
+    public CompletionStage<String> helloAsync(HelloMode mode, int work) {
         Objects.requireNonNull(mode, "mode");
+        metricsPort.incrementHelloRequest(mode.endpointTag());
+        work(work);
+        return cachePort.getAsync(keySelector.nextKey()).thenApply(v -> respond(mode, v));
+    }
+
+    /**
+     * Opens the outstanding-bytes backlog of one {@code /hello/stream} connection; its peak is recorded on close.
+     *
+     * @return new backlog
+     */
+    public StreamBacklog openStream() {
+        return new StreamBacklog(metricsPort::recordStreamOutstandingPeak);
+    }
+
+    /**
+     * Whether cache misses are loaded from a backing store, i.e. reactive callers should use
+     * {@link #helloAsync(HelloMode)}.
+     *
+     * @return {@code true} in {@code CACHE_MODE=loading}
+     */
+    public boolean loadsOnMiss() {
+        return cachePort.loading();
+    }
 
-        if (sleepSeconds < 0) {
-            throw new IllegalArgumentException("sleepSeconds must be >= 0");
+    /**
+     * Combines the {@code sleep} (seconds) and {@code sleepMs} (milliseconds) query parameters into one delay.
+     *
+     * @param sleepSeconds seconds part
+     * @param sleepMillis  milliseconds part
+     * @return total delay in milliseconds
+     * @throws IllegalArgumentException if either part is negative
+     */
+    public static long delayMillis(int sleepSeconds, long sleepMillis) {
+        if (sleepSeconds < 0 || sleepMillis < 0) {
+            throw new IllegalArgumentException("sleep and sleepMs must be >= 0");
+        }
+        return Math.addExact(TimeUnit.SECONDS.toMillis(sleepSeconds), sleepMillis);
+    }
+
+    private void beforeLookup(HelloMode mode, long sleep, TimeUnit unit) throws InterruptedException {
+        Objects.requireNonNull(mode, "mode");
+        Objects.requireNonNull(unit, "unit");
+
+        if (sleep < 0) {
+            throw new IllegalArgumentException("sleep must be >= 0");
         }
 
         metricsPort.incrementHelloRequest(mode.endpointTag());
 
-        if (sleepSeconds > 0) {
-            sleepPort.sleep(sleepSeconds, TimeUnit.SECONDS);
+        if (sleep > 0) {
+            sleepPort.sleep(sleep, unit);
         }
+    }
 
-        String v = cachePort.getIfPresent(CACHE_KEY);
+    private void work(int kilobytes) {
+        long cpuNanos = CpuWork.run(kilobytes);
+        if (kilobytes > 0) {
+            metricsPort.recordWorkCpuTime(cpuNanos);
+        }
+    }
+
+    private String respond(HelloMode mode, String v) {
+        if (v == null) {
+            metricsPort.incrementCacheMiss();
+        }
         return mode.responsePrefix() + v;
     }
 }
\ No newline at end of file
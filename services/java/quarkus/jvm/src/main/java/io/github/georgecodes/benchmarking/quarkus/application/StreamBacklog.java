@@ -0,0 +1,83 @@
+package io.github.georgecodes.benchmarking.quarkus.application;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.function.LongConsumer;
+
+/**
+ * Outstanding bytes of one streaming connection: produced by the endpoint but not yet taken by the connection.
+ *
+ * <p>Where "taken" is observed depends on the framework (a write completing, or the transport requesting the
+ * next element); the endpoint reports both sides. The peak is handed to a recorder once, on {@link #close()},
+ * so slow readers show up as a long tail in the per-connection distribution.
+ */
+public final class StreamBacklog {
+
+    /** Bytes produced and not yet written. */
+    private final AtomicLong outstanding = new AtomicLong();
+
+    /** Highest value {@link #outstanding} reached. */
+    private final LongAccumulator peak = new LongAccumulator(Math::max, 0L);
+
+    /** Guards against recording the peak twice (completion racing a client disconnect). */
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    /** Receives the peak when the stream closes. */
+    private final LongConsumer peakRecorder;
+
+    /**
+     * Creates the backlog of a new stream.
+     *
+     * @param peakRecorder receives the peak outstanding bytes when the stream closes
+     */
+    public StreamBacklog(LongConsumer peakRecorder) {
+        this.peakRecorder = Objects.requireNonNull(peakRecorder, "peakRecorder");
+    }
+
+    /**
+     * Records bytes handed to the response.
+     *
+     * @param bytes element size
+     */
+    public void produced(long bytes) {
+        peak.accumulate(outstanding.addAndGet(bytes));
+    }
+
+    /**
+     * Records bytes taken by the connection.
+     *
+     * @param bytes element size
+     */
+    public void written(long bytes) {
+        outstanding.addAndGet(-bytes);
+    }
+
+    /**
+     * Returns the bytes currently outstanding.
+     *
+     * @return produced minus written bytes
+     */
+    public long outstandingBytes() {
+        return outstanding.get();
+    }
+
+    /**
+     * Returns the highest outstanding byte count so far.
+     *
+     * @return peak outstanding bytes
+     */
+    public long peakBytes() {
+        return peak.get();
+    }
+
+    /**
+     * Ends the stream and records its peak; later calls do nothing.
+     */
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            peakRecorder.accept(peak.get());
+        }
+    }
+}
@@ -1,8 +1,39 @@
 package io.github.georgecodes.benchmarking.quarkus.application.port;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
 /**
  * Port for cache access.
  */
 public interface CachePort {
+
+    /**
+     * Looks up {@code key}. Loading adapters fetch a missing entry from their backing store and block
+     * the calling thread until it arrives.
+     *
+     * @param key cache key
+     * @return the cached value, or {@code null} when absent and the adapter does not load
+     */
     String getIfPresent(String key);
-}
\ No newline at end of file
+
+    /**
+     * Looks up {@code key} without blocking the calling thread while a missing entry is loaded.
+     * Non-loading adapters complete immediately with {@link #getIfPresent(String)}.
+     *
+     * @param key cache key
+     * @return stage completed with the value (or {@code null} when absent and the adapter does not load)
+     */
+    default CompletionStage<String> getAsync(String key) {
+        return CompletableFuture.completedFuture(getIfPresent(key));
+    }
+
+    /**
+     * Whether misses are loaded from a backing store (env {@code CACHE_MODE=loading}).
+     *
+     * @return {@code true} for loading adapters
+     */
+    default boolean loading() {
+        return false;
+    }
+}
@@ -12,7 +12,13 @@ public enum HelloMode {
     VIRTUAL("virtual", "/hello/virtual"),
 
     /** Reactive endpoint. */
-    REACTIVE("reactive", "/hello/reactive");
+    REACTIVE("reactive", "/hello/reactive"),
+
+    /** Reactive unary gRPC call; the tag is its HTTP/2 path. */
+    GRPC("reactive", "/benchmarking.hello.v1.Hello/SayHello", "gRPC"),
+
+    /** Reactive server-streaming gRPC call; the tag is its HTTP/2 path. */
+    GRPC_STREAM("reactive", "/benchmarking.hello.v1.Hello/StreamHello", "gRPC");
 
     /** Human-readable label used in the response payload. */
     private final String label;
@@ -24,9 +30,13 @@ public enum HelloMode {
     private final String responsePrefix;
 
     HelloMode(String label, String endpointTag) {
+        this(label, endpointTag, "REST");
+    }
+
+    HelloMode(String label, String endpointTag, String protocol) {
         this.label = label;
         this.endpointTag = endpointTag;
-        this.responsePrefix = "Hello from Quarkus " + label + " REST ";
+        this.responsePrefix = "Hello from Quarkus " + label + " " + protocol + " ";
     }
 
     public String label() {
@@ -8,6 +8,32 @@ import java.util.Collection;
 public interface MetricsPort {
     void incrementHelloRequest(String endpointTag);
 
+    /**
+     * Records a hello cache lookup that found no entry.
+     */
+    void incrementCacheMiss();
+
+    /**
+     * Records the CPU time spent on one request's {@code work}.
+     *
+     * @param cpuNanos CPU time in nanoseconds
+     */
+    void recordWorkCpuTime(long cpuNanos);
+
+    /**
+     * Records the peak outstanding bytes of one {@code /hello/stream} connection.
+     *
+     * @param bytes peak bytes produced but not yet taken by the connection
+     */
+    void recordStreamOutstandingPeak(long bytes);
+
+    /**
+     * Records the body size of one {@code /hello/echo} request.
+     *
+     * @param bytes request body bytes
+     */
+    void recordEchoRequestBytes(long bytes);
+
     /**
      * Pre-registers (creates and registers) hello request counters for the provided endpoint tags.
      *
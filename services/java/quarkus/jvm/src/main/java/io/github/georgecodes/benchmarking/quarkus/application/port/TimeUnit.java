@@ -5,6 +5,27 @@ package io.github.georgecodes.benchmarking.quarkus.application.port;
  */
 public enum TimeUnit {
 
+    /** Milliseconds. */
+    MILLISECONDS {
+        @Override
+        public long toMillis(long amount) {
+            return amount;
+        }
+    },
+
     /** Seconds. */
-    SECONDS
-}
\ No newline at end of file
+    SECONDS {
+        @Override
+        public long toMillis(long amount) {
+            return amount * 1_000L;
+        }
+    };
+
+    /**
+     * Converts an amount of this unit to milliseconds.
+     *
+     * @param amount amount in this unit
+     * @return equivalent amount in milliseconds
+     */
+    public abstract long toMillis(long amount);
+}
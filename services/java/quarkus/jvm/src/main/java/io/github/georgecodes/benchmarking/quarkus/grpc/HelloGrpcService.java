@@ -0,0 +1,99 @@
+package io.github.georgecodes.benchmarking.quarkus.grpc;
+
+import io.github.georgecodes.benchmarking.quarkus.application.HelloService;
+import io.github.georgecodes.benchmarking.quarkus.application.HelloStream;
+import io.github.georgecodes.benchmarking.quarkus.application.LatencyProfile;
+import io.github.georgecodes.benchmarking.quarkus.application.port.HelloMode;
+import io.grpc.Status;
+import io.quarkus.grpc.GrpcService;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.inject.Inject;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * gRPC service for {@code benchmarking.hello.v1.Hello} ({@code src/main/proto/hello.proto}), implementing the
+ * Mutiny interface generated by {@code quarkus-grpc}.
+ *
+ * <p>Both methods stay on the event loop like {@code /hello/reactive}: the optional delay is a Mutiny timer and
+ * the cache lookup goes through {@link HelloService#helloAsync(HelloMode, int)}, so a loading cache never blocks.
+ */
+@GrpcService
+public class HelloGrpcService implements Hello {
+
+    /**
+     * Use-case service containing benchmark logic.
+     */
+    private final HelloService helloService;
+
+    /**
+     * Distribution applied to the requested {@code sleep_ms}.
+     */
+    private final LatencyProfile latencyProfile;
+
+    @Inject
+    public HelloGrpcService(HelloService helloService, LatencyProfile latencyProfile) {
+        this.helloService = Objects.requireNonNull(helloService, "helloService");
+        this.latencyProfile = Objects.requireNonNull(latencyProfile, "latencyProfile");
+    }
+
+    /**
+     * Unary hello: optional delay and CPU work, then one cache lookup.
+     *
+     * @param request delay and work of this call
+     * @return the reply; out-of-range arguments fail with {@code INVALID_ARGUMENT}
+     */
+    @Override
+    public Uni<HelloReply> sayHello(HelloRequest request) {
+        long delayMillis;
+        try {
+            delayMillis = latencyProfile.sampleMillis(HelloService.delayMillis(0, request.getSleepMs()));
+        } catch (IllegalArgumentException e) {
+            return Uni.createFrom().failure(invalidArgument(e));
+        }
+        Uni<HelloReply> reply = Uni.createFrom()
+            .completionStage(() -> helloService.helloAsync(HelloMode.GRPC, request.getWork()))
+            .onItem().transform(message -> reply(0, message))
+            .onFailure(IllegalArgumentException.class).transform(HelloGrpcService::invalidArgument);
+        if (delayMillis == 0) {
+            return reply;
+        }
+        return Uni.createFrom().voidItem()
+            .onItem().delayIt().by(Duration.ofMillis(delayMillis))
+            .replaceWith(reply);
+    }
+
+    /**
+     * Streams {@code n} replies, {@code interval_ms} apart; gRPC flow control requests the next one.
+     *
+     * @param request element count and spacing
+     * @return the reply stream; out-of-range arguments fail with {@code INVALID_ARGUMENT}
+     */
+    @Override
+    public Multi<HelloReply> streamHello(StreamRequest request) {
+        int elements;
+        Duration interval;
+        try {
+            elements = HelloStream.checkElements(request.getN() == 0 ? HelloStream.DEFAULT_ELEMENTS : request.getN());
+            interval = Duration.ofMillis(HelloStream.checkInterval(request.getIntervalMs()));
+        } catch (IllegalArgumentException e) {
+            return Multi.createFrom().failure(invalidArgument(e));
+        }
+        return Uni.createFrom().completionStage(() -> helloService.helloAsync(HelloMode.GRPC_STREAM))
+            .onItem().transformToMulti(message -> Multi.createFrom().range(0, elements)
+                .onItem().call(seq -> seq == 0 || interval.isZero()
+                    ? Uni.createFrom().voidItem()
+                    : Uni.createFrom().voidItem().onItem().delayIt().by(interval))
+                .onItem().transform(seq -> reply(seq, message)));
+    }
+
+    private static HelloReply reply(long seq, String message) {
+        return HelloReply.newBuilder().setSeq(seq).setMessage(message).build();
+    }
+
+    private static Throwable invalidArgument(Throwable e) {
+        return Status.INVALID_ARGUMENT.withDescription(e.getMessage()).asRuntimeException();
+    }
+}
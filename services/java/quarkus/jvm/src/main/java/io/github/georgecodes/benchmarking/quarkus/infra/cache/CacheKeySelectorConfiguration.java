@@ -0,0 +1,36 @@
+package io.github.georgecodes.benchmarking.quarkus.infra.cache;
+
+import io.github.georgecodes.benchmarking.quarkus.application.CacheKeySelector;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
+import lombok.extern.jbosslog.JBossLog;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Infrastructure configuration that turns {@code CACHE_ACCESS_PATTERN} / {@code CACHE_KEY_SPACE}
+ * into the {@link CacheKeySelector} used by the application layer.
+ */
+@SuppressWarnings("unused")
+@JBossLog
+public final class CacheKeySelectorConfiguration {
+
+    /**
+     * Creates the key selector shared by all hello endpoints.
+     *
+     * @param accessPattern pattern spec such as {@code zipfian:0.99}
+     * @param keySpace      number of distinct keys; {@code 0} means "same as the cache size"
+     * @param cacheSize     configured cache size
+     * @return CacheKeySelector instance
+     */
+    @Produces
+    @Singleton
+    CacheKeySelector cacheKeySelector(
+        @ConfigProperty(name = "CACHE_ACCESS_PATTERN", defaultValue = "fixed") String accessPattern,
+        @ConfigProperty(name = "CACHE_KEY_SPACE", defaultValue = "0") long keySpace,
+        @ConfigProperty(name = "CACHE_SIZE", defaultValue = "50000") long cacheSize
+    ) {
+        CacheKeySelector selector = CacheKeySelector.parse(accessPattern, keySpace > 0 ? keySpace : cacheSize);
+        log.infov("CACHE_ACCESS_PATTERN: {0}", selector);
+        return selector;
+    }
+}
@@ -0,0 +1,94 @@
+package io.github.georgecodes.benchmarking.quarkus.infra.cache;
+
+import io.github.georgecodes.benchmarking.quarkus.application.port.CachePort;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.Produces;
+import jakarta.enterprise.inject.Typed;
+import jakarta.inject.Singleton;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Infrastructure configuration that selects the {@link CachePort} implementation via {@code CACHE_IMPL} and
+ * {@code CACHE_MODE}.
+ *
+ * <p>{@code caffeine} (default) uses the on-heap {@link CaffeineCacheAdapter}; {@code offheap} uses the
+ * FFM-backed {@link OffHeapCacheAdapter}. The Caffeine bean is resolved lazily so the off-heap mode never
+ * builds (or pre-populates) an on-heap cache. {@code CACHE_MODE=loading} replaces the read-only Caffeine
+ * cache with the read-through {@link CaffeineLoadingCacheAdapter}.
+ */
+@SuppressWarnings("unused")
+public final class CachePortConfiguration {
+
+    /** Default {@code CACHE_MODE}: pre-populated, read-only cache. */
+    static final String STATIC_MODE = "static";
+
+    /**
+     * Creates the cache port used by the application layer.
+     *
+     * @param cacheImpl {@code caffeine} or {@code offheap}
+     * @param cacheMode {@code static} or {@code loading}
+     * @param cacheSize maximum number of entries (off-heap adapter only; Caffeine reads it itself)
+     * @param caffeine  lazily resolved Caffeine adapter
+     * @param loading   lazily resolved loading adapter
+     * @return CachePort instance
+     */
+    @Produces
+    @Singleton
+    CachePort cachePort(
+        @ConfigProperty(name = "CACHE_IMPL", defaultValue = "caffeine") String cacheImpl,
+        @ConfigProperty(name = "CACHE_MODE", defaultValue = STATIC_MODE) String cacheMode,
+        @ConfigProperty(name = "CACHE_SIZE", defaultValue = "50000") int cacheSize,
+        Instance<CaffeineCacheAdapter> caffeine,
+        Instance<CaffeineLoadingCacheAdapter> loading
+    ) {
+        String impl = cacheImpl.trim().toLowerCase(Locale.ROOT);
+        String mode = cacheMode.trim().toLowerCase(Locale.ROOT);
+        if (CaffeineLoadingCacheAdapter.MODE_NAME.equals(mode)) {
+            if (!"caffeine".equals(impl)) {
+                throw new IllegalArgumentException("CACHE_MODE=loading requires CACHE_IMPL=caffeine");
+            }
+            return loading.get();
+        }
+        if (!STATIC_MODE.equals(mode)) {
+            throw new IllegalArgumentException("Unsupported CACHE_MODE: " + cacheMode);
+        }
+        return switch (impl) {
+            case "caffeine" -> caffeine.get();
+            case OffHeapCacheAdapter.IMPL_NAME -> new OffHeapCacheAdapter(cacheSize);
+            default -> throw new IllegalArgumentException("Unsupported CACHE_IMPL: " + cacheImpl);
+        };
+    }
+
+    /**
+     * Creates the read-through cache used in {@code CACHE_MODE=loading}.
+     *
+     * @param cacheSize           maximum number of entries
+     * @param loadLatencyMs       simulated backing-store latency in milliseconds
+     * @param refreshAfterWriteMs entry age after which reads trigger a background reload ({@code 0} disables)
+     * @param cacheWarmup         pre-population strategy
+     * @param meterRegistry       registry receiving cache statistics
+     * @return loading cache adapter (typed to its class so it does not compete for {@link CachePort} injection)
+     */
+    @Produces
+    @Singleton
+    @Typed(CaffeineLoadingCacheAdapter.class)
+    CaffeineLoadingCacheAdapter loadingCacheAdapter(
+        @ConfigProperty(name = "CACHE_SIZE", defaultValue = "50000") long cacheSize,
+        @ConfigProperty(name = "CACHE_LOAD_LATENCY_MS", defaultValue = "5") long loadLatencyMs,
+        @ConfigProperty(name = "CACHE_REFRESH_AFTER_WRITE_MS", defaultValue = "60000") long refreshAfterWriteMs,
+        @ConfigProperty(name = "CACHE_WARMUP", defaultValue = "sequential") String cacheWarmup,
+        MeterRegistry meterRegistry
+    ) {
+        return new CaffeineLoadingCacheAdapter(
+            cacheSize,
+            new SimulatedDataStore(loadLatencyMs),
+            Duration.ofMillis(Math.max(0L, refreshAfterWriteMs)),
+            CacheWarmer.parse(cacheWarmup),
+            meterRegistry
+        );
+    }
+}
@@ -3,8 +3,11 @@ package io.github.georgecodes.benchmarking.quarkus.infra.cache;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import io.github.georgecodes.benchmarking.quarkus.application.port.CachePort;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Typed;
+import jakarta.inject.Inject;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jspecify.annotations.NonNull;
 
@@ -15,6 +18,7 @@ import java.time.Duration;
  */
 @SuppressWarnings("unused")
 @ApplicationScoped
+@Typed(CaffeineCacheAdapter.class)
 public class CaffeineCacheAdapter implements CachePort {
 
     /**
@@ -28,6 +32,19 @@ public class CaffeineCacheAdapter implements CachePort {
     @ConfigProperty(name = "CACHE_SIZE", defaultValue = "50000")
     long cacheSize;
 
+    /**
+     * Warm-up strategy used to pre-populate the cache ({@code sequential}, {@code parallel} or
+     * {@code snapshot:<path>}).
+     */
+    @ConfigProperty(name = "CACHE_WARMUP", defaultValue = "sequential")
+    String cacheWarmup;
+
+    /**
+     * Registry receiving the warm-up duration metric.
+     */
+    @Inject
+    MeterRegistry meterRegistry;
+
     @PostConstruct
     void init() {
         cache = Caffeine.newBuilder()
@@ -35,9 +52,7 @@ public class CaffeineCacheAdapter implements CachePort {
             .expireAfterWrite(Duration.ofDays(1))
             .build();
         // Pre-populate cache with some entries.
-        for (long i = cacheSize; i > 0; i--) {
-            cache.put(String.valueOf(i), "value-" + i);
-        }
+        CacheWarmer.parse(cacheWarmup).warmUp(cache, cacheSize, meterRegistry);
     }
 
     @Override
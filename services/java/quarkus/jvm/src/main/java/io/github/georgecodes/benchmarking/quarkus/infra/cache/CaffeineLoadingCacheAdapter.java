@@ -0,0 +1,87 @@
+package io.github.georgecodes.benchmarking.quarkus.infra.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.github.georgecodes.benchmarking.quarkus.application.port.CachePort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.jbosslog.JBossLog;
+import org.jspecify.annotations.NonNull;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+/**
+ * Read-through {@link CachePort} backed by a Caffeine {@link AsyncLoadingCache} over a {@link SimulatedDataStore}
+ * (env {@code CACHE_MODE=loading}).
+ *
+ * <p>Platform and virtual endpoints use the {@link LoadingCache} view and wait on the calling thread while a miss
+ * is loaded; the reactive endpoint uses the async cache and is completed when the load finishes. Both views share
+ * one set of entries and one in-flight future per key, so concurrent misses on the same key are coalesced into a
+ * single store load. With {@code refreshAfterWrite}, an entry older than the refresh interval is still served
+ * while a background reload replaces it.
+ *
+ * <p>Hit, miss and load statistics are exported through {@link CaffeineCacheMetrics} as {@code cache.*} meters
+ * tagged {@code cache=hello}.
+ */
+@JBossLog
+public final class CaffeineLoadingCacheAdapter implements CachePort {
+
+    /** {@code CACHE_MODE} value selecting this adapter. */
+    public static final String MODE_NAME = "loading";
+
+    /** Async cache; its futures are shared by both views. */
+    private final AsyncLoadingCache<@NonNull String, String> cache;
+
+    /** Blocking view used by thread-per-request endpoints. */
+    private final LoadingCache<@NonNull String, String> blockingView;
+
+    /**
+     * Builds and pre-populates the loading cache.
+     *
+     * @param cacheSize         maximum number of entries
+     * @param store             backing store consulted on misses and refreshes
+     * @param refreshAfterWrite age after which a read triggers a background reload ({@link Duration#ZERO} disables)
+     * @param warmer            pre-population strategy
+     * @param registry          registry receiving the warm-up and cache statistics meters
+     */
+    public CaffeineLoadingCacheAdapter(
+        long cacheSize,
+        SimulatedDataStore store,
+        Duration refreshAfterWrite,
+        CacheWarmer warmer,
+        MeterRegistry registry
+    ) {
+        Objects.requireNonNull(store, "store");
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+            .maximumSize(cacheSize)
+            .recordStats();
+        if (refreshAfterWrite.isPositive()) {
+            builder.refreshAfterWrite(refreshAfterWrite);
+        }
+        this.cache = builder.buildAsync((String key, Executor executor) -> store.load(key, executor));
+        this.blockingView = cache.synchronous();
+        warmer.warmUp(blockingView, cacheSize, registry);
+        CaffeineCacheMetrics.monitor(registry, cache, "hello");
+        log.infov("CACHE_MODE: loading (latency={0} ms, refreshAfterWrite={1})",
+            store.latencyMillis(), refreshAfterWrite);
+    }
+
+    @Override
+    public String getIfPresent(String key) {
+        return blockingView.get(key);
+    }
+
+    @Override
+    public CompletionStage<String> getAsync(String key) {
+        return cache.get(key);
+    }
+
+    @Override
+    public boolean loading() {
+        return true;
+    }
+}
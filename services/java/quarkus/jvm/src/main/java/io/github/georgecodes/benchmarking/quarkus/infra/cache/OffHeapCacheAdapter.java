@@ -0,0 +1,287 @@
+package io.github.georgecodes.benchmarking.quarkus.infra.cache;
+
+import io.github.georgecodes.benchmarking.quarkus.application.port.CachePort;
+import lombok.extern.jbosslog.JBossLog;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Off-heap {@link CachePort} built on the FFM API ({@link Arena} / {@link MemorySegment}).
+ *
+ * <p>All entries live in one native segment laid out as an open-addressing (linear probing) table of
+ * fixed-width slots, so the heap only holds this adapter and the value strings decoded per hit.
+ * Every hit decodes a new value string, so callers must compare values with {@code equals}, not by
+ * identity.
+ * Eviction uses the CLOCK algorithm: new entries start unreferenced, a hit sets the slot's reference
+ * bit, and when the table is full the clock hand clears reference bits until it reaches an unreferenced
+ * victim. Deletions use backward-shift so probe chains never need tombstones.
+ *
+ * <p>Reads are lock-free: they run under a {@link StampedLock} optimistic stamp and are retried under
+ * the read lock only if a writer interfered. Writes (pre-population, replacement, eviction) take the
+ * write lock.
+ */
+@JBossLog
+public final class OffHeapCacheAdapter implements CachePort {
+
+    /** {@code CACHE_IMPL} value selecting this adapter. */
+    public static final String IMPL_NAME = "offheap";
+
+    /** Maximum UTF-8 key length in bytes. */
+    static final int MAX_KEY_BYTES = 16;
+    /** Maximum UTF-8 value length in bytes (the value field keeps one extra byte for the NUL terminator). */
+    static final int MAX_VALUE_BYTES = 31;
+
+    /** Default cache size used when configuration is missing or invalid. */
+    private static final int DEFAULT_CACHE_SIZE = 50_000;
+    /** Minimum allowed cache size. */
+    private static final int MIN_CACHE_SIZE = 1;
+    /** Maximum allowed cache size to avoid runaway memory usage. */
+    private static final int MAX_CACHE_SIZE = 5_000_000;
+
+    /** Slot state byte: {@link #EMPTY} or {@link #FULL}. */
+    private static final long STATE_OFFSET = 0;
+    /** CLOCK reference bit, set on every hit and cleared by the clock hand. */
+    private static final long REF_OFFSET = 1;
+    /** Key length in bytes. */
+    private static final long KEY_LENGTH_OFFSET = 2;
+    /** Spread key hash (4-byte aligned). */
+    private static final long HASH_OFFSET = 4;
+    /** Key bytes. */
+    private static final long KEY_OFFSET = 8;
+    /** NUL-terminated value bytes. */
+    private static final long VALUE_OFFSET = KEY_OFFSET + MAX_KEY_BYTES;
+    /** Width of one slot (a multiple of 8 so every slot stays aligned). */
+    private static final long SLOT_SIZE = VALUE_OFFSET + MAX_VALUE_BYTES + 1;
+
+    /** Free slot marker. */
+    private static final byte EMPTY = 0;
+    /** Occupied slot marker. */
+    private static final byte FULL = 1;
+
+    /** Native slot table; zero-filled on allocation, i.e. every slot starts {@link #EMPTY}. */
+    private final MemorySegment slots;
+    /** Slot count minus one (slot count is a power of two). */
+    private final int mask;
+    /** Maximum number of live entries before CLOCK eviction kicks in. */
+    private final int maxEntries;
+    /** Guards structural changes; readers use optimistic stamps. */
+    private final StampedLock lock = new StampedLock();
+
+    /** Live entries (guarded by the write lock). */
+    private int size;
+    /** Next slot inspected by the CLOCK sweep (guarded by the write lock). */
+    private int clockHand;
+
+    public OffHeapCacheAdapter(int configuredCacheSize) {
+        this.maxEntries = clampCacheSize(configuredCacheSize);
+        int capacity = tableCapacity(maxEntries);
+        this.mask = capacity - 1;
+        this.slots = Arena.ofAuto().allocate(SLOT_SIZE * capacity, Long.BYTES);
+        log.infov("CACHE_SIZE: {0} (off-heap, {1} slots, {2} bytes)", maxEntries, capacity, slots.byteSize());
+        for (int i = maxEntries; i > 0; i--) {
+            put(String.valueOf(i), "value-" + i);
+        }
+    }
+
+    @Override
+    public @Nullable String getIfPresent(String key) {
+        int hash = spread(key.hashCode());
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            try {
+                String value = read(key, hash);
+                if (lock.validate(stamp)) {
+                    return value;
+                }
+            } catch (RuntimeException e) {
+                // A torn slot can fail to decode before validation runs; fall through and re-read under the lock.
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return read(key, hash);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Inserts or replaces an entry, evicting one entry via CLOCK when the cache is full.
+     *
+     * @param key   key of at most {@value #MAX_KEY_BYTES} UTF-8 bytes
+     * @param value value of at most {@value #MAX_VALUE_BYTES} UTF-8 bytes, without NUL characters
+     * @throws IllegalArgumentException when the key or value does not fit a slot
+     */
+    public void put(String key, String value) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        byte[] valueBytes = value.getBytes(StandardCharsets.UTF_8);
+        if (keyBytes.length > MAX_KEY_BYTES) {
+            throw new IllegalArgumentException("key exceeds " + MAX_KEY_BYTES + " bytes: " + key);
+        }
+        if (valueBytes.length > MAX_VALUE_BYTES || value.indexOf('\0') >= 0) {
+            throw new IllegalArgumentException("value must be at most " + MAX_VALUE_BYTES
+                + " bytes without NUL characters");
+        }
+        int hash = spread(key.hashCode());
+
+        long stamp = lock.writeLock();
+        try {
+            int index = hash & mask;
+            while (state(index) == FULL) {
+                if (slots.get(ValueLayout.JAVA_INT, base(index) + HASH_OFFSET) == hash
+                    && keyMatches(base(index), keyBytes)) {
+                    writeValue(base(index), valueBytes);
+                    return;
+                }
+                index = (index + 1) & mask;
+            }
+            if (size >= maxEntries) {
+                evict();
+                // Backward-shift may have moved entries; restart the probe for a free slot.
+                index = hash & mask;
+                while (state(index) == FULL) {
+                    index = (index + 1) & mask;
+                }
+            }
+            long base = base(index);
+            slots.set(ValueLayout.JAVA_INT, base + HASH_OFFSET, hash);
+            slots.set(ValueLayout.JAVA_BYTE, base + KEY_LENGTH_OFFSET, (byte) keyBytes.length);
+            MemorySegment.copy(keyBytes, 0, slots, ValueLayout.JAVA_BYTE, base + KEY_OFFSET, keyBytes.length);
+            writeValue(base, valueBytes);
+            slots.set(ValueLayout.JAVA_BYTE, base + REF_OFFSET, (byte) 0);
+            slots.set(ValueLayout.JAVA_BYTE, base + STATE_OFFSET, FULL);
+            size++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the number of live entries.
+     *
+     * @return entry count
+     */
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Probes for {@code key}. Safe to run optimistically: every loop is bounded, and torn reads are
+     * discarded by the caller's stamp validation or, if decoding them throws, retried under the read lock.
+     */
+    private @Nullable String read(String key, int hash) {
+        int index = hash & mask;
+        for (int probes = 0; probes <= mask; probes++) {
+            long base = base(index);
+            if (slots.get(ValueLayout.JAVA_BYTE, base + STATE_OFFSET) != FULL) {
+                return null;
+            }
+            if (slots.get(ValueLayout.JAVA_INT, base + HASH_OFFSET) == hash && keyMatches(base, key)) {
+                if (slots.get(ValueLayout.JAVA_BYTE, base + REF_OFFSET) == 0) {
+                    // Benign race: at worst a neighbouring slot gets a second chance it did not earn.
+                    slots.set(ValueLayout.JAVA_BYTE, base + REF_OFFSET, (byte) 1);
+                }
+                return slots.getString(base + VALUE_OFFSET, StandardCharsets.UTF_8);
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    /** Compares the stored key with {@code key} without allocating for ASCII keys. */
+    private boolean keyMatches(long base, String key) {
+        int length = Byte.toUnsignedInt(slots.get(ValueLayout.JAVA_BYTE, base + KEY_LENGTH_OFFSET));
+        int chars = key.length();
+        for (int i = 0; i < chars; i++) {
+            char c = key.charAt(i);
+            if (c >= 0x80) {
+                return keyMatches(base, key.getBytes(StandardCharsets.UTF_8));
+            }
+            if (i >= length || slots.get(ValueLayout.JAVA_BYTE, base + KEY_OFFSET + i) != (byte) c) {
+                return false;
+            }
+        }
+        return chars == length;
+    }
+
+    private boolean keyMatches(long base, byte[] keyBytes) {
+        int length = Byte.toUnsignedInt(slots.get(ValueLayout.JAVA_BYTE, base + KEY_LENGTH_OFFSET));
+        return length == keyBytes.length
+            && MemorySegment.mismatch(slots, base + KEY_OFFSET, base + KEY_OFFSET + length,
+                MemorySegment.ofArray(keyBytes), 0, length) == -1;
+    }
+
+    private void writeValue(long base, byte[] valueBytes) {
+        MemorySegment.copy(valueBytes, 0, slots, ValueLayout.JAVA_BYTE, base + VALUE_OFFSET, valueBytes.length);
+        slots.set(ValueLayout.JAVA_BYTE, base + VALUE_OFFSET + valueBytes.length, (byte) 0);
+    }
+
+    /** Advances the clock hand, giving referenced entries a second chance, and removes the first victim. */
+    private void evict() {
+        while (true) {
+            int index = clockHand;
+            clockHand = (clockHand + 1) & mask;
+            if (state(index) != FULL) {
+                continue;
+            }
+            long base = base(index);
+            if (slots.get(ValueLayout.JAVA_BYTE, base + REF_OFFSET) != 0) {
+                slots.set(ValueLayout.JAVA_BYTE, base + REF_OFFSET, (byte) 0);
+                continue;
+            }
+            remove(index);
+            return;
+        }
+    }
+
+    /** Backward-shift deletion: pulls later chain members into the hole so lookups never stop early. */
+    private void remove(int index) {
+        int hole = index;
+        int next = (hole + 1) & mask;
+        while (state(next) == FULL) {
+            int home = slots.get(ValueLayout.JAVA_INT, base(next) + HASH_OFFSET) & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                MemorySegment.copy(slots, base(next), slots, base(hole), SLOT_SIZE);
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        slots.asSlice(base(hole), SLOT_SIZE).fill((byte) 0);
+        size--;
+    }
+
+    private byte state(int index) {
+        return slots.get(ValueLayout.JAVA_BYTE, base(index) + STATE_OFFSET);
+    }
+
+    private static long base(int index) {
+        return index * SLOT_SIZE;
+    }
+
+    private static int spread(int hashCode) {
+        return hashCode ^ (hashCode >>> 16);
+    }
+
+    /** Smallest power of two keeping the load factor at or below 0.75. */
+    private static int tableCapacity(int entries) {
+        int needed = (int) ((long) entries * 4 / 3 + 1);
+        return Integer.highestOneBit(needed - 1) << 1;
+    }
+
+    private static int clampCacheSize(int value) {
+        if (value < MIN_CACHE_SIZE) {
+            return DEFAULT_CACHE_SIZE;
+        }
+        return Math.min(value, MAX_CACHE_SIZE);
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.georgecodes.benchmarking.quarkus.infra.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process stand-in for the system of record behind the hello cache.
+ *
+ * <p>Key {@code "N"} resolves to {@code "value-N"} (the same entries the cache is pre-populated with) after a
+ * fixed latency (env {@code CACHE_LOAD_LATENCY_MS}). The latency is a timer, not a sleeping thread, so the
+ * store behaves like a non-blocking client: only callers that choose to wait for the result block.
+ */
+public final class SimulatedDataStore {
+
+    /** Simulated round-trip latency in milliseconds. */
+    private final long latencyMillis;
+
+    /** Number of loads served, i.e. cache misses and refreshes that reached the store. */
+    private final LongAdder loads = new LongAdder();
+
+    /**
+     * Creates a store answering after {@code latencyMillis}.
+     *
+     * @param latencyMillis simulated latency; negative values are treated as {@code 0}
+     */
+    public SimulatedDataStore(long latencyMillis) {
+        this.latencyMillis = Math.max(0L, latencyMillis);
+    }
+
+    /**
+     * Fetches the value for {@code key}.
+     *
+     * @param key      cache key
+     * @param executor executor completing the returned future
+     * @return future completed with {@code "value-" + key} once the latency has elapsed
+     */
+    public CompletableFuture<String> load(String key, Executor executor) {
+        loads.increment();
+        Executor completion = latencyMillis == 0
+            ? executor
+            : CompletableFuture.delayedExecutor(latencyMillis, TimeUnit.MILLISECONDS, executor);
+        return CompletableFuture.supplyAsync(() -> "value-" + key, completion);
+    }
+
+    /**
+     * Returns the number of loads served so far.
+     *
+     * @return load count
+     */
+    public long loads() {
+        return loads.sum();
+    }
+
+    /**
+     * Returns the simulated latency.
+     *
+     * @return latency in milliseconds
+     */
+    public long latencyMillis() {
+        return latencyMillis;
+    }
+}
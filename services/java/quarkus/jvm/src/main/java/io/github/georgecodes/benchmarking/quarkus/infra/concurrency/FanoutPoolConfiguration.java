@@ -0,0 +1,46 @@
+package io.github.georgecodes.benchmarking.quarkus.infra.concurrency;
+
+import io.github.georgecodes.benchmarking.quarkus.application.Fanout;
+import io.github.georgecodes.benchmarking.quarkus.application.FanoutService;
+import jakarta.enterprise.inject.Disposes;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import lombok.extern.jbosslog.JBossLog;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Infrastructure configuration that turns {@code FANOUT_PLATFORM_THREADS} into the bounded executor used by
+ * platform-thread fan-outs.
+ */
+@SuppressWarnings("unused")
+@JBossLog
+public final class FanoutPoolConfiguration {
+
+    /**
+     * Creates the bounded fan-out pool; its threads start on first use.
+     *
+     * @param threads pool size
+     * @return executor injected into {@link FanoutService}
+     */
+    @Produces
+    @Singleton
+    @Named(FanoutService.PLATFORM_POOL)
+    ExecutorService fanoutPlatformPool(
+        @ConfigProperty(name = "FANOUT_PLATFORM_THREADS", defaultValue = "64") int threads
+    ) {
+        log.infov("FANOUT_PLATFORM_THREADS: {0}", threads);
+        return Fanout.newPlatformPool(threads);
+    }
+
+    /**
+     * Stops the pool on shutdown, interrupting fan-outs still in flight.
+     *
+     * @param pool the produced pool
+     */
+    void shutdown(@Disposes @Named(FanoutService.PLATFORM_POOL) ExecutorService pool) {
+        pool.shutdownNow();
+    }
+}
@@ -2,13 +2,16 @@ package io.github.georgecodes.benchmarking.quarkus.infra.metrics;
 
 import io.github.georgecodes.benchmarking.quarkus.application.port.MetricsPort;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.enterprise.context.ApplicationScoped;
 import lombok.RequiredArgsConstructor;
 
 import java.util.Collection;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Infrastructure adapter for Micrometer.
@@ -28,6 +31,26 @@ public class MicrometerMetricsAdapter implements MetricsPort {
     private final ConcurrentHashMap<String, Counter> countersByEndpoint =
         new ConcurrentHashMap<>(HelloModeCount.EXPECTED_SIZE);
 
+    /**
+     * Cache miss counter, registered on the first miss so runs without misses export no extra meter.
+     */
+    private volatile Counter cacheMissCounter;
+
+    /**
+     * CPU time spent on the {@code work} query parameter, registered on first use like the cache miss counter.
+     */
+    private volatile Timer workCpuTimer;
+
+    /**
+     * Per-connection peak outstanding bytes of {@code /hello/stream}, registered on the first closed stream.
+     */
+    private volatile DistributionSummary streamOutstandingPeak;
+
+    /**
+     * Request body bytes of {@code /hello/echo}, registered on the first echo request.
+     */
+    private volatile Counter echoRequestBytes;
+
 
     @Override
     public void preRegisterHelloRequestCounters(Collection<String> endpointTags) {
@@ -49,6 +72,73 @@ public class MicrometerMetricsAdapter implements MetricsPort {
             .increment();
     }
 
+    @Override
+    public void incrementCacheMiss() {
+        cacheMissCounter().increment();
+    }
+
+    @Override
+    public void recordWorkCpuTime(long cpuNanos) {
+        workCpuTimer().record(cpuNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordStreamOutstandingPeak(long bytes) {
+        streamOutstandingPeak().record(bytes);
+    }
+
+    @Override
+    public void recordEchoRequestBytes(long bytes) {
+        echoRequestBytes().increment(bytes);
+    }
+
+    private Counter echoRequestBytes() {
+        Counter counter = echoRequestBytes;
+        if (counter == null) {
+            counter = Counter.builder("hello.echo.request.bytes")
+                .description("Request body bytes received by the echo endpoint")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+            echoRequestBytes = counter;
+        }
+        return counter;
+    }
+
+    private DistributionSummary streamOutstandingPeak() {
+        DistributionSummary summary = streamOutstandingPeak;
+        if (summary == null) {
+            summary = DistributionSummary.builder("hello.stream.outstanding.peak")
+                .description("Peak bytes of a hello stream produced but not yet taken by its connection")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+            streamOutstandingPeak = summary;
+        }
+        return summary;
+    }
+
+    private Timer workCpuTimer() {
+        Timer timer = workCpuTimer;
+        if (timer == null) {
+            timer = Timer.builder("hello.work.cpu.time")
+                .description("CPU time spent on the work query parameter")
+                .register(meterRegistry);
+            workCpuTimer = timer;
+        }
+        return timer;
+    }
+
+    private Counter cacheMissCounter() {
+        Counter counter = cacheMissCounter;
+        if (counter == null) {
+            // Registration is idempotent, so a racing first call just resolves the same meter.
+            counter = Counter.builder("hello.cache.miss.count")
+                .description("Hello cache lookups that found no entry")
+                .register(meterRegistry);
+            cacheMissCounter = counter;
+        }
+        return counter;
+    }
+
     private Counter registerHelloCounter(String endpointTag) {
         return Counter.builder("hello.request.count")
             .description("Hello request count")
@@ -0,0 +1,30 @@
+package io.github.georgecodes.benchmarking.quarkus.infra.time;
+
+import io.github.georgecodes.benchmarking.quarkus.application.LatencyProfile;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
+import lombok.extern.jbosslog.JBossLog;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Infrastructure configuration that turns {@code LATENCY_PROFILE} into the {@link LatencyProfile}
+ * applied to the injected request delay.
+ */
+@SuppressWarnings("unused")
+@JBossLog
+public final class LatencyProfileConfiguration {
+
+    /**
+     * Creates the default latency profile shared by all hello endpoints.
+     *
+     * @param spec profile spec such as {@code lognormal:1.0}
+     * @return LatencyProfile instance
+     */
+    @Produces
+    @Singleton
+    LatencyProfile latencyProfile(@ConfigProperty(name = "LATENCY_PROFILE", defaultValue = "constant") String spec) {
+        LatencyProfile profile = LatencyProfile.parse(spec);
+        log.infov("LATENCY_PROFILE: {0}", profile);
+        return profile;
+    }
+}
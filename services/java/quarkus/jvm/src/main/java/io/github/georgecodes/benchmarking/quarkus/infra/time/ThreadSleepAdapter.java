@@ -8,9 +8,9 @@ import jakarta.enterprise.context.ApplicationScoped;
 public class ThreadSleepAdapter implements SleepPort {
     @Override
     public void sleep(long amount, TimeUnit unit) throws InterruptedException {
-        if (unit != TimeUnit.SECONDS) {
-            throw new IllegalArgumentException("Only SECONDS supported");
+        if (unit == null) {
+            throw new IllegalArgumentException("unit must not be null");
         }
-        Thread.sleep(amount * 1000L);
+        Thread.sleep(unit.toMillis(amount));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,71 @@
+package io.github.georgecodes.benchmarking.quarkus.infra.transport;
+
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.vertx.VertxOptionsCustomizer;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import lombok.extern.jbosslog.JBossLog;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.Locale;
+
+/**
+ * Infrastructure configuration that turns {@code IO_TRANSPORT} into the Vert.x transport preference.
+ *
+ * <p>Quarkus' Vert.x chooses between NIO and its native transport (epoll on Linux) only, so {@code io_uring}
+ * runs on epoll with a warning. Vert.x falls back to NIO by itself when epoll cannot be loaded; the transport
+ * actually used is logged once on startup.
+ */
+@SuppressWarnings("unused")
+@JBossLog
+@ApplicationScoped
+public class IoTransportCustomizer implements VertxOptionsCustomizer {
+
+    /** Requested transport, lower-cased. */
+    private final String ioTransport;
+
+    /** Whether Vert.x should prefer its native transport. */
+    private final boolean preferNativeTransport;
+
+    IoTransportCustomizer(@ConfigProperty(name = "IO_TRANSPORT", defaultValue = "epoll") String ioTransport) {
+        this.ioTransport = ioTransport.trim().toLowerCase(Locale.ROOT);
+        this.preferNativeTransport = preferNativeTransport(this.ioTransport);
+    }
+
+    @Override
+    public void accept(VertxOptions options) {
+        options.setPreferNativeTransport(preferNativeTransport);
+    }
+
+    void onStart(@Observes StartupEvent event, Vertx vertx) {
+        boolean nativeTransport = vertx.isNativeTransportEnabled();
+        if (preferNativeTransport && !nativeTransport) {
+            log.warnv("IO_TRANSPORT={0} unavailable, using nio: {1}", ioTransport,
+                vertx.unavailableNativeTransportCause());
+        } else {
+            log.infov("IO_TRANSPORT={0} using {1}", ioTransport, nativeTransport ? "epoll" : "nio");
+        }
+    }
+
+    /**
+     * Maps an {@code IO_TRANSPORT} value to the Vert.x native transport preference.
+     *
+     * @param ioTransport {@code epoll}, {@code io_uring} ({@code io-uring}, {@code iouring}) or {@code nio}
+     * @return whether to prefer the native transport
+     * @throws IllegalArgumentException when the value is not recognised
+     */
+    static boolean preferNativeTransport(String ioTransport) {
+        return switch (ioTransport) {
+            case "nio" -> false;
+            case "epoll" -> true;
+            case "io_uring", "io-uring", "iouring" -> {
+                log.warnv("IO_TRANSPORT={0} is not supported by the Quarkus Vert.x runtime, using epoll",
+                    ioTransport);
+                yield true;
+            }
+            default -> throw new IllegalArgumentException("Unsupported IO_TRANSPORT: " + ioTransport);
+        };
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.georgecodes.benchmarking.quarkus.rest;
+
+import io.github.georgecodes.benchmarking.quarkus.application.EchoRequest;
+import io.github.georgecodes.benchmarking.quarkus.application.EchoResponse;
+import io.github.georgecodes.benchmarking.quarkus.application.EchoService;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+
+import java.util.Objects;
+
+/**
+ * REST resource for the JSON request-body benchmark, sharing the {@code /hello} prefix with {@link HelloResource}.
+ * Jackson binds the body to an {@link EchoRequest} record; the blocking signature keeps the method on a worker
+ * thread, so loading-cache misses never block the event loop.
+ */
+@Path("/hello")
+public class EchoResource {
+
+    /**
+     * Use-case service behind the endpoint.
+     */
+    private final EchoService echoService;
+
+    public EchoResource(EchoService echoService) {
+        this.echoService = Objects.requireNonNull(echoService, "echoService");
+    }
+
+    /**
+     * Echoes every request item with the cached value of its key.
+     *
+     * @param request       bound request body
+     * @param contentLength declared body size in bytes, {@code -1} if not sent
+     * @return echoed items
+     */
+    @POST
+    @Path("/echo")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    public EchoResponse echo(
+        EchoRequest request,
+        @HeaderParam(HttpHeaders.CONTENT_LENGTH) @DefaultValue("-1") long contentLength
+    ) {
+        return echoService.echo(request, contentLength);
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.georgecodes.benchmarking.quarkus.rest;
+
+import io.github.georgecodes.benchmarking.quarkus.application.Fanout;
+import io.github.georgecodes.benchmarking.quarkus.application.FanoutService;
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import io.smallrye.mutiny.Uni;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * REST resource for the fan-out benchmark, sharing the {@code /hello} prefix with {@link HelloResource}.
+ * The same fan-out is served in each concurrency style: a bounded platform pool, per-request virtual threads,
+ * and {@code Uni.combine()} on the event loop.
+ */
+@Path("/hello/fanout")
+@Produces(MediaType.APPLICATION_JSON)
+public class FanoutResource {
+
+    /**
+     * Use-case service behind the endpoints.
+     */
+    private final FanoutService fanoutService;
+
+    public FanoutResource(FanoutService fanoutService) {
+        this.fanoutService = Objects.requireNonNull(fanoutService, "fanoutService");
+    }
+
+    /**
+     * Runs the branches on the bounded platform pool; the worker thread blocks until they are joined.
+     *
+     * @param branches    number of concurrent lookups
+     * @param sleepMillis per-lookup latency in milliseconds
+     * @param failBranch  branch that fails at once, {@code -1} for none
+     * @return cached values in branch order
+     * @throws InterruptedException if the worker thread is interrupted while waiting
+     */
+    @GET
+    @Blocking
+    @Path("/platform")
+    public List<String> fanoutPlatform(
+        @QueryParam("n") @DefaultValue("4") int branches,
+        @QueryParam("sleepMs") @DefaultValue("0") long sleepMillis,
+        @QueryParam("fail") @DefaultValue("-1") int failBranch
+    ) throws InterruptedException {
+        return fanoutService.platformFanout(branches, sleepMillis, failBranch);
+    }
+
+    /**
+     * Forks the branches onto per-request virtual threads that are joined before the method returns.
+     *
+     * @param branches    number of concurrent lookups
+     * @param sleepMillis per-lookup latency in milliseconds
+     * @param failBranch  branch that fails at once, {@code -1} for none
+     * @return cached values in branch order
+     * @throws InterruptedException if the virtual thread is interrupted while waiting
+     */
+    @GET
+    @Path("/virtual")
+    @RunOnVirtualThread
+    public List<String> fanoutVirtual(
+        @QueryParam("n") @DefaultValue("4") int branches,
+        @QueryParam("sleepMs") @DefaultValue("0") long sleepMillis,
+        @QueryParam("fail") @DefaultValue("-1") int failBranch
+    ) throws InterruptedException {
+        return fanoutService.virtualFanout(branches, sleepMillis, failBranch);
+    }
+
+    /**
+     * Combines one {@link Uni} per branch, each behind a Mutiny timer. {@code Uni.combine().all()} fails on the
+     * first branch failure and cancels the others.
+     *
+     * @param branches    number of concurrent lookups
+     * @param sleepMillis per-lookup latency in milliseconds
+     * @param failBranch  branch that fails at once, {@code -1} for none
+     * @return Uni with the cached values in branch order
+     */
+    @GET
+    @Path("/reactive")
+    public Uni<List<String>> fanoutReactive(
+        @QueryParam("n") @DefaultValue("4") int branches,
+        @QueryParam("sleepMs") @DefaultValue("0") long sleepMillis,
+        @QueryParam("fail") @DefaultValue("-1") int failBranch
+    ) {
+        int n = Fanout.checkBranches(branches);
+        Duration sleep = Duration.ofMillis(Fanout.checkSleep(sleepMillis));
+        int fail = Fanout.checkFail(failBranch, n);
+        List<Uni<String>> lookups = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            lookups.add(branch(i, sleep, fail));
+        }
+        return Uni.combine().all().unis(lookups).with(String.class, values -> values);
+    }
+
+    private Uni<String> branch(int branch, Duration sleep, int failBranch) {
+        if (branch == failBranch) {
+            return Uni.createFrom().failure(() -> Fanout.failure(branch));
+        }
+        Uni<String> lookup = Uni.createFrom().completionStage(fanoutService::lookupAsync);
+        if (sleep.isZero()) {
+            return lookup;
+        }
+        return Uni.createFrom().voidItem()
+            .onItem().delayIt().by(sleep)
+            .replaceWith(lookup);
+    }
+}
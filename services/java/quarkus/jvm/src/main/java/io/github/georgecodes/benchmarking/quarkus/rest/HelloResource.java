@@ -1,9 +1,14 @@
 package io.github.georgecodes.benchmarking.quarkus.rest;
 
 import io.github.georgecodes.benchmarking.quarkus.application.HelloService;
+import io.github.georgecodes.benchmarking.quarkus.application.HelloStream;
+import io.github.georgecodes.benchmarking.quarkus.application.LatencyProfile;
+import io.github.georgecodes.benchmarking.quarkus.application.StreamBacklog;
 import io.github.georgecodes.benchmarking.quarkus.application.port.HelloMode;
+import io.github.georgecodes.benchmarking.quarkus.application.port.TimeUnit;
 import io.smallrye.common.annotation.Blocking;
 import io.smallrye.common.annotation.RunOnVirtualThread;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.DefaultValue;
@@ -13,8 +18,11 @@ import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 import lombok.extern.jbosslog.JBossLog;
+import org.jboss.resteasy.reactive.RestStreamElementType;
 
+import java.time.Duration;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * REST resource providing hello endpoints with different thread models.
@@ -30,15 +38,28 @@ public class HelloResource {
      */
     private final HelloService helloService;
 
-    @Inject
+    /**
+     * Distribution applied to the requested delay unless the request overrides it.
+     */
+    private final LatencyProfile latencyProfile;
+
     public HelloResource(HelloService helloService) {
+        this(helloService, LatencyProfile.constant());
+    }
+
+    @Inject
+    public HelloResource(HelloService helloService, LatencyProfile latencyProfile) {
         this.helloService = Objects.requireNonNull(helloService, "helloService");
+        this.latencyProfile = Objects.requireNonNull(latencyProfile, "latencyProfile");
     }
 
     /**
      * Handles requests using platform threads (standard JVM threads).
      *
      * @param sleepSeconds optional sleep duration in seconds for simulating work
+     * @param sleepMillis optional sleep duration in milliseconds, added to {@code sleepSeconds}
+     * @param latency optional latency profile overriding {@code LATENCY_PROFILE} for this request
+     * @param work optional CPU work in KiB, hashed on the serving thread after the delay
      * @param printLog whether to log thread information
      * @return greeting message with cached value
      * @throws InterruptedException if the thread sleep is interrupted
@@ -48,19 +69,26 @@ public class HelloResource {
     @Path("/platform")
     public String helloPlatform(
         @QueryParam("sleep") @DefaultValue("0") int sleepSeconds,
+        @QueryParam("sleepMs") @DefaultValue("0") long sleepMillis,
+        @QueryParam("latency") String latency,
+        @QueryParam("work") @DefaultValue("0") int work,
         @QueryParam("log") @DefaultValue("false") boolean printLog
     ) throws InterruptedException {
         if (printLog) {
             var currentThread = Thread.currentThread();
             log.infov("platform thread: {0}, isVirtual: {1}", currentThread, currentThread.isVirtual());
         }
-        return helloService.hello(HelloMode.PLATFORM, sleepSeconds);
+        long delayMillis = delayMillis(sleepSeconds, sleepMillis, latency);
+        return helloService.hello(HelloMode.PLATFORM, delayMillis, TimeUnit.MILLISECONDS, work);
     }
 
     /**
      * Handles requests using virtual threads (Project Loom).
      *
      * @param sleepSeconds optional sleep duration in seconds for simulating work
+     * @param sleepMillis optional sleep duration in milliseconds, added to {@code sleepSeconds}
+     * @param latency optional latency profile overriding {@code LATENCY_PROFILE} for this request
+     * @param work optional CPU work in KiB, hashed on the serving thread after the delay
      * @param printLog whether to log thread information
      * @return greeting message with cached value
      * @throws InterruptedException if the thread sleep is interrupted
@@ -70,19 +98,29 @@ public class HelloResource {
     @RunOnVirtualThread
     public String helloVirtual(
         @QueryParam("sleep") @DefaultValue("0") int sleepSeconds,
+        @QueryParam("sleepMs") @DefaultValue("0") long sleepMillis,
+        @QueryParam("latency") String latency,
+        @QueryParam("work") @DefaultValue("0") int work,
         @QueryParam("log") @DefaultValue("false") boolean printLog
     ) throws InterruptedException {
         if (printLog) {
             var currentThread = Thread.currentThread();
             log.infov("virtual thread: {0}, isVirtual: {1}", currentThread, currentThread.isVirtual());
         }
-        return helloService.hello(HelloMode.VIRTUAL, sleepSeconds);
+        long delayMillis = delayMillis(sleepSeconds, sleepMillis, latency);
+        return helloService.hello(HelloMode.VIRTUAL, delayMillis, TimeUnit.MILLISECONDS, work);
     }
 
     /**
      * Handles requests using reactive programming model with Mutiny.
+     * The optional delay (shaped by the latency profile) is a Mutiny timer, so it never blocks the event loop.
+     * With {@code CACHE_MODE=loading}, a cache miss completes the Uni when the load finishes instead of
+     * blocking the event loop.
      *
-     * @param sleepSeconds optional sleep duration in seconds (not recommended under load)
+     * @param sleepSeconds optional delay in seconds
+     * @param sleepMillis optional delay in milliseconds, added to {@code sleepSeconds}
+     * @param latency optional latency profile overriding {@code LATENCY_PROFILE} for this request
+     * @param work optional CPU work in KiB, hashed on the serving thread after the delay
      * @param printLog whether to log thread information
      * @return Uni with greeting message and cached value
      */
@@ -90,19 +128,83 @@ public class HelloResource {
     @Path("/reactive")
     public Uni<String> helloReactive(
         @QueryParam("sleep") @DefaultValue("0") int sleepSeconds,
+        @QueryParam("sleepMs") @DefaultValue("0") long sleepMillis,
+        @QueryParam("latency") String latency,
+        @QueryParam("work") @DefaultValue("0") int work,
         @QueryParam("log") @DefaultValue("false") boolean printLog
     ) {
-        return Uni.createFrom().item(() -> {
-            if (printLog) {
-                var currentThread = Thread.currentThread();
-                log.infov("reactive thread: {0}, isVirtual: {1}", currentThread, currentThread.isVirtual());
-            }
-            try {
-                return helloService.hello(HelloMode.REACTIVE, sleepSeconds);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                return "Interrupted";
-            }
-        });
+        long delayMillis = delayMillis(sleepSeconds, sleepMillis, latency);
+        Uni<String> response = helloService.loadsOnMiss()
+            ? Uni.createFrom().deferred(() -> {
+                logReactiveThread(printLog);
+                return Uni.createFrom().completionStage(helloService.helloAsync(HelloMode.REACTIVE, work));
+            })
+            : Uni.createFrom().item(() -> {
+                logReactiveThread(printLog);
+                try {
+                    return helloService.hello(HelloMode.REACTIVE, 0, TimeUnit.MILLISECONDS, work);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return "Interrupted";
+                }
+            });
+        if (delayMillis == 0) {
+            return response;
+        }
+        return Uni.createFrom().voidItem()
+            .onItem().delayIt().by(Duration.ofMillis(delayMillis))
+            .replaceWith(response);
+    }
+
+    /**
+     * Streams {@code n} hello elements as newline-delimited JSON, {@code interval} milliseconds apart.
+     * Quarkus REST requests the next element only when the previous write has completed, so the element in
+     * flight is the whole backlog: it counts as outstanding from emission until that next request.
+     *
+     * @param elements number of elements
+     * @param intervalMillis delay before every element after the first, in milliseconds
+     * @return element stream, each line completed with a newline by Quarkus REST
+     */
+    @GET
+    @Path("/stream")
+    @Produces(HelloStream.CONTENT_TYPE)
+    @RestStreamElementType(MediaType.TEXT_PLAIN)
+    public Multi<String> helloStream(
+        @QueryParam("n") @DefaultValue("10") int elements,
+        @QueryParam("interval") @DefaultValue("0") long intervalMillis
+    ) {
+        int n = HelloStream.checkElements(elements);
+        Duration interval = Duration.ofMillis(HelloStream.checkInterval(intervalMillis));
+        return Uni.createFrom().completionStage(() -> helloService.helloAsync(HelloMode.REACTIVE))
+            .onItem().transformToMulti(message -> stream(message, n, interval));
+    }
+
+    private Multi<String> stream(String message, int elements, Duration interval) {
+        StreamBacklog backlog = helloService.openStream();
+        AtomicLong inFlight = new AtomicLong();
+        return Multi.createFrom().range(0, elements)
+            .onItem().call(seq -> seq == 0 || interval.isZero()
+                ? Uni.createFrom().voidItem()
+                : Uni.createFrom().voidItem().onItem().delayIt().by(interval))
+            .onItem().transform(seq -> HelloStream.line(seq, message))
+            .onItem().invoke(line -> {
+                // Elements are ASCII; the newline is appended by the writer.
+                long bytes = line.length() + 1L;
+                backlog.produced(bytes);
+                inFlight.set(bytes);
+            })
+            .onRequest().invoke(() -> backlog.written(inFlight.getAndSet(0)))
+            .onTermination().invoke(backlog::close);
+    }
+
+    private long delayMillis(int sleepSeconds, long sleepMillis, String latency) {
+        return latencyProfile.override(latency).sampleMillis(HelloService.delayMillis(sleepSeconds, sleepMillis));
+    }
+
+    private static void logReactiveThread(boolean printLog) {
+        if (printLog) {
+            var currentThread = Thread.currentThread();
+            log.infov("reactive thread: {0}, isVirtual: {1}", currentThread, currentThread.isVirtual());
+        }
     }
-}
\ No newline at end of file
+}
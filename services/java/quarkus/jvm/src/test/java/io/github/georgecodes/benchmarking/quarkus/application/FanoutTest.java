@@ -0,0 +1,89 @@
+package io.github.georgecodes.benchmarking.quarkus.application;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link Fanout}.
+ */
+class FanoutTest {
+
+    @Test
+    void joinReturnsResultsInBranchOrder() throws InterruptedException {
+        List<Callable<String>> branches = List.of(
+            () -> {
+                Thread.sleep(30);
+                return "a";
+            },
+            () -> "b",
+            () -> "c");
+        ExecutorService pool = Fanout.newPlatformPool(3);
+        try {
+            assertEquals(List.of("a", "b", "c"), Fanout.join(pool, branches));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void forkJoinCancelsRemainingBranchesOnFirstFailure() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        List<Callable<String>> branches = List.of(
+            () -> {
+                try {
+                    Thread.sleep(Fanout.MAX_SLEEP_MILLIS);
+                    return "slow";
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    throw e;
+                }
+            },
+            () -> {
+                throw Fanout.failure(1);
+            });
+
+        Fanout.BranchFailedException failure =
+            assertThrows(Fanout.BranchFailedException.class, () -> Fanout.forkJoin(branches));
+        assertEquals("fanout branch 1 failed", failure.getMessage());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS), "slow branch should have been interrupted");
+    }
+
+    @Test
+    void joinWrapsCheckedBranchFailures() {
+        List<Callable<String>> branches = List.of(() -> {
+            throw new Exception("boom");
+        });
+
+        IllegalStateException failure = assertThrows(IllegalStateException.class, () -> Fanout.forkJoin(branches));
+        assertEquals("boom", failure.getCause().getMessage());
+    }
+
+    @Test
+    void acceptsInRangeParameters() {
+        assertEquals(1, Fanout.checkBranches(1));
+        assertEquals(Fanout.MAX_BRANCHES, Fanout.checkBranches(Fanout.MAX_BRANCHES));
+        assertEquals(0L, Fanout.checkSleep(0));
+        assertEquals(Fanout.NO_FAILURE, Fanout.checkFail(Fanout.NO_FAILURE, 4));
+        assertEquals(3, Fanout.checkFail(3, 4));
+    }
+
+    @Test
+    void rejectsOutOfRangeParameters() {
+        assertThrows(IllegalArgumentException.class, () -> Fanout.checkBranches(0));
+        assertThrows(IllegalArgumentException.class, () -> Fanout.checkBranches(Fanout.MAX_BRANCHES + 1));
+        assertThrows(IllegalArgumentException.class, () -> Fanout.checkSleep(-1));
+        assertThrows(IllegalArgumentException.class, () -> Fanout.checkSleep(Fanout.MAX_SLEEP_MILLIS + 1));
+        assertThrows(IllegalArgumentException.class, () -> Fanout.checkFail(-2, 4));
+        assertThrows(IllegalArgumentException.class, () -> Fanout.checkFail(4, 4));
+        assertThrows(IllegalArgumentException.class, () -> Fanout.newPlatformPool(0));
+    }
+}
@@ -19,7 +19,8 @@ class HelloMetricsWarmupServiceTest {
         service.warmupHelloCounters();
 
         assertEquals(
-            List.of("/hello/platform", "/hello/virtual", "/hello/reactive"),
+            List.of("/hello/platform", "/hello/virtual", "/hello/reactive",
+                "/benchmarking.hello.v1.Hello/SayHello", "/benchmarking.hello.v1.Hello/StreamHello"),
             metricsPort.preRegisteredEndpointTags
         );
     }
@@ -32,6 +33,26 @@ class HelloMetricsWarmupServiceTest {
             // Not needed in these tests.
         }
 
+        @Override
+        public void incrementCacheMiss() {
+            // Not needed in these tests.
+        }
+
+        @Override
+        public void recordWorkCpuTime(long cpuNanos) {
+            // Not needed in these tests.
+        }
+
+        @Override
+        public void recordStreamOutstandingPeak(long bytes) {
+            // Not needed in these tests.
+        }
+
+        @Override
+        public void recordEchoRequestBytes(long bytes) {
+            // Not needed in these tests.
+        }
+
         @Override
         public void preRegisterHelloRequestCounters(Collection<String> endpointTags) {
             preRegisteredEndpointTags = new ArrayList<>(endpointTags);
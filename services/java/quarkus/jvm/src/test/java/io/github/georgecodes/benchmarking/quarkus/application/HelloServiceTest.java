@@ -10,10 +10,14 @@ import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class HelloServiceTest {
 
@@ -48,6 +52,26 @@ class HelloServiceTest {
         assertEquals(TimeUnit.SECONDS, sleepPort.lastUnit);
     }
 
+    @Test
+    void helloSleepsForMillisecondDurations() throws InterruptedException {
+        RecordingSleepPort sleepPort = new RecordingSleepPort();
+        HelloService service = new HelloService(
+            new RecordingCachePort("value-1"), new RecordingMetricsPort(), sleepPort);
+
+        service.hello(HelloMode.PLATFORM, 1_250, TimeUnit.MILLISECONDS);
+
+        assertEquals(1250L, sleepPort.lastAmount);
+        assertEquals(TimeUnit.MILLISECONDS, sleepPort.lastUnit);
+    }
+
+    @Test
+    void delayMillisCombinesSecondsAndMilliseconds() {
+        assertEquals(0L, HelloService.delayMillis(0, 0));
+        assertEquals(2_015L, HelloService.delayMillis(2, 15));
+        assertThrows(IllegalArgumentException.class, () -> HelloService.delayMillis(-1, 0));
+        assertThrows(IllegalArgumentException.class, () -> HelloService.delayMillis(0, -5));
+    }
+
     @Test
     void helloRejectsNullMode() {
         HelloService service = new HelloService(
@@ -72,6 +96,78 @@ class HelloServiceTest {
         assertNull(cachePort.lastRequestedKey);
     }
 
+    @Test
+    void helloCountsLookupsOutsideTheCacheAsMisses() throws InterruptedException {
+        RecordingMetricsPort metricsPort = new RecordingMetricsPort();
+        HelloService service = new HelloService(
+            key -> "1".equals(key) ? "value-1" : null,
+            metricsPort,
+            new RecordingSleepPort(),
+            CacheKeySelector.parse("sequential", 4)
+        );
+
+        for (int i = 0; i < 4; i++) {
+            service.hello(HelloMode.PLATFORM, 0);
+        }
+
+        assertEquals(3, metricsPort.cacheMisses);
+    }
+
+    @Test
+    void helloAsyncCompletesWhenTheCacheLoadCompletes() {
+        CompletableFuture<String> pendingLoad = new CompletableFuture<>();
+        RecordingMetricsPort metricsPort = new RecordingMetricsPort();
+        CachePort loadingPort = new CachePort() {
+            @Override
+            public String getIfPresent(String key) {
+                throw new AssertionError("reactive path must not block on the cache");
+            }
+
+            @Override
+            public CompletionStage<String> getAsync(String key) {
+                return pendingLoad;
+            }
+
+            @Override
+            public boolean loading() {
+                return true;
+            }
+        };
+        HelloService service = new HelloService(loadingPort, metricsPort, new RecordingSleepPort());
+
+        CompletableFuture<String> response = service.helloAsync(HelloMode.REACTIVE).toCompletableFuture();
+
+        assertTrue(service.loadsOnMiss());
+        assertFalse(response.isDone());
+        pendingLoad.complete("value-7");
+        assertEquals("Hello from Quarkus reactive REST value-7", response.join());
+        assertEquals(List.of("/hello/reactive"), metricsPort.incrementedEndpoints);
+        assertEquals(0, metricsPort.cacheMisses);
+    }
+
+    @Test
+    void helloRecordsCpuTimeOnlyForRequestedWork() throws InterruptedException {
+        RecordingMetricsPort metricsPort = new RecordingMetricsPort();
+        HelloService service = new HelloService(
+            new RecordingCachePort("value-1"), metricsPort, new RecordingSleepPort());
+
+        service.hello(HelloMode.PLATFORM, 0, TimeUnit.MILLISECONDS, 0);
+        String response = service.hello(HelloMode.PLATFORM, 0, TimeUnit.MILLISECONDS, 32);
+
+        assertEquals("Hello from Quarkus platform REST value-1", response);
+        assertEquals(1, metricsPort.workCpuNanos.size());
+        assertTrue(metricsPort.workCpuNanos.getFirst() > 0);
+    }
+
+    @Test
+    void helloRejectsOutOfRangeWork() {
+        HelloService service = new HelloService(
+            new RecordingCachePort("value-1"), new RecordingMetricsPort(), new RecordingSleepPort());
+
+        assertThrows(IllegalArgumentException.class,
+            () -> service.hello(HelloMode.PLATFORM, 0, TimeUnit.MILLISECONDS, -1));
+    }
+
     private static final class RecordingCachePort implements CachePort {
         private final String value;
         private String lastRequestedKey;
@@ -89,12 +185,34 @@ class HelloServiceTest {
 
     private static final class RecordingMetricsPort implements MetricsPort {
         private final List<String> incrementedEndpoints = new ArrayList<>();
+        private int cacheMisses;
+        private final List<Long> workCpuNanos = new ArrayList<>();
 
         @Override
         public void incrementHelloRequest(String endpointTag) {
             incrementedEndpoints.add(endpointTag);
         }
 
+        @Override
+        public void incrementCacheMiss() {
+            cacheMisses++;
+        }
+
+        @Override
+        public void recordWorkCpuTime(long cpuNanos) {
+            workCpuNanos.add(cpuNanos);
+        }
+
+        @Override
+        public void recordStreamOutstandingPeak(long bytes) {
+            // No-op.
+        }
+
+        @Override
+        public void recordEchoRequestBytes(long bytes) {
+            // No-op.
+        }
+
         @Override
         public void preRegisterHelloRequestCounters(Collection<String> endpointTags) {
             // Not needed in these tests.
@@ -12,7 +12,11 @@ class HelloModeTest {
         assertAll(
             () -> assertMode(HelloMode.PLATFORM, "platform", "/hello/platform", "Hello from Quarkus platform REST "),
             () -> assertMode(HelloMode.VIRTUAL, "virtual", "/hello/virtual", "Hello from Quarkus virtual REST "),
-            () -> assertMode(HelloMode.REACTIVE, "reactive", "/hello/reactive", "Hello from Quarkus reactive REST ")
+            () -> assertMode(HelloMode.REACTIVE, "reactive", "/hello/reactive", "Hello from Quarkus reactive REST "),
+            () -> assertMode(HelloMode.GRPC, "reactive", "/benchmarking.hello.v1.Hello/SayHello",
+                "Hello from Quarkus reactive gRPC "),
+            () -> assertMode(HelloMode.GRPC_STREAM, "reactive", "/benchmarking.hello.v1.Hello/StreamHello",
+                "Hello from Quarkus reactive gRPC ")
         );
     }
 
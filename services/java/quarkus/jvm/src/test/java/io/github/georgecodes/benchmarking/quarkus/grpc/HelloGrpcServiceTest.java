@@ -0,0 +1,49 @@
+package io.github.georgecodes.benchmarking.quarkus.grpc;
+
+import io.grpc.Status;
+import io.quarkus.grpc.GrpcClient;
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@QuarkusTest
+public class HelloGrpcServiceTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @GrpcClient("hello")
+    Hello hello;
+
+    @Test
+    public void testSayHello() {
+        HelloReply reply = hello.sayHello(HelloRequest.newBuilder().setSleepMs(5).build())
+            .await().atMost(TIMEOUT);
+
+        assertEquals(0, reply.getSeq());
+        assertEquals("Hello from Quarkus reactive gRPC value-1", reply.getMessage());
+    }
+
+    @Test
+    public void testStreamHello() {
+        List<HelloReply> replies = hello.streamHello(StreamRequest.newBuilder().setN(3).setIntervalMs(1).build())
+            .collect().asList()
+            .await().atMost(TIMEOUT);
+
+        assertEquals(List.of(0L, 1L, 2L), replies.stream().map(HelloReply::getSeq).toList());
+    }
+
+    @Test
+    public void testStreamHelloRejectsOutOfRangeCount() {
+        Throwable failure = assertThrows(RuntimeException.class,
+            () -> hello.streamHello(StreamRequest.newBuilder().setN(-1).build())
+                .collect().asList()
+                .await().atMost(TIMEOUT));
+
+        assertEquals(Status.Code.INVALID_ARGUMENT, Status.fromThrowable(failure).getCode());
+    }
+}
@@ -39,6 +39,26 @@ class MetricsWarmupStartupObserverTest {
             // No-op.
         }
 
+        @Override
+        public void incrementCacheMiss() {
+            // No-op.
+        }
+
+        @Override
+        public void recordWorkCpuTime(long cpuNanos) {
+            // No-op.
+        }
+
+        @Override
+        public void recordStreamOutstandingPeak(long bytes) {
+            // No-op.
+        }
+
+        @Override
+        public void recordEchoRequestBytes(long bytes) {
+            // No-op.
+        }
+
         @Override
         public void preRegisterHelloRequestCounters(Collection<String> endpointTags) {
             // No-op.
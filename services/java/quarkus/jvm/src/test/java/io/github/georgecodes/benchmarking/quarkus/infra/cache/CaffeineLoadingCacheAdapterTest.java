@@ -0,0 +1,113 @@
+package io.github.georgecodes.benchmarking.quarkus.infra.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link CaffeineLoadingCacheAdapter}.
+ */
+class CaffeineLoadingCacheAdapterTest {
+
+    @Test
+    void prePopulatedKeysAreServedWithoutLoading() {
+        SimulatedDataStore store = new SimulatedDataStore(0);
+        CaffeineLoadingCacheAdapter adapter = adapter(10, store, Duration.ZERO);
+
+        assertEquals("value-1", adapter.getIfPresent("1"));
+        assertEquals("value-10", adapter.getAsync("10").toCompletableFuture().join());
+        assertEquals(0, store.loads());
+        assertTrue(adapter.loading());
+    }
+
+    @Test
+    void missesAreLoadedOnceThenServedFromTheCache() {
+        SimulatedDataStore store = new SimulatedDataStore(0);
+        CaffeineLoadingCacheAdapter adapter = adapter(10, store, Duration.ZERO);
+
+        assertEquals("value-42", adapter.getIfPresent("42"));
+        assertEquals("value-42", adapter.getIfPresent("42"));
+        assertEquals("value-42", adapter.getAsync("42").toCompletableFuture().join());
+        assertEquals(1, store.loads());
+    }
+
+    @Test
+    void asyncMissDoesNotBlockTheCaller() {
+        SimulatedDataStore store = new SimulatedDataStore(200);
+        CaffeineLoadingCacheAdapter adapter = adapter(1, store, Duration.ZERO);
+
+        CompletableFuture<String> pending = adapter.getAsync("7").toCompletableFuture();
+
+        assertFalse(pending.isDone());
+        assertEquals("value-7", pending.join());
+    }
+
+    @Test
+    void concurrentMissesOnTheSameKeyAreCoalesced() throws Exception {
+        SimulatedDataStore store = new SimulatedDataStore(100);
+        CaffeineLoadingCacheAdapter adapter = adapter(1, store, Duration.ZERO);
+        int callers = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < callers; i++) {
+                boolean async = i % 2 == 0;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return async ? adapter.getAsync("99").toCompletableFuture().join() : adapter.getIfPresent("99");
+                }));
+            }
+            start.countDown();
+            for (Future<String> result : results) {
+                assertEquals("value-99", result.get());
+            }
+        }
+        assertEquals(1, store.loads());
+    }
+
+    @Test
+    void staleEntriesAreReloadedInTheBackground() throws InterruptedException {
+        SimulatedDataStore store = new SimulatedDataStore(0);
+        CaffeineLoadingCacheAdapter adapter = adapter(1, store, Duration.ofMillis(1));
+
+        Thread.sleep(20);
+        assertEquals("value-1", adapter.getIfPresent("1"));
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (store.loads() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(1, store.loads());
+    }
+
+    @Test
+    void cacheStatisticsAreExported() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CaffeineLoadingCacheAdapter adapter = new CaffeineLoadingCacheAdapter(
+            1, new SimulatedDataStore(0), Duration.ZERO, CacheWarmer.parse(null), registry);
+
+        adapter.getIfPresent("1");
+        adapter.getIfPresent("2");
+
+        double misses = registry.get("cache.gets").tags("cache", "hello", "result", "miss").functionCounter().count();
+        assertEquals(1.0, misses);
+    }
+
+    private static CaffeineLoadingCacheAdapter adapter(long size, SimulatedDataStore store, Duration refresh) {
+        return new CaffeineLoadingCacheAdapter(
+            size, store, refresh, CacheWarmer.parse(null), new SimpleMeterRegistry());
+    }
+}
@@ -60,6 +60,56 @@ class MicrometerMetricsAdapterTest {
         assertEquals(1.0d, counter(registry, "/hello/virtual").count());
     }
 
+    @Test
+    void incrementCacheMissRegistersCounterOnFirstMiss() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MicrometerMetricsAdapter adapter = new MicrometerMetricsAdapter(registry);
+
+        assertNull(registry.find("hello.cache.miss.count").counter());
+
+        adapter.incrementCacheMiss();
+        adapter.incrementCacheMiss();
+
+        assertEquals(2.0d, registry.get("hello.cache.miss.count").counter().count());
+    }
+
+    @Test
+    void recordWorkCpuTimeRegistersTimerOnFirstUse() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MicrometerMetricsAdapter adapter = new MicrometerMetricsAdapter(registry);
+
+        assertNull(registry.find("hello.work.cpu.time").timer());
+
+        adapter.recordWorkCpuTime(1_000_000L);
+
+        assertEquals(1L, registry.get("hello.work.cpu.time").timer().count());
+    }
+
+    @Test
+    void recordStreamOutstandingPeakRegistersSummaryOnFirstUse() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MicrometerMetricsAdapter adapter = new MicrometerMetricsAdapter(registry);
+
+        assertNull(registry.find("hello.stream.outstanding.peak").summary());
+
+        adapter.recordStreamOutstandingPeak(4096L);
+
+        assertEquals(4096.0d, registry.get("hello.stream.outstanding.peak").summary().max());
+    }
+
+    @Test
+    void recordEchoRequestBytesRegistersCounterOnFirstUse() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MicrometerMetricsAdapter adapter = new MicrometerMetricsAdapter(registry);
+
+        assertNull(registry.find("hello.echo.request.bytes").counter());
+
+        adapter.recordEchoRequestBytes(100L);
+        adapter.recordEchoRequestBytes(28L);
+
+        assertEquals(128.0d, registry.get("hello.echo.request.bytes").counter().count());
+    }
+
     private static Counter counter(SimpleMeterRegistry registry, String endpointTag) {
         return registry.get("hello.request.count")
             .tag("endpoint", endpointTag)
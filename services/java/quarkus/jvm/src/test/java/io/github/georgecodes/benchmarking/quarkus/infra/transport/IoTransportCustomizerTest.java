@@ -0,0 +1,36 @@
+package io.github.georgecodes.benchmarking.quarkus.infra.transport;
+
+import io.vertx.core.VertxOptions;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IoTransportCustomizerTest {
+
+    @Test
+    void nativeTransportIsPreferredUnlessNioIsRequested() {
+        VertxOptions options = new VertxOptions();
+
+        new IoTransportCustomizer(" NIO ").accept(options);
+        assertFalse(options.getPreferNativeTransport());
+
+        new IoTransportCustomizer("epoll").accept(options);
+        assertTrue(options.getPreferNativeTransport());
+    }
+
+    @Test
+    void ioUringRunsOnEpoll() {
+        assertTrue(IoTransportCustomizer.preferNativeTransport("io_uring"));
+    }
+
+    @Test
+    void unknownTransportIsRejected() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> new IoTransportCustomizer("kqueue"));
+
+        assertEquals("Unsupported IO_TRANSPORT: kqueue", exception.getMessage());
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.georgecodes.benchmarking.quarkus.rest;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.equalTo;
+
+@QuarkusTest
+public class EchoResourceTest {
+
+    @Test
+    public void testEchoEndpoint() {
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"items\":[{\"key\":\"1\",\"payload\":\"a\"},{\"key\":\"2\",\"payload\":\"b\"}]}")
+            .when().post("/hello/echo")
+            .then()
+            .statusCode(200)
+            .contentType(ContentType.JSON)
+            .body("count", equalTo(2))
+            .body("items[0].key", equalTo("1"))
+            .body("items[1].payload", equalTo("b"));
+    }
+}
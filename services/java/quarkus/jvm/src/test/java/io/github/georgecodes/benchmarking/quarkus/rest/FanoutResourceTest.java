@@ -0,0 +1,66 @@
+package io.github.georgecodes.benchmarking.quarkus.rest;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.lessThan;
+
+@QuarkusTest
+public class FanoutResourceTest {
+
+    @Test
+    public void testPlatformFanout() {
+        assertOneValuePerBranch("platform");
+    }
+
+    @Test
+    public void testVirtualFanout() {
+        assertOneValuePerBranch("virtual");
+    }
+
+    @Test
+    public void testReactiveFanout() {
+        assertOneValuePerBranch("reactive");
+    }
+
+    @Test
+    public void testPlatformFanoutFailsFast() {
+        assertFailsFast("platform");
+    }
+
+    @Test
+    public void testVirtualFanoutFailsFast() {
+        assertFailsFast("virtual");
+    }
+
+    @Test
+    public void testReactiveFanoutFailsFast() {
+        assertFailsFast("reactive");
+    }
+
+    private static void assertOneValuePerBranch(String style) {
+        given()
+            .queryParam("n", 3)
+            .queryParam("sleepMs", 5)
+            .when().get("/hello/fanout/" + style)
+            .then()
+            .statusCode(200)
+            .contentType(ContentType.JSON)
+            .body("$", hasSize(3));
+    }
+
+    private static void assertFailsFast(String style) {
+        // The other branches would sleep 10 s each; the failure must cancel them instead.
+        given()
+            .queryParam("n", 4)
+            .queryParam("sleepMs", 10_000)
+            .queryParam("fail", 2)
+            .when().get("/hello/fanout/" + style)
+            .then()
+            .statusCode(500)
+            .time(lessThan(5_000L));
+    }
+}
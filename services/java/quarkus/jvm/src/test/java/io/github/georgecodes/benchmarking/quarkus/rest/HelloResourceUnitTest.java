@@ -1,6 +1,7 @@
 package io.github.georgecodes.benchmarking.quarkus.rest;
 
 import io.github.georgecodes.benchmarking.quarkus.application.HelloService;
+import io.github.georgecodes.benchmarking.quarkus.application.LatencyProfile;
 import io.github.georgecodes.benchmarking.quarkus.application.port.CachePort;
 import io.github.georgecodes.benchmarking.quarkus.application.port.HelloMode;
 import io.github.georgecodes.benchmarking.quarkus.application.port.MetricsPort;
@@ -8,10 +9,13 @@ import io.github.georgecodes.benchmarking.quarkus.application.port.SleepPort;
 import io.github.georgecodes.benchmarking.quarkus.application.port.TimeUnit;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class HelloResourceUnitTest {
@@ -22,7 +26,7 @@ class HelloResourceUnitTest {
         AtomicBoolean interrupted = new AtomicBoolean();
 
         try {
-            String response = resource.helloReactive(0, false)
+            String response = resource.helloReactive(0, 0, null, 0, false)
                 .invoke(() -> interrupted.set(Thread.currentThread().isInterrupted()))
                 .subscribeAsCompletionStage()
                 .join();
@@ -34,6 +38,75 @@ class HelloResourceUnitTest {
         }
     }
 
+    @Test
+    void helloReactiveDelaysWithATimerInsteadOfTheSleepPort() {
+        SleepPort failingSleepPort = (amount, unit) -> {
+            throw new AssertionError("reactive delay must not block");
+        };
+        HelloResource resource = new HelloResource(
+            new HelloService(new NoOpCachePort(), new NoOpMetricsPort(), failingSleepPort));
+        long start = System.nanoTime();
+
+        String response = resource.helloReactive(0, 50, null, 0, false)
+            .subscribeAsCompletionStage()
+            .join();
+
+        assertEquals("Hello from Quarkus reactive REST null", response);
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() >= 50);
+    }
+
+    @Test
+    void helloReactiveSamplesTheDelayFromTheRequestLatencyProfile() {
+        HelloResource resource = new HelloResource(
+            new HelloService(new NoOpCachePort(), new NoOpMetricsPort(), new NoOpSleepPort()),
+            LatencyProfile.parse("exponential"));
+        long start = System.nanoTime();
+
+        String response = resource.helloReactive(0, 10, "bimodal:60:1", 0, false)
+            .subscribeAsCompletionStage()
+            .join();
+
+        assertEquals("Hello from Quarkus reactive REST null", response);
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() >= 60);
+    }
+
+    @Test
+    void helloStreamEmitsOneLinePerElement() {
+        HelloResource resource = new HelloResource(
+            new HelloService(new NoOpCachePort(), new NoOpMetricsPort(), new NoOpSleepPort()));
+
+        List<String> lines = resource.helloStream(3, 0)
+            .collect().asList()
+            .await().indefinitely();
+
+        assertEquals(List.of(
+            "{\"seq\":0,\"message\":\"Hello from Quarkus reactive REST null\"}",
+            "{\"seq\":1,\"message\":\"Hello from Quarkus reactive REST null\"}",
+            "{\"seq\":2,\"message\":\"Hello from Quarkus reactive REST null\"}"), lines);
+    }
+
+    @Test
+    void helloStreamSpacesElementsByInterval() {
+        HelloResource resource = new HelloResource(
+            new HelloService(new NoOpCachePort(), new NoOpMetricsPort(), new NoOpSleepPort()));
+        long start = System.nanoTime();
+
+        List<String> lines = resource.helloStream(3, 30)
+            .collect().asList()
+            .await().indefinitely();
+
+        assertEquals(3, lines.size());
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() >= 60);
+    }
+
+    @Test
+    void helloStreamRejectsEmptyStream() {
+        HelloResource resource = new HelloResource(
+            new HelloService(new NoOpCachePort(), new NoOpMetricsPort(), new NoOpSleepPort()));
+
+        assertThrows(IllegalArgumentException.class, () -> resource.helloStream(0, 0));
+    }
+
     @SuppressWarnings("ResultOfMethodCallIgnored")
     private static void clearCurrentThreadInterruptFlag() {
         Thread.interrupted();
@@ -45,7 +118,7 @@ class HelloResourceUnitTest {
         }
 
         @Override
-        public String hello(HelloMode mode, int sleepSeconds) throws InterruptedException {
+        public String hello(HelloMode mode, long sleep, TimeUnit unit, int work) throws InterruptedException {
             throw new InterruptedException("simulated interruption");
         }
     }
@@ -63,6 +136,26 @@ class HelloResourceUnitTest {
             // No-op.
         }
 
+        @Override
+        public void incrementCacheMiss() {
+            // No-op.
+        }
+
+        @Override
+        public void recordWorkCpuTime(long cpuNanos) {
+            // No-op.
+        }
+
+        @Override
+        public void recordStreamOutstandingPeak(long bytes) {
+            // No-op.
+        }
+
+        @Override
+        public void recordEchoRequestBytes(long bytes) {
+            // No-op.
+        }
+
         @Override
         public void preRegisterHelloRequestCounters(Collection<String> endpointTags) {
             // No-op.
@@ -2,8 +2,10 @@ package io.github.georgecodes.benchmarking.spark;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import io.github.georgecodes.benchmarking.spark.config.ServiceConfig;
+import io.github.georgecodes.benchmarking.spark.domain.CacheKeySelector;
 import io.github.georgecodes.benchmarking.spark.domain.HelloService;
 import io.github.georgecodes.benchmarking.spark.infra.CacheProvider;
+import io.github.georgecodes.benchmarking.spark.infra.CacheWarmer;
 import io.github.georgecodes.benchmarking.spark.infra.MetricsProvider;
 import io.github.georgecodes.benchmarking.spark.web.HelloRoutes;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -36,8 +38,14 @@ public final class SparkApplication {
         ServiceConfig config = ServiceConfig.fromEnvironment();
 
         MeterRegistry meterRegistry = MetricsProvider.bindToGlobal();
-        Cache<@NonNull String, String> cache = CacheProvider.create(config.cacheSize());
-        HelloService helloService = new HelloService(cache);
+        Cache<@NonNull String, String> cache =
+            CacheProvider.create(config.cacheSize(), CacheWarmer.parse(config.cacheWarmup()));
+        CacheKeySelector keySelector =
+            CacheKeySelector.parse(config.cacheAccessPattern(), config.resolvedCacheKeySpace());
+        HelloService helloService = new HelloService(cache, keySelector);
+        MetricsProvider.registerCacheMissCounter(meterRegistry, helloService);
+        MetricsProvider.registerWorkCpuTimer(meterRegistry, helloService);
+        LOG.info("CACHE_ACCESS_PATTERN={}", keySelector);
 
         ExecutorService executor = createHandlerExecutor(config);
         Runtime.getRuntime().addShutdownHook(new Thread(executor::close, "executor-shutdown"));
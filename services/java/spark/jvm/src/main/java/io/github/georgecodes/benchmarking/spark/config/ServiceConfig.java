@@ -1,6 +1,7 @@
 package io.github.georgecodes.benchmarking.spark.config;
 
 import java.util.Locale;
+import java.util.Objects;
 
 /**
  * Centralized service configuration (env-driven).
@@ -15,6 +16,10 @@ import java.util.Locale;
  * @param handlerExecutionMode whether handlers run direct or are offloaded
  * @param platformExecutorThreads platform executor size when offloading (0 means computed)
  * @param virtualExecutionMode strategy for virtual execution (spark-native vs offload)
+ * @param cacheAccessPattern cache key workload spec, e.g. {@code zipfian:0.99} (blank means fixed key)
+ * @param cacheKeySpace number of distinct keys requested (0 means the cache size)
+ * @param cacheWarmup   cache warm-up spec: {@code parallel} or {@code snapshot:<path>} (blank means sequential)
+ * @param latencyProfile injected-latency distribution spec, e.g. {@code lognormal:1.0} (blank means constant)
  */
 public record ServiceConfig(
     int port,
@@ -26,7 +31,11 @@ public record ServiceConfig(
     long jettyIdleTimeoutMs,
     HandlerExecutionMode handlerExecutionMode,
     int platformExecutorThreads,
-    VirtualExecutionMode virtualExecutionMode
+    VirtualExecutionMode virtualExecutionMode,
+    String cacheAccessPattern,
+    long cacheKeySpace,
+    String cacheWarmup,
+    String latencyProfile
 ) {
 
     /**
@@ -114,6 +123,11 @@ public record ServiceConfig(
         VirtualExecutionMode virtualExecutionMode = VirtualExecutionMode.fromEnv(
             getEnv("SPARK_VIRTUAL_EXECUTION_MODE"));
 
+        String cacheAccessPattern = Objects.requireNonNullElse(getEnv("CACHE_ACCESS_PATTERN"), "");
+        long cacheKeySpace = parseLong(getEnv("CACHE_KEY_SPACE"), 0L);
+        String cacheWarmup = Objects.requireNonNullElse(getEnv("CACHE_WARMUP"), "");
+        String latencyProfile = Objects.requireNonNullElse(getEnv("LATENCY_PROFILE"), "");
+
         return new ServiceConfig(
             port,
             mode,
@@ -124,10 +138,23 @@ public record ServiceConfig(
             idleTimeoutMs,
             handlerExecutionMode,
             platformExecutorThreads,
-            virtualExecutionMode
+            virtualExecutionMode,
+            cacheAccessPattern,
+            cacheKeySpace,
+            cacheWarmup,
+            latencyProfile
         );
     }
 
+    /**
+     * Resolves the effective cache key space.
+     *
+     * @return {@code cacheKeySpace} when positive, otherwise {@code cacheSize}
+     */
+    public long resolvedCacheKeySpace() {
+        return cacheKeySpace > 0 ? cacheKeySpace : cacheSize;
+    }
+
     private static String getEnv(String key) {
         return System.getenv(key);
     }
@@ -2,6 +2,7 @@ package io.github.georgecodes.benchmarking.spark.web;
 
 import io.github.georgecodes.benchmarking.spark.config.ServiceConfig;
 import io.github.georgecodes.benchmarking.spark.domain.HelloService;
+import io.github.georgecodes.benchmarking.spark.domain.LatencyProfile;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
@@ -28,6 +29,8 @@ public final class HelloRoutes {
     private final ExecutorService executor;
     /** Domain handler. */
     private final HelloService helloService;
+    /** Distribution applied to the requested sleep unless the request overrides it. */
+    private final LatencyProfile latencyProfile;
 
     /** Minimal metrics boundary for the web layer. */
     private interface HelloMetrics {
@@ -53,14 +56,17 @@ public final class HelloRoutes {
     /**
      * Parsed request params for /hello endpoints.
      *
-     * @param sleepSeconds number of seconds to sleep before responding
+     * @param sleepMillis  optional sleep in milliseconds, sampled from the latency profile (0 = no sleep)
+     * @param work         CPU work in KiB hashed after the sleep (0 = none)
      * @param log          whether to emit a log line for the request
      */
-    private record HelloParams(int sleepSeconds, boolean log) {
-        static HelloParams from(Request req) {
-            int sleepSeconds = parseInt(req.queryParams("sleep"));
+    private record HelloParams(long sleepMillis, int work, boolean log) {
+        static HelloParams from(Request req, LatencyProfile latencyProfile) {
+            long baseMillis = parseInt(req.queryParams("sleep")) * 1000L + parseLong(req.queryParams("sleepMs"));
+            long sleepMillis = latencyProfile.override(req.queryParams("latency")).sampleMillis(baseMillis);
+            int work = parseInt(req.queryParams("work"));
             boolean log = Boolean.parseBoolean(req.queryParams("log"));
-            return new HelloParams(sleepSeconds, log);
+            return new HelloParams(sleepMillis, work, log);
         }
     }
 
@@ -76,6 +82,8 @@ public final class HelloRoutes {
         this.config = Objects.requireNonNull(config, "config");
         this.executor = Objects.requireNonNull(executor, "executor");
         this.helloService = Objects.requireNonNull(helloService, "helloService");
+        this.latencyProfile = LatencyProfile.parse(config.latencyProfile());
+        LOG.info("LATENCY_PROFILE={}", latencyProfile);
         Objects.requireNonNull(meterRegistry, "meterRegistry");
 
         String endpoint = switch (config.threadMode()) {
@@ -108,24 +116,25 @@ public final class HelloRoutes {
     private void registerPlatform() {
         get("/hello/platform", (req, _) -> {
             metrics.incrementHello();
-            HelloParams params = HelloParams.from(req);
+            HelloParams params = HelloParams.from(req, latencyProfile);
             if (params.log()) {
                 var currentThread = Thread.currentThread();
                 LOG.info("platform thread: '{}', isVirtual: '{}'", currentThread, currentThread.isVirtual());
             }
 
             if (config.handlerExecutionMode() == ServiceConfig.HandlerExecutionMode.DIRECT) {
-                return helloService.handle("Hello from Spark platform REST ", params.sleepSeconds());
+                return helloService.handle("Hello from Spark platform REST ", params.sleepMillis(), params.work());
             }
 
-            return submitAndJoin(() -> helloService.handle("Hello from Spark platform REST ", params.sleepSeconds()));
+            return submitAndJoin(
+                () -> helloService.handle("Hello from Spark platform REST ", params.sleepMillis(), params.work()));
         });
     }
 
     private void registerVirtual() {
         get("/hello/virtual", (req, _) -> {
             metrics.incrementHello();
-            HelloParams params = HelloParams.from(req);
+            HelloParams params = HelloParams.from(req, latencyProfile);
             if (params.log()) {
                 var currentThread = Thread.currentThread();
                 LOG.info("virtual thread: '{}', isVirtual: '{}'", currentThread, currentThread.isVirtual());
@@ -135,10 +144,11 @@ public final class HelloRoutes {
                 || config.virtualExecutionMode() == ServiceConfig.VirtualExecutionMode.OFFLOAD;
 
             if (!mustOffload) {
-                return helloService.handle("Hello from Spark virtual REST ", params.sleepSeconds());
+                return helloService.handle("Hello from Spark virtual REST ", params.sleepMillis(), params.work());
             }
 
-            return submitAndJoin(() -> helloService.handle("Hello from Spark virtual REST ", params.sleepSeconds()));
+            return submitAndJoin(
+                () -> helloService.handle("Hello from Spark virtual REST ", params.sleepMillis(), params.work()));
         });
     }
 
@@ -165,4 +175,11 @@ public final class HelloRoutes {
         }
         return Integer.parseInt(value.trim());
     }
+
+    private static long parseLong(String value) {
+        if (value == null || value.isBlank()) {
+            return 0L;
+        }
+        return Long.parseLong(value.trim());
+    }
 }
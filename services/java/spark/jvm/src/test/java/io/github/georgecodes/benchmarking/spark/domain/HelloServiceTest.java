@@ -52,9 +52,37 @@ class HelloServiceTest {
         // Verify that the service returns the correct result even with a sleep delay.
         // We deliberately avoid asserting wall-clock elapsed time because Thread.sleep
         // timing is non-deterministic and flaky under CI load / VM scheduling jitter.
-        String result = helloService.handle("Hello from Spark platform REST ", 1);
+        String result = helloService.handle("Hello from Spark platform REST ", 1_000);
 
         assertNotNull(result);
         assertEquals("Hello from Spark platform REST value-1", result);
     }
-}
\ No newline at end of file
+
+    @Test
+    void keysOutsideTheCacheAreCountedAsMisses() throws InterruptedException {
+        HelloService scanning = new HelloService(CacheProvider.create(10), CacheKeySelector.parse("sequential", 20));
+
+        for (int i = 0; i < 20; i++) {
+            scanning.handle("prefix ", 0);
+        }
+
+        assertEquals(10, scanning.cacheMisses());
+    }
+
+    @Test
+    void fixedPatternNeverMissesOnPopulatedCache() throws InterruptedException {
+        helloService.handle("prefix ", 0);
+        helloService.handle("prefix ", 0);
+
+        assertEquals(0, helloService.cacheMisses());
+    }
+
+    @Test
+    void workIsBurnedAndRecordedBeforeTheLookup() throws InterruptedException {
+        String result = helloService.handle("prefix ", 0, 32);
+
+        assertEquals("prefix value-1", result);
+        assertEquals(1, helloService.workRequests());
+        assertTrue(helloService.workCpuNanos() > 0);
+    }
+}
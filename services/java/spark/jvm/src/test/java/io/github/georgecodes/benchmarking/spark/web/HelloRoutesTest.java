@@ -88,7 +88,11 @@ class HelloRoutesTest {
             0, 0, 10000, 60000L,
             handlerExecutionMode,
             0,
-            virtualExecutionMode
+            virtualExecutionMode,
+            "",
+            0L,
+            "",
+            ""
         );
     }
 
@@ -216,7 +220,7 @@ class HelloRoutesTest {
             meterRegistry
         );
 
-        HttpResponse<String> response = get(sparkPort, "/hello/platform?log=true&sleep=0");
+        HttpResponse<String> response = get(sparkPort, "/hello/platform?log=true&sleep=0&sleepMs=5");
 
         assertEquals(200, response.statusCode());
         assertEquals("Hello from Spark platform REST value-1", response.body());
@@ -229,6 +233,23 @@ class HelloRoutesTest {
         meterRegistry.close();
     }
 
+    @Test
+    void platformEndpointBurnsRequestedCpuWork() throws Exception {
+        HelloService helloService = new HelloService(CacheProvider.create(10));
+        int sparkPort = startRoutes(
+            config(ThreadMode.PLATFORM, HandlerExecutionMode.OFFLOAD),
+            newExecutor(),
+            helloService,
+            new SimpleMeterRegistry()
+        );
+
+        HttpResponse<String> response = get(sparkPort, "/hello/platform?work=16");
+
+        assertEquals(200, response.statusCode());
+        assertEquals("Hello from Spark platform REST value-1", response.body());
+        assertEquals(1, helloService.workRequests());
+    }
+
     @Test
     void virtualEndpointReturnsResponseAndIncrementsCounter() throws Exception {
         MeterRegistry meterRegistry = new SimpleMeterRegistry();
@@ -0,0 +1,29 @@
+package io.github.georgecodes.benchmarking.spring.netty.api;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Answers {@code 400} when request parameters fail validation.
+ * The {@code check*} helpers ({@code CpuWork}, {@code HelloStream}, {@code Fanout}, ...) throw
+ * {@link IllegalArgumentException}, which would otherwise surface as a {@code 500}.
+ */
+@RestControllerAdvice
+public class BadRequestAdvice {
+
+    /**
+     * Maps a rejected parameter to {@code 400} with the validation message as a plain-text body.
+     *
+     * @param e the validation failure
+     * @return bad-request response
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> badRequest(IllegalArgumentException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+            .contentType(MediaType.TEXT_PLAIN)
+            .body(String.valueOf(e.getMessage()));
+    }
+}
@@ -1,29 +1,316 @@
 package io.github.georgecodes.benchmarking.spring.netty.api;
 
+import io.github.georgecodes.benchmarking.spring.netty.application.ChainService;
+import io.github.georgecodes.benchmarking.spring.netty.application.DbService;
+import io.github.georgecodes.benchmarking.spring.netty.application.DownstreamException;
+import io.github.georgecodes.benchmarking.spring.netty.application.EchoRequest;
+import io.github.georgecodes.benchmarking.spring.netty.application.EchoResponse;
+import io.github.georgecodes.benchmarking.spring.netty.application.EchoService;
+import io.github.georgecodes.benchmarking.spring.netty.application.Fanout;
 import io.github.georgecodes.benchmarking.spring.netty.application.HelloService;
+import io.github.georgecodes.benchmarking.spring.netty.application.HelloStream;
+import io.github.georgecodes.benchmarking.spring.netty.application.LatencyProfile;
+import io.github.georgecodes.benchmarking.spring.netty.application.Payload;
+import io.github.georgecodes.benchmarking.spring.netty.application.StreamBacklog;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.buffer.UnpooledHeapByteBuf;
 import org.jspecify.annotations.NonNull;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.ZeroCopyHttpOutputMessage;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
 @RestController
 @RequestMapping(value = "/hello", produces = MediaType.APPLICATION_JSON_VALUE)
 public class HelloController {
     /** Application use-case for producing hello payloads. */
     private final HelloService helloService;
 
-    public HelloController(HelloService helloService) {
+    /** Distribution applied to the requested sleep unless the request overrides it. */
+    private final LatencyProfile latencyProfile;
+
+    /** Body served for the {@code size} query parameter. */
+    private final Payload payload;
+
+    /** Per-connection peak outstanding bytes of {@code /hello/stream}. */
+    private final DistributionSummary streamOutstandingPeak;
+
+    /** Application use-case behind {@code /hello/echo}. */
+    private final EchoService echoService;
+
+    /** Application use-case behind {@code /hello/chain}. */
+    private final ChainService chainService;
+
+    /** Application use-case behind {@code /hello/db}. */
+    private final DbService dbService;
+
+    public HelloController(
+        HelloService helloService,
+        LatencyProfile latencyProfile,
+        Payload payload,
+        DistributionSummary streamOutstandingPeak,
+        EchoService echoService,
+        ChainService chainService,
+        DbService dbService
+    ) {
         this.helloService = helloService;
+        this.latencyProfile = latencyProfile;
+        this.payload = payload;
+        this.streamOutstandingPeak = streamOutstandingPeak;
+        this.echoService = echoService;
+        this.chainService = chainService;
+        this.dbService = dbService;
     }
 
+    /**
+     * Reactive hello endpoint. The optional {@code sleep} (seconds) plus {@code sleepMs} (milliseconds) delay
+     * is shaped by the latency profile and waited out with a {@link Mono#delay(Duration)} timer, so it never
+     * blocks the event loop.
+     *
+     * @param sleepSeconds optional delay in seconds
+     * @param sleepMillis  optional delay in milliseconds, added to {@code sleepSeconds}
+     * @param latency      optional latency profile overriding {@code LATENCY_PROFILE} for this request
+     * @param work         optional CPU work in KiB, hashed on the event loop before the response is built
+     * @param printLog     whether to log the serving thread
+     * @return response body publisher
+     */
     @GetMapping(value = "/reactive")
     public Mono<@NonNull String> reactive(
         @RequestParam(name = "sleep", defaultValue = "0") int sleepSeconds,
+        @RequestParam(name = "sleepMs", defaultValue = "0") long sleepMillis,
+        @RequestParam(name = "latency", required = false) String latency,
+        @RequestParam(name = "work", defaultValue = "0") int work,
         @RequestParam(name = "log", defaultValue = "false") boolean printLog
     ) {
-        return Mono.fromSupplier(() -> helloService.reactiveHello(sleepSeconds, printLog));
+        Mono<@NonNull String> response = Mono.fromSupplier(() -> helloService.reactiveHello(printLog, work));
+        return afterDelay(response, latency, sleepSeconds, sleepMillis);
+    }
+
+    /**
+     * Reactive hello endpoint with a non-zero {@code size}: the same delay and {@code work} as
+     * {@link #reactive}, after which {@code size} bytes of {@link Payload} replace the hello body.
+     * How they are written follows {@code PAYLOAD_MODE}.
+     *
+     * @param sleepSeconds optional delay in seconds
+     * @param sleepMillis  optional delay in milliseconds, added to {@code sleepSeconds}
+     * @param latency      optional latency profile overriding {@code LATENCY_PROFILE} for this request
+     * @param work         optional CPU work in KiB, hashed on the event loop before the response is built
+     * @param size         payload size in bytes
+     * @param printLog     whether to log the serving thread
+     * @param response     the response written to directly
+     * @return completion of the write
+     */
+    @GetMapping(value = "/reactive", params = {"size", "size!=0"}, produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public Mono<Void> reactivePayload(
+        @RequestParam(name = "sleep", defaultValue = "0") int sleepSeconds,
+        @RequestParam(name = "sleepMs", defaultValue = "0") long sleepMillis,
+        @RequestParam(name = "latency", required = false) String latency,
+        @RequestParam(name = "work", defaultValue = "0") int work,
+        @RequestParam(name = "size") int size,
+        @RequestParam(name = "log", defaultValue = "false") boolean printLog,
+        ServerHttpResponse response
+    ) {
+        Payload.checkSize(size);
+        Mono<Void> write = Mono.defer(() -> {
+            // Counter, work and the cache lookup still run, so only the body differs from a regular request.
+            helloService.reactiveHello(printLog, work);
+            return writePayload(response, size);
+        });
+        return afterDelay(write, latency, sleepSeconds, sleepMillis);
+    }
+
+    /**
+     * Echo endpoint: Jackson decodes the body into an {@link EchoRequest} without blocking the event loop,
+     * each item is looked up in the cache, and the {@link EchoResponse} is encoded back to JSON.
+     *
+     * @param body    bound request body
+     * @param request the request, for its declared body size
+     * @return echoed items
+     */
+    @PostMapping(value = "/echo", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public EchoResponse echo(@RequestBody EchoRequest body, ServerHttpRequest request) {
+        return echoService.echo(body, request.getHeaders().getContentLength());
+    }
+
+    /**
+     * Fan-out endpoint: {@code n} concurrent lookups, each after a {@code sleepMs} Reactor timer, combined with
+     * {@link Mono#zip(Iterable, java.util.function.Function)}. Branch {@code fail} errors at once; {@code zip}
+     * propagates the first error and cancels the pending timers.
+     *
+     * @param branches    number of concurrent lookups
+     * @param sleepMillis per-lookup latency in milliseconds
+     * @param failBranch  branch that fails, {@code -1} for none
+     * @return cached values in branch order
+     */
+    @GetMapping(value = "/fanout")
+    public Mono<List<@NonNull String>> fanout(
+        @RequestParam(name = "n", defaultValue = "4") int branches,
+        @RequestParam(name = "sleepMs", defaultValue = "0") long sleepMillis,
+        @RequestParam(name = "fail", defaultValue = "-1") int failBranch
+    ) {
+        int n = Fanout.checkBranches(branches);
+        Duration sleep = Duration.ofMillis(Fanout.checkSleep(sleepMillis));
+        int fail = Fanout.checkFail(failBranch, n);
+        List<Mono<@NonNull String>> lookups = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            lookups.add(fanoutBranch(i, sleep, fail));
+        }
+        return Mono.zip(lookups, HelloController::fanoutValues);
+    }
+
+    /**
+     * Chain endpoint: one cache read, then a call to the configured downstream through the pooled Reactor Netty
+     * client; no thread waits for the response. A failed or non-2xx downstream call answers {@code 502}.
+     *
+     * @return hello message followed by the downstream body
+     */
+    @GetMapping(value = "/chain")
+    public Mono<ResponseEntity<String>> chain() {
+        return chainService.chain()
+            .map(ResponseEntity::ok)
+            .onErrorResume(DownstreamException.class,
+                e -> Mono.just(ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(e.getMessage())));
+    }
+
+    /**
+     * Database endpoint: one primary-key lookup in the embedded database through the R2DBC connection pool.
+     *
+     * @param id primary key, a random seeded key when absent
+     * @return hello message with the row's value, or {@code 404} if there is no such row
+     */
+    @GetMapping(value = "/db")
+    public Mono<ResponseEntity<String>> db(@RequestParam(name = "id", required = false) Long id) {
+        return dbService.reactiveDb(id == null ? dbService.randomId() : id)
+            .map(ResponseEntity::ok)
+            .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Streams {@code n} hello elements as newline-delimited JSON, {@code interval} milliseconds apart, flushing
+     * each one. Elements are generated on demand: Reactor Netty requests more only as earlier ones leave for
+     * the channel, which stops requesting while the channel is not writable. An element stays outstanding until
+     * Netty releases its buffer after writing it to the socket.
+     *
+     * @param elements       number of elements
+     * @param intervalMillis delay before every element after the first, in milliseconds
+     * @param response       the response written to directly
+     * @return completion of the stream
+     */
+    @GetMapping(value = "/stream", produces = HelloStream.CONTENT_TYPE)
+    public Mono<Void> stream(
+        @RequestParam(name = "n", defaultValue = "10") int elements,
+        @RequestParam(name = "interval", defaultValue = "0") long intervalMillis,
+        ServerHttpResponse response
+    ) {
+        int n = HelloStream.checkElements(elements);
+        Duration interval = Duration.ofMillis(HelloStream.checkInterval(intervalMillis));
+        response.getHeaders().setContentType(MediaType.parseMediaType(HelloStream.CONTENT_TYPE));
+        return Mono.fromSupplier(() -> helloService.reactiveHello(false))
+            .flatMap(message -> writeStream(response, message, n, interval));
+    }
+
+    private Mono<Void> writeStream(ServerHttpResponse response, String message, int elements, Duration interval) {
+        StreamBacklog backlog = new StreamBacklog(streamOutstandingPeak::record);
+        DataBufferFactory buffers = response.bufferFactory();
+        Flux<Mono<DataBuffer>> body = Flux.range(0, elements)
+            .delayUntil(seq -> seq == 0 || interval.isZero() ? Mono.<Long>empty() : Mono.delay(interval))
+            .map(seq -> Mono.just(element(buffers, backlog, HelloStream.element(seq, message))))
+            .doFinally(_ -> backlog.close());
+        return response.writeAndFlushWith(body);
+    }
+
+    private static DataBuffer element(DataBufferFactory buffers, StreamBacklog backlog, byte[] bytes) {
+        backlog.produced(bytes.length);
+        if (buffers instanceof NettyDataBufferFactory netty) {
+            return netty.wrap(new ElementBuf(bytes, backlog));
+        }
+        // No release hook outside Netty: count the element as taken once it is handed over.
+        backlog.written(bytes.length);
+        return buffers.wrap(bytes);
+    }
+
+    private Mono<Void> writePayload(ServerHttpResponse response, int size) {
+        response.getHeaders().setContentType(MediaType.APPLICATION_OCTET_STREAM);
+        response.getHeaders().setContentLength(size);
+        DataBufferFactory buffers = response.bufferFactory();
+        return switch (payload.mode()) {
+            case HEAP -> response.writeWith(Mono.fromSupplier(() -> buffers.wrap(payload.heapCopy(size))));
+            case DIRECT -> response.writeWith(Mono.fromSupplier(() -> buffers.wrap(payload.buffer(size))));
+            // Reactor Netty sends this as a FileRegion: zero-copy unless TLS or compression is on.
+            case FILE -> response instanceof ZeroCopyHttpOutputMessage zeroCopy
+                ? zeroCopy.writeWith(payload.file(), 0, size)
+                : response.writeWith(Mono.fromSupplier(() -> buffers.wrap(payload.buffer(size))));
+        };
+    }
+
+    private Mono<@NonNull String> fanoutBranch(int branch, Duration sleep, int failBranch) {
+        if (branch == failBranch) {
+            return Mono.error(() -> Fanout.failure(branch));
+        }
+        Mono<@NonNull String> lookup = Mono.fromSupplier(helloService::lookup);
+        return sleep.isZero() ? lookup : Mono.delay(sleep).then(lookup);
+    }
+
+    private static List<@NonNull String> fanoutValues(Object[] values) {
+        List<@NonNull String> list = new ArrayList<>(values.length);
+        for (Object value : values) {
+            list.add((String) value);
+        }
+        return list;
+    }
+
+    private <T> Mono<T> afterDelay(Mono<T> response, String latency, int sleepSeconds, long sleepMillis) {
+        if (sleepSeconds < 0 || sleepMillis < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "sleep and sleepMs must be >= 0");
+        }
+        long delayMillis = latencyProfile.override(latency).sampleMillis(sleepSeconds * 1000L + sleepMillis);
+        if (delayMillis <= 0) {
+            return response;
+        }
+        return Mono.delay(Duration.ofMillis(delayMillis)).then(response);
+    }
+
+    /**
+     * One stream element. Netty releases the buffer once the channel has written it (or dropped it on a
+     * cancelled stream), so the last release is when its bytes stop being outstanding.
+     */
+    private static final class ElementBuf extends UnpooledHeapByteBuf {
+
+        /** Backlog of the stream the element belongs to. */
+        private final StreamBacklog backlog;
+
+        /** Element size in bytes. */
+        private final int length;
+
+        ElementBuf(byte[] bytes, StreamBacklog backlog) {
+            super(UnpooledByteBufAllocator.DEFAULT, bytes, bytes.length);
+            this.backlog = backlog;
+            this.length = bytes.length;
+        }
+
+        @Override
+        protected void deallocate() {
+            super.deallocate();
+            backlog.written(length);
+        }
     }
-}
\ No newline at end of file
+}
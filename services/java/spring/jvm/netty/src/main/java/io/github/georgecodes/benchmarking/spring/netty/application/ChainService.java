@@ -0,0 +1,43 @@
+package io.github.georgecodes.benchmarking.spring.netty.application;
+
+import io.github.georgecodes.benchmarking.spring.netty.application.port.CachePort;
+import io.github.georgecodes.benchmarking.spring.netty.application.port.DownstreamPort;
+import org.jspecify.annotations.NonNull;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Use-case behind {@code /hello/chain}: a cache read followed by one non-blocking call to the downstream
+ * service; the event loop moves on while the response is outstanding.
+ */
+@Service
+public class ChainService {
+
+    /** Cache port (injected adapter) used to fetch pre-warmed values. */
+    private final CachePort cache;
+
+    /** Chooses the cache key for each request (see {@link CacheAccessPattern}). */
+    private final CacheKeySelector keySelector;
+
+    /** Outbound client for the downstream service. */
+    private final DownstreamPort downstream;
+
+    public ChainService(CachePort cache, CacheKeySelector keySelector, DownstreamPort downstream) {
+        this.cache = cache;
+        this.keySelector = keySelector;
+        this.downstream = downstream;
+    }
+
+    /**
+     * Chained call; the cache is read on subscription.
+     *
+     * @return hello message followed by the downstream body, failing with {@link DownstreamException} if the
+     *     downstream fails
+     */
+    public Mono<@NonNull String> chain() {
+        return Mono.defer(() -> {
+            String value = cache.get(keySelector.nextKey());
+            return downstream.get().map(body -> "Hello from Boot reactive chain REST " + value + " <- " + body);
+        });
+    }
+}
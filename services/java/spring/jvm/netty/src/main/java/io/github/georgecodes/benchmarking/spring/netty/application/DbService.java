@@ -0,0 +1,50 @@
+package io.github.georgecodes.benchmarking.spring.netty.application;
+
+import io.github.georgecodes.benchmarking.spring.netty.application.port.DbPort;
+import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Use-case behind {@code /hello/db}: one primary-key lookup against the embedded database through the R2DBC
+ * connection pool.
+ */
+@Service
+public class DbService {
+
+    /** Database port (injected adapter) used for the lookup. */
+    private final DbPort db;
+
+    /** Number of seeded rows; keys run from 1 to this value. */
+    private final long rows;
+
+    public DbService(DbPort db, @Value("${benchmark.db.rows:10000}") long rows) {
+        if (rows < 1) {
+            throw new IllegalArgumentException("DB_ROWS must be at least 1: " + rows);
+        }
+        this.db = db;
+        this.rows = rows;
+    }
+
+    /**
+     * Picks a seeded key uniformly at random, for requests that do not name one.
+     *
+     * @return a key between 1 and the row count
+     */
+    public long randomId() {
+        return ThreadLocalRandom.current().nextLong(1, rows + 1);
+    }
+
+    /**
+     * Reactive lookup.
+     *
+     * @param id primary key
+     * @return hello message with the row's value, or empty if there is no such row
+     */
+    public Mono<@NonNull String> reactiveDb(long id) {
+        return db.findValue(id).map(value -> "Hello from Boot reactive db REST " + value);
+    }
+}
@@ -0,0 +1,22 @@
+package io.github.georgecodes.benchmarking.spring.netty.application;
+
+import java.util.List;
+
+/**
+ * Response of {@code POST /hello/echo}: every request item together with the cached value of its key.
+ *
+ * @param count number of items
+ * @param items echoed items, in request order
+ */
+public record EchoResponse(int count, List<Item> items) {
+
+    /**
+     * One echoed item.
+     *
+     * @param key     hello cache key from the request
+     * @param payload payload from the request
+     * @param value   cached value of {@code key}, empty or {@code null} on a miss depending on the cache port
+     */
+    public record Item(String key, String payload, String value) {
+    }
+}
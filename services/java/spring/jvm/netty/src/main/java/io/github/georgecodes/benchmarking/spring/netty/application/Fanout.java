@@ -0,0 +1,97 @@
+package io.github.georgecodes.benchmarking.spring.netty.application;
+
+/**
+ * Parameters and join semantics of the {@code /hello/fanout} endpoint.
+ *
+ * <p>A fan-out runs {@code n} simulated dependency lookups concurrently: each branch waits {@code sleepMs}, then
+ * reads the hello cache, and the response lists the values in branch order. Branch {@code fail} fails at once
+ * instead, while the others are still waiting; the request then fails with it and the remaining branches are
+ * cancelled, so every concurrency style pays for its own cancellation.
+ *
+ * <p>How the branches are composed is left to the caller's reactive library, whose combinators cancel the
+ * remaining branches on the first error.
+ */
+public final class Fanout {
+
+    /** Branches per request when {@code n} is not given. */
+    public static final int DEFAULT_BRANCHES = 4;
+
+    /** Upper bound for {@code n}. */
+    public static final int MAX_BRANCHES = 256;
+
+    /** Upper bound for {@code sleepMs}: 10 seconds per branch. */
+    public static final long MAX_SLEEP_MILLIS = 10_000L;
+
+    /** Value of {@code fail} that lets every branch succeed. */
+    public static final int NO_FAILURE = -1;
+
+    private Fanout() {
+    }
+
+    /**
+     * Validates the requested branch count.
+     *
+     * @param branches requested {@code n}
+     * @return {@code branches}
+     * @throws IllegalArgumentException if {@code branches} is not between 1 and {@link #MAX_BRANCHES}
+     */
+    public static int checkBranches(int branches) {
+        if (branches < 1 || branches > MAX_BRANCHES) {
+            throw new IllegalArgumentException("n must be between 1 and " + MAX_BRANCHES + ": " + branches);
+        }
+        return branches;
+    }
+
+    /**
+     * Validates the requested per-branch latency.
+     *
+     * @param sleepMillis requested {@code sleepMs}
+     * @return {@code sleepMillis}
+     * @throws IllegalArgumentException if {@code sleepMillis} is negative or above {@link #MAX_SLEEP_MILLIS}
+     */
+    public static long checkSleep(long sleepMillis) {
+        if (sleepMillis < 0 || sleepMillis > MAX_SLEEP_MILLIS) {
+            throw new IllegalArgumentException(
+                "sleepMs must be between 0 and " + MAX_SLEEP_MILLIS + " ms: " + sleepMillis);
+        }
+        return sleepMillis;
+    }
+
+    /**
+     * Validates the requested failing branch.
+     *
+     * @param failBranch requested {@code fail}, {@link #NO_FAILURE} for none
+     * @param branches   validated branch count
+     * @return {@code failBranch}
+     * @throws IllegalArgumentException if {@code failBranch} is neither {@link #NO_FAILURE} nor a branch index
+     */
+    public static int checkFail(int failBranch, int branches) {
+        if (failBranch < NO_FAILURE || failBranch >= branches) {
+            throw new IllegalArgumentException(
+                "fail must be between " + NO_FAILURE + " and " + (branches - 1) + ": " + failBranch);
+        }
+        return failBranch;
+    }
+
+    /**
+     * Builds the failure raised by the branch selected with {@code fail}.
+     *
+     * @param branch failing branch index
+     * @return exception to throw or signal
+     */
+    public static BranchFailedException failure(int branch) {
+        return new BranchFailedException(branch);
+    }
+
+    /**
+     * Simulated dependency failure of the branch selected with {@code fail}.
+     */
+    public static final class BranchFailedException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        BranchFailedException(int branch) {
+            super("fanout branch " + branch + " failed");
+        }
+    }
+}
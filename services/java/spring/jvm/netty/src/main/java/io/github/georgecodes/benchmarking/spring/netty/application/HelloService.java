@@ -2,10 +2,13 @@ package io.github.georgecodes.benchmarking.spring.netty.application;
 
 import io.github.georgecodes.benchmarking.spring.netty.application.port.CachePort;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.NonNull;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.TimeUnit;
+
 @Service
 @Slf4j
 public class HelloService {
@@ -15,24 +18,56 @@ public class HelloService {
     /** Request counter for the reactive endpoint. */
     private final Counter reactiveCounter;
 
-    public HelloService(CachePort cache, Counter reactiveCounter) {
+    /** Chooses the cache key for each request (see {@link CacheAccessPattern}). */
+    private final CacheKeySelector keySelector;
+
+    /** CPU time spent on the {@code work} query parameter. */
+    private final Timer workCpuTimer;
+
+    public HelloService(CachePort cache, Counter reactiveCounter, CacheKeySelector keySelector, Timer workCpuTimer) {
         this.cache = cache;
         this.reactiveCounter = reactiveCounter;
+        this.keySelector = keySelector;
+        this.workCpuTimer = workCpuTimer;
     }
 
-    public @NonNull String reactiveHello(int sleepSeconds, boolean printLog) {
+    /**
+     * Builds the reactive response. Latency injection happens before this call, on a Reactor timer.
+     *
+     * @param printLog whether to log the serving thread
+     * @return response body
+     */
+    public @NonNull String reactiveHello(boolean printLog) {
+        return reactiveHello(printLog, 0);
+    }
+
+    /**
+     * Builds the reactive response after burning {@code work} KiB of CPU work (see {@link CpuWork}) on the
+     * event loop, recording its CPU time.
+     *
+     * @param printLog whether to log the serving thread
+     * @param work     CPU work in KiB, {@code 0} for none
+     * @return response body
+     */
+    public @NonNull String reactiveHello(boolean printLog, int work) {
         if (printLog) {
             var currentThread = Thread.currentThread();
             log.info("reactive thread: '{}', isVirtual: '{}'", currentThread, currentThread.isVirtual());
         }
         reactiveCounter.increment();
-        if (sleepSeconds > 0) {
-            try {
-                Thread.sleep(sleepSeconds * 1000L);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
+        long cpuNanos = CpuWork.run(work);
+        if (work > 0) {
+            workCpuTimer.record(cpuNanos, TimeUnit.NANOSECONDS);
         }
-        return "Hello from Boot reactive REST " + cache.get("1");
+        return "Hello from Boot reactive REST " + cache.get(keySelector.nextKey());
+    }
+
+    /**
+     * One {@code /hello/fanout} branch: a plain cache lookup, without the request counter or CPU work.
+     *
+     * @return cached value
+     */
+    public @NonNull String lookup() {
+        return cache.get(keySelector.nextKey());
     }
-}
\ No newline at end of file
+}
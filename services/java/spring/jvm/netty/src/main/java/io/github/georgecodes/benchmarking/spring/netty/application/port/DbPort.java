@@ -0,0 +1,14 @@
+package io.github.georgecodes.benchmarking.spring.netty.application.port;
+
+import org.jspecify.annotations.NonNull;
+import reactor.core.publisher.Mono;
+
+public interface DbPort {
+    /**
+     * Looks up one row of the seeded {@code hello} table by primary key.
+     *
+     * @param id primary key
+     * @return the row's value, or empty if there is no such row
+     */
+    Mono<@NonNull String> findValue(long id);
+}
@@ -0,0 +1,18 @@
+package io.github.georgecodes.benchmarking.spring.netty.application.port;
+
+import org.jspecify.annotations.NonNull;
+import reactor.core.publisher.Mono;
+
+/**
+ * Outbound call to the configured downstream service.
+ */
+public interface DownstreamPort {
+
+    /**
+     * Performs one non-blocking {@code GET} against the downstream URL. The returned publisher fails with a
+     * {@code DownstreamException} if the downstream cannot be reached in time or answers with a non-2xx status.
+     *
+     * @return response body publisher
+     */
+    Mono<@NonNull String> get();
+}
@@ -2,16 +2,25 @@ package io.github.georgecodes.benchmarking.spring.netty.infra;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.georgecodes.benchmarking.spring.netty.application.CacheKeySelector;
+import io.github.georgecodes.benchmarking.spring.netty.application.LatencyProfile;
+import io.github.georgecodes.benchmarking.spring.netty.application.Payload;
+import io.github.georgecodes.benchmarking.spring.netty.application.PayloadMode;
+import io.github.georgecodes.benchmarking.spring.netty.infra.cache.CacheWarmer;
 import io.github.mweirauch.micrometer.jvm.extras.ProcessMemoryMetrics;
 import io.github.mweirauch.micrometer.jvm.extras.ProcessThreadMetrics;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.reactor.netty.NettyServerCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -22,19 +31,45 @@ import java.time.Duration;
 @EnableConfigurationProperties(ModuleConfig.CacheProperties.class)
 public class ModuleConfig {
 
+    /** SETTINGS_MAX_CONCURRENT_STREAMS advertised over HTTP/2, as in the other modules' HTTP/2 mode. */
+    static final long HTTP2_MAX_CONCURRENT_STREAMS = 1024;
+
     @Bean
-    public Cache<@NonNull String, String> caffeineCache(CacheProperties cacheProperties) {
+    public Cache<@NonNull String, String> caffeineCache(CacheProperties cacheProperties, MeterRegistry registry) {
         long cacheSize = cacheProperties.size();
         Cache<@NonNull String, String> cache = Caffeine.newBuilder()
             .maximumSize(cacheSize)
             .expireAfterWrite(Duration.ofDays(1))
             .build();
-        for (long i = cacheSize; i > 0; i--) {
-            cache.put(String.valueOf(i), "value-" + i);
-        }
+        CacheWarmer.parse(cacheProperties.warmup()).warmUp(cache, cacheSize, registry);
         return cache;
     }
 
+    @Bean
+    public CacheKeySelector cacheKeySelector(CacheProperties cacheProperties) {
+        return CacheKeySelector.parse(cacheProperties.accessPattern(), cacheProperties.keySpace());
+    }
+
+    @Bean
+    public LatencyProfile latencyProfile(@Value("${benchmark.latency.profile:constant}") String spec) {
+        return LatencyProfile.parse(spec);
+    }
+
+    @Bean
+    public Payload payload(@Value("${benchmark.payload.mode:heap}") String mode) {
+        return Payload.create(PayloadMode.parse(mode));
+    }
+
+    /**
+     * Caps HTTP/2 streams per connection once {@code HTTP2_ENABLED} switches on {@code server.http2.enabled}
+     * (h2c by prior knowledge or {@code Upgrade}); HTTP/1.1 connections are unaffected.
+     */
+    @Bean
+    public NettyServerCustomizer http2StreamLimit() {
+        return httpServer -> httpServer.http2Settings(
+            settings -> settings.maxConcurrentStreams(HTTP2_MAX_CONCURRENT_STREAMS));
+    }
+
     @Bean
     public Counter helloReactiveCounter(MeterRegistry registry) {
         return Counter.builder("hello.request.count")
@@ -42,6 +77,21 @@ public class ModuleConfig {
             .register(registry);
     }
 
+    @Bean
+    public Timer helloWorkCpuTimer(MeterRegistry registry) {
+        return Timer.builder("hello.work.cpu.time")
+            .description("CPU time spent on the work query parameter")
+            .register(registry);
+    }
+
+    @Bean
+    public DistributionSummary helloStreamOutstandingPeak(MeterRegistry registry) {
+        return DistributionSummary.builder("hello.stream.outstanding.peak")
+            .description("Peak bytes of a hello stream produced but not yet taken by its connection")
+            .baseUnit("bytes")
+            .register(registry);
+    }
+
     @Bean
     MeterBinder processMemoryMetrics() {
         return new ProcessMemoryMetrics();
@@ -70,11 +120,14 @@ public class ModuleConfig {
     }
 
     @ConfigurationProperties(prefix = "benchmark.cache")
-    public record CacheProperties(long size) {
+    public record CacheProperties(long size, String accessPattern, long keySpace, String warmup) {
         public CacheProperties {
             if (size <= 0) {
                 size = 50_000;
             }
+            if (keySpace <= 0) {
+                keySpace = size;
+            }
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,92 @@
+package io.github.georgecodes.benchmarking.spring.netty.infra.db;
+
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import org.h2.tools.Server;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.security.SecureRandom;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * Embedded database behind {@code /hello/db}: an H2 TCP server started inside this JVM on an ephemeral
+ * loopback port, holding an in-memory database, and an R2DBC connection pool that reaches it over the socket.
+ *
+ * <p>Spring Boot binds the pool's {@code r2dbc.pool.*} gauges ({@code acquired}, {@code allocated},
+ * {@code pending}, {@code max.allocated}); {@link R2dbcDbAdapter} adds the acquire wait timer.
+ */
+@SuppressWarnings("unused")
+@Configuration
+@EnableConfigurationProperties(H2DbConfig.DbProperties.class)
+public class H2DbConfig {
+
+    /** Administrator of the in-memory database; its password is generated per context. */
+    private static final String USER = "sa";
+
+    /** Source of the generated database password. */
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    /** Pool name, used as the {@code name} tag of the pool meters. */
+    static final String POOL_NAME = "hello-db";
+
+    @Bean(destroyMethod = "stop")
+    public Server h2TcpServer() throws SQLException {
+        // Without -ifNotExists remote clients cannot create databases, only open the one created in-process.
+        return Server.createTcpServer("-tcpPort", "0").start();
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool connectionFactory(Server h2TcpServer, DbProperties db) throws SQLException {
+        // Named after the port: in-memory databases are JVM-wide, and each context gets its own.
+        int port = h2TcpServer.getPort();
+        String database = "mem:hello-" + port + ";DB_CLOSE_DELAY=-1";
+        String password = generatePassword();
+        createDatabase(database, password);
+        H2ConnectionFactory h2 = new H2ConnectionFactory(H2ConnectionConfiguration.builder()
+            .url("tcp://127.0.0.1:" + port + "/" + database)
+            .username(USER)
+            .password(password)
+            .build());
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(h2)
+            .name(POOL_NAME)
+            .initialSize(db.poolSize())
+            .maxSize(db.poolSize())
+            .maxAcquireTime(Duration.ofMillis(db.poolTimeoutMs()))
+            .build());
+    }
+
+    /**
+     * Creates the in-memory database in-process, making {@link #USER} its administrator. The TCP server only
+     * serves databases that already exist, and {@code DB_CLOSE_DELAY=-1} keeps this one after the connection
+     * closes.
+     */
+    private static void createDatabase(String database, String password) throws SQLException {
+        DriverManager.getConnection("jdbc:h2:" + database, USER, password).close();
+    }
+
+    private static String generatePassword() {
+        byte[] bytes = new byte[24];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    @ConfigurationProperties(prefix = "benchmark.db")
+    public record DbProperties(int poolSize, long poolTimeoutMs) {
+        public DbProperties {
+            if (poolSize < 1) {
+                throw new IllegalArgumentException("DB_POOL_SIZE must be at least 1: " + poolSize);
+            }
+            if (poolTimeoutMs < 1) {
+                throw new IllegalArgumentException("DB_POOL_TIMEOUT_MS must be positive: " + poolTimeoutMs);
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package io.github.georgecodes.benchmarking.spring.netty.infra.db;
+
+import io.github.georgecodes.benchmarking.spring.netty.application.port.DbPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link DbPort} on R2DBC through the pooled H2 driver.
+ *
+ * <p>The H2 R2DBC driver runs H2's blocking engine on the subscribing thread, so lookups are subscribed on
+ * {@link Schedulers#boundedElastic()} to keep the event loop free; the pool, not the thread count, bounds the
+ * concurrent queries. The time spent waiting for a pooled connection is recorded as {@code r2dbc.pool.acquire}.
+ *
+ * <p>Creates and seeds the {@code hello} table with {@code benchmark.db.rows} rows ({@code id} → {@code value-id})
+ * on startup, in batches.
+ */
+@Slf4j
+@Component
+public class R2dbcDbAdapter implements DbPort {
+
+    /** Rows inserted per statement batch while seeding. */
+    static final int SEED_BATCH = 1_000;
+
+    /** Pooled connection factory. */
+    private final ConnectionPool pool;
+
+    /** Time waited for a pooled connection. */
+    private final Timer acquireTimer;
+
+    public R2dbcDbAdapter(
+        ConnectionPool pool,
+        MeterRegistry registry,
+        @Value("${benchmark.db.rows:10000}") long rows
+    ) {
+        this.pool = pool;
+        this.acquireTimer = Timer.builder("r2dbc.pool.acquire")
+            .description("Time waited for a pooled R2DBC connection")
+            .tag("name", H2DbConfig.POOL_NAME)
+            .register(registry);
+        seed(rows);
+    }
+
+    @Override
+    public Mono<@NonNull String> findValue(long id) {
+        return Mono.usingWhen(
+                acquire(),
+                connection -> Mono.from(connection.createStatement("SELECT val FROM hello WHERE id = $1")
+                        .bind("$1", id)
+                        .execute())
+                    .flatMap(result -> Mono.from(result.map((row, metadata) -> row.get("val", String.class)))),
+                Connection::close)
+            .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Mono<Connection> acquire() {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return pool.create()
+                .doOnNext(_ -> acquireTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    private void seed(long rows) {
+        long start = System.nanoTime();
+        Flux.usingWhen(
+                pool.create(),
+                connection -> Mono.from(connection.createStatement(
+                        "CREATE TABLE hello (id BIGINT PRIMARY KEY, val VARCHAR(32) NOT NULL)").execute())
+                    .flatMap(result -> Mono.from(result.getRowsUpdated()))
+                    .thenMany(Flux.range(0, Math.toIntExact(Math.ceilDiv(rows, SEED_BATCH)))
+                        .concatMap(batch -> insert(connection, batch * (long) SEED_BATCH + 1, rows))),
+                Connection::close)
+            .blockLast();
+        log.info("Seeded {} hello rows in {} ms", rows, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static Flux<Long> insert(Connection connection, long firstId, long rows) {
+        long lastId = Math.min(rows, firstId + SEED_BATCH - 1);
+        Statement statement = connection.createStatement("INSERT INTO hello (id, val) VALUES ($1, $2)");
+        for (long id = firstId; id <= lastId; id++) {
+            if (id > firstId) {
+                statement.add();
+            }
+            statement.bind("$1", id).bind("$2", "value-" + id);
+        }
+        return Flux.from(statement.execute()).flatMap(Result::getRowsUpdated);
+    }
+}
@@ -0,0 +1,82 @@
+package io.github.georgecodes.benchmarking.spring.netty.infra.downstream;
+
+import io.github.georgecodes.benchmarking.spring.netty.application.DownstreamException;
+import io.github.georgecodes.benchmarking.spring.netty.application.port.DownstreamPort;
+import io.netty.channel.ChannelOption;
+import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+import java.time.Duration;
+
+/**
+ * {@link DownstreamPort} on the Reactor Netty {@link HttpClient}, sharing the server's {@code IO_TRANSPORT}
+ * event loops.
+ *
+ * <p>Calls draw from a dedicated fixed pool of {@code max-connections} keep-alive connections; callers beyond
+ * that wait for a free connection for at most the timeout instead of opening new ones. Idle connections are
+ * closed after 30 seconds, below the stub's and most servers' keep-alive limits.
+ */
+@Component
+public class ReactorNettyDownstreamAdapter implements DownstreamPort, DisposableBean {
+
+    /** Idle time after which a pooled connection is closed. */
+    private static final Duration MAX_IDLE_TIME = Duration.ofSeconds(30);
+
+    /** Connection pool owned by this adapter. */
+    private final ConnectionProvider connections;
+
+    /** Client bound to {@link #connections}. */
+    private final HttpClient client;
+
+    /** Downstream URL. */
+    private final String url;
+
+    public ReactorNettyDownstreamAdapter(
+        @Value("${benchmark.downstream.url:http://downstream-stub:8080/downstream}") String url,
+        @Value("${benchmark.downstream.max-connections:64}") int maxConnections,
+        @Value("${benchmark.downstream.timeout-ms:2000}") long timeoutMillis,
+        LoopResources transportLoopResources
+    ) {
+        if (maxConnections < 1) {
+            throw new IllegalArgumentException("max-connections must be at least 1: " + maxConnections);
+        }
+        Duration timeout = Duration.ofMillis(timeoutMillis);
+        this.url = url;
+        this.connections = ConnectionProvider.builder("downstream")
+            .maxConnections(maxConnections)
+            .pendingAcquireTimeout(timeout)
+            .maxIdleTime(MAX_IDLE_TIME)
+            .build();
+        this.client = HttpClient.create(connections)
+            .runOn(transportLoopResources)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.toIntExact(timeoutMillis))
+            .responseTimeout(timeout)
+            .keepAlive(true);
+    }
+
+    @Override
+    public Mono<@NonNull String> get() {
+        return client.get()
+            .uri(url)
+            .responseSingle((response, body) -> {
+                int status = response.status().code();
+                if (status < 200 || status > 299) {
+                    return Mono.error(new DownstreamException("downstream answered " + status));
+                }
+                return body.asString().defaultIfEmpty("");
+            })
+            .onErrorMap(e -> !(e instanceof DownstreamException),
+                e -> new DownstreamException("downstream unavailable: " + e, e));
+    }
+
+    @Override
+    public void destroy() {
+        connections.dispose();
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.georgecodes.benchmarking.spring.netty.infra.tls;
+
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.GeneralNames;
+import org.bouncycastle.cert.CertIOException;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.OperatorCreationException;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * Self-signed server certificate generated in memory at startup, so no keystore has to be built into the image.
+ *
+ * <p>The key is RSA 2048 signed with SHA-256, the same as the certificate the Vert.x module generates, so
+ * handshake costs compare across frameworks.
+ *
+ * @param privateKey  the server's private key
+ * @param certificate the certificate for the key, valid for the host name as CN and DNS subject alternative name
+ */
+public record SelfSignedCertificate(PrivateKey privateKey, X509Certificate certificate) {
+
+    /** RSA modulus length of the generated key. */
+    static final int KEY_SIZE = 2048;
+
+    /** Validity of the generated certificate. */
+    static final Duration VALIDITY = Duration.ofDays(365);
+
+    /**
+     * Generates a key pair and a certificate for it.
+     *
+     * @param host host name the certificate is issued for
+     * @return the key and certificate
+     * @throws IllegalStateException if the JDK cannot generate or sign the key
+     */
+    public static SelfSignedCertificate generate(String host) {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(KEY_SIZE);
+            KeyPair keyPair = generator.generateKeyPair();
+            X500Name name = new X500Name("CN=" + host);
+            Instant now = Instant.now();
+            JcaX509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(name,
+                BigInteger.valueOf(now.toEpochMilli()), Date.from(now.minus(Duration.ofDays(1))),
+                Date.from(now.plus(VALIDITY)), name, keyPair.getPublic());
+            builder.addExtension(Extension.subjectAlternativeName, false,
+                new GeneralNames(new GeneralName(GeneralName.dNSName, host)));
+            X509Certificate certificate = new JcaX509CertificateConverter().getCertificate(
+                builder.build(new JcaContentSignerBuilder("SHA256withRSA").build(keyPair.getPrivate())));
+            return new SelfSignedCertificate(keyPair.getPrivate(), certificate);
+        } catch (GeneralSecurityException | OperatorCreationException | CertIOException e) {
+            throw new IllegalStateException("Cannot generate a self-signed certificate for " + host, e);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.georgecodes.benchmarking.spring.netty.infra.tls;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.handler.ssl.OpenSsl;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.reactor.netty.NettyServerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.netty.http.Http11SslContextSpec;
+import reactor.netty.http.Http2SslContextSpec;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.tcp.AbstractProtocolSslContextSpec;
+
+/**
+ * TLS termination selected by {@code TLS_MODE}: the listener serves HTTPS only, with a
+ * {@link SelfSignedCertificate} generated at startup and the engine chosen by the mode.
+ *
+ * <p>With {@code HTTP2_ENABLED} ALPN offers {@code h2} next to {@code http/1.1} instead of h2c. Both engines
+ * keep a server-side session cache of the same size and lifetime, so resumed handshakes compare fairly, and
+ * {@link TlsHandshakeRecorder} exports the handshake times.
+ */
+@SuppressWarnings("unused")
+@Configuration
+@Slf4j
+@EnableConfigurationProperties(TlsConfig.TlsProperties.class)
+public class TlsConfig {
+
+    /** Host name of the generated certificate. */
+    static final String CERTIFICATE_HOST = "localhost";
+
+    /** Sessions kept for resumption; the JDK's default server cache size. */
+    static final long SESSION_CACHE_SIZE = 20_480;
+
+    /** Seconds a cached session can be resumed. */
+    static final long SESSION_TIMEOUT_SECONDS = 3_600;
+
+    @Bean
+    public NettyServerCustomizer tlsTermination(TlsProperties tls,
+                                                @Value("${server.http2.enabled:false}") boolean http2Enabled,
+                                                MeterRegistry registry) {
+        TlsMode mode = TlsMode.parse(tls.mode());
+        log.info("TLS_MODE={}", mode);
+        if (mode == TlsMode.OFF) {
+            return httpServer -> httpServer;
+        }
+        if (mode == TlsMode.OPENSSL && !OpenSsl.isAvailable()) {
+            throw new IllegalStateException("TLS_MODE=openssl but netty-tcnative is not available",
+                OpenSsl.unavailabilityCause());
+        }
+        SelfSignedCertificate certificate = SelfSignedCertificate.generate(CERTIFICATE_HOST);
+        AbstractProtocolSslContextSpec<?> sslContext = http2Enabled
+            ? Http2SslContextSpec.forServer(certificate.privateKey(), certificate.certificate())
+            : Http11SslContextSpec.forServer(certificate.privateKey(), certificate.certificate());
+        sslContext.configure(builder -> builder
+            .sslProvider(mode.provider())
+            .sessionCacheSize(SESSION_CACHE_SIZE)
+            .sessionTimeout(SESSION_TIMEOUT_SECONDS));
+        HttpProtocol[] protocols = http2Enabled
+            ? new HttpProtocol[] {HttpProtocol.H2, HttpProtocol.HTTP11}
+            : new HttpProtocol[] {HttpProtocol.HTTP11};
+        TlsHandshakeRecorder recorder = new TlsHandshakeRecorder(registry, mode.tag());
+        // Replaces the h2c protocol Boot sets for server.http2.enabled; h2c cannot be combined with TLS.
+        return httpServer -> httpServer
+            .secure(spec -> spec.sslContext(sslContext))
+            .protocol(protocols)
+            .metrics(true, () -> recorder);
+    }
+
+    @ConfigurationProperties(prefix = "benchmark.tls")
+    public record TlsProperties(String mode) {
+    }
+}
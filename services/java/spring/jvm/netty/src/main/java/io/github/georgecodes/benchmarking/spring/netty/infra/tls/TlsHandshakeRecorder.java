@@ -0,0 +1,89 @@
+package io.github.georgecodes.benchmarking.spring.netty.infra.tls;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.netty.http.server.HttpServerMetricsRecorder;
+
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reactor Netty metrics recorder that keeps only the TLS handshakes, as {@code tls.handshake.time} tagged with
+ * the engine and the handshake status; its count is the handshake rate.
+ *
+ * <p>Reactor Netty times the handshake itself, from the TLS handler's activation to its completion event. Every
+ * other callback is ignored, so enabling the recorder does not add per-request meters on the hot path.
+ */
+final class TlsHandshakeRecorder implements HttpServerMetricsRecorder {
+
+    /** Engine tag of every timer. */
+    private final String engine;
+
+    /** Registry the timers are registered with. */
+    private final MeterRegistry registry;
+
+    /** One timer per handshake status reported by Reactor Netty ({@code SUCCESS}, {@code ERROR}). */
+    private final Map<String, Timer> handshakeTimes = new ConcurrentHashMap<>();
+
+    TlsHandshakeRecorder(MeterRegistry registry, String engine) {
+        this.registry = Objects.requireNonNull(registry, "registry");
+        this.engine = Objects.requireNonNull(engine, "engine");
+    }
+
+    @Override
+    public void recordTlsHandshakeTime(SocketAddress remoteAddress, Duration time, String status) {
+        handshakeTimes.computeIfAbsent(status, s -> Timer.builder("tls.handshake.time")
+                .description("Server-side duration of TLS handshakes")
+                .tag("engine", engine)
+                .tag("status", s)
+                .register(registry))
+            .record(time);
+    }
+
+    @Override
+    public void recordDataReceived(SocketAddress remoteAddress, long bytes) {
+    }
+
+    @Override
+    public void recordDataSent(SocketAddress remoteAddress, long bytes) {
+    }
+
+    @Override
+    public void incrementErrorsCount(SocketAddress remoteAddress) {
+    }
+
+    @Override
+    public void recordConnectTime(SocketAddress remoteAddress, Duration time, String status) {
+    }
+
+    @Override
+    public void recordResolveAddressTime(SocketAddress remoteAddress, Duration time, String status) {
+    }
+
+    @Override
+    public void recordDataReceived(SocketAddress remoteAddress, String uri, long bytes) {
+    }
+
+    @Override
+    public void recordDataSent(SocketAddress remoteAddress, String uri, long bytes) {
+    }
+
+    @Override
+    public void incrementErrorsCount(SocketAddress remoteAddress, String uri) {
+    }
+
+    @Override
+    public void recordDataReceivedTime(String uri, String method, Duration time) {
+    }
+
+    @Override
+    public void recordDataSentTime(String uri, String method, String status, Duration time) {
+    }
+
+    @Override
+    public void recordResponseTime(String uri, String method, String status, Duration time) {
+    }
+}
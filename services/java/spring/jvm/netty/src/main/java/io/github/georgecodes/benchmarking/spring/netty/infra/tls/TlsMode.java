@@ -0,0 +1,64 @@
+package io.github.georgecodes.benchmarking.spring.netty.infra.tls;
+
+import io.netty.handler.ssl.SslProvider;
+
+import java.util.Locale;
+
+/**
+ * Whether and with which engine the listener terminates TLS (env {@code TLS_MODE}).
+ */
+public enum TlsMode {
+
+    /** Plain HTTP/1.1, or h2c with {@code HTTP2_ENABLED} (baseline). */
+    OFF(null),
+
+    /** TLS on the JDK {@code SSLEngine}. */
+    JDK(SslProvider.JDK),
+
+    /** TLS on Netty's OpenSSL engine (statically linked BoringSSL from {@code netty-tcnative}). */
+    OPENSSL(SslProvider.OPENSSL);
+
+    /** Netty engine of this mode, {@code null} for {@link #OFF}. */
+    private final SslProvider provider;
+
+    TlsMode(SslProvider provider) {
+        this.provider = provider;
+    }
+
+    /**
+     * Returns the Netty engine of this mode.
+     *
+     * @return the provider, {@code null} for {@link #OFF}
+     */
+    public SslProvider provider() {
+        return provider;
+    }
+
+    /**
+     * Returns the {@code TLS_MODE} spelling, used as the {@code engine} metric tag.
+     *
+     * @return lower-case mode name
+     */
+    public String tag() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Parses a {@code TLS_MODE} value.
+     *
+     * @param value {@code off}, {@code jdk} or {@code openssl}; blank means {@code off}
+     * @return the matching mode
+     * @throws IllegalArgumentException when the value is not recognised
+     */
+    public static TlsMode parse(String value) {
+        if (value == null || value.isBlank()) {
+            return OFF;
+        }
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "off" -> OFF;
+            case "jdk" -> JDK;
+            case "openssl" -> OPENSSL;
+            default -> throw new IllegalArgumentException("Unsupported TLS_MODE: " + value);
+        };
+    }
+}
@@ -0,0 +1,160 @@
+package io.github.georgecodes.benchmarking.spring.netty.infra.transport;
+
+import io.netty.channel.Channel;
+import io.netty.channel.IoHandlerFactory;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollDatagramChannel;
+import io.netty.channel.epoll.EpollIoHandler;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioIoHandler;
+import io.netty.channel.socket.DatagramChannel;
+import io.netty.channel.socket.ServerSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.channel.uring.IoUring;
+import io.netty.channel.uring.IoUringDatagramChannel;
+import io.netty.channel.uring.IoUringIoHandler;
+import io.netty.channel.uring.IoUringServerSocketChannel;
+import io.netty.channel.uring.IoUringSocketChannel;
+
+import java.util.Locale;
+import java.util.function.Predicate;
+
+/**
+ * Netty transport the server's event loops run on (env {@code IO_TRANSPORT}).
+ */
+public enum IoTransport {
+
+    /** JDK NIO selector; always available. */
+    NIO,
+
+    /** Linux epoll (default). */
+    EPOLL,
+
+    /** Linux io_uring; batches socket reads and writes into shared submission and completion rings. */
+    IO_URING;
+
+    /**
+     * Parses an {@code IO_TRANSPORT} value.
+     *
+     * @param value {@code nio}, {@code epoll} or {@code io_uring} ({@code io-uring}, {@code iouring}); blank means
+     *              {@code epoll}
+     * @return the matching transport
+     * @throws IllegalArgumentException when the value is not recognised
+     */
+    public static IoTransport parse(String value) {
+        if (value == null || value.isBlank()) {
+            return EPOLL;
+        }
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "nio" -> NIO;
+            case "epoll" -> EPOLL;
+            case "io_uring", "io-uring", "iouring" -> IO_URING;
+            default -> throw new IllegalArgumentException("Unsupported IO_TRANSPORT: " + value);
+        };
+    }
+
+    /**
+     * Returns the transport to use when this one is unavailable: io_uring falls back to epoll, epoll to NIO.
+     *
+     * @return the next transport, {@code NIO} for {@code NIO}
+     */
+    public IoTransport fallback() {
+        return switch (this) {
+            case IO_URING -> EPOLL;
+            case EPOLL, NIO -> NIO;
+        };
+    }
+
+    /**
+     * Resolves the transport actually used: this one if available, otherwise the first available fallback.
+     *
+     * @param available whether the kernel and the classpath support a native transport
+     * @return the resolved transport; {@code NIO} when no native transport is available
+     */
+    public IoTransport resolve(Predicate<IoTransport> available) {
+        IoTransport transport = this;
+        while (transport != NIO && !available.test(transport)) {
+            transport = transport.fallback();
+        }
+        return transport;
+    }
+
+    /**
+     * Returns whether the kernel and the classpath support this transport.
+     *
+     * @return {@code true} for {@code NIO}; for the native transports whether their library loaded
+     */
+    public boolean isAvailable() {
+        return switch (this) {
+            case NIO -> true;
+            case EPOLL -> Epoll.isAvailable();
+            case IO_URING -> IoUring.isAvailable();
+        };
+    }
+
+    /**
+     * Returns why this transport is unavailable.
+     *
+     * @return the cause, {@code null} when the transport is available
+     */
+    public Throwable unavailabilityCause() {
+        return switch (this) {
+            case NIO -> null;
+            case EPOLL -> Epoll.unavailabilityCause();
+            case IO_URING -> IoUring.unavailabilityCause();
+        };
+    }
+
+    /**
+     * Returns the {@code IO_TRANSPORT} spelling, used in thread names and logs.
+     *
+     * @return lower-case transport name
+     */
+    public String tag() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    IoHandlerFactory ioHandlerFactory() {
+        return switch (this) {
+            case NIO -> NioIoHandler.newFactory();
+            case EPOLL -> EpollIoHandler.newFactory();
+            case IO_URING -> IoUringIoHandler.newFactory();
+        };
+    }
+
+    /**
+     * Maps a channel interface Reactor Netty asks for to this transport's implementation.
+     *
+     * @param channelType {@link ServerSocketChannel}, {@link SocketChannel} or {@link DatagramChannel}
+     * @return the implementation class
+     * @throws IllegalArgumentException for any other channel type
+     */
+    Class<? extends Channel> channelClass(Class<? extends Channel> channelType) {
+        if (channelType == ServerSocketChannel.class) {
+            return switch (this) {
+                case NIO -> NioServerSocketChannel.class;
+                case EPOLL -> EpollServerSocketChannel.class;
+                case IO_URING -> IoUringServerSocketChannel.class;
+            };
+        }
+        if (channelType == SocketChannel.class) {
+            return switch (this) {
+                case NIO -> NioSocketChannel.class;
+                case EPOLL -> EpollSocketChannel.class;
+                case IO_URING -> IoUringSocketChannel.class;
+            };
+        }
+        if (channelType == DatagramChannel.class) {
+            return switch (this) {
+                case NIO -> NioDatagramChannel.class;
+                case EPOLL -> EpollDatagramChannel.class;
+                case IO_URING -> IoUringDatagramChannel.class;
+            };
+        }
+        throw new IllegalArgumentException("Unsupported channel type: " + channelType.getName());
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.georgecodes.benchmarking.spring.netty.infra.transport;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.reactor.netty.NettyServerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * Runs the HTTP server on the Netty transport selected by {@code IO_TRANSPORT}, falling back to epoll and
+ * then NIO when the kernel or the container's seccomp profile does not support the requested one.
+ */
+@SuppressWarnings("unused")
+@Configuration
+@Slf4j
+public class TransportConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public LoopResources transportLoopResources(@Value("${benchmark.io.transport:epoll}") String ioTransport) {
+        IoTransport requested = IoTransport.parse(ioTransport);
+        IoTransport resolved = requested.resolve(transport -> {
+            if (transport.isAvailable()) {
+                return true;
+            }
+            log.warn("IO_TRANSPORT {} unavailable, falling back to {}: {}", transport.tag(),
+                transport.fallback().tag(), String.valueOf(transport.unavailabilityCause()));
+            return false;
+        });
+        log.info("IO_TRANSPORT={} using {} ({} event loops)", requested.tag(), resolved.tag(),
+            LoopResources.DEFAULT_IO_WORKER_COUNT);
+        return new TransportLoopResources(resolved, LoopResources.DEFAULT_IO_WORKER_COUNT);
+    }
+
+    @Bean
+    public NettyServerCustomizer ioTransport(LoopResources transportLoopResources) {
+        return httpServer -> httpServer.runOn(transportLoopResources);
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.georgecodes.benchmarking.spring.netty.infra.transport;
+
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.MultiThreadIoEventLoopGroup;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import io.netty.util.concurrent.Future;
+import reactor.core.publisher.Mono;
+import reactor.netty.resources.LoopResources;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link LoopResources} running the server on one event loop group of a fixed {@link IoTransport}.
+ *
+ * <p>Reactor Netty's own resources pick a native transport by what is on the classpath, which with both
+ * native transports present would not follow {@code IO_TRANSPORT}. This group serves as selector and workers
+ * alike, like the default server resources, and is shared with the downstream client.
+ */
+final class TransportLoopResources implements LoopResources {
+
+    /** Transport of {@link #group}. */
+    private final IoTransport transport;
+
+    /** Event loops accepting and serving connections. */
+    private final EventLoopGroup group;
+
+    TransportLoopResources(IoTransport transport, int threads) {
+        this.transport = transport;
+        this.group = new MultiThreadIoEventLoopGroup(threads,
+            new DefaultThreadFactory("reactor-http-" + transport.tag(), true), transport.ioHandlerFactory());
+    }
+
+    @Override
+    public EventLoopGroup onServer(boolean useNative) {
+        return group;
+    }
+
+    @Override
+    public <C extends Channel> C onChannel(Class<C> channelType, EventLoopGroup eventLoopGroup) {
+        try {
+            return onChannelClass(channelType, eventLoopGroup).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create a " + transport.tag() + " " + channelType.getName(), e);
+        }
+    }
+
+    @Override
+    public <C extends Channel> Class<? extends C> onChannelClass(Class<C> channelType,
+                                                                 EventLoopGroup eventLoopGroup) {
+        return transport.channelClass(channelType).asSubclass(channelType);
+    }
+
+    @Override
+    public boolean daemon() {
+        return true;
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return group.isShutdown();
+    }
+
+    @Override
+    public Mono<Void> disposeLater() {
+        return disposeLater(Duration.ofSeconds(LoopResources.DEFAULT_SHUTDOWN_QUIET_PERIOD),
+            Duration.ofSeconds(LoopResources.DEFAULT_SHUTDOWN_TIMEOUT));
+    }
+
+    @Override
+    public Mono<Void> disposeLater(Duration quietPeriod, Duration timeout) {
+        return Mono.defer(() -> {
+            Future<?> terminated = group.shutdownGracefully(quietPeriod.toMillis(), timeout.toMillis(),
+                TimeUnit.MILLISECONDS);
+            return Mono.<Void>create(sink -> terminated.addListener(done -> sink.success()));
+        });
+    }
+}
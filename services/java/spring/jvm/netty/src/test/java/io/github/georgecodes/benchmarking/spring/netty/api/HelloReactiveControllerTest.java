@@ -1,5 +1,7 @@
 package io.github.georgecodes.benchmarking.spring.netty.api;
 
+import io.github.georgecodes.benchmarking.spring.netty.application.Payload;
+import io.github.georgecodes.benchmarking.spring.netty.application.PayloadMode;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -8,7 +10,14 @@ import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
-@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "benchmark.downstream.url=http://127.0.0.1:1/downstream",
+        "benchmark.downstream.timeout-ms=500",
+        "benchmark.db.rows=100"
+    }
+)
 public class HelloReactiveControllerTest {
 
     @LocalServerPort
@@ -54,6 +63,109 @@ public class HelloReactiveControllerTest {
             });
     }
 
+    @Test
+    public void testReactiveEndpointWithSleepMs() {
+        webTestClient.get()
+            .uri(uriBuilder -> uriBuilder
+                .path("/hello/reactive")
+                .queryParam("sleepMs", 50)
+                .build())
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(String.class)
+            .consumeWith(response -> {
+                String body = response.getResponseBody();
+                Assertions.assertThat(body).contains("Hello from Boot reactive REST");
+            });
+    }
+
+    @Test
+    public void testReactiveEndpointRejectsNegativeSleep() {
+        webTestClient.get()
+            .uri(uriBuilder -> uriBuilder
+                .path("/hello/reactive")
+                .queryParam("sleepMs", -1)
+                .build())
+            .exchange()
+            .expectStatus().isBadRequest();
+    }
+
+    @Test
+    public void testReactiveEndpointWithLatencyProfile() {
+        webTestClient.get()
+            .uri(uriBuilder -> uriBuilder
+                .path("/hello/reactive")
+                .queryParam("sleepMs", 10)
+                .queryParam("latency", "bimodal:20:1")
+                .build())
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(String.class)
+            .consumeWith(response -> {
+                String body = response.getResponseBody();
+                Assertions.assertThat(body).contains("Hello from Boot reactive REST");
+            });
+    }
+
+    @Test
+    public void testReactiveEndpointWithCpuWork() {
+        webTestClient.get()
+            .uri(uriBuilder -> uriBuilder
+                .path("/hello/reactive")
+                .queryParam("work", 64)
+                .build())
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(String.class)
+            .consumeWith(response -> {
+                String body = response.getResponseBody();
+                Assertions.assertThat(body).contains("Hello from Boot reactive REST");
+            });
+    }
+
+    @Test
+    public void testReactiveEndpointWithPayloadSize() {
+        webTestClient.get()
+            .uri(uriBuilder -> uriBuilder
+                .path("/hello/reactive")
+                .queryParam("size", 100_000)
+                .build())
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentType(MediaType.APPLICATION_OCTET_STREAM)
+            .expectHeader().contentLength(100_000)
+            .expectBody(byte[].class)
+            .isEqualTo(Payload.create(PayloadMode.HEAP).heapCopy(100_000));
+    }
+
+    @Test
+    public void testReactiveEndpointRejectsOversizedPayload() {
+        webTestClient.get()
+            .uri(uriBuilder -> uriBuilder
+                .path("/hello/reactive")
+                .queryParam("size", Payload.MAX_BYTES + 1)
+                .build())
+            .exchange()
+            .expectStatus().isBadRequest();
+    }
+
+    @Test
+    public void testReactiveEndpointWithZeroSizeKeepsHelloBody() {
+        webTestClient.get()
+            .uri(uriBuilder -> uriBuilder
+                .path("/hello/reactive")
+                .queryParam("size", 0)
+                .build())
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+            .expectBody(String.class)
+            .consumeWith(response -> {
+                String body = response.getResponseBody();
+                Assertions.assertThat(body).contains("Hello from Boot reactive REST");
+            });
+    }
+
     @Test
     public void testReactiveEndpointWithLog() {
         webTestClient.get()
@@ -70,4 +182,161 @@ public class HelloReactiveControllerTest {
                 Assertions.assertThat(body).contains("Hello from Boot reactive REST");
             });
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testStreamEndpointWritesOneLinePerElement() {
+        webTestClient.get()
+            .uri(uriBuilder -> uriBuilder
+                .path("/hello/stream")
+                .queryParam("n", 3)
+                .build())
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+            .expectBody(String.class)
+            .consumeWith(response -> {
+                String body = response.getResponseBody();
+                Assertions.assertThat(body).isNotNull();
+                Assertions.assertThat(body.split("\n"))
+                    .hasSize(3)
+                    .allSatisfy(line -> Assertions.assertThat(line).contains("Hello from Boot reactive REST"));
+                Assertions.assertThat(body).startsWith("{\"seq\":0,").contains("{\"seq\":2,");
+            });
+    }
+
+    @Test
+    public void testStreamEndpointSpacesElementsByInterval() {
+        long start = System.nanoTime();
+        webTestClient.get()
+            .uri(uriBuilder -> uriBuilder
+                .path("/hello/stream")
+                .queryParam("n", 3)
+                .queryParam("interval", 50)
+                .build())
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(String.class)
+            .consumeWith(response -> Assertions.assertThat(response.getResponseBody()).contains("{\"seq\":2,"));
+        Assertions.assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(100_000_000L);
+    }
+
+    @Test
+    public void testStreamEndpointRejectsEmptyStream() {
+        webTestClient.get()
+            .uri(uriBuilder -> uriBuilder
+                .path("/hello/stream")
+                .queryParam("n", 0)
+                .build())
+            .exchange()
+            .expectStatus().isBadRequest();
+    }
+
+    @Test
+    public void testEchoEndpointEchoesEveryItem() {
+        webTestClient.post()
+            .uri("/hello/echo")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue("{\"items\":[{\"key\":\"1\",\"payload\":\"a\"},{\"key\":\"2\",\"payload\":\"b\"}]}")
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+            .expectBody()
+            .jsonPath("$.count").isEqualTo(2)
+            .jsonPath("$.items[0].key").isEqualTo("1")
+            .jsonPath("$.items[1].payload").isEqualTo("b");
+    }
+
+    @Test
+    public void testEchoEndpointRejectsMissingKey() {
+        webTestClient.post()
+            .uri("/hello/echo")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue("{\"items\":[{\"payload\":\"a\"}]}")
+            .exchange()
+            .expectStatus().isBadRequest();
+    }
+
+    @Test
+    public void testFanoutEndpointReturnsOneValuePerBranch() {
+        webTestClient.get()
+            .uri(uriBuilder -> uriBuilder
+                .path("/hello/fanout")
+                .queryParam("n", 3)
+                .queryParam("sleepMs", 5)
+                .build())
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+            .expectBody()
+            .jsonPath("$.length()").isEqualTo(3)
+            .jsonPath("$[0]").isEqualTo("value-1");
+    }
+
+    @Test
+    public void testFanoutEndpointRejectsInvalidBranchCount() {
+        webTestClient.get()
+            .uri(uriBuilder -> uriBuilder
+                .path("/hello/fanout")
+                .queryParam("n", 0)
+                .build())
+            .exchange()
+            .expectStatus().isBadRequest()
+            .expectBody(String.class)
+            .value(body -> Assertions.assertThat(body).startsWith("n must be between 1 and"));
+    }
+
+    @Test
+    public void testFanoutEndpointCancelsRemainingBranchesOnFailure() {
+        long start = System.nanoTime();
+        webTestClient.get()
+            .uri(uriBuilder -> uriBuilder
+                .path("/hello/fanout")
+                .queryParam("n", 4)
+                .queryParam("sleepMs", 10_000)
+                .queryParam("fail", 2)
+                .build())
+            .exchange()
+            .expectStatus().is5xxServerError();
+        Assertions.assertThat(System.nanoTime() - start).isLessThan(5_000_000_000L);
+    }
+
+    @Test
+    public void testChainEndpointAnswersBadGatewayWhenDownstreamIsDown() {
+        webTestClient.get()
+            .uri("/hello/chain")
+            .exchange()
+            .expectStatus().isEqualTo(502)
+            .expectBody(String.class)
+            .consumeWith(response -> Assertions.assertThat(response.getResponseBody())
+                .startsWith("downstream unavailable"));
+    }
+
+    @Test
+    public void testDbEndpointReturnsSeededRow() {
+        webTestClient.get()
+            .uri("/hello/db?id=7")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(String.class)
+            .isEqualTo("Hello from Boot reactive db REST value-7");
+    }
+
+    @Test
+    public void testDbEndpointPicksRandomSeededRow() {
+        webTestClient.get()
+            .uri("/hello/db")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(String.class)
+            .consumeWith(response -> Assertions.assertThat(response.getResponseBody())
+                .startsWith("Hello from Boot reactive db REST value-"));
+    }
+
+    @Test
+    public void testDbEndpointAnswersNotFoundForMissingRow() {
+        webTestClient.get()
+            .uri("/hello/db?id=101")
+            .exchange()
+            .expectStatus().isNotFound();
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.georgecodes.benchmarking.spring.netty.application;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PayloadTest {
+
+    @Test
+    void heapCopyRepeatsThePatternAcrossChunks() {
+        byte[] body = Payload.create(PayloadMode.HEAP).heapCopy(100_000);
+
+        assertThat(body).hasSize(100_000);
+        assertThat(new String(body, 0, 40, StandardCharsets.US_ASCII))
+            .isEqualTo("abcdefghijklmnopqrstuvwxyz0123456789abcd");
+        for (int i = 0; i < body.length; i++) {
+            assertThat(body[i]).isEqualTo(body[i % 36]);
+        }
+    }
+
+    @Test
+    void directAndFileBuffersMatchTheHeapBody() {
+        byte[] expected = Payload.create(PayloadMode.HEAP).heapCopy(Payload.MAX_BYTES);
+        for (PayloadMode mode : new PayloadMode[] {PayloadMode.DIRECT, PayloadMode.FILE}) {
+            ByteBuffer buffer = Payload.create(mode).buffer(Payload.MAX_BYTES);
+            byte[] actual = new byte[buffer.remaining()];
+            buffer.get(actual);
+
+            assertThat(buffer.isDirect()).as(mode.name()).isTrue();
+            assertThat(buffer.isReadOnly()).as(mode.name()).isTrue();
+            assertThat(actual).as(mode.name()).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void fileModeWritesTheFullBody() throws Exception {
+        Payload payload = Payload.create(PayloadMode.FILE);
+
+        assertThat(Files.size(payload.file())).isEqualTo(Payload.MAX_BYTES);
+    }
+
+    @Test
+    void heapModeHasNoPreBuiltBody() {
+        Payload payload = Payload.create(PayloadMode.HEAP);
+
+        assertThatThrownBy(() -> payload.buffer(1)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(payload::file).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void rejectsOutOfRangeSizes() {
+        assertThat(Payload.checkSize(0)).isZero();
+        assertThatThrownBy(() -> Payload.checkSize(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Payload.checkSize(Payload.MAX_BYTES + 1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void parsesPayloadModes() {
+        assertThat(PayloadMode.parse(null)).isEqualTo(PayloadMode.HEAP);
+        assertThat(PayloadMode.parse(" Direct ")).isEqualTo(PayloadMode.DIRECT);
+        assertThat(PayloadMode.parse("file")).isEqualTo(PayloadMode.FILE);
+        assertThatThrownBy(() -> PayloadMode.parse("sendfile")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,36 @@
+package io.github.georgecodes.benchmarking.spring.netty.infra.tls;
+
+import io.netty.handler.ssl.SslProvider;
+import org.junit.jupiter.api.Test;
+
+import java.security.cert.X509Certificate;
+import java.security.interfaces.RSAPublicKey;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SelfSignedCertificateTest {
+
+    @Test
+    void generatesSelfSignedRsaCertificateForHost() throws Exception {
+        SelfSignedCertificate generated = SelfSignedCertificate.generate("localhost");
+        X509Certificate certificate = generated.certificate();
+
+        certificate.verify(certificate.getPublicKey());
+        certificate.checkValidity();
+        assertThat(certificate.getSubjectX500Principal().getName()).isEqualTo("CN=localhost");
+        assertThat(certificate.getSubjectAlternativeNames()).containsExactly(List.of(2, "localhost"));
+        assertThat(((RSAPublicKey) certificate.getPublicKey()).getModulus().bitLength())
+            .isEqualTo(SelfSignedCertificate.KEY_SIZE);
+        assertThat(generated.privateKey().getAlgorithm()).isEqualTo("RSA");
+    }
+
+    @Test
+    void tlsModeSelectsNettyEngine() {
+        assertThat(TlsMode.parse(null)).isEqualTo(TlsMode.OFF);
+        assertThat(TlsMode.parse(" JDK ").provider()).isEqualTo(SslProvider.JDK);
+        assertThat(TlsMode.parse("openssl").provider()).isEqualTo(SslProvider.OPENSSL);
+        assertThatThrownBy(() -> TlsMode.parse("boringssl")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,49 @@
+package io.github.georgecodes.benchmarking.spring.netty.infra.transport;
+
+import io.netty.channel.Channel;
+import io.netty.channel.epoll.EpollDatagramChannel;
+import io.netty.channel.socket.DatagramChannel;
+import io.netty.channel.socket.ServerSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.uring.IoUringSocketChannel;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IoTransportTest {
+
+    @Test
+    void parsesTransportSpellings() {
+        assertThat(IoTransport.parse(null)).isEqualTo(IoTransport.EPOLL);
+        assertThat(IoTransport.parse(" NIO ")).isEqualTo(IoTransport.NIO);
+        assertThat(IoTransport.parse("io-uring")).isEqualTo(IoTransport.IO_URING);
+        assertThat(IoTransport.parse("iouring")).isEqualTo(IoTransport.IO_URING);
+        assertThatThrownBy(() -> IoTransport.parse("kqueue"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("IO_TRANSPORT");
+    }
+
+    @Test
+    void fallsBackToTheFirstAvailableTransport() {
+        assertThat(IoTransport.IO_URING.resolve(EnumSet.of(IoTransport.EPOLL)::contains))
+            .isEqualTo(IoTransport.EPOLL);
+        assertThat(IoTransport.IO_URING.resolve(EnumSet.noneOf(IoTransport.class)::contains))
+            .isEqualTo(IoTransport.NIO);
+        assertThat(IoTransport.IO_URING.resolve(EnumSet.of(IoTransport.IO_URING)::contains))
+            .isEqualTo(IoTransport.IO_URING);
+        assertThat(IoTransport.NIO.isAvailable()).isTrue();
+    }
+
+    @Test
+    void mapsChannelTypesToTransportImplementations() {
+        assertThat(IoTransport.NIO.channelClass(ServerSocketChannel.class)).isEqualTo(NioServerSocketChannel.class);
+        assertThat(IoTransport.IO_URING.channelClass(SocketChannel.class)).isEqualTo(IoUringSocketChannel.class);
+        assertThat(IoTransport.EPOLL.channelClass(DatagramChannel.class)).isEqualTo(EpollDatagramChannel.class);
+        assertThatThrownBy(() -> IoTransport.NIO.channelClass(Channel.class))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
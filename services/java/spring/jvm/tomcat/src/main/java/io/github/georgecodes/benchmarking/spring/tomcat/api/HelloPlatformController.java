@@ -1,14 +1,32 @@
 package io.github.georgecodes.benchmarking.spring.tomcat.api;
 
+import io.github.georgecodes.benchmarking.spring.tomcat.application.ChainService;
+import io.github.georgecodes.benchmarking.spring.tomcat.application.DbService;
+import io.github.georgecodes.benchmarking.spring.tomcat.application.DownstreamException;
+import io.github.georgecodes.benchmarking.spring.tomcat.application.EchoRequest;
+import io.github.georgecodes.benchmarking.spring.tomcat.application.EchoResponse;
+import io.github.georgecodes.benchmarking.spring.tomcat.application.EchoService;
+import io.github.georgecodes.benchmarking.spring.tomcat.application.FanoutService;
 import io.github.georgecodes.benchmarking.spring.tomcat.application.HelloService;
+import io.github.georgecodes.benchmarking.spring.tomcat.application.HelloStream;
+import io.github.georgecodes.benchmarking.spring.tomcat.application.LatencyProfile;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.util.List;
+
 /**
  * Platform-thread Tomcat endpoint.
  * This controller is only registered when virtual threads are disabled.
@@ -26,19 +44,137 @@ public class HelloPlatformController {
     /** Application use-case for producing hello payloads. */
     private final HelloService helloService;
 
-    public HelloPlatformController(HelloService helloService) {
+    /** Distribution applied to the requested sleep unless the request overrides it. */
+    private final LatencyProfile latencyProfile;
+
+    /** Blocking writer behind {@code /hello/stream}. */
+    private final HelloStreamWriter streamWriter;
+
+    /** Application use-case behind {@code /hello/echo}. */
+    private final EchoService echoService;
+
+    /** Application use-case behind {@code /hello/fanout}. */
+    private final FanoutService fanoutService;
+
+    /** Application use-case behind {@code /hello/chain}. */
+    private final ChainService chainService;
+
+    /** Application use-case behind {@code /hello/db}. */
+    private final DbService dbService;
+
+    public HelloPlatformController(
+        HelloService helloService,
+        LatencyProfile latencyProfile,
+        HelloStreamWriter streamWriter,
+        EchoService echoService,
+        FanoutService fanoutService,
+        ChainService chainService,
+        DbService dbService
+    ) {
         this.helloService = helloService;
+        this.latencyProfile = latencyProfile;
+        this.streamWriter = streamWriter;
+        this.echoService = echoService;
+        this.fanoutService = fanoutService;
+        this.chainService = chainService;
+        this.dbService = dbService;
     }
 
     @GetMapping(value = "/platform")
     public String platform(
         @RequestParam(name = "sleep", defaultValue = "0") int sleepSeconds,
+        @RequestParam(name = "sleepMs", defaultValue = "0") long sleepMillis,
+        @RequestParam(name = "latency", required = false) String latency,
+        @RequestParam(name = "work", defaultValue = "0") int work,
         @RequestParam(name = "log", defaultValue = "false") boolean printLog
     ) {
         if (printLog) {
             var currentThread = Thread.currentThread();
             log.info("platform thread: '{}', isVirtual: '{}'", currentThread, currentThread.isVirtual());
         }
-        return helloService.platformHello(sleepSeconds);
+        long delayMillis = latencyProfile.override(latency).sampleMillis(sleepSeconds * 1000L + sleepMillis);
+        return helloService.platformHello(delayMillis, work);
+    }
+
+    /**
+     * Streams {@code n} hello elements as newline-delimited JSON, {@code interval} milliseconds apart,
+     * with blocking writes on the platform request thread.
+     *
+     * @param elements       number of elements
+     * @param intervalMillis delay before every element after the first, in milliseconds
+     * @param response       the response written to directly
+     * @throws IOException if the client goes away
+     */
+    @GetMapping(value = "/stream", produces = HelloStream.CONTENT_TYPE)
+    public void stream(
+        @RequestParam(name = "n", defaultValue = "10") int elements,
+        @RequestParam(name = "interval", defaultValue = "0") long intervalMillis,
+        HttpServletResponse response
+    ) throws IOException {
+        int n = HelloStream.checkElements(elements);
+        long interval = HelloStream.checkInterval(intervalMillis);
+        streamWriter.write(response, helloService.platformHello(0), n, interval);
+    }
+
+    /**
+     * Echo endpoint: Jackson binds the body into an {@link EchoRequest} on the platform request thread,
+     * each item is looked up in the cache, and the {@link EchoResponse} is written back as JSON.
+     *
+     * @param body    bound request body
+     * @param request the request, for its declared body size
+     * @return echoed items
+     */
+    @PostMapping(value = "/echo", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public EchoResponse echo(@RequestBody EchoRequest body, HttpServletRequest request) {
+        return echoService.echo(body, request.getContentLengthLong());
+    }
+
+    /**
+     * Fan-out endpoint: {@code n} concurrent lookups, each after {@code sleepMs}, run on the bounded platform
+     * pool while the request thread waits for them. Branch {@code fail} fails at once, failing the request and
+     * cancelling the rest.
+     *
+     * @param branches    number of concurrent lookups
+     * @param sleepMillis per-lookup latency in milliseconds
+     * @param failBranch  branch that fails, {@code -1} for none
+     * @return cached values in branch order
+     * @throws InterruptedException if the request thread is interrupted while waiting
+     */
+    @GetMapping(value = "/fanout")
+    public List<String> fanout(
+        @RequestParam(name = "n", defaultValue = "4") int branches,
+        @RequestParam(name = "sleepMs", defaultValue = "0") long sleepMillis,
+        @RequestParam(name = "fail", defaultValue = "-1") int failBranch
+    ) throws InterruptedException {
+        return fanoutService.platformFanout(branches, sleepMillis, failBranch);
+    }
+
+    /**
+     * Chain endpoint: one cache read, then a blocking call to the configured downstream; the platform request
+     * thread stays blocked while it waits for the response. A failed or non-2xx downstream call answers {@code 502}.
+     *
+     * @return hello message followed by the downstream body
+     * @throws InterruptedException if the request thread is interrupted while waiting
+     */
+    @GetMapping(value = "/chain")
+    public ResponseEntity<String> chain() throws InterruptedException {
+        try {
+            return ResponseEntity.ok(chainService.platformChain());
+        } catch (DownstreamException e) {
+            return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(e.getMessage());
+        }
+    }
+
+    /**
+     * Database endpoint: one primary-key lookup in the embedded database through the JDBC pool; the platform
+     * request thread stays blocked while it waits for a pooled connection and for the query's round trip.
+     *
+     * @param id primary key, a random seeded key when absent
+     * @return hello message with the row's value, or {@code 404} if there is no such row
+     */
+    @GetMapping(value = "/db")
+    public ResponseEntity<String> db(@RequestParam(name = "id", required = false) Long id) {
+        String body = dbService.platformDb(id == null ? dbService.randomId() : id);
+        return body == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(body);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,71 @@
+package io.github.georgecodes.benchmarking.spring.tomcat.api;
+
+import io.github.georgecodes.benchmarking.spring.tomcat.application.HelloStream;
+import io.github.georgecodes.benchmarking.spring.tomcat.application.StreamBacklog;
+import io.micrometer.core.instrument.DistributionSummary;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Blocking {@code /hello/stream} writer shared by the platform and virtual controllers.
+ *
+ * <p>Each element is written and flushed on the request thread. Tomcat's blocking flush only returns once the
+ * bytes reached the socket, so a slow reader parks the thread instead of growing a queue: at most one element
+ * is ever outstanding, and the stall shows up as request time.
+ */
+@Component
+public class HelloStreamWriter {
+
+    /** Per-connection peak outstanding bytes. */
+    private final DistributionSummary streamOutstandingPeak;
+
+    public HelloStreamWriter(DistributionSummary streamOutstandingPeak) {
+        this.streamOutstandingPeak = streamOutstandingPeak;
+    }
+
+    /**
+     * Writes {@code elements} elements of {@code message} to the response, {@code intervalMillis} apart.
+     *
+     * @param response       servlet response, not yet committed
+     * @param message        hello message carried by every element
+     * @param elements       validated element count
+     * @param intervalMillis validated delay before every element after the first, in milliseconds
+     * @throws IOException if the client goes away
+     */
+    public void write(HttpServletResponse response, String message, int elements, long intervalMillis)
+        throws IOException {
+        response.setContentType(HelloStream.CONTENT_TYPE);
+        StreamBacklog backlog = new StreamBacklog(streamOutstandingPeak::record);
+        try {
+            OutputStream out = response.getOutputStream();
+            for (int seq = 0; seq < elements; seq++) {
+                if (seq > 0 && !pause(intervalMillis)) {
+                    return;
+                }
+                byte[] element = HelloStream.element(seq, message);
+                backlog.produced(element.length);
+                out.write(element);
+                out.flush();
+                backlog.written(element.length);
+            }
+        } finally {
+            backlog.close();
+        }
+    }
+
+    private static boolean pause(long intervalMillis) {
+        if (intervalMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(intervalMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
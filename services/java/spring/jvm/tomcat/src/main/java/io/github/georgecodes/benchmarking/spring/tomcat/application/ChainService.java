@@ -0,0 +1,56 @@
+package io.github.georgecodes.benchmarking.spring.tomcat.application;
+
+import io.github.georgecodes.benchmarking.spring.tomcat.application.port.CachePort;
+import io.github.georgecodes.benchmarking.spring.tomcat.application.port.DownstreamPort;
+import org.jspecify.annotations.NonNull;
+import org.springframework.stereotype.Service;
+
+/**
+ * Use-case behind {@code /hello/chain}: a cache read followed by one blocking call to the downstream service,
+ * so the request thread parks on a socket read for the downstream's latency.
+ */
+@Service
+public class ChainService {
+
+    /** Cache port (injected adapter) used to fetch pre-warmed values. */
+    private final CachePort cache;
+
+    /** Chooses the cache key for each request (see {@link CacheAccessPattern}). */
+    private final CacheKeySelector keySelector;
+
+    /** Outbound client for the downstream service. */
+    private final DownstreamPort downstream;
+
+    public ChainService(CachePort cache, CacheKeySelector keySelector, DownstreamPort downstream) {
+        this.cache = cache;
+        this.keySelector = keySelector;
+        this.downstream = downstream;
+    }
+
+    /**
+     * Chained call on a platform request thread.
+     *
+     * @return hello message followed by the downstream body
+     * @throws DownstreamException  if the downstream fails
+     * @throws InterruptedException if the request thread is interrupted while waiting
+     */
+    public @NonNull String platformChain() throws InterruptedException {
+        return chain("Hello from Boot platform chain REST ");
+    }
+
+    /**
+     * Chained call on a virtual request thread.
+     *
+     * @return hello message followed by the downstream body
+     * @throws DownstreamException  if the downstream fails
+     * @throws InterruptedException if the request thread is interrupted while waiting
+     */
+    public @NonNull String virtualChain() throws InterruptedException {
+        return chain("Hello from Boot virtual chain REST ");
+    }
+
+    private @NonNull String chain(String prefix) throws InterruptedException {
+        String value = cache.get(keySelector.nextKey());
+        return prefix + value + " <- " + downstream.get();
+    }
+}
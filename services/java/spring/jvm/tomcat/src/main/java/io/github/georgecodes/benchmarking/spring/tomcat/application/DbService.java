@@ -0,0 +1,64 @@
+package io.github.georgecodes.benchmarking.spring.tomcat.application;
+
+import io.github.georgecodes.benchmarking.spring.tomcat.application.port.DbPort;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Use-case behind {@code /hello/db}: one primary-key lookup against the embedded database through the JDBC
+ * pool, so the request thread waits first for a pooled connection and then on the query's socket round trip.
+ */
+@Service
+public class DbService {
+
+    /** Database port (injected adapter) used for the lookup. */
+    private final DbPort db;
+
+    /** Number of seeded rows; keys run from 1 to this value. */
+    private final long rows;
+
+    public DbService(DbPort db, @Value("${benchmark.db.rows:10000}") long rows) {
+        if (rows < 1) {
+            throw new IllegalArgumentException("DB_ROWS must be at least 1: " + rows);
+        }
+        this.db = db;
+        this.rows = rows;
+    }
+
+    /**
+     * Picks a seeded key uniformly at random, for requests that do not name one.
+     *
+     * @return a key between 1 and the row count
+     */
+    public long randomId() {
+        return ThreadLocalRandom.current().nextLong(1, rows + 1);
+    }
+
+    /**
+     * Lookup on a platform request thread.
+     *
+     * @param id primary key
+     * @return hello message with the row's value, or {@code null} if there is no such row
+     */
+    public @Nullable String platformDb(long id) {
+        return db("Hello from Boot platform db REST ", id);
+    }
+
+    /**
+     * Lookup on a virtual request thread.
+     *
+     * @param id primary key
+     * @return hello message with the row's value, or {@code null} if there is no such row
+     */
+    public @Nullable String virtualDb(long id) {
+        return db("Hello from Boot virtual db REST ", id);
+    }
+
+    private @Nullable String db(String prefix, long id) {
+        String value = db.findValue(id);
+        return value == null ? null : prefix + value;
+    }
+}
@@ -0,0 +1,48 @@
+package io.github.georgecodes.benchmarking.spring.tomcat.application;
+
+import io.github.georgecodes.benchmarking.spring.tomcat.application.port.CachePort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Use-case behind {@code POST /hello/echo}: one cache lookup per bound request item.
+ */
+@Service
+public class EchoService {
+    /** Cache port (injected adapter) used to fetch pre-warmed values. */
+    private final CachePort cache;
+
+    /** Request body bytes; its rate next to the request rate gives ingestion throughput. */
+    private final Counter requestBytes;
+
+    public EchoService(CachePort cache, MeterRegistry registry) {
+        this.cache = cache;
+        this.requestBytes = Counter.builder("hello.echo.request.bytes")
+            .description("Request body bytes received by the echo endpoint")
+            .baseUnit("bytes")
+            .register(registry);
+    }
+
+    /**
+     * Echoes every item with the cached value of its key.
+     *
+     * @param request   bound request body
+     * @param bodyBytes request body size in bytes, negative if unknown
+     * @return response to serialise
+     */
+    public EchoResponse echo(EchoRequest request, long bodyBytes) {
+        if (bodyBytes > 0) {
+            requestBytes.increment(bodyBytes);
+        }
+        List<EchoRequest.Item> items = request.items();
+        List<EchoResponse.Item> echoed = new ArrayList<>(items.size());
+        for (EchoRequest.Item item : items) {
+            echoed.add(new EchoResponse.Item(item.key(), item.payload(), cache.get(item.key())));
+        }
+        return new EchoResponse(echoed.size(), echoed);
+    }
+}
@@ -0,0 +1,94 @@
+package io.github.georgecodes.benchmarking.spring.tomcat.application;
+
+import io.github.georgecodes.benchmarking.spring.tomcat.application.port.CachePort;
+import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Use-case behind {@code /hello/fanout}: {@code n} simulated dependency lookups run concurrently and are joined
+ * with cancel-on-first-failure (see {@link Fanout}).
+ */
+@Service
+public class FanoutService implements DisposableBean {
+
+    /** Cache port (injected adapter) used to fetch pre-warmed values. */
+    private final CachePort cache;
+
+    /** Chooses the cache key for each branch (see {@link CacheAccessPattern}). */
+    private final CacheKeySelector keySelector;
+
+    /** Bounded pool running platform-thread fan-outs; threads start on first use. */
+    private final ExecutorService platformPool;
+
+    public FanoutService(
+        CachePort cache,
+        CacheKeySelector keySelector,
+        @Value("${benchmark.fanout.platform-threads:64}") int platformThreads
+    ) {
+        this.cache = cache;
+        this.keySelector = keySelector;
+        this.platformPool = Fanout.newPlatformPool(platformThreads);
+    }
+
+    /**
+     * Runs the branches on the bounded platform pool while the request thread waits.
+     *
+     * @param branches    requested {@code n}
+     * @param sleepMillis per-branch latency in milliseconds
+     * @param failBranch  branch that fails at once, {@link Fanout#NO_FAILURE} for none
+     * @return cached values in branch order
+     * @throws InterruptedException if the request thread is interrupted while waiting
+     */
+    public List<@NonNull String> platformFanout(int branches, long sleepMillis, int failBranch)
+        throws InterruptedException {
+        return Fanout.join(platformPool, branches(branches, sleepMillis, failBranch));
+    }
+
+    /**
+     * Runs the branches on per-request virtual threads scoped to the call.
+     *
+     * @param branches    requested {@code n}
+     * @param sleepMillis per-branch latency in milliseconds
+     * @param failBranch  branch that fails at once, {@link Fanout#NO_FAILURE} for none
+     * @return cached values in branch order
+     * @throws InterruptedException if the request thread is interrupted while waiting
+     */
+    public List<@NonNull String> virtualFanout(int branches, long sleepMillis, int failBranch)
+        throws InterruptedException {
+        return Fanout.forkJoin(branches(branches, sleepMillis, failBranch));
+    }
+
+    @Override
+    public void destroy() {
+        platformPool.shutdownNow();
+    }
+
+    private List<Callable<@NonNull String>> branches(int branches, long sleepMillis, int failBranch) {
+        int n = Fanout.checkBranches(branches);
+        long sleep = Fanout.checkSleep(sleepMillis);
+        int fail = Fanout.checkFail(failBranch, n);
+        List<Callable<@NonNull String>> tasks = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            int branch = i;
+            tasks.add(() -> lookup(branch, sleep, fail));
+        }
+        return tasks;
+    }
+
+    private @NonNull String lookup(int branch, long sleepMillis, int failBranch) throws InterruptedException {
+        if (branch == failBranch) {
+            throw Fanout.failure(branch);
+        }
+        if (sleepMillis > 0) {
+            Thread.sleep(sleepMillis);
+        }
+        return cache.get(keySelector.nextKey());
+    }
+}
@@ -2,10 +2,13 @@ package io.github.georgecodes.benchmarking.spring.tomcat.application;
 
 import io.github.georgecodes.benchmarking.spring.tomcat.application.port.CachePort;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
 import org.jspecify.annotations.NonNull;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.TimeUnit;
+
 @Service
 public class HelloService {
 
@@ -15,29 +18,62 @@ public class HelloService {
     /** Request counter for whichever endpoint is active in this runtime. */
     private final Counter requestCounter;
 
-    public HelloService(CachePort cache, @Qualifier("helloRequestCounter") Counter requestCounter) {
+    /** Chooses the cache key for each request (see {@link CacheAccessPattern}). */
+    private final CacheKeySelector keySelector;
+
+    /** CPU time spent on the {@code work} query parameter. */
+    private final Timer workCpuTimer;
+
+    public HelloService(
+        CachePort cache,
+        @Qualifier("helloRequestCounter") Counter requestCounter,
+        CacheKeySelector keySelector,
+        Timer workCpuTimer
+    ) {
         this.cache = cache;
         this.requestCounter = requestCounter;
+        this.keySelector = keySelector;
+        this.workCpuTimer = workCpuTimer;
+    }
+
+    public @NonNull String platformHello(long sleepMillis) {
+        return platformHello(sleepMillis, 0);
     }
 
-    public @NonNull String platformHello(int sleepSeconds) {
+    public @NonNull String platformHello(long sleepMillis, int work) {
         requestCounter.increment();
-        sleep(sleepSeconds);
-        return "Hello from Boot platform REST " + cache.get("1");
+        sleep(sleepMillis);
+        work(work);
+        return "Hello from Boot platform REST " + cache.get(keySelector.nextKey());
     }
 
-    public @NonNull String virtualHello(int sleepSeconds) {
+    public @NonNull String virtualHello(long sleepMillis) {
+        return virtualHello(sleepMillis, 0);
+    }
+
+    public @NonNull String virtualHello(long sleepMillis, int work) {
         requestCounter.increment();
-        sleep(sleepSeconds);
-        return "Hello from Boot virtual REST " + cache.get("1");
+        sleep(sleepMillis);
+        work(work);
+        return "Hello from Boot virtual REST " + cache.get(keySelector.nextKey());
+    }
+
+    /**
+     * Burns {@code kilobytes} KiB of CPU work (see {@link CpuWork}) on the request thread and records its CPU time.
+     */
+    private void work(int kilobytes) {
+        long cpuNanos = CpuWork.run(kilobytes);
+        if (kilobytes > 0) {
+            workCpuTimer.record(cpuNanos, TimeUnit.NANOSECONDS);
+        }
     }
 
-    private void sleep(int sleepSeconds) {
-        if (sleepSeconds <= 0) {
+    private void sleep(long sleepMillis) {
+        if (sleepMillis <= 0) {
             return;
         }
         try {
-            Thread.sleep(sleepSeconds * 1000L);
+            Thread.sleep(sleepMillis);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
@@ -0,0 +1,68 @@
+package io.github.georgecodes.benchmarking.spring.tomcat.application;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parameters and element encoding of the {@code /hello/stream} endpoint.
+ *
+ * <p>A stream is {@code n} newline-delimited JSON elements ({@code application/x-ndjson}), each
+ * {@code {"seq":<i>,"message":"<hello>"}}, spaced {@code interval} milliseconds apart. How the elements are
+ * paced against a slow reader is left to each framework's own backpressure mechanism.
+ */
+public final class HelloStream {
+
+    /** Content type of the stream. */
+    public static final String CONTENT_TYPE = "application/x-ndjson";
+
+    /** Elements per stream when {@code n} is not given. */
+    public static final int DEFAULT_ELEMENTS = 10;
+
+    /** Upper bound for {@code n}. */
+    public static final int MAX_ELEMENTS = 1_000_000;
+
+    /** Upper bound for {@code interval}: 10 seconds between elements. */
+    public static final long MAX_INTERVAL_MILLIS = 10_000L;
+
+    private HelloStream() {
+    }
+
+    /**
+     * Validates the requested element count.
+     *
+     * @param elements requested {@code n}
+     * @return {@code elements}
+     * @throws IllegalArgumentException if {@code elements} is not between 1 and {@link #MAX_ELEMENTS}
+     */
+    public static int checkElements(int elements) {
+        if (elements < 1 || elements > MAX_ELEMENTS) {
+            throw new IllegalArgumentException("n must be between 1 and " + MAX_ELEMENTS + ": " + elements);
+        }
+        return elements;
+    }
+
+    /**
+     * Validates the requested spacing between elements.
+     *
+     * @param intervalMillis requested {@code interval} in milliseconds, {@code 0} to emit as fast as the reader allows
+     * @return {@code intervalMillis}
+     * @throws IllegalArgumentException if {@code intervalMillis} is negative or above {@link #MAX_INTERVAL_MILLIS}
+     */
+    public static long checkInterval(long intervalMillis) {
+        if (intervalMillis < 0 || intervalMillis > MAX_INTERVAL_MILLIS) {
+            throw new IllegalArgumentException(
+                "interval must be between 0 and " + MAX_INTERVAL_MILLIS + " ms: " + intervalMillis);
+        }
+        return intervalMillis;
+    }
+
+    /**
+     * Encodes one stream element, including its trailing newline.
+     *
+     * @param seq     zero-based position in the stream
+     * @param message hello message carried by every element
+     * @return UTF-8 encoded element
+     */
+    public static byte[] element(long seq, String message) {
+        return ("{\"seq\":" + seq + ",\"message\":\"" + message + "\"}\n").getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,13 @@
+package io.github.georgecodes.benchmarking.spring.tomcat.application.port;
+
+import org.jspecify.annotations.Nullable;
+
+public interface DbPort {
+    /**
+     * Looks up one row of the seeded {@code hello} table by primary key, blocking the calling thread.
+     *
+     * @param id primary key
+     * @return the row's value, or {@code null} if there is no such row
+     */
+    @Nullable String findValue(long id);
+}
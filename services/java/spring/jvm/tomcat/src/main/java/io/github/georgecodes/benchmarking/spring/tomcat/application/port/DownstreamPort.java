@@ -0,0 +1,18 @@
+package io.github.georgecodes.benchmarking.spring.tomcat.application.port;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Outbound call to the configured downstream service.
+ */
+public interface DownstreamPort {
+
+    /**
+     * Performs one blocking {@code GET} against the downstream URL on the calling thread. Fails with a
+     * {@code DownstreamException} if the downstream cannot be reached in time or answers with a non-2xx status.
+     *
+     * @return response body
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    @NonNull String get() throws InterruptedException;
+}
@@ -2,13 +2,19 @@ package io.github.georgecodes.benchmarking.spring.tomcat.infra;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.georgecodes.benchmarking.spring.tomcat.application.CacheKeySelector;
+import io.github.georgecodes.benchmarking.spring.tomcat.application.LatencyProfile;
+import io.github.georgecodes.benchmarking.spring.tomcat.infra.cache.CacheWarmer;
 import io.github.mweirauch.micrometer.jvm.extras.ProcessMemoryMetrics;
 import io.github.mweirauch.micrometer.jvm.extras.ProcessThreadMetrics;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -24,18 +30,26 @@ import java.time.Duration;
 public class ModuleConfig {
 
     @Bean
-    public Cache<@NonNull String, String> caffeineCache(CacheProperties cacheProperties) {
+    public Cache<@NonNull String, String> caffeineCache(CacheProperties cacheProperties, MeterRegistry registry) {
         long cacheSize = cacheProperties.size();
         Cache<@NonNull String, String> cache = Caffeine.newBuilder()
             .maximumSize(cacheSize)
             .expireAfterWrite(Duration.ofDays(1))
             .build();
-        for (long i = cacheSize; i > 0; i--) {
-            cache.put(String.valueOf(i), "value-" + i);
-        }
+        CacheWarmer.parse(cacheProperties.warmup()).warmUp(cache, cacheSize, registry);
         return cache;
     }
 
+    @Bean
+    public CacheKeySelector cacheKeySelector(CacheProperties cacheProperties) {
+        return CacheKeySelector.parse(cacheProperties.accessPattern(), cacheProperties.keySpace());
+    }
+
+    @Bean
+    public LatencyProfile latencyProfile(@Value("${benchmark.latency.profile:constant}") String spec) {
+        return LatencyProfile.parse(spec);
+    }
+
     @Bean
     @ConditionalOnProperty(
         name = "spring.threads.virtual.enabled",
@@ -72,6 +86,21 @@ public class ModuleConfig {
         return helloVirtualCounter;
     }
 
+    @Bean
+    public Timer helloWorkCpuTimer(MeterRegistry registry) {
+        return Timer.builder("hello.work.cpu.time")
+            .description("CPU time spent on the work query parameter")
+            .register(registry);
+    }
+
+    @Bean
+    public DistributionSummary helloStreamOutstandingPeak(MeterRegistry registry) {
+        return DistributionSummary.builder("hello.stream.outstanding.peak")
+            .description("Peak bytes of a hello stream produced but not yet taken by its connection")
+            .baseUnit("bytes")
+            .register(registry);
+    }
+
     @Bean
     MeterBinder processMemoryMetrics() {
         return new ProcessMemoryMetrics();
@@ -100,11 +129,14 @@ public class ModuleConfig {
     }
 
     @ConfigurationProperties(prefix = "benchmark.cache")
-    public record CacheProperties(long size) {
+    public record CacheProperties(long size, String accessPattern, long keySpace, String warmup) {
         public CacheProperties {
             if (size <= 0) {
                 size = 50_000;
             }
+            if (keySpace <= 0) {
+                keySpace = size;
+            }
         }
     }
 }
\ No newline at end of file
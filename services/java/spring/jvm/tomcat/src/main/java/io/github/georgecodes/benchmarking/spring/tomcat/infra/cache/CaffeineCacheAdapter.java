@@ -2,6 +2,8 @@ package io.github.georgecodes.benchmarking.spring.tomcat.infra.cache;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import io.github.georgecodes.benchmarking.spring.tomcat.application.port.CachePort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.jspecify.annotations.NonNull;
 import org.springframework.stereotype.Component;
 
@@ -11,13 +13,23 @@ public class CaffeineCacheAdapter implements CachePort {
     /** Underlying Caffeine cache instance used for lookups. */
     private final Cache<@NonNull String, String> cache;
 
-    public CaffeineCacheAdapter(Cache<@NonNull String, String> cache) {
+    /** Lookups that found no entry. */
+    private final Counter cacheMissCounter;
+
+    public CaffeineCacheAdapter(Cache<@NonNull String, String> cache, MeterRegistry registry) {
         this.cache = cache;
+        this.cacheMissCounter = Counter.builder("hello.cache.miss.count")
+            .description("Hello cache lookups that found no entry")
+            .register(registry);
     }
 
     @Override
     public @NonNull String get(@NonNull String key) {
         String value = cache.getIfPresent(key);
-        return value == null ? "" : value;
+        if (value == null) {
+            cacheMissCounter.increment();
+            return "";
+        }
+        return value;
     }
 }
\ No newline at end of file
@@ -0,0 +1,89 @@
+package io.github.georgecodes.benchmarking.spring.tomcat.infra.db;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.h2.tools.Server;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.security.SecureRandom;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Base64;
+
+/**
+ * Embedded database behind {@code /hello/db}: an H2 TCP server started inside this JVM on an ephemeral
+ * loopback port, holding an in-memory database, and a HikariCP pool that reaches it over the socket. Every
+ * query is a real network round trip, so request threads block on I/O as they would against an external
+ * database, without any external infrastructure.
+ *
+ * <p>Spring Boot binds the pool's {@code hikaricp.connections.*} meters, including the {@code acquire} wait
+ * timer and the {@code active}/{@code max} gauges that give pool utilisation.
+ */
+@SuppressWarnings("unused")
+@Configuration
+@EnableConfigurationProperties(H2DbConfig.DbProperties.class)
+public class H2DbConfig {
+
+    /** Administrator of the in-memory database; its password is generated per context. */
+    private static final String USER = "sa";
+
+    /** Source of the generated database password. */
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    /** Pool name, used as the {@code pool} tag of the Hikari meters. */
+    static final String POOL_NAME = "hello-db";
+
+    @Bean(destroyMethod = "stop")
+    public Server h2TcpServer() throws SQLException {
+        // Without -ifNotExists remote clients cannot create databases, only open the one created in-process.
+        return Server.createTcpServer("-tcpPort", "0").start();
+    }
+
+    @Bean
+    public HikariDataSource dataSource(Server h2TcpServer, DbProperties db) throws SQLException {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(POOL_NAME);
+        // Named after the port: in-memory databases are JVM-wide, and each context gets its own.
+        int port = h2TcpServer.getPort();
+        String database = "mem:hello-" + port + ";DB_CLOSE_DELAY=-1";
+        String password = generatePassword();
+        createDatabase(database, password);
+        config.setJdbcUrl("jdbc:h2:tcp://127.0.0.1:" + port + "/" + database);
+        config.setUsername(USER);
+        config.setPassword(password);
+        config.setMaximumPoolSize(db.poolSize());
+        config.setMinimumIdle(db.poolSize());
+        config.setConnectionTimeout(db.poolTimeoutMs());
+        return new HikariDataSource(config);
+    }
+
+    /**
+     * Creates the in-memory database in-process, making {@link #USER} its administrator. The TCP server only
+     * serves databases that already exist, and {@code DB_CLOSE_DELAY=-1} keeps this one after the connection
+     * closes.
+     */
+    private static void createDatabase(String database, String password) throws SQLException {
+        DriverManager.getConnection("jdbc:h2:" + database, USER, password).close();
+    }
+
+    private static String generatePassword() {
+        byte[] bytes = new byte[24];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    @ConfigurationProperties(prefix = "benchmark.db")
+    public record DbProperties(int poolSize, long poolTimeoutMs) {
+        public DbProperties {
+            if (poolSize < 1) {
+                throw new IllegalArgumentException("DB_POOL_SIZE must be at least 1: " + poolSize);
+            }
+            if (poolTimeoutMs < 250) {
+                throw new IllegalArgumentException("DB_POOL_TIMEOUT_MS must be at least 250: " + poolTimeoutMs);
+            }
+        }
+    }
+}
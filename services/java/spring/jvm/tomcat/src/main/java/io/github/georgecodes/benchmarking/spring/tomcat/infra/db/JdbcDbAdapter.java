@@ -0,0 +1,53 @@
+package io.github.georgecodes.benchmarking.spring.tomcat.infra.db;
+
+import io.github.georgecodes.benchmarking.spring.tomcat.application.port.DbPort;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link DbPort} on JDBC through {@link JdbcTemplate} and the HikariCP pool.
+ *
+ * <p>Creates and seeds the {@code hello} table with {@code benchmark.db.rows} rows ({@code id} → {@code value-id})
+ * on startup, in batches.
+ */
+@Slf4j
+@Component
+public class JdbcDbAdapter implements DbPort {
+
+    /** Rows inserted per batch while seeding. */
+    static final int SEED_BATCH = 1_000;
+
+    /** Template over the pooled data source. */
+    private final JdbcTemplate jdbc;
+
+    public JdbcDbAdapter(JdbcTemplate jdbc, @Value("${benchmark.db.rows:10000}") long rows) {
+        this.jdbc = jdbc;
+        seed(rows);
+    }
+
+    @Override
+    public @Nullable String findValue(long id) {
+        List<String> values = jdbc.queryForList("SELECT val FROM hello WHERE id = ?", String.class, id);
+        return values.isEmpty() ? null : values.getFirst();
+    }
+
+    private void seed(long rows) {
+        long start = System.nanoTime();
+        jdbc.execute("CREATE TABLE hello (id BIGINT PRIMARY KEY, val VARCHAR(32) NOT NULL)");
+        List<Object[]> batch = new ArrayList<>(SEED_BATCH);
+        for (long id = 1; id <= rows; id++) {
+            batch.add(new Object[] {id, "value-" + id});
+            if (batch.size() == SEED_BATCH || id == rows) {
+                jdbc.batchUpdate("INSERT INTO hello (id, val) VALUES (?, ?)", batch);
+                batch.clear();
+            }
+        }
+        log.info("Seeded {} hello rows in {} ms", rows, (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,88 @@
+package io.github.georgecodes.benchmarking.spring.tomcat.infra.downstream;
+
+import io.github.georgecodes.benchmarking.spring.tomcat.application.DownstreamException;
+import io.github.georgecodes.benchmarking.spring.tomcat.application.port.DownstreamPort;
+import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * {@link DownstreamPort} on the JDK {@link HttpClient}.
+ *
+ * <p>The client's internal tasks run on virtual threads and every call uses the blocking {@code send}, so the
+ * request thread itself waits on the socket read: a virtual request thread unmounts, a platform one stays
+ * blocked. The JDK client has no per-client pool limit, so in-flight calls are capped at
+ * {@code max-connections} with a semaphore and the HTTP/1.1 keep-alive cache is sized to match through
+ * {@code jdk.httpclient.connectionPoolSize} (read once, when the first client is created).
+ */
+@Component
+public class JdkHttpDownstreamAdapter implements DownstreamPort, DisposableBean {
+
+    /** JDK system property bounding the keep-alive cache of every {@link HttpClient}. */
+    static final String POOL_SIZE_PROPERTY = "jdk.httpclient.connectionPoolSize";
+
+    /** Shared client; one connection pool for all request threads. */
+    private final HttpClient client;
+
+    /** Prebuilt request; the URL and timeout never change. */
+    private final HttpRequest request;
+
+    /** Caps concurrent calls at the configured connection count. */
+    private final Semaphore connections;
+
+    public JdkHttpDownstreamAdapter(
+        @Value("${benchmark.downstream.url:http://downstream-stub:8080/downstream}") String url,
+        @Value("${benchmark.downstream.max-connections:64}") int maxConnections,
+        @Value("${benchmark.downstream.timeout-ms:2000}") long timeoutMillis
+    ) {
+        if (maxConnections < 1) {
+            throw new IllegalArgumentException("max-connections must be at least 1: " + maxConnections);
+        }
+        if (System.getProperty(POOL_SIZE_PROPERTY) == null) {
+            System.setProperty(POOL_SIZE_PROPERTY, Integer.toString(maxConnections));
+        }
+        Duration timeout = Duration.ofMillis(timeoutMillis);
+        this.client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(timeout)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+        this.request = HttpRequest.newBuilder(URI.create(url))
+            .timeout(timeout)
+            .GET()
+            .build();
+        this.connections = new Semaphore(maxConnections);
+    }
+
+    @Override
+    public @NonNull String get() throws InterruptedException {
+        connections.acquire();
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            int status = response.statusCode();
+            if (status < 200 || status > 299) {
+                throw new DownstreamException("downstream answered " + status);
+            }
+            return response.body();
+        } catch (IOException e) {
+            throw new DownstreamException("downstream unavailable: " + e, e);
+        } finally {
+            connections.release();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        client.close();
+    }
+}
@@ -1,5 +1,6 @@
 package io.github.georgecodes.benchmarking.spring.tomcat.api;
 
+import io.github.georgecodes.benchmarking.spring.tomcat.application.Fanout;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,12 +10,21 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-@SpringBootTest(properties = "spring.threads.virtual.enabled=false")
+@SpringBootTest(properties = {
+    "spring.threads.virtual.enabled=false",
+    "benchmark.downstream.url=http://127.0.0.1:1/downstream",
+    "benchmark.downstream.timeout-ms=500",
+    "benchmark.db.rows=100"
+})
 public class HelloPlatformControllerTest {
 
     @Autowired
@@ -43,6 +53,27 @@ public class HelloPlatformControllerTest {
             .andExpect(content().string(containsString("Hello from Boot platform REST")));
     }
 
+    @Test
+    public void testPlatformEndpointWithSleepMs() throws Exception {
+        mockMvc.perform(get("/hello/platform").param("sleepMs", "50"))
+            .andExpect(status().isOk())
+            .andExpect(content().string(containsString("Hello from Boot platform REST")));
+    }
+
+    @Test
+    public void testPlatformEndpointWithLatencyProfile() throws Exception {
+        mockMvc.perform(get("/hello/platform").param("sleepMs", "10").param("latency", "bimodal:20:1"))
+            .andExpect(status().isOk())
+            .andExpect(content().string(containsString("Hello from Boot platform REST")));
+    }
+
+    @Test
+    public void testPlatformEndpointWithCpuWork() throws Exception {
+        mockMvc.perform(get("/hello/platform").param("work", "64"))
+            .andExpect(status().isOk())
+            .andExpect(content().string(containsString("Hello from Boot platform REST")));
+    }
+
     @Test
     public void testPlatformEndpointWithLog() throws Exception {
         mockMvc.perform(get("/hello/platform").param("log", "true"))
@@ -50,4 +81,90 @@ public class HelloPlatformControllerTest {
             .andExpect(content().contentType(MediaType.APPLICATION_JSON))
             .andExpect(content().string(containsString("Hello from Boot platform REST")));
     }
+
+    @Test
+    public void testStreamEndpoint() throws Exception {
+        mockMvc.perform(get("/hello/stream").param("n", "3"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+            .andExpect(content().string(startsWith("{\"seq\":0,\"message\":\"Hello from Boot platform REST")))
+            .andExpect(content().string(containsString("{\"seq\":2,")));
+    }
+
+    @Test
+    public void testStreamEndpointRejectsEmptyStream() throws Exception {
+        mockMvc.perform(get("/hello/stream").param("n", "0"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testEchoEndpoint() throws Exception {
+        mockMvc.perform(post("/hello/echo")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"items\":[{\"key\":\"1\",\"payload\":\"a\"},{\"key\":\"2\",\"payload\":\"b\"}]}"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.count").value(2))
+            .andExpect(jsonPath("$.items[1].payload").value("b"));
+    }
+
+    @Test
+    public void testEchoEndpointRejectsMissingKey() throws Exception {
+        mockMvc.perform(post("/hello/echo")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"items\":[{\"payload\":\"a\"}]}"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testFanoutEndpoint() throws Exception {
+        mockMvc.perform(get("/hello/fanout").param("n", "3").param("sleepMs", "5"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.length()").value(3))
+            .andExpect(jsonPath("$[0]").value("value-1"));
+    }
+
+    @Test
+    public void testFanoutEndpointRejectsInvalidBranchCount() throws Exception {
+        mockMvc.perform(get("/hello/fanout").param("n", "0"))
+            .andExpect(status().isBadRequest())
+            .andExpect(content().string(startsWith("n must be between 1 and")));
+    }
+
+    @Test
+    public void testFanoutEndpointFailsOnFirstBranchFailure() {
+        assertThatThrownBy(() -> mockMvc.perform(get("/hello/fanout")
+                .param("n", "4")
+                .param("sleepMs", "10000")
+                .param("fail", "2")))
+            .hasRootCauseInstanceOf(Fanout.BranchFailedException.class);
+    }
+
+    @Test
+    public void testChainEndpointAnswersBadGatewayWhenDownstreamIsDown() throws Exception {
+        mockMvc.perform(get("/hello/chain"))
+            .andExpect(status().isBadGateway())
+            .andExpect(content().string(startsWith("downstream unavailable")));
+    }
+
+    @Test
+    public void testDbEndpointReturnsSeededRow() throws Exception {
+        mockMvc.perform(get("/hello/db").param("id", "7"))
+            .andExpect(status().isOk())
+            .andExpect(content().string("Hello from Boot platform db REST value-7"));
+    }
+
+    @Test
+    public void testDbEndpointPicksRandomSeededRow() throws Exception {
+        mockMvc.perform(get("/hello/db"))
+            .andExpect(status().isOk())
+            .andExpect(content().string(startsWith("Hello from Boot platform db REST value-")));
+    }
+
+    @Test
+    public void testDbEndpointAnswersNotFoundForMissingRow() throws Exception {
+        mockMvc.perform(get("/hello/db").param("id", "101"))
+            .andExpect(status().isNotFound());
+    }
 }
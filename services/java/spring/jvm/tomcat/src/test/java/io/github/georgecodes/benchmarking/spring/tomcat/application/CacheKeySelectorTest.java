@@ -0,0 +1,127 @@
+package io.github.georgecodes.benchmarking.spring.tomcat.application;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+class CacheKeySelectorTest {
+
+    private static final int SAMPLES = 100_000;
+
+    @Test
+    void blankSpecSelectsFixedKey() {
+        CacheKeySelector selector = CacheKeySelector.parse("  ", 1000);
+
+        assertThat(selector.pattern()).isEqualTo(CacheAccessPattern.FIXED);
+        assertThat(selector.nextKey()).isEqualTo("1");
+        assertThat(CacheKeySelector.fixed().nextKey()).isEqualTo("1");
+    }
+
+    @Test
+    void uniformStaysWithinKeySpace() {
+        Map<String, Integer> counts = sample(CacheKeySelector.parse("uniform", 100));
+
+        assertThat(counts).hasSize(100);
+        assertThat(counts.keySet()).allSatisfy(key -> assertThat(Integer.parseInt(key)).isBetween(1, 100));
+    }
+
+    @Test
+    void zipfianFavoursLowRanks() {
+        Map<String, Integer> counts = sample(CacheKeySelector.parse("zipfian:0.99", 10_000));
+
+        int first = counts.getOrDefault("1", 0);
+        int tenth = counts.getOrDefault("10", 0);
+        assertThat(first).isGreaterThan(tenth * 5);
+    }
+
+    @Test
+    void zipfianStaysWithinKeySpace() {
+        Map<String, Integer> counts = sample(CacheKeySelector.parse("zipfian", 50));
+
+        assertThat(counts.keySet()).allSatisfy(key -> assertThat(Integer.parseInt(key)).isBetween(1, 50));
+    }
+
+    @Test
+    void hotSetConcentratesOnHotKeys() {
+        Map<String, Integer> counts = sample(CacheKeySelector.parse("hot-set:0.1:0.9", 1000));
+
+        long hot = counts.entrySet().stream()
+            .filter(e -> Integer.parseInt(e.getKey()) <= 100)
+            .mapToLong(Map.Entry::getValue)
+            .sum();
+        assertThat(hot).isGreaterThan((long) (SAMPLES * 0.85));
+    }
+
+    @Test
+    void sequentialScansInOrderAndWraps() {
+        CacheKeySelector selector = CacheKeySelector.parse("sequential", 3);
+
+        assertThat(selector.nextKey()).isEqualTo("1");
+        assertThat(selector.nextKey()).isEqualTo("2");
+        assertThat(selector.nextKey()).isEqualTo("3");
+        assertThat(selector.nextKey()).isEqualTo("1");
+    }
+
+    @Test
+    void keysAreReusedNotAllocated() {
+        CacheKeySelector selector = CacheKeySelector.parse("sequential", 1);
+
+        assertThat(selector.nextKey()).isSameAs(selector.nextKey());
+    }
+
+    @Test
+    void sequentialCursorIsPerThread() throws InterruptedException {
+        CacheKeySelector selector = CacheKeySelector.parse("sequential", 3);
+        selector.nextKey();
+        selector.nextKey();
+        AtomicReference<String> other = new AtomicReference<>();
+        Thread thread = new Thread(() -> other.set(selector.nextKey()));
+        assumeThat((thread.threadId() - Thread.currentThread().threadId()) % CacheKeySelector.CURSOR_STRIPES)
+            .as("threads share a cursor stripe")
+            .isNotZero();
+
+        thread.start();
+        thread.join();
+
+        assertThat(other.get()).isEqualTo("1");
+        assertThat(selector.nextKey()).isEqualTo("3");
+    }
+
+    @Test
+    void keySpaceIsClamped() {
+        assertThat(CacheKeySelector.parse("uniform", 0).keySpace()).isEqualTo(1);
+        assertThat(CacheKeySelector.parse("fixed", Long.MAX_VALUE).keySpace())
+            .isEqualTo(CacheKeySelector.MAX_KEY_SPACE);
+    }
+
+    @Test
+    void rejectsInvalidSpecs() {
+        assertThatThrownBy(() -> CacheKeySelector.parse("random", 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CacheKeySelector.parse("zipfian:1.5", 10))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CacheKeySelector.parse("hot-set:0:0.5", 10))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CacheKeySelector.parse("zipfian:abc", 10))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void patternNamesAreLenient() {
+        assertThat(CacheAccessPattern.parse("Hot_Set")).isEqualTo(CacheAccessPattern.HOT_SET);
+        assertThat(CacheAccessPattern.parse("zipf")).isEqualTo(CacheAccessPattern.ZIPFIAN);
+    }
+
+    private static Map<String, Integer> sample(CacheKeySelector selector) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < SAMPLES; i++) {
+            counts.merge(selector.nextKey(), 1, Integer::sum);
+        }
+        return counts;
+    }
+}
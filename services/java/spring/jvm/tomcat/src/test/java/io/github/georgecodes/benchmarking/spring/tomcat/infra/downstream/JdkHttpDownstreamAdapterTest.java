@@ -0,0 +1,76 @@
+package io.github.georgecodes.benchmarking.spring.tomcat.infra.downstream;
+
+import com.sun.net.httpserver.HttpServer;
+import io.github.georgecodes.benchmarking.spring.tomcat.application.DownstreamException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JdkHttpDownstreamAdapterTest {
+
+    private HttpServer server;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/ok", exchange -> {
+            byte[] body = "downstream".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.createContext("/fail", exchange -> {
+            exchange.sendResponseHeaders(503, -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void returnsDownstreamBody() throws InterruptedException {
+        JdkHttpDownstreamAdapter adapter = new JdkHttpDownstreamAdapter(url("/ok"), 2, 2_000);
+        try {
+            assertThat(adapter.get()).isEqualTo("downstream");
+            assertThat(adapter.get()).isEqualTo("downstream");
+        } finally {
+            adapter.destroy();
+        }
+    }
+
+    @Test
+    void rejectsNonSuccessStatus() {
+        JdkHttpDownstreamAdapter adapter = new JdkHttpDownstreamAdapter(url("/fail"), 2, 2_000);
+        try {
+            assertThatThrownBy(adapter::get)
+                .isInstanceOf(DownstreamException.class)
+                .hasMessage("downstream answered 503");
+        } finally {
+            adapter.destroy();
+        }
+    }
+
+    @Test
+    void rejectsEmptyPool() {
+        assertThatThrownBy(() -> new JdkHttpDownstreamAdapter(url("/ok"), 0, 2_000))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+}
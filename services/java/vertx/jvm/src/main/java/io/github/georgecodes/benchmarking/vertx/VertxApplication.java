@@ -3,12 +3,25 @@ package io.github.georgecodes.benchmarking.vertx;
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.LoggerContext;
 import com.github.benmanes.caffeine.cache.Cache;
+import io.github.georgecodes.benchmarking.vertx.config.CacheAccess;
+import io.github.georgecodes.benchmarking.vertx.config.CacheSharding;
+import io.github.georgecodes.benchmarking.vertx.config.DownstreamConfig;
+import io.github.georgecodes.benchmarking.vertx.config.IoTransport;
 import io.github.georgecodes.benchmarking.vertx.config.ServiceConfig;
+import io.github.georgecodes.benchmarking.vertx.config.TlsMode;
+import io.github.georgecodes.benchmarking.vertx.domain.CacheKeySelector;
 import io.github.georgecodes.benchmarking.vertx.domain.HelloMode;
 import io.github.georgecodes.benchmarking.vertx.domain.HelloService;
+import io.github.georgecodes.benchmarking.vertx.domain.LatencyProfile;
 import io.github.georgecodes.benchmarking.vertx.infra.CacheProvider;
+import io.github.georgecodes.benchmarking.vertx.infra.CacheVerticle;
+import io.github.georgecodes.benchmarking.vertx.infra.CacheWarmer;
+import io.github.georgecodes.benchmarking.vertx.infra.EventBusCacheMetrics;
 import io.github.georgecodes.benchmarking.vertx.infra.MetricsProvider;
+import io.github.georgecodes.benchmarking.vertx.infra.TlsHandshakeMetrics;
+import io.github.georgecodes.benchmarking.vertx.web.BlockingHelloVerticle;
 import io.github.georgecodes.benchmarking.vertx.web.HttpServerVerticle;
+import io.github.georgecodes.benchmarking.vertx.web.Payload;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.binder.jvm.ClassLoaderMetrics;
 import io.micrometer.core.instrument.binder.jvm.JvmGcMetrics;
@@ -16,22 +29,35 @@ import io.micrometer.core.instrument.binder.jvm.JvmMemoryMetrics;
 import io.micrometer.core.instrument.binder.jvm.JvmThreadMetrics;
 import io.micrometer.core.instrument.binder.system.ProcessorMetrics;
 import io.vertx.core.DeploymentOptions;
+import io.vertx.core.Future;
+import io.vertx.core.ThreadingModel;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
+import io.vertx.core.http.Http2Settings;
 import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.net.JdkSSLEngineOptions;
+import io.vertx.core.net.OpenSSLEngineOptions;
+import io.vertx.core.net.SSLEngineOptions;
+import io.vertx.core.net.SelfSignedCertificate;
+import io.vertx.core.transport.Transport;
 import io.vertx.micrometer.MicrometerMetricsFactory;
 import io.vertx.micrometer.MicrometerMetricsOptions;
 import org.jspecify.annotations.NonNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
 import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 /**
  * Vert.x JVM application entry point.
  *
  * <p>Runs a fully reactive HTTP server on the Vert.x event loop — no blocking,
  * no virtual threads — tuned for maximum throughput on a 2-vCPU container.
+ * The blocking {@code /hello/platform} and {@code /hello/virtual} modes are served by
+ * worker and virtual-thread verticles behind the same server.
  *
  * <p>Each event-loop thread owns its own {@link HttpServerVerticle} instance
  * (and therefore its own Router and HttpServer), which is the idiomatic Vert.x
@@ -45,6 +71,15 @@ public final class VertxApplication {
     /** Environment/system-property key controlling BatchSpanProcessor warning visibility. */
     private static final String OTEL_BSP_LOG_LEVEL = "OTEL_BSP_LOG_LEVEL";
 
+    /** SETTINGS_MAX_CONCURRENT_STREAMS advertised with HTTP2_ENABLED; Vert.x defaults to 100. */
+    static final int HTTP2_MAX_CONCURRENT_STREAMS = 1024;
+
+    /** HTTP/2 connection flow-control window with HTTP2_ENABLED, so many streams do not share 64 KiB. */
+    static final int HTTP2_CONNECTION_WINDOW_SIZE = 1 << 20;
+
+    /** Host name of the self-signed certificate generated for TLS_MODE. */
+    static final String TLS_CERTIFICATE_HOST = "localhost";
+
     /** Logger for application lifecycle and configuration output. */
     private static final Logger LOG = LoggerFactory.getLogger(VertxApplication.class);
 
@@ -58,8 +93,16 @@ public final class VertxApplication {
 
         // Wire infrastructure
         MetricsProvider metricsProvider = MetricsProvider.create(HelloMode.REACTIVE.endpointTag());
-        Cache<@NonNull String, String> cache = CacheProvider.create(config.cacheSize());
-        HelloService helloService = new HelloService(cache);
+        Cache<@NonNull String, String> cache =
+            CacheProvider.create(config.cacheSize(), CacheWarmer.parse(config.cacheWarmup()));
+        CacheKeySelector keySelector =
+            CacheKeySelector.parse(config.cacheAccessPattern(), config.resolvedCacheKeySpace());
+        HelloService helloService = new HelloService(cache, keySelector);
+        LOG.info("CACHE_ACCESS_PATTERN={}", keySelector);
+        LatencyProfile latencyProfile = LatencyProfile.parse(config.latencyProfile());
+        LOG.info("LATENCY_PROFILE={}", latencyProfile);
+        Payload payload = Payload.create(config.payloadMode());
+        LOG.info("PAYLOAD_MODE={}", payload.mode());
 
         // Bind standard JVM metrics to Micrometer global registry
         bindJvmMetrics();
@@ -71,26 +114,40 @@ public final class VertxApplication {
             runtime.totalMemory() / 1024 / 1024,
             runtime.freeMemory() / 1024 / 1024);
         LOG.info("Available Processors:{}", runtime.availableProcessors());
-        LOG.info("SERVICE_PORT={} EVENT_LOOP_SIZE={}", config.port(), config.resolvedEventLoopSize());
+        LOG.info("SERVICE_PORT={} EVENT_LOOP_SIZE={} RESPONSE_ENCODING={}",
+            config.port(), config.resolvedEventLoopSize(), config.responseEncoding());
 
         // Configure Vert.x with Micrometer metrics and tuned event-loop pool
         int eventLoopSize = config.resolvedEventLoopSize();
+
+        // The shared service also serves the blocking modes; with per-event-loop sharding every HttpServerVerticle
+        // instance gets a service over its own cache shard on top of it.
+        List<HelloService> verticleServices = switch (config.cacheSharding()) {
+            case SHARED -> List.of(helloService);
+            case PER_EVENT_LOOP -> createShardedServices(eventLoopSize, config, keySelector);
+        };
+        List<HelloService> allServices = config.cacheSharding() == CacheSharding.SHARED ? verticleServices
+            : Stream.concat(Stream.of(helloService), verticleServices.stream()).toList();
+        metricsProvider.registerCacheMissCounter(allServices);
+        metricsProvider.registerWorkCpuTimer(allServices);
         VertxOptions vertxOptions = new VertxOptions()
             .setEventLoopPoolSize(eventLoopSize)
-            .setPreferNativeTransport(true)
             .setMetricsOptions(new MicrometerMetricsOptions()
                 .setEnabled(true));
 
+        // Native transports are available only on Linux (Docker runtime); elsewhere IO_TRANSPORT falls back to NIO.
+        IoTransport ioTransport = resolveTransport(config.ioTransport());
         Vertx vertx = Vertx.builder()
             .with(vertxOptions)
+            .withTransport(transport(ioTransport))
             .withMetrics(new MicrometerMetricsFactory(Metrics.globalRegistry))
             .build();
+        LOG.info("IO_TRANSPORT={} using {} (native transport enabled: {})", config.ioTransport(), ioTransport,
+            vertx.isNativeTransportEnabled());
 
-        // Native epoll transport is available only on Linux (Docker runtime).
-        // SO_REUSEPORT requires native transport; enabling it on NIO silently does nothing,
+        // SO_REUSEPORT requires a native transport; enabling it on NIO silently does nothing,
         // but we gate it to keep the intent explicit.
         boolean linux = System.getProperty("os.name", "").toLowerCase().contains("linux");
-        LOG.info("Native epoll transport expected: {} (os.name={})", linux, System.getProperty("os.name"));
 
         // HTTP server options tuned for benchmarking on 2 vCPUs
         HttpServerOptions serverOptions = new HttpServerOptions()
@@ -103,6 +160,14 @@ public final class VertxApplication {
             .setCompressionSupported(false)  // No compression: short JSON payloads + saves CPU
             .setAcceptBacklog(8192)      // Large accept backlog for burst handling
             .setIdleTimeout(60);         // Seconds
+        configureHttp2(serverOptions, config.http2Enabled());
+        LOG.info("HTTP2_ENABLED={}", config.http2Enabled());
+        configureTls(serverOptions, config.tlsMode());
+        TlsHandshakeMetrics tlsHandshakeMetrics = config.tlsMode() == TlsMode.OFF ? null
+            : TlsHandshakeMetrics.create(Metrics.globalRegistry, config.tlsMode().tag());
+        LOG.info("TLS_MODE={}", config.tlsMode());
+        LOG.info("VERTX_ROUTING={}", config.routingMode());
+        LOG.info("VERTX_CACHE_ACCESS={}", config.cacheAccess());
 
         // Deploy N verticle instances — each gets its own event-loop thread,
         // its own Router, and its own HttpServer. This is the idiomatic Vert.x
@@ -110,9 +175,40 @@ public final class VertxApplication {
         DeploymentOptions deploymentOptions = new DeploymentOptions()
             .setInstances(eventLoopSize);
 
-        vertx.deployVerticle(
-                () -> new HttpServerVerticle(config.port(), helloService, metricsProvider, serverOptions),
-                deploymentOptions)
+        // Every instance owns a /hello/chain client on its event loop; the pool is split between them.
+        DownstreamConfig downstreamConfig = DownstreamConfig.fromEnvironment().perInstance(eventLoopSize);
+        LOG.info("DOWNSTREAM_URL={} connections per instance={}", downstreamConfig.url(),
+            downstreamConfig.maxConnections());
+
+        // Blocking modes: one worker verticle instance per worker-pool thread, since each holds its thread for the
+        // whole request; virtual-thread instances interleave requests, so one per event loop is plenty.
+        BlockingHelloVerticle.registerCodec(vertx.eventBus());
+        deployBlocking(vertx, HelloMode.PLATFORM, helloService, new DeploymentOptions()
+            .setThreadingModel(ThreadingModel.WORKER)
+            .setInstances(vertxOptions.getWorkerPoolSize()));
+        deployBlocking(vertx, HelloMode.VIRTUAL, helloService, new DeploymentOptions()
+            .setThreadingModel(ThreadingModel.VIRTUAL_THREAD)
+            .setInstances(eventLoopSize));
+
+        // With VERTX_CACHE_ACCESS=eventbus one cache verticle owns the shared cache, and the HTTP verticles are
+        // deployed once it listens, so no hello lookup finds the address without a consumer.
+        EventBusCacheMetrics cacheMetrics = config.cacheAccess() == CacheAccess.EVENTBUS
+            ? EventBusCacheMetrics.create(Metrics.globalRegistry)
+            : null;
+        Future<?> cacheReady = cacheMetrics == null ? Future.succeededFuture() : deployCache(vertx, helloService);
+
+        HttpServerVerticle.Settings settings =
+            new HttpServerVerticle.Settings(config.responseEncoding(), latencyProfile, payload, downstreamConfig,
+                tlsHandshakeMetrics, config.routingMode(), cacheMetrics);
+
+        // Instances are created one after the other on this thread and each lands on its own event loop.
+        AtomicInteger nextService = new AtomicInteger();
+        cacheReady
+            .compose(_ -> vertx.deployVerticle(
+                () -> new HttpServerVerticle(config.port(),
+                    verticleServices.get(nextService.getAndIncrement() % verticleServices.size()),
+                    metricsProvider, serverOptions, settings),
+                deploymentOptions))
             .onSuccess(id -> LOG.info("Deployed {} HttpServerVerticle instances (id={})", eventLoopSize, id))
             .onFailure(err -> {
                 LOG.error("Failed to deploy HttpServerVerticle instances", err);
@@ -136,6 +232,128 @@ public final class VertxApplication {
             config.port(), config.resolvedEventLoopSize());
     }
 
+    private static Future<String> deployCache(Vertx vertx, HelloService helloService) {
+        CacheVerticle.registerCodecs(vertx.eventBus());
+        return vertx.deployVerticle(new CacheVerticle(helloService))
+            .onSuccess(id -> LOG.info("Deployed CacheVerticle on {} (id={})", CacheVerticle.ADDRESS, id));
+    }
+
+    private static void deployBlocking(Vertx vertx, HelloMode mode, HelloService helloService,
+                                       DeploymentOptions deploymentOptions) {
+        vertx.deployVerticle(() -> new BlockingHelloVerticle(mode, helloService), deploymentOptions)
+            .onSuccess(id -> LOG.info("Deployed {} {} BlockingHelloVerticle instances (id={})",
+                deploymentOptions.getInstances(), deploymentOptions.getThreadingModel(), id))
+            .onFailure(err -> LOG.error("Failed to deploy {} BlockingHelloVerticle instances, /hello/{} answers 503",
+                deploymentOptions.getThreadingModel(), mode.label(), err));
+    }
+
+    /**
+     * Builds one cache shard per event loop ({@code CACHE_SHARDING=per-event-loop}) and a service over each,
+     * logging the heap the shards occupy on top of the shared cache.
+     *
+     * @param shards      number of shards, one per event loop
+     * @param config      service configuration
+     * @param keySelector key workload shared by all shards
+     * @return one service per shard
+     */
+    private static List<HelloService> createShardedServices(int shards, ServiceConfig config,
+                                                            CacheKeySelector keySelector) {
+        Runtime runtime = Runtime.getRuntime();
+        long usedBefore = runtime.totalMemory() - runtime.freeMemory();
+        List<HelloService> services = CacheProvider.createShards(shards, config.cacheSize(),
+                CacheWarmer.parse(config.cacheWarmup())).stream()
+            .map(shard -> new HelloService(shard, keySelector))
+            .toList();
+        long usedAfter = runtime.totalMemory() - runtime.freeMemory();
+        LOG.info("CACHE_SHARDING=per-event-loop: {} shards of {} entries, heap used +{} MB (before GC)",
+            shards, config.cacheSize(), Math.max(0L, usedAfter - usedBefore) / 1024 / 1024);
+        return services;
+    }
+
+    /**
+     * Resolves {@code IO_TRANSPORT} against what the kernel and the classpath support, logging why a requested
+     * native transport is skipped: io_uring falls back to epoll (e.g. io_uring disabled by the kernel or the
+     * container's seccomp profile), epoll to NIO.
+     *
+     * @param requested the configured transport
+     * @return the transport the event loops will run on
+     */
+    static IoTransport resolveTransport(IoTransport requested) {
+        return requested.resolve(candidate -> {
+            Transport transport = transport(candidate);
+            if (!transport.available()) {
+                LOG.warn("IO_TRANSPORT {} unavailable, falling back to {}: {}", candidate, candidate.fallback(),
+                    String.valueOf(transport.unavailabilityCause()));
+                return false;
+            }
+            return true;
+        });
+    }
+
+    private static Transport transport(IoTransport ioTransport) {
+        return switch (ioTransport) {
+            case NIO -> Transport.NIO;
+            case EPOLL -> Transport.EPOLL;
+            case IO_URING -> Transport.IO_URING;
+        };
+    }
+
+    /**
+     * Sizes HTTP/2 cleartext for multiplexed load.
+     *
+     * <p>h2c (prior knowledge and {@code Upgrade: h2c}) is accepted either way because the gRPC routes share the
+     * port, and HTTP/1.1 clients never upgrade unless they ask. With {@code HTTP2_ENABLED} the server advertises
+     * {@value #HTTP2_MAX_CONCURRENT_STREAMS} concurrent streams and a larger connection window, in line with the
+     * other modules' HTTP/2 mode, so a multiplexing client is not capped by the Vert.x defaults.
+     *
+     * @param serverOptions options to update
+     * @param http2Enabled  whether the HTTP/2 mode is on
+     * @return {@code serverOptions}
+     */
+    static HttpServerOptions configureHttp2(HttpServerOptions serverOptions, boolean http2Enabled) {
+        if (http2Enabled) {
+            serverOptions
+                .setInitialSettings(new Http2Settings().setMaxConcurrentStreams(HTTP2_MAX_CONCURRENT_STREAMS))
+                .setHttp2ConnectionWindowSize(HTTP2_CONNECTION_WINDOW_SIZE);
+        }
+        return serverOptions;
+    }
+
+    /**
+     * Terminates TLS on the listener with a self-signed certificate generated at startup.
+     *
+     * <p>The certificate for {@value #TLS_CERTIFICATE_HOST} is created in memory on every start, so no keystore
+     * has to be built into the image; load generators must skip verification. ALPN offers {@code h2} next to
+     * {@code http/1.1}, which keeps gRPC on the shared port working. Session resumption is on for both engines:
+     * the JDK server caches sessions and issues TLS 1.3 tickets by default, and the OpenSSL session cache is
+     * enabled explicitly.
+     *
+     * @param serverOptions options to update
+     * @param tlsMode       {@code TLS_MODE}; {@link TlsMode#OFF} leaves the options untouched
+     * @return {@code serverOptions}
+     * @throws IllegalStateException if {@link TlsMode#OPENSSL} is requested but netty-tcnative cannot be loaded
+     */
+    static HttpServerOptions configureTls(HttpServerOptions serverOptions, TlsMode tlsMode) {
+        if (tlsMode == TlsMode.OFF) {
+            return serverOptions;
+        }
+        SSLEngineOptions engineOptions = switch (tlsMode) {
+            case JDK -> new JdkSSLEngineOptions();
+            case OPENSSL -> {
+                if (!OpenSSLEngineOptions.isAvailable()) {
+                    throw new IllegalStateException("TLS_MODE=openssl but netty-tcnative is not available");
+                }
+                yield new OpenSSLEngineOptions().setSessionCacheEnabled(true);
+            }
+            case OFF -> throw new IllegalStateException("TLS is off");
+        };
+        return serverOptions
+            .setSsl(true)
+            .setUseAlpn(true)
+            .setKeyCertOptions(SelfSignedCertificate.create(TLS_CERTIFICATE_HOST).keyCertOptions())
+            .setSslEngineOptions(engineOptions);
+    }
+
     @SuppressWarnings("resource") // JvmGcMetrics lives for the entire application lifetime
     private static void bindJvmMetrics() {
         var registry = Metrics.globalRegistry;
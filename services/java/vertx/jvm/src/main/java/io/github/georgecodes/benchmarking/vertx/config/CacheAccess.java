@@ -0,0 +1,35 @@
+package io.github.georgecodes.benchmarking.vertx.config;
+
+import java.util.Locale;
+
+/**
+ * How the hello endpoint reaches the cache (env {@code VERTX_CACHE_ACCESS}).
+ */
+public enum CacheAccess {
+
+    /** Handlers read the cache directly on their own event loop (baseline). */
+    DIRECT,
+
+    /**
+     * A dedicated cache verticle owns the cache and handlers ask it with local event-bus request/reply.
+     */
+    EVENTBUS;
+
+    /**
+     * Parses a {@code VERTX_CACHE_ACCESS} value.
+     *
+     * @param value {@code direct} or {@code eventbus}; blank means {@code direct}
+     * @return the matching mode
+     * @throws IllegalArgumentException when the value is not recognised
+     */
+    public static CacheAccess parse(String value) {
+        if (value == null || value.isBlank()) {
+            return DIRECT;
+        }
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "direct" -> DIRECT;
+            case "eventbus" -> EVENTBUS;
+            default -> throw new IllegalArgumentException("Unsupported VERTX_CACHE_ACCESS: " + value);
+        };
+    }
+}
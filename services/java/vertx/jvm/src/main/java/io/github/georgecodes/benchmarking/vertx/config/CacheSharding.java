@@ -0,0 +1,36 @@
+package io.github.georgecodes.benchmarking.vertx.config;
+
+import java.util.Locale;
+
+/**
+ * How the hello cache is shared between event loops (env {@code CACHE_SHARDING}).
+ */
+public enum CacheSharding {
+
+    /** One cache for all verticle instances (baseline). */
+    SHARED,
+
+    /**
+     * Every {@code HttpServerVerticle} instance owns a full copy of the cache, touched only by its own event loop,
+     * at the price of one cache per event loop in memory.
+     */
+    PER_EVENT_LOOP;
+
+    /**
+     * Parses a {@code CACHE_SHARDING} value.
+     *
+     * @param value {@code shared} or {@code per-event-loop}; blank means {@code shared}
+     * @return the matching mode
+     * @throws IllegalArgumentException when the value is not recognised
+     */
+    public static CacheSharding parse(String value) {
+        if (value == null || value.isBlank()) {
+            return SHARED;
+        }
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "shared" -> SHARED;
+            case "per-event-loop" -> PER_EVENT_LOOP;
+            default -> throw new IllegalArgumentException("Unsupported CACHE_SHARDING: " + value);
+        };
+    }
+}
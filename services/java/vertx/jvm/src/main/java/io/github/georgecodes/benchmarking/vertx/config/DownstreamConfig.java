@@ -0,0 +1,65 @@
+package io.github.georgecodes.benchmarking.vertx.config;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Target and client tuning of the {@code /hello/chain} downstream call (env-driven).
+ *
+ * @param url            downstream URL ({@code DOWNSTREAM_URL})
+ * @param maxConnections connection pool size ({@code DOWNSTREAM_MAX_CONNECTIONS})
+ * @param timeoutMillis  connect and response idle timeout in milliseconds ({@code DOWNSTREAM_TIMEOUT_MS})
+ */
+public record DownstreamConfig(String url, int maxConnections, long timeoutMillis) {
+
+    /** Default target: the {@code downstream-stub} utility on the compose network. */
+    public static final String DEFAULT_URL = "http://downstream-stub:8080/downstream";
+
+    /** Default connection pool size. */
+    public static final int DEFAULT_MAX_CONNECTIONS = 64;
+
+    /** Default timeout in milliseconds. */
+    public static final long DEFAULT_TIMEOUT_MILLIS = 2_000L;
+
+    public DownstreamConfig {
+        Objects.requireNonNull(url, "url");
+        if (maxConnections < 1) {
+            throw new IllegalArgumentException("DOWNSTREAM_MAX_CONNECTIONS must be at least 1: " + maxConnections);
+        }
+        if (timeoutMillis < 1) {
+            throw new IllegalArgumentException("DOWNSTREAM_TIMEOUT_MS must be positive: " + timeoutMillis);
+        }
+    }
+
+    public static DownstreamConfig fromEnvironment() {
+        return fromEnvironment(System::getenv);
+    }
+
+    static DownstreamConfig fromEnvironment(Function<String, String> environmentProvider) {
+        Objects.requireNonNull(environmentProvider, "environmentProvider");
+        String url = environmentProvider.apply("DOWNSTREAM_URL");
+        String maxConnections = environmentProvider.apply("DOWNSTREAM_MAX_CONNECTIONS");
+        String timeoutMillis = environmentProvider.apply("DOWNSTREAM_TIMEOUT_MS");
+        return new DownstreamConfig(
+            url == null || url.isBlank() ? DEFAULT_URL : url.trim(),
+            maxConnections == null || maxConnections.isBlank()
+                ? DEFAULT_MAX_CONNECTIONS
+                : Integer.parseInt(maxConnections.trim()),
+            timeoutMillis == null || timeoutMillis.isBlank()
+                ? DEFAULT_TIMEOUT_MILLIS
+                : Long.parseLong(timeoutMillis.trim()));
+    }
+
+    /**
+     * Splits the pool across verticle instances, each of which owns a client on its own event loop.
+     *
+     * @param instances number of verticle instances
+     * @return config whose pool size is this one's share per instance, at least 1
+     */
+    public DownstreamConfig perInstance(int instances) {
+        if (instances < 1) {
+            throw new IllegalArgumentException("instances must be at least 1: " + instances);
+        }
+        return new DownstreamConfig(url, Math.max(1, Math.ceilDiv(maxConnections, instances)), timeoutMillis);
+    }
+}
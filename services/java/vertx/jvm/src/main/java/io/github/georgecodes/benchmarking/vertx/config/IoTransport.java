@@ -0,0 +1,65 @@
+package io.github.georgecodes.benchmarking.vertx.config;
+
+import java.util.Locale;
+import java.util.function.Predicate;
+
+/**
+ * Netty transport the event loops run on (env {@code IO_TRANSPORT}).
+ */
+public enum IoTransport {
+
+    /** JDK NIO selector; always available. */
+    NIO,
+
+    /** Linux epoll (default); needed for {@code SO_REUSEPORT} and the TCP options. */
+    EPOLL,
+
+    /** Linux io_uring; batches socket reads and writes into shared submission and completion rings. */
+    IO_URING;
+
+    /**
+     * Parses an {@code IO_TRANSPORT} value.
+     *
+     * @param value {@code nio}, {@code epoll} or {@code io_uring} ({@code io-uring}, {@code iouring}); blank means
+     *              {@code epoll}
+     * @return the matching transport
+     * @throws IllegalArgumentException when the value is not recognised
+     */
+    public static IoTransport parse(String value) {
+        if (value == null || value.isBlank()) {
+            return EPOLL;
+        }
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "nio" -> NIO;
+            case "epoll" -> EPOLL;
+            case "io_uring", "io-uring", "iouring" -> IO_URING;
+            default -> throw new IllegalArgumentException("Unsupported IO_TRANSPORT: " + value);
+        };
+    }
+
+    /**
+     * Returns the transport to use when this one is unavailable: io_uring falls back to epoll, epoll to NIO.
+     *
+     * @return the next transport, {@code NIO} for {@code NIO}
+     */
+    public IoTransport fallback() {
+        return switch (this) {
+            case IO_URING -> EPOLL;
+            case EPOLL, NIO -> NIO;
+        };
+    }
+
+    /**
+     * Resolves the transport actually used: this one if available, otherwise the first available fallback.
+     *
+     * @param available whether the kernel and the classpath support a native transport
+     * @return the resolved transport; {@code NIO} when no native transport is available
+     */
+    public IoTransport resolve(Predicate<IoTransport> available) {
+        IoTransport transport = this;
+        while (transport != NIO && !available.test(transport)) {
+            transport = transport.fallback();
+        }
+        return transport;
+    }
+}
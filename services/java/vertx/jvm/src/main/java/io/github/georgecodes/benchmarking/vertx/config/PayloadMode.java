@@ -0,0 +1,40 @@
+package io.github.georgecodes.benchmarking.vertx.config;
+
+import java.util.Locale;
+
+/**
+ * How the {@code size} payload is held and written (env {@code PAYLOAD_MODE}).
+ */
+public enum PayloadMode {
+
+    /** Copies the body into a fresh heap array on every request (baseline). */
+    HEAP,
+
+    /** Serves read-only slices of one pre-allocated direct buffer, handed to the transport without copying. */
+    DIRECT,
+
+    /**
+     * Serves a region of a pre-written file with {@code sendFile}, which Netty transfers zero-copy
+     * ({@code FileRegion}, {@code sendfile(2)} on Linux).
+     */
+    FILE;
+
+    /**
+     * Parses a {@code PAYLOAD_MODE} value.
+     *
+     * @param value {@code heap}, {@code direct} or {@code file}; blank means {@code heap}
+     * @return the matching mode
+     * @throws IllegalArgumentException when the value is not recognised
+     */
+    public static PayloadMode parse(String value) {
+        if (value == null || value.isBlank()) {
+            return HEAP;
+        }
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "heap" -> HEAP;
+            case "direct" -> DIRECT;
+            case "file" -> FILE;
+            default -> throw new IllegalArgumentException("Unsupported PAYLOAD_MODE: " + value);
+        };
+    }
+}
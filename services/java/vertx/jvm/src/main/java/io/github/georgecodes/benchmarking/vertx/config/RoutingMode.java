@@ -0,0 +1,36 @@
+package io.github.georgecodes.benchmarking.vertx.config;
+
+import java.util.Locale;
+
+/**
+ * How requests reach the hello handler (env {@code VERTX_ROUTING}).
+ */
+public enum RoutingMode {
+
+    /** Every request goes through the vertx-web {@code Router} (baseline). */
+    ROUTER,
+
+    /**
+     * A plain request handler answers {@code GET /hello/reactive} and {@code /ready} without the {@code Router}
+     * and hands every other request to it.
+     */
+    RAW;
+
+    /**
+     * Parses a {@code VERTX_ROUTING} value.
+     *
+     * @param value {@code router} or {@code raw}; blank means {@code router}
+     * @return the matching mode
+     * @throws IllegalArgumentException when the value is not recognised
+     */
+    public static RoutingMode parse(String value) {
+        if (value == null || value.isBlank()) {
+            return ROUTER;
+        }
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "router" -> ROUTER;
+            case "raw" -> RAW;
+            default -> throw new IllegalArgumentException("Unsupported VERTX_ROUTING: " + value);
+        };
+    }
+}
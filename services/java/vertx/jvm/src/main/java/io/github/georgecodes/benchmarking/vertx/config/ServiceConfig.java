@@ -6,14 +6,38 @@ import java.util.function.Function;
 /**
  * Centralized service configuration (env-driven).
  *
- * @param port          listening port
- * @param cacheSize     max entries for the in-memory cache
- * @param eventLoopSize number of Vert.x event-loop threads (0 means 2 × available processors)
+ * @param port               listening port
+ * @param cacheSize          max entries for the in-memory cache
+ * @param eventLoopSize      number of Vert.x event-loop threads (0 means 2 × available processors)
+ * @param responseEncoding   how the hello JSON body is produced
+ * @param cacheAccessPattern cache key workload spec, e.g. {@code zipfian:0.99} (blank means fixed key)
+ * @param cacheKeySpace      number of distinct keys requested (0 means the cache size)
+ * @param cacheWarmup        cache warm-up spec: {@code parallel} or {@code snapshot:<path>} (blank means sequential)
+ * @param latencyProfile     injected-latency distribution spec, e.g. {@code lognormal:1.0} (blank means constant)
+ * @param payloadMode        how {@code size} payload bodies are held and written
+ * @param http2Enabled       whether the listener is sized for multiplexed HTTP/2 cleartext load
+ * @param tlsMode            whether and with which engine the listener terminates TLS
+ * @param ioTransport        requested Netty transport; falls back when the kernel lacks support
+ * @param routingMode        whether the hello endpoint bypasses the vertx-web router
+ * @param cacheSharding      whether each event loop owns a private copy of the cache
+ * @param cacheAccess        whether the hello endpoint reads the cache directly or over the event bus
  */
 public record ServiceConfig(
     int port,
     long cacheSize,
-    int eventLoopSize
+    int eventLoopSize,
+    ResponseEncoding responseEncoding,
+    String cacheAccessPattern,
+    long cacheKeySpace,
+    String cacheWarmup,
+    String latencyProfile,
+    PayloadMode payloadMode,
+    boolean http2Enabled,
+    TlsMode tlsMode,
+    IoTransport ioTransport,
+    RoutingMode routingMode,
+    CacheSharding cacheSharding,
+    CacheAccess cacheAccess
 ) {
 
     /** Default HTTP port when SERVICE_PORT is unset or blank. */
@@ -35,8 +59,22 @@ public record ServiceConfig(
         int port = parseInt(environmentProvider.apply("SERVICE_PORT"), DEFAULT_PORT);
         long cacheSize = parseCacheSize(environmentProvider.apply("CACHE_SIZE"));
         int eventLoopSize = parseInt(environmentProvider.apply("VERTX_EVENT_LOOP_SIZE"), DEFAULT_EVENT_LOOP_SIZE);
+        ResponseEncoding responseEncoding = ResponseEncoding.parse(environmentProvider.apply("RESPONSE_ENCODING"));
+        String cacheAccessPattern = Objects.requireNonNullElse(environmentProvider.apply("CACHE_ACCESS_PATTERN"), "");
+        long cacheKeySpace = parseLong(environmentProvider.apply("CACHE_KEY_SPACE"), 0L);
+        String cacheWarmup = Objects.requireNonNullElse(environmentProvider.apply("CACHE_WARMUP"), "");
+        String latencyProfile = Objects.requireNonNullElse(environmentProvider.apply("LATENCY_PROFILE"), "");
+        PayloadMode payloadMode = PayloadMode.parse(environmentProvider.apply("PAYLOAD_MODE"));
+        boolean http2Enabled = parseBoolean(environmentProvider.apply("HTTP2_ENABLED"));
+        TlsMode tlsMode = TlsMode.parse(environmentProvider.apply("TLS_MODE"));
+        IoTransport ioTransport = IoTransport.parse(environmentProvider.apply("IO_TRANSPORT"));
+        RoutingMode routingMode = RoutingMode.parse(environmentProvider.apply("VERTX_ROUTING"));
+        CacheSharding cacheSharding = CacheSharding.parse(environmentProvider.apply("CACHE_SHARDING"));
+        CacheAccess cacheAccess = CacheAccess.parse(environmentProvider.apply("VERTX_CACHE_ACCESS"));
 
-        return new ServiceConfig(port, cacheSize, eventLoopSize);
+        return new ServiceConfig(port, cacheSize, eventLoopSize, responseEncoding, cacheAccessPattern, cacheKeySpace,
+            cacheWarmup, latencyProfile, payloadMode, http2Enabled, tlsMode, ioTransport, routingMode, cacheSharding,
+            cacheAccess);
     }
 
     /**
@@ -51,6 +89,15 @@ public record ServiceConfig(
             : Math.max(2, Runtime.getRuntime().availableProcessors() * 2);
     }
 
+    /**
+     * Resolves the effective cache key space.
+     *
+     * @return {@code cacheKeySpace} when positive, otherwise {@code cacheSize}
+     */
+    public long resolvedCacheKeySpace() {
+        return cacheKeySpace > 0 ? cacheKeySpace : cacheSize;
+    }
+
     private static String getEnv(String key) {
         return System.getenv(key);
     }
@@ -62,6 +109,17 @@ public record ServiceConfig(
         return Integer.parseInt(value.trim());
     }
 
+    private static long parseLong(String value, long defaultValue) {
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        return Long.parseLong(value.trim());
+    }
+
+    private static boolean parseBoolean(String value) {
+        return value != null && Boolean.parseBoolean(value.trim());
+    }
+
     private static long parseCacheSize(String value) {
         if (value == null || value.isBlank()) {
             return DEFAULT_CACHE_SIZE;
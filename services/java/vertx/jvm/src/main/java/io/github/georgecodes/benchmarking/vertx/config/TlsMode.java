@@ -0,0 +1,46 @@
+package io.github.georgecodes.benchmarking.vertx.config;
+
+import java.util.Locale;
+
+/**
+ * Whether and with which engine the listener terminates TLS (env {@code TLS_MODE}).
+ */
+public enum TlsMode {
+
+    /** Plain HTTP/1.1 and h2c (baseline). */
+    OFF,
+
+    /** TLS on the JDK {@code SSLEngine}. */
+    JDK,
+
+    /** TLS on Netty's OpenSSL engine (statically linked BoringSSL from {@code netty-tcnative}). */
+    OPENSSL;
+
+    /**
+     * Parses a {@code TLS_MODE} value.
+     *
+     * @param value {@code off}, {@code jdk} or {@code openssl}; blank means {@code off}
+     * @return the matching mode
+     * @throws IllegalArgumentException when the value is not recognised
+     */
+    public static TlsMode parse(String value) {
+        if (value == null || value.isBlank()) {
+            return OFF;
+        }
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "off" -> OFF;
+            case "jdk" -> JDK;
+            case "openssl" -> OPENSSL;
+            default -> throw new IllegalArgumentException("Unsupported TLS_MODE: " + value);
+        };
+    }
+
+    /**
+     * Returns the {@code TLS_MODE} spelling, used as the {@code engine} metric tag.
+     *
+     * @return lower-case mode name
+     */
+    public String tag() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,20 @@
+package io.github.georgecodes.benchmarking.vertx.domain;
+
+import java.io.Serial;
+
+/**
+ * The downstream behind {@code /hello/chain} could not be reached in time or answered with a non-2xx status.
+ */
+public final class DownstreamException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public DownstreamException(String message) {
+        super(message);
+    }
+
+    public DownstreamException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
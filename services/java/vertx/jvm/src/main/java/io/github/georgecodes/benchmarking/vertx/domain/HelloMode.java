@@ -1,7 +1,7 @@
 package io.github.georgecodes.benchmarking.vertx.domain;
 
 /**
- * Identifies the reactive endpoint mode, used for metrics tagging and response formatting.
+ * Identifies a hello endpoint mode, used for metrics tagging and response formatting.
  *
  * @param label        human-readable label
  * @param endpointTag  stable tag value for metrics
@@ -9,10 +9,31 @@ package io.github.georgecodes.benchmarking.vertx.domain;
  */
 public record HelloMode(String label, String endpointTag, String responsePrefix) {
 
-    /** The single reactive mode for Vert.x benchmarking. */
+    /** Non-blocking hello on the event loop. */
     public static final HelloMode REACTIVE = new HelloMode(
         "reactive",
         "/hello/reactive",
         "Hello from Vertx reactive REST "
     );
+
+    /** Blocking hello on a worker verticle's platform thread. */
+    public static final HelloMode PLATFORM = new HelloMode(
+        "platform",
+        "/hello/platform",
+        "Hello from Vertx platform REST "
+    );
+
+    /** Blocking hello on a virtual-thread verticle. */
+    public static final HelloMode VIRTUAL = new HelloMode(
+        "virtual",
+        "/hello/virtual",
+        "Hello from Vertx virtual REST "
+    );
+
+    /** The reactive mode served over gRPC; the tag is the HTTP/2 path of the unary call. */
+    public static final HelloMode GRPC = new HelloMode(
+        "grpc",
+        "/benchmarking.hello.v1.Hello/SayHello",
+        "Hello from Vertx reactive gRPC "
+    );
 }
\ No newline at end of file
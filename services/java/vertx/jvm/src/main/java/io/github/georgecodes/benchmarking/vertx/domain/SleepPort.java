@@ -0,0 +1,15 @@
+package io.github.georgecodes.benchmarking.vertx.domain;
+
+/**
+ * Blocking delay of the {@code /hello/platform} and {@code /hello/virtual} handlers, which run off the event loop.
+ */
+public interface SleepPort {
+
+    /**
+     * Blocks the calling thread for the given time.
+     *
+     * @param millis delay in milliseconds; {@code 0} or less returns at once
+     * @throws InterruptedException when the thread is interrupted while waiting
+     */
+    void sleep(long millis) throws InterruptedException;
+}
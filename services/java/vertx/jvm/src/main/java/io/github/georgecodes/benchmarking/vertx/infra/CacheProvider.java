@@ -2,11 +2,14 @@ package io.github.georgecodes.benchmarking.vertx.infra;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Metrics;
 import org.jspecify.annotations.NonNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
 
 /**
  * Provides the pre-populated Caffeine cache used by request handlers.
@@ -19,15 +22,60 @@ public final class CacheProvider {
     private CacheProvider() {
     }
 
+    /**
+     * Creates a Caffeine cache with the given size, pre-populated sequentially.
+     *
+     * @param cacheSize the maximum number of entries
+     * @return a fully populated cache
+     */
     public static Cache<@NonNull String, String> create(long cacheSize) {
+        return create(cacheSize, CacheWarmer.parse(null));
+    }
+
+    /**
+     * Creates a Caffeine cache with the given size, pre-populated by {@code warmer}.
+     *
+     * @param cacheSize the maximum number of entries
+     * @param warmer    warm-up strategy (env {@code CACHE_WARMUP})
+     * @return a fully populated cache
+     */
+    public static Cache<@NonNull String, String> create(long cacheSize, CacheWarmer warmer) {
         Cache<@NonNull String, String> cache = Caffeine.newBuilder()
             .maximumSize(cacheSize)
             .expireAfterWrite(Duration.ofDays(1))
             .build();
-        for (long i = cacheSize; i > 0; i--) {
-            cache.put(String.valueOf(i), "value-" + i);
-        }
+        warmer.warmUp(cache, cacheSize, Metrics.globalRegistry);
         LOG.info("Cache size: {}", cache.asMap().size());
         return cache;
     }
-}
\ No newline at end of file
+
+    /**
+     * Creates {@code shards} independent caches of {@code cacheSize} entries each, one per event loop
+     * ({@code CACHE_SHARDING=per-event-loop}), built and populated concurrently.
+     *
+     * <p>A shard is only ever touched by the event loop that owns it, so Caffeine's read buffers, write buffer
+     * and frequency sketch are no longer shared between cores. Maintenance runs on the calling thread instead of
+     * the common fork-join pool, keeping it on the owning loop as well.
+     *
+     * @param shards    number of caches
+     * @param cacheSize the maximum number of entries per cache
+     * @param warmer    warm-up strategy applied to every shard
+     * @return fully populated caches, one per shard
+     */
+    public static List<Cache<@NonNull String, String>> createShards(int shards, long cacheSize, CacheWarmer warmer) {
+        List<Cache<@NonNull String, String>> caches = IntStream.range(0, shards).parallel()
+            .mapToObj(_ -> {
+                Cache<@NonNull String, String> cache = Caffeine.newBuilder()
+                    .maximumSize(cacheSize)
+                    .expireAfterWrite(Duration.ofDays(1))
+                    .executor(Runnable::run)
+                    .build();
+                warmer.warmUp(cache, cacheSize, Metrics.globalRegistry);
+                return cache;
+            })
+            .toList();
+        LOG.info("Cache shards: {} x {} entries", caches.size(),
+            caches.isEmpty() ? 0 : caches.getFirst().asMap().size());
+        return caches;
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.georgecodes.benchmarking.vertx.infra;
+
+import io.github.georgecodes.benchmarking.vertx.domain.HelloService;
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.Message;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * Cache service for {@code VERTX_CACHE_ACCESS=eventbus}: owns the hello cache behind the local event bus and
+ * answers every {@link Lookup} sent to {@link #ADDRESS} with an {@link Entry}, on its own event loop.
+ *
+ * <p>Both messages are records passed by reference through a {@link LocalMessageCodec}, so a round trip costs
+ * the event-bus dispatch and the two event-loop hand-offs, not serialisation.
+ */
+public final class CacheVerticle extends AbstractVerticle {
+
+    /** Event-bus address of the cache service. */
+    public static final String ADDRESS = "hello.cache";
+
+    /** Service over the cache this verticle owns. */
+    private final HelloService helloService;
+
+    public CacheVerticle(HelloService helloService) {
+        this.helloService = Objects.requireNonNull(helloService, "helloService");
+    }
+
+    /**
+     * Registers the codecs of {@link Lookup} and {@link Entry}; call once per {@code Vertx} instance.
+     *
+     * @param eventBus the event bus to register with
+     */
+    public static void registerCodecs(EventBus eventBus) {
+        LocalMessageCodec.register(eventBus, Lookup.class);
+        LocalMessageCodec.register(eventBus, Entry.class);
+    }
+
+    @Override
+    public void start() {
+        vertx.eventBus().<Lookup>localConsumer(ADDRESS, this::handle);
+    }
+
+    private void handle(Message<Lookup> message) {
+        String key = message.body().key();
+        message.reply(new Entry(key, helloService.cachedValue(key)));
+    }
+
+    /**
+     * Request for the cached value of one key.
+     *
+     * @param key cache key
+     */
+    public record Lookup(String key) {
+    }
+
+    /**
+     * Reply to a {@link Lookup}.
+     *
+     * @param key   cache key
+     * @param value cached value, or {@code null} on a miss
+     */
+    public record Entry(String key, @Nullable String value) {
+    }
+}
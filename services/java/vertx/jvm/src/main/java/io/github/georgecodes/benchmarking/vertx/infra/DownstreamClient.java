@@ -0,0 +1,91 @@
+package io.github.georgecodes.benchmarking.vertx.infra;
+
+import io.github.georgecodes.benchmarking.vertx.config.DownstreamConfig;
+import io.github.georgecodes.benchmarking.vertx.domain.DownstreamException;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.PoolOptions;
+import io.vertx.ext.web.client.HttpResponse;
+import io.vertx.ext.web.client.WebClient;
+import io.vertx.ext.web.client.WebClientOptions;
+
+import java.util.Objects;
+
+/**
+ * Vert.x {@link WebClient} for the {@code /hello/chain} downstream call.
+ *
+ * <p>Each verticle creates its own client from its start method, so the pooled keep-alive connections and their
+ * callbacks stay on that verticle's event loop. Requests beyond the pool size wait in the client's queue.
+ */
+public final class DownstreamClient {
+
+    /** Seconds after which an idle pooled connection is closed. */
+    private static final int IDLE_TIMEOUT_SECONDS = 30;
+
+    /** Underlying pooled client. */
+    private final WebClient client;
+
+    /** Downstream URL. */
+    private final String url;
+
+    /** Response idle timeout in milliseconds. */
+    private final long timeoutMillis;
+
+    private DownstreamClient(WebClient client, String url, long timeoutMillis) {
+        this.client = client;
+        this.url = url;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Creates a client owning a pool of {@code config.maxConnections()} HTTP/1.1 connections.
+     *
+     * @param vertx  the Vert.x instance
+     * @param config downstream target and tuning
+     * @return the client
+     */
+    public static DownstreamClient create(Vertx vertx, DownstreamConfig config) {
+        Objects.requireNonNull(vertx, "vertx");
+        Objects.requireNonNull(config, "config");
+        WebClientOptions options = new WebClientOptions()
+            .setKeepAlive(true)
+            .setTcpNoDelay(true)
+            .setConnectTimeout(Math.toIntExact(config.timeoutMillis()))
+            .setIdleTimeout(IDLE_TIMEOUT_SECONDS)
+            .setUserAgentEnabled(false);
+        PoolOptions pool = new PoolOptions().setHttp1MaxSize(config.maxConnections());
+        return new DownstreamClient(WebClient.create(vertx, options, pool), config.url(), config.timeoutMillis());
+    }
+
+    /**
+     * Performs one {@code GET} against the downstream URL.
+     *
+     * @return response body, or a {@link DownstreamException} failure if the downstream cannot be reached in time
+     *     or answers with a non-2xx status
+     */
+    public Future<String> get() {
+        return client.getAbs(url)
+            .idleTimeout(timeoutMillis)
+            .send()
+            .transform(ar -> {
+                if (ar.failed()) {
+                    return Future.failedFuture(
+                        new DownstreamException("downstream unavailable: " + ar.cause(), ar.cause()));
+                }
+                HttpResponse<?> response = ar.result();
+                int status = response.statusCode();
+                if (status < 200 || status > 299) {
+                    return Future.failedFuture(new DownstreamException("downstream answered " + status));
+                }
+                String body = response.bodyAsString();
+                return Future.succeededFuture(body == null ? "" : body);
+            });
+    }
+
+    /**
+     * Closes the pooled connections.
+     */
+    public void close() {
+        client.close();
+    }
+}
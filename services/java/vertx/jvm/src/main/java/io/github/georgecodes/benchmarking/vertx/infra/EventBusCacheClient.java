@@ -0,0 +1,44 @@
+package io.github.georgecodes.benchmarking.vertx.infra;
+
+import io.github.georgecodes.benchmarking.vertx.domain.HelloService;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.EventBus;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * Reads the hello cache through the {@link CacheVerticle} with local event-bus request/reply. The key is picked
+ * by the caller's {@link HelloService}, so the access pattern is the same as with direct reads.
+ */
+public final class EventBusCacheClient {
+
+    /** Event bus of the calling verticle. */
+    private final EventBus eventBus;
+
+    /** Picks the key of each lookup. */
+    private final HelloService keySource;
+
+    /** Pending count and round-trip time. */
+    private final EventBusCacheMetrics metrics;
+
+    public EventBusCacheClient(Vertx vertx, HelloService keySource, EventBusCacheMetrics metrics) {
+        this.eventBus = Objects.requireNonNull(vertx, "vertx").eventBus();
+        this.keySource = Objects.requireNonNull(keySource, "keySource");
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
+    }
+
+    /**
+     * Asks the cache verticle for the value behind the next key. Completes on the calling event loop.
+     *
+     * @return the cached value, {@code null} on a miss; fails when no cache verticle is deployed
+     */
+    public Future<@Nullable String> cachedValue() {
+        var lookup = new CacheVerticle.Lookup(keySource.nextKey());
+        long start = metrics.sent();
+        return eventBus.<CacheVerticle.Entry>request(CacheVerticle.ADDRESS, lookup)
+            .andThen(_ -> metrics.completed(start))
+            .map(reply -> reply.body().value());
+    }
+}
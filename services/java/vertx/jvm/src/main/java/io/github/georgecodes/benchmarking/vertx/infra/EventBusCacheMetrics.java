@@ -0,0 +1,78 @@
+package io.github.georgecodes.benchmarking.vertx.infra;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records the cost of event-bus cache lookups ({@code VERTX_CACHE_ACCESS=eventbus}):
+ * {@code hello.cache.eventbus.pending} is the number of requests sent and not yet answered, and
+ * {@code hello.cache.eventbus.time} the round trip from send to reply on the requesting event loop.
+ *
+ * <p>The Vert.x Micrometer metrics add the bus's own view, e.g. {@code vertx.eventbus.pending} for messages
+ * delivered to the cache verticle but not yet processed.
+ */
+public final class EventBusCacheMetrics {
+
+    /** Lookups sent and not yet answered. */
+    private final AtomicLong pending;
+
+    /** Send-to-reply time of lookups. */
+    private final Timer roundTrip;
+
+    private EventBusCacheMetrics(AtomicLong pending, Timer roundTrip) {
+        this.pending = pending;
+        this.roundTrip = roundTrip;
+    }
+
+    /**
+     * Registers the event-bus cache meters.
+     *
+     * @param registry registry to register with
+     * @return the recorder
+     */
+    public static EventBusCacheMetrics create(MeterRegistry registry) {
+        Objects.requireNonNull(registry, "registry");
+        AtomicLong pending = new AtomicLong();
+        Gauge.builder("hello.cache.eventbus.pending", pending, AtomicLong::get)
+            .description("Event-bus cache lookups sent and not yet answered")
+            .register(registry);
+        Timer roundTrip = Timer.builder("hello.cache.eventbus.time")
+            .description("Round trip of an event-bus cache lookup, from send to reply")
+            .register(registry);
+        return new EventBusCacheMetrics(pending, roundTrip);
+    }
+
+    /**
+     * Marks a lookup as sent.
+     *
+     * @return start time to pass to {@link #completed(long)}
+     */
+    long sent() {
+        pending.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    /**
+     * Marks a lookup as answered, successfully or not.
+     *
+     * @param startNanos value returned by {@link #sent()}
+     */
+    void completed(long startNanos) {
+        pending.decrementAndGet();
+        roundTrip.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the lookups currently awaiting a reply.
+     *
+     * @return pending lookups
+     */
+    public long pending() {
+        return pending.get();
+    }
+}
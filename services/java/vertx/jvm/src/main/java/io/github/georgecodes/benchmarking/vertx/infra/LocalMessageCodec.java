@@ -0,0 +1,62 @@
+package io.github.georgecodes.benchmarking.vertx.infra;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.MessageCodec;
+
+import java.util.Objects;
+
+/**
+ * Pass-through event-bus codec for immutable messages that never leave the JVM: a local send hands the
+ * receiver the sender's instance, so there is no serialisation and no copy. Wire encoding is refused.
+ *
+ * @param <T> immutable message type, typically a record
+ */
+public final class LocalMessageCodec<T> implements MessageCodec<T, T> {
+
+    /** Codec name, the message class name. */
+    private final String name;
+
+    private LocalMessageCodec(Class<T> type) {
+        this.name = type.getName();
+    }
+
+    /**
+     * Registers a pass-through codec as the default codec of {@code type}.
+     *
+     * @param eventBus the event bus to register with
+     * @param type     immutable message type
+     * @param <T>      message type
+     * @throws IllegalStateException if a codec for {@code type} is already registered
+     */
+    public static <T> void register(EventBus eventBus, Class<T> type) {
+        Objects.requireNonNull(eventBus, "eventBus");
+        Objects.requireNonNull(type, "type");
+        eventBus.registerDefaultCodec(type, new LocalMessageCodec<>(type));
+    }
+
+    @Override
+    public void encodeToWire(Buffer buffer, T message) {
+        throw new UnsupportedOperationException(name + " is local only");
+    }
+
+    @Override
+    public T decodeFromWire(int pos, Buffer buffer) {
+        throw new UnsupportedOperationException(name + " is local only");
+    }
+
+    @Override
+    public T transform(T message) {
+        return message;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public byte systemCodecID() {
+        return -1;
+    }
+}
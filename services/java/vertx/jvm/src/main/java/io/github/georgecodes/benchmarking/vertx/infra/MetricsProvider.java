@@ -1,12 +1,20 @@
 package io.github.georgecodes.benchmarking.vertx.infra;
 
+import io.github.georgecodes.benchmarking.vertx.domain.HelloMode;
+import io.github.georgecodes.benchmarking.vertx.domain.HelloService;
+import io.github.georgecodes.benchmarking.vertx.domain.StreamBacklog;
 import io.github.mweirauch.micrometer.jvm.extras.ProcessMemoryMetrics;
 import io.github.mweirauch.micrometer.jvm.extras.ProcessThreadMetrics;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Metrics;
 
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Binds custom/extra metrics to Micrometer's global registry and provides
@@ -18,8 +26,33 @@ public final class MetricsProvider {
     /** Pre-registered counter for reactive endpoint requests. */
     private final Counter reactiveCounter;
 
-    private MetricsProvider(Counter reactiveCounter) {
+    /** Pre-registered counter for unary gRPC hello calls. */
+    private final Counter grpcCounter;
+
+    /** Pre-registered counter for worker-verticle hello requests. */
+    private final Counter platformCounter;
+
+    /** Pre-registered counter for virtual-thread-verticle hello requests. */
+    private final Counter virtualCounter;
+
+    /** Peak outstanding bytes per {@code /hello/stream} connection. */
+    private final DistributionSummary streamOutstandingPeak;
+
+    /** Request body bytes of {@code /hello/echo}. */
+    private final Counter echoRequestBytes;
+
+    private MetricsProvider(Counter reactiveCounter,
+                            Counter grpcCounter,
+                            Counter platformCounter,
+                            Counter virtualCounter,
+                            DistributionSummary streamOutstandingPeak,
+                            Counter echoRequestBytes) {
         this.reactiveCounter = Objects.requireNonNull(reactiveCounter, "reactiveCounter");
+        this.grpcCounter = Objects.requireNonNull(grpcCounter, "grpcCounter");
+        this.platformCounter = Objects.requireNonNull(platformCounter, "platformCounter");
+        this.virtualCounter = Objects.requireNonNull(virtualCounter, "virtualCounter");
+        this.streamOutstandingPeak = Objects.requireNonNull(streamOutstandingPeak, "streamOutstandingPeak");
+        this.echoRequestBytes = Objects.requireNonNull(echoRequestBytes, "echoRequestBytes");
     }
 
     /**
@@ -37,8 +70,94 @@ public final class MetricsProvider {
             .description("Hello request count")
             .tag("endpoint", endpointTag)
             .register(registry);
+        Counter grpcCounter = Counter.builder("hello.request.count")
+            .description("Hello request count")
+            .tag("endpoint", HelloMode.GRPC.endpointTag())
+            .register(registry);
+        Counter platformCounter = Counter.builder("hello.request.count")
+            .description("Hello request count")
+            .tag("endpoint", HelloMode.PLATFORM.endpointTag())
+            .register(registry);
+        Counter virtualCounter = Counter.builder("hello.request.count")
+            .description("Hello request count")
+            .tag("endpoint", HelloMode.VIRTUAL.endpointTag())
+            .register(registry);
+        DistributionSummary streamOutstandingPeak = DistributionSummary.builder("hello.stream.outstanding.peak")
+            .description("Peak bytes of a hello stream produced but not yet taken by its connection")
+            .baseUnit("bytes")
+            .register(registry);
+        Counter echoRequestBytes = Counter.builder("hello.echo.request.bytes")
+            .description("Request body bytes received by the echo endpoint")
+            .baseUnit("bytes")
+            .register(registry);
+
+        return new MetricsProvider(counter, grpcCounter, platformCounter, virtualCounter, streamOutstandingPeak,
+            echoRequestBytes);
+    }
+
+    /**
+     * Exports the hello cache miss count as {@code hello.cache.miss.count}.
+     *
+     * @param helloService the service whose lookups are counted
+     */
+    public void registerCacheMissCounter(HelloService helloService) {
+        registerCacheMissCounter(List.of(helloService));
+    }
+
+    /**
+     * Exports the summed cache miss count of several services, e.g. one per cache shard.
+     *
+     * @param helloServices the services whose lookups are counted
+     */
+    public void registerCacheMissCounter(List<HelloService> helloServices) {
+        List<HelloService> services = List.copyOf(helloServices);
+        FunctionCounter.builder("hello.cache.miss.count", services,
+                all -> all.stream().mapToLong(HelloService::cacheMisses).sum())
+            .description("Hello cache lookups that found no entry")
+            .register(Metrics.globalRegistry);
+    }
 
-        return new MetricsProvider(counter);
+    /**
+     * Exports the CPU time spent on requested {@code work} as the {@code hello.work.cpu.time} timer.
+     *
+     * @param helloService the service performing the work
+     */
+    public void registerWorkCpuTimer(HelloService helloService) {
+        registerWorkCpuTimer(List.of(helloService));
+    }
+
+    /**
+     * Exports the summed work CPU time of several services, e.g. one per cache shard.
+     *
+     * @param helloServices the services performing the work
+     */
+    public void registerWorkCpuTimer(List<HelloService> helloServices) {
+        List<HelloService> services = List.copyOf(helloServices);
+        FunctionTimer.builder("hello.work.cpu.time", services,
+                all -> all.stream().mapToLong(HelloService::workRequests).sum(),
+                all -> all.stream().mapToLong(HelloService::workCpuNanos).sum(),
+                TimeUnit.NANOSECONDS)
+            .description("CPU time spent on the work query parameter")
+            .register(Metrics.globalRegistry);
+    }
+
+    /**
+     * Starts tracking a {@code /hello/stream} connection; its peak is recorded as
+     * {@code hello.stream.outstanding.peak} when the backlog is closed.
+     *
+     * @return the backlog of the new stream
+     */
+    public StreamBacklog openStream() {
+        return new StreamBacklog(streamOutstandingPeak::record);
+    }
+
+    /**
+     * Counts the body of one {@code /hello/echo} request.
+     *
+     * @param bytes request body bytes
+     */
+    public void recordEchoRequestBytes(long bytes) {
+        echoRequestBytes.increment(bytes);
     }
 
     /**
@@ -47,4 +166,25 @@ public final class MetricsProvider {
     public void incrementReactive() {
         reactiveCounter.increment();
     }
-}
\ No newline at end of file
+
+    /**
+     * Increments the unary gRPC hello call counter.
+     */
+    public void incrementGrpc() {
+        grpcCounter.increment();
+    }
+
+    /**
+     * Increments the worker-verticle hello request counter.
+     */
+    public void incrementPlatform() {
+        platformCounter.increment();
+    }
+
+    /**
+     * Increments the virtual-thread-verticle hello request counter.
+     */
+    public void incrementVirtual() {
+        virtualCounter.increment();
+    }
+}
@@ -0,0 +1,16 @@
+package io.github.georgecodes.benchmarking.vertx.infra;
+
+import io.github.georgecodes.benchmarking.vertx.domain.SleepPort;
+
+/**
+ * {@link SleepPort} on {@link Thread#sleep}: holds the worker thread, as blocking code on a platform thread does.
+ */
+public final class ThreadSleepAdapter implements SleepPort {
+
+    @Override
+    public void sleep(long millis) throws InterruptedException {
+        if (millis > 0) {
+            Thread.sleep(millis);
+        }
+    }
+}
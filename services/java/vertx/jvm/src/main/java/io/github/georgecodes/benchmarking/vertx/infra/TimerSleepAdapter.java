@@ -0,0 +1,28 @@
+package io.github.georgecodes.benchmarking.vertx.infra;
+
+import io.github.georgecodes.benchmarking.vertx.domain.SleepPort;
+import io.vertx.core.Vertx;
+
+import java.util.Objects;
+
+/**
+ * {@link SleepPort} for virtual-thread verticles: awaits a Vert.x timer, which parks the virtual thread and lets
+ * its context run other events meanwhile. {@link Thread#sleep} would keep the context busy, so one verticle
+ * instance would serve one request at a time.
+ */
+public final class TimerSleepAdapter implements SleepPort {
+
+    /** Vert.x instance owning the timers. */
+    private final Vertx vertx;
+
+    public TimerSleepAdapter(Vertx vertx) {
+        this.vertx = Objects.requireNonNull(vertx, "vertx");
+    }
+
+    @Override
+    public void sleep(long millis) {
+        if (millis > 0) {
+            vertx.timer(millis).await();
+        }
+    }
+}
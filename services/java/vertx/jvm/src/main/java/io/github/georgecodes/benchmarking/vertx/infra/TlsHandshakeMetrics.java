@@ -0,0 +1,236 @@
+package io.github.georgecodes.benchmarking.vertx.infra;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.handler.ssl.ClientAuth;
+import io.netty.handler.ssl.DelegatingSslContext;
+import io.netty.handler.ssl.ReferenceCountedOpenSslEngine;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.internal.tcnative.SSL;
+import io.vertx.core.net.JdkSSLEngineOptions;
+import io.vertx.core.net.SSLEngineOptions;
+import io.vertx.core.spi.tls.SslContextFactory;
+import org.jspecify.annotations.Nullable;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLException;
+import javax.net.ssl.SSLSession;
+import javax.net.ssl.TrustManagerFactory;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the TLS handshakes of accepted connections as {@code tls.handshake.count} (tagged {@code resumed})
+ * and the duration of full handshakes as {@code tls.handshake.time}, both tagged with the engine.
+ *
+ * <p>The server's engine options are wrapped with {@link #meter(SSLEngineOptions)} so every connection's
+ * {@link SslHandler} passes through here when it is created: the handshake is timed from then until its
+ * {@link SslHandler#handshakeFuture() handshake future} completes. Resumption is read from the engine itself —
+ * OpenSSL reports it natively, while a JDK session counts as resumed when it was already seen on an earlier
+ * connection or was created before this handshake started.
+ */
+public final class TlsHandshakeMetrics {
+
+    /** Session value marking a session already recorded on an earlier connection. */
+    static final String RECORDED = "benchmarking.tls.recorded";
+
+    /** Handshakes that created a new session. */
+    private final Counter fullHandshakes;
+
+    /** Handshakes that resumed an earlier session. */
+    private final Counter resumedHandshakes;
+
+    /** Server-side duration of full handshakes. */
+    private final Timer handshakeTime;
+
+    private TlsHandshakeMetrics(Counter fullHandshakes, Counter resumedHandshakes, Timer handshakeTime) {
+        this.fullHandshakes = fullHandshakes;
+        this.resumedHandshakes = resumedHandshakes;
+        this.handshakeTime = handshakeTime;
+    }
+
+    /**
+     * Registers the handshake meters.
+     *
+     * @param registry registry to register with
+     * @param engine   {@code engine} tag value, e.g. {@code jdk} or {@code openssl}
+     * @return the recorder
+     */
+    public static TlsHandshakeMetrics create(MeterRegistry registry, String engine) {
+        Objects.requireNonNull(registry, "registry");
+        Objects.requireNonNull(engine, "engine");
+        Counter full = Counter.builder("tls.handshake.count")
+            .description("TLS handshakes of accepted connections")
+            .tag("engine", engine)
+            .tag("resumed", "false")
+            .register(registry);
+        Counter resumed = Counter.builder("tls.handshake.count")
+            .description("TLS handshakes of accepted connections")
+            .tag("engine", engine)
+            .tag("resumed", "true")
+            .register(registry);
+        Timer time = Timer.builder("tls.handshake.time")
+            .description("Server-side duration of full TLS handshakes, from the connection's SslHandler being"
+                + " created to the handshake completing")
+            .tag("engine", engine)
+            .register(registry);
+        return new TlsHandshakeMetrics(full, resumed, time);
+    }
+
+    /**
+     * Wraps engine options so the handshakes of the connections they secure are recorded here.
+     *
+     * @param options the server's engine options, or {@code null} for the JDK engine Vert.x defaults to
+     * @return options creating the same SSL contexts, with every handler tracked
+     */
+    public SSLEngineOptions meter(@Nullable SSLEngineOptions options) {
+        return new MeteredEngineOptions(options == null ? new JdkSSLEngineOptions() : options);
+    }
+
+    /** Times the handshake of a handler that has just been created and records it once it succeeds. */
+    void track(SslHandler handler) {
+        long startMillis = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        handler.handshakeFuture().addListener(future -> {
+            if (future.isSuccess()) {
+                SSLEngine engine = handler.engine();
+                SSLSession session = engine.getSession();
+                record(session, resumed(engine, session, startMillis), System.nanoTime() - startNanos);
+            }
+        });
+    }
+
+    void record(SSLSession session, boolean resumed, long durationNanos) {
+        if (resumed) {
+            resumedHandshakes.increment();
+            return;
+        }
+        session.putValue(RECORDED, Boolean.TRUE);
+        fullHandshakes.increment();
+        handshakeTime.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Whether the handshake resumed an earlier session. OpenSSL stamps creation times in whole seconds, so
+     * its own flag is the only reliable signal there.
+     */
+    private static boolean resumed(SSLEngine engine, SSLSession session, long startMillis) {
+        if (engine instanceof ReferenceCountedOpenSslEngine openSsl) {
+            long ssl = openSsl.sslPointer();
+            return ssl != 0L && SSL.isSessionReused(ssl);
+        }
+        return seenBefore(session, startMillis);
+    }
+
+    /** JDK sessions carry no resumption flag: a resumed one is either known already or predates the handshake. */
+    static boolean seenBefore(SSLSession session, long startMillis) {
+        return session.getValue(RECORDED) != null || session.getCreationTime() < startMillis;
+    }
+
+    /** Engine options whose contexts hand every new handler to {@link #track(SslHandler)}. */
+    private final class MeteredEngineOptions extends SSLEngineOptions {
+
+        private final SSLEngineOptions delegate;
+
+        MeteredEngineOptions(SSLEngineOptions delegate) {
+            super(delegate);
+            this.delegate = delegate;
+        }
+
+        @Override
+        public SSLEngineOptions copy() {
+            return new MeteredEngineOptions(delegate.copy());
+        }
+
+        @Override
+        public SslContextFactory sslContextFactory() {
+            return new MeteredContextFactory(delegate.sslContextFactory());
+        }
+    }
+
+    /** Forwards the configuration to the engine's own factory and wraps the context it creates. */
+    private final class MeteredContextFactory implements SslContextFactory {
+
+        private final SslContextFactory delegate;
+
+        MeteredContextFactory(SslContextFactory delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public SslContextFactory useAlpn(boolean useAlpn) {
+            delegate.useAlpn(useAlpn);
+            return this;
+        }
+
+        @Override
+        public SslContextFactory clientAuth(ClientAuth clientAuth) {
+            delegate.clientAuth(clientAuth);
+            return this;
+        }
+
+        @Override
+        public SslContextFactory forClient(boolean forClient) {
+            delegate.forClient(forClient);
+            return this;
+        }
+
+        @Override
+        public SslContextFactory keyMananagerFactory(KeyManagerFactory kmf) {
+            delegate.keyMananagerFactory(kmf);
+            return this;
+        }
+
+        @Override
+        public SslContextFactory trustManagerFactory(TrustManagerFactory tmf) {
+            delegate.trustManagerFactory(tmf);
+            return this;
+        }
+
+        @Override
+        public SslContextFactory enabledCipherSuites(Set<String> enabledCipherSuites) {
+            delegate.enabledCipherSuites(enabledCipherSuites);
+            return this;
+        }
+
+        @Override
+        public SslContextFactory applicationProtocols(List<String> applicationProtocols) {
+            delegate.applicationProtocols(applicationProtocols);
+            return this;
+        }
+
+        @Override
+        public SslContextFactory serverName(String serverName) {
+            delegate.serverName(serverName);
+            return this;
+        }
+
+        @Override
+        public SslContext create() throws SSLException {
+            return new MeteredSslContext(delegate.create());
+        }
+    }
+
+    /** Context tracking each handler it creates; engines created without a handler are not connections. */
+    private final class MeteredSslContext extends DelegatingSslContext {
+
+        MeteredSslContext(SslContext context) {
+            super(context);
+        }
+
+        @Override
+        protected void initEngine(SSLEngine engine) {
+            // Nothing to configure; the engine is read once its handler's handshake completes.
+        }
+
+        @Override
+        protected void initHandler(SslHandler handler) {
+            track(handler);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package io.github.georgecodes.benchmarking.vertx.web;
+
+/**
+ * Event-bus message from the HTTP verticle to a {@link BlockingHelloVerticle}: the already parsed and sampled
+ * request parameters. Sent by reference through a local codec.
+ *
+ * @param sleepMillis delay to block for
+ * @param work        kilobytes of CPU work
+ * @param log         whether to log the serving thread
+ */
+record BlockingHelloRequest(long sleepMillis, int work, boolean log) {
+}
@@ -0,0 +1,100 @@
+package io.github.georgecodes.benchmarking.vertx.web;
+
+import io.github.georgecodes.benchmarking.vertx.domain.HelloMode;
+import io.github.georgecodes.benchmarking.vertx.domain.HelloService;
+import io.github.georgecodes.benchmarking.vertx.domain.SleepPort;
+import io.github.georgecodes.benchmarking.vertx.infra.LocalMessageCodec;
+import io.github.georgecodes.benchmarking.vertx.infra.ThreadSleepAdapter;
+import io.github.georgecodes.benchmarking.vertx.infra.TimerSleepAdapter;
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.ThreadingModel;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.Message;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+
+/**
+ * Serves {@code /hello/platform} or {@code /hello/virtual} in blocking style: consumes the
+ * {@link BlockingHelloRequest}s that {@link BlockingRoutes} sends on the event bus, sleeps, works and replies
+ * with the hello body.
+ *
+ * <p>The threading model of the deployment decides where the handler runs. As a {@link ThreadingModel#WORKER}
+ * verticle it holds a worker-pool thread for the whole request ({@link ThreadSleepAdapter}), so each instance
+ * serves one request at a time. As a {@link ThreadingModel#VIRTUAL_THREAD} verticle every message runs on its
+ * own virtual thread and the sleep awaits a timer ({@link TimerSleepAdapter}), so one instance interleaves
+ * any number of requests.
+ */
+public final class BlockingHelloVerticle extends AbstractVerticle {
+
+    /** Logger for request/thread debug output. */
+    private static final Logger LOG = LoggerFactory.getLogger(BlockingHelloVerticle.class);
+
+    /** Mode served, {@link HelloMode#PLATFORM} or {@link HelloMode#VIRTUAL}. */
+    private final HelloMode mode;
+
+    /** Pure domain logic for hello responses. */
+    private final HelloService helloService;
+
+    /** Blocking delay matching the deployment's threading model, chosen on start. */
+    private @Nullable SleepPort sleepPort;
+
+    public BlockingHelloVerticle(HelloMode mode, HelloService helloService) {
+        this.mode = Objects.requireNonNull(mode, "mode");
+        this.helloService = Objects.requireNonNull(helloService, "helloService");
+    }
+
+    /**
+     * Registers the codec of the requests {@link BlockingRoutes} sends; call once per {@link Vertx} instance
+     * before the first request.
+     *
+     * @param eventBus the event bus to register with
+     */
+    public static void registerCodec(EventBus eventBus) {
+        LocalMessageCodec.register(eventBus, BlockingHelloRequest.class);
+    }
+
+    /**
+     * Returns the event-bus address of a mode's verticles.
+     *
+     * @param mode {@link HelloMode#PLATFORM} or {@link HelloMode#VIRTUAL}
+     * @return the address
+     */
+    static String address(HelloMode mode) {
+        return "hello." + mode.label();
+    }
+
+    @Override
+    public void start() {
+        sleepPort = context.threadingModel() == ThreadingModel.VIRTUAL_THREAD
+            ? new TimerSleepAdapter(vertx)
+            : new ThreadSleepAdapter();
+        vertx.eventBus().<BlockingHelloRequest>localConsumer(address(mode), this::handle);
+    }
+
+    private void handle(Message<BlockingHelloRequest> message) {
+        BlockingHelloRequest request = message.body();
+        if (request.log()) {
+            var currentThread = Thread.currentThread();
+            LOG.info("{} thread: '{}', isVirtual: '{}'", mode.label(), currentThread, currentThread.isVirtual());
+        }
+        try {
+            Objects.requireNonNull(sleepPort, "sleepPort").sleep(request.sleepMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            message.fail(500, "interrupted");
+            return;
+        }
+        try {
+            helloService.work(request.work());
+        } catch (IllegalArgumentException e) {
+            // Fail the message rather than throw, so the sender is not left waiting for the reply timeout.
+            message.fail(400, e.getMessage());
+            return;
+        }
+        message.reply(helloService.handle(mode));
+    }
+}
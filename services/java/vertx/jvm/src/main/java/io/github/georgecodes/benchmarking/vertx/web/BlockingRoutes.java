@@ -0,0 +1,104 @@
+package io.github.georgecodes.benchmarking.vertx.web;
+
+import io.github.georgecodes.benchmarking.vertx.domain.CpuWork;
+import io.github.georgecodes.benchmarking.vertx.domain.HelloMode;
+import io.github.georgecodes.benchmarking.vertx.domain.LatencyProfile;
+import io.github.georgecodes.benchmarking.vertx.infra.MetricsProvider;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.ReplyException;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+
+import java.util.Objects;
+
+import static io.github.georgecodes.benchmarking.vertx.web.HelloRoutes.badRequest;
+import static io.github.georgecodes.benchmarking.vertx.web.HelloRoutes.parseBoolParam;
+import static io.github.georgecodes.benchmarking.vertx.web.HelloRoutes.parseIntParam;
+import static io.github.georgecodes.benchmarking.vertx.web.HelloRoutes.parseLongParam;
+
+/**
+ * HTTP routes for {@code GET /hello/platform} and {@code GET /hello/virtual}.
+ *
+ * <p>The shared HTTP server round-robins connections over the event-loop verticles, so the blocking modes cannot
+ * own a server of their own. The event loop parses the request and hands it over the local event bus to the
+ * {@link BlockingHelloVerticle}s of the mode, deployed as worker or virtual-thread verticles; their reply is
+ * written back on the event loop. Consumers that are not deployed answer {@code 503}; invalid parameters are
+ * rejected with {@code 400} before the hop.
+ */
+public final class BlockingRoutes {
+
+    /** Content-Type header value. */
+    private static final String APPLICATION_JSON = "application/json";
+
+    /** Reply timeout on top of the requested sleep, matching the event bus default. */
+    static final long REPLY_TIMEOUT_MILLIS = DeliveryOptions.DEFAULT_TIMEOUT;
+
+    /** Metrics for the blocking endpoints. */
+    private final MetricsProvider metricsProvider;
+
+    /** Distribution applied to the requested sleep unless the request overrides it. */
+    private final LatencyProfile latencyProfile;
+
+    public BlockingRoutes(MetricsProvider metricsProvider, LatencyProfile latencyProfile) {
+        this.metricsProvider = Objects.requireNonNull(metricsProvider, "metricsProvider");
+        this.latencyProfile = Objects.requireNonNull(latencyProfile, "latencyProfile");
+    }
+
+    /**
+     * Registers the blocking routes on the given router.
+     *
+     * @param router the Vert.x web router
+     * @param vertx  the Vert.x instance whose event bus reaches the blocking verticles
+     */
+    public void register(Router router, Vertx vertx) {
+        Objects.requireNonNull(router, "router");
+        Objects.requireNonNull(vertx, "vertx");
+
+        router.get(HelloMode.PLATFORM.endpointTag()).handler(ctx -> {
+            metricsProvider.incrementPlatform();
+            forward(ctx, vertx, HelloMode.PLATFORM);
+        });
+        router.get(HelloMode.VIRTUAL.endpointTag()).handler(ctx -> {
+            metricsProvider.incrementVirtual();
+            forward(ctx, vertx, HelloMode.VIRTUAL);
+        });
+    }
+
+    private void forward(RoutingContext ctx, Vertx vertx, HelloMode mode) {
+        long sleepMillis;
+        int work;
+        try {
+            int sleepSeconds = parseIntParam(ctx.queryParam("sleep"));
+            sleepMillis = latencyProfile.override(ctx.queryParams().get("latency"))
+                .sampleMillis(sleepSeconds * 1000L + parseLongParam(ctx.queryParam("sleepMs")));
+            // Validated before the hop: the verticle would otherwise fail after sleeping.
+            work = CpuWork.checkKilobytes(parseIntParam(ctx.queryParam("work")));
+        } catch (IllegalArgumentException e) {
+            badRequest(ctx, e);
+            return;
+        }
+        var request = new BlockingHelloRequest(sleepMillis, work, parseBoolParam(ctx.queryParam("log")));
+
+        vertx.eventBus()
+            .<String>request(BlockingHelloVerticle.address(mode), request,
+                new DeliveryOptions().setSendTimeout(sleepMillis + REPLY_TIMEOUT_MILLIS))
+            .onComplete(ar -> {
+                var response = ctx.response();
+                if (ar.succeeded()) {
+                    response.setStatusCode(200)
+                        .putHeader("content-type", APPLICATION_JSON)
+                        .end("\"" + ar.result().body() + "\"");
+                    return;
+                }
+                int status = !(ar.cause() instanceof ReplyException e) ? 500 : switch (e.failureType()) {
+                    case NO_HANDLERS -> 503;
+                    case RECIPIENT_FAILURE -> e.failureCode();
+                    default -> 500;
+                };
+                response.setStatusCode(status)
+                    .putHeader("content-type", "text/plain")
+                    .end(String.valueOf(ar.cause().getMessage()));
+            });
+    }
+}
@@ -0,0 +1,52 @@
+package io.github.georgecodes.benchmarking.vertx.web;
+
+import io.github.georgecodes.benchmarking.vertx.domain.HelloService;
+import io.github.georgecodes.benchmarking.vertx.infra.DownstreamClient;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+
+import java.util.Objects;
+
+/**
+ * HTTP route for {@code GET /hello/chain}: one cache read, then a call to the downstream through the verticle's
+ * own {@link DownstreamClient}. The event loop is released while the response is outstanding; a failed or
+ * non-2xx downstream call answers {@code 502}.
+ */
+public final class ChainRoutes {
+
+    /** Response prefix of {@code /hello/chain}. */
+    static final String PREFIX = "Hello from Vertx chain REST ";
+
+    /** Pure domain logic for the cache read. */
+    private final HelloService helloService;
+
+    /** Outbound client bound to this verticle's event loop. */
+    private final DownstreamClient downstream;
+
+    public ChainRoutes(HelloService helloService, DownstreamClient downstream) {
+        this.helloService = Objects.requireNonNull(helloService, "helloService");
+        this.downstream = Objects.requireNonNull(downstream, "downstream");
+    }
+
+    /**
+     * Registers the chain route on the given router.
+     *
+     * @param router the Vert.x web router
+     */
+    public void register(Router router) {
+        Objects.requireNonNull(router, "router");
+        router.get("/hello/chain").handler(this::handleChain);
+    }
+
+    private void handleChain(RoutingContext ctx) {
+        String value = helloService.cachedValue();
+        downstream.get().onComplete(ar -> {
+            var response = ctx.response().putHeader("content-type", "text/plain");
+            if (ar.succeeded()) {
+                response.setStatusCode(200).end(PREFIX + value + " <- " + ar.result());
+            } else {
+                response.setStatusCode(502).end(String.valueOf(ar.cause().getMessage()));
+            }
+        });
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.georgecodes.benchmarking.vertx.web;
+
+import io.github.georgecodes.benchmarking.vertx.domain.EchoRequest;
+import io.github.georgecodes.benchmarking.vertx.domain.EchoResponse;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maps {@code /hello/echo} bodies between Vert.x {@link JsonObject} trees and the domain records.
+ *
+ * <p>Vert.x parses with jackson-core only (no databind), so binding is done by hand.
+ */
+final class EchoJson {
+
+    private EchoJson() {
+    }
+
+    /**
+     * Maps a parsed body onto an {@link EchoRequest}.
+     *
+     * @param body parsed JSON body, {@code null} for an empty or {@code null} document
+     * @return bound request
+     * @throws IllegalArgumentException if the body, {@code items} or an item key is missing, or there are too many
+     *                                  items
+     * @throws ClassCastException       if a member has the wrong JSON type
+     */
+    static EchoRequest read(@Nullable JsonObject body) {
+        if (body == null) {
+            throw new IllegalArgumentException("body is required");
+        }
+        JsonArray items = body.getJsonArray("items");
+        if (items == null) {
+            throw new IllegalArgumentException("items is required");
+        }
+        if (items.size() > EchoRequest.MAX_ITEMS) {
+            throw new IllegalArgumentException("items must hold at most " + EchoRequest.MAX_ITEMS + " entries");
+        }
+        List<EchoRequest.Item> bound = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            JsonObject item = items.getJsonObject(i);
+            if (item == null) {
+                throw new IllegalArgumentException("items[" + i + "] is null");
+            }
+            bound.add(new EchoRequest.Item(item.getString("key"), item.getString("payload")));
+        }
+        return new EchoRequest(bound);
+    }
+
+    /**
+     * Renders an {@link EchoResponse} as a JSON object.
+     *
+     * @param response domain result
+     * @return JSON body
+     */
+    static JsonObject write(EchoResponse response) {
+        JsonArray items = new JsonArray(new ArrayList<>(response.items().size()));
+        for (EchoResponse.Item item : response.items()) {
+            items.add(new JsonObject()
+                .put("key", item.key())
+                .put("payload", item.payload())
+                .put("value", item.value()));
+        }
+        return new JsonObject()
+            .put("count", response.count())
+            .put("items", items);
+    }
+}
@@ -0,0 +1,179 @@
+package io.github.georgecodes.benchmarking.vertx.web;
+
+import io.github.georgecodes.benchmarking.vertx.domain.CpuWork;
+import io.github.georgecodes.benchmarking.vertx.domain.HelloMode;
+import io.github.georgecodes.benchmarking.vertx.domain.HelloService;
+import io.github.georgecodes.benchmarking.vertx.domain.HelloStream;
+import io.github.georgecodes.benchmarking.vertx.domain.LatencyProfile;
+import io.github.georgecodes.benchmarking.vertx.grpc.HelloReply;
+import io.github.georgecodes.benchmarking.vertx.grpc.HelloRequest;
+import io.github.georgecodes.benchmarking.vertx.grpc.StreamRequest;
+import io.github.georgecodes.benchmarking.vertx.infra.MetricsProvider;
+import io.vertx.core.Vertx;
+import io.vertx.ext.web.Router;
+import io.vertx.grpc.common.GrpcMessageDecoder;
+import io.vertx.grpc.common.GrpcMessageEncoder;
+import io.vertx.grpc.common.GrpcStatus;
+import io.vertx.grpc.common.ServiceMethod;
+import io.vertx.grpc.common.ServiceName;
+import io.vertx.grpc.server.GrpcServer;
+import io.vertx.grpc.server.GrpcServerRequest;
+import io.vertx.grpc.server.GrpcServerResponse;
+
+import java.util.Objects;
+
+/**
+ * gRPC routes for the {@code benchmarking.hello.v1.Hello} service ({@code src/main/proto/hello.proto}), served by
+ * a Vert.x {@link GrpcServer} mounted on the verticle's router, so gRPC shares the REST port over HTTP/2 cleartext.
+ *
+ * <p>Methods are bound from the protobuf messages alone ({@link ServiceMethod} with protobuf codecs), without
+ * generated service stubs. Both calls run on the event loop like {@code /hello/reactive}: {@code SayHello} sleeps
+ * with {@code vertx.setTimer} and {@code StreamHello} paces its replies against {@code writeQueueFull()}.
+ */
+public final class GrpcRoutes {
+
+    /** Fully qualified name of the service in {@code hello.proto}. */
+    static final ServiceName SERVICE = ServiceName.create("benchmarking.hello.v1", "Hello");
+
+    /** Unary call: one cache lookup per request. */
+    static final ServiceMethod<HelloRequest, HelloReply> SAY_HELLO = ServiceMethod.server(SERVICE, "SayHello",
+        GrpcMessageEncoder.encoder(), GrpcMessageDecoder.decoder(HelloRequest.newBuilder()));
+
+    /** Server-streaming call: the gRPC counterpart of {@code /hello/stream}. */
+    static final ServiceMethod<StreamRequest, HelloReply> STREAM_HELLO = ServiceMethod.server(SERVICE, "StreamHello",
+        GrpcMessageEncoder.encoder(), GrpcMessageDecoder.decoder(StreamRequest.newBuilder()));
+
+    /** Pure domain logic for hello responses. */
+    private final HelloService helloService;
+
+    /** Metrics for the unary call. */
+    private final MetricsProvider metricsProvider;
+
+    /** Distribution applied to the requested sleep. */
+    private final LatencyProfile latencyProfile;
+
+    public GrpcRoutes(HelloService helloService, MetricsProvider metricsProvider, LatencyProfile latencyProfile) {
+        this.helloService = Objects.requireNonNull(helloService, "helloService");
+        this.metricsProvider = Objects.requireNonNull(metricsProvider, "metricsProvider");
+        this.latencyProfile = Objects.requireNonNull(latencyProfile, "latencyProfile");
+    }
+
+    /**
+     * Creates this verticle's gRPC server and mounts it for every {@code application/grpc} request.
+     *
+     * @param router the Vert.x web router
+     * @param vertx  the Vert.x instance (needed for timers)
+     */
+    public void register(Router router, Vertx vertx) {
+        Objects.requireNonNull(router, "router");
+        Objects.requireNonNull(vertx, "vertx");
+
+        GrpcServer grpcServer = GrpcServer.server(vertx);
+        grpcServer.callHandler(SAY_HELLO, request -> handleSayHello(request, vertx));
+        grpcServer.callHandler(STREAM_HELLO, request -> handleStreamHello(request, vertx));
+        router.route().consumes("application/grpc").handler(ctx -> grpcServer.handle(ctx.request()));
+    }
+
+    private void handleSayHello(GrpcServerRequest<HelloRequest, HelloReply> request, Vertx vertx) {
+        request.last().onSuccess(hello -> {
+            metricsProvider.incrementGrpc();
+            GrpcServerResponse<HelloRequest, HelloReply> response = request.response();
+            long sleepMillis;
+            int work;
+            try {
+                sleepMillis = latencyProfile.sampleMillis(hello.getSleepMs());
+                // Validated up front, but run after the sleep as on /hello/reactive.
+                work = CpuWork.checkKilobytes(hello.getWork());
+            } catch (IllegalArgumentException e) {
+                invalidArgument(response, e);
+                return;
+            }
+            if (sleepMillis > 0) {
+                vertx.setTimer(sleepMillis, _ -> sayHello(response, work));
+            } else {
+                sayHello(response, work);
+            }
+        });
+    }
+
+    private void sayHello(GrpcServerResponse<HelloRequest, HelloReply> response, int work) {
+        helloService.work(work);
+        response.end(reply(0, helloService.handle(HelloMode.GRPC)));
+    }
+
+    private void handleStreamHello(GrpcServerRequest<StreamRequest, HelloReply> request, Vertx vertx) {
+        request.last().onSuccess(stream -> {
+            GrpcServerResponse<StreamRequest, HelloReply> response = request.response();
+            int elements;
+            long intervalMillis;
+            try {
+                elements = HelloStream.checkElements(stream.getN() == 0 ? HelloStream.DEFAULT_ELEMENTS : stream.getN());
+                intervalMillis = HelloStream.checkInterval(stream.getIntervalMs());
+            } catch (IllegalArgumentException e) {
+                invalidArgument(response, e);
+                return;
+            }
+            String message = helloService.handle(HelloMode.GRPC);
+            new ReplyWriter(vertx, response, message, elements, intervalMillis).resume();
+        });
+    }
+
+    private static void invalidArgument(GrpcServerResponse<?, HelloReply> response, IllegalArgumentException e) {
+        response.status(GrpcStatus.INVALID_ARGUMENT).statusMessage(String.valueOf(e.getMessage())).end();
+    }
+
+    private static HelloReply reply(long seq, String message) {
+        return HelloReply.newBuilder().setSeq(seq).setMessage(message).build();
+    }
+
+    /**
+     * Writes one reply stream on its event loop, pausing while the HTTP/2 stream's write queue is full.
+     */
+    private static final class ReplyWriter {
+
+        private final Vertx vertx;
+        private final GrpcServerResponse<StreamRequest, HelloReply> response;
+        private final String message;
+        private final int elements;
+        private final long intervalMillis;
+        /** Next reply to write. */
+        private int seq;
+        /** Set once the response has ended or the call was cancelled. */
+        private boolean closed;
+
+        ReplyWriter(Vertx vertx,
+                    GrpcServerResponse<StreamRequest, HelloReply> response,
+                    String message,
+                    int elements,
+                    long intervalMillis) {
+            this.vertx = vertx;
+            this.response = response;
+            this.message = message;
+            this.elements = elements;
+            this.intervalMillis = intervalMillis;
+            response.exceptionHandler(_ -> closed = true);
+        }
+
+        void resume() {
+            while (!closed && seq < elements) {
+                if (response.writeQueueFull()) {
+                    // One-shot, as in the HTTP stream: a stale handler would resume again on a later drain.
+                    response.drainHandler(_ -> {
+                        response.drainHandler(null);
+                        resume();
+                    });
+                    return;
+                }
+                response.write(reply(seq++, message));
+                if (intervalMillis > 0 && seq < elements) {
+                    vertx.setTimer(intervalMillis, _ -> resume());
+                    return;
+                }
+            }
+            if (!closed) {
+                closed = true;
+                response.end();
+            }
+        }
+    }
+}
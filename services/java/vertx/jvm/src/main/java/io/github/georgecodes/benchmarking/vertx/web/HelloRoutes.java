@@ -1,11 +1,27 @@
 package io.github.georgecodes.benchmarking.vertx.web;
 
+import io.github.georgecodes.benchmarking.vertx.config.PayloadMode;
+import io.github.georgecodes.benchmarking.vertx.config.ResponseEncoding;
+import io.github.georgecodes.benchmarking.vertx.domain.CpuWork;
+import io.github.georgecodes.benchmarking.vertx.domain.EchoRequest;
 import io.github.georgecodes.benchmarking.vertx.domain.HelloMode;
 import io.github.georgecodes.benchmarking.vertx.domain.HelloService;
+import io.github.georgecodes.benchmarking.vertx.domain.HelloStream;
+import io.github.georgecodes.benchmarking.vertx.domain.LatencyProfile;
+import io.github.georgecodes.benchmarking.vertx.domain.StreamBacklog;
+import io.github.georgecodes.benchmarking.vertx.infra.EventBusCacheClient;
 import io.github.georgecodes.benchmarking.vertx.infra.MetricsProvider;
+import io.netty.buffer.Unpooled;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.handler.BodyHandler;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -17,7 +33,19 @@ import java.util.Objects;
  *
  * <p>All handler code runs on the Vert.x event-loop; blocking operations
  * (e.g., sleep for benchmarking) are dispatched via {@code vertx.setTimer} to
- * avoid blocking the event loop.
+ * avoid blocking the event loop. CPU-bound {@code work} runs on the event loop by design.
+ *
+ * <p>A positive {@code size} replaces the hello body with a {@link Payload} of that many bytes, written
+ * the way its {@link PayloadMode} selects: a fresh heap copy, a wrapped direct buffer, or {@code sendFile}.
+ *
+ * <p>{@code /hello/stream} writes {@link HelloStream} elements to the chunked response as a {@code WriteStream}:
+ * production pauses while {@code writeQueueFull()} and resumes from the {@code drainHandler}.
+ *
+ * <p>{@code POST /hello/echo} buffers the body with a {@link BodyHandler}, parses it into a {@link JsonObject}
+ * and binds it by hand ({@link EchoJson}); every item is one cache lookup on the event loop.
+ *
+ * <p>With an {@link EventBusCacheClient} the {@code /hello/reactive} body is built from a cache lookup sent over
+ * the event bus instead of a direct read.
  */
 public final class HelloRoutes {
 
@@ -27,15 +55,46 @@ public final class HelloRoutes {
     /** Content-Type header value. */
     private static final String APPLICATION_JSON = "application/json";
 
+    /** Content-Type header value for {@code size} payloads. */
+    private static final String APPLICATION_OCTET_STREAM = "application/octet-stream";
+
     /** Pure domain logic for hello responses. */
     private final HelloService helloService;
 
     /** Metrics for the reactive endpoint. */
     private final MetricsProvider metricsProvider;
 
+    /** Shared encoded body, or {@code null} when bodies are built per request. */
+    private final @Nullable PreEncodedResponse preEncoded;
+
+    /** Distribution applied to the requested sleep unless the request overrides it. */
+    private final LatencyProfile latencyProfile;
+
+    /** Body served for the {@code size} query parameter. */
+    private final Payload payload;
+
+    /** Event-bus cache access for the hello body, or {@code null} to read the cache directly. */
+    private final @Nullable EventBusCacheClient cacheClient;
+
     public HelloRoutes(HelloService helloService, MetricsProvider metricsProvider) {
+        this(helloService, metricsProvider, ResponseEncoding.DYNAMIC, LatencyProfile.constant(),
+            Payload.create(PayloadMode.HEAP), null);
+    }
+
+    public HelloRoutes(HelloService helloService,
+                       MetricsProvider metricsProvider,
+                       ResponseEncoding responseEncoding,
+                       LatencyProfile latencyProfile,
+                       Payload payload,
+                       @Nullable EventBusCacheClient cacheClient) {
         this.helloService = Objects.requireNonNull(helloService, "helloService");
         this.metricsProvider = Objects.requireNonNull(metricsProvider, "metricsProvider");
+        this.preEncoded = Objects.requireNonNull(responseEncoding, "responseEncoding") == ResponseEncoding.PRE_ENCODED
+            ? new PreEncodedResponse(HelloMode.REACTIVE, helloService)
+            : null;
+        this.latencyProfile = Objects.requireNonNull(latencyProfile, "latencyProfile");
+        this.payload = Objects.requireNonNull(payload, "payload");
+        this.cacheClient = cacheClient;
     }
 
     /**
@@ -54,12 +113,30 @@ public final class HelloRoutes {
             .end("UP"));
 
         router.get("/hello/reactive").handler(ctx -> handleReactive(ctx, vertx));
+        router.get("/hello/stream").handler(ctx -> handleStream(ctx, vertx));
+        router.post("/hello/echo")
+            .consumes(APPLICATION_JSON)
+            .handler(BodyHandler.create(false))
+            .handler(this::handleEcho);
     }
 
     private void handleReactive(RoutingContext ctx, Vertx vertx) {
         metricsProvider.incrementReactive();
 
-        int sleepSeconds = parseIntParam(ctx.queryParam("sleep"));
+        long sleepMillis;
+        int work;
+        int size;
+        try {
+            int sleepSeconds = parseIntParam(ctx.queryParam("sleep"));
+            sleepMillis = latencyProfile.override(ctx.queryParams().get("latency"))
+                .sampleMillis(sleepSeconds * 1000L + parseLongParam(ctx.queryParam("sleepMs")));
+            // Validated up front: a failure inside the sleep timer would leave the request unanswered.
+            work = CpuWork.checkKilobytes(parseIntParam(ctx.queryParam("work")));
+            size = Payload.checkSize(parseIntParam(ctx.queryParam("size")));
+        } catch (IllegalArgumentException e) {
+            badRequest(ctx, e);
+            return;
+        }
         boolean printLog = parseBoolParam(ctx.queryParam("log"));
 
         if (printLog) {
@@ -67,23 +144,172 @@ public final class HelloRoutes {
             LOG.info("reactive thread: '{}', isVirtual: '{}'", currentThread, currentThread.isVirtual());
         }
 
-        if (sleepSeconds > 0) {
+        if (sleepMillis > 0) {
             // Non-blocking sleep using Vert.x timer — never blocks the event loop.
-            vertx.setTimer(sleepSeconds * 1000L, _ -> respondJson(ctx));
+            vertx.setTimer(sleepMillis, _ -> respond(ctx, work, size));
         } else {
-            respondJson(ctx);
+            respond(ctx, work, size);
         }
     }
 
-    private void respondJson(RoutingContext ctx) {
-        String body = "\"" + helloService.handle(HelloMode.REACTIVE) + "\"";
+    private void handleStream(RoutingContext ctx, Vertx vertx) {
+        List<String> n = ctx.queryParam("n");
+        int elements;
+        long intervalMillis;
+        try {
+            elements = HelloStream.checkElements(n.isEmpty() ? HelloStream.DEFAULT_ELEMENTS : parseIntParam(n));
+            intervalMillis = HelloStream.checkInterval(parseLongParam(ctx.queryParam("interval")));
+        } catch (IllegalArgumentException e) {
+            badRequest(ctx, e);
+            return;
+        }
+        String message = helloService.handle(HelloMode.REACTIVE);
+
+        HttpServerResponse response = ctx.response()
+            .setStatusCode(200)
+            .setChunked(true)
+            .putHeader("content-type", HelloStream.CONTENT_TYPE);
+        new ElementWriter(vertx, response, metricsProvider.openStream(), message, elements, intervalMillis).resume();
+    }
+
+    private void handleEcho(RoutingContext ctx) {
+        Buffer body = ctx.body().buffer();
+        EchoRequest request;
+        try {
+            request = EchoJson.read(body == null ? null : body.toJsonObject());
+        } catch (IllegalArgumentException | ClassCastException | DecodeException e) {
+            badRequest(ctx, e);
+            return;
+        }
+        if (body != null) {
+            metricsProvider.recordEchoRequestBytes(body.length());
+        }
         ctx.response()
             .setStatusCode(200)
             .putHeader("content-type", APPLICATION_JSON)
-            .end(body);
+            .end(EchoJson.write(helloService.echo(request)).toBuffer());
+    }
+
+    static void badRequest(RoutingContext ctx, RuntimeException e) {
+        ctx.response()
+            .setStatusCode(400)
+            .putHeader("content-type", "text/plain")
+            .end(String.valueOf(e.getMessage()));
+    }
+
+    private void respond(RoutingContext ctx, int work, int size) {
+        // CPU work deliberately runs on the event loop: that is the cost being measured.
+        helloService.work(work);
+        // The lookup runs for payload requests too, so only the body differs from a regular request.
+        if (cacheClient == null) {
+            respond(ctx, size, helloService.cachedValue());
+            return;
+        }
+        cacheClient.cachedValue().onComplete(ar -> {
+            if (ar.succeeded()) {
+                respond(ctx, size, ar.result());
+            } else {
+                ctx.response()
+                    .setStatusCode(500)
+                    .putHeader("content-type", "text/plain")
+                    .end(String.valueOf(ar.cause().getMessage()));
+            }
+        });
+    }
+
+    private void respond(RoutingContext ctx, int size, @Nullable String value) {
+        if (size > 0) {
+            respondPayload(ctx, size);
+        } else {
+            respondJson(ctx, value);
+        }
+    }
+
+    private void respondPayload(RoutingContext ctx, int size) {
+        var response = ctx.response()
+            .setStatusCode(200)
+            .putHeader("content-type", APPLICATION_OCTET_STREAM);
+        switch (payload.mode()) {
+            case HEAP -> response.end(Buffer.buffer(payload.heapCopy(size)));
+            case DIRECT -> response.end(BufferInternal.buffer(Unpooled.wrappedBuffer(payload.buffer(size))));
+            // sendFile hands the region to Netty as a FileRegion: zero-copy unless TLS or compression is on.
+            case FILE -> response.sendFile(payload.file().toString(), 0, size);
+        }
     }
 
-    private static int parseIntParam(List<String> values) {
+    private void respondJson(RoutingContext ctx, @Nullable String value) {
+        var response = ctx.response()
+            .setStatusCode(200)
+            .putHeader("content-type", APPLICATION_JSON);
+        if (preEncoded != null) {
+            response.end(preEncoded.body(value));
+            return;
+        }
+        response.end("\"" + HelloMode.REACTIVE.responsePrefix() + value + "\"");
+    }
+
+    /**
+     * Writes one stream on its event loop. Outstanding bytes are those whose write future has not completed yet,
+     * i.e. still queued in Vert.x / Netty rather than flushed to the socket.
+     */
+    private static final class ElementWriter {
+
+        private final Vertx vertx;
+        private final HttpServerResponse response;
+        private final StreamBacklog backlog;
+        private final String message;
+        private final int elements;
+        private final long intervalMillis;
+        /** Next element to write. */
+        private int seq;
+        /** Set once the response has ended or the client went away. */
+        private boolean closed;
+
+        ElementWriter(Vertx vertx,
+                      HttpServerResponse response,
+                      StreamBacklog backlog,
+                      String message,
+                      int elements,
+                      long intervalMillis) {
+            this.vertx = vertx;
+            this.response = response;
+            this.backlog = backlog;
+            this.message = message;
+            this.elements = elements;
+            this.intervalMillis = intervalMillis;
+            response.closeHandler(_ -> {
+                closed = true;
+                backlog.close();
+            });
+        }
+
+        void resume() {
+            while (!closed && seq < elements) {
+                if (response.writeQueueFull()) {
+                    // One-shot: a handler left registered would resume again on a later drain and break the pacing.
+                    response.drainHandler(_ -> {
+                        response.drainHandler(null);
+                        resume();
+                    });
+                    return;
+                }
+                Buffer element = Buffer.buffer(HelloStream.element(seq++, message));
+                int bytes = element.length();
+                backlog.produced(bytes);
+                response.write(element).onComplete(_ -> backlog.written(bytes));
+                if (intervalMillis > 0 && seq < elements) {
+                    vertx.setTimer(intervalMillis, _ -> resume());
+                    return;
+                }
+            }
+            if (!closed) {
+                closed = true;
+                response.end().onComplete(_ -> backlog.close());
+            }
+        }
+    }
+
+    static int parseIntParam(List<String> values) {
         if (values == null || values.isEmpty()) {
             return 0;
         }
@@ -94,7 +320,18 @@ public final class HelloRoutes {
         return Integer.parseInt(v.trim());
     }
 
-    private static boolean parseBoolParam(List<String> values) {
+    static long parseLongParam(List<String> values) {
+        if (values == null || values.isEmpty()) {
+            return 0L;
+        }
+        String v = values.getFirst();
+        if (v == null || v.isBlank()) {
+            return 0L;
+        }
+        return Long.parseLong(v.trim());
+    }
+
+    static boolean parseBoolParam(List<String> values) {
         if (values == null || values.isEmpty()) {
             return false;
         }
@@ -1,11 +1,22 @@
 package io.github.georgecodes.benchmarking.vertx.web;
 
+import io.github.georgecodes.benchmarking.vertx.config.DownstreamConfig;
+import io.github.georgecodes.benchmarking.vertx.config.PayloadMode;
+import io.github.georgecodes.benchmarking.vertx.config.ResponseEncoding;
+import io.github.georgecodes.benchmarking.vertx.config.RoutingMode;
 import io.github.georgecodes.benchmarking.vertx.domain.HelloService;
+import io.github.georgecodes.benchmarking.vertx.domain.LatencyProfile;
+import io.github.georgecodes.benchmarking.vertx.infra.CacheVerticle;
+import io.github.georgecodes.benchmarking.vertx.infra.DownstreamClient;
+import io.github.georgecodes.benchmarking.vertx.infra.EventBusCacheClient;
+import io.github.georgecodes.benchmarking.vertx.infra.EventBusCacheMetrics;
 import io.github.georgecodes.benchmarking.vertx.infra.MetricsProvider;
+import io.github.georgecodes.benchmarking.vertx.infra.TlsHandshakeMetrics;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.Promise;
 import io.vertx.core.http.HttpServerOptions;
 import io.vertx.ext.web.Router;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -18,6 +29,17 @@ import java.util.Objects;
  * <p>Deploying N instances with {@code DeploymentOptions.setInstances(N)}
  * distributes accept + request processing across N event-loop threads,
  * which is the idiomatic Vert.x way to utilise multiple CPU cores.
+ *
+ * <p>The same server answers gRPC ({@link GrpcRoutes}) on the REST port over HTTP/2 cleartext.
+ *
+ * <p>{@code /hello/platform} and {@code /hello/virtual} are forwarded by {@link BlockingRoutes} to the
+ * {@link BlockingHelloVerticle}s deployed next to this verticle.
+ *
+ * <p>With {@link RoutingMode#RAW} a {@link RawHelloHandler} sits in front of the {@link Router} and answers the
+ * plain hello requests itself.
+ *
+ * <p>With {@link EventBusCacheMetrics} the hello body's cache lookup is sent over the event bus to the
+ * {@link CacheVerticle}.
  */
 public final class HttpServerVerticle extends AbstractVerticle {
 
@@ -36,6 +58,30 @@ public final class HttpServerVerticle extends AbstractVerticle {
     /** Pre-configured HTTP server options (shared across verticle instances). */
     private final HttpServerOptions serverOptions;
 
+    /** How hello bodies are produced by this instance's routes. */
+    private final ResponseEncoding responseEncoding;
+
+    /** Distribution applied to the requested sleep. */
+    private final LatencyProfile latencyProfile;
+
+    /** Body served for the {@code size} query parameter, shared by all instances. */
+    private final Payload payload;
+
+    /** Per-instance {@code /hello/chain} downstream settings, or {@code null} to leave the route out. */
+    private final @Nullable DownstreamConfig downstreamConfig;
+
+    /** Handshake recorder when the server terminates TLS, otherwise {@code null}. */
+    private final @Nullable TlsHandshakeMetrics tlsHandshakeMetrics;
+
+    /** Whether the hello endpoint bypasses the router. */
+    private final RoutingMode routingMode;
+
+    /** Event-bus cache lookup recorder, or {@code null} when the hello endpoint reads the cache directly. */
+    private final @Nullable EventBusCacheMetrics eventBusCacheMetrics;
+
+    /** This instance's downstream client, created on start. */
+    private @Nullable DownstreamClient downstreamClient;
+
     /** Actual port bound by the HTTP server (set after successful listen). */
     private volatile int actualPort;
 
@@ -43,26 +89,57 @@ public final class HttpServerVerticle extends AbstractVerticle {
                               HelloService helloService,
                               MetricsProvider metricsProvider,
                               HttpServerOptions serverOptions) {
+        this(port, helloService, metricsProvider, serverOptions, Settings.defaults());
+    }
+
+    public HttpServerVerticle(int port,
+                              HelloService helloService,
+                              MetricsProvider metricsProvider,
+                              HttpServerOptions serverOptions,
+                              Settings settings) {
         this.port = port;
         this.helloService = Objects.requireNonNull(helloService, "helloService");
         this.metricsProvider = Objects.requireNonNull(metricsProvider, "metricsProvider");
         this.serverOptions = Objects.requireNonNull(serverOptions, "serverOptions");
+        Objects.requireNonNull(settings, "settings");
+        this.responseEncoding = settings.responseEncoding();
+        this.latencyProfile = settings.latencyProfile();
+        this.payload = settings.payload();
+        this.downstreamConfig = settings.downstreamConfig();
+        this.tlsHandshakeMetrics = settings.tlsHandshakeMetrics();
+        this.routingMode = settings.routingMode();
+        this.eventBusCacheMetrics = settings.eventBusCacheMetrics();
     }
 
     @Override
     public void start(Promise<Void> startPromise) {
-        // Each verticle instance creates its own Router — no cross-thread sharing.
+        // Each verticle instance creates its own Router (and pre-encoded body) — no cross-thread sharing.
         Router router = Router.router(vertx);
-        HelloRoutes helloRoutes = new HelloRoutes(helloService, metricsProvider);
+        EventBusCacheClient cacheClient = eventBusCacheMetrics == null ? null
+            : new EventBusCacheClient(vertx, helloService, eventBusCacheMetrics);
+        HelloRoutes helloRoutes =
+            new HelloRoutes(helloService, metricsProvider, responseEncoding, latencyProfile, payload, cacheClient);
         helloRoutes.register(router, vertx);
+        new GrpcRoutes(helloService, metricsProvider, latencyProfile).register(router, vertx);
+        new BlockingRoutes(metricsProvider, latencyProfile).register(router, vertx);
+        if (downstreamConfig != null) {
+            downstreamClient = DownstreamClient.create(vertx, downstreamConfig);
+            new ChainRoutes(helloService, downstreamClient).register(router);
+        }
 
-        vertx.createHttpServer(serverOptions)
-            .requestHandler(router)
+        HttpServerOptions options = tlsHandshakeMetrics == null ? serverOptions
+            : new HttpServerOptions(serverOptions)
+                .setSslEngineOptions(tlsHandshakeMetrics.meter(serverOptions.getSslEngineOptions()));
+        vertx.createHttpServer(options)
+            .requestHandler(routingMode == RoutingMode.RAW
+                ? new RawHelloHandler(helloService, metricsProvider, responseEncoding, latencyProfile, vertx, router,
+                    cacheClient)
+                : router)
             .listen(port)
-            .onSuccess(server -> {
-                actualPort = server.actualPort();
+            .onSuccess(listening -> {
+                actualPort = listening.actualPort();
                 LOG.info("Vert.x HTTP server verticle listening on port {} (event-loop: {})",
-                    server.actualPort(), Thread.currentThread().getName());
+                    listening.actualPort(), Thread.currentThread().getName());
                 startPromise.complete();
             })
             .onFailure(err -> {
@@ -71,6 +148,13 @@ public final class HttpServerVerticle extends AbstractVerticle {
             });
     }
 
+    @Override
+    public void stop() {
+        if (downstreamClient != null) {
+            downstreamClient.close();
+        }
+    }
+
     /**
      * Returns the actual port bound by the HTTP server.
      * Only valid after the verticle has started successfully.
@@ -80,4 +164,78 @@ public final class HttpServerVerticle extends AbstractVerticle {
     int actualPort() {
         return actualPort;
     }
-}
\ No newline at end of file
+
+    /**
+     * Optional features of a server instance, shared by all deployed instances. Start from {@link #defaults()}
+     * and replace what the configuration turns on.
+     *
+     * @param responseEncoding     how hello bodies are produced
+     * @param latencyProfile       distribution applied to the requested sleep
+     * @param payload              body served for the {@code size} query parameter
+     * @param downstreamConfig     {@code /hello/chain} downstream settings, or {@code null} to leave the route out
+     * @param tlsHandshakeMetrics  handshake recorder when the server terminates TLS, otherwise {@code null}
+     * @param routingMode          whether the hello endpoint bypasses the router
+     * @param eventBusCacheMetrics event-bus cache lookup recorder, or {@code null} to read the cache directly
+     */
+    public record Settings(ResponseEncoding responseEncoding,
+                           LatencyProfile latencyProfile,
+                           Payload payload,
+                           @Nullable DownstreamConfig downstreamConfig,
+                           @Nullable TlsHandshakeMetrics tlsHandshakeMetrics,
+                           RoutingMode routingMode,
+                           @Nullable EventBusCacheMetrics eventBusCacheMetrics) {
+
+        public Settings {
+            Objects.requireNonNull(responseEncoding, "responseEncoding");
+            Objects.requireNonNull(latencyProfile, "latencyProfile");
+            Objects.requireNonNull(payload, "payload");
+            Objects.requireNonNull(routingMode, "routingMode");
+        }
+
+        /**
+         * Returns the settings of a plain server: dynamic bodies, constant latency, heap payloads, no chain route, no
+         * TLS metrics, the router for every request and direct cache reads.
+         *
+         * @return default settings
+         */
+        public static Settings defaults() {
+            return new Settings(ResponseEncoding.DYNAMIC, LatencyProfile.constant(), Payload.create(PayloadMode.HEAP),
+                null, null, RoutingMode.ROUTER, null);
+        }
+
+        public Settings withResponseEncoding(ResponseEncoding value) {
+            return new Settings(value, latencyProfile, payload, downstreamConfig, tlsHandshakeMetrics, routingMode,
+                eventBusCacheMetrics);
+        }
+
+        public Settings withLatencyProfile(LatencyProfile value) {
+            return new Settings(responseEncoding, value, payload, downstreamConfig, tlsHandshakeMetrics, routingMode,
+                eventBusCacheMetrics);
+        }
+
+        public Settings withPayload(Payload value) {
+            return new Settings(responseEncoding, latencyProfile, value, downstreamConfig, tlsHandshakeMetrics,
+                routingMode, eventBusCacheMetrics);
+        }
+
+        public Settings withDownstreamConfig(@Nullable DownstreamConfig value) {
+            return new Settings(responseEncoding, latencyProfile, payload, value, tlsHandshakeMetrics, routingMode,
+                eventBusCacheMetrics);
+        }
+
+        public Settings withTlsHandshakeMetrics(@Nullable TlsHandshakeMetrics value) {
+            return new Settings(responseEncoding, latencyProfile, payload, downstreamConfig, value, routingMode,
+                eventBusCacheMetrics);
+        }
+
+        public Settings withRoutingMode(RoutingMode value) {
+            return new Settings(responseEncoding, latencyProfile, payload, downstreamConfig, tlsHandshakeMetrics, value,
+                eventBusCacheMetrics);
+        }
+
+        public Settings withEventBusCacheMetrics(@Nullable EventBusCacheMetrics value) {
+            return new Settings(responseEncoding, latencyProfile, payload, downstreamConfig, tlsHandshakeMetrics,
+                routingMode, value);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package io.github.georgecodes.benchmarking.vertx.web;
+
+import io.github.georgecodes.benchmarking.vertx.domain.HelloMode;
+import io.github.georgecodes.benchmarking.vertx.domain.HelloService;
+import io.vertx.core.buffer.Buffer;
+import org.jspecify.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fully encoded JSON bodies for one {@link HelloMode}, shared read-only across requests.
+ *
+ * <p>Every call still performs the cache lookup, but the body is kept per cached value, so it
+ * is only encoded the first time a value is seen. Values are compared by content, and the map
+ * never holds more than one body per distinct value the cache has returned; past
+ * {@value #MAX_ENTRIES} values new bodies are encoded per request, exactly like the dynamic
+ * path. In steady state the hot path is one cache read and one map read — no string
+ * concatenation and no UTF-8 encoding.
+ */
+final class PreEncodedResponse {
+
+    /** Upper bound on kept bodies, well above any realistic {@code CACHE_SIZE}. */
+    static final int MAX_ENTRIES = 1 << 20;
+
+    /** Mode whose response prefix is baked into the body. */
+    private final HelloMode mode;
+
+    /** Source of the cached value. */
+    private final HelloService helloService;
+
+    /** Encoded bodies keyed by the cached value they were built from. */
+    private final Map<String, Buffer> bodies = new ConcurrentHashMap<>();
+
+    /** Body for a cache miss, which the dynamic path renders as {@code null}. */
+    private final Buffer missBody;
+
+    PreEncodedResponse(HelloMode mode, HelloService helloService) {
+        this.mode = Objects.requireNonNull(mode, "mode");
+        this.helloService = Objects.requireNonNull(helloService, "helloService");
+        this.missBody = Buffer.buffer(encode(mode, null));
+    }
+
+    /**
+     * Returns the encoded body for the current cache value.
+     *
+     * @return shared buffer — callers must not modify it
+     */
+    Buffer body() {
+        return body(helloService.cachedValue());
+    }
+
+    /**
+     * Returns the encoded body for a value looked up elsewhere, e.g. over the event bus.
+     *
+     * @param value cached value (may be {@code null})
+     * @return shared buffer — callers must not modify it
+     */
+    Buffer body(@Nullable String value) {
+        if (value == null) {
+            return missBody;
+        }
+        Buffer body = bodies.get(value);
+        if (body == null) {
+            body = Buffer.buffer(encode(mode, value));
+            if (bodies.size() < MAX_ENTRIES) {
+                Buffer raced = bodies.putIfAbsent(value, body);
+                if (raced != null) {
+                    body = raced;
+                }
+            }
+        }
+        return body;
+    }
+
+    /**
+     * Encodes the JSON string body exactly as the dynamic path does.
+     *
+     * @param mode  hello mode supplying the prefix
+     * @param value cached value (may be {@code null})
+     * @return UTF-8 bytes of the quoted body
+     */
+    static byte[] encode(HelloMode mode, @Nullable String value) {
+        return ("\"" + mode.responsePrefix() + value + "\"").getBytes(StandardCharsets.UTF_8);
+    }
+}
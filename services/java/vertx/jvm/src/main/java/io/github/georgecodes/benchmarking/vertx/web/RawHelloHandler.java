@@ -0,0 +1,251 @@
+package io.github.georgecodes.benchmarking.vertx.web;
+
+import io.github.georgecodes.benchmarking.vertx.config.ResponseEncoding;
+import io.github.georgecodes.benchmarking.vertx.domain.HelloMode;
+import io.github.georgecodes.benchmarking.vertx.domain.HelloService;
+import io.github.georgecodes.benchmarking.vertx.domain.LatencyProfile;
+import io.github.georgecodes.benchmarking.vertx.infra.EventBusCacheClient;
+import io.github.georgecodes.benchmarking.vertx.infra.MetricsProvider;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+
+/**
+ * Request handler for {@code VERTX_ROUTING=raw}: answers {@code GET /hello/reactive} and {@code GET /ready}
+ * straight from the {@link HttpServerRequest}, without the vertx-web {@code Router}, its
+ * {@code RoutingContext} or its query-parameter map.
+ *
+ * <p>The path is matched against the request URI in place and only {@code sleep} and {@code log} are read from
+ * the raw query string, so the fast path allocates nothing per request beyond the response. A request with any
+ * other query parameter ({@code work}, {@code size}, {@code latency}, ...), an unparsable value or any other
+ * path goes to the {@code Router}, which answers it exactly as in the default mode.
+ */
+final class RawHelloHandler implements Handler<HttpServerRequest> {
+
+    /** Logger for request/thread debug output; shares {@link HelloRoutes}' category. */
+    private static final Logger LOG = LoggerFactory.getLogger(HelloRoutes.class);
+
+    /** Path of the hello endpoint. */
+    static final String HELLO_PATH = "/hello/reactive";
+
+    /** Path of the readiness endpoint. */
+    static final String READY_PATH = "/ready";
+
+    /** Returned by {@link #parseQuery} when the request must go to the router. */
+    static final long DELEGATE = -1L;
+
+    /** Content-Type header name. */
+    private static final CharSequence CONTENT_TYPE = HttpHeaders.CONTENT_TYPE;
+
+    /** Content-Type header value of the hello body. */
+    private static final CharSequence APPLICATION_JSON = HttpHeaders.createOptimized("application/json");
+
+    /** Content-Type header value of the readiness body. */
+    private static final CharSequence TEXT_PLAIN = HttpHeaders.createOptimized("text/plain");
+
+    /** Pure domain logic for hello responses. */
+    private final HelloService helloService;
+
+    /** Metrics for the reactive endpoint. */
+    private final MetricsProvider metricsProvider;
+
+    /** Shared encoded body, or {@code null} when bodies are built per request. */
+    private final @Nullable PreEncodedResponse preEncoded;
+
+    /** Distribution applied to the requested sleep. */
+    private final LatencyProfile latencyProfile;
+
+    /** Vert.x instance for timer-based sleep. */
+    private final Vertx vertx;
+
+    /** Handles every request the fast path does not. */
+    private final Handler<HttpServerRequest> fallback;
+
+    /** Event-bus cache access for the hello body, or {@code null} to read the cache directly. */
+    private final @Nullable EventBusCacheClient cacheClient;
+
+    RawHelloHandler(HelloService helloService,
+                    MetricsProvider metricsProvider,
+                    ResponseEncoding responseEncoding,
+                    LatencyProfile latencyProfile,
+                    Vertx vertx,
+                    Handler<HttpServerRequest> fallback,
+                    @Nullable EventBusCacheClient cacheClient) {
+        this.helloService = Objects.requireNonNull(helloService, "helloService");
+        this.metricsProvider = Objects.requireNonNull(metricsProvider, "metricsProvider");
+        this.preEncoded = Objects.requireNonNull(responseEncoding, "responseEncoding") == ResponseEncoding.PRE_ENCODED
+            ? new PreEncodedResponse(HelloMode.REACTIVE, helloService)
+            : null;
+        this.latencyProfile = Objects.requireNonNull(latencyProfile, "latencyProfile");
+        this.vertx = Objects.requireNonNull(vertx, "vertx");
+        this.fallback = Objects.requireNonNull(fallback, "fallback");
+        this.cacheClient = cacheClient;
+    }
+
+    @Override
+    public void handle(HttpServerRequest request) {
+        if (request.method() == HttpMethod.GET) {
+            String uri = request.uri();
+            if (matches(uri, HELLO_PATH)) {
+                long query = parseQuery(uri, HELLO_PATH.length());
+                if (query != DELEGATE) {
+                    handleHello(request, sleepSeconds(query), printLog(query));
+                    return;
+                }
+            } else if (matches(uri, READY_PATH)) {
+                request.response()
+                    .setStatusCode(200)
+                    .putHeader(CONTENT_TYPE, TEXT_PLAIN)
+                    .end("UP");
+                return;
+            }
+        }
+        fallback.handle(request);
+    }
+
+    private void handleHello(HttpServerRequest request, int sleepSeconds, boolean printLog) {
+        metricsProvider.incrementReactive();
+        long sleepMillis = latencyProfile.sampleMillis(sleepSeconds * 1000L);
+
+        if (printLog) {
+            var currentThread = Thread.currentThread();
+            LOG.info("reactive thread: '{}', isVirtual: '{}'", currentThread, currentThread.isVirtual());
+        }
+
+        if (sleepMillis > 0) {
+            // Non-blocking sleep using Vert.x timer — never blocks the event loop.
+            vertx.setTimer(sleepMillis, _ -> respond(request.response()));
+        } else {
+            respond(request.response());
+        }
+    }
+
+    private void respond(HttpServerResponse response) {
+        if (cacheClient != null) {
+            cacheClient.cachedValue().onComplete(ar -> {
+                if (ar.succeeded()) {
+                    respond(response, ar.result());
+                } else {
+                    response
+                        .setStatusCode(500)
+                        .putHeader(CONTENT_TYPE, TEXT_PLAIN)
+                        .end(String.valueOf(ar.cause().getMessage()));
+                }
+            });
+            return;
+        }
+        response
+            .setStatusCode(200)
+            .putHeader(CONTENT_TYPE, APPLICATION_JSON);
+        if (preEncoded != null) {
+            response.end(preEncoded.body());
+            return;
+        }
+        response.end("\"" + helloService.handle(HelloMode.REACTIVE) + "\"");
+    }
+
+    private void respond(HttpServerResponse response, @Nullable String value) {
+        response
+            .setStatusCode(200)
+            .putHeader(CONTENT_TYPE, APPLICATION_JSON);
+        if (preEncoded != null) {
+            response.end(preEncoded.body(value));
+            return;
+        }
+        response.end("\"" + HelloMode.REACTIVE.responsePrefix() + value + "\"");
+    }
+
+    /**
+     * Returns whether the request URI is exactly {@code path}, with or without a query string.
+     *
+     * @param uri  request URI in origin form
+     * @param path path to match
+     * @return {@code true} when the URI names the path
+     */
+    static boolean matches(String uri, String path) {
+        int length = path.length();
+        return uri.startsWith(path) && (uri.length() == length || uri.charAt(length) == '?');
+    }
+
+    /**
+     * Reads {@code sleep} and {@code log} from the query string that follows the path, without decoding or
+     * splitting it. The first occurrence of a parameter wins, as with {@code queryParam(...).getFirst()}.
+     *
+     * @param uri   request URI
+     * @param start index just past the path, i.e. of the {@code '?'} if there is a query
+     * @return {@code sleepSeconds << 1 | log}, or {@link #DELEGATE} when another parameter or a value the fast
+     *     path does not parse is present
+     */
+    static long parseQuery(String uri, int start) {
+        int sleepSeconds = 0;
+        boolean printLog = false;
+        boolean sleepSeen = false;
+        boolean logSeen = false;
+        int i = start + 1;
+        int end = uri.length();
+        while (i < end) {
+            int next = uri.indexOf('&', i);
+            if (next < 0) {
+                next = end;
+            }
+            if (next > i) {
+                if (uri.startsWith("sleep=", i)) {
+                    int value = parseSeconds(uri, i + "sleep=".length(), next);
+                    if (value < 0) {
+                        return DELEGATE;
+                    }
+                    if (!sleepSeen) {
+                        sleepSeconds = value;
+                        sleepSeen = true;
+                    }
+                } else if (uri.startsWith("log=", i)) {
+                    if (!logSeen) {
+                        int valueStart = i + "log=".length();
+                        printLog = next - valueStart == 4 && uri.regionMatches(true, valueStart, "true", 0, 4);
+                        logSeen = true;
+                    }
+                } else {
+                    return DELEGATE;
+                }
+            }
+            i = next + 1;
+        }
+        return (long) sleepSeconds << 1 | (printLog ? 1L : 0L);
+    }
+
+    /**
+     * Parses a non-negative decimal of at most nine digits; an empty value is zero like in the router path.
+     *
+     * @return the value, or {@code -1} when the value is not plain digits or too long
+     */
+    private static int parseSeconds(String uri, int from, int to) {
+        if (to - from > 9) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            char c = uri.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    static int sleepSeconds(long query) {
+        return (int) (query >>> 1);
+    }
+
+    static boolean printLog(long query) {
+        return (query & 1L) != 0;
+    }
+}
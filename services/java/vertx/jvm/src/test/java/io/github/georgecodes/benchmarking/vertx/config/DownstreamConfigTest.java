@@ -0,0 +1,53 @@
+package io.github.georgecodes.benchmarking.vertx.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for {@link DownstreamConfig}.
+ */
+class DownstreamConfigTest {
+
+    @Test
+    void fromEnvironmentUsesDefaultsWhenUnset() {
+        DownstreamConfig config = DownstreamConfig.fromEnvironment(key -> null);
+
+        assertEquals(DownstreamConfig.DEFAULT_URL, config.url());
+        assertEquals(DownstreamConfig.DEFAULT_MAX_CONNECTIONS, config.maxConnections());
+        assertEquals(DownstreamConfig.DEFAULT_TIMEOUT_MILLIS, config.timeoutMillis());
+    }
+
+    @Test
+    void fromEnvironmentReadsTrimmedValues() {
+        Map<String, String> env = Map.of(
+            "DOWNSTREAM_URL", " http://localhost:9000/x ",
+            "DOWNSTREAM_MAX_CONNECTIONS", "16",
+            "DOWNSTREAM_TIMEOUT_MS", " 250");
+
+        DownstreamConfig config = DownstreamConfig.fromEnvironment(env::get);
+
+        assertEquals(new DownstreamConfig("http://localhost:9000/x", 16, 250), config);
+    }
+
+    @Test
+    void rejectsNonPositiveTuning() {
+        assertThrows(IllegalArgumentException.class, () -> new DownstreamConfig("http://x", 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new DownstreamConfig("http://x", 1, 0));
+        assertThrows(NumberFormatException.class,
+            () -> DownstreamConfig.fromEnvironment(Map.of("DOWNSTREAM_MAX_CONNECTIONS", "many")::get));
+    }
+
+    @Test
+    void perInstanceSplitsPoolRoundingUp() {
+        DownstreamConfig config = new DownstreamConfig("http://x", 10, 100);
+
+        assertEquals(3, config.perInstance(4).maxConnections());
+        assertEquals(1, config.perInstance(64).maxConnections());
+        assertEquals(10, config.perInstance(1).maxConnections());
+        assertThrows(IllegalArgumentException.class, () -> config.perInstance(0));
+    }
+}
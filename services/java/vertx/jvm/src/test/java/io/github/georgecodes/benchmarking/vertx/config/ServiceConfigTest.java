@@ -6,7 +6,9 @@ import java.util.Map;
 import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Unit tests for {@link ServiceConfig}.
@@ -15,29 +17,58 @@ class ServiceConfigTest {
 
     @Test
     void recordFieldsAreAccessible() {
-        ServiceConfig config = new ServiceConfig(9090, 200, 8);
+        ServiceConfig config = new ServiceConfig(9090, 200, 8, ResponseEncoding.PRE_ENCODED, "zipfian:0.9", 1000,
+            "parallel", "exponential", PayloadMode.FILE, true, TlsMode.OPENSSL,
+            IoTransport.IO_URING, RoutingMode.RAW, CacheSharding.PER_EVENT_LOOP, CacheAccess.EVENTBUS);
 
         assertEquals(9090, config.port());
         assertEquals(200, config.cacheSize());
         assertEquals(8, config.eventLoopSize());
+        assertEquals(ResponseEncoding.PRE_ENCODED, config.responseEncoding());
+        assertEquals("zipfian:0.9", config.cacheAccessPattern());
+        assertEquals(1000, config.cacheKeySpace());
+        assertEquals("parallel", config.cacheWarmup());
+        assertEquals("exponential", config.latencyProfile());
+        assertEquals(PayloadMode.FILE, config.payloadMode());
+        assertTrue(config.http2Enabled());
+        assertEquals(TlsMode.OPENSSL, config.tlsMode());
+        assertEquals(IoTransport.IO_URING, config.ioTransport());
+        assertEquals(RoutingMode.RAW, config.routingMode());
+        assertEquals(CacheSharding.PER_EVENT_LOOP, config.cacheSharding());
+        assertEquals(CacheAccess.EVENTBUS, config.cacheAccess());
+        assertEquals(1000, config.resolvedCacheKeySpace());
+    }
+
+    @Test
+    void resolvedCacheKeySpaceDefaultsToCacheSize() {
+        ServiceConfig config = new ServiceConfig(8080, 50000, 0, ResponseEncoding.DYNAMIC, "", 0, "", "",
+            PayloadMode.HEAP, false, TlsMode.OFF, IoTransport.EPOLL, RoutingMode.ROUTER,
+            CacheSharding.SHARED, CacheAccess.DIRECT);
+        assertEquals(50000, config.resolvedCacheKeySpace());
     }
 
     @Test
     void resolvedEventLoopSizeReturnsExplicitValue() {
-        ServiceConfig config = new ServiceConfig(8080, 50000, 6);
+        ServiceConfig config = new ServiceConfig(8080, 50000, 6, ResponseEncoding.DYNAMIC, "", 0, "", "",
+            PayloadMode.HEAP, false, TlsMode.OFF, IoTransport.EPOLL, RoutingMode.ROUTER,
+            CacheSharding.SHARED, CacheAccess.DIRECT);
         assertEquals(6, config.resolvedEventLoopSize());
     }
 
     @Test
     void resolvedEventLoopSizeComputesDefault() {
-        ServiceConfig config = new ServiceConfig(8080, 50000, 0);
+        ServiceConfig config = new ServiceConfig(8080, 50000, 0, ResponseEncoding.DYNAMIC, "", 0, "", "",
+            PayloadMode.HEAP, false, TlsMode.OFF, IoTransport.EPOLL, RoutingMode.ROUTER,
+            CacheSharding.SHARED, CacheAccess.DIRECT);
         int expected = Math.max(2, Runtime.getRuntime().availableProcessors() * 2);
         assertEquals(expected, config.resolvedEventLoopSize());
     }
 
     @Test
     void resolvedEventLoopSizeFallsBackForNegativeValue() {
-        ServiceConfig config = new ServiceConfig(8080, 50000, -1);
+        ServiceConfig config = new ServiceConfig(8080, 50000, -1, ResponseEncoding.DYNAMIC, "", 0, "", "",
+            PayloadMode.HEAP, false, TlsMode.OFF, IoTransport.EPOLL, RoutingMode.ROUTER,
+            CacheSharding.SHARED, CacheAccess.DIRECT);
         int expected = Math.max(2, Runtime.getRuntime().availableProcessors() * 2);
         assertEquals(expected, config.resolvedEventLoopSize());
     }
@@ -48,20 +79,56 @@ class ServiceConfigTest {
             case "SERVICE_PORT" -> "   ";
             case "CACHE_SIZE" -> null;
             case "VERTX_EVENT_LOOP_SIZE" -> "";
+            case "RESPONSE_ENCODING" -> null;
+            case "CACHE_ACCESS_PATTERN" -> null;
+            case "CACHE_KEY_SPACE" -> " ";
+            case "CACHE_WARMUP" -> null;
+            case "LATENCY_PROFILE" -> null;
+            case "PAYLOAD_MODE" -> " ";
+            case "HTTP2_ENABLED" -> null;
+            case "TLS_MODE" -> "";
+            case "IO_TRANSPORT" -> null;
+            case "VERTX_ROUTING" -> " ";
+            case "CACHE_SHARDING" -> null;
+            case "VERTX_CACHE_ACCESS" -> "";
             default -> throw new IllegalArgumentException("Unexpected key: " + key);
         });
 
         assertEquals(8080, config.port());
         assertEquals(50000L, config.cacheSize());
         assertEquals(0, config.eventLoopSize());
+        assertEquals(ResponseEncoding.DYNAMIC, config.responseEncoding());
+        assertEquals("", config.cacheAccessPattern());
+        assertEquals(0L, config.cacheKeySpace());
+        assertEquals("", config.cacheWarmup());
+        assertEquals("", config.latencyProfile());
+        assertEquals(PayloadMode.HEAP, config.payloadMode());
+        assertFalse(config.http2Enabled());
+        assertEquals(TlsMode.OFF, config.tlsMode());
+        assertEquals(IoTransport.EPOLL, config.ioTransport());
+        assertEquals(RoutingMode.ROUTER, config.routingMode());
+        assertEquals(CacheSharding.SHARED, config.cacheSharding());
+        assertEquals(CacheAccess.DIRECT, config.cacheAccess());
     }
 
     @Test
     void fromEnvironmentTrimsAndParsesNumericValues() {
-        Map<String, String> environment = Map.of(
-            "SERVICE_PORT", " 9091 ",
-            "CACHE_SIZE", " 123456 ",
-            "VERTX_EVENT_LOOP_SIZE", " 12 "
+        Map<String, String> environment = Map.ofEntries(
+            Map.entry("SERVICE_PORT", " 9091 "),
+            Map.entry("CACHE_SIZE", " 123456 "),
+            Map.entry("VERTX_EVENT_LOOP_SIZE", " 12 "),
+            Map.entry("RESPONSE_ENCODING", " Pre-Encoded "),
+            Map.entry("CACHE_ACCESS_PATTERN", "hot-set:0.1:0.9"),
+            Map.entry("CACHE_KEY_SPACE", " 200000 "),
+            Map.entry("CACHE_WARMUP", "snapshot:/tmp/cache.bin"),
+            Map.entry("LATENCY_PROFILE", "bimodal:250:0.01"),
+            Map.entry("PAYLOAD_MODE", " Direct "),
+            Map.entry("HTTP2_ENABLED", " TRUE "),
+            Map.entry("TLS_MODE", " JDK "),
+            Map.entry("IO_TRANSPORT", " IO_URING "),
+            Map.entry("VERTX_ROUTING", " Raw "),
+            Map.entry("CACHE_SHARDING", " Per-Event-Loop "),
+            Map.entry("VERTX_CACHE_ACCESS", " EventBus ")
         );
 
         ServiceConfig config = ServiceConfig.fromEnvironment(environment::get);
@@ -69,6 +136,18 @@ class ServiceConfigTest {
         assertEquals(9091, config.port());
         assertEquals(123456L, config.cacheSize());
         assertEquals(12, config.eventLoopSize());
+        assertEquals(ResponseEncoding.PRE_ENCODED, config.responseEncoding());
+        assertEquals("hot-set:0.1:0.9", config.cacheAccessPattern());
+        assertEquals(200000L, config.cacheKeySpace());
+        assertEquals("snapshot:/tmp/cache.bin", config.cacheWarmup());
+        assertEquals("bimodal:250:0.01", config.latencyProfile());
+        assertEquals(PayloadMode.DIRECT, config.payloadMode());
+        assertTrue(config.http2Enabled());
+        assertEquals(TlsMode.JDK, config.tlsMode());
+        assertEquals(IoTransport.IO_URING, config.ioTransport());
+        assertEquals(RoutingMode.RAW, config.routingMode());
+        assertEquals(CacheSharding.PER_EVENT_LOOP, config.cacheSharding());
+        assertEquals(CacheAccess.EVENTBUS, config.cacheAccess());
     }
 
     @Test
@@ -77,12 +156,67 @@ class ServiceConfigTest {
             case "SERVICE_PORT" -> "not-a-number";
             case "CACHE_SIZE" -> "50000";
             case "VERTX_EVENT_LOOP_SIZE" -> "2";
+            case "RESPONSE_ENCODING" -> "dynamic";
+            case "CACHE_ACCESS_PATTERN" -> "uniform";
+            case "CACHE_KEY_SPACE" -> "0";
+            case "CACHE_WARMUP" -> "parallel";
             default -> throw new IllegalArgumentException("Unexpected key: " + key);
         };
 
         assertThrows(NumberFormatException.class, () -> ServiceConfig.fromEnvironment(environmentProvider));
     }
 
+    @Test
+    void fromEnvironmentRejectsUnknownResponseEncoding() {
+        Map<String, String> environment = Map.of("RESPONSE_ENCODING", "gzip");
+
+        assertThrows(IllegalArgumentException.class, () -> ServiceConfig.fromEnvironment(environment::get));
+    }
+
+    @Test
+    void fromEnvironmentRejectsUnknownPayloadMode() {
+        Map<String, String> environment = Map.of("PAYLOAD_MODE", "sendfile");
+
+        assertThrows(IllegalArgumentException.class, () -> ServiceConfig.fromEnvironment(environment::get));
+    }
+
+    @Test
+    void fromEnvironmentRejectsUnknownTlsMode() {
+        Map<String, String> environment = Map.of("TLS_MODE", "boringssl");
+
+        assertThrows(IllegalArgumentException.class, () -> ServiceConfig.fromEnvironment(environment::get));
+    }
+
+    @Test
+    void fromEnvironmentRejectsUnknownRoutingMode() {
+        Map<String, String> environment = Map.of("VERTX_ROUTING", "fast");
+
+        assertThrows(IllegalArgumentException.class, () -> ServiceConfig.fromEnvironment(environment::get));
+    }
+
+    @Test
+    void fromEnvironmentRejectsUnknownCacheSharding() {
+        Map<String, String> environment = Map.of("CACHE_SHARDING", "per-core");
+
+        assertThrows(IllegalArgumentException.class, () -> ServiceConfig.fromEnvironment(environment::get));
+    }
+
+    @Test
+    void fromEnvironmentRejectsUnknownCacheAccess() {
+        Map<String, String> environment = Map.of("VERTX_CACHE_ACCESS", "shared-data");
+
+        assertThrows(IllegalArgumentException.class, () -> ServiceConfig.fromEnvironment(environment::get));
+    }
+
+    @Test
+    void ioTransportFallsBackToTheFirstAvailableTransport() {
+        assertEquals(IoTransport.IO_URING, IoTransport.IO_URING.resolve(transport -> true));
+        assertEquals(IoTransport.EPOLL, IoTransport.IO_URING.resolve(transport -> transport == IoTransport.EPOLL));
+        assertEquals(IoTransport.NIO, IoTransport.IO_URING.resolve(transport -> false));
+        assertEquals(IoTransport.NIO, IoTransport.NIO.resolve(transport -> true));
+        assertThrows(IllegalArgumentException.class, () -> IoTransport.parse("kqueue"));
+    }
+
     @Test
     void fromEnvironmentRejectsNullEnvironmentProvider() {
         assertThrows(NullPointerException.class, () -> ServiceConfig.fromEnvironment(null));
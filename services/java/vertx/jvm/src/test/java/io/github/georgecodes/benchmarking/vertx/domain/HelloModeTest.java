@@ -25,5 +25,12 @@ class HelloModeTest {
         assertNotNull(HelloMode.REACTIVE.responsePrefix());
         assertEquals("Hello from Vertx reactive REST ", HelloMode.REACTIVE.responsePrefix());
     }
-}
 
+    @Test
+    void blockingModesHaveTheirOwnTagsAndPrefixes() {
+        assertEquals("/hello/platform", HelloMode.PLATFORM.endpointTag());
+        assertEquals("Hello from Vertx platform REST ", HelloMode.PLATFORM.responsePrefix());
+        assertEquals("/hello/virtual", HelloMode.VIRTUAL.endpointTag());
+        assertEquals("Hello from Vertx virtual REST ", HelloMode.VIRTUAL.responsePrefix());
+    }
+}
@@ -4,7 +4,9 @@ import com.github.benmanes.caffeine.cache.Cache;
 import io.github.georgecodes.benchmarking.vertx.infra.CacheProvider;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -35,5 +37,46 @@ class HelloServiceTest {
         assertTrue(result.startsWith("Hello from Vertx reactive REST "),
             "Expected prefix, got: " + result);
     }
-}
 
+    @Test
+    void missesAreCountedForKeysOutsideTheCache() {
+        HelloService service = new HelloService(cache, CacheKeySelector.parse("sequential", 20));
+
+        for (int i = 0; i < 20; i++) {
+            service.handle(HelloMode.REACTIVE);
+        }
+
+        assertEquals(10, service.cacheMisses());
+    }
+
+    @Test
+    void keyChosenByOneServiceCanBeLookedUpByAnother() {
+        HelloService requester = new HelloService(CacheProvider.create(0), CacheKeySelector.parse("sequential", 20));
+
+        String first = requester.nextKey();
+        String second = requester.nextKey();
+
+        assertEquals("1", first);
+        assertEquals("2", second);
+        assertEquals("value-2", helloService.cachedValue(second));
+        assertNull(helloService.cachedValue("11"));
+        assertEquals(1, helloService.cacheMisses());
+        assertEquals(0, requester.cacheMisses());
+    }
+
+    @Test
+    void fixedPatternNeverMissesOnPopulatedCache() {
+        helloService.handle(HelloMode.REACTIVE);
+
+        assertEquals(0, helloService.cacheMisses());
+    }
+
+    @Test
+    void workIsRecordedOnlyWhenRequested() {
+        helloService.work(0);
+        helloService.work(32);
+
+        assertEquals(1, helloService.workRequests());
+        assertTrue(helloService.workCpuNanos() > 0);
+    }
+}
@@ -0,0 +1,36 @@
+package io.github.georgecodes.benchmarking.vertx.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for {@link HelloStream}.
+ */
+class HelloStreamTest {
+
+    @Test
+    void elementIsOneJsonLine() {
+        assertEquals("{\"seq\":3,\"message\":\"hi\"}\n",
+            new String(HelloStream.element(3, "hi"), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void acceptsInRangeParameters() {
+        assertEquals(1, HelloStream.checkElements(1));
+        assertEquals(HelloStream.MAX_ELEMENTS, HelloStream.checkElements(HelloStream.MAX_ELEMENTS));
+        assertEquals(0L, HelloStream.checkInterval(0));
+    }
+
+    @Test
+    void rejectsOutOfRangeParameters() {
+        assertThrows(IllegalArgumentException.class, () -> HelloStream.checkElements(0));
+        assertThrows(IllegalArgumentException.class, () -> HelloStream.checkElements(HelloStream.MAX_ELEMENTS + 1));
+        assertThrows(IllegalArgumentException.class, () -> HelloStream.checkInterval(-1));
+        assertThrows(IllegalArgumentException.class,
+            () -> HelloStream.checkInterval(HelloStream.MAX_INTERVAL_MILLIS + 1));
+    }
+}
@@ -3,8 +3,11 @@ package io.github.georgecodes.benchmarking.vertx.infra;
 import com.github.benmanes.caffeine.cache.Cache;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
 /**
@@ -36,4 +39,18 @@ class CacheProviderTest {
         assertEquals("value-5", cache.getIfPresent("5"));
         assertNull(cache.getIfPresent("6"));
     }
+
+    @Test
+    void createShardsBuildsIndependentPopulatedCaches() {
+        List<Cache<String, String>> shards = CacheProvider.createShards(3, 10, CacheWarmer.parse("parallel"));
+
+        assertEquals(3, shards.size());
+        for (Cache<String, String> shard : shards) {
+            assertEquals(10, shard.asMap().size());
+            assertEquals("value-10", shard.getIfPresent("10"));
+        }
+        shards.getFirst().put("1", "changed");
+        assertEquals("value-1", shards.get(1).getIfPresent("1"));
+        assertNotSame(shards.get(0), shards.get(1));
+    }
 }
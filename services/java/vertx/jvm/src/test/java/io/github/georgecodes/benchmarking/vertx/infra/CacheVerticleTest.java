@@ -0,0 +1,83 @@
+package io.github.georgecodes.benchmarking.vertx.infra;
+
+import io.github.georgecodes.benchmarking.vertx.domain.CacheKeySelector;
+import io.github.georgecodes.benchmarking.vertx.domain.HelloService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.ReplyException;
+import io.vertx.core.eventbus.ReplyFailure;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Integration tests for {@link CacheVerticle} and {@link EventBusCacheClient}.
+ */
+class CacheVerticleTest {
+
+    private Vertx vertx;
+    private SimpleMeterRegistry registry;
+    private EventBusCacheMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        vertx = Vertx.vertx();
+        CacheVerticle.registerCodecs(vertx.eventBus());
+        registry = new SimpleMeterRegistry();
+        metrics = EventBusCacheMetrics.create(registry);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        vertx.close()
+            .toCompletionStage()
+            .toCompletableFuture()
+            .get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void clientReadsTheOwnersCacheWithTheRequestersKeys() throws Exception {
+        HelloService owner = new HelloService(CacheProvider.create(2));
+        await(vertx.deployVerticle(new CacheVerticle(owner)));
+        HelloService requester = new HelloService(CacheProvider.create(0), CacheKeySelector.parse("sequential", 3));
+        EventBusCacheClient client = new EventBusCacheClient(vertx, requester, metrics);
+
+        assertEquals("value-1", await(client.cachedValue()));
+        assertEquals("value-2", await(client.cachedValue()));
+        assertNull(await(client.cachedValue()));
+
+        assertEquals(1, owner.cacheMisses());
+        assertEquals(0, metrics.pending());
+        assertEquals(3L, registry.get("hello.cache.eventbus.time").timer().count());
+        assertEquals(0.0, registry.get("hello.cache.eventbus.pending").gauge().value());
+    }
+
+    @Test
+    void clientFailsWithoutCacheVerticle() {
+        EventBusCacheClient client = new EventBusCacheClient(vertx, new HelloService(CacheProvider.create(1)), metrics);
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> await(client.cachedValue()));
+
+        ReplyException cause = assertInstanceOf(ReplyException.class, e.getCause());
+        assertEquals(ReplyFailure.NO_HANDLERS, cause.failureType());
+        assertEquals(0, metrics.pending());
+    }
+
+    @Test
+    void codecsCanOnlyBeRegisteredOncePerEventBus() {
+        assertThrows(IllegalStateException.class, () -> CacheVerticle.registerCodecs(vertx.eventBus()));
+    }
+
+    private static <T> T await(Future<T> future) throws Exception {
+        return future.toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+}
@@ -1,12 +1,19 @@
 package io.github.georgecodes.benchmarking.vertx.infra;
 
+import io.github.georgecodes.benchmarking.vertx.domain.CacheKeySelector;
+import io.github.georgecodes.benchmarking.vertx.domain.HelloService;
+import io.github.georgecodes.benchmarking.vertx.domain.StreamBacklog;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -65,4 +72,55 @@ class MetricsProviderTest {
 
         assertEquals(3.0, counter.count(), "counter should reflect 3 increments");
     }
-}
\ No newline at end of file
+
+    @Test
+    void blockingModesCountUnderTheirOwnEndpointTags() {
+        MetricsProvider provider = MetricsProvider.create("/hello/reactive");
+        provider.incrementPlatform();
+        provider.incrementVirtual();
+        provider.incrementVirtual();
+
+        assertEquals(1.0, testRegistry.get("hello.request.count").tag("endpoint", "/hello/platform").counter().count());
+        assertEquals(2.0, testRegistry.get("hello.request.count").tag("endpoint", "/hello/virtual").counter().count());
+    }
+
+    @Test
+    void cacheMissCounterSumsAllShards() {
+        MetricsProvider provider = MetricsProvider.create("/hello/reactive");
+        HelloService first = new HelloService(CacheProvider.create(1), CacheKeySelector.parse("sequential", 2));
+        HelloService second = new HelloService(CacheProvider.create(1), CacheKeySelector.parse("sequential", 2));
+        provider.registerCacheMissCounter(List.of(first, second));
+        for (int i = 0; i < 2; i++) {
+            first.cachedValue();
+            second.cachedValue();
+        }
+
+        FunctionCounter counter = testRegistry.get("hello.cache.miss.count").functionCounter();
+        assertEquals(first.cacheMisses() + second.cacheMisses(), counter.count());
+        assertEquals(2.0, counter.count());
+    }
+
+    @Test
+    void openStreamRecordsPeakOutstandingBytesOnClose() {
+        MetricsProvider provider = MetricsProvider.create("/hello/reactive");
+        StreamBacklog backlog = provider.openStream();
+        backlog.produced(100);
+        backlog.written(100);
+        backlog.close();
+
+        DistributionSummary summary = testRegistry.find("hello.stream.outstanding.peak").summary();
+        assertNotNull(summary);
+        assertEquals(1, summary.count());
+        assertEquals(100.0, summary.max());
+    }
+
+    @Test
+    void recordEchoRequestBytesIncrementsCounter() {
+        MetricsProvider provider = MetricsProvider.create("/hello/reactive");
+        provider.recordEchoRequestBytes(42);
+
+        Counter counter = testRegistry.find("hello.echo.request.bytes").counter();
+        assertNotNull(counter);
+        assertEquals(42.0, counter.count());
+    }
+}
@@ -0,0 +1,86 @@
+package io.github.georgecodes.benchmarking.vertx.infra;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import javax.net.ssl.SSLSession;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link TlsHandshakeMetrics}.
+ */
+class TlsHandshakeMetricsTest {
+
+    @Test
+    void fullHandshakeIsCountedAndTimed() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TlsHandshakeMetrics metrics = TlsHandshakeMetrics.create(registry, "openssl");
+
+        metrics.record(session(1_000L), false, TimeUnit.MILLISECONDS.toNanos(4));
+
+        assertEquals(1.0, fullCount(registry));
+        assertEquals(0.0, resumedCount(registry));
+        assertEquals(4.0, registry.get("tls.handshake.time").tag("engine", "openssl").timer()
+            .totalTime(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void resumedHandshakeIsCountedButNotTimed() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TlsHandshakeMetrics metrics = TlsHandshakeMetrics.create(registry, "openssl");
+
+        metrics.record(session(1_000L), true, TimeUnit.MILLISECONDS.toNanos(1));
+
+        assertEquals(0.0, fullCount(registry));
+        assertEquals(1.0, resumedCount(registry));
+        assertEquals(0L, registry.get("tls.handshake.time").timer().count());
+    }
+
+    @Test
+    void recordedSessionIsSeenBefore() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TlsHandshakeMetrics metrics = TlsHandshakeMetrics.create(registry, "jdk");
+        SSLSession session = session(1_000L);
+
+        assertFalse(TlsHandshakeMetrics.seenBefore(session, 1_000L));
+        metrics.record(session, false, 1L);
+
+        assertTrue(TlsHandshakeMetrics.seenBefore(session, 1_000L));
+    }
+
+    @Test
+    void sessionCreatedBeforeTheHandshakeIsSeenBefore() {
+        assertTrue(TlsHandshakeMetrics.seenBefore(session(999L), 1_000L));
+        assertFalse(TlsHandshakeMetrics.seenBefore(session(1_002L), 1_000L));
+    }
+
+    private static double fullCount(SimpleMeterRegistry registry) {
+        return registry.get("tls.handshake.count").tag("resumed", "false").counter().count();
+    }
+
+    private static double resumedCount(SimpleMeterRegistry registry) {
+        return registry.get("tls.handshake.count").tag("resumed", "true").counter().count();
+    }
+
+    /** Session with a fixed creation time and a working value store; nothing else is called. */
+    private static SSLSession session(long creationTimeMillis) {
+        Map<String, Object> values = new HashMap<>();
+        return (SSLSession) Proxy.newProxyInstance(SSLSession.class.getClassLoader(),
+            new Class<?>[] {SSLSession.class}, (proxy, method, args) -> switch (method.getName()) {
+                case "getCreationTime" -> creationTimeMillis;
+                case "getValue" -> values.get((String) args[0]);
+                case "putValue" -> {
+                    values.put((String) args[0], args[1]);
+                    yield null;
+                }
+                default -> throw new UnsupportedOperationException(method.getName());
+            });
+    }
+}
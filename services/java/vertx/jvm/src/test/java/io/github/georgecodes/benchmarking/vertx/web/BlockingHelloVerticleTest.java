@@ -0,0 +1,158 @@
+package io.github.georgecodes.benchmarking.vertx.web;
+
+import io.github.georgecodes.benchmarking.vertx.domain.HelloMode;
+import io.github.georgecodes.benchmarking.vertx.domain.HelloService;
+import io.github.georgecodes.benchmarking.vertx.infra.CacheProvider;
+import io.github.georgecodes.benchmarking.vertx.infra.MetricsProvider;
+import io.vertx.core.DeploymentOptions;
+import io.vertx.core.Future;
+import io.vertx.core.ThreadingModel;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.ReplyException;
+import io.vertx.core.http.HttpServerOptions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Integration tests for {@link BlockingHelloVerticle} behind {@link BlockingRoutes}.
+ */
+class BlockingHelloVerticleTest {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(REQUEST_TIMEOUT).build();
+
+    private Vertx vertx;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (vertx != null) {
+            vertx.close()
+                .toCompletionStage()
+                .toCompletableFuture()
+                .get(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void rejectsNullArguments() {
+        HelloService service = new HelloService(CacheProvider.create(5));
+        assertThrows(NullPointerException.class, () -> new BlockingHelloVerticle(null, service));
+        assertThrows(NullPointerException.class, () -> new BlockingHelloVerticle(HelloMode.VIRTUAL, null));
+    }
+
+    @Test
+    void addressesAreDistinctPerMode() {
+        assertEquals("hello.platform", BlockingHelloVerticle.address(HelloMode.PLATFORM));
+        assertEquals("hello.virtual", BlockingHelloVerticle.address(HelloMode.VIRTUAL));
+    }
+
+    @Test
+    void workerVerticleAnswersPlatform() throws Exception {
+        String baseUrl = start(true);
+
+        HttpResponse<String> response = get(baseUrl + "/hello/platform?sleepMs=20&work=1&log=true");
+
+        assertEquals(200, response.statusCode());
+        assertEquals("application/json", response.headers().firstValue("content-type").orElse(""));
+        assertEquals("\"Hello from Vertx platform REST value-1\"", response.body());
+    }
+
+    @Test
+    void virtualThreadVerticleInterleavesSleepingRequests() throws Exception {
+        String baseUrl = start(true);
+
+        long started = System.nanoTime();
+        var first = getAsync(baseUrl + "/hello/virtual?sleepMs=500&log=true");
+        var second = getAsync(baseUrl + "/hello/virtual?sleepMs=500");
+        HttpResponse<String> firstResponse = first.get(10, TimeUnit.SECONDS);
+        HttpResponse<String> secondResponse = second.get(10, TimeUnit.SECONDS);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        assertEquals(200, firstResponse.statusCode());
+        assertEquals("\"Hello from Vertx virtual REST value-1\"", firstResponse.body());
+        assertEquals(200, secondResponse.statusCode());
+        // A single instance: the timer await releases the context, so the sleeps overlap instead of adding up.
+        assertTrue(elapsedMillis < 1000, "requests were served one after the other: " + elapsedMillis + " ms");
+    }
+
+    @Test
+    void rejectsInvalidWorkBeforeTheHop() throws Exception {
+        String baseUrl = start(true);
+
+        HttpResponse<String> response = get(baseUrl + "/hello/platform?sleepMs=20&work=-1");
+
+        assertEquals(400, response.statusCode());
+        assertTrue(response.body().startsWith("work must be between 0 and"), response.body());
+        assertEquals(400, get(baseUrl + "/hello/virtual?sleepMs=20&work=-1").statusCode());
+    }
+
+    @Test
+    void failsTheMessageOnInvalidWork() throws Exception {
+        start(true);
+
+        var reply = vertx.eventBus()
+            .request(BlockingHelloVerticle.address(HelloMode.PLATFORM), new BlockingHelloRequest(0L, -1, false))
+            .toCompletionStage()
+            .toCompletableFuture();
+
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> reply.get(10, TimeUnit.SECONDS));
+        assertEquals(400, assertInstanceOf(ReplyException.class, failure.getCause()).failureCode());
+    }
+
+    @Test
+    void answersServiceUnavailableWithoutConsumers() throws Exception {
+        String baseUrl = start(false);
+
+        assertEquals(503, get(baseUrl + "/hello/platform").statusCode());
+        assertEquals(503, get(baseUrl + "/hello/virtual").statusCode());
+    }
+
+    private String start(boolean deployBlocking) throws Exception {
+        vertx = Vertx.vertx();
+        BlockingHelloVerticle.registerCodec(vertx.eventBus());
+        HelloService helloService = new HelloService(CacheProvider.create(10));
+        if (deployBlocking) {
+            await(vertx.deployVerticle(() -> new BlockingHelloVerticle(HelloMode.PLATFORM, helloService),
+                new DeploymentOptions().setThreadingModel(ThreadingModel.WORKER).setInstances(2)));
+            await(vertx.deployVerticle(() -> new BlockingHelloVerticle(HelloMode.VIRTUAL, helloService),
+                new DeploymentOptions().setThreadingModel(ThreadingModel.VIRTUAL_THREAD)));
+        }
+        HttpServerVerticle verticle = new HttpServerVerticle(0, helloService,
+            MetricsProvider.create(HelloMode.REACTIVE.endpointTag()),
+            new HttpServerOptions().setHost("127.0.0.1").setPort(0));
+        await(vertx.deployVerticle(verticle));
+        return "http://127.0.0.1:" + verticle.actualPort();
+    }
+
+    private static void await(Future<String> deployment) throws Exception {
+        deployment.toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    private HttpResponse<String> get(String url) throws Exception {
+        return getAsync(url).get(10, TimeUnit.SECONDS);
+    }
+
+    private CompletableFuture<HttpResponse<String>> getAsync(String url) {
+        HttpRequest request = HttpRequest.newBuilder()
+            .uri(URI.create(url))
+            .timeout(REQUEST_TIMEOUT)
+            .GET()
+            .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
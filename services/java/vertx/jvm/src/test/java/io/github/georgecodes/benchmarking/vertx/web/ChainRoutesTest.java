@@ -0,0 +1,104 @@
+package io.github.georgecodes.benchmarking.vertx.web;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.github.georgecodes.benchmarking.vertx.config.DownstreamConfig;
+import io.github.georgecodes.benchmarking.vertx.domain.HelloService;
+import io.github.georgecodes.benchmarking.vertx.infra.CacheProvider;
+import io.github.georgecodes.benchmarking.vertx.infra.DownstreamClient;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import io.vertx.ext.web.Router;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Integration tests for {@link ChainRoutes} against an in-process downstream server.
+ */
+class ChainRoutesTest {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+
+    private static Vertx vertx;
+    private static HttpClient httpClient;
+    private static String downstreamBase;
+
+    @BeforeAll
+    static void setUpAll() throws Exception {
+        vertx = Vertx.vertx();
+        HttpServer downstream = await(vertx.createHttpServer()
+            .requestHandler(req -> {
+                if ("/ok".equals(req.path())) {
+                    req.response().end("pong");
+                } else {
+                    req.response().setStatusCode(503).end();
+                }
+            })
+            .listen(0, "127.0.0.1"));
+        downstreamBase = "http://127.0.0.1:" + downstream.actualPort();
+        httpClient = HttpClient.newBuilder().connectTimeout(REQUEST_TIMEOUT).build();
+    }
+
+    @AfterAll
+    static void tearDownAll() throws Exception {
+        if (vertx != null) {
+            await(vertx.close());
+        }
+    }
+
+    @Test
+    void chainAppendsDownstreamBody() throws Exception {
+        HttpResponse<String> response = get(downstreamBase + "/ok");
+
+        assertEquals(200, response.statusCode());
+        assertEquals(ChainRoutes.PREFIX + "value-1 <- pong", response.body());
+    }
+
+    @Test
+    void chainAnswersBadGatewayOnDownstreamError() throws Exception {
+        HttpResponse<String> response = get(downstreamBase + "/fail");
+
+        assertEquals(502, response.statusCode());
+        assertEquals("downstream answered 503", response.body());
+    }
+
+    @Test
+    void chainAnswersBadGatewayWhenDownstreamIsDown() throws Exception {
+        HttpResponse<String> response = get("http://127.0.0.1:1/downstream");
+
+        assertEquals(502, response.statusCode());
+    }
+
+    private static HttpResponse<String> get(String downstreamUrl) throws Exception {
+        Cache<String, String> cache = CacheProvider.create(10);
+        DownstreamClient client = DownstreamClient.create(vertx, new DownstreamConfig(downstreamUrl, 2, 1_000));
+        Router router = Router.router(vertx);
+        new ChainRoutes(new HelloService(cache), client).register(router);
+        HttpServer server = await(vertx.createHttpServer().requestHandler(router).listen(0, "127.0.0.1"));
+        try {
+            HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create("http://127.0.0.1:" + server.actualPort() + "/hello/chain"))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } finally {
+            client.close();
+            await(server.close());
+        }
+    }
+
+    private static <T> T await(Future<T> future) throws Exception {
+        return future.toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+}
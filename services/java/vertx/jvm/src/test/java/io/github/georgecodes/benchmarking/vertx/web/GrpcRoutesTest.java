@@ -0,0 +1,117 @@
+package io.github.georgecodes.benchmarking.vertx.web;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.github.georgecodes.benchmarking.vertx.domain.HelloMode;
+import io.github.georgecodes.benchmarking.vertx.domain.HelloService;
+import io.github.georgecodes.benchmarking.vertx.domain.LatencyProfile;
+import io.github.georgecodes.benchmarking.vertx.grpc.HelloReply;
+import io.github.georgecodes.benchmarking.vertx.grpc.HelloRequest;
+import io.github.georgecodes.benchmarking.vertx.grpc.StreamRequest;
+import io.github.georgecodes.benchmarking.vertx.infra.CacheProvider;
+import io.github.georgecodes.benchmarking.vertx.infra.MetricsProvider;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.ext.web.Router;
+import io.vertx.grpc.client.GrpcClient;
+import io.vertx.grpc.client.GrpcClientResponse;
+import io.vertx.grpc.common.GrpcMessageDecoder;
+import io.vertx.grpc.common.GrpcMessageEncoder;
+import io.vertx.grpc.common.GrpcStatus;
+import io.vertx.grpc.common.ServiceMethod;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Integration tests for {@link GrpcRoutes} through a Vert.x gRPC client over h2c.
+ */
+class GrpcRoutesTest {
+
+    private static final ServiceMethod<HelloReply, HelloRequest> SAY_HELLO = ServiceMethod.client(
+        GrpcRoutes.SERVICE, "SayHello",
+        GrpcMessageEncoder.encoder(), GrpcMessageDecoder.decoder(HelloReply.newBuilder()));
+
+    private static final ServiceMethod<HelloReply, StreamRequest> STREAM_HELLO = ServiceMethod.client(
+        GrpcRoutes.SERVICE, "StreamHello",
+        GrpcMessageEncoder.encoder(), GrpcMessageDecoder.decoder(HelloReply.newBuilder()));
+
+    private static Vertx vertx;
+    private static GrpcClient client;
+    private static SocketAddress address;
+
+    @BeforeAll
+    static void setUpAll() throws Exception {
+        vertx = Vertx.vertx();
+        Cache<String, String> cache = CacheProvider.create(10);
+        Router router = Router.router(vertx);
+        new GrpcRoutes(new HelloService(cache), MetricsProvider.create(HelloMode.REACTIVE.endpointTag()),
+            LatencyProfile.constant()).register(router, vertx);
+        HttpServer server = await(vertx.createHttpServer().requestHandler(router).listen(0, "127.0.0.1"));
+        address = SocketAddress.inetSocketAddress(server.actualPort(), "127.0.0.1");
+        client = GrpcClient.client(vertx);
+    }
+
+    @AfterAll
+    static void tearDownAll() throws Exception {
+        if (vertx != null) {
+            await(vertx.close());
+        }
+    }
+
+    @Test
+    void sayHelloRepliesWithCachedValue() throws Exception {
+        HelloReply reply = await(client.request(address, SAY_HELLO)
+            .compose(request -> {
+                request.end(HelloRequest.newBuilder().setSleepMs(5).build());
+                return request.response();
+            })
+            .compose(GrpcClientResponse::last));
+
+        assertEquals(0, reply.getSeq());
+        assertEquals(HelloMode.GRPC.responsePrefix() + "value-1", reply.getMessage());
+    }
+
+    @Test
+    void streamHelloSendsRequestedReplies() throws Exception {
+        List<HelloReply> replies = new CopyOnWriteArrayList<>();
+        GrpcStatus status = stream(StreamRequest.newBuilder().setN(3).setIntervalMs(1).build(), replies);
+
+        assertEquals(GrpcStatus.OK, status);
+        assertEquals(List.of(0L, 1L, 2L), replies.stream().map(HelloReply::getSeq).toList());
+        assertEquals(HelloMode.GRPC.responsePrefix() + "value-1", replies.getFirst().getMessage());
+    }
+
+    @Test
+    void streamHelloRejectsOutOfRangeCount() throws Exception {
+        List<HelloReply> replies = new CopyOnWriteArrayList<>();
+        GrpcStatus status = stream(StreamRequest.newBuilder().setN(-1).build(), replies);
+
+        assertEquals(GrpcStatus.INVALID_ARGUMENT, status);
+        assertEquals(List.of(), replies);
+    }
+
+    private static GrpcStatus stream(StreamRequest message, List<HelloReply> replies) throws Exception {
+        return await(client.request(address, STREAM_HELLO)
+            .compose(request -> {
+                request.end(message);
+                return request.response();
+            })
+            .compose(response -> {
+                response.handler(replies::add);
+                // end() fails on a non-OK status; either way the status is known once it completes.
+                return response.end().transform(_ -> Future.succeededFuture(response.status()));
+            }));
+    }
+
+    private static <T> T await(Future<T> future) throws Exception {
+        return future.toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+}
@@ -1,11 +1,18 @@
 package io.github.georgecodes.benchmarking.vertx.web;
 
 import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.georgecodes.benchmarking.vertx.config.PayloadMode;
+import io.github.georgecodes.benchmarking.vertx.config.ResponseEncoding;
+import io.github.georgecodes.benchmarking.vertx.domain.CpuWork;
 import io.github.georgecodes.benchmarking.vertx.domain.HelloMode;
 import io.github.georgecodes.benchmarking.vertx.domain.HelloService;
+import io.github.georgecodes.benchmarking.vertx.domain.HelloStream;
+import io.github.georgecodes.benchmarking.vertx.domain.LatencyProfile;
 import io.github.georgecodes.benchmarking.vertx.infra.CacheProvider;
 import io.github.georgecodes.benchmarking.vertx.infra.MetricsProvider;
 import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
 import io.vertx.ext.web.Router;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -16,11 +23,13 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -223,6 +232,45 @@ class HelloRoutesTest {
         assertEquals("\"Hello from Vertx reactive REST value-1\"", response.body());
     }
 
+    @Test
+    void helloReactiveWithMillisecondSleep() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+            .uri(URI.create(baseUrl + "/hello/reactive?sleepMs=50"))
+            .timeout(Duration.ofSeconds(5))
+            .GET()
+            .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode());
+        assertEquals("\"Hello from Vertx reactive REST value-1\"", response.body());
+    }
+
+    @Test
+    void helloReactiveWithLatencyProfileOverride() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+            .uri(URI.create(baseUrl + "/hello/reactive?sleepMs=10&latency=bimodal:20:1"))
+            .timeout(Duration.ofSeconds(5))
+            .GET()
+            .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode());
+        assertEquals("\"Hello from Vertx reactive REST value-1\"", response.body());
+    }
+
+    @Test
+    void helloReactiveWithCpuWork() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+            .uri(URI.create(baseUrl + "/hello/reactive?work=64"))
+            .timeout(Duration.ofSeconds(5))
+            .GET()
+            .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode());
+        assertEquals("\"Hello from Vertx reactive REST value-1\"", response.body());
+    }
+
     @Test
     void helloReactiveWithBothParams() throws Exception {
         HttpRequest request = HttpRequest.newBuilder()
@@ -236,6 +284,183 @@ class HelloRoutesTest {
         assertEquals("\"Hello from Vertx reactive REST value-1\"", response.body());
     }
 
+    @Test
+    void payloadModesServeIdenticalBodies() throws Exception {
+        byte[] expected = Payload.create(PayloadMode.HEAP).heapCopy(100_000);
+        for (PayloadMode mode : PayloadMode.values()) {
+            HelloRoutes routes = new HelloRoutes(new HelloService(CacheProvider.create(10)),
+                MetricsProvider.create(HelloMode.REACTIVE.endpointTag()), ResponseEncoding.DYNAMIC,
+                LatencyProfile.constant(), Payload.create(mode), null);
+            Router router = Router.router(vertx);
+            routes.register(router, vertx);
+            HttpServer server = vertx.createHttpServer()
+                .requestHandler(router)
+                .listen(0)
+                .toCompletionStage()
+                .toCompletableFuture()
+                .get(10, TimeUnit.SECONDS);
+            try {
+                HttpRequest request = HttpRequest.newBuilder()
+                    .uri(URI.create("http://127.0.0.1:" + server.actualPort() + "/hello/reactive?size=100000"))
+                    .timeout(Duration.ofSeconds(5))
+                    .GET()
+                    .build();
+                HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+
+                assertEquals(200, response.statusCode(), mode.name());
+                assertEquals("application/octet-stream", response.headers().firstValue("content-type").orElse(""));
+                assertArrayEquals(expected, response.body(), mode.name());
+            } finally {
+                server.close()
+                    .toCompletionStage()
+                    .toCompletableFuture()
+                    .get(10, TimeUnit.SECONDS);
+            }
+        }
+    }
+
+    @Test
+    void payloadRequestStillLooksUpTheCache() throws Exception {
+        HelloService service = new HelloService(Caffeine.newBuilder().<String, String>build());
+        HelloRoutes routes = new HelloRoutes(service, MetricsProvider.create(HelloMode.REACTIVE.endpointTag()),
+            ResponseEncoding.DYNAMIC, LatencyProfile.constant(), Payload.create(PayloadMode.HEAP), null);
+        Router router = Router.router(vertx);
+        routes.register(router, vertx);
+        HttpServer server = vertx.createHttpServer()
+            .requestHandler(router)
+            .listen(0)
+            .toCompletionStage()
+            .toCompletableFuture()
+            .get(10, TimeUnit.SECONDS);
+        try {
+            HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create("http://127.0.0.1:" + server.actualPort() + "/hello/reactive?size=100"))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+
+            assertEquals(200, response.statusCode());
+            assertEquals(100, response.body().length);
+            assertEquals(1, service.cacheMisses());
+        } finally {
+            server.close()
+                .toCompletionStage()
+                .toCompletableFuture()
+                .get(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void helloReactiveRejectsOversizedPayload() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+            .uri(URI.create(baseUrl + "/hello/reactive?size=" + (Payload.MAX_BYTES + 1)))
+            .timeout(Duration.ofSeconds(5))
+            .GET()
+            .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(400, response.statusCode());
+    }
+
+    @Test
+    void helloReactiveRejectsInvalidWorkBeforeSleeping() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+            .uri(URI.create(baseUrl + "/hello/reactive?sleepMs=10&work=" + (CpuWork.MAX_KILOBYTES + 1)))
+            .timeout(Duration.ofSeconds(5))
+            .GET()
+            .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(400, response.statusCode());
+        assertTrue(response.body().startsWith("work must be between 0 and"), response.body());
+    }
+
+    @Test
+    void helloStreamWritesDefaultElementCount() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+            .uri(URI.create(baseUrl + "/hello/stream"))
+            .timeout(Duration.ofSeconds(5))
+            .GET()
+            .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode());
+        assertEquals("application/x-ndjson", response.headers().firstValue("content-type").orElse(""));
+        List<String> lines = response.body().lines().toList();
+        assertEquals(HelloStream.DEFAULT_ELEMENTS, lines.size());
+        assertEquals("{\"seq\":0,\"message\":\"Hello from Vertx reactive REST value-1\"}", lines.getFirst());
+    }
+
+    @Test
+    void helloStreamSpacesElementsByInterval() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+            .uri(URI.create(baseUrl + "/hello/stream?n=3&interval=50"))
+            .timeout(Duration.ofSeconds(5))
+            .GET()
+            .build();
+        long start = System.nanoTime();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode());
+        assertEquals(3, response.body().lines().count());
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() >= 100);
+    }
+
+    @Test
+    void helloStreamRejectsEmptyStream() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+            .uri(URI.create(baseUrl + "/hello/stream?n=0"))
+            .timeout(Duration.ofSeconds(5))
+            .GET()
+            .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(400, response.statusCode());
+        assertTrue(response.body().startsWith("n must be between"), response.body());
+    }
+
+    @Test
+    void helloStreamRejectsMalformedInterval() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+            .uri(URI.create(baseUrl + "/hello/stream?interval=soon"))
+            .timeout(Duration.ofSeconds(5))
+            .GET()
+            .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(400, response.statusCode());
+    }
+
+    @Test
+    void helloEchoEchoesEveryItem() throws Exception {
+        String json = "{\"items\":[{\"key\":\"1\",\"payload\":\"a\"},{\"key\":\"missing\",\"payload\":\"b\"}]}";
+        HttpRequest request = HttpRequest.newBuilder()
+            .uri(URI.create(baseUrl + "/hello/echo"))
+            .timeout(Duration.ofSeconds(5))
+            .header("content-type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(json))
+            .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode());
+        assertEquals("{\"count\":2,\"items\":[{\"key\":\"1\",\"payload\":\"a\",\"value\":\"value-1\"},"
+            + "{\"key\":\"missing\",\"payload\":\"b\",\"value\":null}]}", response.body());
+    }
+
+    @Test
+    void helloEchoRejectsMissingKey() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+            .uri(URI.create(baseUrl + "/hello/echo"))
+            .timeout(Duration.ofSeconds(5))
+            .header("content-type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString("{\"items\":[{\"payload\":\"a\"}]}"))
+            .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(400, response.statusCode());
+    }
+
     @Test
     void unknownPathReturns404() throws Exception {
         HttpRequest request = HttpRequest.newBuilder()
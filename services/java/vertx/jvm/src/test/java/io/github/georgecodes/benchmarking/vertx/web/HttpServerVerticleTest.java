@@ -3,12 +3,21 @@ package io.github.georgecodes.benchmarking.vertx.web;
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
 import com.github.benmanes.caffeine.cache.Cache;
+import io.github.georgecodes.benchmarking.vertx.config.ResponseEncoding;
+import io.github.georgecodes.benchmarking.vertx.config.RoutingMode;
 import io.github.georgecodes.benchmarking.vertx.domain.HelloMode;
 import io.github.georgecodes.benchmarking.vertx.domain.HelloService;
 import io.github.georgecodes.benchmarking.vertx.infra.CacheProvider;
+import io.github.georgecodes.benchmarking.vertx.infra.CacheVerticle;
+import io.github.georgecodes.benchmarking.vertx.infra.EventBusCacheMetrics;
 import io.github.georgecodes.benchmarking.vertx.infra.MetricsProvider;
+import io.github.georgecodes.benchmarking.vertx.infra.TlsHandshakeMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.net.SelfSignedCertificate;
+import io.vertx.ext.web.client.WebClient;
+import io.vertx.ext.web.client.WebClientOptions;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -104,6 +113,17 @@ class HttpServerVerticleTest {
             () -> new HttpServerVerticle(8080, service, metrics, null));
     }
 
+    @Test
+    void rejectsNullSettings() {
+        HelloService service = new HelloService(CacheProvider.create(5));
+        MetricsProvider metrics = MetricsProvider.create("/hello/reactive");
+        HttpServerOptions opts = new HttpServerOptions();
+        assertThrows(NullPointerException.class,
+            () -> new HttpServerVerticle(8080, service, metrics, opts, null));
+        assertThrows(NullPointerException.class,
+            () -> HttpServerVerticle.Settings.defaults().withLatencyProfile(null));
+    }
+
     @Test
     void actualPortIsZeroBeforeStart() {
         Cache<String, String> cache = CacheProvider.create(5);
@@ -144,6 +164,138 @@ class HttpServerVerticleTest {
         assertEquals("\"Hello from Vertx reactive REST value-1\"", response.body());
     }
 
+    @Test
+    void helloReactiveUpgradesToH2c() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+            .uri(URI.create(baseUrl + "/hello/reactive"))
+            .version(HttpClient.Version.HTTP_2)
+            .timeout(REQUEST_TIMEOUT)
+            .GET()
+            .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode());
+        assertEquals(HttpClient.Version.HTTP_2, response.version());
+    }
+
+    @Test
+    void tlsConnectionIsRecordedAsFullHandshake() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TlsHandshakeMetrics tlsMetrics = TlsHandshakeMetrics.create(registry, "jdk");
+        HttpServerOptions tlsOptions = new HttpServerOptions()
+            .setHost("127.0.0.1")
+            .setPort(0)
+            .setSsl(true)
+            .setKeyCertOptions(SelfSignedCertificate.create("localhost").keyCertOptions());
+        HttpServerVerticle verticle = new HttpServerVerticle(0, new HelloService(CacheProvider.create(10)),
+            MetricsProvider.create(HelloMode.REACTIVE.endpointTag()), tlsOptions,
+            HttpServerVerticle.Settings.defaults().withTlsHandshakeMetrics(tlsMetrics));
+        String deploymentId = vertx.deployVerticle(verticle)
+            .toCompletionStage()
+            .toCompletableFuture()
+            .get(10, TimeUnit.SECONDS);
+        WebClient client = WebClient.create(vertx, new WebClientOptions()
+            .setSsl(true)
+            .setTrustAll(true)
+            .setVerifyHost(false));
+        try {
+            int status = client.get(verticle.actualPort(), "127.0.0.1", "/ready")
+                .send()
+                .map(response -> response.statusCode())
+                .toCompletionStage()
+                .toCompletableFuture()
+                .get(10, TimeUnit.SECONDS);
+
+            assertEquals(200, status);
+            assertEquals(1.0, registry.get("tls.handshake.count").tag("resumed", "false").counter().count());
+            assertEquals(1L, registry.get("tls.handshake.time").timer().count());
+        } finally {
+            client.close();
+            vertx.undeploy(deploymentId)
+                .toCompletionStage()
+                .toCompletableFuture()
+                .get(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void rawRoutingAnswersHelloAndDelegatesTheRest() throws Exception {
+        HttpServerVerticle verticle = new HttpServerVerticle(0, new HelloService(CacheProvider.create(10)),
+            MetricsProvider.create(HelloMode.REACTIVE.endpointTag()),
+            new HttpServerOptions().setHost("127.0.0.1").setPort(0), HttpServerVerticle.Settings.defaults()
+                .withResponseEncoding(ResponseEncoding.PRE_ENCODED)
+                .withRoutingMode(RoutingMode.RAW));
+        String deploymentId = vertx.deployVerticle(verticle)
+            .toCompletionStage()
+            .toCompletableFuture()
+            .get(10, TimeUnit.SECONDS);
+        String rawUrl = "http://127.0.0.1:" + verticle.actualPort();
+        try {
+            HttpResponse<String> hello = get(rawUrl + "/hello/reactive?sleep=0&log=true");
+            HttpResponse<String> ready = get(rawUrl + "/ready");
+            HttpResponse<String> payload = get(rawUrl + "/hello/reactive?size=16");
+
+            assertEquals(200, hello.statusCode());
+            assertEquals("application/json", hello.headers().firstValue("content-type").orElse(""));
+            assertEquals("\"Hello from Vertx reactive REST value-1\"", hello.body());
+            assertEquals("UP", ready.body());
+            assertEquals(200, payload.statusCode());
+            assertEquals(16, payload.body().length());
+            assertEquals(404, get(rawUrl + "/hello/unknown").statusCode());
+        } finally {
+            vertx.undeploy(deploymentId)
+                .toCompletionStage()
+                .toCompletableFuture()
+                .get(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void eventBusCacheAccessAnswersHelloThroughTheCacheVerticle() throws Exception {
+        Vertx busVertx = Vertx.vertx();
+        try {
+            CacheVerticle.registerCodecs(busVertx.eventBus());
+            HelloService helloService = new HelloService(CacheProvider.create(10));
+            busVertx.deployVerticle(new CacheVerticle(helloService))
+                .toCompletionStage()
+                .toCompletableFuture()
+                .get(10, TimeUnit.SECONDS);
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            HttpServerVerticle verticle = new HttpServerVerticle(0, helloService,
+                MetricsProvider.create(HelloMode.REACTIVE.endpointTag()),
+                new HttpServerOptions().setHost("127.0.0.1").setPort(0), HttpServerVerticle.Settings.defaults()
+                    .withResponseEncoding(ResponseEncoding.PRE_ENCODED)
+                    .withRoutingMode(RoutingMode.RAW)
+                    .withEventBusCacheMetrics(EventBusCacheMetrics.create(registry)));
+            busVertx.deployVerticle(verticle)
+                .toCompletionStage()
+                .toCompletableFuture()
+                .get(10, TimeUnit.SECONDS);
+            String busUrl = "http://127.0.0.1:" + verticle.actualPort();
+
+            HttpResponse<String> raw = get(busUrl + "/hello/reactive");
+            HttpResponse<String> routed = get(busUrl + "/hello/reactive?work=1");
+
+            assertEquals("\"Hello from Vertx reactive REST value-1\"", raw.body());
+            assertEquals("\"Hello from Vertx reactive REST value-1\"", routed.body());
+            assertEquals(2L, registry.get("hello.cache.eventbus.time").timer().count());
+        } finally {
+            busVertx.close()
+                .toCompletionStage()
+                .toCompletableFuture()
+                .get(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private static HttpResponse<String> get(String url) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+            .uri(URI.create(url))
+            .timeout(REQUEST_TIMEOUT)
+            .GET()
+            .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
     @Test
     void helloReactiveWithLogParam() throws Exception {
         HttpRequest request = HttpRequest.newBuilder()
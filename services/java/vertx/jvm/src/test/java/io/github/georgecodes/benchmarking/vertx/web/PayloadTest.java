@@ -0,0 +1,92 @@
+package io.github.georgecodes.benchmarking.vertx.web;
+
+import io.github.georgecodes.benchmarking.vertx.config.PayloadMode;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link Payload}.
+ */
+class PayloadTest {
+
+    @Test
+    void heapCopyRepeatsThePatternAcrossChunks() {
+        byte[] body = Payload.create(PayloadMode.HEAP).heapCopy(100_000);
+
+        assertEquals(100_000, body.length);
+        assertEquals('a', body[0]);
+        assertEquals('9', body[35]);
+        assertEquals('a', body[36]);
+        for (int i = 0; i < body.length; i++) {
+            assertEquals(body[i % 36], body[i]);
+        }
+    }
+
+    @Test
+    void heapCopyIsFreshPerCall() {
+        Payload payload = Payload.create(PayloadMode.HEAP);
+
+        assertTrue(payload.heapCopy(16) != payload.heapCopy(16));
+    }
+
+    @Test
+    void directAndFileBuffersMatchTheHeapBody() {
+        byte[] expected = Payload.create(PayloadMode.HEAP).heapCopy(Payload.MAX_BYTES);
+        for (PayloadMode mode : new PayloadMode[] {PayloadMode.DIRECT, PayloadMode.FILE}) {
+            ByteBuffer buffer = Payload.create(mode).buffer(Payload.MAX_BYTES);
+            byte[] actual = new byte[buffer.remaining()];
+            buffer.get(actual);
+
+            assertTrue(buffer.isDirect(), mode.name());
+            assertTrue(buffer.isReadOnly(), mode.name());
+            assertArrayEquals(expected, actual, mode.name());
+        }
+    }
+
+    @Test
+    void buffersAreIndependentViews() {
+        Payload payload = Payload.create(PayloadMode.DIRECT);
+        ByteBuffer first = payload.buffer(64);
+        first.get(new byte[32]);
+
+        assertEquals(64, payload.buffer(64).remaining());
+    }
+
+    @Test
+    void fileModeWritesTheFullBody() throws Exception {
+        Payload payload = Payload.create(PayloadMode.FILE);
+
+        assertEquals(Payload.MAX_BYTES, Files.size(payload.file()));
+    }
+
+    @Test
+    void heapModeHasNoPreBuiltBody() {
+        Payload payload = Payload.create(PayloadMode.HEAP);
+
+        assertThrows(IllegalStateException.class, () -> payload.buffer(1));
+        assertThrows(IllegalStateException.class, payload::file);
+    }
+
+    @Test
+    void rejectsOutOfRangeSizes() {
+        assertEquals(0, Payload.checkSize(0));
+        assertThrows(IllegalArgumentException.class, () -> Payload.checkSize(-1));
+        assertThrows(IllegalArgumentException.class, () -> Payload.checkSize(Payload.MAX_BYTES + 1));
+    }
+
+    @Test
+    void parsesPayloadModes() {
+        assertEquals(PayloadMode.HEAP, PayloadMode.parse(null));
+        assertEquals(PayloadMode.HEAP, PayloadMode.parse(" "));
+        assertEquals(PayloadMode.DIRECT, PayloadMode.parse(" Direct "));
+        assertEquals(PayloadMode.FILE, PayloadMode.parse("file"));
+        assertThrows(IllegalArgumentException.class, () -> PayloadMode.parse("sendfile"));
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.georgecodes.benchmarking.vertx.web;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.github.georgecodes.benchmarking.vertx.domain.HelloMode;
+import io.github.georgecodes.benchmarking.vertx.domain.HelloService;
+import io.github.georgecodes.benchmarking.vertx.infra.CacheProvider;
+import io.vertx.core.buffer.Buffer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for {@link PreEncodedResponse}.
+ */
+class PreEncodedResponseTest {
+
+    @Test
+    void bodyMatchesDynamicEncoding() {
+        HelloService service = new HelloService(CacheProvider.create(5));
+        PreEncodedResponse response = new PreEncodedResponse(HelloMode.REACTIVE, service);
+
+        assertEquals("\"" + service.handle(HelloMode.REACTIVE) + "\"", response.body().toString());
+    }
+
+    @Test
+    void bodyIsReusedWhileCacheValueIsUnchanged() {
+        PreEncodedResponse response = new PreEncodedResponse(HelloMode.REACTIVE,
+            new HelloService(CacheProvider.create(5)));
+
+        Buffer first = response.body();
+        assertSame(first, response.body());
+    }
+
+    @Test
+    void bodyIsRebuiltWhenCacheEntryIsReplaced() {
+        Cache<String, String> cache = CacheProvider.create(5);
+        PreEncodedResponse response = new PreEncodedResponse(HelloMode.REACTIVE, new HelloService(cache));
+        Buffer first = response.body();
+
+        cache.put("1", "updated");
+
+        Buffer second = response.body();
+        assertNotSame(first, second);
+        assertEquals("\"Hello from Vertx reactive REST updated\"", second.toString());
+    }
+
+    @Test
+    void bodyIsReusedForEqualValue() {
+        Cache<String, String> cache = CacheProvider.create(5);
+        PreEncodedResponse response = new PreEncodedResponse(HelloMode.REACTIVE, new HelloService(cache));
+        Buffer first = response.body();
+
+        cache.put("1", new String(cache.getIfPresent("1")));
+
+        assertSame(first, response.body());
+    }
+
+    @Test
+    void bodyIsKeptPerValue() {
+        Cache<String, String> cache = CacheProvider.create(5);
+        PreEncodedResponse response = new PreEncodedResponse(HelloMode.REACTIVE, new HelloService(cache));
+        String original = cache.getIfPresent("1");
+        Buffer first = response.body();
+
+        cache.put("1", "updated");
+        response.body();
+        cache.put("1", original);
+
+        assertSame(first, response.body());
+    }
+
+    @Test
+    void rejectsNullArguments() {
+        HelloService service = new HelloService(CacheProvider.create(5));
+        assertThrows(NullPointerException.class, () -> new PreEncodedResponse(null, service));
+        assertThrows(NullPointerException.class, () -> new PreEncodedResponse(HelloMode.REACTIVE, null));
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.georgecodes.benchmarking.vertx.web;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the URI parsing of {@link RawHelloHandler}.
+ */
+class RawHelloHandlerTest {
+
+    private static final int START = RawHelloHandler.HELLO_PATH.length();
+
+    @Test
+    void matchesPathWithOrWithoutQuery() {
+        assertTrue(RawHelloHandler.matches("/hello/reactive", RawHelloHandler.HELLO_PATH));
+        assertTrue(RawHelloHandler.matches("/hello/reactive?sleep=1", RawHelloHandler.HELLO_PATH));
+        assertFalse(RawHelloHandler.matches("/hello/reactivex", RawHelloHandler.HELLO_PATH));
+        assertFalse(RawHelloHandler.matches("/hello/reactive/", RawHelloHandler.HELLO_PATH));
+        assertFalse(RawHelloHandler.matches("/hello", RawHelloHandler.HELLO_PATH));
+    }
+
+    @Test
+    void readsSleepAndLog() {
+        long query = RawHelloHandler.parseQuery("/hello/reactive?sleep=3&log=TRUE", START);
+
+        assertEquals(3, RawHelloHandler.sleepSeconds(query));
+        assertTrue(RawHelloHandler.printLog(query));
+    }
+
+    @Test
+    void missingAndEmptyValuesAreDefaults() {
+        for (String uri : new String[] {"/hello/reactive", "/hello/reactive?", "/hello/reactive?sleep=&log=",
+            "/hello/reactive?&log=false"}) {
+            long query = RawHelloHandler.parseQuery(uri, START);
+
+            assertEquals(0, RawHelloHandler.sleepSeconds(query), uri);
+            assertFalse(RawHelloHandler.printLog(query), uri);
+        }
+    }
+
+    @Test
+    void firstOccurrenceWins() {
+        long query = RawHelloHandler.parseQuery("/hello/reactive?sleep=2&sleep=5&log=true&log=false", START);
+
+        assertEquals(2, RawHelloHandler.sleepSeconds(query));
+        assertTrue(RawHelloHandler.printLog(query));
+    }
+
+    @Test
+    void otherParametersAndOddValuesGoToTheRouter() {
+        for (String uri : new String[] {"/hello/reactive?size=64", "/hello/reactive?sleep=1&work=8",
+            "/hello/reactive?sleepMs=10", "/hello/reactive?sleep=-1", "/hello/reactive?sleep=%201",
+            "/hello/reactive?sleep=1234567890", "/hello/reactive?log"}) {
+            assertEquals(RawHelloHandler.DELEGATE, RawHelloHandler.parseQuery(uri, START), uri);
+        }
+    }
+}
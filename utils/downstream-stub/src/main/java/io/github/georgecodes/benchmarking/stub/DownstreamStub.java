@@ -0,0 +1,203 @@
+package io.github.georgecodes.benchmarking.stub;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Minimal HTTP dependency for the {@code /hello/chain} endpoints of the benchmarked services.
+ *
+ * <p>{@code GET /downstream} waits the configured latency on its own virtual thread and answers with a fixed
+ * {@code text/plain} body, so a service's outbound client, connection pool and trace propagation are exercised
+ * without leaving the compose network. {@code ?delayMs=} overrides the latency per request. {@code GET /ready}
+ * answers at once for health checks.
+ *
+ * <p>Built on the JDK's {@code com.sun.net.httpserver} so the stub has no dependencies and no tuning of its own
+ * that could become the bottleneck of a chain benchmark.
+ */
+public final class DownstreamStub implements AutoCloseable {
+
+    /** Path of the simulated dependency. */
+    public static final String PATH = "/downstream";
+
+    /** Path of the readiness probe. */
+    public static final String READY_PATH = "/ready";
+
+    /** Upper bound for the configured or requested latency: 60 seconds. */
+    public static final long MAX_LATENCY_MILLIS = 60_000L;
+
+    /** Upper bound for the response body size: 1 MiB. */
+    public static final int MAX_BODY_BYTES = 1 << 20;
+
+    private static final String DELAY_PARAM = "delayMs=";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long latencyMillis;
+    private final byte[] body;
+
+    private DownstreamStub(HttpServer server, ExecutorService executor, long latencyMillis, byte[] body) {
+        this.server = server;
+        this.executor = executor;
+        this.latencyMillis = latencyMillis;
+        this.body = body;
+    }
+
+    /**
+     * Starts a stub bound to {@code address}.
+     *
+     * @param address       bind address; port {@code 0} picks a free port
+     * @param latencyMillis default latency of every {@code /downstream} response
+     * @param bodyBytes     size of the {@code /downstream} response body
+     * @return the running stub
+     * @throws IOException              if the address cannot be bound
+     * @throws IllegalArgumentException if a setting is out of range
+     */
+    public static DownstreamStub start(InetSocketAddress address, long latencyMillis, int bodyBytes)
+        throws IOException {
+        checkLatency(latencyMillis);
+        if (bodyBytes < 0 || bodyBytes > MAX_BODY_BYTES) {
+            throw new IllegalArgumentException("body bytes must be between 0 and " + MAX_BODY_BYTES + ": " + bodyBytes);
+        }
+        HttpServer server = HttpServer.create(address, 0);
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        DownstreamStub stub = new DownstreamStub(server, executor, latencyMillis, body(bodyBytes));
+        server.setExecutor(executor);
+        server.createContext(PATH, stub::handleDownstream);
+        server.createContext(READY_PATH, stub::handleReady);
+        server.start();
+        return stub;
+    }
+
+    /**
+     * Returns the bound port.
+     *
+     * @return local port
+     */
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    private void handleDownstream(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            long delay;
+            try {
+                delay = delayMillis(exchange.getRequestURI().getRawQuery(), latencyMillis);
+            } catch (IllegalArgumentException e) {
+                send(exchange, 400, e.getMessage().getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            if (delay > 0) {
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    exchange.sendResponseHeaders(503, -1);
+                    return;
+                }
+            }
+            send(exchange, 200, body);
+        }
+    }
+
+    private void handleReady(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            send(exchange, 200, "OK".getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] payload) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, payload.length == 0 ? -1 : payload.length);
+        if (payload.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(payload);
+            }
+        }
+    }
+
+    /**
+     * Resolves the latency of one request.
+     *
+     * @param rawQuery      raw request query, {@code null} if absent
+     * @param latencyMillis configured default
+     * @return {@code delayMs} from the query if present, otherwise {@code latencyMillis}
+     * @throws IllegalArgumentException if {@code delayMs} is not a number in range
+     */
+    static long delayMillis(String rawQuery, long latencyMillis) {
+        if (rawQuery == null) {
+            return latencyMillis;
+        }
+        for (String param : rawQuery.split("&")) {
+            if (param.startsWith(DELAY_PARAM)) {
+                try {
+                    return checkLatency(Long.parseLong(param.substring(DELAY_PARAM.length())));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("delayMs must be a number: " + param, e);
+                }
+            }
+        }
+        return latencyMillis;
+    }
+
+    /**
+     * Builds a deterministic ASCII body of {@code bytes} bytes.
+     *
+     * @param bytes body size
+     * @return body
+     */
+    static byte[] body(int bytes) {
+        byte[] body = new byte[bytes];
+        for (int i = 0; i < bytes; i++) {
+            body[i] = (byte) ('a' + i % 26);
+        }
+        return body;
+    }
+
+    private static long checkLatency(long latencyMillis) {
+        if (latencyMillis < 0 || latencyMillis > MAX_LATENCY_MILLIS) {
+            throw new IllegalArgumentException(
+                "latency must be between 0 and " + MAX_LATENCY_MILLIS + " ms: " + latencyMillis);
+        }
+        return latencyMillis;
+    }
+
+    /**
+     * Entry point; reads {@code STUB_PORT} (default {@code 8080}), {@code STUB_LATENCY_MS} (default {@code 5})
+     * and {@code STUB_BODY_BYTES} (default {@code 64}) from the environment.
+     *
+     * @param args ignored
+     * @throws IOException if the port cannot be bound
+     */
+    public static void main(String[] args) throws IOException {
+        int port = Integer.parseInt(env("STUB_PORT", "8080"));
+        long latencyMillis = Long.parseLong(env("STUB_LATENCY_MS", "5"));
+        int bodyBytes = Integer.parseInt(env("STUB_BODY_BYTES", "64"));
+        DownstreamStub stub = start(new InetSocketAddress(port), latencyMillis, bodyBytes);
+        System.Logger log = System.getLogger(DownstreamStub.class.getName());
+        log.log(System.Logger.Level.INFO, "Downstream stub listening on port {0} (latency {1} ms, body {2} bytes)",
+            Integer.toString(stub.port()), Long.toString(latencyMillis), Integer.toString(bodyBytes));
+        Runtime.getRuntime().addShutdownHook(new Thread(stub::close, "downstream-stub-shutdown"));
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+}
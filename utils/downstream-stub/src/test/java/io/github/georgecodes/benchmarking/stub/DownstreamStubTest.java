@@ -0,0 +1,84 @@
+package io.github.georgecodes.benchmarking.stub;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link DownstreamStub}.
+ */
+class DownstreamStubTest {
+
+    private static final InetSocketAddress ANY_PORT = new InetSocketAddress(InetAddress.getLoopbackAddress(), 0);
+
+    @Test
+    void servesBodyAfterConfiguredLatency() throws IOException, InterruptedException {
+        try (DownstreamStub stub = DownstreamStub.start(ANY_PORT, 50, 30);
+             HttpClient client = HttpClient.newHttpClient()) {
+            long start = System.nanoTime();
+            HttpResponse<String> response = client.send(get(stub, DownstreamStub.PATH),
+                HttpResponse.BodyHandlers.ofString());
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            assertEquals(200, response.statusCode());
+            assertEquals("abcdefghijklmnopqrstuvwxyzabcd", response.body());
+            assertTrue(elapsedMillis >= 50, "expected at least 50 ms, got " + elapsedMillis);
+        }
+    }
+
+    @Test
+    void queryOverridesLatencyAndRejectsBadValues() throws IOException, InterruptedException {
+        try (DownstreamStub stub = DownstreamStub.start(ANY_PORT, DownstreamStub.MAX_LATENCY_MILLIS, 4);
+             HttpClient client = HttpClient.newHttpClient()) {
+            HttpResponse<String> fast = client.send(get(stub, DownstreamStub.PATH + "?delayMs=0"),
+                HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> bad = client.send(get(stub, DownstreamStub.PATH + "?delayMs=-1"),
+                HttpResponse.BodyHandlers.ofString());
+
+            assertEquals(200, fast.statusCode());
+            assertEquals("abcd", fast.body());
+            assertEquals(400, bad.statusCode());
+        }
+    }
+
+    @Test
+    void readyAnswersImmediately() throws IOException, InterruptedException {
+        try (DownstreamStub stub = DownstreamStub.start(ANY_PORT, DownstreamStub.MAX_LATENCY_MILLIS, 0);
+             HttpClient client = HttpClient.newHttpClient()) {
+            HttpResponse<String> response = client.send(get(stub, DownstreamStub.READY_PATH),
+                HttpResponse.BodyHandlers.ofString());
+
+            assertEquals(200, response.statusCode());
+            assertEquals("OK", response.body());
+        }
+    }
+
+    @Test
+    void delayMillisFallsBackToConfiguredLatency() {
+        assertEquals(5, DownstreamStub.delayMillis(null, 5));
+        assertEquals(5, DownstreamStub.delayMillis("other=1", 5));
+        assertEquals(7, DownstreamStub.delayMillis("other=1&delayMs=7", 5));
+        assertThrows(IllegalArgumentException.class, () -> DownstreamStub.delayMillis("delayMs=x", 5));
+    }
+
+    @Test
+    void rejectsOutOfRangeSettings() {
+        assertThrows(IllegalArgumentException.class, () -> DownstreamStub.start(ANY_PORT, -1, 0));
+        assertThrows(IllegalArgumentException.class,
+            () -> DownstreamStub.start(ANY_PORT, 0, DownstreamStub.MAX_BODY_BYTES + 1));
+    }
+
+    private static HttpRequest get(DownstreamStub stub, String pathAndQuery) {
+        return HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + stub.port() + pathAndQuery)).GET().build();
+    }
+}
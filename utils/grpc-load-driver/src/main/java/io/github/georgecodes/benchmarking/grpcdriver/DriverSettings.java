@@ -0,0 +1,104 @@
+package io.github.georgecodes.benchmarking.grpcdriver;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Settings of one load run, read from the environment.
+ *
+ * @param target         gRPC target, e.g. {@code vertx-jvm:8080} or {@code dns:///quarkus-jvm:9000}
+ * @param channels       connections the calls are spread over round-robin
+ * @param rate           calls started per second, regardless of how fast replies come back
+ * @param durationSecs   measured run length in seconds
+ * @param warmupSecs     seconds of calls before the measured run whose latencies are discarded
+ * @param rpc            method to call
+ * @param sleepMillis    {@code sleep_ms} of every {@code SayHello} call
+ * @param work           {@code work} of every {@code SayHello} call
+ * @param streamN        {@code n} of every {@code StreamHello} call
+ * @param deadlineMillis per-call deadline; a call that misses it counts as an error
+ * @param output         file the percentile distribution is written to, {@code null} for stdout only
+ */
+public record DriverSettings(
+    String target,
+    int channels,
+    double rate,
+    int durationSecs,
+    int warmupSecs,
+    Rpc rpc,
+    long sleepMillis,
+    int work,
+    int streamN,
+    long deadlineMillis,
+    String output) {
+
+    /** Method of the {@code benchmarking.hello.v1.Hello} service a run calls. */
+    public enum Rpc {
+        /** {@code SayHello}; latency is the time to the single reply. */
+        UNARY,
+        /** {@code StreamHello}; latency is the time to the end of the stream. */
+        STREAM
+    }
+
+    /**
+     * Validates the settings.
+     *
+     * @throws IllegalArgumentException if a setting is out of range
+     */
+    public DriverSettings {
+        if (target == null || target.isBlank()) {
+            throw new IllegalArgumentException("GRPC_TARGET must be set");
+        }
+        if (channels <= 0) {
+            throw new IllegalArgumentException("CHANNELS must be positive: " + channels);
+        }
+        if (!(rate > 0)) {
+            throw new IllegalArgumentException("RATE must be positive: " + rate);
+        }
+        if (durationSecs <= 0) {
+            throw new IllegalArgumentException("DURATION_S must be positive: " + durationSecs);
+        }
+        if (warmupSecs < 0) {
+            throw new IllegalArgumentException("WARMUP_S must not be negative: " + warmupSecs);
+        }
+        if (rpc == null) {
+            throw new IllegalArgumentException("RPC must be set");
+        }
+        if (sleepMillis < 0 || work < 0 || streamN < 0) {
+            throw new IllegalArgumentException("SLEEP_MS, WORK and STREAM_N must not be negative");
+        }
+        if (deadlineMillis <= 0) {
+            throw new IllegalArgumentException("DEADLINE_MS must be positive: " + deadlineMillis);
+        }
+    }
+
+    /**
+     * Reads the settings; every variable but {@code GRPC_TARGET} has a default.
+     *
+     * @param env environment variables
+     * @return the settings
+     * @throws IllegalArgumentException if a value is malformed or out of range
+     */
+    public static DriverSettings fromEnvironment(Map<String, String> env) {
+        try {
+            return new DriverSettings(
+                value(env, "GRPC_TARGET", ""),
+                Integer.parseInt(value(env, "CHANNELS", "4")),
+                Double.parseDouble(value(env, "RATE", "1000")),
+                Integer.parseInt(value(env, "DURATION_S", "60")),
+                Integer.parseInt(value(env, "WARMUP_S", "10")),
+                Rpc.valueOf(value(env, "RPC", "unary").toUpperCase(Locale.ROOT)),
+                Long.parseLong(value(env, "SLEEP_MS", "0")),
+                Integer.parseInt(value(env, "WORK", "0")),
+                Integer.parseInt(value(env, "STREAM_N", "10")),
+                Long.parseLong(value(env, "DEADLINE_MS", "10000")),
+                env.get("OUTPUT") == null || env.get("OUTPUT").isBlank() ? null : env.get("OUTPUT").trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed number: " + e.getMessage(), e);
+        }
+    }
+
+    private static String value(Map<String, String> env, String name, String defaultValue) {
+        String value = env.get(name);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+}
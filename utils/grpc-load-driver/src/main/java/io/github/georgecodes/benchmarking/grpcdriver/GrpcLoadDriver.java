@@ -0,0 +1,192 @@
+package io.github.georgecodes.benchmarking.grpcdriver;
+
+import io.github.georgecodes.benchmarking.grpcdriver.grpc.HelloGrpc;
+import io.github.georgecodes.benchmarking.grpcdriver.grpc.HelloReply;
+import io.github.georgecodes.benchmarking.grpcdriver.grpc.HelloRequest;
+import io.github.georgecodes.benchmarking.grpcdriver.grpc.StreamRequest;
+import io.grpc.Grpc;
+import io.grpc.InsecureChannelCredentials;
+import io.grpc.ManagedChannel;
+import io.grpc.stub.StreamObserver;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop load generator for the {@code benchmarking.hello.v1.Hello} gRPC service of the Java modules.
+ *
+ * <p>Calls are started on the {@link OpenLoopSchedule} from one thread through the async stub, so a slow reply
+ * never delays the next call, and each latency is measured from the call's due time. Calls are spread
+ * round-robin over {@link DriverSettings#channels()} plaintext HTTP/2 connections, so one connection's
+ * concurrent-stream limit does not cap the offered load. Latencies of the measured run go to an HdrHistogram,
+ * printed as a percentile distribution in milliseconds that HdrHistogram's plotter reads.
+ */
+public final class GrpcLoadDriver {
+
+    /** Scale from recorded nanoseconds to the milliseconds of the printed distribution. */
+    private static final double NANOS_PER_MILLI = 1_000_000d;
+
+    private GrpcLoadDriver() {
+    }
+
+    /**
+     * Outcome of a run.
+     *
+     * @param histogram latencies of the successful measured calls, in nanoseconds
+     * @param calls     measured calls started
+     * @param errors    measured calls that failed or missed their deadline
+     * @param timeouts  measured calls still unfinished when the driver stopped waiting for them
+     */
+    record Result(Histogram histogram, long calls, long errors, long timeouts) {
+    }
+
+    /**
+     * Runs the warm-up and the measured run, then waits for the outstanding calls. Measured calls that have not
+     * finished by then are reported as timeouts, from a snapshot that late completions do not change.
+     *
+     * @param settings run settings
+     * @param channels connections to call over
+     * @return the measured latencies and counts
+     * @throws InterruptedException if interrupted while pacing or waiting
+     */
+    static Result run(DriverSettings settings, List<ManagedChannel> channels) throws InterruptedException {
+        List<HelloGrpc.HelloStub> stubs = channels.stream().map(HelloGrpc::newStub).toList();
+        HelloRequest unary = HelloRequest.newBuilder()
+            .setSleepMs(settings.sleepMillis())
+            .setWork(settings.work())
+            .build();
+        StreamRequest stream = StreamRequest.newBuilder().setN(settings.streamN()).build();
+
+        OpenLoopSchedule schedule = new OpenLoopSchedule(System.nanoTime(), settings.rate());
+        long warmupCalls = schedule.callsWithin(TimeUnit.SECONDS.toNanos(settings.warmupSecs()));
+        long totalCalls = schedule.callsWithin(
+            TimeUnit.SECONDS.toNanos(settings.warmupSecs() + (long) settings.durationSecs()));
+        Histogram histogram = new ConcurrentHistogram(3);
+        AtomicLong errors = new AtomicLong();
+        CountDownLatch outstanding = new CountDownLatch(Math.toIntExact(totalCalls));
+
+        for (long i = 0; i < totalCalls; i++) {
+            long due = schedule.dueNanos(i);
+            long wait;
+            while ((wait = due - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            Completion completion = new Completion(due, i >= warmupCalls, histogram, errors, outstanding);
+            HelloGrpc.HelloStub stub = stubs.get((int) (i % stubs.size()))
+                .withDeadlineAfter(settings.deadlineMillis(), TimeUnit.MILLISECONDS);
+            switch (settings.rpc()) {
+                case UNARY -> stub.sayHello(unary, completion);
+                case STREAM -> stub.streamHello(stream, completion);
+            }
+        }
+        // Every call ends by its deadline; the margin covers the last completions being delivered.
+        long calls = totalCalls - warmupCalls;
+        if (outstanding.await(settings.deadlineMillis() + 5_000L, TimeUnit.MILLISECONDS)) {
+            return new Result(histogram, calls, errors.get(), 0L);
+        }
+        // Errors are read before the histogram is copied, so a call finishing in between is counted once at most.
+        long failed = errors.get();
+        Histogram succeeded = histogram.copy();
+        return new Result(succeeded, calls, failed, calls - failed - succeeded.getTotalCount());
+    }
+
+    /**
+     * Prints a one-line summary and the percentile distribution in milliseconds.
+     *
+     * @param settings run settings
+     * @param result   run outcome
+     * @param out      destination
+     */
+    static void report(DriverSettings settings, Result result, PrintStream out) {
+        out.printf(Locale.ROOT, "# target=%s rpc=%s rate=%.1f/s duration=%ds calls=%d errors=%d timeouts=%d%n",
+            settings.target(), settings.rpc().name().toLowerCase(Locale.ROOT), settings.rate(),
+            settings.durationSecs(), result.calls(), result.errors(), result.timeouts());
+        result.histogram().outputPercentileDistribution(out, NANOS_PER_MILLI);
+    }
+
+    /**
+     * Entry point; see {@link DriverSettings#fromEnvironment(java.util.Map)} for the variables.
+     *
+     * @param args ignored
+     * @throws InterruptedException if interrupted during the run
+     * @throws IOException          if {@code OUTPUT} cannot be written
+     */
+    public static void main(String[] args) throws InterruptedException, IOException {
+        DriverSettings settings = DriverSettings.fromEnvironment(System.getenv());
+        List<ManagedChannel> channels = new ArrayList<>(settings.channels());
+        for (int i = 0; i < settings.channels(); i++) {
+            channels.add(Grpc.newChannelBuilder(settings.target(), InsecureChannelCredentials.create()).build());
+        }
+        Result result;
+        try {
+            result = run(settings, channels);
+        } finally {
+            for (ManagedChannel channel : channels) {
+                channel.shutdownNow();
+            }
+        }
+        report(settings, result, System.out);
+        if (settings.output() != null) {
+            try (PrintStream file = new PrintStream(new FileOutputStream(settings.output()), true,
+                StandardCharsets.UTF_8)) {
+                report(settings, result, file);
+            }
+        }
+    }
+
+    /**
+     * Records one call when its last message arrives; warm-up calls only release the latch.
+     */
+    private static final class Completion implements StreamObserver<HelloReply> {
+
+        private final long dueNanos;
+        private final boolean measured;
+        private final Histogram histogram;
+        private final AtomicLong errors;
+        private final CountDownLatch outstanding;
+
+        Completion(long dueNanos, boolean measured, Histogram histogram, AtomicLong errors,
+                   CountDownLatch outstanding) {
+            this.dueNanos = dueNanos;
+            this.measured = measured;
+            this.histogram = histogram;
+            this.errors = errors;
+            this.outstanding = outstanding;
+        }
+
+        @Override
+        public void onNext(HelloReply value) {
+            // Latency ends with the call, not with the first reply of a stream.
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (measured) {
+                errors.incrementAndGet();
+            }
+            outstanding.countDown();
+        }
+
+        @Override
+        public void onCompleted() {
+            if (measured) {
+                histogram.recordValue(System.nanoTime() - dueNanos);
+            }
+            outstanding.countDown();
+        }
+    }
+}
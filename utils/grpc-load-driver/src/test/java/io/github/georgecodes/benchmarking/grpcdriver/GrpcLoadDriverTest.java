@@ -0,0 +1,119 @@
+package io.github.georgecodes.benchmarking.grpcdriver;
+
+import io.github.georgecodes.benchmarking.grpcdriver.grpc.HelloGrpc;
+import io.github.georgecodes.benchmarking.grpcdriver.grpc.HelloReply;
+import io.github.georgecodes.benchmarking.grpcdriver.grpc.HelloRequest;
+import io.github.georgecodes.benchmarking.grpcdriver.grpc.StreamRequest;
+import io.grpc.Grpc;
+import io.grpc.InsecureChannelCredentials;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link GrpcLoadDriver}, {@link OpenLoopSchedule} and {@link DriverSettings}.
+ */
+class GrpcLoadDriverTest {
+
+    @Test
+    void scheduleSpacesCallsEvenlyFromTheStart() {
+        OpenLoopSchedule schedule = new OpenLoopSchedule(1_000L, 4);
+
+        assertEquals(1_000L, schedule.dueNanos(0));
+        assertEquals(251_000_000L, schedule.dueNanos(1));
+        assertEquals(4, schedule.callsWithin(1_000_000_000L));
+        assertEquals(5, schedule.callsWithin(1_000_000_001L));
+        assertThrows(IllegalArgumentException.class, () -> new OpenLoopSchedule(0, 0));
+    }
+
+    @Test
+    void settingsApplyDefaultsAndRejectBadValues() {
+        DriverSettings settings = DriverSettings.fromEnvironment(
+            Map.of("GRPC_TARGET", "vertx-jvm:8080", "RPC", "Stream"));
+
+        assertEquals(4, settings.channels());
+        assertEquals(1000, settings.rate());
+        assertEquals(DriverSettings.Rpc.STREAM, settings.rpc());
+        assertEquals(10, settings.streamN());
+        assertNull(settings.output());
+        assertThrows(IllegalArgumentException.class, () -> DriverSettings.fromEnvironment(Map.of()));
+        assertThrows(IllegalArgumentException.class,
+            () -> DriverSettings.fromEnvironment(Map.of("GRPC_TARGET", "x:1", "RATE", "fast")));
+        assertThrows(IllegalArgumentException.class,
+            () -> DriverSettings.fromEnvironment(Map.of("GRPC_TARGET", "x:1", "RPC", "bidi")));
+    }
+
+    @Test
+    void runRecordsMeasuredCallsAndCountsErrors() throws IOException, InterruptedException {
+        Server server = Grpc.newServerBuilderForPort(0, InsecureServerCredentials.create())
+            .addService(new FakeHello())
+            .build()
+            .start();
+        ManagedChannel channel = Grpc.newChannelBuilder("127.0.0.1:" + server.getPort(),
+            InsecureChannelCredentials.create()).build();
+        try {
+            DriverSettings unary = new DriverSettings("test", 1, 200, 1, 0, DriverSettings.Rpc.UNARY,
+                0, 0, 0, 2_000, null);
+            GrpcLoadDriver.Result unaryResult = GrpcLoadDriver.run(unary, List.of(channel));
+
+            assertEquals(200, unaryResult.calls());
+            assertEquals(0, unaryResult.errors());
+            assertEquals(0, unaryResult.timeouts());
+            assertEquals(200, unaryResult.histogram().getTotalCount());
+
+            // STREAM_N 0 is passed through; the fake answers it with INVALID_ARGUMENT.
+            DriverSettings stream = new DriverSettings("test", 1, 50, 1, 0, DriverSettings.Rpc.STREAM,
+                0, 0, 0, 2_000, null);
+            GrpcLoadDriver.Result streamResult = GrpcLoadDriver.run(stream, List.of(channel));
+
+            assertEquals(50, streamResult.errors());
+            assertEquals(0, streamResult.histogram().getTotalCount());
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            GrpcLoadDriver.report(unary, unaryResult, new PrintStream(out, true, StandardCharsets.UTF_8));
+            String report = out.toString(StandardCharsets.UTF_8);
+            assertTrue(report.startsWith(
+                "# target=test rpc=unary rate=200.0/s duration=1s calls=200 errors=0 timeouts=0"), report);
+            assertTrue(report.contains("Percentile"), report);
+        } finally {
+            channel.shutdownNow();
+            server.shutdownNow();
+        }
+    }
+
+    private static final class FakeHello extends HelloGrpc.HelloImplBase {
+
+        @Override
+        public void sayHello(HelloRequest request, StreamObserver<HelloReply> observer) {
+            observer.onNext(HelloReply.newBuilder().setMessage("hello").build());
+            observer.onCompleted();
+        }
+
+        @Override
+        public void streamHello(StreamRequest request, StreamObserver<HelloReply> observer) {
+            if (request.getN() <= 0) {
+                observer.onError(Status.INVALID_ARGUMENT.asRuntimeException());
+                return;
+            }
+            for (int i = 0; i < request.getN(); i++) {
+                observer.onNext(HelloReply.newBuilder().setSeq(i).build());
+            }
+            observer.onCompleted();
+        }
+    }
+}
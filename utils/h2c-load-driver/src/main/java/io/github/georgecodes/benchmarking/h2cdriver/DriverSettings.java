@@ -0,0 +1,101 @@
+package io.github.georgecodes.benchmarking.h2cdriver;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Settings of one load run, read from the environment.
+ *
+ * @param target         URL every call requests, e.g. {@code http://vertx-jvm:8080/hello/reactive}
+ * @param version        protocol the clients ask for: {@code HTTP_2} upgrades to h2c, {@code HTTP_1_1} never does
+ * @param connections    HTTP clients the calls are spread over round-robin; over h2c each is one connection
+ * @param rate           calls started per second, regardless of how fast replies come back
+ * @param durationSecs   measured run length in seconds
+ * @param warmupSecs     seconds of calls before the measured run whose latencies are discarded
+ * @param timeoutMillis  per-call timeout; a call that misses it counts as an error
+ * @param output         file the percentile distribution is written to, {@code null} for stdout only
+ */
+public record DriverSettings(
+    URI target,
+    HttpClient.Version version,
+    int connections,
+    double rate,
+    int durationSecs,
+    int warmupSecs,
+    long timeoutMillis,
+    String output) {
+
+    /**
+     * Validates the settings.
+     *
+     * @throws IllegalArgumentException if a setting is out of range
+     */
+    public DriverSettings {
+        if (target == null || !"http".equals(target.getScheme())) {
+            throw new IllegalArgumentException("H2C_TARGET must be an http:// URL: " + target);
+        }
+        if (version == null) {
+            throw new IllegalArgumentException("HTTP_VERSION must be set");
+        }
+        if (connections <= 0) {
+            throw new IllegalArgumentException("CONNECTIONS must be positive: " + connections);
+        }
+        if (!(rate > 0)) {
+            throw new IllegalArgumentException("RATE must be positive: " + rate);
+        }
+        if (durationSecs <= 0) {
+            throw new IllegalArgumentException("DURATION_S must be positive: " + durationSecs);
+        }
+        if (warmupSecs < 0) {
+            throw new IllegalArgumentException("WARMUP_S must not be negative: " + warmupSecs);
+        }
+        if (timeoutMillis <= 0) {
+            throw new IllegalArgumentException("TIMEOUT_MS must be positive: " + timeoutMillis);
+        }
+    }
+
+    /**
+     * Reads the settings; every variable but {@code H2C_TARGET} has a default.
+     *
+     * @param env environment variables
+     * @return the settings
+     * @throws IllegalArgumentException if a value is malformed or out of range
+     */
+    public static DriverSettings fromEnvironment(Map<String, String> env) {
+        try {
+            return new DriverSettings(
+                URI.create(value(env, "H2C_TARGET", "")),
+                parseVersion(value(env, "HTTP_VERSION", "h2c")),
+                Integer.parseInt(value(env, "CONNECTIONS", "4")),
+                Double.parseDouble(value(env, "RATE", "1000")),
+                Integer.parseInt(value(env, "DURATION_S", "60")),
+                Integer.parseInt(value(env, "WARMUP_S", "10")),
+                Long.parseLong(value(env, "TIMEOUT_MS", "10000")),
+                env.get("OUTPUT") == null || env.get("OUTPUT").isBlank() ? null : env.get("OUTPUT").trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed number: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Parses {@code HTTP_VERSION}.
+     *
+     * @param value {@code h2c} or {@code http1}, case-insensitive
+     * @return the client protocol version
+     * @throws IllegalArgumentException if the value is neither
+     */
+    static HttpClient.Version parseVersion(String value) {
+        return switch (value.toLowerCase(Locale.ROOT)) {
+            case "h2c", "http2" -> HttpClient.Version.HTTP_2;
+            case "http1", "http1.1" -> HttpClient.Version.HTTP_1_1;
+            default -> throw new IllegalArgumentException("HTTP_VERSION must be h2c or http1: " + value);
+        };
+    }
+
+    private static String value(Map<String, String> env, String name, String defaultValue) {
+        String value = env.get(name);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+}
@@ -0,0 +1,182 @@
+package io.github.georgecodes.benchmarking.h2cdriver;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop HTTP/2 cleartext load generator for the REST endpoints of the benchmarked services.
+ *
+ * <p>Each of {@link DriverSettings#connections()} JDK {@link HttpClient}s upgrades one connection to h2c with a
+ * priming request, then carries every call it is given as a stream on that connection, so many calls are in
+ * flight per connection up to the server's {@code SETTINGS_MAX_CONCURRENT_STREAMS}. Calls are started on the
+ * {@link OpenLoopSchedule} from one thread with {@code sendAsync}, so a slow reply never delays the next call, and
+ * each latency is measured from the call's due time. {@code HTTP_VERSION=http1} runs the same schedule over
+ * HTTP/1.1 keep-alive connections for the baseline.
+ *
+ * <p>The report counts responses per protocol version, so a server that ignored the upgrade is visible instead of
+ * silently producing HTTP/1.1 numbers.
+ */
+public final class H2cLoadDriver {
+
+    /** Scale from recorded nanoseconds to the milliseconds of the printed distribution. */
+    private static final double NANOS_PER_MILLI = 1_000_000d;
+
+    private H2cLoadDriver() {
+    }
+
+    /**
+     * Outcome of a run.
+     *
+     * @param histogram      latencies of the successful measured calls, in nanoseconds
+     * @param calls          measured calls started
+     * @param errors         measured calls that failed, timed out or answered outside 2xx
+     * @param h2Responses    measured responses received over HTTP/2
+     * @param http1Responses measured responses received over HTTP/1.1
+     */
+    record Result(Histogram histogram, long calls, long errors, long h2Responses, long http1Responses) {
+    }
+
+    /**
+     * Creates the clients and primes one connection each.
+     *
+     * @param settings run settings
+     * @return one client per connection
+     * @throws IOException          if a priming request fails
+     * @throws InterruptedException if interrupted while priming
+     */
+    static List<HttpClient> connect(DriverSettings settings) throws IOException, InterruptedException {
+        List<HttpClient> clients = new ArrayList<>(settings.connections());
+        HttpRequest priming = request(settings);
+        for (int i = 0; i < settings.connections(); i++) {
+            HttpClient client = HttpClient.newBuilder()
+                .version(settings.version())
+                .connectTimeout(Duration.ofMillis(settings.timeoutMillis()))
+                .build();
+            // Upgrade before the schedule starts: concurrent first calls would each open an HTTP/1.1 connection.
+            HttpResponse<Void> response = client.send(priming, HttpResponse.BodyHandlers.discarding());
+            if (response.version() != settings.version()) {
+                System.err.printf(Locale.ROOT, "# warning: asked for %s, server answered over %s%n",
+                    settings.version(), response.version());
+            }
+            clients.add(client);
+        }
+        return clients;
+    }
+
+    /**
+     * Runs the warm-up and the measured run, then waits for the outstanding calls.
+     *
+     * @param settings run settings
+     * @param clients  clients to call through, round-robin
+     * @return the measured latencies and counts
+     * @throws InterruptedException if interrupted while pacing or waiting
+     */
+    static Result run(DriverSettings settings, List<HttpClient> clients) throws InterruptedException {
+        HttpRequest request = request(settings);
+        OpenLoopSchedule schedule = new OpenLoopSchedule(System.nanoTime(), settings.rate());
+        long warmupCalls = schedule.callsWithin(TimeUnit.SECONDS.toNanos(settings.warmupSecs()));
+        long totalCalls = schedule.callsWithin(
+            TimeUnit.SECONDS.toNanos(settings.warmupSecs() + (long) settings.durationSecs()));
+        Histogram histogram = new ConcurrentHistogram(3);
+        AtomicLong errors = new AtomicLong();
+        LongAdder h2Responses = new LongAdder();
+        LongAdder http1Responses = new LongAdder();
+        CountDownLatch outstanding = new CountDownLatch(Math.toIntExact(totalCalls));
+
+        for (long i = 0; i < totalCalls; i++) {
+            long due = schedule.dueNanos(i);
+            long wait;
+            while ((wait = due - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            boolean measured = i >= warmupCalls;
+            clients.get((int) (i % clients.size()))
+                .sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, failure) -> {
+                    if (measured) {
+                        if (failure != null || response.statusCode() / 100 != 2) {
+                            errors.incrementAndGet();
+                        } else {
+                            histogram.recordValue(System.nanoTime() - due);
+                        }
+                        if (response != null) {
+                            (response.version() == HttpClient.Version.HTTP_2 ? h2Responses : http1Responses)
+                                .increment();
+                        }
+                    }
+                    outstanding.countDown();
+                });
+        }
+        // Every call ends by its timeout; the margin covers the last completions being delivered.
+        outstanding.await(settings.timeoutMillis() + 5_000L, TimeUnit.MILLISECONDS);
+        return new Result(histogram, totalCalls - warmupCalls, errors.get(), h2Responses.sum(),
+            http1Responses.sum());
+    }
+
+    /**
+     * Prints a one-line summary and the percentile distribution in milliseconds.
+     *
+     * @param settings run settings
+     * @param result   run outcome
+     * @param out      destination
+     */
+    static void report(DriverSettings settings, Result result, PrintStream out) {
+        out.printf(Locale.ROOT,
+            "# target=%s version=%s connections=%d rate=%.1f/s duration=%ds calls=%d errors=%d h2=%d http1=%d%n",
+            settings.target(), settings.version(), settings.connections(), settings.rate(), settings.durationSecs(),
+            result.calls(), result.errors(), result.h2Responses(), result.http1Responses());
+        result.histogram().outputPercentileDistribution(out, NANOS_PER_MILLI);
+    }
+
+    private static HttpRequest request(DriverSettings settings) {
+        return HttpRequest.newBuilder(settings.target())
+            .timeout(Duration.ofMillis(settings.timeoutMillis()))
+            .GET()
+            .build();
+    }
+
+    /**
+     * Entry point; see {@link DriverSettings#fromEnvironment(java.util.Map)} for the variables.
+     *
+     * @param args ignored
+     * @throws InterruptedException if interrupted during the run
+     * @throws IOException          if a priming request fails or {@code OUTPUT} cannot be written
+     */
+    public static void main(String[] args) throws InterruptedException, IOException {
+        DriverSettings settings = DriverSettings.fromEnvironment(System.getenv());
+        List<HttpClient> clients = connect(settings);
+        Result result;
+        try {
+            result = run(settings, clients);
+        } finally {
+            clients.forEach(HttpClient::shutdownNow);
+        }
+        report(settings, result, System.out);
+        if (settings.output() != null) {
+            try (PrintStream file = new PrintStream(new FileOutputStream(settings.output()), true,
+                StandardCharsets.UTF_8)) {
+                report(settings, result, file);
+            }
+        }
+    }
+}
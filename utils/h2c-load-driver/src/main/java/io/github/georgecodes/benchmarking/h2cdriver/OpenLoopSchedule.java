@@ -0,0 +1,48 @@
+package io.github.georgecodes.benchmarking.h2cdriver;
+
+/**
+ * Fixed-rate send schedule: call {@code i} is due {@code i / rate} seconds after the start.
+ *
+ * <p>The due time, not the moment the call actually went out, is the start of its latency. When the driver or
+ * the service falls behind, the calls that should already have been sent are sent at once and their wait is
+ * counted, so a stall shows up in every call it delayed rather than in one slow sample (coordinated omission).
+ */
+final class OpenLoopSchedule {
+
+    private final long startNanos;
+    private final double intervalNanos;
+
+    /**
+     * Creates a schedule.
+     *
+     * @param startNanos {@link System#nanoTime()} of call {@code 0}
+     * @param rate       calls per second
+     */
+    OpenLoopSchedule(long startNanos, double rate) {
+        if (!(rate > 0)) {
+            throw new IllegalArgumentException("rate must be positive: " + rate);
+        }
+        this.startNanos = startNanos;
+        this.intervalNanos = 1_000_000_000d / rate;
+    }
+
+    /**
+     * Returns when a call is due.
+     *
+     * @param index zero-based call number
+     * @return {@link System#nanoTime()} the call is due at
+     */
+    long dueNanos(long index) {
+        return startNanos + Math.round(index * intervalNanos);
+    }
+
+    /**
+     * Returns how many calls are due within a window.
+     *
+     * @param windowNanos window length from the start
+     * @return number of calls whose due time is before the end of the window
+     */
+    long callsWithin(long windowNanos) {
+        return (long) Math.ceil(windowNanos / intervalNanos);
+    }
+}
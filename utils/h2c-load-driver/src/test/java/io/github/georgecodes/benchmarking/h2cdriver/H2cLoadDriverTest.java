@@ -0,0 +1,103 @@
+package io.github.georgecodes.benchmarking.h2cdriver;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link H2cLoadDriver}, {@link OpenLoopSchedule} and {@link DriverSettings}.
+ */
+class H2cLoadDriverTest {
+
+    @Test
+    void scheduleSpacesCallsEvenlyFromTheStart() {
+        OpenLoopSchedule schedule = new OpenLoopSchedule(1_000L, 4);
+
+        assertEquals(1_000L, schedule.dueNanos(0));
+        assertEquals(251_000_000L, schedule.dueNanos(1));
+        assertEquals(4, schedule.callsWithin(1_000_000_000L));
+        assertEquals(5, schedule.callsWithin(1_000_000_001L));
+    }
+
+    @Test
+    void settingsApplyDefaultsAndRejectBadValues() {
+        DriverSettings settings = DriverSettings.fromEnvironment(
+            Map.of("H2C_TARGET", "http://vertx-jvm:8080/hello/reactive"));
+
+        assertEquals(HttpClient.Version.HTTP_2, settings.version());
+        assertEquals(4, settings.connections());
+        assertEquals(1000, settings.rate());
+        assertNull(settings.output());
+        assertEquals(HttpClient.Version.HTTP_1_1, DriverSettings.parseVersion("HTTP1"));
+        assertThrows(IllegalArgumentException.class, () -> DriverSettings.fromEnvironment(Map.of()));
+        assertThrows(IllegalArgumentException.class,
+            () -> DriverSettings.fromEnvironment(Map.of("H2C_TARGET", "https://x:1/")));
+        assertThrows(IllegalArgumentException.class, () -> DriverSettings.parseVersion("h3"));
+    }
+
+    @Test
+    void runCountsResponsesPerProtocolVersion() throws IOException, InterruptedException {
+        // The JDK server speaks HTTP/1.1 only and ignores Upgrade: h2c, so every response must be counted as http1.
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext("/ok", exchange -> {
+            try (exchange) {
+                exchange.sendResponseHeaders(200, -1);
+            }
+        });
+        server.createContext("/fail", exchange -> {
+            try (exchange) {
+                exchange.sendResponseHeaders(500, -1);
+            }
+        });
+        server.start();
+        String base = "http://127.0.0.1:" + server.getAddress().getPort();
+        DriverSettings ok = new DriverSettings(URI.create(base + "/ok"), HttpClient.Version.HTTP_2, 1, 100, 1, 0,
+            2_000, null);
+        List<HttpClient> clients = H2cLoadDriver.connect(ok);
+        try {
+            H2cLoadDriver.Result okResult = H2cLoadDriver.run(ok, clients);
+
+            assertEquals(100, okResult.calls());
+            assertEquals(0, okResult.errors());
+            assertEquals(100, okResult.histogram().getTotalCount());
+            assertEquals(0, okResult.h2Responses());
+            assertEquals(100, okResult.http1Responses());
+
+            DriverSettings fail = new DriverSettings(URI.create(base + "/fail"), HttpClient.Version.HTTP_1_1, 1, 50,
+                1, 0, 2_000, null);
+            H2cLoadDriver.Result failResult = H2cLoadDriver.run(fail, clients);
+
+            assertEquals(50, failResult.errors());
+            assertEquals(0, failResult.histogram().getTotalCount());
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            H2cLoadDriver.report(ok, okResult, new PrintStream(out, true, StandardCharsets.UTF_8));
+            String report = out.toString(StandardCharsets.UTF_8);
+            assertTrue(report.contains("calls=100 errors=0 h2=0 http1=100"), report);
+            assertTrue(report.contains("Percentile"), report);
+        } finally {
+            clients.forEach(HttpClient::shutdownNow);
+            server.stop(0);
+            executor.close();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package io.github.georgecodes.benchmarking.orchestrator.application.efficiency;
+
+import io.github.georgecodes.benchmarking.orchestrator.domain.Wrk2LogParser.Wrk2Result;
+import java.time.LocalDateTime;
+
+/**
+ * One parsed wrk2 benchmark and the wall-clock window it ran in.
+ *
+ * @param logFile wrk2 log file, relative to the run folder
+ * @param container container name derived from the benchmark target host
+ * @param start local start time, or {@code null} when it cannot be derived from the file name
+ * @param result parsed wrk2 report
+ */
+public record BenchmarkWindow(
+    String logFile, String container, LocalDateTime start, Wrk2Result result) {
+
+  /**
+   * Returns the local end time of the benchmark.
+   *
+   * @return {@code start + elapsed}, or {@code null} when the start is unknown
+   */
+  public LocalDateTime end() {
+    if (start == null) {
+      return null;
+    }
+    return start.plusNanos(Math.round(result.elapsedSeconds() * 1_000_000_000L));
+  }
+}
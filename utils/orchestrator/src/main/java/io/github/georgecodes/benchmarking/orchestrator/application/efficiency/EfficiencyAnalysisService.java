@@ -0,0 +1,264 @@
+package io.github.georgecodes.benchmarking.orchestrator.application.efficiency;
+
+import io.github.georgecodes.benchmarking.orchestrator.application.ServiceException;
+import io.github.georgecodes.benchmarking.orchestrator.domain.DockerStatsParser;
+import io.github.georgecodes.benchmarking.orchestrator.domain.DockerStatsParser.ResourceSample;
+import io.github.georgecodes.benchmarking.orchestrator.domain.Wrk2LogParser;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.io.IOException;
+import java.io.Serial;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import lombok.extern.jbosslog.JBossLog;
+
+/**
+ * Joins parsed wrk2 results with the docker stats samples captured during the same window and ranks
+ * the benchmarked services by resource efficiency.
+ *
+ * <p>A run is a folder under {@code orchestrator.efficiency.results-dir}. Every {@code *.log} file
+ * in it (recursively) is treated as a wrk2 report and every {@code *.jsonl} file as docker stats
+ * samples, so both the wrk2 export layout ({@code YYYYMMDD/}) and the curated layout ({@code
+ * YYYYMMDD_HHMMSS/wrk2/}, {@code docker-stats/}) work.
+ */
+@JBossLog
+@ApplicationScoped
+public class EfficiencyAnalysisService {
+
+  /** Accepted run folder names; rejects separators and parent references. */
+  private static final Pattern RUN_ID = Pattern.compile("^[A-Za-z0-9][A-Za-z0-9_.-]*$");
+
+  /** Leading {@code YYYYMMDD} of a run folder name. */
+  private static final Pattern RUN_DATE = Pattern.compile("^(\\d{8})");
+
+  /** Leading {@code HHMMSS__} of a wrk2 log file name written by {@code benchmark.sh}. */
+  private static final Pattern LOG_TIME = Pattern.compile("^(\\d{6})__");
+
+  /** Date format of run folder names. */
+  private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+  /** Time format of wrk2 log file names. */
+  private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HHmmss");
+
+  /** Strongly-typed efficiency configuration. */
+  private final EfficiencyConfig config;
+
+  /**
+   * Creates an efficiency analysis service.
+   *
+   * @param config strongly typed efficiency configuration
+   */
+  @Inject
+  public EfficiencyAnalysisService(EfficiencyConfig config) {
+    this.config = config;
+  }
+
+  /**
+   * Lists run folders that contain at least one wrk2 log, newest first.
+   *
+   * @return run folder names
+   * @throws EfficiencyAnalysisException if the results directory cannot be read
+   */
+  public List<String> listRuns() {
+    Path root = Path.of(config.resultsDir());
+    if (!Files.isDirectory(root)) {
+      log.debugf("Results directory not found at %s", root.toAbsolutePath());
+      return List.of();
+    }
+    try (Stream<Path> dirs = Files.list(root)) {
+      return dirs.filter(Files::isDirectory)
+          .filter(EfficiencyAnalysisService::containsWrk2Log)
+          .map(p -> p.getFileName().toString())
+          .sorted(Comparator.reverseOrder())
+          .toList();
+    } catch (IOException e) {
+      throw new EfficiencyAnalysisException(
+          "Failed to list benchmark runs: " + e.getMessage(), ServiceException.Type.IO_ERROR, e);
+    }
+  }
+
+  /**
+   * Builds the ranked efficiency report for one run.
+   *
+   * @param runId run folder name
+   * @param ranking metric used for ordering
+   * @return the ranked report
+   * @throws EfficiencyAnalysisException if the run id is invalid, missing, or unreadable
+   */
+  public EfficiencyReport analyze(String runId, EfficiencyRanking ranking) {
+    Path runDir = resolveRun(runId);
+    LocalDate runDate = runDate(runId);
+
+    try {
+      List<BenchmarkWindow> windows = new ArrayList<>();
+      List<ResourceSample> samples = new ArrayList<>();
+      try (Stream<Path> files = Files.walk(runDir)) {
+        for (Path file : files.filter(Files::isRegularFile).sorted().toList()) {
+          String name = file.getFileName().toString();
+          if (name.endsWith(".log")) {
+            readWindow(runDir, file, runDate).ifPresent(windows::add);
+          } else if (name.endsWith(".jsonl")) {
+            try (Stream<String> lines = Files.lines(file)) {
+              lines.map(DockerStatsParser::parse).flatMap(Optional::stream).forEach(samples::add);
+            }
+          }
+        }
+      }
+
+      List<EfficiencyScore> sorted =
+          windows.stream()
+              .map(
+                  w ->
+                      EfficiencyCalculator.score(
+                          w, samples, config.cpuLimitCores(), config.referenceUtilisation()))
+              .sorted(ranking.comparator())
+              .toList();
+      List<EfficiencyScore> ranked =
+          IntStream.range(0, sorted.size()).mapToObj(i -> sorted.get(i).withRank(i + 1)).toList();
+
+      log.infof(
+          "Scored %d benchmark(s) against %d resource sample(s) for run %s",
+          ranked.size(), samples.size(), runId);
+      return new EfficiencyReport(
+          runId, ranking, config.cpuLimitCores(), config.referenceUtilisation(), ranked);
+    } catch (IOException e) {
+      log.errorf(e, "Failed to analyse benchmark run: %s", runDir);
+      throw new EfficiencyAnalysisException(
+          "Failed to analyse benchmark run: " + e.getMessage(), ServiceException.Type.IO_ERROR, e);
+    }
+  }
+
+  /**
+   * Validates a run id and resolves it to a folder under the results directory.
+   *
+   * @param runId run folder name
+   * @return the run folder
+   */
+  private Path resolveRun(String runId) {
+    if (runId == null || !RUN_ID.matcher(runId).matches()) {
+      throw new EfficiencyAnalysisException(
+          "Invalid run id: " + runId, ServiceException.Type.VALIDATION_ERROR);
+    }
+    Path runDir = Path.of(config.resultsDir()).resolve(runId);
+    if (!Files.isDirectory(runDir)) {
+      throw new EfficiencyAnalysisException(
+          "Benchmark run not found: " + runId, ServiceException.Type.NOT_FOUND);
+    }
+    return runDir;
+  }
+
+  /**
+   * Parses a wrk2 log and derives its container and wall-clock window.
+   *
+   * @param runDir run folder
+   * @param file wrk2 log file
+   * @param runDate run date, or {@code null} when the run folder is not date-prefixed
+   * @return the benchmark window, or empty when the file is not a completed wrk2 report
+   * @throws IOException if the file cannot be read
+   */
+  private static Optional<BenchmarkWindow> readWindow(Path runDir, Path file, LocalDate runDate)
+      throws IOException {
+    return Wrk2LogParser.parse(Files.readString(file))
+        .filter(r -> r.url() != null)
+        .map(
+            r ->
+                new BenchmarkWindow(
+                    runDir.relativize(file).toString().replace('\\', '/'),
+                    URI.create(r.url()).getHost(),
+                    startTime(runDate, file.getFileName().toString()),
+                    r));
+  }
+
+  /**
+   * Derives the benchmark start from the run date and the {@code HHMMSS__} log file prefix.
+   *
+   * @param runDate run date, or {@code null}
+   * @param fileName wrk2 log file name
+   * @return the local start time, or {@code null} when it cannot be derived
+   */
+  private static LocalDateTime startTime(LocalDate runDate, String fileName) {
+    Matcher m = LOG_TIME.matcher(fileName);
+    if (runDate == null || !m.find()) {
+      return null;
+    }
+    try {
+      return runDate.atTime(LocalTime.parse(m.group(1), TIME));
+    } catch (DateTimeParseException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Extracts the {@code YYYYMMDD} date prefix of a run folder name.
+   *
+   * @param runId run folder name
+   * @return the run date, or {@code null} when the name is not date-prefixed
+   */
+  private static LocalDate runDate(String runId) {
+    Matcher m = RUN_DATE.matcher(runId);
+    if (!m.find()) {
+      return null;
+    }
+    try {
+      return LocalDate.parse(m.group(1), DATE);
+    } catch (DateTimeParseException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Checks whether a run folder holds at least one wrk2 log.
+   *
+   * @param dir candidate run folder
+   * @return {@code true} when a {@code *.log} file exists below it
+   */
+  private static boolean containsWrk2Log(Path dir) {
+    try (Stream<Path> files = Files.walk(dir)) {
+      return files.anyMatch(p -> p.getFileName().toString().endsWith(".log"));
+    } catch (IOException e) {
+      log.debugf(e, "Skipping unreadable run folder %s", dir);
+      return false;
+    }
+  }
+
+  /** Exception thrown when efficiency analysis fails. */
+  public static class EfficiencyAnalysisException extends ServiceException {
+
+    @Serial private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates an efficiency analysis exception without an underlying cause.
+     *
+     * @param message the error message
+     * @param type the service error type
+     */
+    public EfficiencyAnalysisException(String message, Type type) {
+      super(message, type);
+    }
+
+    /**
+     * Creates an efficiency analysis exception with an underlying cause.
+     *
+     * @param message the error message
+     * @param type the service error type
+     * @param cause the underlying cause
+     */
+    public EfficiencyAnalysisException(String message, Type type, Throwable cause) {
+      super(message, type, cause);
+    }
+  }
+}
@@ -0,0 +1,151 @@
+package io.github.georgecodes.benchmarking.orchestrator.application.efficiency;
+
+import io.github.georgecodes.benchmarking.orchestrator.domain.DockerStatsParser.ResourceSample;
+import io.github.georgecodes.benchmarking.orchestrator.domain.Wrk2LogParser.Wrk2Result;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Pure scoring functions joining a wrk2 result with docker stats samples.
+ *
+ * <p>Latency normalisation uses the M/M/1 approximation: response time scales with 1 / (1 - u), so
+ * a percentile observed at utilisation u is rescaled to the reference utilisation r by (1 - u) / (1
+ * - r). It is a first-order model, but it lets a run driven at 60% CPU be compared fairly with one
+ * driven at 35%.
+ */
+public final class EfficiencyCalculator {
+
+  /** Bytes per MiB (docker reports IEC units). */
+  private static final double BYTES_PER_MB = 1024d * 1024d;
+
+  /** Utility class. */
+  private EfficiencyCalculator() {}
+
+  /**
+   * Scores one benchmark against the samples of its container and window.
+   *
+   * @param window parsed benchmark and its wall-clock window
+   * @param samples all samples of the run (filtered here by container and window)
+   * @param cpuLimitCores per-container CPU limit in cores
+   * @param referenceUtilisation utilisation used to normalise tail latency
+   * @return the unranked score ({@code rank == 0})
+   */
+  public static EfficiencyScore score(
+      BenchmarkWindow window,
+      List<ResourceSample> samples,
+      double cpuLimitCores,
+      double referenceUtilisation) {
+    Wrk2Result result = window.result();
+    List<ResourceSample> joined =
+        samples.stream()
+            .filter(s -> s.container().equals(window.container()))
+            .filter(s -> inWindow(s.timestamp(), window.start(), window.end()))
+            .toList();
+
+    Double p50 = finite(result.p50Millis());
+    Double p99 = finite(result.p99Millis());
+    if (joined.isEmpty()) {
+      return new EfficiencyScore(
+          0,
+          window.container(),
+          result.url(),
+          window.logFile(),
+          result.requestsPerSecond(),
+          p50,
+          p99,
+          0,
+          null,
+          null,
+          null,
+          null,
+          null,
+          null,
+          null,
+          null);
+    }
+
+    double avgCores = joined.stream().mapToDouble(ResourceSample::cpuCores).average().orElse(0);
+    double cpuSeconds = avgCores * result.elapsedSeconds();
+    double peakMb =
+        joined.stream().mapToLong(ResourceSample::memoryBytes).max().orElse(0) / BYTES_PER_MB;
+    Double utilisation = cpuLimitCores > 0 ? avgCores / cpuLimitCores : null;
+
+    return new EfficiencyScore(
+        0,
+        window.container(),
+        result.url(),
+        window.logFile(),
+        result.requestsPerSecond(),
+        p50,
+        p99,
+        joined.size(),
+        avgCores,
+        cpuSeconds,
+        peakMb,
+        ratio(result.requestsPerSecond(), avgCores),
+        ratio(result.requestsPerSecond(), peakMb),
+        utilisation,
+        latencyAtReference(p99, utilisation, referenceUtilisation),
+        ratio(p99, ratio(cpuSeconds * 1000.0, (double) result.requests())));
+  }
+
+  /**
+   * Rescales a latency observed at {@code utilisation} to {@code referenceUtilisation}.
+   *
+   * @param latencyMillis observed latency, or {@code null}
+   * @param utilisation observed utilisation, or {@code null}
+   * @param referenceUtilisation target utilisation
+   * @return the normalised latency, or {@code null} when the model does not apply (saturated run)
+   */
+  static Double latencyAtReference(
+      Double latencyMillis, Double utilisation, double referenceUtilisation) {
+    if (latencyMillis == null
+        || utilisation == null
+        || utilisation >= 1.0
+        || referenceUtilisation < 0
+        || referenceUtilisation >= 1.0) {
+      return null;
+    }
+    return latencyMillis * (1.0 - utilisation) / (1.0 - referenceUtilisation);
+  }
+
+  /**
+   * Checks whether a sample time falls inside a benchmark window. Unknown times match everything.
+   *
+   * @param timestamp sample time, or {@code null}
+   * @param start window start, or {@code null}
+   * @param end window end, or {@code null}
+   * @return {@code true} when the sample belongs to the window
+   */
+  private static boolean inWindow(LocalDateTime timestamp, LocalDateTime start, LocalDateTime end) {
+    if (timestamp == null || start == null || end == null) {
+      return true;
+    }
+    return !timestamp.isBefore(start) && !timestamp.isAfter(end);
+  }
+
+  /**
+   * Divides two values, returning {@code null} when either is missing or the divisor is not
+   * positive.
+   *
+   * @param numerator numerator, or {@code null}
+   * @param denominator denominator, or {@code null}
+   * @return the ratio, or {@code null}
+   */
+  private static Double ratio(Double numerator, Double denominator) {
+    if (numerator == null || denominator == null || denominator <= 0) {
+      return null;
+    }
+    return numerator / denominator;
+  }
+
+  /**
+   * Maps {@code NaN}/infinite values to {@code null} so they serialise as JSON {@code null}.
+   *
+   * @param value the raw value
+   * @return the value, or {@code null} when not finite
+   */
+  private static Double finite(double value) {
+    return Double.isFinite(value) ? value : null;
+  }
+}
@@ -0,0 +1,37 @@
+package io.github.georgecodes.benchmarking.orchestrator.application.efficiency;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Strongly-typed configuration for benchmark efficiency scoring, loaded from {@code
+ * orchestrator.efficiency.*}.
+ */
+@ConfigMapping(prefix = "orchestrator.efficiency")
+public interface EfficiencyConfig {
+
+  /**
+   * Returns the directory holding benchmark run folders ({@code results/benchmarks}).
+   *
+   * @return the results directory path
+   */
+  String resultsDir();
+
+  /**
+   * Returns the CPU limit applied to each benchmarked container ({@code CORES_LIMIT}), used to turn
+   * consumed cores into a utilisation ratio.
+   *
+   * @return the per-container CPU limit in cores
+   */
+  @WithDefault("2")
+  double cpuLimitCores();
+
+  /**
+   * Returns the utilisation at which tail latency is normalised so runs measured at different loads
+   * can be compared.
+   *
+   * @return the reference utilisation in {@code [0, 1)}
+   */
+  @WithDefault("0.5")
+  double referenceUtilisation();
+}
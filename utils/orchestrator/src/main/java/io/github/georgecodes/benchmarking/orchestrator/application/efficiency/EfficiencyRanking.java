@@ -0,0 +1,59 @@
+package io.github.georgecodes.benchmarking.orchestrator.application.efficiency;
+
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.function.Function;
+
+/** Metric used to order an efficiency report. Scores missing the metric always sort last. */
+public enum EfficiencyRanking {
+  /** Requests per CPU-second, highest first. */
+  REQUESTS_PER_CPU_SECOND(EfficiencyScore::requestsPerCpuSecond, true),
+  /** Requests per second per MiB of memory, highest first. */
+  REQUESTS_PER_MB(EfficiencyScore::requestsPerSecondPerMb, true),
+  /** p99 latency at the reference utilisation, lowest first. */
+  LATENCY_AT_REFERENCE(EfficiencyScore::p99AtReferenceMillis, false),
+  /** p99 latency relative to per-request CPU time, lowest first. */
+  TAIL_TO_CPU(EfficiencyScore::p99ToCpuRatio, false);
+
+  /** Extracts the ranked metric from a score. */
+  private final Function<EfficiencyScore, Double> metric;
+
+  /** Whether higher metric values rank first. */
+  private final boolean higherIsBetter;
+
+  /**
+   * Creates a ranking.
+   *
+   * @param metric extracts the ranked metric from a score
+   * @param higherIsBetter whether higher metric values rank first
+   */
+  EfficiencyRanking(Function<EfficiencyScore, Double> metric, boolean higherIsBetter) {
+    this.metric = metric;
+    this.higherIsBetter = higherIsBetter;
+  }
+
+  /**
+   * Returns the ordering for this ranking, with missing metrics last.
+   *
+   * @return score comparator
+   */
+  public Comparator<EfficiencyScore> comparator() {
+    Comparator<Double> natural = Comparator.naturalOrder();
+    return Comparator.comparing(
+        metric, Comparator.nullsLast(higherIsBetter ? natural.reversed() : natural));
+  }
+
+  /**
+   * Parses a ranking name; accepts enum names as well as kebab-case ({@code requests-per-mb}).
+   *
+   * @param value ranking name, or {@code null}/blank for the default
+   * @return the parsed ranking, defaulting to {@link #REQUESTS_PER_CPU_SECOND}
+   * @throws IllegalArgumentException when the value does not name a ranking
+   */
+  public static EfficiencyRanking parse(String value) {
+    if (value == null || value.isBlank()) {
+      return REQUESTS_PER_CPU_SECOND;
+    }
+    return valueOf(value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+  }
+}
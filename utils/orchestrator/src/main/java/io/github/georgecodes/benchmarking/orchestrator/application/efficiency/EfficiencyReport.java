@@ -0,0 +1,33 @@
+package io.github.georgecodes.benchmarking.orchestrator.application.efficiency;
+
+import java.util.List;
+
+/**
+ * Ranked efficiency comparison for one benchmark run folder.
+ *
+ * @param runId run folder name under the results directory
+ * @param rankedBy metric used for ordering
+ * @param cpuLimitCores per-container CPU limit used to compute utilisation
+ * @param referenceUtilisation utilisation used to normalise tail latency
+ * @param scores scores in rank order
+ */
+public record EfficiencyReport(
+    String runId,
+    EfficiencyRanking rankedBy,
+    double cpuLimitCores,
+    double referenceUtilisation,
+    List<EfficiencyScore> scores) {
+
+  /**
+   * Creates a report with an immutable score list.
+   *
+   * @param runId run folder name under the results directory
+   * @param rankedBy metric used for ordering
+   * @param cpuLimitCores per-container CPU limit used to compute utilisation
+   * @param referenceUtilisation utilisation used to normalise tail latency
+   * @param scores scores in rank order
+   */
+  public EfficiencyReport {
+    scores = List.copyOf(scores);
+  }
+}
@@ -0,0 +1,68 @@
+package io.github.georgecodes.benchmarking.orchestrator.application.efficiency;
+
+/**
+ * Efficiency metrics for one wrk2 benchmark joined with the container samples of the same window.
+ *
+ * <p>Resource-derived fields are {@code null} when no docker stats samples overlap the benchmark.
+ *
+ * @param rank 1-based position in the report ordering
+ * @param container container name derived from the benchmark target host
+ * @param url benchmark target URL
+ * @param logFile wrk2 log file, relative to the run folder
+ * @param requestsPerSecond achieved wrk2 throughput
+ * @param p50Millis median latency in milliseconds
+ * @param p99Millis 99th percentile latency in milliseconds
+ * @param samples number of docker stats samples joined to the benchmark window
+ * @param avgCpuCores mean CPU usage in cores over the window
+ * @param cpuSeconds CPU time consumed over the window
+ * @param peakMemoryMb peak container memory in MiB over the window
+ * @param requestsPerCpuSecond requests served per CPU-second consumed
+ * @param requestsPerSecondPerMb throughput per MiB of peak container memory
+ * @param utilisation mean CPU usage as a fraction of the container CPU limit
+ * @param p99AtReferenceMillis p99 latency normalised to the configured reference utilisation
+ * @param p99ToCpuRatio p99 latency divided by the CPU time spent per request
+ */
+public record EfficiencyScore(
+    int rank,
+    String container,
+    String url,
+    String logFile,
+    double requestsPerSecond,
+    Double p50Millis,
+    Double p99Millis,
+    int samples,
+    Double avgCpuCores,
+    Double cpuSeconds,
+    Double peakMemoryMb,
+    Double requestsPerCpuSecond,
+    Double requestsPerSecondPerMb,
+    Double utilisation,
+    Double p99AtReferenceMillis,
+    Double p99ToCpuRatio) {
+
+  /**
+   * Returns a copy of this score placed at the given rank.
+   *
+   * @param newRank the 1-based rank
+   * @return the re-ranked score
+   */
+  public EfficiencyScore withRank(int newRank) {
+    return new EfficiencyScore(
+        newRank,
+        container,
+        url,
+        logFile,
+        requestsPerSecond,
+        p50Millis,
+        p99Millis,
+        samples,
+        avgCpuCores,
+        cpuSeconds,
+        peakMemoryMb,
+        requestsPerCpuSecond,
+        requestsPerSecondPerMb,
+        utilisation,
+        p99AtReferenceMillis,
+        p99ToCpuRatio);
+  }
+}
@@ -0,0 +1,142 @@
+package io.github.georgecodes.benchmarking.orchestrator.domain;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Parses one line of {@code docker stats --no-stream --format '{{json .}}'} output.
+ *
+ * <p>Docker does not stamp its samples, so the capture loop is expected to add a {@code Timestamp}
+ * field (ISO-8601 local date-time, optionally with an offset). Lines without it are still accepted
+ * and are treated as covering the whole run.
+ */
+public final class DockerStatsParser {
+
+  /** {@code "Name": "..."} field. */
+  private static final Pattern NAME = fieldPattern("Name");
+
+  /** {@code "CPUPerc": "180.25%"} field. */
+  private static final Pattern CPU_PERC = fieldPattern("CPUPerc");
+
+  /** {@code "MemUsage": "301.2MiB / 832MiB"} field. */
+  private static final Pattern MEM_USAGE = fieldPattern("MemUsage");
+
+  /** {@code "Timestamp": "2026-05-17T10:15:30"} field added by the capture loop. */
+  private static final Pattern TIMESTAMP = fieldPattern("Timestamp");
+
+  /** Binary (IEC) and decimal (SI) size units printed by docker, lower-cased. */
+  private static final Pattern SIZE = Pattern.compile("([0-9.]+)\\s*([kmgt]?i?b)");
+
+  /** Utility class. */
+  private DockerStatsParser() {}
+
+  /**
+   * Parses one JSON line of docker stats output.
+   *
+   * @param line a single JSON object line
+   * @return the parsed sample, or empty when the line is blank or lacks name/CPU/memory fields
+   */
+  public static Optional<ResourceSample> parse(String line) {
+    if (line == null || line.isBlank()) {
+      return Optional.empty();
+    }
+    String name = field(line, NAME);
+    String cpu = field(line, CPU_PERC);
+    String mem = field(line, MEM_USAGE);
+    if (name == null || cpu == null || mem == null) {
+      return Optional.empty();
+    }
+    try {
+      double cpuCores = Double.parseDouble(cpu.replace("%", "").trim()) / 100.0;
+      long memoryBytes = parseSize(mem.split("/", 2)[0]);
+      return Optional.of(
+          new ResourceSample(name, parseTimestamp(field(line, TIMESTAMP)), cpuCores, memoryBytes));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Parses a docker size string such as {@code 301.2MiB} or {@code 1.5GB}.
+   *
+   * @param value the size string
+   * @return the size in bytes
+   * @throws IllegalArgumentException when the value is not a recognised size
+   */
+  static long parseSize(String value) {
+    Matcher m = SIZE.matcher(value.trim().toLowerCase(Locale.ROOT));
+    if (!m.matches()) {
+      throw new IllegalArgumentException("Unrecognised docker size: " + value);
+    }
+    double amount = Double.parseDouble(m.group(1));
+    double multiplier =
+        switch (m.group(2)) {
+          case "b" -> 1d;
+          case "kib" -> 1024d;
+          case "mib" -> 1024d * 1024;
+          case "gib" -> 1024d * 1024 * 1024;
+          case "tib" -> 1024d * 1024 * 1024 * 1024;
+          case "kb" -> 1e3;
+          case "mb" -> 1e6;
+          case "gb" -> 1e9;
+          case "tb" -> 1e12;
+          default -> throw new IllegalArgumentException("Unrecognised docker size: " + value);
+        };
+    return Math.round(amount * multiplier);
+  }
+
+  /**
+   * Parses the optional capture timestamp.
+   *
+   * @param value ISO-8601 local or offset date-time, or {@code null}
+   * @return the local wall-clock time, or {@code null} when absent
+   */
+  private static LocalDateTime parseTimestamp(String value) {
+    if (value == null || value.isBlank()) {
+      return null;
+    }
+    try {
+      return OffsetDateTime.parse(value).toLocalDateTime();
+    } catch (DateTimeParseException e) {
+      return LocalDateTime.parse(value);
+    }
+  }
+
+  /**
+   * Builds the matcher pattern for a flat JSON string field.
+   *
+   * @param key field name
+   * @return pattern capturing the field value
+   */
+  private static Pattern fieldPattern(String key) {
+    return Pattern.compile("\"" + key + "\"\\s*:\\s*\"([^\"]*)\"");
+  }
+
+  /**
+   * Extracts a flat string field from a JSON object line.
+   *
+   * @param line JSON object line
+   * @param pattern field pattern built by {@link #fieldPattern(String)}
+   * @return the field value, or {@code null} when absent
+   */
+  private static String field(String line, Pattern pattern) {
+    Matcher m = pattern.matcher(line);
+    return m.find() ? m.group(1) : null;
+  }
+
+  /**
+   * One container resource sample.
+   *
+   * @param container container name (matches the compose {@code container_name})
+   * @param timestamp local capture time, or {@code null} when the sample was not stamped
+   * @param cpuCores CPU usage in cores (docker's {@code CPUPerc} divided by 100)
+   * @param memoryBytes container memory usage in bytes
+   */
+  public record ResourceSample(
+      String container, LocalDateTime timestamp, double cpuCores, long memoryBytes) {}
+}
@@ -0,0 +1,118 @@
+package io.github.georgecodes.benchmarking.orchestrator.domain;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Parses the text report printed by wrk2 ({@code /wrk2/wrk -t.. -c.. -d.. -R..}).
+ *
+ * <p>Only the fields needed for efficiency scoring are extracted: target URL, total requests,
+ * elapsed time, achieved throughput and the HdrHistogram latency percentiles (p50, p99, p99.9).
+ */
+public final class Wrk2LogParser {
+
+  /** {@code Running 30s test @ http://quarkus-jvm:8080/hello/platform}. */
+  private static final Pattern TARGET = Pattern.compile("Running\\s+\\S+\\s+test\\s+@\\s+(\\S+)");
+
+  /** {@code 899931 requests in 30.00s, 123.45MB read}. */
+  private static final Pattern TOTALS =
+      Pattern.compile("(\\d+)\\s+requests\\s+in\\s+([0-9.]+)(us|ms|s|m|h)\\b");
+
+  /** {@code Requests/sec:  29997.38}. */
+  private static final Pattern REQUESTS_PER_SECOND =
+      Pattern.compile("Requests/sec:\\s+([0-9.]+)");
+
+  /** One HdrHistogram percentile line, e.g. {@code  99.900%    4.23ms}. */
+  private static final Pattern PERCENTILE =
+      Pattern.compile("(?m)^\\s*([0-9.]+)%\\s+([0-9.]+)(us|ms|s|m|h)\\s*$");
+
+  /** Utility class. */
+  private Wrk2LogParser() {}
+
+  /**
+   * Parses a wrk2 report.
+   *
+   * @param content raw wrk2 stdout (as saved by {@code utils/wrk2/script/benchmark.sh})
+   * @return the parsed result, or empty when the text is not a completed wrk2 report
+   */
+  public static Optional<Wrk2Result> parse(String content) {
+    if (content == null || content.isBlank()) {
+      return Optional.empty();
+    }
+    Matcher rps = REQUESTS_PER_SECOND.matcher(content);
+    Matcher totals = TOTALS.matcher(content);
+    if (!rps.find() || !totals.find()) {
+      return Optional.empty();
+    }
+
+    Matcher target = TARGET.matcher(content);
+    String url = target.find() ? target.group(1) : null;
+
+    double p50 = Double.NaN;
+    double p99 = Double.NaN;
+    double p999 = Double.NaN;
+    Matcher percentile = PERCENTILE.matcher(content);
+    while (percentile.find()) {
+      double millis = toMillis(percentile.group(2), percentile.group(3));
+      switch (percentile.group(1)) {
+        case "50.000" -> p50 = millis;
+        case "99.000" -> p99 = millis;
+        case "99.900" -> p999 = millis;
+        default -> {
+          // other percentiles are not scored
+        }
+      }
+    }
+
+    return Optional.of(
+        new Wrk2Result(
+            url,
+            Long.parseLong(totals.group(1)),
+            toMillis(totals.group(2), totals.group(3)) / 1000.0,
+            Double.parseDouble(rps.group(1)),
+            p50,
+            p99,
+            p999));
+  }
+
+  /**
+   * Converts a wrk2 duration token into milliseconds.
+   *
+   * @param value numeric part
+   * @param unit wrk2 unit suffix ({@code us}, {@code ms}, {@code s}, {@code m}, {@code h})
+   * @return the value in milliseconds
+   */
+  static double toMillis(String value, String unit) {
+    double v = Double.parseDouble(value);
+    return switch (unit.toLowerCase(Locale.ROOT)) {
+      case "us" -> v / 1000.0;
+      case "ms" -> v;
+      case "s" -> v * 1000.0;
+      case "m" -> v * 60_000.0;
+      case "h" -> v * 3_600_000.0;
+      default -> throw new IllegalArgumentException("Unsupported wrk2 time unit: " + unit);
+    };
+  }
+
+  /**
+   * Parsed wrk2 report.
+   *
+   * @param url benchmark target URL, or {@code null} when the header line is missing
+   * @param requests total completed requests
+   * @param elapsedSeconds measured test duration in seconds
+   * @param requestsPerSecond achieved throughput
+   * @param p50Millis median recorded latency in milliseconds ({@code NaN} when absent)
+   * @param p99Millis 99th percentile recorded latency in milliseconds ({@code NaN} when absent)
+   * @param p999Millis 99.9th percentile recorded latency in milliseconds ({@code NaN} when absent)
+   */
+  public record Wrk2Result(
+      String url,
+      long requests,
+      double elapsedSeconds,
+      double requestsPerSecond,
+      double p50Millis,
+      double p99Millis,
+      double p999Millis) {}
+}
@@ -0,0 +1,57 @@
+package io.github.georgecodes.benchmarking.orchestrator.resource;
+
+import io.github.georgecodes.benchmarking.orchestrator.application.efficiency.EfficiencyAnalysisService;
+import io.github.georgecodes.benchmarking.orchestrator.application.efficiency.EfficiencyRanking;
+import io.github.georgecodes.benchmarking.orchestrator.application.efficiency.EfficiencyReport;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+/**
+ * REST resource exposing benchmark efficiency scoring (RPS per CPU-second, per MiB, normalised tail
+ * latency). Delegates analysis to {@link EfficiencyAnalysisService}.
+ */
+@Path("/v1/efficiency")
+@Produces(MediaType.APPLICATION_JSON)
+@RequiredArgsConstructor
+@Tag(name = "Efficiency")
+public class EfficiencyResource {
+
+  /** Service that joins wrk2 results with container resource samples. */
+  private final EfficiencyAnalysisService efficiencyAnalysisService;
+
+  /**
+   * List benchmark run folders that contain wrk2 results.
+   *
+   * @return run folder names, newest first
+   */
+  @GET
+  @Path("/runs")
+  @Operation(summary = "List benchmark runs available for efficiency scoring")
+  public List<String> listRuns() {
+    return efficiencyAnalysisService.listRuns();
+  }
+
+  /**
+   * Get the ranked efficiency comparison for one run.
+   *
+   * @param runId run folder name under the results directory
+   * @param rankBy ranking metric ({@code requests-per-cpu-second}, {@code requests-per-mb}, {@code
+   *     latency-at-reference}, {@code tail-to-cpu}); defaults to requests per CPU-second
+   * @return the ranked efficiency report
+   */
+  @GET
+  @Path("/runs/{runId}")
+  @Operation(summary = "Rank a benchmark run by resource efficiency")
+  public EfficiencyReport getRun(
+      @PathParam("runId") String runId, @QueryParam("rankBy") String rankBy) {
+    return efficiencyAnalysisService.analyze(runId, EfficiencyRanking.parse(rankBy));
+  }
+}
@@ -0,0 +1,163 @@
+package io.github.georgecodes.benchmarking.orchestrator.application.efficiency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.georgecodes.benchmarking.orchestrator.application.ServiceException;
+import io.github.georgecodes.benchmarking.orchestrator.application.efficiency.EfficiencyAnalysisService.EfficiencyAnalysisException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EfficiencyAnalysisServiceTest {
+
+  @TempDir Path tempDir;
+
+  @Test
+  void analyzeJoinsSamplesInsideWindowAndRanksByRequestsPerCpuSecond() throws Exception {
+    Path run = Files.createDirectories(tempDir.resolve("20260517"));
+    Files.writeString(
+        run.resolve("101500__iter1__quarkus-jvm_8080_hello_platform_4_200_30s_30000.log"),
+        wrk2Report("http://quarkus-jvm:8080/hello/platform", 900_000, "30000.00", "2.00ms"));
+    Files.writeString(
+        run.resolve("102000__iter1__spring-jvm-netty_8080_hello_reactive_4_200_30s_30000.log"),
+        wrk2Report("http://spring-jvm-netty:8080/hello/reactive", 600_000, "20000.00", "8.00ms"));
+    Files.writeString(
+        run.resolve("docker-stats.jsonl"),
+        String.join(
+            "\n",
+            stats("2026-05-17T10:15:10", "quarkus-jvm", "100.00%", "200MiB / 832MiB"),
+            stats("2026-05-17T10:15:20", "quarkus-jvm", "100.00%", "256MiB / 832MiB"),
+            // outside the quarkus window: must be ignored
+            stats("2026-05-17T10:17:00", "quarkus-jvm", "190.00%", "700MiB / 832MiB"),
+            stats("2026-05-17T10:20:10", "spring-jvm-netty", "160.00%", "400MiB / 832MiB"),
+            "not json"));
+
+    EfficiencyAnalysisService service = new EfficiencyAnalysisService(config(tempDir));
+    EfficiencyReport report =
+        service.analyze("20260517", EfficiencyRanking.REQUESTS_PER_CPU_SECOND);
+
+    assertEquals(2, report.scores().size());
+    EfficiencyScore first = report.scores().getFirst();
+    assertEquals(1, first.rank());
+    assertEquals("quarkus-jvm", first.container());
+    assertEquals(2, first.samples());
+    assertEquals(1.0, first.avgCpuCores(), 1e-9);
+    assertEquals(30.0, first.cpuSeconds(), 1e-9);
+    assertEquals(256.0, first.peakMemoryMb(), 1e-9);
+    assertEquals(30_000.0, first.requestsPerCpuSecond(), 1e-6);
+    assertEquals(30_000.0 / 256.0, first.requestsPerSecondPerMb(), 1e-6);
+    assertEquals(0.5, first.utilisation(), 1e-9);
+    assertEquals(2.0, first.p99AtReferenceMillis(), 1e-9);
+    // 30 CPU-seconds / 900k requests = 0.0333 ms CPU per request
+    assertEquals(60.0, first.p99ToCpuRatio(), 1e-6);
+
+    EfficiencyScore second = report.scores().get(1);
+    assertEquals("spring-jvm-netty", second.container());
+    assertEquals(12_500.0, second.requestsPerCpuSecond(), 1e-6);
+    assertEquals(3.2, second.p99AtReferenceMillis(), 1e-9);
+
+    EfficiencyReport byTail = service.analyze("20260517", EfficiencyRanking.TAIL_TO_CPU);
+    assertEquals("quarkus-jvm", byTail.scores().getFirst().container());
+  }
+
+  @Test
+  void analyzeKeepsBenchmarksWithoutSamplesLast() throws Exception {
+    Path run = Files.createDirectories(tempDir.resolve("20260517_101500").resolve("wrk2"));
+    Files.writeString(
+        run.resolve("vertx.log"),
+        wrk2Report("http://vertx-jvm:8080/hello/reactive", 300_000, "10000.00", "1.00ms"));
+    Files.writeString(run.resolve("ignored.log"), "wrk2 crashed before printing totals");
+
+    EfficiencyAnalysisService service = new EfficiencyAnalysisService(config(tempDir));
+    assertEquals(List.of("20260517_101500"), service.listRuns());
+
+    EfficiencyReport report = service.analyze("20260517_101500", EfficiencyRanking.REQUESTS_PER_MB);
+    assertEquals(1, report.scores().size());
+    EfficiencyScore score = report.scores().getFirst();
+    assertEquals("wrk2/vertx.log", score.logFile());
+    assertEquals(0, score.samples());
+    assertNull(score.requestsPerCpuSecond());
+    assertNull(score.p99AtReferenceMillis());
+  }
+
+  @Test
+  void analyzeRejectsInvalidAndMissingRuns() {
+    EfficiencyAnalysisService service = new EfficiencyAnalysisService(config(tempDir));
+
+    EfficiencyAnalysisException invalid =
+        assertThrows(
+            EfficiencyAnalysisException.class,
+            () -> service.analyze("../etc", EfficiencyRanking.REQUESTS_PER_CPU_SECOND));
+    assertEquals(ServiceException.Type.VALIDATION_ERROR, invalid.getType());
+
+    EfficiencyAnalysisException missing =
+        assertThrows(
+            EfficiencyAnalysisException.class,
+            () -> service.analyze("20990101", EfficiencyRanking.REQUESTS_PER_CPU_SECOND));
+    assertEquals(ServiceException.Type.NOT_FOUND, missing.getType());
+
+    EfficiencyAnalysisService noResults =
+        new EfficiencyAnalysisService(config(tempDir.resolve("absent")));
+    assertEquals(List.of(), noResults.listRuns());
+  }
+
+  @Test
+  void rankingParsesKebabCaseAndDefaults() {
+    assertEquals(EfficiencyRanking.REQUESTS_PER_CPU_SECOND, EfficiencyRanking.parse(null));
+    assertEquals(EfficiencyRanking.REQUESTS_PER_MB, EfficiencyRanking.parse("requests-per-mb"));
+    assertEquals(EfficiencyRanking.TAIL_TO_CPU, EfficiencyRanking.parse(" TAIL_TO_CPU "));
+    assertThrows(IllegalArgumentException.class, () -> EfficiencyRanking.parse("fastest"));
+  }
+
+  @Test
+  void latencyAtReferenceIsUndefinedForSaturatedRuns() {
+    assertEquals(4.0, EfficiencyCalculator.latencyAtReference(2.0, 0.0, 0.5), 1e-9);
+    assertNull(EfficiencyCalculator.latencyAtReference(2.0, 1.2, 0.5));
+    assertNull(EfficiencyCalculator.latencyAtReference(null, 0.3, 0.5));
+  }
+
+  private static String wrk2Report(String url, long requests, String rps, String p99) {
+    return """
+        Running 30s test @ %s
+          4 threads and 200 connections
+          Latency Distribution (HdrHistogram - Recorded Latency)
+         50.000%%    1.00ms
+         75.000%%    1.35ms
+         99.000%%    %s
+         99.900%%    9.00ms
+        100.000%%   12.00ms
+          %d requests in 30.00s, 123.45MB read
+        Requests/sec:  %s
+        Transfer/sec:      4.11MB
+        """
+        .formatted(url, p99, requests, rps);
+  }
+
+  private static String stats(String timestamp, String name, String cpu, String mem) {
+    return "{\"Timestamp\":\"%s\",\"Name\":\"%s\",\"CPUPerc\":\"%s\",\"MemUsage\":\"%s\"}"
+        .formatted(timestamp, name, cpu, mem);
+  }
+
+  private static EfficiencyConfig config(Path resultsDir) {
+    return new EfficiencyConfig() {
+      @Override
+      public String resultsDir() {
+        return resultsDir.toString();
+      }
+
+      @Override
+      public double cpuLimitCores() {
+        return 2;
+      }
+
+      @Override
+      public double referenceUtilisation() {
+        return 0.5;
+      }
+    };
+  }
+}
@@ -269,4 +269,55 @@ class DomainUtilitiesTest {
 
     assertEquals("Missing <configuration> element", ex.getMessage());
   }
+
+  @Test
+  void wrk2LogParserConvertsLatencyUnitsAndRejectsIncompleteReports() {
+    String report =
+        """
+        Running 3m test @ http://vertx-jvm:8080/hello/reactive
+         50.000%  812.00us
+         99.000%    2.50ms
+         99.900%    1.20s
+          5400000 requests in 3.00m, 700.00MB read
+        Requests/sec:  30000.00
+        """;
+
+    Wrk2LogParser.Wrk2Result result = Wrk2LogParser.parse(report).orElseThrow();
+
+    assertEquals("http://vertx-jvm:8080/hello/reactive", result.url());
+    assertEquals(5_400_000L, result.requests());
+    assertEquals(180.0, result.elapsedSeconds(), 1e-9);
+    assertEquals(30_000.0, result.requestsPerSecond(), 1e-9);
+    assertEquals(0.812, result.p50Millis(), 1e-9);
+    assertEquals(2.5, result.p99Millis(), 1e-9);
+    assertEquals(1200.0, result.p999Millis(), 1e-9);
+    assertTrue(Wrk2LogParser.parse("Running 30s test @ http://x").isEmpty());
+    assertTrue(Wrk2LogParser.parse(null).isEmpty());
+  }
+
+  @Test
+  void dockerStatsParserReadsStampedAndUnstampedSamples() {
+    DockerStatsParser.ResourceSample stamped =
+        DockerStatsParser.parse(
+                "{\"Timestamp\":\"2026-05-17T10:15:10+03:00\",\"Name\":\"quarkus-jvm\","
+                    + "\"CPUPerc\":\"180.50%\",\"MemUsage\":\"1.5GiB / 2GiB\"}")
+            .orElseThrow();
+    assertEquals("quarkus-jvm", stamped.container());
+    assertEquals("2026-05-17T10:15:10", stamped.timestamp().toString());
+    assertEquals(1.805, stamped.cpuCores(), 1e-9);
+    assertEquals(1_610_612_736L, stamped.memoryBytes());
+
+    DockerStatsParser.ResourceSample unstamped =
+        DockerStatsParser.parse(
+                "{\"Name\":\"go\",\"CPUPerc\":\"0.00%\",\"MemUsage\":\"12.5MB / 832MiB\"}")
+            .orElseThrow();
+    assertNull(unstamped.timestamp());
+    assertEquals(12_500_000L, unstamped.memoryBytes());
+
+    assertTrue(DockerStatsParser.parse("{\"Name\":\"go\",\"CPUPerc\":\"--\"}").isEmpty());
+    assertTrue(
+        DockerStatsParser.parse("{\"Name\":\"go\",\"CPUPerc\":\"1%\",\"MemUsage\":\"?\"}")
+            .isEmpty());
+    assertTrue(DockerStatsParser.parse("  ").isEmpty());
+  }
 }